@@ -9,6 +9,7 @@ import co.com.pragma.model.user.gateways.UserRepository;
 import co.com.pragma.usecase.findrolebyid.FindRoleByIdUseCase;
 import co.com.pragma.usecase.finduserbyiddocument.FindUserByIdDocumentUseCase;
 import co.com.pragma.usecase.findusersbyid.FindUsersByIdUseCase;
+import co.com.pragma.usecase.findusersbyiddocuments.FindUsersByIdDocumentsUseCase;
 import co.com.pragma.usecase.login.LoginUseCase;
 import co.com.pragma.usecase.registeruser.RegisterUseCase;
 import org.springframework.context.annotation.Bean;
@@ -68,4 +69,12 @@ public class UseCasesConfig {
     ) {
         return new FindUsersByIdUseCase(userRepository,customLogger);
     }
+
+    @Bean
+    FindUsersByIdDocumentsUseCase findUsersByIdDocumentsUseCase(
+            UserRepository userRepository,
+            CustomLogger customLogger
+    ) {
+        return new FindUsersByIdDocumentsUseCase(userRepository,customLogger);
+    }
 }
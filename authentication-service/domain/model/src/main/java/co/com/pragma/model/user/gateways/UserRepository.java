@@ -11,6 +11,7 @@ public interface UserRepository {
 
     Mono<User> save(User user);
     Flux<User> findByIds(List<UUID> userIds);
+    Flux<User> findByIdDocuments(List<String> idDocuments);
     Mono<Boolean> existsByEmail(String email);
     Mono<Boolean> existsByIdDocument(String idDocument);
     Mono<User> findByEmail(String email);
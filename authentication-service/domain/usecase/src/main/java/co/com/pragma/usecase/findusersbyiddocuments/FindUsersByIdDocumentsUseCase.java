@@ -0,0 +1,26 @@
+package co.com.pragma.usecase.findusersbyiddocuments;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.gateways.UserRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FindUsersByIdDocumentsUseCase {
+
+    private final UserRepository userRepository;
+    private final CustomLogger customLogger;
+
+    public Flux<User> findByIdDocuments(List<String> idDocuments) {
+        customLogger.trace("Finding users by idDocuments: {}", idDocuments.size());
+        if (idDocuments.isEmpty()) {
+            return Flux.empty();
+        }
+        return userRepository.findByIdDocuments(idDocuments.stream().distinct().toList())
+                .doOnComplete(() -> customLogger.trace("Search completed for {} idDocuments", idDocuments.size()))
+                .doOnError(error -> customLogger.trace("Error searching for users by idDocuments, error: {}", error.getMessage()));
+    }
+}
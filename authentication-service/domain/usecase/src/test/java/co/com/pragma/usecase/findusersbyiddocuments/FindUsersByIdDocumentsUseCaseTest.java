@@ -0,0 +1,74 @@
+package co.com.pragma.usecase.findusersbyiddocuments;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.gateways.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindUsersByIdDocumentsUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private FindUsersByIdDocumentsUseCase findUsersByIdDocumentsUseCase;
+
+    @Test
+    @DisplayName("Should look the distinct documents up in a single query")
+    void shouldFindUsersByDistinctDocuments() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("fabricio@test.com")
+                .idDocument("12345678")
+                .build();
+        when(userRepository.findByIdDocuments(List.of("12345678", "87654321"))).thenReturn(Flux.just(user));
+
+        StepVerifier.create(findUsersByIdDocumentsUseCase.findByIdDocuments(
+                        List.of("12345678", "87654321", "12345678")))
+                .expectNext(user)
+                .verifyComplete();
+
+        verify(userRepository).findByIdDocuments(List.of("12345678", "87654321"));
+    }
+
+    @Test
+    @DisplayName("Should not query when no documents are given")
+    void shouldSkipQueryForEmptyList() {
+        StepVerifier.create(findUsersByIdDocumentsUseCase.findByIdDocuments(List.of()))
+                .verifyComplete();
+
+        verify(userRepository, never()).findByIdDocuments(any());
+    }
+
+    @Test
+    @DisplayName("Should propagate repository errors")
+    void shouldPropagateRepositoryError() {
+        when(userRepository.findByIdDocuments(List.of("12345678")))
+                .thenReturn(Flux.error(new RuntimeException("DB is down")));
+
+        StepVerifier.create(findUsersByIdDocumentsUseCase.findByIdDocuments(List.of("12345678")))
+                .expectErrorMessage("DB is down")
+                .verify();
+
+        verify(customLogger).trace("Error searching for users by idDocuments, error: {}", "DB is down");
+    }
+}
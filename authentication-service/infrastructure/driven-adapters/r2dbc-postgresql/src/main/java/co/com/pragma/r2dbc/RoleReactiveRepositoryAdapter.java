@@ -4,7 +4,7 @@ import co.com.pragma.model.role.Role;
 import co.com.pragma.model.role.gateways.RoleRepository;
 import co.com.pragma.r2dbc.entity.RoleEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.pragma.r2dbc.mapper.RoleEntityMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
@@ -17,8 +17,8 @@ public class RoleReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         UUID,
         RoleReactiveRepository
         > implements RoleRepository {
-    public RoleReactiveRepositoryAdapter(RoleReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, entity -> mapper.map(entity, Role.class));
+    public RoleReactiveRepositoryAdapter(RoleReactiveRepository repository, RoleEntityMapper mapper) {
+        super(repository, mapper);
     }
 
     @Override
@@ -34,6 +34,6 @@ public class RoleReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     @Override
     public Mono<Role> findByName(String name) {
         return repository.findByName(name)
-                .map(entity -> mapper.map(entity, Role.class));
+                .map(this::toEntity);
     }
 }
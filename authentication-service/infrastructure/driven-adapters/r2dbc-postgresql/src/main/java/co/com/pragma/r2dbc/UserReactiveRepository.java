@@ -3,8 +3,10 @@ package co.com.pragma.r2dbc;
 import co.com.pragma.r2dbc.entity.UserEntity;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 // TODO: This file is just an example, you should delete or modify it
@@ -13,4 +15,5 @@ public interface UserReactiveRepository extends ReactiveCrudRepository<UserEntit
     Mono<Boolean> existsByIdDocument(String idDocument);
     Mono<UserEntity> findByEmail(String email);
     Mono<UserEntity> findByIdDocument(String idDocument);
+    Flux<UserEntity> findByIdDocumentIn(Collection<String> idDocuments);
 }
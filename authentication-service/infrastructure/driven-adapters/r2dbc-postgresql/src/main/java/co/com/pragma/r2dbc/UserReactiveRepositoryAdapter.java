@@ -4,7 +4,7 @@ import co.com.pragma.model.user.User;
 import co.com.pragma.model.user.gateways.UserRepository;
 import co.com.pragma.r2dbc.entity.UserEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,8 +19,8 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         UUID,
         UserReactiveRepository
 > implements UserRepository {
-    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, entity -> mapper.map(entity, User.class));
+    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, UserEntityMapper mapper) {
+        super(repository, mapper);
     }
 
     @Override
@@ -34,6 +34,12 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 .map(this::toEntity);
     }
 
+    @Override
+    public Flux<User> findByIdDocuments(List<String> idDocuments) {
+        return repository.findByIdDocumentIn(idDocuments)
+                .map(this::toEntity);
+    }
+
     @Override
     public Mono<Boolean> existsByEmail(String email){
         return repository.existsByEmail(email);
@@ -47,12 +53,12 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     @Override
     public Mono<User> findByEmail(String email) {
         return repository.findByEmail(email)
-                .map(entity -> mapper.map(entity, User.class));
+                .map(this::toEntity);
     }
 
     @Override
     public Mono<User> findByIdDocument(String idDocument) {
         return repository.findByIdDocument(idDocument)
-                .map(entity -> mapper.map(entity, User.class));
+                .map(this::toEntity);
     }
 }
@@ -0,0 +1,19 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the R2DBC pool. {@code maxAcquireTime} and {@code maxLifeTime} are left to the pool defaults (no limit)
+ * unless set.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.pool")
+public record ConnectionPoolProperties(
+        @DefaultValue("12") int initialSize,
+        @DefaultValue("15") int maxSize,
+        @DefaultValue("30m") Duration maxIdleTime,
+        Duration maxAcquireTime,
+        Duration maxLifeTime) {
+}
@@ -0,0 +1,40 @@
+package co.com.pragma.r2dbc.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies the versioned scripts under {@value #LOCATION} while the context starts, before any adapter touches the
+ * database. Flyway needs a blocking JDBC connection, which it opens from the same {@code adapters.r2dbc} settings as
+ * the reactive pool and closes once the schema is current.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "adapters.r2dbc.migrations", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseMigrationConfig {
+
+    public static final String LOCATION = "classpath:db/migration";
+
+    @Bean(initMethod = "migrate")
+    public Flyway flyway(PostgresqlConnectionProperties properties) {
+        return configure(properties).load();
+    }
+
+    public static FluentConfiguration configure(PostgresqlConnectionProperties properties) {
+        return Flyway.configure()
+                .dataSource(jdbcUrl(properties), properties.username(), properties.password())
+                .schemas(properties.schema())
+                .locations(LOCATION)
+                // Databases that predate the migrations get a baseline below V1, so V1 still runs its
+                // IF NOT EXISTS statements and adds whatever indexes they are missing.
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    static String jdbcUrl(PostgresqlConnectionProperties properties) {
+        return "jdbc:postgresql://" + properties.host() + ":" + properties.port() + "/" + properties.database()
+                + "?sslmode=" + (properties.ssl() ? "require" : "disable");
+    }
+}
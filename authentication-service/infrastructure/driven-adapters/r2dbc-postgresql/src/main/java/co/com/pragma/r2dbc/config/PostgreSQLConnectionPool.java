@@ -1,5 +1,6 @@
 package co.com.pragma.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
@@ -8,19 +9,38 @@ import io.r2dbc.postgresql.client.SSLMode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
-    public static final int DEFAULT_PORT = 5432;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
-		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties,
+                                              ConnectionPoolProperties poolProperties,
+                                              MeterRegistry meterRegistry) {
+		return new MeteredConnectionPool(buildPoolConfiguration(properties, poolProperties), POOL_NAME,
+                meterRegistry);
+	}
+
+    static ConnectionPoolConfiguration buildPoolConfiguration(PostgresqlConnectionProperties properties,
+                                                              ConnectionPoolProperties poolProperties) {
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder()
+                .connectionFactory(new PostgresqlConnectionFactory(buildConnectionConfiguration(properties)))
+                .name(POOL_NAME)
+                .initialSize(poolProperties.initialSize())
+                .maxSize(poolProperties.maxSize())
+                .maxIdleTime(poolProperties.maxIdleTime())
+                .validationQuery("SELECT 1");
+        if (poolProperties.maxAcquireTime() != null) {
+            builder.maxAcquireTime(poolProperties.maxAcquireTime());
+        }
+        if (poolProperties.maxLifeTime() != null) {
+            builder.maxLifeTime(poolProperties.maxLifeTime());
+        }
+        return builder.build();
+    }
+
+    public static PostgresqlConnectionConfiguration buildConnectionConfiguration(PostgresqlConnectionProperties properties) {
+        return PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
                 .database(properties.database())
@@ -29,16 +49,5 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE)
                 .build();
-
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
-
-		return new ConnectionPool(poolConfiguration);
-	}
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.role.Role;
+import co.com.pragma.r2dbc.entity.RoleEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface RoleEntityMapper extends EntityMapper<Role, RoleEntity> {
+}
@@ -0,0 +1,10 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.user.User;
+import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface UserEntityMapper extends EntityMapper<User, UserEntity> {
+}
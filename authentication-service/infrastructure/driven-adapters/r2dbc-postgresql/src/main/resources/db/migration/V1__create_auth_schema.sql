@@ -0,0 +1,27 @@
+-- Databases created by hand before migrations existed already have these tables, so every statement is idempotent
+-- and uniqueness is expressed as unique indexes, which IF NOT EXISTS can add to an existing table.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(255)
+);
+
+-- RoleReactiveRepository.findByName.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_roles_name ON roles (name);
+
+CREATE TABLE IF NOT EXISTS users (
+    id           UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    first_name   VARCHAR(100)     NOT NULL,
+    last_name    VARCHAR(100)     NOT NULL,
+    email        VARCHAR(255)     NOT NULL,
+    id_document  VARCHAR(20)      NOT NULL,
+    phone_number VARCHAR(20),
+    id_role      UUID             NOT NULL REFERENCES roles (id),
+    base_salary  DOUBLE PRECISION NOT NULL,
+    password     VARCHAR(255)     NOT NULL
+);
+
+-- findByEmail/existsByEmail on login and registration, findByIdDocument/existsByIdDocument from the request service.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_id_document ON users (id_document);
@@ -0,0 +1,225 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.role.Role;
+import co.com.pragma.model.user.User;
+import co.com.pragma.r2dbc.config.DatabaseMigrationConfig;
+import co.com.pragma.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.pragma.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.pragma.r2dbc.mapper.RoleEntityMapper;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every adapter query against a migrated and analyzed database and EXPLAINs the exact SQL and bindings the
+ * driver sent. Sequential scans are disabled for the EXPLAIN, so a {@code Seq Scan} left in a plan means no index
+ * can serve the query, and an equality still applied as a {@code Filter} after an index scan means the index the
+ * planner settled for does not cover the predicate.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryIndexTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern SCAN_NODE = Pattern.compile("Scan( using (\\w+))? on (\\w+)");
+    private static final Pattern FILTER = Pattern.compile("^\\s*Filter: (.*)$");
+    private static final int USER_ROWS = 20_000;
+    private static final Queue<QueryInfo> EXECUTED = new ConcurrentLinkedQueue<>();
+
+    private static ConnectionFactory connectionFactory;
+    private static UserReactiveRepositoryAdapter userAdapter;
+    private static RoleReactiveRepositoryAdapter roleAdapter;
+    private static Role clientRole;
+
+    @BeforeAll
+    static void migrateAndWireAdapters() {
+        PostgresqlConnectionProperties properties = new PostgresqlConnectionProperties(
+                POSTGRES.getHost(), POSTGRES.getFirstMappedPort(), POSTGRES.getDatabaseName(), "public",
+                POSTGRES.getUsername(), POSTGRES.getPassword(), false);
+        DatabaseMigrationConfig.configure(properties).load().migrate();
+
+        connectionFactory = new PostgresqlConnectionFactory(
+                PostgreSQLConnectionPool.buildConnectionConfiguration(properties));
+        ConnectionFactory recording = ProxyConnectionFactory.builder(connectionFactory)
+                .onAfterQuery(execution -> EXECUTED.addAll(execution.getQueries()))
+                .build();
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(recording);
+        R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(template);
+
+        userAdapter = new UserReactiveRepositoryAdapter(
+                repositories.getRepository(UserReactiveRepository.class),
+                Mappers.getMapper(UserEntityMapper.class));
+        roleAdapter = new RoleReactiveRepositoryAdapter(
+                repositories.getRepository(RoleReactiveRepository.class),
+                Mappers.getMapper(RoleEntityMapper.class));
+
+        seed();
+    }
+
+    @BeforeEach
+    void clearRecordedQueries() {
+        EXECUTED.clear();
+    }
+
+    @Test
+    @DisplayName("User lookups by id, email and document use an index")
+    void userLookupsAreIndexed() {
+        User user = userAdapter.save(User.builder()
+                .firstName("Client")
+                .lastName("User")
+                .email("new-client@test.com")
+                .idDocument("99999999")
+                .phoneNumber("987654399")
+                .idRole(clientRole.getId())
+                .baseSalary(5000.0)
+                .password("hash")
+                .build()).block();
+        userAdapter.findByIds(List.of(user.getId())).collectList().block();
+        userAdapter.existsByEmail("client-1@test.com").block();
+        userAdapter.existsByIdDocument("00000001").block();
+        userAdapter.findByEmail("client-1@test.com").block();
+        userAdapter.findByIdDocument("00000001").block();
+        userAdapter.findByIdDocuments(List.of("00000001", "00000002")).collectList().block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Role lookups by id and name use an index")
+    void roleLookupsAreIndexed() {
+        roleAdapter.findById(clientRole.getId()).block();
+        roleAdapter.findByName("CLIENT").block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    private static void seed() {
+        clientRole = roleAdapter.save(Role.builder().name("CLIENT").description("Client").build()).block();
+        // Enough rows that the planner's statistics resemble production instead of treating every index on a
+        // near-empty table as equally cheap.
+        execute("INSERT INTO users "
+                + "(first_name, last_name, email, id_document, phone_number, id_role, base_salary, password) "
+                + "SELECT 'Client', 'User', 'client-' || g || '@test.com', lpad(g::text, 8, '0'), "
+                + "lpad(g::text, 9, '9'), '" + clientRole.getId() + "', 5000, 'hash' "
+                + "FROM generate_series(1, " + USER_ROWS + ") g");
+        execute("ANALYZE");
+    }
+
+    private static void assertEveryQueryUsesAnIndex() {
+        List<QueryInfo> queries = List.copyOf(EXECUTED);
+        assertFalse(queries.isEmpty(), "No query was recorded");
+
+        List<String> unindexed = new ArrayList<>();
+        for (QueryInfo query : queries) {
+            List<String> plan = explain(query);
+            unsupportedScans(plan).forEach(scan ->
+                    unindexed.add(scan + " <- " + query.getQuery() + "\n" + String.join("\n", plan)));
+        }
+        assertTrue(unindexed.isEmpty(), "Queries without a supporting index:\n" + String.join("\n\n", unindexed));
+    }
+
+    private static List<String> unsupportedScans(List<String> plan) {
+        List<String> unsupported = new ArrayList<>();
+        String scanNode = null;
+        for (String line : plan) {
+            Matcher seqScan = SEQ_SCAN.matcher(line);
+            if (seqScan.find()) {
+                unsupported.add("sequential scan on " + seqScan.group(1));
+            }
+            Matcher node = SCAN_NODE.matcher(line);
+            if (node.find()) {
+                scanNode = node.group(2) != null ? node.group(2) : node.group(3);
+                continue;
+            }
+            Matcher filter = FILTER.matcher(line);
+            // Keyset seeks filter on (value > x OR value = x AND id > y) by design and a primary key lookup may
+            // recheck the rest of its predicate on the single row it finds; any other equality is unsupported.
+            if (filter.find() && scanNode != null && !scanNode.endsWith("_pkey")
+                    && filter.group(1).contains(" = ") && !filter.group(1).contains(" OR ")) {
+                unsupported.add(scanNode + " filters " + filter.group(1));
+            }
+        }
+        return unsupported;
+    }
+
+    private static List<String> explain(QueryInfo query) {
+        return Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Mono.from(connection.createStatement("SET enable_seqscan = off").execute())
+                                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                                .thenMany(Flux.from(bind(connection.createStatement("EXPLAIN " + query.getQuery()),
+                                                query.getBindingsList()).execute())
+                                        .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class))))
+                                .collectList(),
+                        Connection::close)
+                .block();
+    }
+
+    private static Statement bind(Statement statement, List<Bindings> bindingsList) {
+        if (bindingsList.isEmpty()) {
+            return statement;
+        }
+        Bindings bindings = bindingsList.getFirst();
+        for (Binding binding : bindings.getIndexBindings()) {
+            int index = (Integer) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(index, value.getNullType());
+            } else {
+                statement.bind(index, value.getValue());
+            }
+        }
+        for (Binding binding : bindings.getNamedBindings()) {
+            String name = (String) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(name, value.getNullType());
+            } else {
+                statement.bind(name, value.getValue());
+            }
+        }
+        return statement;
+    }
+
+    private static void execute(String sql) {
+        Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                                .then(),
+                        Connection::close)
+                .block();
+    }
+
+}
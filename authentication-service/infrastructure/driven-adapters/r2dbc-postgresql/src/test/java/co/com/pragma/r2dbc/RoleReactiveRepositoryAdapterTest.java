@@ -2,6 +2,7 @@ package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.role.Role;
 import co.com.pragma.r2dbc.entity.RoleEntity;
+import co.com.pragma.r2dbc.mapper.RoleEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -27,7 +27,7 @@ public class RoleReactiveRepositoryAdapterTest {
     RoleReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    RoleEntityMapper mapper;
 
     private Role domain;
     private RoleEntity entity;
@@ -51,7 +51,7 @@ public class RoleReactiveRepositoryAdapterTest {
     @DisplayName("Should return role when name exists")
     void findByNameShouldReturnRoleWhenNameExists() {
         when(repository.findByName(domain.getName())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Role.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByName(domain.getName()))
                 .expectNextMatches(role -> role.getName().equals(domain.getName()))
@@ -70,9 +70,9 @@ public class RoleReactiveRepositoryAdapterTest {
     @Test
     @DisplayName("Should save role successfully")
     void saveShouldReturnSavedRole() {
-        when(mapper.map(domain, RoleEntity.class)).thenReturn(entity);
+        when(mapper.toData(domain)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Role.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.save(domain))
                 .expectNextMatches(role -> role.equals(domain))
@@ -83,7 +83,7 @@ public class RoleReactiveRepositoryAdapterTest {
     @DisplayName("Should find role by id when exists")
     void findByIdShouldReturnRoleWhenExists() {
         when(repository.findById(domain.getId())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Role.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findById(domain.getId()))
                 .expectNextMatches(role -> role.getId().equals(domain.getId()))
@@ -2,6 +2,7 @@ package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.user.User;
 import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -30,7 +30,7 @@ class UserReactiveRepositoryAdapterTest {
     UserReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    UserEntityMapper mapper;
 
     private User domain;
     private UserEntity entity;
@@ -109,7 +109,7 @@ class UserReactiveRepositoryAdapterTest {
     @DisplayName("Should return user when email exists")
     void findByEmailShouldReturnUserWhenEmailExists() {
         when(repository.findByEmail(domain.getEmail())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, User.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByEmail(domain.getEmail()))
                 .expectNextMatches(user -> user.getEmail().equals(domain.getEmail()))
@@ -129,7 +129,7 @@ class UserReactiveRepositoryAdapterTest {
     @DisplayName("Should return user when ID document exists")
     void findByIdDocumentShouldReturnUserWhenIdDocumentExists() {
         when(repository.findByIdDocument(domain.getIdDocument())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, User.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdDocument(domain.getIdDocument()))
                 .expectNextMatches(user -> user.getIdDocument().equals(domain.getIdDocument()))
@@ -148,9 +148,9 @@ class UserReactiveRepositoryAdapterTest {
     @Test
     @DisplayName("Should return saved user when save succeeds")
     void saveShouldReturnSavedUser() {
-        when(mapper.map(domain, UserEntity.class)).thenReturn(entity);
+        when(mapper.toData(domain)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, User.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.save(domain))
                 .expectNextMatches(user -> user.getId().equals(domain.getId()))
@@ -161,7 +161,7 @@ class UserReactiveRepositoryAdapterTest {
     @DisplayName("Should propagate error when repository save fails")
     void saveShouldPropagateErrorWhenRepositoryFails() {
         RuntimeException error = new RuntimeException("DB error");
-        when(mapper.map(domain, UserEntity.class)).thenReturn(entity);
+        when(mapper.toData(domain)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(Mono.error(error));
 
         StepVerifier.create(repositoryAdapter.save(domain))
@@ -175,7 +175,7 @@ class UserReactiveRepositoryAdapterTest {
     void findByIdsShouldReturnUsers() {
         List<UUID> ids = List.of(domain.getId());
         when(repository.findAllById(ids)).thenReturn(Flux.just(entity));
-        when(mapper.map(entity, User.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIds(ids))
                 .expectNextMatches(user -> user.getId().equals(domain.getId()))
@@ -191,4 +191,16 @@ class UserReactiveRepositoryAdapterTest {
         StepVerifier.create(repositoryAdapter.findByIds(ids))
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("Should return users matching any of the ID documents")
+    void findByIdDocumentsShouldReturnUsers() {
+        List<String> idDocuments = List.of(domain.getIdDocument());
+        when(repository.findByIdDocumentIn(idDocuments)).thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findByIdDocuments(idDocuments))
+                .expectNextMatches(user -> user.getIdDocument().equals(domain.getIdDocument()))
+                .verifyComplete();
+    }
 }
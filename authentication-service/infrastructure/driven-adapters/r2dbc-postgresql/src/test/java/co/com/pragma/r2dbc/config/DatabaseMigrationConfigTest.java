@@ -0,0 +1,51 @@
+package co.com.pragma.r2dbc.config;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseMigrationConfigTest {
+
+    private PostgresqlConnectionProperties properties(boolean ssl) {
+        return new PostgresqlConnectionProperties("localhost", 5432, "auth", "public", "admin", "secret", ssl);
+    }
+
+    @Test
+    @DisplayName("Builds the JDBC URL from the r2dbc connection properties")
+    void jdbcUrlWithoutSsl() {
+        assertEquals("jdbc:postgresql://localhost:5432/auth?sslmode=disable",
+                DatabaseMigrationConfig.jdbcUrl(properties(false)));
+    }
+
+    @Test
+    @DisplayName("Requires SSL on the JDBC URL when the pool requires it")
+    void jdbcUrlWithSsl() {
+        assertEquals("jdbc:postgresql://localhost:5432/auth?sslmode=require",
+                DatabaseMigrationConfig.jdbcUrl(properties(true)));
+    }
+
+    @Test
+    @DisplayName("Configures the migration location, schema and a baseline below V1")
+    void configure() {
+        FluentConfiguration configuration = DatabaseMigrationConfig.configure(properties(false));
+
+        assertArrayEquals(new Location[]{new Location(DatabaseMigrationConfig.LOCATION)},
+                configuration.getLocations());
+        assertArrayEquals(new String[]{"public"}, configuration.getSchemas());
+        assertTrue(configuration.isBaselineOnMigrate());
+        assertEquals(MigrationVersion.fromVersion("0"), configuration.getBaselineVersion());
+    }
+
+    @Test
+    @DisplayName("Creates the Flyway bean without connecting")
+    void flywayBean() {
+        assertNotNull(new DatabaseMigrationConfig().flyway(properties(false)));
+    }
+}
@@ -0,0 +1,88 @@
+package co.com.pragma.r2dbc.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredConnectionPoolTest {
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().doReturn(Mono.just(true)).when(connection).validate(any(ValidationDepth.class));
+        lenient().doReturn(Mono.empty()).when(connection).close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    // The pool subscribes to ConnectionFactory#create lazily but wraps it on construction, so stub it first.
+    private MeteredConnectionPool pool() {
+        pool = new MeteredConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(0)
+                .maxSize(1)
+                .acquireRetry(0)
+                .build(), "test-pool", meterRegistry);
+        return pool;
+    }
+
+    private Timer acquireTimer(String outcome) {
+        return meterRegistry.find(MeteredConnectionPool.ACQUIRE_METRIC)
+                .tags("pool", "test-pool", "outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("Records the time taken to hand out a connection")
+    void recordsSuccessfulAcquire() {
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+
+        StepVerifier.create(pool().create().flatMap(acquired -> Mono.from(acquired.close())))
+                .verifyComplete();
+
+        assertEquals(1, acquireTimer("success").count());
+    }
+
+    @Test
+    @DisplayName("Records an acquire that fails because no connection can be opened")
+    void recordsFailedAcquire() {
+        doReturn(Mono.error(new IllegalStateException("connection refused"))).when(connectionFactory).create();
+
+        StepVerifier.create(pool().create())
+                .expectError()
+                .verify();
+
+        assertEquals(1, acquireTimer("error").count());
+    }
+}
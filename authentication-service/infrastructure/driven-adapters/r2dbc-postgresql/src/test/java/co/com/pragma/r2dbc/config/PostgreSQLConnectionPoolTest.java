@@ -1,5 +1,6 @@
 package co.com.pragma.r2dbc.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +9,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -19,6 +23,9 @@ class PostgreSQLConnectionPoolTest {
     @Mock
     private PostgresqlConnectionProperties properties;
 
+    private final ConnectionPoolProperties poolProperties =
+            new ConnectionPoolProperties(12, 15, Duration.ofMinutes(30), null, null);
+
     private AutoCloseable mocks;
 
     @BeforeEach
@@ -42,13 +49,24 @@ class PostgreSQLConnectionPoolTest {
     @DisplayName("Builds config with SSL disabled")
     void getConnectionConfigSslDisabled() {
         when(properties.ssl()).thenReturn(false);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, poolProperties, new SimpleMeterRegistry()));
     }
 
     @Test
     @DisplayName("Builds config with SSL enabled")
     void getConnectionConfigSslEnabled() {
         when(properties.ssl()).thenReturn(true);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, poolProperties, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Builds a metered pool that honors the optional acquire and lifetime limits")
+    void getConnectionConfigWithLimits() {
+        when(properties.ssl()).thenReturn(false);
+        ConnectionPoolProperties limited = new ConnectionPoolProperties(2, 4, Duration.ofMinutes(5),
+                Duration.ofSeconds(3), Duration.ofMinutes(30));
+
+        assertInstanceOf(MeteredConnectionPool.class,
+                connectionPool.getConnectionConfig(properties, limited, new SimpleMeterRegistry()));
     }
 }
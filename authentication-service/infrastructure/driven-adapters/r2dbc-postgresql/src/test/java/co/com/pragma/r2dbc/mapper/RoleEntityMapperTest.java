@@ -0,0 +1,30 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.role.Role;
+import co.com.pragma.r2dbc.entity.RoleEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RoleEntityMapperTest {
+
+    private final RoleEntityMapper mapper = Mappers.getMapper(RoleEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map role in both directions")
+    void shouldRoundTripRole() {
+        RoleEntity entity = new RoleEntity(UUID.randomUUID(), "ADMIN", "Administrator");
+
+        Role role = mapper.toEntity(entity);
+        RoleEntity back = mapper.toData(role);
+
+        assertEquals(entity.getId(), role.getId());
+        assertEquals(entity.getName(), role.getName());
+        assertEquals(entity.getDescription(), role.getDescription());
+        assertEquals(entity.getName(), back.getName());
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.user.User;
+import co.com.pragma.r2dbc.entity.UserEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserEntityMapperTest {
+
+    private final UserEntityMapper mapper = Mappers.getMapper(UserEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map every user column in both directions")
+    void shouldRoundTripUser() {
+        UserEntity entity = new UserEntity(UUID.randomUUID(), "Ana", "Perez", "ana@test.com", "12345678",
+                "3001234567", UUID.randomUUID(), 2500000.0, "hashed");
+
+        User user = mapper.toEntity(entity);
+        UserEntity back = mapper.toData(user);
+
+        assertEquals(entity.getId(), user.getId());
+        assertEquals(entity.getFirstName(), user.getFirstName());
+        assertEquals(entity.getLastName(), user.getLastName());
+        assertEquals(entity.getEmail(), user.getEmail());
+        assertEquals(entity.getIdDocument(), user.getIdDocument());
+        assertEquals(entity.getPhoneNumber(), user.getPhoneNumber());
+        assertEquals(entity.getIdRole(), user.getIdRole());
+        assertEquals(entity.getBaseSalary(), user.getBaseSalary());
+        assertEquals(entity.getPassword(), user.getPassword());
+        assertEquals(entity.getId(), back.getId());
+        assertEquals(entity.getPassword(), back.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should return null for null input")
+    void shouldReturnNullForNullInput() {
+        assertNull(mapper.toEntity(null));
+        assertNull(mapper.toData(null));
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.pragma.r2dbc.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactoryCustomizer;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RepositoryQueryMetricsPostProcessorTest {
+
+    @Mock
+    private ObjectProvider<QueryMetrics> queryMetricsProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RepositoryQueryMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postProcessor = new RepositoryQueryMetricsPostProcessor(queryMetricsProvider);
+    }
+
+    @Test
+    @DisplayName("Adds the invocation listener to every repository factory")
+    void customizesRepositoryFactories() {
+        RepositoryFactoryBeanSupport<?, ?, ?> factoryBean = mock(RepositoryFactoryBeanSupport.class);
+        RepositoryFactorySupport factory = mock(RepositoryFactorySupport.class);
+
+        assertSame(factoryBean, postProcessor.postProcessBeforeInitialization(factoryBean, "repository"));
+
+        ArgumentCaptor<RepositoryFactoryCustomizer> customizer = ArgumentCaptor.forClass(RepositoryFactoryCustomizer.class);
+        verify(factoryBean).addRepositoryFactoryCustomizer(customizer.capture());
+        customizer.getValue().customize(factory);
+        verify(factory).addInvocationListener(any());
+    }
+
+    @Test
+    @DisplayName("Leaves other beans untouched")
+    void ignoresOtherBeans() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessBeforeInitialization(bean, "other"));
+        verifyNoInteractions(queryMetricsProvider);
+    }
+
+    @Test
+    @DisplayName("Records each repository method as Repository.method with its outcome")
+    void recordsInvocations() throws NoSuchMethodException {
+        when(queryMetricsProvider.getObject()).thenReturn(new QueryMetrics(meterRegistry));
+        RepositoryMethodInvocationResult result = mock(RepositoryMethodInvocationResult.class);
+        when(result.getState()).thenReturn(RepositoryMethodInvocationResult.State.ERROR);
+
+        postProcessor.listener().afterInvocation(new RepositoryMethodInvocation(ReactiveCrudRepository.class,
+                ReactiveCrudRepository.class.getMethod("findById", Object.class), result,
+                TimeUnit.MILLISECONDS.toNanos(7)));
+
+        Timer timer = meterRegistry.find(QueryMetrics.METRIC)
+                .tags("query", "ReactiveCrudRepository.findById", "outcome", "error")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(7.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+}
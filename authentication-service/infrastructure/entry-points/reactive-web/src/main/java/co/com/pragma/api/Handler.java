@@ -3,6 +3,7 @@ package co.com.pragma.api;
 import co.com.pragma.api.dto.request.LoginRequest;
 import co.com.pragma.api.dto.request.RegisterUserRequestDto;
 import co.com.pragma.api.dto.request.UserValidationRequest;
+import co.com.pragma.api.dto.request.UsersByDocumentRequest;
 import co.com.pragma.api.dto.request.UsersFoundRequest;
 import co.com.pragma.api.dto.response.UserValidationResponse;
 import co.com.pragma.api.dto.response.UserFoundResponse;
@@ -11,6 +12,7 @@ import co.com.pragma.api.mapper.UserMapper;
 import co.com.pragma.api.service.ValidationService;
 import co.com.pragma.usecase.findrolebyid.FindRoleByIdUseCase;
 import co.com.pragma.usecase.findusersbyid.FindUsersByIdUseCase;
+import co.com.pragma.usecase.findusersbyiddocuments.FindUsersByIdDocumentsUseCase;
 import co.com.pragma.usecase.finduserbyiddocument.FindUserByIdDocumentUseCase;
 import co.com.pragma.usecase.login.LoginUseCase;
 import co.com.pragma.usecase.registeruser.RegisterUseCase;
@@ -22,6 +24,8 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class Handler {
@@ -31,6 +35,7 @@ public class Handler {
     private final FindUserByIdDocumentUseCase findUserByIdDocumentUseCase;
     private final FindRoleByIdUseCase findRoleByIdUseCase;
     private final FindUsersByIdUseCase findUsersByIdUseCase;
+    private final FindUsersByIdDocumentsUseCase findUsersByIdDocumentsUseCase;
     private final UserMapper userMapper;
     private final TokenMapper tokenMapper;
     private final ValidationService validationService;
@@ -97,4 +102,23 @@ public class Handler {
                         .bodyValue(list)
                 );
     }
+
+    public Mono<ServerResponse> findUsersByIdDocuments(ServerRequest request) {
+        return request.bodyToMono(UsersByDocumentRequest.class)
+                .flatMapMany(req -> findUsersByIdDocumentsUseCase.findByIdDocuments(
+                        req.idDocuments() == null ? List.of() : req.idDocuments()))
+                .map(user -> new UserFoundResponse(
+                        user.getId(),
+                        user.getFirstName(),
+                        user.getLastName(),
+                        user.getEmail(),
+                        user.getIdDocument(),
+                        user.getBaseSalary()
+                ))
+                .collectList()
+                .flatMap(list -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(list)
+                );
+    }
 }
@@ -4,6 +4,7 @@ import co.com.pragma.api.dto.UserDto;
 import co.com.pragma.api.dto.request.LoginRequest;
 import co.com.pragma.api.dto.request.RegisterUserRequestDto;
 import co.com.pragma.api.dto.request.UserValidationRequest;
+import co.com.pragma.api.dto.request.UsersByDocumentRequest;
 import co.com.pragma.api.dto.request.UsersFoundRequest;
 import co.com.pragma.api.dto.response.AuthResponse;
 import co.com.pragma.api.dto.response.UserFoundResponse;
@@ -140,6 +141,35 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/auth/api/v1/users/documents",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "findUsersByIdDocuments",
+                    operation = @Operation(
+                            operationId = "findUsersByIdDocuments",
+                            summary = "Find users by id document",
+                            tags = {"User"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(
+                                            schema = @Schema(implementation = UsersByDocumentRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Users found; unknown documents are left out",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    array = @ArraySchema(
+                                                            schema = @Schema(implementation = UserFoundResponse.class)
+                                                    )
+                                            )
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler,
@@ -149,6 +179,7 @@ public class RouterRest {
                 .POST("/auth/api/v1/login", handler::loginUser)
                 .POST("/auth/api/v1/users/document", handler::findUserByIdDocument)
                 .POST("/auth/api/v1/users/find", handler::findUsersById)
+                .POST("/auth/api/v1/users/documents", handler::findUsersByIdDocuments)
                 .filter(globalExceptionHandler)
                 .build();
     }
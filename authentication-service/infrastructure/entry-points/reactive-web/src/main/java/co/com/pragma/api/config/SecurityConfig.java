@@ -50,6 +50,7 @@ public class SecurityConfig {
 
                         .pathMatchers(HttpMethod.POST, "/auth/api/v1/users/document").hasRole("CLIENT")
                         .pathMatchers(HttpMethod.POST, "/auth/api/v1/users/find").hasRole("ADVISER")
+                        .pathMatchers(HttpMethod.POST, "/auth/api/v1/users/documents").hasAnyRole("ADMIN", "ADVISER")
 
                         .pathMatchers("/auth/api/v1/users/**").hasAnyRole("ADMIN", "ADVISER")
                         .pathMatchers("/auth/actuator/**").permitAll()
@@ -0,0 +1,8 @@
+package co.com.pragma.api.dto.request;
+
+import java.util.List;
+
+public record UsersByDocumentRequest(
+        List<String> idDocuments
+) {
+}
@@ -4,6 +4,7 @@ import co.com.pragma.api.dto.UserDto;
 import co.com.pragma.api.dto.request.LoginRequest;
 import co.com.pragma.api.dto.request.RegisterUserRequestDto;
 import co.com.pragma.api.dto.request.UserValidationRequest;
+import co.com.pragma.api.dto.request.UsersByDocumentRequest;
 import co.com.pragma.api.dto.request.UsersFoundRequest;
 import co.com.pragma.api.dto.response.AuthResponse;
 import co.com.pragma.api.mapper.TokenMapper;
@@ -17,6 +18,7 @@ import co.com.pragma.model.user.User;
 import co.com.pragma.usecase.findrolebyid.FindRoleByIdUseCase;
 import co.com.pragma.usecase.finduserbyiddocument.FindUserByIdDocumentUseCase;
 import co.com.pragma.usecase.findusersbyid.FindUsersByIdUseCase;
+import co.com.pragma.usecase.findusersbyiddocuments.FindUsersByIdDocumentsUseCase;
 import co.com.pragma.usecase.login.LoginUseCase;
 import co.com.pragma.usecase.registeruser.RegisterUseCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,6 +59,9 @@ public class HandlerTest {
     @Mock
     private FindUsersByIdUseCase findUsersByIdUseCase;
 
+    @Mock
+    private FindUsersByIdDocumentsUseCase findUsersByIdDocumentsUseCase;
+
     @Mock
     private UserMapper userMapper;
 
@@ -336,4 +341,30 @@ public class HandlerTest {
 
         verify(findUsersByIdUseCase).findByIds(userIds);
     }
+
+    @Test
+    @DisplayName("Should return users found by ID documents")
+    void findUsersByIdDocumentsSuccess() {
+        // Arrange
+        List<String> idDocuments = List.of("11111111", "22222222");
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .firstName("User1")
+                .lastName("Test")
+                .email("user1@test.com")
+                .idDocument("11111111")
+                .baseSalary(3000.00)
+                .build();
+
+        when(request.bodyToMono(UsersByDocumentRequest.class))
+                .thenReturn(Mono.just(new UsersByDocumentRequest(idDocuments)));
+        when(findUsersByIdDocumentsUseCase.findByIdDocuments(idDocuments)).thenReturn(Flux.just(user));
+
+        // Act & Assert
+        StepVerifier.create(handler.findUsersByIdDocuments(request))
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+
+        verify(findUsersByIdDocumentsUseCase).findByIdDocuments(idDocuments);
+    }
 }
@@ -4,6 +4,7 @@ import co.com.pragma.api.dto.UserDto;
 import co.com.pragma.api.dto.request.LoginRequest;
 import co.com.pragma.api.dto.request.RegisterUserRequestDto;
 import co.com.pragma.api.dto.request.UserValidationRequest;
+import co.com.pragma.api.dto.request.UsersByDocumentRequest;
 import co.com.pragma.api.dto.request.UsersFoundRequest;
 import co.com.pragma.api.dto.response.AuthResponse;
 import co.com.pragma.api.dto.response.UserFoundResponse;
@@ -19,6 +20,7 @@ import co.com.pragma.model.user.User;
 import co.com.pragma.usecase.findrolebyid.FindRoleByIdUseCase;
 import co.com.pragma.usecase.finduserbyiddocument.FindUserByIdDocumentUseCase;
 import co.com.pragma.usecase.findusersbyid.FindUsersByIdUseCase;
+import co.com.pragma.usecase.findusersbyiddocuments.FindUsersByIdDocumentsUseCase;
 import co.com.pragma.usecase.login.LoginUseCase;
 import co.com.pragma.usecase.registeruser.RegisterUseCase;
 import org.assertj.core.api.Assertions;
@@ -60,6 +62,8 @@ class RouterRestTest {
     @MockitoBean
     private FindUsersByIdUseCase findUsersByIdUseCase;
     @MockitoBean
+    private FindUsersByIdDocumentsUseCase findUsersByIdDocumentsUseCase;
+    @MockitoBean
     private FindRoleByIdUseCase findRoleByIdUseCase;
     @MockitoBean private UserMapper userMapper;
     @MockitoBean
@@ -141,6 +145,7 @@ class RouterRestTest {
                 findUserByIdDocumentUseCase,
                 findRoleByIdUseCase,
                 findUsersByIdUseCase,
+                findUsersByIdDocumentsUseCase,
                 userMapper,
                 tokenMapper,
                 validationService
@@ -269,6 +274,33 @@ class RouterRestTest {
                 });
     }
 
+    @Test
+    @DisplayName("Should return 200 OK when findUsersByIdDocuments request is successful")
+    void testFindUsersByIdDocumentsSuccess() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .firstName("User1")
+                .lastName("Test")
+                .email("user1@test.com")
+                .idDocument("11111111")
+                .baseSalary(3000.00)
+                .build();
+
+        Mockito.when(findUsersByIdDocumentsUseCase.findByIdDocuments(List.of("11111111", "22222222")))
+                .thenReturn(Flux.just(user));
+
+        webTestClient.post()
+                .uri("/auth/api/v1/users/documents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UsersByDocumentRequest(List.of("11111111", "22222222")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UserFoundResponse.class)
+                .hasSize(1)
+                .value(users -> Assertions.assertThat(users.getFirst().idDocument()).isEqualTo("11111111"));
+    }
+
     @Test
     @DisplayName("Should return 500 Internal Server Error when unexpected exception occurs during register")
     void testRegisterUnexpectedException() {
@@ -2,9 +2,9 @@ package co.com.pragma.dynamodb.adapter;
 
 import co.com.pragma.dynamodb.entity.ReportEntity;
 import co.com.pragma.dynamodb.helper.TemplateAdapterOperations;
+import co.com.pragma.dynamodb.mapper.ReportEntityMapper;
 import co.com.pragma.model.report.Report;
 import co.com.pragma.model.report.gateways.ReportRepository;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
@@ -26,14 +26,9 @@ public class DynamoDBReportAdapter extends TemplateAdapterOperations<
     private final DynamoDbAsyncClient dynamoDbAsyncClient;
     private static final String TABLE_NAME = "reports";
 
-    public DynamoDBReportAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ObjectMapper mapper,
+    public DynamoDBReportAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ReportEntityMapper mapper,
                                  DynamoDbAsyncClient dynamoDbAsyncClient) {
-        /**
-         *  Could be use mapper.mapBuilder if your domain model implement builder pattern
-         *  super(repository, mapper, d -> mapper.mapBuilder(d,ObjectModel.ObjectModelBuilder.class).build());
-         *  Or using mapper.map with the class of the object model
-         */
-        super(connectionFactory, mapper, d -> mapper.map(d, Report.class /*domain model*/), TABLE_NAME, new String[0] /*index is optional*/);
+        super(connectionFactory, mapper, TABLE_NAME, new String[0] /*index is optional*/);
         this.dynamoDbAsyncClient = dynamoDbAsyncClient;
     }
 
@@ -0,0 +1,11 @@
+package co.com.pragma.dynamodb.helper;
+
+/**
+ * Maps between a domain model and its DynamoDB entity. Implementations are generated by MapStruct,
+ * so each conversion is plain getter/setter code instead of reflective copying.
+ */
+public interface EntityMapper<E, V> {
+    V toEntity(E model);
+
+    E toModel(V entity);
+}
@@ -1,6 +1,5 @@
 package co.com.pragma.dynamodb.helper;
 
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
@@ -15,22 +14,18 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.List;
-import java.util.function.Function;
 
 public abstract class TemplateAdapterOperations<E, K, V> {
     private final Class<V> dataClass;
-    private final Function<V, E> toEntityFn;
-    protected ObjectMapper mapper;
+    protected EntityMapper<E, V> mapper;
     private final DynamoDbAsyncTable<V> table;
     private final DynamoDbAsyncIndex<V> tableByIndex;
 
     @SuppressWarnings("unchecked")
     protected TemplateAdapterOperations(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
-                                        ObjectMapper mapper,
-                                        Function<V, E> toEntityFn,
+                                        EntityMapper<E, V> mapper,
                                         String tableName,
                                         String... index) {
-        this.toEntityFn = toEntityFn;
         this.mapper = mapper;
         ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
         this.dataClass = (Class<V>) genericSuperclass.getActualTypeArguments()[2];
@@ -87,10 +82,10 @@ public abstract class TemplateAdapterOperations<E, K, V> {
     }*/
 
     protected V toEntity(E model) {
-        return mapper.map(model, dataClass);
+        return mapper.toEntity(model);
     }
 
     protected E toModel(V data) {
-        return data != null ? toEntityFn.apply(data) : null;
+        return data != null ? mapper.toModel(data) : null;
     }
 }
\ No newline at end of file
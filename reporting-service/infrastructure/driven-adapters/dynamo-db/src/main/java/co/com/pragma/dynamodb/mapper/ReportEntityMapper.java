@@ -0,0 +1,10 @@
+package co.com.pragma.dynamodb.mapper;
+
+import co.com.pragma.dynamodb.entity.ReportEntity;
+import co.com.pragma.dynamodb.helper.EntityMapper;
+import co.com.pragma.model.report.Report;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ReportEntityMapper extends EntityMapper<Report, ReportEntity> {
+}
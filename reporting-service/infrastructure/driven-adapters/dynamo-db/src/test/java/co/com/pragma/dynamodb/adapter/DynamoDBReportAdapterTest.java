@@ -1,12 +1,12 @@
 package co.com.pragma.dynamodb.adapter;
 
 import co.com.pragma.dynamodb.entity.ReportEntity;
+import co.com.pragma.dynamodb.mapper.ReportEntityMapper;
 import co.com.pragma.model.report.Report;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.enhanced.dynamodb.*;
@@ -29,7 +29,7 @@ class DynamoDBReportAdapterTest {
     @Mock
     private DynamoDbAsyncClient dynamoDbAsyncClient;
     @Mock
-    private ObjectMapper mapper;
+    private ReportEntityMapper mapper;
 
     private DynamoDBReportAdapter adapter;
 
@@ -45,7 +45,7 @@ class DynamoDBReportAdapterTest {
         Report domain = new Report("1", "APPROVED", 10L, 200.0, Instant.now());
         ReportEntity entity = new ReportEntity("1", "APPROVED", 10L, 200.0, Instant.now());
 
-        when(mapper.map(domain, ReportEntity.class)).thenReturn(entity);
+        when(mapper.toEntity(domain)).thenReturn(entity);
         when(table.putItem(any(ReportEntity.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
@@ -65,7 +65,7 @@ class DynamoDBReportAdapterTest {
 
         when(table.getItem(any(Key.class)))
                 .thenReturn(CompletableFuture.completedFuture(entity));
-        when(mapper.map(entity, Report.class)).thenReturn(domain);
+        when(mapper.toModel(entity)).thenReturn(domain);
 
         Mono<Report> result = adapter.findById("1");
 
@@ -79,10 +79,10 @@ class DynamoDBReportAdapterTest {
         ReportEntity entity = new ReportEntity("1", "PENDING", 0L, 0.0, Instant.now());
         Report domain = new Report("1", "PENDING", 0L, 0.0, entity.getUpdatedAt());
 
-        when(mapper.map(domain, ReportEntity.class)).thenReturn(entity);
+        when(mapper.toEntity(domain)).thenReturn(entity);
         when(table.deleteItem(any(ReportEntity.class)))
                 .thenReturn(CompletableFuture.completedFuture(entity));
-        when(mapper.map(entity, Report.class)).thenReturn(domain);
+        when(mapper.toModel(entity)).thenReturn(domain);
 
         Mono<Report> result = adapter.delete(domain);
 
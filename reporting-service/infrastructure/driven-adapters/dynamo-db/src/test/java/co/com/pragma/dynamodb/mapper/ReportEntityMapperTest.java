@@ -0,0 +1,41 @@
+package co.com.pragma.dynamodb.mapper;
+
+import co.com.pragma.dynamodb.entity.ReportEntity;
+import co.com.pragma.model.report.Report;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReportEntityMapperTest {
+
+    private final ReportEntityMapper mapper = Mappers.getMapper(ReportEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map report in both directions")
+    void shouldRoundTripReport() {
+        Report report = new Report("approvedLoans", "APPROVED", 7L, 70000.0, Instant.now());
+
+        ReportEntity entity = mapper.toEntity(report);
+        Report back = mapper.toModel(entity);
+
+        assertEquals(report.getId(), entity.getId());
+        assertEquals(report.getStatus(), entity.getStatus());
+        assertEquals(report.getCount(), entity.getCount());
+        assertEquals(report.getTotalAmount(), entity.getTotalAmount());
+        assertEquals(report.getUpdatedAt(), entity.getUpdatedAt());
+        assertEquals(report.getId(), back.getId());
+        assertEquals(report.getUpdatedAt(), back.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should return null for null input")
+    void shouldReturnNullForNullInput() {
+        assertNull(mapper.toEntity(null));
+        assertNull(mapper.toModel(null));
+    }
+}
@@ -1,22 +1,42 @@
 package co.com.pragma.config;
 
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.changefeed.gateways.ChangeFeedCheckpointRepository;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.model.intake.gateways.ApplicationIntakeRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.portfolio.CashFlowProjectionEngine;
+import co.com.pragma.model.portfolio.gateways.ApprovedLoanRepository;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findapprovedapplicationsbyrange.FindApprovedApplicationsByRangeUseCase;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import co.com.pragma.usecase.getadvisordashboard.GetAdvisorDashboardUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.getclientapplications.GetClientApplicationsUseCase;
+import co.com.pragma.usecase.getpaymentplan.GetPaymentPlanUseCase;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
+import co.com.pragma.usecase.projectportfoliocashflow.ProjectPortfolioCashFlowUseCase;
+import co.com.pragma.usecase.publishstatuschanges.PublishStatusChangesUseCase;
+import co.com.pragma.usecase.quoteloans.QuoteLoansUseCase;
+import co.com.pragma.usecase.registerapplicationsbulk.RegisterApplicationsBulkUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.updateapplicationstatusbulk.UpdateApplicationStatusBulkUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -32,15 +52,22 @@ public class UseCasesConfig {
 
     @Bean
     FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase(
-            ApplicationRepository applicationRepository,
-            StatusRepository statusRepository,
+            DailyApprovalRollupRepository dailyApprovalRollupRepository,
             ApplicationConfigurationProvider applicationConfigurationProvider,
             CustomLogger customLogger
     ) {
-        return new FindApprovedApplicationDailyUseCase(applicationRepository, statusRepository,
+        return new FindApprovedApplicationDailyUseCase(dailyApprovalRollupRepository,
                 applicationConfigurationProvider, customLogger);
     }
 
+    @Bean
+    FindApprovedApplicationsByRangeUseCase findApprovedApplicationsByRangeUseCase(
+            DailyApprovalRollupRepository dailyApprovalRollupRepository,
+            CustomLogger customLogger
+    ) {
+        return new FindApprovedApplicationsByRangeUseCase(dailyApprovalRollupRepository, customLogger);
+    }
+
     @Bean
     FindLoanTypeByIdUseCase findLoanTypeByIdUseCase(
             LoanTypeRepository loanTypeRepository,
@@ -49,16 +76,36 @@ public class UseCasesConfig {
         return new FindLoanTypeByIdUseCase(loanTypeRepository, customLogger);
     }
 
+    @Bean
+    GetAdvisorDashboardUseCase getAdvisorDashboardUseCase(
+            ApplicationSummaryRepository applicationSummaryRepository,
+            StatusRepository statusRepository,
+            LoanTypeRepository loanTypeRepository,
+            CustomLogger customLogger
+    ) {
+        return new GetAdvisorDashboardUseCase(applicationSummaryRepository, statusRepository, loanTypeRepository,
+                customLogger);
+    }
+
+    @Bean
+    GetClientApplicationsUseCase getClientApplicationsUseCase(
+            ApplicationRepository applicationRepository,
+            CustomLogger customLogger
+    ) {
+        return new GetClientApplicationsUseCase(applicationRepository, customLogger);
+    }
+
     @Bean
     GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase(
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
             LoanTypeRepository loanTypeRepository,
+            DebtLedgerRepository debtLedgerRepository,
             AuthValidationGateway  authValidationGateway,
             CustomLogger customLogger
     ) {
         return new GetApplicationsForAdvisorUseCase(applicationRepository, statusRepository, loanTypeRepository,
-                authValidationGateway, customLogger);
+                debtLedgerRepository, authValidationGateway, customLogger);
     }
 
     @Bean
@@ -66,41 +113,157 @@ public class UseCasesConfig {
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
             LoanTypeRepository loanTypeRepository,
+            DebtLedgerRepository debtLedgerRepository,
+            DailyApprovalRollupRepository dailyApprovalRollupRepository,
+            ApplicationSummaryRepository applicationSummaryRepository,
+            PaymentPlanRepository paymentPlanRepository,
+            TransactionManager transactionManager,
             NotificationGateway notificationGateway,
             PaymentPlanGenerator paymentPlanGenerator,
-            ReportApprovedGateway reportApprovedGateway,
             CustomLogger customLogger
     ) {
         return new ProcessApplicationDecisionUseCase(applicationRepository, statusRepository,loanTypeRepository,
-                notificationGateway, paymentPlanGenerator, reportApprovedGateway,customLogger);
+                debtLedgerRepository, dailyApprovalRollupRepository, applicationSummaryRepository, paymentPlanRepository,
+                transactionManager, notificationGateway, paymentPlanGenerator, customLogger);
+    }
+
+    @Bean
+    GetPaymentPlanUseCase getPaymentPlanUseCase(
+            PaymentPlanRepository paymentPlanRepository,
+            ApplicationRepository applicationRepository,
+            LoanTypeRepository loanTypeRepository,
+            PaymentPlanGenerator paymentPlanGenerator,
+            CustomLogger customLogger
+    ) {
+        return new GetPaymentPlanUseCase(paymentPlanRepository, applicationRepository, loanTypeRepository,
+                paymentPlanGenerator, customLogger);
+    }
+
+    @Bean
+    RegisterApplicationsBulkUseCase registerApplicationsBulkUseCase(
+            ApplicationRepository applicationRepository,
+            StatusRepository statusRepository,
+            DebtLedgerRepository debtLedgerRepository,
+            ApplicationSummaryRepository applicationSummaryRepository,
+            TransactionManager transactionManager,
+            AuthValidationGateway authValidationGateway,
+            FindLoanTypeByIdUseCase findLoanTypeByIdUseCase,
+            CreditAnalysisGateway creditAnalysisGateway,
+            CustomLogger customLogger
+    ) {
+        return new RegisterApplicationsBulkUseCase(applicationRepository, statusRepository, debtLedgerRepository,
+                applicationSummaryRepository, transactionManager, authValidationGateway, findLoanTypeByIdUseCase, creditAnalysisGateway,
+                customLogger);
     }
 
     @Bean
     RegisterRequestUseCase registerRequestUseCase(
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
-            LoanTypeRepository loanTypeRepository,
+            DebtLedgerRepository debtLedgerRepository,
+            ApplicationSummaryRepository applicationSummaryRepository,
             TransactionManager transactionManager,
             AuthValidationGateway authValidationGateway,
             FindLoanTypeByIdUseCase findLoanTypeByIdUseCase,
             CreditAnalysisGateway creditAnalysisGateway,
             CustomLogger customLogger
     ) {
-        return new RegisterRequestUseCase(applicationRepository, statusRepository,loanTypeRepository,
-                transactionManager, authValidationGateway, findLoanTypeByIdUseCase, creditAnalysisGateway,
+        return new RegisterRequestUseCase(applicationRepository, statusRepository,debtLedgerRepository,
+                applicationSummaryRepository, transactionManager, authValidationGateway, findLoanTypeByIdUseCase, creditAnalysisGateway,
                 customLogger);
     }
 
+    @Bean
+    RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase(
+            RegisterRequestUseCase registerRequestUseCase,
+            IdempotencyRepository idempotencyRepository,
+            CustomLogger customLogger
+    ) {
+        return new RegisterRequestIdempotentUseCase(registerRequestUseCase, idempotencyRepository, customLogger);
+    }
+
+    @Bean
+    RegisterRequestAsyncUseCase registerRequestAsyncUseCase(
+            ApplicationIntakeRepository applicationIntakeRepository,
+            RegisterRequestUseCase registerRequestUseCase,
+            RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase,
+            CustomLogger customLogger
+    ) {
+        return new RegisterRequestAsyncUseCase(applicationIntakeRepository, registerRequestUseCase,
+                registerRequestIdempotentUseCase, customLogger);
+    }
+
     @Bean
     UpdateApplicationStatusUseCase updateApplicationStatusUseCase(
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
+            LoanTypeRepository loanTypeRepository,
+            DebtLedgerRepository debtLedgerRepository,
+            PaymentPlanRepository paymentPlanRepository,
+            DailyApprovalRollupRepository dailyApprovalRollupRepository,
+            ApplicationSummaryRepository applicationSummaryRepository,
+            TransactionManager transactionManager,
             NotificationGateway notificationGateway,
+            CustomLogger customLogger
+    ) {
+        return new UpdateApplicationStatusUseCase(applicationRepository, statusRepository, loanTypeRepository,
+                debtLedgerRepository, paymentPlanRepository, dailyApprovalRollupRepository, applicationSummaryRepository, transactionManager,
+                notificationGateway, customLogger);
+    }
+
+    @Bean
+    UpdateApplicationStatusBulkUseCase updateApplicationStatusBulkUseCase(
+            ApplicationRepository applicationRepository,
+            StatusRepository statusRepository,
+            LoanTypeRepository loanTypeRepository,
+            DebtLedgerRepository debtLedgerRepository,
+            PaymentPlanRepository paymentPlanRepository,
+            DailyApprovalRollupRepository dailyApprovalRollupRepository,
+            ApplicationSummaryRepository applicationSummaryRepository,
+            TransactionManager transactionManager,
+            NotificationGateway notificationGateway,
+            CustomLogger customLogger
+    ) {
+        return new UpdateApplicationStatusBulkUseCase(applicationRepository, statusRepository, loanTypeRepository,
+                debtLedgerRepository, paymentPlanRepository, dailyApprovalRollupRepository, applicationSummaryRepository, transactionManager,
+                notificationGateway, customLogger);
+    }
+
+    @Bean
+    PublishStatusChangesUseCase publishStatusChangesUseCase(
+            StatusRepository statusRepository,
+            ApplicationRepository applicationRepository,
             ReportApprovedGateway reportApprovedGateway,
+            ChangeFeedCheckpointRepository changeFeedCheckpointRepository,
+            TransactionManager transactionManager,
+            CustomLogger customLogger
+    ) {
+        return new PublishStatusChangesUseCase(statusRepository, applicationRepository, reportApprovedGateway,
+                changeFeedCheckpointRepository, transactionManager, customLogger);
+    }
+
+    @Bean
+    ProjectPortfolioCashFlowUseCase projectPortfolioCashFlowUseCase(
+            ApprovedLoanRepository approvedLoanRepository,
+            StatusRepository statusRepository,
+            CashFlowProjectionEngine cashFlowProjectionEngine,
             CustomLogger customLogger
     ) {
-        return new UpdateApplicationStatusUseCase(applicationRepository, statusRepository,notificationGateway,
-                reportApprovedGateway, customLogger);
+        return new ProjectPortfolioCashFlowUseCase(approvedLoanRepository, statusRepository, cashFlowProjectionEngine,
+                customLogger);
+    }
+
+    @Bean
+    QuoteLoansUseCase quoteLoansUseCase(
+            LoanTypeRepository loanTypeRepository,
+            CustomLogger customLogger
+    ) {
+        return new QuoteLoansUseCase(loanTypeRepository, customLogger);
+    }
+
+    @Bean
+    public CashFlowProjectionEngine cashFlowProjectionEngine() {
+        return new CashFlowProjectionEngine();
     }
 
     @Bean
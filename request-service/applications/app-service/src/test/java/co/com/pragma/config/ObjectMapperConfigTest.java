@@ -1,22 +0,0 @@
-package co.com.pragma.config;
-
-import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
-import org.reactivecommons.utils.ObjectMapper;
-import org.reactivecommons.utils.ObjectMapperImp;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class ObjectMapperConfigTest {
-
-    @Test
-    @DisplayName("Should register ObjectMapper bean of type ObjectMapperImp in the context")
-    void testObjectMapperBean() {
-        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ObjectMapperConfig.class);
-        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
-        assertNotNull(objectMapper);
-        assertInstanceOf(ObjectMapperImp.class, objectMapper);
-        context.close();
-    }
-}
\ No newline at end of file
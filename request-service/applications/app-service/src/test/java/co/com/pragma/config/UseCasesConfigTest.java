@@ -2,20 +2,39 @@ package co.com.pragma.config;
 
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.changefeed.gateways.ChangeFeedCheckpointRepository;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.model.intake.gateways.ApplicationIntakeRepository;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.portfolio.gateways.ApprovedLoanRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
 import co.com.pragma.model.status.gateways.StatusRepository;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findapprovedapplicationsbyrange.FindApprovedApplicationsByRangeUseCase;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import co.com.pragma.usecase.getadvisordashboard.GetAdvisorDashboardUseCase;
+import co.com.pragma.usecase.getclientapplications.GetClientApplicationsUseCase;
+import co.com.pragma.usecase.getpaymentplan.GetPaymentPlanUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
+import co.com.pragma.usecase.projectportfoliocashflow.ProjectPortfolioCashFlowUseCase;
+import co.com.pragma.usecase.publishstatuschanges.PublishStatusChangesUseCase;
+import co.com.pragma.usecase.quoteloans.QuoteLoansUseCase;
+import co.com.pragma.usecase.registerapplicationsbulk.RegisterApplicationsBulkUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.updateapplicationstatusbulk.UpdateApplicationStatusBulkUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -35,11 +54,22 @@ public class UseCasesConfigTest {
                      new AnnotationConfigApplicationContext(TestConfig.class)) {
 
             assertNotNull(context.getBean(FindApprovedApplicationDailyUseCase.class));
+            assertNotNull(context.getBean(FindApprovedApplicationsByRangeUseCase.class));
             assertNotNull(context.getBean(FindLoanTypeByIdUseCase.class));
+            assertNotNull(context.getBean(GetAdvisorDashboardUseCase.class));
+            assertNotNull(context.getBean(GetClientApplicationsUseCase.class));
+            assertNotNull(context.getBean(GetPaymentPlanUseCase.class));
             assertNotNull(context.getBean(GetApplicationsForAdvisorUseCase.class));
             assertNotNull(context.getBean(ProcessApplicationDecisionUseCase.class));
+            assertNotNull(context.getBean(ProjectPortfolioCashFlowUseCase.class));
+            assertNotNull(context.getBean(PublishStatusChangesUseCase.class));
+            assertNotNull(context.getBean(QuoteLoansUseCase.class));
+            assertNotNull(context.getBean(RegisterApplicationsBulkUseCase.class));
             assertNotNull(context.getBean(RegisterRequestUseCase.class));
+            assertNotNull(context.getBean(RegisterRequestIdempotentUseCase.class));
+            assertNotNull(context.getBean(RegisterRequestAsyncUseCase.class));
             assertNotNull(context.getBean(UpdateApplicationStatusUseCase.class));
+            assertNotNull(context.getBean(UpdateApplicationStatusBulkUseCase.class));
         }
     }
 
@@ -53,6 +83,23 @@ public class UseCasesConfigTest {
         @Bean
         StatusRepository statusRepository() { return mock(StatusRepository.class); }
         @Bean
+        DebtLedgerRepository debtLedgerRepository() { return mock(DebtLedgerRepository.class); }
+        @Bean
+        DailyApprovalRollupRepository dailyApprovalRollupRepository() { return mock(DailyApprovalRollupRepository.class); }
+        @Bean
+        IdempotencyRepository idempotencyRepository() { return mock(IdempotencyRepository.class); }
+        @Bean
+        ApplicationIntakeRepository applicationIntakeRepository() { return mock(ApplicationIntakeRepository.class); }
+        @Bean
+        ApprovedLoanRepository approvedLoanRepository() { return mock(ApprovedLoanRepository.class); }
+        @Bean
+        ApplicationSummaryRepository applicationSummaryRepository() { return mock(ApplicationSummaryRepository.class); }
+        @Bean
+        PaymentPlanRepository paymentPlanRepository() { return mock(PaymentPlanRepository.class); }
+        @Bean
+        ChangeFeedCheckpointRepository changeFeedCheckpointRepository() {
+            return mock(ChangeFeedCheckpointRepository.class); }
+        @Bean
         TransactionManager transactionManager() { return mock(TransactionManager.class); }
         @Bean
         AuthValidationGateway authValidationGateway() { return mock(AuthValidationGateway.class); }
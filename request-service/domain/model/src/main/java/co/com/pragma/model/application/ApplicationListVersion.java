@@ -0,0 +1,18 @@
+package co.com.pragma.model.application;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationListVersion {
+    private LocalDateTime latestChangeAt;
+    private long applicationCount;
+}
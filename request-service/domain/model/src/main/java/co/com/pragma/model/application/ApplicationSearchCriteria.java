@@ -0,0 +1,30 @@
+package co.com.pragma.model.application;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters of an advisor search. Every filter left empty is ignored; the others are combined with AND.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ApplicationSearchCriteria {
+    @Builder.Default
+    private List<UUID> statusIds = List.of();
+    @Builder.Default
+    private List<UUID> loanTypeIds = List.of();
+    private Double minAmount;
+    private Double maxAmount;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdBefore;
+    private String email;
+
+    public boolean filtersOnlyByStatus() {
+        return loanTypeIds.isEmpty() && minAmount == null && maxAmount == null
+                && createdFrom == null && createdBefore == null && email == null;
+    }
+}
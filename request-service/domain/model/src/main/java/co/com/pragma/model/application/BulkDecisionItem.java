@@ -0,0 +1,39 @@
+package co.com.pragma.model.application;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class BulkDecisionItem {
+    private long index;
+    private UUID idApplication;
+    private String status;
+    private String expectedStatus;
+    private Application application;
+    private String error;
+
+    public static BulkDecisionItem rejected(long index, UUID idApplication, String error) {
+        return BulkDecisionItem.builder()
+                .index(index)
+                .idApplication(idApplication)
+                .error(error)
+                .build();
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+
+    public void reject(String error) {
+        this.application = null;
+        this.error = error;
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.pragma.model.application;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class BulkRegistrationItem {
+    private long index;
+    private String idDocument;
+    private Application application;
+    private String error;
+
+    public static BulkRegistrationItem rejected(long index, String idDocument, String error) {
+        return BulkRegistrationItem.builder()
+                .index(index)
+                .idDocument(idDocument)
+                .error(error)
+                .build();
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+
+    public void reject(String error) {
+        this.application = null;
+        this.error = error;
+    }
+}
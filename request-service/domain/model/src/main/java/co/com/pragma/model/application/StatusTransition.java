@@ -0,0 +1,27 @@
+package co.com.pragma.model.application;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class StatusTransition {
+    private UUID applicationId;
+    private UUID targetStatusId;
+    /**
+     * Statuses the application must currently be in. Empty means any status other than the target.
+     */
+    @Builder.Default
+    private List<UUID> expectedStatusIds = List.of();
+    private LocalDateTime transitionedAt;
+    private LocalDateTime approvedAt;
+}
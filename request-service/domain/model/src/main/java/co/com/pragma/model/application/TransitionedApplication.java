@@ -0,0 +1,27 @@
+package co.com.pragma.model.application;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TransitionedApplication {
+    private Application application;
+    private UUID previousStatusId;
+    private LocalDateTime previousApprovedAt;
+
+    public Application previousState() {
+        return application.toBuilder()
+                .idStatus(previousStatusId)
+                .approvedAt(previousApprovedAt)
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package co.com.pragma.model.application.gateways;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
 import reactor.core.publisher.Flux;
@@ -13,9 +17,15 @@ import java.util.UUID;
 
 public interface ApplicationRepository {
     Mono<Application> save(Application application);
+    Flux<Application> saveAll(List<Application> applications);
     Mono<Application> findById(UUID id);
-    Mono<CustomPage<Application>> findByIdStatusIn(List<UUID> statusIds, CustomPageable pageable);
+    Flux<Application> findAllById(List<UUID> ids);
+    Mono<TransitionedApplication> transitionStatus(StatusTransition transition);
+    Flux<TransitionedApplication> transitionStatuses(List<UUID> applicationIds, StatusTransition transition);
+    Mono<CustomPage<Application>> search(ApplicationSearchCriteria criteria, CustomPageable pageable);
     Flux<Application> findByIdUserAndIdStatus(UUID userId, UUID statusId);
     Flux<Application> findActiveLoansByIdUser(UUID userId);
-    Flux<Application> findByStatusAndApprovedDateBetween(UUID statusId, LocalDateTime start, LocalDateTime end);
+    Flux<Application> findByIdUser(UUID userId);
+    Mono<ApplicationListVersion> findListVersionByIdUser(UUID userId);
+    Flux<Application> findApprovedAfter(UUID approvedStatusId, LocalDateTime approvedAfter);
 }
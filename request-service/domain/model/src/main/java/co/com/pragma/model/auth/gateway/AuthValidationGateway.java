@@ -11,4 +11,5 @@ import java.util.UUID;
 public interface AuthValidationGateway {
     Mono<ValidatedUser> validateClientUser(String idDocument, String token);
     Flux<UserFound> foundClientByIds(List<UUID> userIds, String token);
+    Flux<UserFound> findClientsByIdDocuments(List<String> idDocuments, String token);
 }
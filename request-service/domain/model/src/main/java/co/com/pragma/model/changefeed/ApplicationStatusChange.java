@@ -0,0 +1,28 @@
+package co.com.pragma.model.changefeed;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status transition of an application as committed to the database, read from the change feed: the new state of the
+ * row and the status it had before. {@code lsn} is the end position of the transaction that committed it; every
+ * change of one transaction shares it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationStatusChange {
+    private UUID idApplication;
+    private Double amount;
+    private UUID idStatus;
+    private UUID previousIdStatus;
+    private LocalDateTime updatedAt;
+    private long lsn;
+}
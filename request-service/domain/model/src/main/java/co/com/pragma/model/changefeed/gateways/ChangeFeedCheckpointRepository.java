@@ -0,0 +1,11 @@
+package co.com.pragma.model.changefeed.gateways;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ChangeFeedCheckpointRepository {
+    Mono<Long> findLsn(String feed);
+    Mono<LocalDateTime> findChangedAt(String feed);
+    Mono<Void> saveLsn(String feed, long lsn, LocalDateTime changedAt);
+}
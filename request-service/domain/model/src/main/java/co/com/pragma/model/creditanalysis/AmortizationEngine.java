@@ -0,0 +1,199 @@
+package co.com.pragma.model.creditanalysis;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * French amortization in long cents. The installment comes from the closed-form formula in {@code double}; every
+ * month then rounds the interest, principal, payment and remaining balance to cents HALF_UP exactly as if the balance
+ * were carried in {@link BigDecimal}, the last month paying off whatever is left.
+ * <p>
+ * The balance after {@code k} months is {@code principal - k * installment + interest paid so far}, where the
+ * interest paid so far is a whole number of cents, so it is never carried as a running decimal. Each amount is first
+ * rounded from a {@code double} estimate with a bound on its error; only when that bound reaches a half-cent boundary
+ * is the amount recomputed with {@link BigDecimal}, which for ordinary loans is almost never.
+ */
+public final class AmortizationEngine {
+
+    private static final double UNIT_ROUNDOFF = 0x1p-53;
+    // Beyond this many cents a double no longer tells consecutive boundaries apart with room to spare.
+    private static final double MAX_ESTIMATED_CENTS = 0x1p50;
+    private static final long UNDECIDED = Long.MIN_VALUE;
+
+    private AmortizationEngine() {
+    }
+
+    /**
+     * Cuota mensual de un préstamo: M = P * [r(1+r)^n] / [(1+r)^n - 1]. Sin interés se reparte el capital en partes
+     * iguales y un plazo sin meses se paga en una sola cuota.
+     */
+    public static double monthlyInstallment(double principal, double annualInterestRate, int termInMonths) {
+        if (termInMonths <= 0) {
+            return principal;
+        }
+        if (annualInterestRate <= 0) {
+            return principal / termInMonths;
+        }
+        double monthlyRate = monthlyRate(annualInterestRate);
+        double numerator = monthlyRate * Math.pow(1 + monthlyRate, termInMonths);
+        double denominator = Math.pow(1 + monthlyRate, termInMonths) - 1;
+        return principal * (numerator / denominator);
+    }
+
+    public static AmortizationSchedule amortize(double principal, double annualInterestRate, int termInMonths) {
+        return amortize(principal, annualInterestRate, termInMonths, new AmortizationSchedule(Math.max(termInMonths, 0)));
+    }
+
+    /**
+     * Fills {@code schedule} with the plan of the loan and returns it. A term of zero months or less leaves it empty.
+     */
+    public static AmortizationSchedule amortize(double principal, double annualInterestRate, int termInMonths,
+                                                AmortizationSchedule schedule) {
+        int term = Math.max(termInMonths, 0);
+        double installment = monthlyInstallment(principal, annualInterestRate, term);
+        double monthlyRate = monthlyRate(annualInterestRate);
+        if (!Double.isFinite(principal) || !Double.isFinite(monthlyRate) || !Double.isFinite(installment)) {
+            throw new IllegalArgumentException("Loan of " + principal + " at " + annualInterestRate
+                    + "% over " + termInMonths + " months has no finite installment");
+        }
+        schedule.reset(term);
+        if (term == 0) {
+            return schedule;
+        }
+
+        Loan loan = new Loan(principal, installment, monthlyRate);
+        long payment = round(installment, 2 * UNIT_ROUNDOFF * Math.abs(installment));
+        if (payment == UNDECIDED) {
+            payment = cents(BigDecimal.valueOf(installment));
+        }
+        long interestPaid = 0;
+        for (int month = 1; month < term; month++) {
+            long interest = loan.interest(month - 1, interestPaid);
+            interestPaid += interest;
+            schedule.set(month, payment, loan.principalPaid(interest), interest, loan.balance(month, interestPaid));
+        }
+        long interest = loan.interest(term - 1, interestPaid);
+        schedule.set(term, loan.lastPayment(term - 1, interestPaid, interest),
+                loan.balance(term - 1, interestPaid), interest, 0);
+        return schedule;
+    }
+
+    private static double monthlyRate(double annualInterestRate) {
+        return annualInterestRate / 12 / 100;
+    }
+
+    /**
+     * Cents of {@code amount} rounded HALF_UP, given that the exact amount lies within {@code error} of it, or
+     * {@link #UNDECIDED} when the exact amount could fall on either side of a half cent.
+     */
+    static long round(double amount, double error) {
+        double cents = Math.abs(amount) * 100;
+        if (!(cents < MAX_ESTIMATED_CENTS)) {
+            return UNDECIDED;
+        }
+        double slack = error * 100 * 1.001 + 16 * Math.ulp(Math.max(cents, 1.0));
+        double rounded = Math.floor(cents + 0.5);
+        if (cents - (rounded - 0.5) <= slack || (rounded + 0.5) - cents <= slack) {
+            return UNDECIDED;
+        }
+        return amount < 0 ? -(long) rounded : (long) rounded;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * One loan's inputs, both as the doubles the estimates start from and, lazily, as the decimals the exact
+     * fallback works with. Every error bound below allows for the decimal of each input being up to half an ulp away
+     * from the double, plus the rounding of each floating point operation.
+     */
+    private static final class Loan {
+
+        private final double principal;
+        private final double installment;
+        private final double monthlyRate;
+        private BigDecimal exactPrincipal;
+        private BigDecimal exactInstallment;
+        private BigDecimal exactMonthlyRate;
+
+        private Loan(double principal, double installment, double monthlyRate) {
+            this.principal = principal;
+            this.installment = installment;
+            this.monthlyRate = monthlyRate;
+        }
+
+        private long interest(int monthsPaid, long interestPaid) {
+            double balance = estimateBalance(monthsPaid, interestPaid);
+            double balanceError = balanceError(monthsPaid, interestPaid);
+            double error = Math.abs(monthlyRate) * (balanceError + 4 * UNIT_ROUNDOFF * Math.abs(balance));
+            long interest = round(balance * monthlyRate, error);
+            if (interest != UNDECIDED) {
+                return interest;
+            }
+            return cents(exactBalance(monthsPaid, interestPaid).multiply(exactMonthlyRate()));
+        }
+
+        private long principalPaid(long interest) {
+            double interestAmount = interest / 100.0;
+            double error = 4 * UNIT_ROUNDOFF * (Math.abs(installment) + Math.abs(interestAmount));
+            long principalPaid = round(installment - interestAmount, error);
+            if (principalPaid != UNDECIDED) {
+                return principalPaid;
+            }
+            return cents(exactInstallment().subtract(BigDecimal.valueOf(interest, 2)));
+        }
+
+        private long balance(int monthsPaid, long interestPaid) {
+            long balance = round(estimateBalance(monthsPaid, interestPaid), balanceError(monthsPaid, interestPaid));
+            if (balance != UNDECIDED) {
+                return balance;
+            }
+            return cents(exactBalance(monthsPaid, interestPaid));
+        }
+
+        private long lastPayment(int monthsPaid, long interestPaid, long interest) {
+            double balance = estimateBalance(monthsPaid, interestPaid);
+            double interestAmount = interest / 100.0;
+            double error = balanceError(monthsPaid, interestPaid)
+                    + 4 * UNIT_ROUNDOFF * (Math.abs(balance) + Math.abs(interestAmount));
+            long payment = round(balance + interestAmount, error);
+            if (payment != UNDECIDED) {
+                return payment;
+            }
+            return cents(exactBalance(monthsPaid, interestPaid).add(BigDecimal.valueOf(interest, 2)));
+        }
+
+        private double estimateBalance(int monthsPaid, long interestPaid) {
+            return principal - monthsPaid * installment + interestPaid / 100.0;
+        }
+
+        private double balanceError(int monthsPaid, long interestPaid) {
+            return 8 * UNIT_ROUNDOFF
+                    * (Math.abs(principal) + monthsPaid * Math.abs(installment) + Math.abs(interestPaid / 100.0));
+        }
+
+        private BigDecimal exactBalance(int monthsPaid, long interestPaid) {
+            if (exactPrincipal == null) {
+                exactPrincipal = BigDecimal.valueOf(principal);
+            }
+            return exactPrincipal
+                    .subtract(exactInstallment().multiply(BigDecimal.valueOf(monthsPaid)))
+                    .add(BigDecimal.valueOf(interestPaid, 2));
+        }
+
+        private BigDecimal exactInstallment() {
+            if (exactInstallment == null) {
+                exactInstallment = BigDecimal.valueOf(installment);
+            }
+            return exactInstallment;
+        }
+
+        private BigDecimal exactMonthlyRate() {
+            if (exactMonthlyRate == null) {
+                exactMonthlyRate = BigDecimal.valueOf(monthlyRate);
+            }
+            return exactMonthlyRate;
+        }
+    }
+}
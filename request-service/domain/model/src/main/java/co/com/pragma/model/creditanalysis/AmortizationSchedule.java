@@ -0,0 +1,114 @@
+package co.com.pragma.model.creditanalysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Month by month schedule of a French amortization, in cents and one primitive array per column. A schedule is
+ * refilled in place by {@link AmortizationEngine#amortize}, so a caller amortizing many loans reuses one instance and
+ * its arrays only grow when a longer term comes along. Months are 1-based, like {@link PaymentDetail#getMonth()}.
+ * Not thread safe.
+ */
+public class AmortizationSchedule {
+
+    private long[] payments;
+    private long[] principals;
+    private long[] interests;
+    private long[] remainingBalances;
+    private int term;
+
+    public AmortizationSchedule() {
+        this(0);
+    }
+
+    public AmortizationSchedule(int capacity) {
+        payments = new long[capacity];
+        principals = new long[capacity];
+        interests = new long[capacity];
+        remainingBalances = new long[capacity];
+    }
+
+    public int term() {
+        return term;
+    }
+
+    public long paymentCents(int month) {
+        return payments[index(month)];
+    }
+
+    public long principalCents(int month) {
+        return principals[index(month)];
+    }
+
+    public long interestCents(int month) {
+        return interests[index(month)];
+    }
+
+    public long remainingBalanceCents(int month) {
+        return remainingBalances[index(month)];
+    }
+
+    public long monthlyPaymentCents() {
+        return term == 0 ? 0 : payments[0];
+    }
+
+    public long totalInterestCents() {
+        return sum(interests);
+    }
+
+    public long totalPaymentCents() {
+        return sum(payments);
+    }
+
+    public List<PaymentDetail> toPaymentDetails() {
+        List<PaymentDetail> details = new ArrayList<>(term);
+        for (int i = 0; i < term; i++) {
+            details.add(PaymentDetail.builder()
+                    .month(i + 1)
+                    .payment(fromCents(payments[i]))
+                    .principal(fromCents(principals[i]))
+                    .interest(fromCents(interests[i]))
+                    .remainingBalance(fromCents(remainingBalances[i]))
+                    .build());
+        }
+        return details;
+    }
+
+    void reset(int term) {
+        if (term > payments.length) {
+            payments = Arrays.copyOf(payments, term);
+            principals = Arrays.copyOf(principals, term);
+            interests = Arrays.copyOf(interests, term);
+            remainingBalances = Arrays.copyOf(remainingBalances, term);
+        }
+        this.term = term;
+    }
+
+    void set(int month, long payment, long principal, long interest, long remainingBalance) {
+        payments[month - 1] = payment;
+        principals[month - 1] = principal;
+        interests[month - 1] = interest;
+        remainingBalances[month - 1] = remainingBalance;
+    }
+
+    // cents / 100.0 is the correctly rounded double of the amount, the same value BigDecimal.doubleValue() gives.
+    public static double fromCents(long cents) {
+        return cents / 100.0;
+    }
+
+    private int index(int month) {
+        if (month < 1 || month > term) {
+            throw new IndexOutOfBoundsException("Month " + month + " is outside a term of " + term);
+        }
+        return month - 1;
+    }
+
+    private long sum(long[] column) {
+        long total = 0;
+        for (int i = 0; i < term; i++) {
+            total += column[i];
+        }
+        return total;
+    }
+}
@@ -1,8 +1,8 @@
 package co.com.pragma.model.creditanalysis;
 
+import co.com.pragma.model.paymentplan.PaymentPlanSummary;
 import lombok.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -16,5 +16,8 @@ public class CreditAnalysisResponsePayload {
     private String status;
     private Double amount;
     private Integer term;
-    private List<PaymentDetail> paymentPlan;
+    // Claim-check: the schedule itself is stored once and fetched from paymentPlanPath, so the message stays the same
+    // size whatever the term.
+    private PaymentPlanSummary paymentPlanSummary;
+    private String paymentPlanPath;
 }
@@ -3,6 +3,9 @@ package co.com.pragma.model.creditanalysis.gateway;
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CreditAnalysisGateway {
     Mono<Void> requestAnalysis(CreditAnalysisPayload payload);
+    Mono<Void> requestAnalyses(List<CreditAnalysisPayload> payloads);
 }
@@ -0,0 +1,22 @@
+package co.com.pragma.model.debtledger;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DebtLedger {
+    private UUID idUser;
+    private Integer activeLoans;
+    private Double outstandingPrincipal;
+    private Double totalMonthlyInstallment;
+    private LocalDateTime updatedAt;
+}
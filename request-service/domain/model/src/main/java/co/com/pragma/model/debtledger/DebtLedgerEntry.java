@@ -0,0 +1,41 @@
+package co.com.pragma.model.debtledger;
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.creditanalysis.AmortizationEngine;
+import co.com.pragma.model.loantype.LoanType;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DebtLedgerEntry {
+    private UUID idApplication;
+    private UUID idUser;
+    private Double amount;
+    private Integer term;
+    private Double interestRate;
+    private Double monthlyInstallment;
+
+    public static DebtLedgerEntry of(Application application, LoanType loanType) {
+        return DebtLedgerEntry.builder()
+                .idApplication(application.getId())
+                .idUser(application.getIdUser())
+                .amount(application.getAmount())
+                .term(application.getTerm())
+                .interestRate(loanType.getInterestRate())
+                .monthlyInstallment(calculateMonthlyInstallment(
+                        application.getAmount(), loanType.getInterestRate(), application.getTerm()))
+                .build();
+    }
+
+    public static double calculateMonthlyInstallment(double principal, double annualInterestRate, int termInMonths) {
+        return AmortizationEngine.monthlyInstallment(principal, annualInterestRate, termInMonths);
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.pragma.model.debtledger.gateways;
+
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DebtLedgerRepository {
+    Mono<Void> recordApproval(DebtLedgerEntry entry);
+    Mono<Void> recordApprovals(List<DebtLedgerEntry> entries);
+    Mono<Void> recordRelease(UUID idApplication);
+    Mono<Void> recordReleases(List<UUID> idApplications);
+    Flux<DebtLedger> findByIdUserIn(List<UUID> userIds);
+    Flux<DebtLedgerEntry> findEntriesByIdUser(UUID idUser);
+    Flux<DebtLedgerEntry> findEntriesByIdUserIn(List<UUID> userIds);
+}
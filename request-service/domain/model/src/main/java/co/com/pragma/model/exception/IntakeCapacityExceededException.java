@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class IntakeCapacityExceededException extends RuntimeException {
+    public IntakeCapacityExceededException(String message) {
+        super(message);
+    }
+}
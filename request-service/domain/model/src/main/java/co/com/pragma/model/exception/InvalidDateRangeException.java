@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidPaginationException extends RuntimeException {
+    public InvalidPaginationException(String message) {
+        super(message);
+    }
+}
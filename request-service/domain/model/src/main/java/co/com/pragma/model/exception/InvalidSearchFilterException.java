@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidSearchFilterException extends RuntimeException {
+    public InvalidSearchFilterException(String message) {
+        super(message);
+    }
+}
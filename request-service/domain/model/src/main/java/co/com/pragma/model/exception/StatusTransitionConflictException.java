@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class StatusTransitionConflictException extends RuntimeException {
+    public StatusTransitionConflictException(String message) {
+        super(message);
+    }
+}
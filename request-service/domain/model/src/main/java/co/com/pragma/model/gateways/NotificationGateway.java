@@ -4,7 +4,10 @@ import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface NotificationGateway {
     Mono<Void> sendDecisionNotification(Application application, String status);
+    Mono<Void> sendDecisionNotifications(List<Application> applications, String status);
     Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload creditAnalysisResponsePayload);
 }
@@ -0,0 +1,29 @@
+package co.com.pragma.model.idempotency;
+
+import co.com.pragma.model.application.Application;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class IdempotencyRecord {
+    private String scope;
+    private String key;
+    private String fingerprint;
+    private UUID idApplication;
+    private Application response;
+    private Instant expiresAt;
+
+    public boolean isCompleted() {
+        return idApplication != null;
+    }
+}
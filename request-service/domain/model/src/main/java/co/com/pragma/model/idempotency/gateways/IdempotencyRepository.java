@@ -0,0 +1,11 @@
+package co.com.pragma.model.idempotency.gateways;
+
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyRepository {
+    Mono<IdempotencyRecord> find(String scope, String key);
+    Mono<Boolean> reserve(IdempotencyRecord record);
+    Mono<Boolean> complete(IdempotencyRecord record);
+    Mono<Void> release(IdempotencyRecord record);
+}
@@ -0,0 +1,28 @@
+package co.com.pragma.model.intake;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationIntake {
+    private UUID id;
+    private String idDocument;
+    private Double amount;
+    private Integer term;
+    private UUID idLoanType;
+    private IntakeStatus status;
+    private UUID idApplication;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
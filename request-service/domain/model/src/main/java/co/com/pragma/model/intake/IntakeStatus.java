@@ -0,0 +1,8 @@
+package co.com.pragma.model.intake;
+
+public enum IntakeStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,14 @@
+package co.com.pragma.model.intake.gateways;
+
+import co.com.pragma.model.intake.ApplicationIntake;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ApplicationIntakeRepository {
+    Mono<ApplicationIntake> save(ApplicationIntake intake);
+    Mono<ApplicationIntake> findById(UUID id);
+    Mono<Boolean> markProcessing(UUID id);
+    Mono<Void> markCompleted(UUID id, UUID idApplication);
+    Mono<Void> markFailed(UUID id, String error);
+}
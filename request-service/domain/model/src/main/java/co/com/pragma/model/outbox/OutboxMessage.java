@@ -0,0 +1,22 @@
+package co.com.pragma.model.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OutboxMessage {
+    private Long id;
+    private String queue;
+    private String body;
+    private Map<String, String> attributes;
+    private Integer attempts;
+}
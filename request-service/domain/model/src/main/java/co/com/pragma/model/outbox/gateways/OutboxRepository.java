@@ -0,0 +1,21 @@
+package co.com.pragma.model.outbox.gateways;
+
+import co.com.pragma.model.outbox.OutboxMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxRepository {
+    Mono<Void> enqueue(OutboxMessage message);
+    Mono<Void> enqueueAll(List<OutboxMessage> messages);
+    Flux<OutboxMessage> claimBatch(int batchSize, Duration lease);
+    Mono<Void> markSent(List<Long> ids);
+    Mono<Void> markFailed(Long id, String error, Duration retryAfter);
+    Mono<Void> markDead(Long id, String error);
+    Mono<Map<String, Long>> countDead();
+    Mono<Long> replayDead(String queue);
+    Mono<Long> purgeDead(String queue);
+}
@@ -0,0 +1,13 @@
+package co.com.pragma.model.pagination;
+
+/**
+ * How the total number of elements of a page is obtained.
+ * EXACT runs a count per request, ESTIMATED takes the planner's row estimate when
+ * only statuses are filtered and counts exactly otherwise, and NONE skips it
+ * (totals are reported as -1).
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
@@ -12,7 +12,9 @@ public class CustomPage<T> {
     private int currentPage;
     private int totalPages;
     private long totalElements;
+    private boolean totalEstimated;
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor;
 }
@@ -10,4 +10,7 @@ public class CustomPageable {
     private int size;
     private String sortBy;
     private String sortDirection;
+    private String cursor;
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
 }
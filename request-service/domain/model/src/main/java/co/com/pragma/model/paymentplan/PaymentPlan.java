@@ -0,0 +1,44 @@
+package co.com.pragma.model.paymentplan;
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PaymentPlan {
+    private UUID idApplication;
+    private UUID idUser;
+    private PaymentPlanSummary summary;
+    private List<PaymentDetail> payments;
+
+    // Totals are added up in cents, the precision every payment is rounded to, so they carry no floating point error.
+    public static PaymentPlan of(Application application, List<PaymentDetail> payments) {
+        long totalInterest = payments.stream().mapToLong(payment -> toCents(payment.getInterest())).sum();
+        long totalPayment = payments.stream().mapToLong(payment -> toCents(payment.getPayment())).sum();
+        return PaymentPlan.builder()
+                .idApplication(application.getId())
+                .idUser(application.getIdUser())
+                .summary(PaymentPlanSummary.builder()
+                        .term(payments.size())
+                        .monthlyPayment(payments.isEmpty() ? 0.0 : payments.getFirst().getPayment())
+                        .totalInterest(totalInterest / 100.0)
+                        .totalPayment(totalPayment / 100.0)
+                        .build())
+                .payments(payments)
+                .build();
+    }
+
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.pragma.model.paymentplan;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PaymentPlanSummary {
+    private Integer term;
+    private Double monthlyPayment;
+    private Double totalInterest;
+    private Double totalPayment;
+}
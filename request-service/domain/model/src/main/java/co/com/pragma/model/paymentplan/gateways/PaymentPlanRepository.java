@@ -0,0 +1,14 @@
+package co.com.pragma.model.paymentplan.gateways;
+
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentPlanRepository {
+    Mono<Void> save(PaymentPlan paymentPlan);
+    Mono<PaymentPlan> findByIdApplication(UUID idApplication);
+    Mono<Void> deleteByIdApplication(UUID idApplication);
+    Mono<Void> deleteByIdApplicationIn(List<UUID> idApplications);
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.model.portfolio;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApprovedLoan {
+    private double amount;
+    private double annualInterestRate;
+    private int term;
+    private LocalDateTime approvedAt;
+}
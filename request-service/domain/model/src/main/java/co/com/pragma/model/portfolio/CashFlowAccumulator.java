@@ -0,0 +1,78 @@
+package co.com.pragma.model.portfolio;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Running totals of a projection: principal and interest per horizon month and the number of loans that pay at
+ * least one installment inside the horizon. Not thread-safe; each fork-join leaf fills its own and they are merged.
+ */
+public final class CashFlowAccumulator {
+
+    private final double[] principal;
+    private final double[] interest;
+    private long loanCount;
+
+    public CashFlowAccumulator(int months) {
+        this.principal = new double[months];
+        this.interest = new double[months];
+    }
+
+    public int months() {
+        return principal.length;
+    }
+
+    public long loanCount() {
+        return loanCount;
+    }
+
+    void add(int month, double principalPart, double interestPart) {
+        principal[month] += principalPart;
+        interest[month] += interestPart;
+    }
+
+    void countLoan() {
+        loanCount++;
+    }
+
+    /**
+     * Adds {@code other} into this accumulator and returns this one.
+     */
+    public CashFlowAccumulator merge(CashFlowAccumulator other) {
+        for (int month = 0; month < principal.length; month++) {
+            principal[month] += other.principal[month];
+            interest[month] += other.interest[month];
+        }
+        loanCount += other.loanCount;
+        return this;
+    }
+
+    public PortfolioCashFlowProjection toProjection(YearMonth from) {
+        List<MonthlyCashFlow> cashFlows = new ArrayList<>(principal.length);
+        double totalPrincipal = 0;
+        double totalInterest = 0;
+        for (int month = 0; month < principal.length; month++) {
+            totalPrincipal += principal[month];
+            totalInterest += interest[month];
+            cashFlows.add(MonthlyCashFlow.builder()
+                    .month(from.plusMonths(month))
+                    .principal(cents(principal[month]))
+                    .interest(cents(interest[month]))
+                    .total(cents(principal[month] + interest[month]))
+                    .build());
+        }
+        return PortfolioCashFlowProjection.builder()
+                .from(from)
+                .months(principal.length)
+                .loanCount(loanCount)
+                .totalPrincipal(cents(totalPrincipal))
+                .totalInterest(cents(totalInterest))
+                .cashFlows(cashFlows)
+                .build();
+    }
+
+    private static double cents(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
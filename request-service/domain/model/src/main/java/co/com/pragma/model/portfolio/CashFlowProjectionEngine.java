@@ -0,0 +1,107 @@
+package co.com.pragma.model.portfolio;
+
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Expected principal and interest collected per month from a book of approved loans. Every loan follows the same
+ * French amortization as {@link co.com.pragma.model.creditanalysis.PaymentPlanGenerator}, in {@code double} and
+ * without per-installment rounding, and pays its first installment the month after its approval. A loan that started
+ * paying before the horizon jumps straight to its balance at the horizon with the closed-form amortization formula,
+ * so only installments inside the horizon are iterated.
+ * <p>
+ * Each chunk of loans is split across a fork-join pool down to {@value #LEAF_SIZE} loans; every leaf sums into its
+ * own month arrays and the arrays are merged on the way back up.
+ */
+public class CashFlowProjectionEngine {
+
+    static final int LEAF_SIZE = 2_048;
+
+    private final ForkJoinPool pool;
+
+    public CashFlowProjectionEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CashFlowProjectionEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Projects {@code loans} over the {@code months} starting at {@code from}, blocking until every partition is done.
+     */
+    public CashFlowAccumulator project(List<ApprovedLoan> loans, YearMonth from, int months) {
+        LoanBatch batch = LoanBatch.of(loans, from);
+        return pool.invoke(new ProjectionTask(batch, 0, batch.size(), months));
+    }
+
+    static void projectRange(LoanBatch batch, int start, int end, CashFlowAccumulator accumulator) {
+        int months = accumulator.months();
+        for (int i = start; i < end; i++) {
+            double amount = batch.amount[i];
+            int term = batch.term[i];
+            int first = batch.firstPaymentIndex[i];
+            // Installment k (1-based) lands in horizon month first + k - 1.
+            int firstInstallment = Math.max(1, 1 - first);
+            int lastInstallment = Math.min(term, months - first);
+            if (amount <= 0 || firstInstallment > lastInstallment) {
+                continue;
+            }
+            double annualRate = batch.annualInterestRate[i];
+            double monthlyRate = annualRate > 0 ? annualRate / 100 / 12 : 0;
+            double installment = DebtLedgerEntry.calculateMonthlyInstallment(amount, annualRate, term);
+            double balance = balanceAfter(amount, monthlyRate, installment, firstInstallment - 1);
+            for (int k = firstInstallment; k <= lastInstallment; k++) {
+                double interest = balance * monthlyRate;
+                double principal = k == term ? balance : installment - interest;
+                accumulator.add(first + k - 1, principal, interest);
+                balance -= principal;
+            }
+            accumulator.countLoan();
+        }
+    }
+
+    static double balanceAfter(double amount, double monthlyRate, double installment, int paid) {
+        if (paid == 0) {
+            return amount;
+        }
+        if (monthlyRate == 0) {
+            return amount - installment * paid;
+        }
+        double growth = Math.pow(1 + monthlyRate, paid);
+        return amount * growth - installment * (growth - 1) / monthlyRate;
+    }
+
+    private static final class ProjectionTask extends RecursiveTask<CashFlowAccumulator> {
+
+        private final LoanBatch batch;
+        private final int start;
+        private final int end;
+        private final int months;
+
+        private ProjectionTask(LoanBatch batch, int start, int end, int months) {
+            this.batch = batch;
+            this.start = start;
+            this.end = end;
+            this.months = months;
+        }
+
+        @Override
+        protected CashFlowAccumulator compute() {
+            if (end - start <= LEAF_SIZE) {
+                CashFlowAccumulator accumulator = new CashFlowAccumulator(months);
+                projectRange(batch, start, end, accumulator);
+                return accumulator;
+            }
+            int middle = (start + end) >>> 1;
+            ProjectionTask left = new ProjectionTask(batch, start, middle, months);
+            left.fork();
+            CashFlowAccumulator right = new ProjectionTask(batch, middle, end, months).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package co.com.pragma.model.portfolio;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * A chunk of loans copied into parallel primitive arrays, so the projection loop reads contiguous memory instead
+ * of chasing one object per loan.
+ */
+final class LoanBatch {
+
+    final double[] amount;
+    final double[] annualInterestRate;
+    final int[] term;
+    final int[] firstPaymentIndex;
+
+    private LoanBatch(int size) {
+        this.amount = new double[size];
+        this.annualInterestRate = new double[size];
+        this.term = new int[size];
+        this.firstPaymentIndex = new int[size];
+    }
+
+    /**
+     * {@code firstPaymentIndex} is the horizon month of each loan's first installment, due the month after its
+     * approval; it is negative for loans that started paying before {@code from}.
+     */
+    static LoanBatch of(List<ApprovedLoan> loans, YearMonth from) {
+        LoanBatch batch = new LoanBatch(loans.size());
+        long fromIndex = monthIndex(from);
+        for (int i = 0; i < loans.size(); i++) {
+            ApprovedLoan loan = loans.get(i);
+            batch.amount[i] = loan.getAmount();
+            batch.annualInterestRate[i] = loan.getAnnualInterestRate();
+            if (loan.getApprovedAt() == null) {
+                continue;
+            }
+            batch.term[i] = loan.getTerm();
+            long firstPayment = monthIndex(YearMonth.from(loan.getApprovedAt())) + 1;
+            batch.firstPaymentIndex[i] = (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2,
+                    firstPayment - fromIndex));
+        }
+        return batch;
+    }
+
+    int size() {
+        return amount.length;
+    }
+
+    private static long monthIndex(YearMonth month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+}
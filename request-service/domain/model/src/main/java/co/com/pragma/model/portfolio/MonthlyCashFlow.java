@@ -0,0 +1,21 @@
+package co.com.pragma.model.portfolio;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.YearMonth;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class MonthlyCashFlow {
+    private YearMonth month;
+    private Double principal;
+    private Double interest;
+    private Double total;
+}
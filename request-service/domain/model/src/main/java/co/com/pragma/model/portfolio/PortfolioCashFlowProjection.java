@@ -0,0 +1,24 @@
+package co.com.pragma.model.portfolio;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PortfolioCashFlowProjection {
+    private YearMonth from;
+    private Integer months;
+    private Long loanCount;
+    private Double totalPrincipal;
+    private Double totalInterest;
+    private List<MonthlyCashFlow> cashFlows;
+}
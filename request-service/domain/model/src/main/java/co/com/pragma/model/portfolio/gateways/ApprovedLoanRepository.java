@@ -0,0 +1,10 @@
+package co.com.pragma.model.portfolio.gateways;
+
+import co.com.pragma.model.portfolio.ApprovedLoan;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface ApprovedLoanRepository {
+    Flux<ApprovedLoan> streamApproved(UUID approvedStatusId);
+}
@@ -0,0 +1,42 @@
+package co.com.pragma.model.quote;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LoanQuote {
+    private long index;
+    private UUID idLoanType;
+    private double amount;
+    private int term;
+    private Double interestRate;
+    private Double monthlyPayment;
+    private Double totalInterest;
+    private Double totalPayment;
+    private List<PaymentDetail> payments;
+    private String error;
+
+    public static LoanQuote rejected(long index, UUID idLoanType, double amount, int term, String error) {
+        return LoanQuote.builder()
+                .index(index)
+                .idLoanType(idLoanType)
+                .amount(amount)
+                .term(term)
+                .error(error)
+                .build();
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,41 @@
+package co.com.pragma.model.quote;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Every amount with every term under every loan type. Scenario {@code index} is numbered loan type first, then
+ * amount, then term, so the quotes of one loan type come out together.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LoanQuoteGrid {
+    private List<Double> amounts;
+    private List<Integer> terms;
+    private List<UUID> idLoanTypes;
+    private boolean includeSchedule;
+
+    public long size() {
+        return (long) amounts.size() * terms.size() * idLoanTypes.size();
+    }
+
+    public UUID idLoanTypeAt(long index) {
+        return idLoanTypes.get((int) (index / ((long) amounts.size() * terms.size())));
+    }
+
+    public double amountAt(long index) {
+        return amounts.get((int) (index / terms.size() % amounts.size()));
+    }
+
+    public int termAt(long index) {
+        return terms.get((int) (index % terms.size()));
+    }
+}
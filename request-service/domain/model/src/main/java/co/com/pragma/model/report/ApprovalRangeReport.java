@@ -0,0 +1,22 @@
+package co.com.pragma.model.report;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApprovalRangeReport {
+    private LocalDate from;
+    private LocalDate to;
+    private Long approvedLoansCount;
+    private Double totalLoanAmount;
+    private List<DailyApprovalRollup> days;
+}
@@ -0,0 +1,34 @@
+package co.com.pragma.model.report;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DailyApprovalRollup {
+    public static final LocalTime CUT_OFF_TIME = LocalTime.of(3, 0);
+
+    private LocalDate businessDate;
+    private UUID idLoanType;
+    private Long approvedCount;
+    private Double totalAmount;
+
+    /**
+     * Business day an approval belongs to: approvals before the 03:00 cut-off count towards the previous day.
+     */
+    public static LocalDate businessDateOf(LocalDateTime approvedAt) {
+        return approvedAt.minusHours(CUT_OFF_TIME.getHour())
+                .minusMinutes(CUT_OFF_TIME.getMinute())
+                .toLocalDate();
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.pragma.model.report.gateways;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.model.report.DailyReport;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyApprovalRollupRepository {
+    Mono<Void> recordApproval(Application application);
+    Mono<Void> recordApprovals(List<Application> applications);
+    Mono<Void> retractApproval(Application previous);
+    Mono<Void> retractApprovals(List<Application> previous);
+    Mono<DailyReport> summarize(LocalDate from, LocalDate to);
+    Flux<DailyApprovalRollup> findByBusinessDateBetween(LocalDate from, LocalDate to);
+}
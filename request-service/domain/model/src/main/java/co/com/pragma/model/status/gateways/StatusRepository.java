@@ -9,6 +9,7 @@ import java.util.UUID;
 
 public interface StatusRepository {
     Mono<Status> findById(UUID id);
+    Flux<Status> findByIds(List<UUID> ids);
     Mono<Status> findByName(String name);
     Mono<Status> findByNameIgnoreCase(String name);
     Flux<Status> findByNames(List<String> names);
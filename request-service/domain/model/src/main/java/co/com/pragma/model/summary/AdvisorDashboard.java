@@ -0,0 +1,20 @@
+package co.com.pragma.model.summary;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class AdvisorDashboard {
+    private Long totalApplications;
+    private Double totalAmount;
+    private List<DashboardEntry> byStatus;
+    private List<DashboardEntry> byLoanType;
+}
@@ -0,0 +1,20 @@
+package co.com.pragma.model.summary;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DashboardEntry {
+    private UUID id;
+    private String name;
+    private Long applicationCount;
+    private Double totalAmount;
+}
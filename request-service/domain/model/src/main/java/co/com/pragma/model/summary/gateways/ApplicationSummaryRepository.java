@@ -0,0 +1,15 @@
+package co.com.pragma.model.summary.gateways;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.summary.ApplicationSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ApplicationSummaryRepository {
+    Mono<Void> recordRegistrations(List<Application> applications);
+    Mono<Void> recordTransitions(List<TransitionedApplication> transitions);
+    Flux<ApplicationSummary> findAll();
+}
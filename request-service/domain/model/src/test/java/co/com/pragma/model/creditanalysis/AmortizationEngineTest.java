@@ -0,0 +1,164 @@
+package co.com.pragma.model.creditanalysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AmortizationEngineTest {
+
+    private static final double[] RATES = {0, -5, 1.5, 6, 12, 18.99, 24, 36};
+
+    @Test
+    @DisplayName("Should produce bit for bit the schedule of the BigDecimal generator for random loans")
+    void shouldMatchBigDecimalGenerator() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            double amount = switch (i % 3) {
+                case 0 -> 1 + random.nextInt(5_000_000);
+                case 1 -> Math.round(random.nextDouble() * 100_000_000) / 100.0;
+                default -> random.nextDouble() * 1_000;
+            };
+            double rate = i % 2 == 0 ? RATES[random.nextInt(RATES.length)] : Math.round(random.nextDouble() * 4_000) / 100.0;
+            int term = 1 + random.nextInt(360);
+
+            assertSameSchedule(amount, rate, term);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal generator on amounts whose interest lands on half a cent")
+    void shouldMatchBigDecimalGeneratorOnHalfCentInterest() {
+        for (int amount = 1; amount <= 2_000; amount++) {
+            assertSameSchedule(amount, 6, 1 + amount % 24);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round half a cent of interest up")
+    void shouldRoundHalfCentUp() {
+        AmortizationSchedule schedule = AmortizationEngine.amortize(1001, 6, 1);
+
+        assertEquals(501, schedule.interestCents(1));
+        assertEquals(100100, schedule.principalCents(1));
+        assertEquals(100601, schedule.paymentCents(1));
+        assertEquals(0, schedule.remainingBalanceCents(1));
+    }
+
+    @Test
+    @DisplayName("Should refill a reused schedule with the plan of the next loan")
+    void shouldReuseSchedule() {
+        AmortizationSchedule schedule = new AmortizationSchedule();
+
+        AmortizationEngine.amortize(50_000, 12, 48, schedule);
+        AmortizationEngine.amortize(1_000, 12, 12, schedule);
+
+        AmortizationSchedule fresh = AmortizationEngine.amortize(1_000, 12, 12);
+        assertEquals(12, schedule.term());
+        assertEquals(8885, schedule.monthlyPaymentCents());
+        assertEquals(fresh.totalInterestCents(), schedule.totalInterestCents());
+        assertEquals(fresh.totalPaymentCents(), schedule.totalPaymentCents());
+        assertEquals(fresh.remainingBalanceCents(11), schedule.remainingBalanceCents(11));
+        assertThatThrownBy(() -> schedule.paymentCents(13)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave the schedule empty for a term without months")
+    void shouldReturnEmptyScheduleForTermWithoutMonths() {
+        AmortizationSchedule schedule = AmortizationEngine.amortize(1_000, 10, 0);
+
+        assertEquals(0, schedule.term());
+        assertEquals(0, schedule.monthlyPaymentCents());
+        assertThat(schedule.toPaymentDetails()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should compute the installment with the same edge cases for every caller")
+    void shouldComputeMonthlyInstallment() {
+        assertThat(AmortizationEngine.monthlyInstallment(10_000, 12, 12)).isBetween(888.48, 888.49);
+        assertEquals(1_000.0, AmortizationEngine.monthlyInstallment(12_000, 0, 12));
+        assertEquals(100.0, AmortizationEngine.monthlyInstallment(600, -5, 6));
+        assertEquals(1_000.0, AmortizationEngine.monthlyInstallment(1_000, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject a loan without a finite installment")
+    void shouldRejectNonFiniteLoan() {
+        assertThatThrownBy(() -> AmortizationEngine.amortize(Double.NaN, 12, 12))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AmortizationEngine.amortize(1_000, 1e-20, 12))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSameSchedule(double amount, double rate, int term) {
+        List<PaymentDetail> expected = legacyGenerate(amount, rate, term);
+        List<PaymentDetail> actual = AmortizationEngine.amortize(amount, rate, term).toPaymentDetails();
+
+        String loan = amount + " at " + rate + "% over " + term + " months, month ";
+        assertEquals(expected.size(), actual.size(), loan);
+        for (int i = 0; i < expected.size(); i++) {
+            PaymentDetail want = expected.get(i);
+            PaymentDetail got = actual.get(i);
+            assertEquals(want.getMonth(), got.getMonth(), loan + (i + 1));
+            assertBits(want.getPayment(), got.getPayment(), loan + (i + 1) + " payment");
+            assertBits(want.getPrincipal(), got.getPrincipal(), loan + (i + 1) + " principal");
+            assertBits(want.getInterest(), got.getInterest(), loan + (i + 1) + " interest");
+            assertBits(want.getRemainingBalance(), got.getRemainingBalance(), loan + (i + 1) + " remaining balance");
+        }
+    }
+
+    private static void assertBits(double expected, double actual, String message) {
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual),
+                () -> message + ": expected " + expected + " but was " + actual);
+    }
+
+    // PaymentPlanGenerator as it was before the engine, carrying the balance in BigDecimal.
+    private static List<PaymentDetail> legacyGenerate(double principal, double annualInterestRate, int termInMonths) {
+        double installment;
+        if (annualInterestRate <= 0) {
+            installment = principal / termInMonths;
+        } else {
+            double rate = annualInterestRate / 12 / 100;
+            double numerator = rate * Math.pow(1 + rate, termInMonths);
+            double denominator = Math.pow(1 + rate, termInMonths) - 1;
+            installment = principal * (numerator / denominator);
+        }
+        BigDecimal monthlyPayment = BigDecimal.valueOf(installment);
+        BigDecimal balance = BigDecimal.valueOf(principal);
+        BigDecimal monthlyRate = BigDecimal.valueOf(annualInterestRate / 12 / 100);
+        List<PaymentDetail> payments = new ArrayList<>();
+
+        for (int month = 1; month <= termInMonths; month++) {
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principalPayment;
+            BigDecimal currentPayment;
+
+            if (month == termInMonths) {
+                principalPayment = balance;
+                currentPayment = principalPayment.add(interest);
+                balance = BigDecimal.ZERO;
+            } else {
+                principalPayment = monthlyPayment.subtract(interest);
+                currentPayment = monthlyPayment;
+                balance = balance.subtract(principalPayment);
+            }
+
+            payments.add(PaymentDetail.builder()
+                    .month(month)
+                    .payment(currentPayment.setScale(2, RoundingMode.HALF_UP).doubleValue())
+                    .principal(principalPayment.setScale(2, RoundingMode.HALF_UP).doubleValue())
+                    .interest(interest.doubleValue())
+                    .remainingBalance(balance.setScale(2, RoundingMode.HALF_UP).doubleValue())
+                    .build());
+        }
+        return payments;
+    }
+}
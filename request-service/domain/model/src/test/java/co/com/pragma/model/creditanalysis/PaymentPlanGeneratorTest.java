@@ -62,4 +62,9 @@ class PaymentPlanGeneratorTest {
             assertThat(p.getRemainingBalance()).isGreaterThanOrEqualTo(0.00);
         });
     }
+
+    @Test
+    void shouldGenerateEmptyPlanWhenTermHasNoMonths() {
+        assertThat(generator.generate(1000, 10, 0)).isEmpty();
+    }
 }
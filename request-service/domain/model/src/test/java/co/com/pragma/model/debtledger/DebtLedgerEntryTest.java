@@ -0,0 +1,54 @@
+package co.com.pragma.model.debtledger;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.loantype.LoanType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.within;
+
+class DebtLedgerEntryTest {
+
+    @Test
+    void shouldCalculateMonthlyInstallmentWithInterest() {
+        double installment = DebtLedgerEntry.calculateMonthlyInstallment(10000, 12, 12);
+
+        assertThat(installment).isCloseTo(888.49, within(0.01));
+    }
+
+    @Test
+    void shouldCalculateMonthlyInstallmentWithZeroInterest() {
+        double installment = DebtLedgerEntry.calculateMonthlyInstallment(12000, 0, 12);
+
+        assertThat(installment).isEqualTo(1000.0);
+    }
+
+    @Test
+    void shouldCalculateMonthlyInstallmentWhenTermIsZero() {
+        double installment = DebtLedgerEntry.calculateMonthlyInstallment(1000, 10, 0);
+
+        assertThat(installment).isEqualTo(1000.0);
+    }
+
+    @Test
+    void shouldBuildEntryFromApprovedApplication() {
+        Application application = Application.builder()
+                .id(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .amount(6000.0)
+                .term(6)
+                .build();
+        LoanType loanType = LoanType.builder().id(UUID.randomUUID()).interestRate(0.0).build();
+
+        DebtLedgerEntry entry = DebtLedgerEntry.of(application, loanType);
+
+        assertThat(entry.getIdApplication()).isEqualTo(application.getId());
+        assertThat(entry.getIdUser()).isEqualTo(application.getIdUser());
+        assertThat(entry.getAmount()).isEqualTo(6000.0);
+        assertThat(entry.getTerm()).isEqualTo(6);
+        assertThat(entry.getInterestRate()).isEqualTo(0.0);
+        assertThat(entry.getMonthlyInstallment()).isEqualTo(1000.0);
+    }
+}
@@ -0,0 +1,56 @@
+package co.com.pragma.model.paymentplan;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentPlanTest {
+
+    private final PaymentPlanGenerator generator = new PaymentPlanGenerator();
+
+    @Test
+    void shouldSummarizeThePlanInExactCents() {
+        Application application = Application.builder()
+                .id(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .build();
+        List<PaymentDetail> payments = generator.generate(10000, 12, 360);
+
+        PaymentPlan plan = PaymentPlan.of(application, payments);
+
+        BigDecimal totalInterest = payments.stream()
+                .map(payment -> BigDecimal.valueOf(payment.getInterest()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalPayment = payments.stream()
+                .map(payment -> BigDecimal.valueOf(payment.getPayment()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(plan.getIdApplication()).isEqualTo(application.getId());
+        assertThat(plan.getIdUser()).isEqualTo(application.getIdUser());
+        assertThat(plan.getSummary().getTerm()).isEqualTo(360);
+        assertThat(plan.getSummary().getMonthlyPayment()).isEqualTo(payments.getFirst().getPayment());
+        assertThat(BigDecimal.valueOf(plan.getSummary().getTotalInterest())).isEqualByComparingTo(totalInterest);
+        assertThat(BigDecimal.valueOf(plan.getSummary().getTotalPayment())).isEqualByComparingTo(totalPayment);
+    }
+
+    @Test
+    void shouldSummarizeAnEmptyPlanAsZero() {
+        PaymentPlan plan = PaymentPlan.of(Application.builder().id(UUID.randomUUID()).build(), List.of());
+
+        assertThat(plan.getSummary().getTerm()).isZero();
+        assertThat(plan.getSummary().getMonthlyPayment()).isZero();
+        assertThat(plan.getSummary().getTotalPayment()).isZero();
+    }
+
+    @Test
+    void shouldConvertRoundedAmountsToCents() {
+        assertThat(PaymentPlan.toCents(888.49)).isEqualTo(88849L);
+        assertThat(PaymentPlan.toCents(0.1 + 0.2)).isEqualTo(30L);
+    }
+}
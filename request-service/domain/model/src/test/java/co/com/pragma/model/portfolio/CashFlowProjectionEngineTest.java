@@ -0,0 +1,143 @@
+package co.com.pragma.model.portfolio;
+
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.within;
+
+class CashFlowProjectionEngineTest {
+
+    private static final YearMonth FROM = YearMonth.of(2025, 10);
+
+    private final CashFlowProjectionEngine engine = new CashFlowProjectionEngine();
+    private final PaymentPlanGenerator generator = new PaymentPlanGenerator();
+
+    private ApprovedLoan loan(double amount, double rate, int term, YearMonth approvedIn) {
+        return ApprovedLoan.builder()
+                .amount(amount)
+                .annualInterestRate(rate)
+                .term(term)
+                .approvedAt(approvedIn.atDay(15).atTime(10, 30))
+                .build();
+    }
+
+    @Test
+    void shouldMatchThePaymentPlanOfALoanApprovedLastMonth() {
+        PortfolioCashFlowProjection projection = engine.project(
+                List.of(loan(25000, 18, 24, FROM.minusMonths(1))), FROM, 24).toProjection(FROM);
+        List<PaymentDetail> plan = generator.generate(25000, 18, 24);
+
+        assertThat(projection.getLoanCount()).isEqualTo(1);
+        assertThat(projection.getCashFlows()).hasSize(24);
+        for (int month = 0; month < 24; month++) {
+            MonthlyCashFlow cashFlow = projection.getCashFlows().get(month);
+            assertThat(cashFlow.getMonth()).isEqualTo(FROM.plusMonths(month));
+            assertThat(cashFlow.getPrincipal()).isCloseTo(plan.get(month).getPrincipal(), within(0.05));
+            assertThat(cashFlow.getInterest()).isCloseTo(plan.get(month).getInterest(), within(0.05));
+        }
+        assertThat(projection.getTotalPrincipal()).isCloseTo(25000, within(0.01));
+    }
+
+    @Test
+    void shouldPickUpALoanMidScheduleAtItsRemainingBalance() {
+        // Approved seven months before the horizon: installments 1-6 are already paid, 7-12 fall in the horizon.
+        PortfolioCashFlowProjection projection = engine.project(
+                List.of(loan(12000, 24, 12, FROM.minusMonths(7))), FROM, 12).toProjection(FROM);
+        List<PaymentDetail> plan = generator.generate(12000, 24, 12);
+
+        for (int month = 0; month < 6; month++) {
+            MonthlyCashFlow cashFlow = projection.getCashFlows().get(month);
+            assertThat(cashFlow.getPrincipal()).isCloseTo(plan.get(month + 6).getPrincipal(), within(0.05));
+            assertThat(cashFlow.getInterest()).isCloseTo(plan.get(month + 6).getInterest(), within(0.05));
+        }
+        assertThat(projection.getCashFlows().subList(6, 12)).allSatisfy(cashFlow ->
+                assertThat(cashFlow.getTotal()).isZero());
+        assertThat(projection.getTotalPrincipal()).isCloseTo(plan.get(5).getRemainingBalance(), within(0.05));
+    }
+
+    @Test
+    void shouldCutALoanAtTheEndOfTheHorizon() {
+        PortfolioCashFlowProjection projection = engine.project(
+                List.of(loan(6000, 0, 60, FROM.minusMonths(1))), FROM, 3).toProjection(FROM);
+
+        assertThat(projection.getCashFlows()).hasSize(3).allSatisfy(cashFlow -> {
+            assertThat(cashFlow.getPrincipal()).isEqualTo(100.0);
+            assertThat(cashFlow.getInterest()).isZero();
+        });
+    }
+
+    @Test
+    void shouldIgnoreLoansWithoutInstallmentsInTheHorizon() {
+        PortfolioCashFlowProjection projection = engine.project(List.of(
+                loan(5000, 12, 6, FROM.minusMonths(12)),
+                loan(5000, 12, 6, FROM.plusMonths(12)),
+                ApprovedLoan.builder().amount(5000).annualInterestRate(12).term(6).build()), FROM, 12)
+                .toProjection(FROM);
+
+        assertThat(projection.getLoanCount()).isZero();
+        assertThat(projection.getTotalPrincipal()).isZero();
+        assertThat(projection.getTotalInterest()).isZero();
+    }
+
+    @Test
+    void shouldGiveTheSameTotalsWhateverTheParallelism() {
+        Random random = new Random(42);
+        List<ApprovedLoan> book = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            book.add(loan(1000 + random.nextInt(99_000), random.nextInt(40), 6 + random.nextInt(55),
+                    FROM.minusMonths(random.nextInt(60))));
+        }
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            CashFlowAccumulator sequential = new CashFlowAccumulator(36);
+            CashFlowProjectionEngine.projectRange(LoanBatch.of(book, FROM), 0, book.size(), sequential);
+            PortfolioCashFlowProjection expected = sequential.toProjection(FROM);
+            PortfolioCashFlowProjection forked = engine.project(book, FROM, 36).toProjection(FROM);
+            PortfolioCashFlowProjection singleThread = new CashFlowProjectionEngine(single)
+                    .project(book, FROM, 36).toProjection(FROM);
+
+            assertThat(forked.getLoanCount()).isEqualTo(expected.getLoanCount()).isPositive();
+            assertThat(singleThread.getLoanCount()).isEqualTo(expected.getLoanCount());
+            for (int month = 0; month < 36; month++) {
+                double total = expected.getCashFlows().get(month).getTotal();
+                assertThat(forked.getCashFlows().get(month).getTotal()).isCloseTo(total, within(0.05));
+                assertThat(singleThread.getCashFlows().get(month).getTotal()).isCloseTo(total, within(0.05));
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void shouldMergeAccumulatorsMonthByMonth() {
+        CashFlowAccumulator first = engine.project(List.of(loan(1200, 0, 12, FROM.minusMonths(1))), FROM, 12);
+        CashFlowAccumulator second = engine.project(List.of(loan(2400, 0, 12, FROM)), FROM, 12);
+
+        PortfolioCashFlowProjection merged = first.merge(second).toProjection(FROM);
+
+        assertThat(merged.getLoanCount()).isEqualTo(2);
+        assertThat(merged.getCashFlows().getFirst().getTotal()).isEqualTo(100.0);
+        assertThat(merged.getCashFlows().get(1).getTotal()).isEqualTo(300.0);
+        assertThat(merged.getTotalPrincipal()).isEqualTo(1200 + 2400 * 11 / 12.0);
+    }
+
+    @Test
+    void shouldStartPayingTheMonthAfterApproval() {
+        LocalDateTime lastDayOfMonth = FROM.minusMonths(1).atEndOfMonth().atTime(23, 59);
+        PortfolioCashFlowProjection projection = engine.project(List.of(ApprovedLoan.builder()
+                .amount(300).annualInterestRate(0).term(3).approvedAt(lastDayOfMonth).build()), FROM, 4)
+                .toProjection(FROM);
+
+        assertThat(projection.getCashFlows()).extracting(MonthlyCashFlow::getTotal)
+                .containsExactly(100.0, 100.0, 100.0, 0.0);
+    }
+}
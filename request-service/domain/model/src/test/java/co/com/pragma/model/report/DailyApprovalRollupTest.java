@@ -0,0 +1,23 @@
+package co.com.pragma.model.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DailyApprovalRollupTest {
+
+    @Test
+    @DisplayName("Should assign approvals before the cut-off to the previous business day")
+    void businessDateOfShouldApplyCutOff() {
+        LocalDate day = LocalDate.of(2025, 9, 10);
+
+        assertEquals(day.minusDays(1), DailyApprovalRollup.businessDateOf(day.atTime(2, 59, 59)));
+        assertEquals(day, DailyApprovalRollup.businessDateOf(day.atTime(3, 0)));
+        assertEquals(day, DailyApprovalRollup.businessDateOf(day.atTime(23, 59)));
+        assertEquals(day, DailyApprovalRollup.businessDateOf(LocalDateTime.of(2025, 9, 11, 2, 0)));
+    }
+}
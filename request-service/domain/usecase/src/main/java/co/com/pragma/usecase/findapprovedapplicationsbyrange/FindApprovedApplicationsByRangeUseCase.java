@@ -0,0 +1,58 @@
+package co.com.pragma.usecase.findapprovedapplicationsbyrange;
+
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.report.ApprovalRangeReport;
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FindApprovedApplicationsByRangeUseCase {
+
+    private final DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    private final CustomLogger logger;
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    /**
+     * Resume las aprobaciones entre dos días hábiles (ambos inclusive) a partir del rollup diario,
+     * devolviendo además el detalle por día y tipo de préstamo.
+     */
+    public Mono<ApprovalRangeReport> findApprovedApplicationsByRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            return Mono.error(new InvalidDateRangeException("from and to are required and from must not be after to"));
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            return Mono.error(new InvalidDateRangeException("Date range must not exceed " + MAX_RANGE_DAYS + " days"));
+        }
+        logger.trace("Finding approved applications between {} and {}", from, to);
+
+        return dailyApprovalRollupRepository.findByBusinessDateBetween(from, to)
+                .collectList()
+                .map(days -> toReport(from, to, days));
+    }
+
+    private ApprovalRangeReport toReport(LocalDate from, LocalDate to, List<DailyApprovalRollup> days) {
+        long count = days.stream().mapToLong(DailyApprovalRollup::getApprovedCount).sum();
+        BigDecimal total = days.stream()
+                .map(day -> BigDecimal.valueOf(day.getTotalAmount()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        return ApprovalRangeReport.builder()
+                .from(from)
+                .to(to)
+                .approvedLoansCount(count)
+                .totalLoanAmount(total.doubleValue())
+                .days(days)
+                .build();
+    }
+}
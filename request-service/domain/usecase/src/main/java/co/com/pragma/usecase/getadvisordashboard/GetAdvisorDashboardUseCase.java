@@ -0,0 +1,74 @@
+package co.com.pragma.usecase.getadvisordashboard;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.AdvisorDashboard;
+import co.com.pragma.model.summary.ApplicationSummary;
+import co.com.pragma.model.summary.DashboardEntry;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class GetAdvisorDashboardUseCase {
+
+    private final ApplicationSummaryRepository applicationSummaryRepository;
+    private final StatusRepository statusRepository;
+    private final LoanTypeRepository loanTypeRepository;
+    private final CustomLogger logger;
+
+    /**
+     * Resume la cantidad y el monto de las solicitudes por estado y por tipo de préstamo. Se lee de los contadores
+     * que mantienen el registro y las transiciones, así que el costo depende solo del número de estados y tipos de
+     * préstamo, no del número de solicitudes.
+     */
+    public Mono<AdvisorDashboard> getDashboard() {
+        logger.trace("Building advisor dashboard from application counters");
+
+        return applicationSummaryRepository.findAll()
+                .collectList()
+                .flatMap(rows -> Mono.zip(
+                                statusRepository.findByIds(distinct(rows, ApplicationSummary::getIdStatus))
+                                        .collectMap(Status::getId, Status::getName),
+                                loanTypeRepository.findByIds(distinct(rows, ApplicationSummary::getIdLoanType))
+                                        .collectMap(LoanType::getId, LoanType::getName))
+                        .map(names -> AdvisorDashboard.builder()
+                                .totalApplications(rows.stream().mapToLong(ApplicationSummary::getApplicationCount).sum())
+                                .totalAmount(rows.stream().mapToDouble(ApplicationSummary::getTotalAmount).sum())
+                                .byStatus(entries(rows, ApplicationSummary::getIdStatus, names.getT1()))
+                                .byLoanType(entries(rows, ApplicationSummary::getIdLoanType, names.getT2()))
+                                .build()));
+    }
+
+    private List<UUID> distinct(List<ApplicationSummary> rows, Function<ApplicationSummary, UUID> key) {
+        return rows.stream().map(key).distinct().toList();
+    }
+
+    private List<DashboardEntry> entries(List<ApplicationSummary> rows, Function<ApplicationSummary, UUID> key,
+                                         Map<UUID, String> names) {
+        Map<UUID, DashboardEntry> entries = new LinkedHashMap<>();
+        for (ApplicationSummary row : rows) {
+            DashboardEntry entry = entries.computeIfAbsent(key.apply(row), id -> DashboardEntry.builder()
+                    .id(id)
+                    .name(names.get(id))
+                    .applicationCount(0L)
+                    .totalAmount(0.0)
+                    .build());
+            entry.setApplicationCount(entry.getApplicationCount() + row.getApplicationCount());
+            entry.setTotalAmount(entry.getTotalAmount() + row.getTotalAmount());
+        }
+        return entries.values().stream()
+                .sorted(Comparator.comparing(DashboardEntry::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+}
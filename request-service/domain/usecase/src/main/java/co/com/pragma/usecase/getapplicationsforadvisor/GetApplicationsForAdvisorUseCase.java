@@ -2,9 +2,13 @@ package co.com.pragma.usecase.getapplicationsforadvisor;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.auth.UserFound;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
@@ -18,6 +22,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,32 +35,74 @@ public class GetApplicationsForAdvisorUseCase {
     private final ApplicationRepository applicationRepository;
     private final StatusRepository statusRepository;
     private final LoanTypeRepository loanTypeRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
     private final AuthValidationGateway authValidationGateway;
     private final CustomLogger logger;
 
-    private static final String APPROVED_STATUS_NAME = "Approved";
+    private static final BigDecimal ZERO_DEBT = BigDecimal.valueOf(0.0).setScale(2, RoundingMode.HALF_UP);
 
     public Mono<CustomPage<ApplicationAdvisorView>> getApplicationsByStatus(
             String token,
             List<String> statusNames,
             CustomPageable pageable) {
+        return searchApplications(token, statusNames, List.of(), ApplicationSearchCriteria.builder().build(), pageable);
+    }
+
+    /**
+     * Busca solicitudes en los estados indicados aplicando además los filtros de {@code filters}. Los nombres de
+     * estado y de tipo de préstamo se resuelven a sus identificadores antes de consultar; si ninguno existe la
+     * página resultante es vacía.
+     */
+    public Mono<CustomPage<ApplicationAdvisorView>> searchApplications(
+            String token,
+            List<String> statusNames,
+            List<String> loanTypeNames,
+            ApplicationSearchCriteria filters,
+            CustomPageable pageable) {
 
         logger.trace("Starting search for applications for advisor with statuses: {}", statusNames);
 
-        return statusRepository.findByNames(statusNames)
-                .collectList()
-                .flatMap(statuses -> {
-                    if (statuses.isEmpty()) {
-                        logger.trace("No states found: {}", statusNames);
-                        return Mono.just(createEmptyPage());
-                    }
-                    List<UUID> statusIds = statuses.stream().map(Status::getId).toList();
-                    logger.trace("State IDs found: {}", statusIds);
-                    return applicationRepository.findByIdStatusIn(statusIds, pageable)
-                            .flatMap(applicationPage ->
-                                    convertToAdvisorViewPage(applicationPage, token)
-                            );
-                });
+        return Mono.defer(() -> {
+            validate(filters);
+            return Mono.zip(statusRepository.findByNames(statusNames).map(Status::getId).collectList(),
+                    resolveLoanTypeIds(loanTypeNames));
+        }).flatMap(ids -> {
+            List<UUID> statusIds = ids.getT1();
+            List<UUID> loanTypeIds = ids.getT2();
+            if (statusIds.isEmpty()) {
+                logger.trace("No states found: {}", statusNames);
+                return Mono.just(createEmptyPage());
+            }
+            if (!loanTypeNames.isEmpty() && loanTypeIds.isEmpty()) {
+                logger.trace("No loan types found: {}", loanTypeNames);
+                return Mono.just(createEmptyPage());
+            }
+            logger.trace("State IDs found: {}", statusIds);
+            return applicationRepository.search(filters.toBuilder()
+                                    .statusIds(statusIds)
+                                    .loanTypeIds(loanTypeIds)
+                                    .build(), pageable)
+                    .flatMap(applicationPage -> convertToAdvisorViewPage(applicationPage, token));
+        });
+    }
+
+    private void validate(ApplicationSearchCriteria filters) {
+        if (filters.getMinAmount() != null && filters.getMaxAmount() != null
+                && filters.getMinAmount() > filters.getMaxAmount()) {
+            throw new InvalidSearchFilterException("minAmount must not be greater than maxAmount");
+        }
+        if (filters.getCreatedFrom() != null && filters.getCreatedBefore() != null
+                && !filters.getCreatedFrom().isBefore(filters.getCreatedBefore())) {
+            throw new InvalidSearchFilterException("createdFrom must not be after createdTo");
+        }
+    }
+
+    private Mono<List<UUID>> resolveLoanTypeIds(List<String> loanTypeNames) {
+        return Flux.fromIterable(loanTypeNames)
+                .distinct()
+                .flatMap(loanTypeRepository::findByName)
+                .map(LoanType::getId)
+                .collectList();
     }
 
     private Mono<CustomPage<ApplicationAdvisorView>> convertToAdvisorViewPage(
@@ -66,63 +113,77 @@ public class GetApplicationsForAdvisorUseCase {
             return Mono.just(createEmptyPageFrom(applicationPage));
         }
 
-        List<UUID> userIds = applicationPage.getContent().stream()
-                .map(Application::getIdUser)
-                .distinct()
-                .toList();
-
-        Mono<Map<UUID, UserFound>> usersMapMono = authValidationGateway.foundClientByIds(userIds, token)
-                .collectMap(UserFound::getIdUser, Function.identity());
-
-        return usersMapMono.flatMap(usersMap -> {
-            return Flux.fromIterable(applications)
-                    .flatMap(application -> {
-                        UserFound clientUser = usersMap.get(application.getIdUser());
-                        if (clientUser == null) {
-                            logger.warn("User data not found for userId: {}. Skipping application.", application.getIdUser());
-                            return Mono.empty();
-                        }
-                        return buildApplicationView(application, clientUser);
-                    })
-                    .collectList()
-                    .map(advisorViews ->
-                            CustomPage.<ApplicationAdvisorView>builder()
-                                    .content(advisorViews)
-                                    .currentPage(applicationPage.getCurrentPage())
-                                    .totalPages(applicationPage.getTotalPages())
-                                    .totalElements(applicationPage.getTotalElements())
-                                    .pageSize(applicationPage.getPageSize())
-                                    .hasNext(applicationPage.isHasNext())
-                                    .hasPrevious(applicationPage.isHasPrevious())
-                                    .build()
-                    );
-        });
-    }
+        List<UUID> userIds = distinctIds(applications, Application::getIdUser);
+        List<UUID> loanTypeIds = distinctIds(applications, Application::getIdLoanType);
+        List<UUID> statusIds = distinctIds(applications, Application::getIdStatus);
 
-    private Mono<ApplicationAdvisorView> buildApplicationView(Application application, UserFound clientUser) {
         return Mono.zip(
-                loanTypeRepository.findById(application.getIdLoanType()),
-                statusRepository.findById(application.getIdStatus()),
-                calculateTotalMonthlyDebtForUser(application.getIdUser())
+                authValidationGateway.foundClientByIds(userIds, token)
+                        .collectMap(UserFound::getIdUser, Function.identity()),
+                loanTypeRepository.findByIds(loanTypeIds)
+                        .collectMap(LoanType::getId, Function.identity()),
+                statusRepository.findByIds(statusIds)
+                        .collectMap(Status::getId, Function.identity()),
+                findTotalMonthlyDebtByUser(userIds)
         ).map(tuple -> {
-            LoanType loanType = tuple.getT1();
-            Status status = tuple.getT2();
-            BigDecimal totalMonthlyDebt = tuple.getT3();
-
-            return ApplicationAdvisorView.builder()
-                    .amount(application.getAmount())
-                    .term(application.getTerm())
-                    .email(clientUser.getEmail())
-                    .fullName(clientUser.getFirstName() + " " + clientUser.getLastName())
-                    .loanTypeName(loanType.getName())
-                    .interestRate(loanType.getInterestRate())
-                    .statusName(status.getName())
-                    .baseSalary(clientUser.getBaseSalary())
-                    .totalMonthlyDebt(totalMonthlyDebt)
+            Map<UUID, UserFound> usersMap = tuple.getT1();
+            Map<UUID, LoanType> loanTypesMap = tuple.getT2();
+            Map<UUID, Status> statusesMap = tuple.getT3();
+            Map<UUID, BigDecimal> debtByUser = tuple.getT4();
+
+            List<ApplicationAdvisorView> advisorViews = new ArrayList<>(applications.size());
+            for (Application application : applications) {
+                UserFound clientUser = usersMap.get(application.getIdUser());
+                if (clientUser == null) {
+                    logger.warn("User data not found for userId: {}. Skipping application.", application.getIdUser());
+                    continue;
+                }
+                LoanType loanType = loanTypesMap.get(application.getIdLoanType());
+                Status status = statusesMap.get(application.getIdStatus());
+                if (loanType == null || status == null) {
+                    logger.warn("Reference data not found for application: {}. Skipping application.", application.getId());
+                    continue;
+                }
+                advisorViews.add(buildApplicationView(application, clientUser, loanType, status,
+                        debtByUser.getOrDefault(application.getIdUser(), ZERO_DEBT)));
+            }
+
+            return CustomPage.<ApplicationAdvisorView>builder()
+                    .content(advisorViews)
+                    .currentPage(applicationPage.getCurrentPage())
+                    .totalPages(applicationPage.getTotalPages())
+                    .totalElements(applicationPage.getTotalElements())
+                    .totalEstimated(applicationPage.isTotalEstimated())
+                    .pageSize(applicationPage.getPageSize())
+                    .hasNext(applicationPage.isHasNext())
+                    .hasPrevious(applicationPage.isHasPrevious())
+                    .nextCursor(applicationPage.getNextCursor())
                     .build();
         });
     }
 
+    private ApplicationAdvisorView buildApplicationView(Application application, UserFound clientUser,
+                                                        LoanType loanType, Status status, BigDecimal totalMonthlyDebt) {
+        return ApplicationAdvisorView.builder()
+                .amount(application.getAmount())
+                .term(application.getTerm())
+                .email(clientUser.getEmail())
+                .fullName(clientUser.getFirstName() + " " + clientUser.getLastName())
+                .loanTypeName(loanType.getName())
+                .interestRate(loanType.getInterestRate())
+                .statusName(status.getName())
+                .baseSalary(clientUser.getBaseSalary())
+                .totalMonthlyDebt(totalMonthlyDebt)
+                .build();
+    }
+
+    private static List<UUID> distinctIds(List<Application> applications, Function<Application, UUID> idExtractor) {
+        return applications.stream()
+                .map(idExtractor)
+                .distinct()
+                .toList();
+    }
+
     private CustomPage<ApplicationAdvisorView> createEmptyPage() {
         return CustomPage.<ApplicationAdvisorView>builder().content(Collections.emptyList()).build();
     }
@@ -133,52 +194,22 @@ public class GetApplicationsForAdvisorUseCase {
                 .currentPage(sourcePage.getCurrentPage())
                 .totalPages(sourcePage.getTotalPages())
                 .totalElements(sourcePage.getTotalElements())
+                .totalEstimated(sourcePage.isTotalEstimated())
                 .pageSize(sourcePage.getPageSize())
                 .hasNext(sourcePage.isHasNext())
                 .hasPrevious(sourcePage.isHasPrevious())
+                .nextCursor(sourcePage.getNextCursor())
                 .build();
     }
 
     /**
-     * Calcula la deuda mensual total sumando las cuotas de todas las solicitudes aprobadas
-     * para un usuario específico.
+     * Obtiene la deuda mensual total de los usuarios de la página desde el libro de deudas,
+     * que se mantiene al aprobar o revertir solicitudes.
      */
-    private Mono<BigDecimal> calculateTotalMonthlyDebtForUser(UUID idUser) {
-        logger.trace("Calculate total monthly debt for the user: {}", idUser);
-        return statusRepository.findByName(APPROVED_STATUS_NAME)
-                .map(Status::getId)
-                .flatMapMany(approvedStatusId ->
-                        applicationRepository.findByIdUserAndIdStatus(idUser, approvedStatusId)
-                )
-                .flatMap(this::calculateApplicationMonthlyPayment)
-                .reduce(0.0, Double::sum)
-                .defaultIfEmpty(0.0)
-                .map(total -> BigDecimal.valueOf(total).setScale(2, RoundingMode.HALF_UP))
-                .doOnSuccess(total -> logger.trace("Total monthly debt for user {} is: {}", idUser, total));
-    }
-
-    /**
-     * Calcula la cuota mensual para una única solicitud obteniendo su tipo de préstamo.
-     */
-    private Mono<Double> calculateApplicationMonthlyPayment(Application application) {
-        return loanTypeRepository.findById(application.getIdLoanType())
-                .map(loanType -> calculateMonthlyPayment(
-                        application.getAmount(),
-                        loanType.getInterestRate(),
-                        application.getTerm()
-                ));
-    }
-
-    /**
-     * Fórmula de amortización para calcular la cuota mensual de un préstamo.
-     * M = P * [r(1+r)^n] / [(1+r)^n - 1]
-     */
-    private double calculateMonthlyPayment(double principal, double annualInterestRate, int termInMonths) {
-        if (annualInterestRate <= 0 || termInMonths <= 0) {
-            return principal / (termInMonths > 0 ? termInMonths : 1);
-        }
-        double monthlyRate = (annualInterestRate / 100) / 12;
-        double ratePower = Math.pow(1 + monthlyRate, termInMonths);
-        return principal * (monthlyRate * ratePower) / (ratePower - 1);
+    private Mono<Map<UUID, BigDecimal>> findTotalMonthlyDebtByUser(List<UUID> userIds) {
+        logger.trace("Find total monthly debt for users: {}", userIds);
+        return debtLedgerRepository.findByIdUserIn(userIds)
+                .collectMap(DebtLedger::getIdUser, ledger ->
+                        BigDecimal.valueOf(ledger.getTotalMonthlyInstallment()).setScale(2, RoundingMode.HALF_UP));
     }
 }
\ No newline at end of file
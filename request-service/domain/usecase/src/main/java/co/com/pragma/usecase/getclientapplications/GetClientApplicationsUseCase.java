@@ -0,0 +1,35 @@
+package co.com.pragma.usecase.getclientapplications;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GetClientApplicationsUseCase {
+
+    private final ApplicationRepository applicationRepository;
+    private final CustomLogger logger;
+
+    /**
+     * Versión actual de la lista de solicitudes del cliente. Cambia con cada registro, cambio de estado o archivado
+     * de sus solicitudes, así que sirve para saber si la lista cambió sin volver a leerla.
+     */
+    public Mono<ApplicationListVersion> findVersion(UUID idUser) {
+        return applicationRepository.findListVersionByIdUser(idUser);
+    }
+
+    /**
+     * Solicitudes del cliente, de la más reciente a la más antigua.
+     */
+    public Flux<Application> findApplications(UUID idUser) {
+        logger.trace("Listing applications for user {}", idUser);
+
+        return applicationRepository.findByIdUser(idUser);
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.pragma.usecase.getpaymentplan;
+
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GetPaymentPlanUseCase {
+
+    private final PaymentPlanRepository paymentPlanRepository;
+    private final ApplicationRepository applicationRepository;
+    private final LoanTypeRepository loanTypeRepository;
+    private final PaymentPlanGenerator paymentPlanGenerator;
+    private final CustomLogger logger;
+
+    /**
+     * Plan de pagos de una solicitud aprobada del cliente. Los planes se guardan al aprobar; las solicitudes aprobadas
+     * por un asesor, o antes de que existieran los planes guardados, lo generan y guardan en la primera consulta.
+     * Una solicitud de otro cliente o no aprobada responde como inexistente.
+     */
+    public Mono<PaymentPlan> getPaymentPlan(UUID idApplication, UUID idUser) {
+        return paymentPlanRepository.findByIdApplication(idApplication)
+                .switchIfEmpty(Mono.defer(() -> generatePaymentPlan(idApplication, idUser)))
+                .filter(paymentPlan -> paymentPlan.getIdUser().equals(idUser))
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Payment plan not found")));
+    }
+
+    private Mono<PaymentPlan> generatePaymentPlan(UUID idApplication, UUID idUser) {
+        return applicationRepository.findById(idApplication)
+                .filter(application -> application.getIdUser().equals(idUser) && application.getApprovedAt() != null)
+                .flatMap(application -> loanTypeRepository.findById(application.getIdLoanType())
+                        .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
+                        .map(loanType -> PaymentPlan.of(application, paymentPlanGenerator.generate(
+                                application.getAmount(),
+                                loanType.getInterestRate(),
+                                application.getTerm()))))
+                .flatMap(paymentPlan -> {
+                    logger.info("Generated missing payment plan for applicationId={}", idApplication);
+                    return paymentPlanRepository.save(paymentPlan).thenReturn(paymentPlan);
+                });
+    }
+}
@@ -1,24 +1,30 @@
 package co.com.pragma.usecase.processapplicationdecision;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.StatusTransition;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.creditanalysis.ApplicationDecisionMessage;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
-import co.com.pragma.model.creditanalysis.PaymentDetail;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
-import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class ProcessApplicationDecisionUseCase {
@@ -26,70 +32,94 @@ public class ProcessApplicationDecisionUseCase {
     private final ApplicationRepository applicationRepository;
     private final StatusRepository statusRepository;
     private final LoanTypeRepository loanTypeRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
+    private final DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    private final ApplicationSummaryRepository applicationSummaryRepository;
+    private final PaymentPlanRepository paymentPlanRepository;
+    private final TransactionManager transactionManager;
     private final NotificationGateway notificationGateway;
     private final PaymentPlanGenerator paymentPlanGenerator;
-    private final ReportApprovedGateway reportApprovedGateway;
     private final CustomLogger logger;
 
     private static final String DECISION_APPROVED = "Approved";
+    private static final String PENDING_REVIEW_STATUS_NAME = "Pending Review";
+    private static final String PAYMENT_PLAN_PATH = "/request/api/v1/requests/%s/payment-plan";
 
+    /**
+     * Aplica la decisión del análisis crediticio solo si la solicitud sigue en revisión pendiente.
+     * Una decisión que llega después de que un asesor resolviera la solicitud se descarta.
+     * Las notificaciones y los contadores del tablero del asesor se registran dentro de la misma transacción.
+     * Al aprobar se guarda el plan de pagos y la notificación solo lleva su resumen y la ruta para consultarlo.
+     */
     public Mono<Void> execute(ApplicationDecisionMessage message) {
         return Mono.zip(
-                        applicationRepository.findById(message.getApplicationId())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found"))),
                         statusRepository.findByNameIgnoreCase(message.getDecision())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found for decision")))
+                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found for decision"))),
+                        statusRepository.findByName(PENDING_REVIEW_STATUS_NAME)
+                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found: " + PENDING_REVIEW_STATUS_NAME)))
                 )
                 .flatMap(tuple -> {
-                    Application application = tuple.getT1();
-                    Status newStatus = tuple.getT2();
-
-                    Application.ApplicationBuilder appBuilder = application.toBuilder()
-                            .idStatus(newStatus.getId())
-                            .updatedAt(LocalDateTime.now());
-
-                    if (DECISION_APPROVED.equalsIgnoreCase(message.getDecision())) {
-                        appBuilder.approvedAt(LocalDateTime.now());
-                    }
-
-                    Application updatedApp = appBuilder.build();
+                    Status newStatus = tuple.getT1();
+                    boolean approved = DECISION_APPROVED.equalsIgnoreCase(message.getDecision());
+                    LocalDateTime now = LocalDateTime.now();
+                    StatusTransition transition = StatusTransition.builder()
+                            .applicationId(message.getApplicationId())
+                            .targetStatusId(newStatus.getId())
+                            .expectedStatusIds(List.of(tuple.getT2().getId()))
+                            .transitionedAt(now)
+                            .approvedAt(approved ? now : null)
+                            .build();
 
-                    if (DECISION_APPROVED.equalsIgnoreCase(message.getDecision())) {
-                        return loanTypeRepository.findById(application.getIdLoanType())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
-                                .map(loanType -> paymentPlanGenerator.generate(
-                                        updatedApp.getAmount(),
-                                        loanType.getInterestRate(),
-                                        updatedApp.getTerm()
-                                ))
-                                .flatMap(paymentPlan -> processAndNotify(updatedApp, newStatus, paymentPlan));
-                    } else {
-                        return processAndNotify(updatedApp, newStatus, Collections.emptyList());
-                    }
+                    return transactionManager.executeInTransaction(
+                                    applicationRepository.transitionStatus(transition)
+                                            .flatMap(result -> applicationSummaryRepository.recordTransitions(List.of(result))
+                                                    .then(approved
+                                                            ? recordApproval(result.getApplication()).map(Optional::of)
+                                                            : Mono.just(Optional.<PaymentPlan>empty()))
+                                                    .flatMap(paymentPlan -> notify(result.getApplication(), newStatus, paymentPlan))
+                                                    .thenReturn(result.getApplication()))
+                            )
+                            .switchIfEmpty(Mono.defer(() -> discardStaleDecision(message)));
                 })
                 .then();
     }
 
-    private Mono<Void> processAndNotify(Application application, Status status, List<PaymentDetail> paymentPlan) {
-        return applicationRepository.save(application)
-                .flatMap(updatedApplication -> {
-                    CreditAnalysisResponsePayload payload = CreditAnalysisResponsePayload.builder()
-                            .applicationId(updatedApplication.getId())
-                            .email(updatedApplication.getEmail())
-                            .status(status.getName())
-                            .amount(updatedApplication.getAmount())
-                            .term(updatedApplication.getTerm())
-                            .paymentPlan(paymentPlan)
-                            .build();
+    private Mono<PaymentPlan> recordApproval(Application application) {
+        return loanTypeRepository.findById(application.getIdLoanType())
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
+                .flatMap(loanType -> debtLedgerRepository.recordApproval(DebtLedgerEntry.of(application, loanType))
+                        .then(Mono.defer(() -> dailyApprovalRollupRepository.recordApproval(application)))
+                        .then(Mono.fromCallable(() -> PaymentPlan.of(application, paymentPlanGenerator.generate(
+                                application.getAmount(),
+                                loanType.getInterestRate(),
+                                application.getTerm()
+                        )))))
+                .flatMap(paymentPlan -> paymentPlanRepository.save(paymentPlan).thenReturn(paymentPlan));
+    }
 
-                    logger.trace("Sending notification for applicationId={} with status={}",
-                            updatedApplication.getId(), status.getName());
-                    return notificationGateway.sendCreditAnalysisDecisionNotification(payload)
-                            .then(
-                                    DECISION_APPROVED.equalsIgnoreCase(status.getName())
-                                            ? reportApprovedGateway.sendReportApprovedCount(updatedApplication, status.getName())
-                                            : Mono.empty()
-                            );
+    private <T> Mono<T> discardStaleDecision(ApplicationDecisionMessage message) {
+        return applicationRepository.findById(message.getApplicationId())
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found")))
+                .flatMap(application -> {
+                    logger.warn("Discarding decision {} for applicationId={}: application is no longer pending review",
+                            message.getDecision(), application.getId());
+                    return Mono.empty();
                 });
     }
+
+    private Mono<Void> notify(Application updatedApplication, Status status, Optional<PaymentPlan> paymentPlan) {
+        CreditAnalysisResponsePayload payload = CreditAnalysisResponsePayload.builder()
+                .applicationId(updatedApplication.getId())
+                .email(updatedApplication.getEmail())
+                .status(status.getName())
+                .amount(updatedApplication.getAmount())
+                .term(updatedApplication.getTerm())
+                .paymentPlanSummary(paymentPlan.map(PaymentPlan::getSummary).orElse(null))
+                .paymentPlanPath(paymentPlan.map(plan -> PAYMENT_PLAN_PATH.formatted(plan.getIdApplication())).orElse(null))
+                .build();
+
+        logger.trace("Sending notification for applicationId={} with status={}",
+                updatedApplication.getId(), status.getName());
+        return notificationGateway.sendCreditAnalysisDecisionNotification(payload);
+    }
 }
@@ -0,0 +1,61 @@
+package co.com.pragma.usecase.projectportfoliocashflow;
+
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.portfolio.CashFlowAccumulator;
+import co.com.pragma.model.portfolio.CashFlowProjectionEngine;
+import co.com.pragma.model.portfolio.PortfolioCashFlowProjection;
+import co.com.pragma.model.portfolio.gateways.ApprovedLoanRepository;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.YearMonth;
+
+@RequiredArgsConstructor
+public class ProjectPortfolioCashFlowUseCase {
+
+    static final int CHUNK_SIZE = 50_000;
+    static final int MAX_MONTHS = 360;
+
+    private final ApprovedLoanRepository approvedLoanRepository;
+    private final StatusRepository statusRepository;
+    private final CashFlowProjectionEngine cashFlowProjectionEngine;
+    private final CustomLogger logger;
+
+    private static final String APPROVED_STATUS_NAME = "Approved";
+
+    /**
+     * Proyecta el capital e interés que se espera cobrar en cada uno de los próximos {@code months} meses, empezando
+     * por el mes siguiente, sobre todas las solicitudes aprobadas.
+     */
+    public Mono<PortfolioCashFlowProjection> project(int months) {
+        return project(YearMonth.now().plusMonths(1), months);
+    }
+
+    /**
+     * Los préstamos llegan en streaming desde la base de datos y se proyectan por bloques de {@value #CHUNK_SIZE}:
+     * cada bloque se reparte entre los núcleos con fork-join mientras llega el siguiente, y solo se conservan los
+     * acumulados por mes, de modo que la memoria no crece con el tamaño de la cartera.
+     */
+    Mono<PortfolioCashFlowProjection> project(YearMonth from, int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            return Mono.error(new InvalidDateRangeException("months must be between 1 and " + MAX_MONTHS));
+        }
+        logger.trace("Projecting portfolio cash flow for {} months from {}", months, from);
+        long started = System.nanoTime();
+
+        return statusRepository.findByNameIgnoreCase(APPROVED_STATUS_NAME)
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status " + APPROVED_STATUS_NAME + " not found")))
+                .flatMap(approved -> approvedLoanRepository.streamApproved(approved.getId())
+                        .buffer(CHUNK_SIZE)
+                        .concatMap(chunk -> Mono.fromCallable(() -> cashFlowProjectionEngine.project(chunk, from, months))
+                                .subscribeOn(Schedulers.boundedElastic()), 1)
+                        .reduceWith(() -> new CashFlowAccumulator(months), CashFlowAccumulator::merge))
+                .map(accumulator -> accumulator.toProjection(from))
+                .doOnNext(projection -> logger.info("Projected {} loans over {} months in {} ms",
+                        projection.getLoanCount(), months, (System.nanoTime() - started) / 1_000_000));
+    }
+}
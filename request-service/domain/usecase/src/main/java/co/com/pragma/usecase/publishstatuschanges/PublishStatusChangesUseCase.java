@@ -0,0 +1,116 @@
+package co.com.pragma.usecase.publishstatuschanges;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.changefeed.ApplicationStatusChange;
+import co.com.pragma.model.changefeed.gateways.ChangeFeedCheckpointRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class PublishStatusChangesUseCase {
+
+    private final StatusRepository statusRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ReportApprovedGateway reportApprovedGateway;
+    private final ChangeFeedCheckpointRepository checkpointRepository;
+    private final TransactionManager transactionManager;
+    private final CustomLogger logger;
+
+    private static final String APPROVED_STATUS_NAME = "Approved";
+
+    /**
+     * Posición desde la que el feed debe reanudarse: la última confirmada o el inicio del slot si aún no hay ninguna.
+     */
+    public Mono<Long> findCheckpoint(String feed) {
+        return checkpointRepository.findLsn(feed)
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Publica los eventos de reporte de un lote de cambios confirmados y avanza el checkpoint hasta {@code lsn}, ambos
+     * en la misma transacción. Solo cuentan las transiciones hacia Aprobado desde otro estado, y los cambios que el
+     * checkpoint ya cubre se descartan, por lo que un lote reenviado tras una caída no duplica eventos.
+     */
+    public Mono<Void> publish(String feed, List<ApplicationStatusChange> changes, long lsn) {
+        LocalDateTime changedAt = changes.stream()
+                .map(ApplicationStatusChange::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return findApprovedStatus()
+                .flatMap(approved -> transactionManager.executeInTransaction(
+                        findCheckpoint(feed)
+                                .flatMap(checkpoint -> publishApprovals(changes, checkpoint, approved)
+                                        .then(Mono.defer(() -> checkpointRepository.saveLsn(feed,
+                                                Math.max(checkpoint, lsn), changedAt))))));
+    }
+
+    /**
+     * Recupera las aprobaciones que el feed no llegó a publicar porque su slot se perdió o fue eliminado. Se invoca al
+     * recrear el slot, cuya posición inicial es {@code lsn}: publica las solicitudes aprobadas después del último
+     * cambio que cubre el checkpoint y lo mueve a {@code lsn}, ambos en la misma transacción. Sin checkpoint el feed
+     * nunca publicó nada y no hay qué recuperar. Una aprobación confirmada mientras corre la recuperación puede
+     * reportarse dos veces.
+     */
+    public Mono<Void> catchUp(String feed, long lsn) {
+        return findApprovedStatus()
+                .flatMap(approved -> transactionManager.executeInTransaction(
+                        checkpointRepository.findChangedAt(feed)
+                                .flatMap(changedAt -> applicationRepository.findApprovedAfter(approved.getId(), changedAt)
+                                        .collectList()
+                                        .flatMap(applications -> catchUpApprovals(applications, approved)
+                                                .then(Mono.defer(() -> checkpointRepository.saveLsn(feed, lsn,
+                                                        latestApproval(applications, changedAt))))))));
+    }
+
+    private Mono<Status> findApprovedStatus() {
+        return statusRepository.findByName(APPROVED_STATUS_NAME)
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found: " + APPROVED_STATUS_NAME)));
+    }
+
+    private Mono<Void> publishApprovals(List<ApplicationStatusChange> changes, long checkpoint, Status approved) {
+        List<Application> applications = changes.stream()
+                .filter(change -> change.getLsn() > checkpoint
+                        && approved.getId().equals(change.getIdStatus())
+                        && !approved.getId().equals(change.getPreviousIdStatus()))
+                .map(change -> Application.builder()
+                        .id(change.getIdApplication())
+                        .amount(change.getAmount())
+                        .idStatus(change.getIdStatus())
+                        .build())
+                .toList();
+        if (applications.isEmpty()) {
+            return Mono.empty();
+        }
+        logger.trace("Publishing {} approval reporting events from the change feed", applications.size());
+        return reportApprovedGateway.sendReportApprovedCounts(applications, approved.getName());
+    }
+
+    private Mono<Void> catchUpApprovals(List<Application> applications, Status approved) {
+        logger.warn("Republishing {} approval reporting events missed by the change feed", applications.size());
+        if (applications.isEmpty()) {
+            return Mono.empty();
+        }
+        return reportApprovedGateway.sendReportApprovedCounts(applications, approved.getName());
+    }
+
+    private static LocalDateTime latestApproval(List<Application> applications, LocalDateTime changedAt) {
+        return applications.stream()
+                .map(Application::getApprovedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(changedAt);
+    }
+}
@@ -0,0 +1,107 @@
+package co.com.pragma.usecase.quoteloans;
+
+import co.com.pragma.model.creditanalysis.AmortizationEngine;
+import co.com.pragma.model.creditanalysis.AmortizationSchedule;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class QuoteLoansUseCase {
+
+    static final int MAX_SCENARIOS = 1_000;
+    static final int MAX_TERM = 360;
+    static final int CHUNK_SIZE = 64;
+
+    private final LoanTypeRepository loanTypeRepository;
+    private final CustomLogger logger;
+
+    /**
+     * Cotiza cada combinación de monto, plazo y tipo de préstamo de la grilla sin escribir nada en la base de datos.
+     * Las tasas se leen una sola vez por tipo de préstamo; los escenarios se calculan por bloques de
+     * {@value #CHUNK_SIZE} en el scheduler paralelo, acotado a un hilo por núcleo, y se emiten en el orden de la
+     * grilla. Una grilla de más de {@value #MAX_SCENARIOS} escenarios se corta ahí con un escenario rechazado.
+     */
+    public Flux<LoanQuote> quote(LoanQuoteGrid grid) {
+        return Flux.defer(() -> {
+            long scenarios = Math.min(grid.size(), MAX_SCENARIOS);
+            int chunks = (int) ((scenarios + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            logger.trace("Quoting {} loan scenarios in {} chunks", scenarios, chunks);
+            long started = System.nanoTime();
+
+            return loanTypeRepository.findByIds(grid.getIdLoanTypes().stream().distinct().toList())
+                    .collectMap(LoanType::getId)
+                    .flatMapMany(loanTypes -> Flux.range(0, chunks)
+                            .flatMapSequential(chunk -> Mono
+                                    .fromCallable(() -> quoteChunk(grid, loanTypes, chunk, scenarios))
+                                    .subscribeOn(Schedulers.parallel()), Schedulers.DEFAULT_POOL_SIZE)
+                            .concatMapIterable(quotes -> quotes))
+                    .concatWith(grid.size() > MAX_SCENARIOS ? Mono.fromSupplier(() -> tooManyScenarios(grid))
+                            : Mono.empty())
+                    .doOnComplete(() -> logger.trace("Quoted {} loan scenarios in {} ms",
+                            scenarios, (System.nanoTime() - started) / 1_000_000));
+        });
+    }
+
+    // One schedule per chunk: every scenario of the chunk is amortized into the same arrays.
+    private List<LoanQuote> quoteChunk(LoanQuoteGrid grid, Map<UUID, LoanType> loanTypes, int chunk, long scenarios) {
+        long start = (long) chunk * CHUNK_SIZE;
+        long end = Math.min(start + CHUNK_SIZE, scenarios);
+        AmortizationSchedule schedule = new AmortizationSchedule();
+        List<LoanQuote> quotes = new ArrayList<>((int) (end - start));
+        for (long index = start; index < end; index++) {
+            quotes.add(quote(grid, loanTypes, index, schedule));
+        }
+        return quotes;
+    }
+
+    private LoanQuote quote(LoanQuoteGrid grid, Map<UUID, LoanType> loanTypes, long index,
+                            AmortizationSchedule schedule) {
+        UUID idLoanType = grid.idLoanTypeAt(index);
+        double amount = grid.amountAt(index);
+        int term = grid.termAt(index);
+        LoanType loanType = loanTypes.get(idLoanType);
+        if (loanType == null) {
+            return LoanQuote.rejected(index, idLoanType, amount, term, "LoanType not found");
+        }
+        if (amount < loanType.getMinAmount() || amount > loanType.getMaxAmount()) {
+            return LoanQuote.rejected(index, idLoanType, amount, term,
+                    String.format("Amount %.2f is outside the valid range [%.2f, %.2f] for loan type %s",
+                            amount, loanType.getMinAmount(), loanType.getMaxAmount(), loanType.getName()));
+        }
+        if (term < 1 || term > MAX_TERM) {
+            return LoanQuote.rejected(index, idLoanType, amount, term,
+                    "Term must be between 1 and " + MAX_TERM + " months");
+        }
+
+        AmortizationEngine.amortize(amount, loanType.getInterestRate(), term, schedule);
+        return LoanQuote.builder()
+                .index(index)
+                .idLoanType(idLoanType)
+                .amount(amount)
+                .term(term)
+                .interestRate(loanType.getInterestRate())
+                .monthlyPayment(AmortizationSchedule.fromCents(schedule.monthlyPaymentCents()))
+                .totalInterest(AmortizationSchedule.fromCents(schedule.totalInterestCents()))
+                .totalPayment(AmortizationSchedule.fromCents(schedule.totalPaymentCents()))
+                .payments(grid.isIncludeSchedule() ? schedule.toPaymentDetails() : null)
+                .build();
+    }
+
+    private LoanQuote tooManyScenarios(LoanQuoteGrid grid) {
+        return LoanQuote.rejected(MAX_SCENARIOS, grid.idLoanTypeAt(MAX_SCENARIOS), grid.amountAt(MAX_SCENARIOS),
+                grid.termAt(MAX_SCENARIOS), "Quotes accept at most " + MAX_SCENARIOS
+                        + " scenarios; this and later scenarios were not quoted");
+    }
+}
@@ -0,0 +1,213 @@
+package co.com.pragma.usecase.registerapplicationsbulk;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.BulkRegistrationItem;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.auth.UserFound;
+import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
+import co.com.pragma.model.creditanalysis.LoanDetails;
+import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class RegisterApplicationsBulkUseCase {
+
+    static final int CHUNK_SIZE = 100;
+
+    private final ApplicationRepository applicationRepository;
+    private final StatusRepository statusRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
+    private final ApplicationSummaryRepository applicationSummaryRepository;
+    private final TransactionManager transactionManager;
+    private final AuthValidationGateway authValidationGateway;
+    private final FindLoanTypeByIdUseCase findLoanTypeByIdUseCase;
+    private final CreditAnalysisGateway creditAnalysisGateway;
+    private final CustomLogger customLogger;
+
+    private static final String PENDING_REVIEW_STATUS_NAME = "Pending Review";
+    private static final String APPROVED_STATUS_NAME = "Approved";
+
+    /**
+     * Registra las solicitudes por bloques de {@value #CHUNK_SIZE}. Cada bloque resuelve usuarios, tipos de préstamo y
+     * préstamos activos con una consulta por grupo, inserta sus solicitudes con una sola sentencia y encola los análisis
+     * crediticios en la misma transacción. Los elementos rechazados se devuelven sin procesar; si el bloque falla, todos
+     * sus elementos pendientes quedan rechazados con el error.
+     */
+    public Flux<BulkRegistrationItem> registerApplications(Flux<BulkRegistrationItem> items, String token) {
+        return items.buffer(CHUNK_SIZE)
+                .concatMap(chunk -> registerChunk(chunk, token));
+    }
+
+    private Flux<BulkRegistrationItem> registerChunk(List<BulkRegistrationItem> chunk, String token) {
+        List<BulkRegistrationItem> pending = chunk.stream()
+                .filter(item -> !item.isRejected())
+                .toList();
+        if (pending.isEmpty()) {
+            return Flux.fromIterable(chunk);
+        }
+        customLogger.trace("Starting bulk registration of {} applications", pending.size());
+
+        return Mono.zip(findClients(pending, token), findLoanTypes(pending), findPendingReviewStatus())
+                .flatMap(tuple -> {
+                    List<BulkRegistrationItem> accepted = prepare(pending, tuple.getT1(), tuple.getT2(), tuple.getT3());
+                    if (accepted.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return findActiveLoans(accepted)
+                            .flatMap(activeLoans -> persist(accepted, tuple.getT1(), tuple.getT2(), activeLoans));
+                })
+                .doOnSuccess(saved -> customLogger.trace("Bulk chunk registered {} of {} applications",
+                        saved == null ? 0 : saved, pending.size()))
+                .onErrorResume(error -> {
+                    customLogger.trace("Bulk chunk registration failed: {}", error.getMessage());
+                    pending.stream()
+                            .filter(item -> !item.isRejected())
+                            .forEach(item -> item.reject(error.getMessage()));
+                    return Mono.empty();
+                })
+                .thenMany(Flux.fromIterable(chunk));
+    }
+
+    private Mono<Map<String, UserFound>> findClients(List<BulkRegistrationItem> pending, String token) {
+        List<String> idDocuments = pending.stream()
+                .map(item -> item.getApplication().getIdDocument())
+                .distinct()
+                .toList();
+        return authValidationGateway.findClientsByIdDocuments(idDocuments, token)
+                .collectMap(UserFound::getIdDocument);
+    }
+
+    private Mono<Map<UUID, LoanType>> findLoanTypes(List<BulkRegistrationItem> pending) {
+        return Flux.fromIterable(pending)
+                .map(item -> item.getApplication().getIdLoanType())
+                .distinct()
+                .flatMap(idLoanType -> findLoanTypeByIdUseCase.findById(idLoanType)
+                        .onErrorResume(EntityNotFoundException.class, error -> Mono.empty()))
+                .collectMap(LoanType::getId);
+    }
+
+    private Mono<Map<UUID, Collection<DebtLedgerEntry>>> findActiveLoans(List<BulkRegistrationItem> accepted) {
+        List<UUID> userIds = accepted.stream()
+                .map(item -> item.getApplication().getIdUser())
+                .distinct()
+                .toList();
+        return debtLedgerRepository.findEntriesByIdUserIn(userIds)
+                .collectMultimap(DebtLedgerEntry::getIdUser);
+    }
+
+    private Mono<Status> findPendingReviewStatus() {
+        return statusRepository.findByName(PENDING_REVIEW_STATUS_NAME)
+                .switchIfEmpty(Mono.defer(() -> {
+                    customLogger.trace("Status 'Pending Review' not found");
+                    return Mono.error(new EntityNotFoundException("Status 'Pending Review' not found"));
+                }));
+    }
+
+    private List<BulkRegistrationItem> prepare(List<BulkRegistrationItem> pending, Map<String, UserFound> clients,
+                                               Map<UUID, LoanType> loanTypes, Status pendingStatus) {
+        List<BulkRegistrationItem> accepted = new ArrayList<>();
+        for (BulkRegistrationItem item : pending) {
+            Application application = item.getApplication();
+            UserFound user = clients.get(application.getIdDocument());
+            LoanType loanType = loanTypes.get(application.getIdLoanType());
+            if (user == null) {
+                item.reject("User not found in auth service");
+            } else if (loanType == null) {
+                item.reject("LoanType not found");
+            } else if (!isAmountInRange(application.getAmount(), loanType)) {
+                item.reject(String.format("Amount %.2f is outside the valid range [%.2f, %.2f] for loan type %s",
+                        application.getAmount(), loanType.getMinAmount(), loanType.getMaxAmount(), loanType.getName()));
+            } else {
+                application.setId(UUID.randomUUID());
+                application.setEmail(user.getEmail().toLowerCase());
+                application.setIdUser(user.getIdUser());
+                application.setIdStatus(pendingStatus.getId());
+                accepted.add(item);
+            }
+        }
+        return accepted;
+    }
+
+    private Mono<Integer> persist(List<BulkRegistrationItem> accepted, Map<String, UserFound> clients,
+                                  Map<UUID, LoanType> loanTypes, Map<UUID, Collection<DebtLedgerEntry>> activeLoans) {
+        List<Application> applications = accepted.stream()
+                .map(BulkRegistrationItem::getApplication)
+                .toList();
+        List<CreditAnalysisPayload> payloads = applications.stream()
+                .filter(application -> Boolean.TRUE.equals(
+                        loanTypes.get(application.getIdLoanType()).getAutomaticValidation()))
+                .map(application -> buildPayload(application, clients.get(application.getIdDocument()),
+                        loanTypes.get(application.getIdLoanType()),
+                        activeLoans.getOrDefault(application.getIdUser(), List.of())))
+                .toList();
+
+        return transactionManager.executeInTransaction(
+                        applicationRepository.saveAll(applications)
+                                .collectMap(Application::getId, Function.identity())
+                                .flatMap(saved -> applicationSummaryRepository
+                                        .recordRegistrations(List.copyOf(saved.values()))
+                                        .thenReturn(saved))
+                                .flatMap(saved -> (payloads.isEmpty()
+                                        ? Mono.<Void>empty()
+                                        : creditAnalysisGateway.requestAnalyses(payloads))
+                                        .thenReturn(saved)))
+                .map(saved -> {
+                    accepted.forEach(item -> item.setApplication(saved.get(item.getApplication().getId())));
+                    return saved.size();
+                });
+    }
+
+    private CreditAnalysisPayload buildPayload(Application newApp, UserFound user, LoanType newLoanType,
+                                               Collection<DebtLedgerEntry> activeLoans) {
+        LoanDetails newLoanDetails = LoanDetails.builder()
+                .amount(newApp.getAmount())
+                .term(newApp.getTerm())
+                .interestRate(newLoanType.getInterestRate())
+                .estado(PENDING_REVIEW_STATUS_NAME)
+                .build();
+
+        List<LoanDetails> activeLoansDetails = activeLoans.stream()
+                .map(loan -> LoanDetails.builder()
+                        .amount(loan.getAmount())
+                        .term(loan.getTerm())
+                        .interestRate(loan.getInterestRate())
+                        .estado(APPROVED_STATUS_NAME)
+                        .build())
+                .collect(Collectors.toList());
+
+        return CreditAnalysisPayload.builder()
+                .idApplication(newApp.getId())
+                .idUser(newApp.getIdUser())
+                .idDocument(user.getIdDocument())
+                .email(user.getEmail())
+                .baseSalary(user.getBaseSalary())
+                .newLoanDetails(newLoanDetails)
+                .loanAssets(activeLoansDetails)
+                .build();
+    }
+
+    private boolean isAmountInRange(Double amount, LoanType loanType) {
+        return amount != null && amount >= loanType.getMinAmount() && amount <= loanType.getMaxAmount();
+    }
+}
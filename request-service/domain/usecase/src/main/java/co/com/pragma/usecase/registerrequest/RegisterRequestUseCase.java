@@ -6,23 +6,22 @@ import co.com.pragma.model.auth.ValidatedUser;
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import co.com.pragma.model.creditanalysis.LoanDetails;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.InvalidAmountException;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.LoanType;
-import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -33,7 +32,8 @@ public class RegisterRequestUseCase {
 
     private final ApplicationRepository applicationRepository;
     private final StatusRepository statusRepository;
-    private final LoanTypeRepository loanTypeRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
+    private final ApplicationSummaryRepository applicationSummaryRepository;
     private final TransactionManager transactionManager;
     private final AuthValidationGateway authValidationGateway;
     private final FindLoanTypeByIdUseCase findLoanTypeByIdUseCase;
@@ -44,6 +44,16 @@ public class RegisterRequestUseCase {
     private static final String APPROVED_STATUS_NAME = "Approved";
 
     public Mono<Application> registerApplication(Application application, String token) {
+        return registerApplication(application, token, savedApp -> Mono.empty());
+    }
+
+    /**
+     * Igual que {@link #registerApplication(Application, String)}, pero ejecuta {@code withinTransaction} sobre la
+     * solicitud guardada dentro de la misma transacción del registro, de modo que ambos se confirman o se revierten
+     * juntos.
+     */
+    public Mono<Application> registerApplication(Application application, String token,
+                                                 Function<Application, Mono<Void>> withinTransaction) {
         customLogger.trace("Starting request registration for idDocument: {}", application.getIdDocument());
 
         return authValidationGateway.validateClientUser(application.getIdDocument(), token)
@@ -52,18 +62,18 @@ public class RegisterRequestUseCase {
                     application.setIdUser(user.getIdUser());
 
                     return findLoanTypeByIdUseCase.findById(application.getIdLoanType())
-                            .flatMap(newLoanType -> findActiveLoansAndTheirTypes(user.getIdUser())
-                                    .flatMap(activeLoansData -> findPendingReviewStatus()
+                            .flatMap(newLoanType -> findActiveLoans(user.getIdUser())
+                                    .flatMap(activeLoans -> findPendingReviewStatus()
                                             .flatMap(pendingStatus -> {
 
-                                                List<Application> activeLoans = activeLoansData.getT1();
-                                                Map<UUID, LoanType> activeLoanTypesMap = activeLoansData.getT2();
-
-                                                CreditAnalysisPayload payload = buildPayload(application, user, newLoanType, activeLoans, activeLoanTypesMap);
+                                                CreditAnalysisPayload payload = buildPayload(application, user, newLoanType, activeLoans);
                                                 return transactionManager.executeInTransaction(
                                                         validateAmount(application.getAmount(), newLoanType)
                                                                 .then(Mono.fromCallable(() -> prepareApplication(application, pendingStatus)))
                                                                 .flatMap(applicationRepository::save)
+                                                                .flatMap(savedApp -> applicationSummaryRepository
+                                                                        .recordRegistrations(List.of(savedApp))
+                                                                        .thenReturn(savedApp))
                                                                 .flatMap(savedApp -> {
                                                                     payload.setIdApplication(savedApp.getId());
                                                                     payload.setIdUser(savedApp.getIdUser());
@@ -73,6 +83,8 @@ public class RegisterRequestUseCase {
                                                                     }
                                                                     return Mono.just(savedApp);
                                                                 })
+                                                                .flatMap(savedApp -> withinTransaction.apply(savedApp)
+                                                                        .thenReturn(savedApp))
                                                 );
                                             })
                                     )
@@ -82,29 +94,13 @@ public class RegisterRequestUseCase {
                 .doOnError(error -> customLogger.trace("Application registration failed for {}: {}", application.getIdDocument(), error.getMessage()));
     }
 
-    private Mono<Tuple2<List<Application>, Map<UUID, LoanType>>> findActiveLoansAndTheirTypes(UUID userId) {
-        return applicationRepository.findActiveLoansByIdUser(userId).collectList()
-                .flatMap(activeLoans -> {
-                    if (activeLoans.isEmpty()) {
-                        return Mono.just(Tuples.of(List.of(), Map.of()));
-                    }
-
-                    List<UUID> loanTypeIds = activeLoans.stream()
-                            .map(Application::getIdLoanType)
-                            .collect(Collectors.toList());
-
-                    return loanTypeRepository.findByIds(loanTypeIds).collectList()
-                            .map(loanTypes -> {
-                                Map<UUID, LoanType> loanTypeMap = loanTypes.stream()
-                                        .collect(Collectors.toMap(LoanType::getId, Function.identity()));
-                                return Tuples.of(activeLoans, loanTypeMap);
-                            });
-                });
+    private Mono<List<DebtLedgerEntry>> findActiveLoans(UUID userId) {
+        return debtLedgerRepository.findEntriesByIdUser(userId).collectList();
     }
 
 
     private CreditAnalysisPayload buildPayload(Application newApp, ValidatedUser user, LoanType newLoanType,
-                                                  List<Application> activeLoans, Map<UUID, LoanType> activeLoanTypesMap) {
+                                                  List<DebtLedgerEntry> activeLoans) {
         LoanDetails newLoanDetails = LoanDetails.builder()
                 .amount(newApp.getAmount())
                 .term(newApp.getTerm())
@@ -113,15 +109,12 @@ public class RegisterRequestUseCase {
                 .build();
 
         List<LoanDetails> activeLoansDetails = activeLoans.stream()
-                .map(loan -> {
-                    LoanType loanType = activeLoanTypesMap.get(loan.getIdLoanType());
-                    return LoanDetails.builder()
-                            .amount(loan.getAmount())
-                            .term(loan.getTerm())
-                            .interestRate(loanType.getInterestRate())
-                            .estado(APPROVED_STATUS_NAME)
-                            .build();
-                })
+                .map(loan -> LoanDetails.builder()
+                        .amount(loan.getAmount())
+                        .term(loan.getTerm())
+                        .interestRate(loan.getInterestRate())
+                        .estado(APPROVED_STATUS_NAME)
+                        .build())
                 .collect(Collectors.toList());
 
         return CreditAnalysisPayload.builder()
@@ -0,0 +1,135 @@
+package co.com.pragma.usecase.registerrequestasync;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyConflictException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
+import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
+import co.com.pragma.model.exception.StatusTransitionConflictException;
+import co.com.pragma.model.exception.TokenValidationException;
+import co.com.pragma.model.exception.UnauthorizedException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.intake.gateways.ApplicationIntakeRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class RegisterRequestAsyncUseCase {
+
+    static final String REGISTRATION_FAILED = "Registration failed";
+
+    private static final List<Class<? extends RuntimeException>> CLIENT_ERRORS = List.of(
+            EntityNotFoundException.class,
+            IdempotencyKeyConflictException.class,
+            IdempotencyKeyMismatchException.class,
+            IntakeCapacityExceededException.class,
+            InvalidAmountException.class,
+            InvalidDateRangeException.class,
+            InvalidPaginationException.class,
+            InvalidSearchFilterException.class,
+            StatusTransitionConflictException.class,
+            TokenValidationException.class,
+            UnauthorizedException.class);
+
+    private final ApplicationIntakeRepository applicationIntakeRepository;
+    private final RegisterRequestUseCase registerRequestUseCase;
+    private final RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase;
+    private final CustomLogger customLogger;
+
+    /**
+     * Guarda la solicitud como una recepción pendiente sin consultar el servicio de autenticación ni los tipos de
+     * préstamo; el registro completo se hace después con {@link #process}.
+     */
+    public Mono<ApplicationIntake> accept(Application application) {
+        return applicationIntakeRepository.save(ApplicationIntake.builder()
+                        .idDocument(application.getIdDocument())
+                        .amount(application.getAmount())
+                        .term(application.getTerm())
+                        .idLoanType(application.getIdLoanType())
+                        .status(IntakeStatus.PENDING)
+                        .build())
+                .doOnNext(intake -> customLogger.trace("Accepted intake {} for idDocument: {}",
+                        intake.getId(), intake.getIdDocument()));
+    }
+
+    /**
+     * Ejecuta el registro de una recepción pendiente y deja en ella el resultado: el id de la solicitud creada o el
+     * motivo del fallo, que solo conserva el mensaje de los errores de dominio. Una recepción que ya no está pendiente
+     * se omite. Nunca termina con error.
+     */
+    public Mono<ApplicationIntake> process(ApplicationIntake intake, String token, String idempotencyKey) {
+        return applicationIntakeRepository.markProcessing(intake.getId())
+                .filter(Boolean::booleanValue)
+                .flatMap(claimed -> register(toApplication(intake), token, idempotencyKey))
+                .flatMap(saved -> applicationIntakeRepository.markCompleted(intake.getId(), saved.getId())
+                        .thenReturn(intake.toBuilder()
+                                .status(IntakeStatus.COMPLETED)
+                                .idApplication(saved.getId())
+                                .build()))
+                .doOnNext(completed -> customLogger.trace("Intake {} registered application {}",
+                        completed.getId(), completed.getIdApplication()))
+                .onErrorResume(error -> {
+                    String reason = reason(intake.getId(), error);
+                    return reject(intake.getId(), reason)
+                            .thenReturn(intake.toBuilder()
+                                    .status(IntakeStatus.FAILED)
+                                    .error(reason)
+                                    .build())
+                            .onErrorResume(markError -> {
+                                customLogger.warn("Could not mark intake {} as failed: {}",
+                                        intake.getId(), markError.getMessage());
+                                return Mono.empty();
+                            });
+                });
+    }
+
+    public Mono<Void> reject(UUID idIntake, String reason) {
+        return applicationIntakeRepository.markFailed(idIntake, reason == null ? "Unknown error" : reason);
+    }
+
+    /**
+     * Devuelve la recepción solo a quien la creó; para cualquier otro cliente se comporta como inexistente.
+     */
+    public Mono<ApplicationIntake> findIntake(UUID idIntake, String idDocument) {
+        return applicationIntakeRepository.findById(idIntake)
+                .filter(intake -> intake.getIdDocument().equals(idDocument))
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Intake not found")));
+    }
+
+    // The intake is shown to the client, so only the domain errors the synchronous endpoint also reports keep their
+    // message; anything else may carry SQL or internal URLs and is only logged.
+    private String reason(UUID idIntake, Throwable error) {
+        if (CLIENT_ERRORS.stream().anyMatch(type -> type.isInstance(error))) {
+            customLogger.trace("Intake {} failed: {}", idIntake, error.getMessage());
+            return error.getMessage();
+        }
+        customLogger.error("Intake {} failed", idIntake, error);
+        return REGISTRATION_FAILED;
+    }
+
+    private Mono<Application> register(Application application, String token, String idempotencyKey) {
+        return idempotencyKey == null
+                ? registerRequestUseCase.registerApplication(application, token)
+                : registerRequestIdempotentUseCase.registerApplication(application, token, idempotencyKey);
+    }
+
+    private Application toApplication(ApplicationIntake intake) {
+        return Application.builder()
+                .idDocument(intake.getIdDocument())
+                .amount(intake.getAmount())
+                .term(intake.getTerm())
+                .idLoanType(intake.getIdLoanType())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package co.com.pragma.usecase.registerrequestidempotent;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyConflictException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@RequiredArgsConstructor
+public class RegisterRequestIdempotentUseCase {
+
+    private final RegisterRequestUseCase registerRequestUseCase;
+    private final IdempotencyRepository idempotencyRepository;
+    private final CustomLogger customLogger;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Registra la solicitud una sola vez por cliente e {@code Idempotency-Key}. Los reintentos de una solicitud ya
+     * registrada devuelven la respuesta original guardada con la clave, sin volver a ejecutar
+     * {@link RegisterRequestUseCase} ni leer la solicitud, que puede haber cambiado o archivado; los duplicados
+     * concurrentes en esta instancia comparten la ejecución en curso, y los que llegan a otra instancia mientras la
+     * primera no ha terminado se rechazan. Reutilizar la clave con un cuerpo distinto también se rechaza. Si el registro
+     * falla, la clave se libera para que el cliente pueda reintentar.
+     */
+    public Mono<Application> registerApplication(Application application, String token, String idempotencyKey) {
+        return Mono.defer(() -> {
+            IdempotencyRecord record = IdempotencyRecord.builder()
+                    .scope(application.getIdDocument())
+                    .key(idempotencyKey)
+                    .fingerprint(fingerprint(application))
+                    .build();
+            String slot = record.getScope() + ":" + record.getKey();
+            InFlight candidate = new InFlight(slot, record, application, token);
+            InFlight existing = inFlight.putIfAbsent(slot, candidate);
+            InFlight execution = existing == null ? candidate : existing;
+            if (!execution.fingerprint.equals(record.getFingerprint())) {
+                return Mono.error(mismatch());
+            }
+            if (existing != null) {
+                customLogger.trace("Joining in-flight registration for Idempotency-Key {}", idempotencyKey);
+            }
+            return execution.result;
+        });
+    }
+
+    private Mono<Application> execute(IdempotencyRecord record, Application application, String token) {
+        return idempotencyRepository.find(record.getScope(), record.getKey())
+                .flatMap(stored -> replay(stored, record))
+                .switchIfEmpty(Mono.defer(() -> idempotencyRepository.reserve(record)
+                        .flatMap(reserved -> Boolean.TRUE.equals(reserved)
+                                ? register(record, application, token)
+                                : idempotencyRepository.find(record.getScope(), record.getKey())
+                                        .flatMap(stored -> replay(stored, record))
+                                        .switchIfEmpty(Mono.error(inProgress())))));
+    }
+
+    private Mono<Application> replay(IdempotencyRecord stored, IdempotencyRecord record) {
+        if (!stored.getFingerprint().equals(record.getFingerprint())) {
+            return Mono.error(mismatch());
+        }
+        if (!stored.isCompleted()) {
+            return Mono.error(inProgress());
+        }
+        customLogger.trace("Replaying application {} for Idempotency-Key {}", stored.getIdApplication(), record.getKey());
+        return Mono.justOrEmpty(stored.getResponse())
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found")));
+    }
+
+    private Mono<Application> register(IdempotencyRecord record, Application application, String token) {
+        // The key is completed in the registration transaction, so the application never commits without it. A
+        // failed registration rolls back and frees the key so the client can retry, unless the reservation ran out
+        // and was taken over: the key then belongs to the request that took it.
+        return registerRequestUseCase.registerApplication(application, token, saved -> idempotencyRepository
+                        .complete(record.toBuilder().idApplication(saved.getId()).response(saved).build())
+                        .flatMap(completed -> Boolean.TRUE.equals(completed) ? Mono.<Void>empty() : Mono.error(inProgress())))
+                .onErrorResume(error -> (error instanceof IdempotencyKeyConflictException ? Mono.<Void>empty() : release(record))
+                        .then(Mono.error(error)));
+    }
+
+    private Mono<Void> release(IdempotencyRecord record) {
+        return idempotencyRepository.release(record)
+                .onErrorResume(releaseError -> {
+                    customLogger.warn("Could not release Idempotency-Key {}: {}", record.getKey(), releaseError.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static String fingerprint(Application application) {
+        String canonical = application.getIdDocument() + "|" + application.getAmount() + "|"
+                + application.getTerm() + "|" + application.getIdLoanType();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static IdempotencyKeyMismatchException mismatch() {
+        return new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request");
+    }
+
+    private static IdempotencyKeyConflictException inProgress() {
+        return new IdempotencyKeyConflictException("A request with this Idempotency-Key is still being processed");
+    }
+
+    private final class InFlight {
+        private final String fingerprint;
+        private final Mono<Application> result;
+
+        private InFlight(String slot, IdempotencyRecord record, Application application, String token) {
+            this.fingerprint = record.getFingerprint();
+            this.result = Mono.defer(() -> execute(record, application, token))
+                    .doFinally(signal -> inFlight.remove(slot, this))
+                    .cache();
+        }
+    }
+}
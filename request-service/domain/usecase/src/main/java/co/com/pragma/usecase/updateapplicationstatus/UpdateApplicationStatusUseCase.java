@@ -1,16 +1,27 @@
 package co.com.pragma.usecase.updateapplicationstatus;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.StatusTransitionConflictException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
-import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -18,42 +29,61 @@ public class UpdateApplicationStatusUseCase {
 
     private final ApplicationRepository applicationRepository;
     private final StatusRepository statusRepository;
+    private final LoanTypeRepository loanTypeRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
+    private final PaymentPlanRepository paymentPlanRepository;
+    private final DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    private final ApplicationSummaryRepository applicationSummaryRepository;
+    private final TransactionManager transactionManager;
     private final NotificationGateway notificationGateway;
-    private final ReportApprovedGateway reportApprovedGateway;
     private final CustomLogger customLogger;
 
     private static final String APPROVED_STATUS_NAME = "Approved";
 
     public Mono<Application> updateStatus(UUID applicationId, String newStatusName) {
+        return updateStatus(applicationId, newStatusName, null);
+    }
+
+    /**
+     * Cambia el estado de la solicitud con una única transición condicional. Si se indica
+     * {@code expectedStatusName}, la solicitud debe seguir en ese estado; si no, basta con que
+     * no esté ya en el estado destino. Cualquier otra decisión concurrente produce un conflicto.
+     * Las notificaciones y los contadores del tablero del asesor se registran dentro de la misma transacción, y al
+     * liberar una solicitud aprobada se borra también su plan de pagos.
+     */
+    public Mono<Application> updateStatus(UUID applicationId, String newStatusName, String expectedStatusName) {
         customLogger.info("Starting use case to update request status: {}", applicationId);
 
         return statusRepository.findByNameIgnoreCase(newStatusName)
                 .switchIfEmpty(Mono.error(new EntityNotFoundException("Invalid status: " + newStatusName)))
-                .flatMap(newStatus -> applicationRepository.findById(applicationId)
-                        .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found")))
-                        .flatMap(application -> {
-                            application.setIdStatus(newStatus.getId());
-                            application.setUpdatedAt(LocalDateTime.now());
-                            if (APPROVED_STATUS_NAME.equalsIgnoreCase(newStatus.getName())) {
-                                application.setApprovedAt(LocalDateTime.now());
-                            }else {
-                                application.setApprovedAt(null);
-                            }
-                            return applicationRepository.save(application)
+                .zipWith(findExpectedStatusIds(expectedStatusName))
+                .flatMap(tuple -> {
+                    Status newStatus = tuple.getT1();
+                    boolean approved = APPROVED_STATUS_NAME.equalsIgnoreCase(newStatus.getName());
+                    LocalDateTime now = LocalDateTime.now();
+                    StatusTransition transition = StatusTransition.builder()
+                            .applicationId(applicationId)
+                            .targetStatusId(newStatus.getId())
+                            .expectedStatusIds(tuple.getT2())
+                            .transitionedAt(now)
+                            .approvedAt(approved ? now : null)
+                            .build();
+
+                    return transactionManager.executeInTransaction(
+                            applicationRepository.transitionStatus(transition)
+                                    .switchIfEmpty(Mono.defer(() -> rejectTransition(applicationId)))
+                                    .flatMap(result -> applicationSummaryRepository.recordTransitions(List.of(result))
+                                            .then(Mono.defer(() -> updateLedgers(result, approved)))
+                                            .thenReturn(result.getApplication()))
                                     .flatMap(savedApp ->
                                             notificationGateway.sendDecisionNotification(savedApp, newStatus.getName())
-                                                    .then(
-                                                            APPROVED_STATUS_NAME.equalsIgnoreCase(newStatus.getName())
-                                                                    ? reportApprovedGateway.sendReportApprovedCount(savedApp, newStatus.getName())
-                                                                    : Mono.empty()
-                                                    )
                                                     .then(Mono.fromRunnable(() ->
-                                                            customLogger.trace("Notification + reporting event sent for Application ID: {}", savedApp.getId())
+                                                            customLogger.trace("Notification queued for Application ID: {}", savedApp.getId())
                                                     ))
                                                     .thenReturn(savedApp)
-                                    );
-                        })
-                )
+                                    )
+                    );
+                })
                 .doOnSuccess(updatedApp ->
                         customLogger.trace("Application status updated successfully for ID: {}", updatedApp.getId())
                 )
@@ -61,4 +91,35 @@ public class UpdateApplicationStatusUseCase {
                         customLogger.trace("Application status update failed for ID {}: {}", applicationId, error.getMessage())
                 );
     }
+
+    private Mono<List<UUID>> findExpectedStatusIds(String expectedStatusName) {
+        if (expectedStatusName == null || expectedStatusName.isBlank()) {
+            return Mono.just(List.of());
+        }
+        return statusRepository.findByNameIgnoreCase(expectedStatusName)
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Invalid status: " + expectedStatusName)))
+                .map(status -> List.of(status.getId()));
+    }
+
+    private Mono<TransitionedApplication> rejectTransition(UUID applicationId) {
+        return applicationRepository.findById(applicationId)
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found")))
+                .flatMap(application -> Mono.error(new StatusTransitionConflictException(
+                        "Application " + applicationId + " is no longer in the expected status")));
+    }
+
+    private Mono<Void> updateLedgers(TransitionedApplication result, boolean approved) {
+        Application application = result.getApplication();
+        if (approved) {
+            return loanTypeRepository.findById(application.getIdLoanType())
+                    .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
+                    .flatMap(loanType -> debtLedgerRepository.recordApproval(DebtLedgerEntry.of(application, loanType)))
+                    .then(Mono.defer(() -> dailyApprovalRollupRepository.recordApproval(application)));
+        }
+        return statusRepository.findByName(APPROVED_STATUS_NAME)
+                .filter(approvedStatus -> approvedStatus.getId().equals(result.getPreviousStatusId()))
+                .flatMap(approvedStatus -> debtLedgerRepository.recordRelease(application.getId())
+                        .then(Mono.defer(() -> paymentPlanRepository.deleteByIdApplication(application.getId())))
+                        .then(Mono.defer(() -> dailyApprovalRollupRepository.retractApproval(result.previousState()))));
+    }
 }
@@ -0,0 +1,234 @@
+package co.com.pragma.usecase.updateapplicationstatusbulk;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.BulkDecisionItem;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class UpdateApplicationStatusBulkUseCase {
+
+    static final int CHUNK_SIZE = 100;
+
+    private final ApplicationRepository applicationRepository;
+    private final StatusRepository statusRepository;
+    private final LoanTypeRepository loanTypeRepository;
+    private final DebtLedgerRepository debtLedgerRepository;
+    private final PaymentPlanRepository paymentPlanRepository;
+    private final DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    private final ApplicationSummaryRepository applicationSummaryRepository;
+    private final TransactionManager transactionManager;
+    private final NotificationGateway notificationGateway;
+    private final CustomLogger customLogger;
+
+    private static final String APPROVED_STATUS_NAME = "Approved";
+
+    /**
+     * Aplica las decisiones por bloques de {@value #CHUNK_SIZE}. Cada bloque resuelve sus estados una sola vez, agrupa
+     * las decisiones por estado destino y estado esperado, y aplica cada grupo con una única transición condicional
+     * sobre todas sus solicitudes. Los libros de deuda, el acumulado diario, los contadores del tablero y los eventos de notificación se
+     * registran por grupo dentro de la misma transacción, junto con el borrado de los planes de pagos liberados. Las solicitudes que ya no estaban en el estado esperado o que
+     * no existen se rechazan individualmente; si el bloque falla, todos sus elementos pendientes quedan rechazados.
+     */
+    public Flux<BulkDecisionItem> updateStatuses(Flux<BulkDecisionItem> items) {
+        return items.buffer(CHUNK_SIZE)
+                .concatMap(this::decideChunk);
+    }
+
+    private Flux<BulkDecisionItem> decideChunk(List<BulkDecisionItem> chunk) {
+        List<BulkDecisionItem> pending = rejectDuplicates(chunk);
+        if (pending.isEmpty()) {
+            return Flux.fromIterable(chunk);
+        }
+        customLogger.info("Starting bulk decision of {} applications", pending.size());
+
+        return resolveStatuses(pending)
+                .flatMap(statuses -> {
+                    Map<DecisionGroup, List<BulkDecisionItem>> groups = group(pending, statuses);
+                    if (groups.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    Status approvedStatus = statuses.get(APPROVED_STATUS_NAME.toLowerCase(Locale.ROOT));
+                    return transactionManager.executeInTransaction(
+                            Flux.fromIterable(groups.entrySet())
+                                    .concatMap(group -> decideGroup(group.getKey(), group.getValue(), now, approvedStatus))
+                                    .then(Mono.defer(() -> rejectUndecided(groups.values()))));
+                })
+                .doOnSuccess(ignored -> customLogger.trace("Bulk decision chunk applied {} of {} decisions",
+                        pending.stream().filter(item -> !item.isRejected()).count(), pending.size()))
+                .onErrorResume(error -> {
+                    customLogger.trace("Bulk decision chunk failed: {}", error.getMessage());
+                    pending.stream()
+                            .filter(item -> !item.isRejected())
+                            .forEach(item -> item.reject(error.getMessage()));
+                    return Mono.empty();
+                })
+                .thenMany(Flux.fromIterable(chunk));
+    }
+
+    private List<BulkDecisionItem> rejectDuplicates(List<BulkDecisionItem> chunk) {
+        Set<UUID> seen = new HashSet<>();
+        List<BulkDecisionItem> pending = new ArrayList<>();
+        for (BulkDecisionItem item : chunk) {
+            if (item.isRejected()) {
+                continue;
+            }
+            if (!seen.add(item.getIdApplication())) {
+                item.reject("Application " + item.getIdApplication() + " appears more than once in this batch");
+                continue;
+            }
+            pending.add(item);
+        }
+        return pending;
+    }
+
+    private Mono<Map<String, Status>> resolveStatuses(List<BulkDecisionItem> pending) {
+        return Flux.fromStream(Stream.concat(
+                                Stream.of(APPROVED_STATUS_NAME),
+                                pending.stream().flatMap(item -> Stream.of(item.getStatus(), item.getExpectedStatus())))
+                        .filter(name -> name != null && !name.isBlank())
+                        .map(name -> name.toLowerCase(Locale.ROOT))
+                        .distinct())
+                .flatMap(statusRepository::findByNameIgnoreCase)
+                .collectMap(status -> status.getName().toLowerCase(Locale.ROOT));
+    }
+
+    private Map<DecisionGroup, List<BulkDecisionItem>> group(List<BulkDecisionItem> pending, Map<String, Status> statuses) {
+        Map<DecisionGroup, List<BulkDecisionItem>> groups = new LinkedHashMap<>();
+        for (BulkDecisionItem item : pending) {
+            Status target = findStatus(statuses, item.getStatus());
+            boolean expects = item.getExpectedStatus() != null && !item.getExpectedStatus().isBlank();
+            Status expected = expects ? findStatus(statuses, item.getExpectedStatus()) : null;
+            if (target == null) {
+                item.reject("Invalid status: " + item.getStatus());
+            } else if (expects && expected == null) {
+                item.reject("Invalid status: " + item.getExpectedStatus());
+            } else {
+                groups.computeIfAbsent(new DecisionGroup(target, expected), key -> new ArrayList<>()).add(item);
+            }
+        }
+        return groups;
+    }
+
+    private Status findStatus(Map<String, Status> statuses, String name) {
+        return name == null ? null : statuses.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    private Mono<Void> decideGroup(DecisionGroup group, List<BulkDecisionItem> items, LocalDateTime now,
+                                   Status approvedStatus) {
+        Status target = group.target();
+        boolean approved = APPROVED_STATUS_NAME.equalsIgnoreCase(target.getName());
+        StatusTransition transition = StatusTransition.builder()
+                .targetStatusId(target.getId())
+                .expectedStatusIds(group.expected() == null ? List.of() : List.of(group.expected().getId()))
+                .transitionedAt(now)
+                .approvedAt(approved ? now : null)
+                .build();
+        Map<UUID, BulkDecisionItem> byId = items.stream()
+                .collect(Collectors.toMap(BulkDecisionItem::getIdApplication, Function.identity()));
+
+        return applicationRepository.transitionStatuses(List.copyOf(byId.keySet()), transition)
+                .collectList()
+                .flatMap(results -> {
+                    if (results.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    results.forEach(result -> byId.get(result.getApplication().getId()).setApplication(result.getApplication()));
+                    List<Application> applications = results.stream()
+                            .map(TransitionedApplication::getApplication)
+                            .toList();
+                    return updateLedgers(results, approved, approvedStatus)
+                            .then(Mono.defer(() -> applicationSummaryRepository.recordTransitions(results)))
+                            .then(Mono.defer(() -> notificationGateway.sendDecisionNotifications(applications, target.getName())))
+                            .then(Mono.fromRunnable(() -> customLogger.trace(
+                                    "{} applications moved to {}; notification events queued",
+                                    applications.size(), target.getName())));
+                });
+    }
+
+    private Mono<Void> updateLedgers(List<TransitionedApplication> results, boolean approved, Status approvedStatus) {
+        if (approved) {
+            List<Application> applications = results.stream()
+                    .map(TransitionedApplication::getApplication)
+                    .toList();
+            return loanTypeRepository.findByIds(applications.stream().map(Application::getIdLoanType).distinct().toList())
+                    .collectMap(LoanType::getId)
+                    .flatMap(loanTypes -> {
+                        if (applications.stream().anyMatch(application -> !loanTypes.containsKey(application.getIdLoanType()))) {
+                            return Mono.error(new EntityNotFoundException("LoanType not found for application"));
+                        }
+                        return debtLedgerRepository.recordApprovals(applications.stream()
+                                .map(application -> DebtLedgerEntry.of(application, loanTypes.get(application.getIdLoanType())))
+                                .toList());
+                    })
+                    .then(Mono.defer(() -> dailyApprovalRollupRepository.recordApprovals(applications)));
+        }
+        if (approvedStatus == null) {
+            return Mono.empty();
+        }
+        List<TransitionedApplication> released = results.stream()
+                .filter(result -> approvedStatus.getId().equals(result.getPreviousStatusId()))
+                .toList();
+        if (released.isEmpty()) {
+            return Mono.empty();
+        }
+        List<UUID> releasedIds = released.stream().map(result -> result.getApplication().getId()).toList();
+        return debtLedgerRepository.recordReleases(releasedIds)
+                .then(Mono.defer(() -> paymentPlanRepository.deleteByIdApplicationIn(releasedIds)))
+                .then(Mono.defer(() -> dailyApprovalRollupRepository.retractApprovals(released.stream()
+                        .map(TransitionedApplication::previousState)
+                        .toList())));
+    }
+
+    private Mono<Void> rejectUndecided(Iterable<List<BulkDecisionItem>> groups) {
+        List<BulkDecisionItem> undecided = new ArrayList<>();
+        groups.forEach(items -> items.stream()
+                .filter(item -> item.getApplication() == null)
+                .forEach(undecided::add));
+        if (undecided.isEmpty()) {
+            return Mono.empty();
+        }
+        return applicationRepository.findAllById(undecided.stream().map(BulkDecisionItem::getIdApplication).toList())
+                .map(Application::getId)
+                .collect(Collectors.toSet())
+                .doOnNext(existing -> undecided.forEach(item -> item.reject(existing.contains(item.getIdApplication())
+                        ? "Application " + item.getIdApplication() + " is no longer in the expected status"
+                        : "Application not found")))
+                .then();
+    }
+
+    // Both statuses come from the chunk's resolved map, so one instance per status keeps the grouping by identity.
+    private record DecisionGroup(Status target, Status expected) {
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.pragma.usecase.findapprovedapplicationsbyrange;
+
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindApprovedApplicationsByRangeUseCaseTest {
+
+    @Mock
+    private DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private FindApprovedApplicationsByRangeUseCase useCase;
+
+    private static final LocalDate FROM = LocalDate.of(2025, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    @Test
+    @DisplayName("Should sum the rollup rows of the range and keep the breakdown")
+    void shouldSummarizeRollupRows() {
+        UUID personal = UUID.randomUUID();
+        UUID mortgage = UUID.randomUUID();
+        when(dailyApprovalRollupRepository.findByBusinessDateBetween(FROM, TO)).thenReturn(Flux.just(
+                DailyApprovalRollup.builder().businessDate(FROM).idLoanType(personal)
+                        .approvedCount(2L).totalAmount(1500.10).build(),
+                DailyApprovalRollup.builder().businessDate(FROM).idLoanType(mortgage)
+                        .approvedCount(1L).totalAmount(90000.0).build(),
+                DailyApprovalRollup.builder().businessDate(TO).idLoanType(personal)
+                        .approvedCount(3L).totalAmount(0.2).build()
+        ));
+
+        StepVerifier.create(useCase.findApprovedApplicationsByRange(FROM, TO))
+                .expectNextMatches(report ->
+                        report.getFrom().equals(FROM)
+                                && report.getTo().equals(TO)
+                                && report.getApprovedLoansCount() == 6L
+                                && report.getTotalLoanAmount() == 91500.30
+                                && report.getDays().size() == 3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return zero totals when there were no approvals")
+    void shouldReturnZeroWhenNoRows() {
+        when(dailyApprovalRollupRepository.findByBusinessDateBetween(FROM, FROM)).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.findApprovedApplicationsByRange(FROM, FROM))
+                .expectNextMatches(report ->
+                        report.getApprovedLoansCount() == 0L
+                                && report.getTotalLoanAmount() == 0.0
+                                && report.getDays().isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted range")
+    void shouldRejectInvertedRange() {
+        StepVerifier.create(useCase.findApprovedApplicationsByRange(TO, FROM))
+                .expectError(InvalidDateRangeException.class)
+                .verify();
+
+        verifyNoInteractions(dailyApprovalRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject ranges longer than a year")
+    void shouldRejectTooLongRange() {
+        StepVerifier.create(useCase.findApprovedApplicationsByRange(FROM, FROM.plusDays(366)))
+                .expectErrorMessage("Date range must not exceed 366 days")
+                .verify();
+
+        verifyNoInteractions(dailyApprovalRollupRepository);
+    }
+}
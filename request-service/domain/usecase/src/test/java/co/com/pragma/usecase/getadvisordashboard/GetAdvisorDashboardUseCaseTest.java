@@ -0,0 +1,131 @@
+package co.com.pragma.usecase.getadvisordashboard;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.ApplicationSummary;
+import co.com.pragma.model.summary.DashboardEntry;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetAdvisorDashboardUseCaseTest {
+
+    @Mock
+    private ApplicationSummaryRepository applicationSummaryRepository;
+    @Mock
+    private StatusRepository statusRepository;
+    @Mock
+    private LoanTypeRepository loanTypeRepository;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private GetAdvisorDashboardUseCase useCase;
+
+    private Status pending;
+    private Status approved;
+    private LoanType personal;
+    private LoanType vehicle;
+
+    @BeforeEach
+    void setup() {
+        pending = Status.builder().id(UUID.randomUUID()).name("Pending Review").build();
+        approved = Status.builder().id(UUID.randomUUID()).name("Approved").build();
+        personal = LoanType.builder().id(UUID.randomUUID()).name("Personal").build();
+        vehicle = LoanType.builder().id(UUID.randomUUID()).name("Vehicle").build();
+    }
+
+    private ApplicationSummary row(Status status, LoanType loanType, long count, double amount) {
+        return ApplicationSummary.builder()
+                .idStatus(status.getId())
+                .idLoanType(loanType.getId())
+                .applicationCount(count)
+                .totalAmount(amount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should fold the status and loan type counters into both breakdowns and the totals")
+    void shouldSummarizeCounters() {
+        when(applicationSummaryRepository.findAll()).thenReturn(Flux.just(
+                row(pending, personal, 3, 3000.0),
+                row(pending, vehicle, 1, 20000.0),
+                row(approved, personal, 2, 5000.0)));
+        when(statusRepository.findByIds(List.of(pending.getId(), approved.getId())))
+                .thenReturn(Flux.just(pending, approved));
+        when(loanTypeRepository.findByIds(List.of(personal.getId(), vehicle.getId())))
+                .thenReturn(Flux.just(personal, vehicle));
+
+        StepVerifier.create(useCase.getDashboard())
+                .assertNext(dashboard -> {
+                    assertEquals(6L, dashboard.getTotalApplications());
+                    assertEquals(28000.0, dashboard.getTotalAmount());
+                    assertEquals(List.of("Approved", "Pending Review"),
+                            dashboard.getByStatus().stream().map(DashboardEntry::getName).toList());
+                    DashboardEntry pendingEntry = dashboard.getByStatus().get(1);
+                    assertEquals(4L, pendingEntry.getApplicationCount());
+                    assertEquals(23000.0, pendingEntry.getTotalAmount());
+                    DashboardEntry personalEntry = dashboard.getByLoanType().get(0);
+                    assertEquals("Personal", personalEntry.getName());
+                    assertEquals(5L, personalEntry.getApplicationCount());
+                    assertEquals(8000.0, personalEntry.getTotalAmount());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty dashboard when no application is counted")
+    void shouldReturnEmptyDashboard() {
+        when(applicationSummaryRepository.findAll()).thenReturn(Flux.empty());
+        when(statusRepository.findByIds(anyList())).thenReturn(Flux.empty());
+        when(loanTypeRepository.findByIds(anyList())).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.getDashboard())
+                .assertNext(dashboard -> {
+                    assertEquals(0L, dashboard.getTotalApplications());
+                    assertEquals(0.0, dashboard.getTotalAmount());
+                    assertEquals(List.of(), dashboard.getByStatus());
+                    assertEquals(List.of(), dashboard.getByLoanType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep a counter whose status is no longer known, listed after the named ones")
+    void shouldKeepUnknownReferences() {
+        UUID removedStatus = UUID.randomUUID();
+        when(applicationSummaryRepository.findAll()).thenReturn(Flux.just(
+                ApplicationSummary.builder().idStatus(removedStatus).idLoanType(personal.getId())
+                        .applicationCount(1L).totalAmount(100.0).build(),
+                row(pending, personal, 1, 200.0)));
+        when(statusRepository.findByIds(List.of(removedStatus, pending.getId()))).thenReturn(Flux.just(pending));
+        when(loanTypeRepository.findByIds(List.of(personal.getId()))).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(useCase.getDashboard())
+                .assertNext(dashboard -> {
+                    assertEquals(2, dashboard.getByStatus().size());
+                    assertEquals("Pending Review", dashboard.getByStatus().get(0).getName());
+                    assertEquals(removedStatus, dashboard.getByStatus().get(1).getId());
+                    assertEquals(2L, dashboard.getByLoanType().get(0).getApplicationCount());
+                })
+                .verifyComplete();
+    }
+}
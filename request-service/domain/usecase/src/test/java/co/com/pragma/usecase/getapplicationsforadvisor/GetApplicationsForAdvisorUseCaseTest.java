@@ -2,9 +2,14 @@ package co.com.pragma.usecase.getapplicationsforadvisor;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.auth.UserFound;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
@@ -24,6 +29,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -37,6 +43,7 @@ class GetApplicationsForAdvisorUseCaseTest {
     @Mock
     private StatusRepository statusRepository;
     @Mock private LoanTypeRepository loanTypeRepository;
+    @Mock private DebtLedgerRepository debtLedgerRepository;
     @Mock private AuthValidationGateway authValidationGateway;
     @Mock private CustomLogger logger;
 
@@ -48,7 +55,6 @@ class GetApplicationsForAdvisorUseCaseTest {
     private LoanType loanType;
     private UserFound user;
     private CustomPageable pageable;
-    private Status approvedStatus;
 
     @BeforeEach
     void setUp() {
@@ -57,11 +63,6 @@ class GetApplicationsForAdvisorUseCaseTest {
                 .name("Pending Review")
                 .build();
 
-        approvedStatus = Status.builder()
-                .id(UUID.randomUUID())
-                .name("Approved")
-                .build();
-
         application = Application.builder()
                 .id(UUID.randomUUID())
                 .idUser(UUID.randomUUID())
@@ -99,14 +100,14 @@ class GetApplicationsForAdvisorUseCaseTest {
                 })
                 .verifyComplete();
 
-        verify(applicationRepository, never()).findByIdStatusIn(anyList(), any());
+        verify(applicationRepository, never()).search(any(), any());
     }
 
     @Test
     @DisplayName("Should return applications mapped to advisor view when statuses exist")
     void shouldReturnApplicationsMappedToAdvisorView() {
         when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(CustomPage.<Application>builder()
                         .content(List.of(application))
                         .currentPage(0)
@@ -119,12 +120,9 @@ class GetApplicationsForAdvisorUseCaseTest {
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
                 .thenReturn(Flux.just(user));
 
-        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(statusRepository.findById(application.getIdStatus())).thenReturn(Mono.just(status));
-
-        when(statusRepository.findByName("Approved"))
-                .thenReturn(Mono.just(Status.builder().id(UUID.randomUUID()).name("Approved").build()));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), any()))
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType()))).thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(List.of(application.getIdStatus()))).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
                 .thenReturn(Flux.empty());
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
@@ -143,17 +141,14 @@ class GetApplicationsForAdvisorUseCaseTest {
     @Test
     @DisplayName("Should calculate monthly debt for user with approved applications")
     void shouldCalculateMonthlyDebtForApprovedApplications() {
-        Status approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
-
         when(statusRepository.findByNames(anyList())).thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(anyList(), eq(pageable)))
+        when(applicationRepository.search(any(ApplicationSearchCriteria.class), eq(pageable)))
                 .thenReturn(Mono.just(CustomPage.<Application>builder().content(List.of(application)).build()));
         when(authValidationGateway.foundClientByIds(anyList(), any())).thenReturn(Flux.just(user));
-        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(statusRepository.findById(application.getIdStatus())).thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(application.getIdUser(), approvedStatus.getId()))
-                .thenReturn(Flux.just(application));
+        when(loanTypeRepository.findByIds(anyList())).thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(anyList())).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
+                .thenReturn(Flux.just(ledger(loanType, application)));
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
                 .assertNext(page -> assertThat(page.getContent().get(0).getTotalMonthlyDebt()).isGreaterThan(BigDecimal.ZERO))
@@ -164,9 +159,12 @@ class GetApplicationsForAdvisorUseCaseTest {
     @DisplayName("Should ignore application if user not found")
     void shouldIgnoreApplicationIfUserNotFound() {
         when(statusRepository.findByNames(anyList())).thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(anyList(), eq(pageable)))
+        when(applicationRepository.search(any(ApplicationSearchCriteria.class), eq(pageable)))
                 .thenReturn(Mono.just(CustomPage.<Application>builder().content(List.of(application)).build()));
         when(authValidationGateway.foundClientByIds(anyList(), any())).thenReturn(Flux.empty());
+        when(loanTypeRepository.findByIds(anyList())).thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(anyList())).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(anyList())).thenReturn(Flux.empty());
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
                 .assertNext(page -> assertThat(page.getContent()).isEmpty())
@@ -207,20 +205,16 @@ class GetApplicationsForAdvisorUseCaseTest {
 
         when(statusRepository.findByNames(List.of("Pending Review")))
                 .thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(applicationPage));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
                 .thenReturn(Flux.just(user));
-        when(loanTypeRepository.findById(application.getIdLoanType()))
-                .thenReturn(Mono.just(zeroInterestLoanType));
-        when(statusRepository.findById(application.getIdStatus()))
-                .thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved"))
-                .thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), eq(approvedStatus.getId())))
-                .thenReturn(Flux.just(application));
-        when(loanTypeRepository.findById(application.getIdLoanType()))
-                .thenReturn(Mono.just(zeroInterestLoanType));
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType())))
+                .thenReturn(Flux.just(zeroInterestLoanType));
+        when(statusRepository.findByIds(List.of(application.getIdStatus())))
+                .thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
+                .thenReturn(Flux.just(ledger(zeroInterestLoanType, application)));
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
                 .assertNext(page -> {
@@ -246,17 +240,15 @@ class GetApplicationsForAdvisorUseCaseTest {
 
         when(statusRepository.findByNames(List.of("Pending Review")))
                 .thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(applicationPage));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
                 .thenReturn(Flux.just(user));
-        when(loanTypeRepository.findById(application.getIdLoanType()))
-                .thenReturn(Mono.just(loanType));
-        when(statusRepository.findById(application.getIdStatus()))
-                .thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved"))
-                .thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), eq(approvedStatus.getId())))
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType())))
+                .thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(List.of(application.getIdStatus())))
+                .thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
                 .thenReturn(Flux.empty()); // No approved applications
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
@@ -300,30 +292,25 @@ class GetApplicationsForAdvisorUseCaseTest {
 
         when(statusRepository.findByNames(List.of("Pending Review")))
                 .thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(applicationPage));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser(), secondUserId), "token"))
                 .thenReturn(Flux.just(user, secondUser));
-        when(loanTypeRepository.findById(application.getIdLoanType()))
-                .thenReturn(Mono.just(loanType));
-        when(loanTypeRepository.findById(secondApplication.getIdLoanType()))
-                .thenReturn(Mono.just(loanType));
-        when(statusRepository.findById(application.getIdStatus()))
-                .thenReturn(Mono.just(status));
-        when(statusRepository.findById(secondApplication.getIdStatus()))
-                .thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved"))
-                .thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), eq(approvedStatus.getId())))
-                .thenReturn(Flux.empty());
-        when(applicationRepository.findByIdUserAndIdStatus(eq(secondUserId), eq(approvedStatus.getId())))
-                .thenReturn(Flux.empty());
+        LoanType secondLoanType = loanType.toBuilder().id(secondApplication.getIdLoanType()).build();
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType(), secondApplication.getIdLoanType())))
+                .thenReturn(Flux.just(loanType, secondLoanType));
+        when(statusRepository.findByIds(List.of(status.getId())))
+                .thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser(), secondUserId)))
+                .thenReturn(Flux.just(ledger(secondLoanType, secondApplication)));
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
                 .assertNext(page -> {
                     assertThat(page.getContent()).hasSize(2);
                     assertThat(page.getContent().get(0).getEmail()).isEqualTo("test@test.com");
                     assertThat(page.getContent().get(1).getEmail()).isEqualTo("second@test.com");
+                    assertThat(page.getContent().get(0).getTotalMonthlyDebt()).isEqualByComparingTo(BigDecimal.ZERO);
+                    assertThat(page.getContent().get(1).getTotalMonthlyDebt()).isGreaterThan(BigDecimal.ZERO);
                 })
                 .verifyComplete();
     }
@@ -343,7 +330,7 @@ class GetApplicationsForAdvisorUseCaseTest {
 
         when(statusRepository.findByNames(List.of("Pending Review")))
                 .thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(emptyApplicationPage));
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
@@ -366,7 +353,7 @@ class GetApplicationsForAdvisorUseCaseTest {
 
         when(statusRepository.findByNames(List.of("Pending Review")))
                 .thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(CustomPage.<Application>builder()
                         .content(List.of(application))
                         .currentPage(0)
@@ -378,11 +365,10 @@ class GetApplicationsForAdvisorUseCaseTest {
                         .build()));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
                 .thenReturn(Flux.just(user));
-        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanWithInterest));
-        when(statusRepository.findById(application.getIdStatus())).thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), eq(approvedStatus.getId())))
-                .thenReturn(Flux.just(application));
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType()))).thenReturn(Flux.just(loanWithInterest));
+        when(statusRepository.findByIds(List.of(application.getIdStatus()))).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
+                .thenReturn(Flux.just(ledger(loanWithInterest, application)));
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
                 .assertNext(page -> {
@@ -406,14 +392,13 @@ class GetApplicationsForAdvisorUseCaseTest {
                 .build();
 
         when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
-        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
                 .thenReturn(Mono.just(applicationPage));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
                 .thenReturn(Flux.just(user));
-        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(statusRepository.findById(application.getIdStatus())).thenReturn(Mono.just(status));
-        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findByIdUserAndIdStatus(eq(application.getIdUser()), eq(approvedStatus.getId())))
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType()))).thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(List.of(application.getIdStatus()))).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
                 .thenReturn(Flux.empty());
 
         StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
@@ -427,23 +412,143 @@ class GetApplicationsForAdvisorUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should calculate monthly payment when term is zero")
-    void shouldCalculateMonthlyPaymentWithZeroTerm() {
-        double principal = 12000.0;
-        double annualInterestRate = 0.0;
-        int termInMonths = 0;
-
-        double result;
-        try {
-            var method = GetApplicationsForAdvisorUseCase.class
-                    .getDeclaredMethod("calculateMonthlyPayment", double.class, double.class, int.class);
-            method.setAccessible(true);
-            result = (double) method.invoke(useCase, principal, annualInterestRate, termInMonths);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    @DisplayName("Should enrich the whole page with a constant number of lookups")
+    void shouldEnrichPageWithSetBasedLookups() {
+        Application secondApplication = application.toBuilder().id(UUID.randomUUID()).amount(5000.0).build();
+        CustomPage<Application> applicationPage = CustomPage.<Application>builder()
+                .content(List.of(application, secondApplication))
+                .build();
+
+        when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
+                .thenReturn(Mono.just(applicationPage));
+        when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
+                .thenReturn(Flux.just(user));
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType()))).thenReturn(Flux.just(loanType));
+        when(statusRepository.findByIds(List.of(status.getId()))).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
+                .thenReturn(Flux.just(ledger(loanType, application, secondApplication)));
+
+        StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(2);
+                    assertThat(page.getContent().get(0).getTotalMonthlyDebt())
+                            .isEqualByComparingTo(page.getContent().get(1).getTotalMonthlyDebt());
+                    assertThat(page.getContent().get(0).getTotalMonthlyDebt()).isEqualByComparingTo("1332.73");
+                })
+                .verifyComplete();
+
+        verify(loanTypeRepository, times(1)).findByIds(anyList());
+        verify(statusRepository, times(1)).findByIds(anyList());
+        verify(debtLedgerRepository, times(1)).findByIdUserIn(anyList());
+        verify(applicationRepository, never()).findActiveLoansByIdUser(any());
+        verify(loanTypeRepository, never()).findById(any());
+        verify(statusRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should skip application when its loan type is not found")
+    void shouldSkipApplicationWhenLoanTypeNotFound() {
+        when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
+        when(applicationRepository.search(byStatus(status.getId()), eq(pageable)))
+                .thenReturn(Mono.just(CustomPage.<Application>builder().content(List.of(application)).build()));
+        when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
+                .thenReturn(Flux.just(user));
+        when(loanTypeRepository.findByIds(List.of(application.getIdLoanType()))).thenReturn(Flux.empty());
+        when(statusRepository.findByIds(List.of(application.getIdStatus()))).thenReturn(Flux.just(status));
+        when(debtLedgerRepository.findByIdUserIn(List.of(application.getIdUser())))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.getApplicationsByStatus("token", List.of("Pending Review"), pageable))
+                .assertNext(page -> assertThat(page.getContent()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should search with the resolved status and loan type ids and keep the other filters")
+    void shouldSearchWithResolvedIdsAndFilters() {
+        ApplicationSearchCriteria filters = ApplicationSearchCriteria.builder()
+                .minAmount(1000.0)
+                .maxAmount(20000.0)
+                .email("test@test.com")
+                .build();
+        when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
+        when(loanTypeRepository.findByName("Car Loan")).thenReturn(Mono.just(loanType));
+        when(applicationRepository.search(any(ApplicationSearchCriteria.class), eq(pageable)))
+                .thenReturn(Mono.just(CustomPage.<Application>builder().content(List.of()).build()));
+
+        StepVerifier.create(useCase.searchApplications("token", List.of("Pending Review"),
+                        List.of("Car Loan", "Car Loan"), filters, pageable))
+                .assertNext(page -> assertThat(page.getContent()).isEmpty())
+                .verifyComplete();
+
+        verify(loanTypeRepository, times(1)).findByName("Car Loan");
+        verify(applicationRepository).search(argThat(criteria ->
+                criteria.getStatusIds().equals(List.of(status.getId()))
+                        && criteria.getLoanTypeIds().equals(List.of(loanType.getId()))
+                        && criteria.getMinAmount() == 1000.0
+                        && criteria.getMaxAmount() == 20000.0
+                        && "test@test.com".equals(criteria.getEmail())), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Should return an empty page without querying when no requested loan type exists")
+    void shouldReturnEmptyPageWhenNoLoanTypeFound() {
+        when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
+        when(loanTypeRepository.findByName("Unknown")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.searchApplications("token", List.of("Pending Review"), List.of("Unknown"),
+                        ApplicationSearchCriteria.builder().build(), pageable))
+                .assertNext(page -> assertThat(page.getContent()).isEmpty())
+                .verifyComplete();
+
+        verify(applicationRepository, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject an amount range whose minimum is above its maximum")
+    void shouldRejectInvertedAmountRange() {
+        ApplicationSearchCriteria filters = ApplicationSearchCriteria.builder().minAmount(5000.0).maxAmount(1000.0).build();
+
+        StepVerifier.create(useCase.searchApplications("token", List.of("Pending Review"), List.of(), filters, pageable))
+                .expectErrorMatches(error -> error instanceof InvalidSearchFilterException
+                        && error.getMessage().equals("minAmount must not be greater than maxAmount"))
+                .verify();
+
+        verifyNoInteractions(statusRepository, applicationRepository);
+    }
 
-        assertThat(result).isEqualTo(principal);
+    @Test
+    @DisplayName("Should reject a creation date range that ends before it starts")
+    void shouldRejectInvertedDateRange() {
+        LocalDateTime now = LocalDateTime.now();
+        ApplicationSearchCriteria filters = ApplicationSearchCriteria.builder()
+                .createdFrom(now)
+                .createdBefore(now.minusDays(1))
+                .build();
+
+        StepVerifier.create(useCase.searchApplications("token", List.of("Pending Review"), List.of(), filters, pageable))
+                .expectError(InvalidSearchFilterException.class)
+                .verify();
     }
 
+    private DebtLedger ledger(LoanType type, Application... loans) {
+        double totalMonthlyInstallment = 0;
+        double outstandingPrincipal = 0;
+        for (Application loan : loans) {
+            totalMonthlyInstallment += DebtLedgerEntry.calculateMonthlyInstallment(
+                    loan.getAmount(), type.getInterestRate(), loan.getTerm());
+            outstandingPrincipal += loan.getAmount();
+        }
+        return DebtLedger.builder()
+                .idUser(loans[0].getIdUser())
+                .activeLoans(loans.length)
+                .outstandingPrincipal(outstandingPrincipal)
+                .totalMonthlyInstallment(totalMonthlyInstallment)
+                .build();
+    }
+
+    private static ApplicationSearchCriteria byStatus(UUID statusId) {
+        return argThat(criteria -> criteria.getStatusIds().equals(List.of(statusId)) && criteria.filtersOnlyByStatus());
+    }
 }
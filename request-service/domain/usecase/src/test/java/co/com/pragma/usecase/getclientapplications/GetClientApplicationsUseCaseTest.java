@@ -0,0 +1,60 @@
+package co.com.pragma.usecase.getclientapplications;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetClientApplicationsUseCaseTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private GetClientApplicationsUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the version of the client's application list")
+    void shouldFindVersion() {
+        UUID idUser = UUID.randomUUID();
+        ApplicationListVersion version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .applicationCount(2)
+                .build();
+        when(applicationRepository.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+
+        StepVerifier.create(useCase.findVersion(idUser))
+                .expectNext(version)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream the client's applications in the order the repository returns them")
+    void shouldFindApplications() {
+        UUID idUser = UUID.randomUUID();
+        Application newest = Application.builder().id(UUID.randomUUID()).idUser(idUser).build();
+        Application oldest = Application.builder().id(UUID.randomUUID()).idUser(idUser).build();
+        when(applicationRepository.findByIdUser(idUser)).thenReturn(Flux.just(newest, oldest));
+
+        StepVerifier.create(useCase.findApplications(idUser))
+                .expectNext(newest, oldest)
+                .verifyComplete();
+    }
+}
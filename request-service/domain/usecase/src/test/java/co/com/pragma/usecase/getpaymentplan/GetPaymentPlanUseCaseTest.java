@@ -0,0 +1,146 @@
+package co.com.pragma.usecase.getpaymentplan;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetPaymentPlanUseCaseTest {
+
+    @Mock
+    private PaymentPlanRepository paymentPlanRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private LoanTypeRepository loanTypeRepository;
+    @Mock
+    private PaymentPlanGenerator paymentPlanGenerator;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private GetPaymentPlanUseCase useCase;
+
+    private UUID idApplication;
+    private UUID idUser;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        idApplication = UUID.randomUUID();
+        idUser = UUID.randomUUID();
+        application = Application.builder()
+                .id(idApplication)
+                .idUser(idUser)
+                .idLoanType(UUID.randomUUID())
+                .amount(1000.0)
+                .term(1)
+                .approvedAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .build();
+    }
+
+    private PaymentPlan paymentPlan(UUID owner) {
+        return PaymentPlan.builder().idApplication(idApplication).idUser(owner).payments(List.of()).build();
+    }
+
+    @Test
+    @DisplayName("Should return the stored payment plan of the client's application")
+    void shouldReturnStoredPaymentPlan() {
+        PaymentPlan stored = paymentPlan(idUser);
+        when(paymentPlanRepository.findByIdApplication(idApplication)).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(useCase.getPaymentPlan(idApplication, idUser))
+                .expectNext(stored)
+                .verifyComplete();
+
+        verifyNoInteractions(applicationRepository, loanTypeRepository, paymentPlanGenerator);
+    }
+
+    @Test
+    @DisplayName("Should answer not found when the stored plan belongs to another client")
+    void shouldHidePaymentPlanOfAnotherClient() {
+        when(paymentPlanRepository.findByIdApplication(idApplication))
+                .thenReturn(Mono.just(paymentPlan(UUID.randomUUID())));
+
+        StepVerifier.create(useCase.getPaymentPlan(idApplication, idUser))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should generate and store the plan of an approved application that has none yet")
+    void shouldGenerateMissingPaymentPlan() {
+        LoanType loanType = LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build();
+        PaymentDetail payment = PaymentDetail.builder().month(1).payment(1004.17).principal(1000.0)
+                .interest(4.17).remainingBalance(0.0).build();
+        when(paymentPlanRepository.findByIdApplication(idApplication)).thenReturn(Mono.empty());
+        when(applicationRepository.findById(idApplication)).thenReturn(Mono.just(application));
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(paymentPlanGenerator.generate(1000.0, 5.0, 1)).thenReturn(List.of(payment));
+        when(paymentPlanRepository.save(any(PaymentPlan.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.getPaymentPlan(idApplication, idUser))
+                .expectNextMatches(paymentPlan -> paymentPlan.getIdUser().equals(idUser)
+                        && paymentPlan.getSummary().getTotalPayment() == 1004.17
+                        && paymentPlan.getPayments().size() == 1)
+                .verifyComplete();
+
+        verify(paymentPlanRepository).save(argThat(paymentPlan -> paymentPlan.getIdApplication().equals(idApplication)));
+    }
+
+    @Test
+    @DisplayName("Should answer not found for an application that has not been approved")
+    void shouldNotGeneratePaymentPlanForPendingApplication() {
+        application.setApprovedAt(null);
+        when(paymentPlanRepository.findByIdApplication(idApplication)).thenReturn(Mono.empty());
+        when(applicationRepository.findById(idApplication)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.getPaymentPlan(idApplication, idUser))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verify(paymentPlanRepository, never()).save(any());
+        verifyNoInteractions(loanTypeRepository, paymentPlanGenerator);
+    }
+
+    @Test
+    @DisplayName("Should not generate a plan for another client's application")
+    void shouldNotGeneratePaymentPlanOfAnotherClient() {
+        when(paymentPlanRepository.findByIdApplication(idApplication)).thenReturn(Mono.empty());
+        when(applicationRepository.findById(idApplication)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.getPaymentPlan(idApplication, UUID.randomUUID()))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verify(paymentPlanRepository, never()).save(any());
+        verifyNoInteractions(loanTypeRepository, paymentPlanGenerator);
+    }
+}
@@ -1,18 +1,24 @@
 package co.com.pragma.usecase.processapplicationdecision;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.creditanalysis.ApplicationDecisionMessage;
 import co.com.pragma.model.creditanalysis.PaymentDetail;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
-import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,10 +41,14 @@ class ProcessApplicationDecisionUseCaseTest {
     @Mock private ApplicationRepository applicationRepository;
     @Mock private StatusRepository statusRepository;
     @Mock private LoanTypeRepository loanTypeRepository;
+    @Mock private DebtLedgerRepository debtLedgerRepository;
+    @Mock private DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    @Mock private ApplicationSummaryRepository applicationSummaryRepository;
+    @Mock private PaymentPlanRepository paymentPlanRepository;
+    @Mock private TransactionManager transactionManager;
     @Mock private NotificationGateway notificationGateway;
     @Mock
     private PaymentPlanGenerator paymentPlanGenerator;
-    @Mock private ReportApprovedGateway reportApprovedGateway;
     @Mock private CustomLogger logger;
 
     @InjectMocks
@@ -48,85 +58,170 @@ class ProcessApplicationDecisionUseCaseTest {
     private Application application;
     private Status approvedStatus;
     private Status rejectedStatus;
+    private Status pendingReviewStatus;
 
     @BeforeEach
     void setup() {
         applicationId = UUID.randomUUID();
+        pendingReviewStatus = Status.builder().id(UUID.randomUUID()).name("Pending Review").build();
         application = Application.builder()
                 .id(applicationId)
                 .email("user@test.com")
+                .idUser(UUID.randomUUID())
                 .amount(1000.0)
                 .term(12)
                 .idLoanType(UUID.randomUUID())
+                .idStatus(pendingReviewStatus.getId())
                 .build();
 
         approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
         rejectedStatus = Status.builder().id(UUID.randomUUID()).name("Rejected").build();
     }
 
-    @Test
-    @DisplayName("Should process approved application successfully")
-    void shouldProcessApprovedApplicationSuccessfully() {
+    private ApplicationDecisionMessage decision(String decision) {
         ApplicationDecisionMessage message = new ApplicationDecisionMessage();
         message.setApplicationId(applicationId);
-        message.setDecision("Approved");
+        message.setDecision(decision);
+        return message;
+    }
 
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+    private void stubStatuses(Status decisionStatus) {
+        when(statusRepository.findByNameIgnoreCase(decisionStatus.getName())).thenReturn(Mono.just(decisionStatus));
+        when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(pendingReviewStatus));
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+    }
+
+    private void stubTransition() {
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenAnswer(invocation -> {
+            StatusTransition transition = invocation.getArgument(0);
+            return Mono.just(TransitionedApplication.builder()
+                    .application(application.toBuilder()
+                            .idStatus(transition.getTargetStatusId())
+                            .updatedAt(transition.getTransitionedAt())
+                            .approvedAt(transition.getApprovedAt())
+                            .build())
+                    .previousStatusId(application.getIdStatus())
+                    .build());
+        });
+        when(applicationSummaryRepository.recordTransitions(anyList())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should process approved application successfully")
+    void shouldProcessApprovedApplicationSuccessfully() {
+        stubStatuses(approvedStatus);
+        stubTransition();
         when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(
                 LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build()
         ));
         when(paymentPlanGenerator.generate(anyDouble(), anyDouble(), anyInt()))
-                .thenReturn(List.of(mock(PaymentDetail.class)));
-        when(applicationRepository.save(any())).thenReturn(Mono.just(application));
+                .thenReturn(List.of(PaymentDetail.builder().month(1).payment(1004.17).principal(1000.0)
+                        .interest(4.17).remainingBalance(0.0).build()));
+        when(paymentPlanRepository.save(any())).thenReturn(Mono.empty());
+        when(debtLedgerRepository.recordApproval(any())).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.recordApproval(any())).thenReturn(Mono.empty());
         when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
-        when(reportApprovedGateway.sendReportApprovedCount(any(), any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Approved")))
                 .verifyComplete();
 
-        verify(applicationRepository).save(any());
-        verify(notificationGateway).sendCreditAnalysisDecisionNotification(any());
-        verify(reportApprovedGateway).sendReportApprovedCount(any(), eq("Approved"));
+        verify(applicationRepository).transitionStatus(argThat(transition ->
+                transition.getApplicationId().equals(applicationId)
+                        && transition.getTargetStatusId().equals(approvedStatus.getId())
+                        && transition.getExpectedStatusIds().equals(List.of(pendingReviewStatus.getId()))
+                        && transition.getApprovedAt() != null));
+        verify(applicationRepository, never()).save(any());
+        verify(applicationRepository, never()).findById(any());
+        verify(debtLedgerRepository).recordApproval(argThat(entry ->
+                entry.getIdApplication().equals(applicationId)
+                        && entry.getIdUser().equals(application.getIdUser())
+                        && entry.getInterestRate().equals(5.0)));
+        verify(debtLedgerRepository, never()).recordRelease(any());
+        verify(dailyApprovalRollupRepository, never()).retractApproval(any());
+        verify(dailyApprovalRollupRepository).recordApproval(argThat(approved ->
+                approved.getId().equals(applicationId)
+                        && approved.getIdStatus().equals(approvedStatus.getId())
+                        && approved.getApprovedAt() != null));
+        verify(notificationGateway).sendCreditAnalysisDecisionNotification(argThat(payload ->
+                payload.getStatus().equals("Approved")
+                        && payload.getPaymentPlanSummary().getTerm() == 1
+                        && payload.getPaymentPlanSummary().getTotalInterest() == 4.17
+                        && payload.getPaymentPlanPath().equals("/request/api/v1/requests/" + applicationId + "/payment-plan")));
+        verify(paymentPlanRepository).save(argThat(paymentPlan ->
+                paymentPlan.getIdApplication().equals(applicationId)
+                        && paymentPlan.getIdUser().equals(application.getIdUser())
+                        && paymentPlan.getPayments().size() == 1));
+        verify(applicationSummaryRepository).recordTransitions(argThat(transitions ->
+                transitions.getFirst().getPreviousStatusId().equals(pendingReviewStatus.getId())
+                        && transitions.getFirst().getApplication().getIdStatus().equals(approvedStatus.getId())));
     }
 
 
     @Test
     @DisplayName("Should throw when application not found")
     void shouldThrowWhenApplicationNotFound() {
-        ApplicationDecisionMessage message = new ApplicationDecisionMessage();
-        message.setApplicationId(applicationId);
-        message.setDecision("Approved");
-
+        stubStatuses(approvedStatus);
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenReturn(Mono.empty());
         when(applicationRepository.findById(applicationId)).thenReturn(Mono.empty());
-        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Approved")))
                 .expectError(EntityNotFoundException.class)
                 .verify();
 
         verify(applicationRepository).findById(applicationId);
         verify(statusRepository).findByNameIgnoreCase("Approved");
-        verifyNoInteractions(loanTypeRepository, notificationGateway, reportApprovedGateway);
+        verifyNoInteractions(loanTypeRepository, debtLedgerRepository, dailyApprovalRollupRepository,
+                notificationGateway);
     }
 
     @Test
-    @DisplayName("Should process rejected application without calling loanType or report")
-    void shouldProcessRejectedApplication() {
-        ApplicationDecisionMessage message = new ApplicationDecisionMessage();
-        message.setApplicationId(applicationId);
-        message.setDecision("Rejected");
-
+    @DisplayName("Should discard a decision for an application that is no longer pending review")
+    void shouldDiscardStaleDecision() {
+        stubStatuses(approvedStatus);
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenReturn(Mono.empty());
         when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
-        when(applicationRepository.save(any())).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.execute(decision("Approved")))
+                .verifyComplete();
+
+        verify(logger).warn(anyString(), eq("Approved"), eq(applicationId));
+        verifyNoInteractions(loanTypeRepository, debtLedgerRepository, dailyApprovalRollupRepository,
+                applicationSummaryRepository, notificationGateway);
+    }
+
+    @Test
+    @DisplayName("Should process rejected application without calling loanType")
+    void shouldProcessRejectedApplication() {
+        stubStatuses(rejectedStatus);
+        stubTransition();
         when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Rejected")))
                 .verifyComplete();
 
-        verify(applicationRepository).save(any());
-        verify(notificationGateway).sendCreditAnalysisDecisionNotification(any());
-        verifyNoInteractions(loanTypeRepository, paymentPlanGenerator, reportApprovedGateway);
+        verify(applicationRepository).transitionStatus(argThat(transition -> transition.getApprovedAt() == null));
+        verify(notificationGateway).sendCreditAnalysisDecisionNotification(argThat(payload ->
+                payload.getPaymentPlanSummary() == null && payload.getPaymentPlanPath() == null
+                        && payload.getStatus().equals("Rejected")));
+        verifyNoInteractions(loanTypeRepository, paymentPlanGenerator, paymentPlanRepository,
+                debtLedgerRepository, dailyApprovalRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should not notify when the debt ledger update fails")
+    void shouldNotNotifyWhenDebtLedgerUpdateFails() {
+        stubStatuses(approvedStatus);
+        stubTransition();
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(
+                LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build()
+        ));
+        when(debtLedgerRepository.recordApproval(any())).thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        StepVerifier.create(useCase.execute(decision("Approved")))
+                .expectErrorMessage("DB error")
+                .verify();
+
+        verifyNoInteractions(notificationGateway, dailyApprovalRollupRepository,
+                paymentPlanGenerator, paymentPlanRepository);
     }
 }
@@ -0,0 +1,109 @@
+package co.com.pragma.usecase.projectportfoliocashflow;
+
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.portfolio.ApprovedLoan;
+import co.com.pragma.model.portfolio.CashFlowProjectionEngine;
+import co.com.pragma.model.portfolio.MonthlyCashFlow;
+import co.com.pragma.model.portfolio.gateways.ApprovedLoanRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectPortfolioCashFlowUseCaseTest {
+
+    @Mock
+    private ApprovedLoanRepository approvedLoanRepository;
+    @Mock
+    private StatusRepository statusRepository;
+    @Mock
+    private CustomLogger logger;
+
+    private ProjectPortfolioCashFlowUseCase useCase;
+    private Status approved;
+
+    private static final YearMonth FROM = YearMonth.of(2025, 10);
+
+    @BeforeEach
+    void setup() {
+        useCase = new ProjectPortfolioCashFlowUseCase(approvedLoanRepository, statusRepository,
+                new CashFlowProjectionEngine(), logger);
+        approved = Status.builder().id(UUID.randomUUID()).name("Approved").build();
+    }
+
+    @Test
+    @DisplayName("Should project every streamed loan across several chunks and merge the monthly totals")
+    void shouldProjectTheWholeBook() {
+        int loans = ProjectPortfolioCashFlowUseCase.CHUNK_SIZE + 1_001;
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approved));
+        when(approvedLoanRepository.streamApproved(approved.getId())).thenReturn(Flux.range(0, loans)
+                .map(i -> ApprovedLoan.builder()
+                        .amount(1200)
+                        .annualInterestRate(0)
+                        .term(12)
+                        .approvedAt(FROM.minusMonths(1).atDay(1).atStartOfDay())
+                        .build()));
+
+        StepVerifier.create(useCase.project(FROM, 6))
+                .expectNextMatches(projection -> projection.getLoanCount() == loans
+                        && projection.getCashFlows().size() == 6
+                        && projection.getCashFlows().stream()
+                        .map(MonthlyCashFlow::getPrincipal)
+                        .allMatch(principal -> principal == 100.0 * loans)
+                        && projection.getTotalInterest() == 0.0
+                        && projection.getFrom().equals(FROM))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty projection when there are no approved loans")
+    void shouldProjectAnEmptyBook() {
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approved));
+        when(approvedLoanRepository.streamApproved(approved.getId())).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.project(FROM, 3))
+                .expectNextMatches(projection -> projection.getLoanCount() == 0
+                        && projection.getCashFlows().size() == 3
+                        && projection.getTotalPrincipal() == 0.0)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a horizon outside 1 to 360 months")
+    void shouldRejectInvalidHorizon() {
+        StepVerifier.create(useCase.project(FROM, 0))
+                .expectError(InvalidDateRangeException.class)
+                .verify();
+        StepVerifier.create(useCase.project(FROM, 361))
+                .expectError(InvalidDateRangeException.class)
+                .verify();
+
+        verifyNoInteractions(statusRepository, approvedLoanRepository);
+    }
+
+    @Test
+    @DisplayName("Should fail when the Approved status does not exist")
+    void shouldFailWithoutApprovedStatus() {
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.project(12))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,218 @@
+package co.com.pragma.usecase.publishstatuschanges;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.changefeed.ApplicationStatusChange;
+import co.com.pragma.model.changefeed.gateways.ChangeFeedCheckpointRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublishStatusChangesUseCaseTest {
+
+    private static final String FEED = "application_status_changes";
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 9, 15, 10, 0);
+
+    @Mock
+    private StatusRepository statusRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private ReportApprovedGateway reportApprovedGateway;
+    @Mock
+    private ChangeFeedCheckpointRepository checkpointRepository;
+    @Mock
+    private TransactionManager transactionManager;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private PublishStatusChangesUseCase useCase;
+
+    private Status approvedStatus;
+    private UUID pendingStatusId;
+
+    @BeforeEach
+    void setUp() {
+        approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
+        pendingStatusId = UUID.randomUUID();
+    }
+
+    private void stubPublish(Long checkpoint) {
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(checkpointRepository.findLsn(FEED)).thenReturn(Mono.justOrEmpty(checkpoint));
+        when(checkpointRepository.saveLsn(eq(FEED), anyLong(), any())).thenReturn(Mono.empty());
+    }
+
+    private ApplicationStatusChange change(UUID idStatus, long lsn) {
+        return change(pendingStatusId, idStatus, lsn);
+    }
+
+    private ApplicationStatusChange change(UUID previousIdStatus, UUID idStatus, long lsn) {
+        return ApplicationStatusChange.builder()
+                .idApplication(UUID.randomUUID())
+                .amount(1000.0)
+                .idStatus(idStatus)
+                .previousIdStatus(previousIdStatus)
+                .updatedAt(CHANGED_AT.plusSeconds(lsn))
+                .lsn(lsn)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should default the checkpoint to the start of the slot")
+    void shouldDefaultCheckpoint() {
+        when(checkpointRepository.findLsn(FEED)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.findCheckpoint(FEED))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should publish approvals only and move the checkpoint to the end of the batch")
+    void shouldPublishApprovals() {
+        stubPublish(null);
+        when(reportApprovedGateway.sendReportApprovedCounts(any(), eq("Approved"))).thenReturn(Mono.empty());
+        ApplicationStatusChange approval = change(approvedStatus.getId(), 100L);
+        ApplicationStatusChange rejection = change(UUID.randomUUID(), 200L);
+
+        StepVerifier.create(useCase.publish(FEED, List.of(approval, rejection), 200L))
+                .verifyComplete();
+
+        verify(reportApprovedGateway).sendReportApprovedCounts(argThat(applications -> applications.size() == 1
+                && applications.getFirst().getId().equals(approval.getIdApplication())
+                && applications.getFirst().getAmount().equals(1000.0)), eq("Approved"));
+        verify(checkpointRepository).saveLsn(FEED, 200L, CHANGED_AT.plusSeconds(200));
+    }
+
+    @Test
+    @DisplayName("Should skip changes already covered by the checkpoint when a batch is redelivered")
+    void shouldSkipRedeliveredChanges() {
+        stubPublish(150L);
+        when(reportApprovedGateway.sendReportApprovedCounts(any(), eq("Approved"))).thenReturn(Mono.empty());
+        ApplicationStatusChange published = change(approvedStatus.getId(), 150L);
+        ApplicationStatusChange pending = change(approvedStatus.getId(), 300L);
+
+        StepVerifier.create(useCase.publish(FEED, List.of(published, pending), 300L))
+                .verifyComplete();
+
+        verify(reportApprovedGateway).sendReportApprovedCounts(argThat(applications -> applications.size() == 1
+                && applications.getFirst().getId().equals(pending.getIdApplication())), eq("Approved"));
+        verify(checkpointRepository).saveLsn(FEED, 300L, CHANGED_AT.plusSeconds(300));
+    }
+
+    @Test
+    @DisplayName("Should only advance the checkpoint for a batch without approvals and never move it back")
+    void shouldNotPublishWithoutApprovals() {
+        stubPublish(500L);
+
+        StepVerifier.create(useCase.publish(FEED, List.of(change(UUID.randomUUID(), 400L)), 400L))
+                .verifyComplete();
+
+        verifyNoInteractions(reportApprovedGateway);
+        verify(checkpointRepository).saveLsn(FEED, 500L, CHANGED_AT.plusSeconds(400));
+    }
+
+    @Test
+    @DisplayName("Should not publish an update that leaves an approved application approved")
+    void shouldNotPublishUpdatesWithoutTransition() {
+        stubPublish(null);
+
+        StepVerifier.create(useCase.publish(FEED, List.of(change(approvedStatus.getId(), approvedStatus.getId(), 100L)),
+                        100L))
+                .verifyComplete();
+
+        verifyNoInteractions(reportApprovedGateway);
+        verify(checkpointRepository).saveLsn(FEED, 100L, CHANGED_AT.plusSeconds(100));
+    }
+
+    @Test
+    @DisplayName("Should republish approvals after the last checkpointed change and move the checkpoint to the new slot")
+    void shouldCatchUpApprovalsMissedByALostSlot() {
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(checkpointRepository.findChangedAt(FEED)).thenReturn(Mono.just(CHANGED_AT));
+        Application missed = Application.builder().id(UUID.randomUUID()).amount(2000.0)
+                .idStatus(approvedStatus.getId()).approvedAt(CHANGED_AT.plusMinutes(5)).build();
+        when(applicationRepository.findApprovedAfter(approvedStatus.getId(), CHANGED_AT)).thenReturn(Flux.just(missed));
+        when(reportApprovedGateway.sendReportApprovedCounts(List.of(missed), "Approved")).thenReturn(Mono.empty());
+        when(checkpointRepository.saveLsn(FEED, 900L, CHANGED_AT.plusMinutes(5))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.catchUp(FEED, 900L))
+                .verifyComplete();
+
+        verify(reportApprovedGateway).sendReportApprovedCounts(List.of(missed), "Approved");
+        verify(checkpointRepository).saveLsn(FEED, 900L, CHANGED_AT.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should have nothing to catch up when the feed never published")
+    void shouldNotCatchUpWithoutCheckpoint() {
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(checkpointRepository.findChangedAt(FEED)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.catchUp(FEED, 900L))
+                .verifyComplete();
+
+        verifyNoInteractions(applicationRepository, reportApprovedGateway);
+        verify(checkpointRepository, never()).saveLsn(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the checkpoint when the reporting events cannot be queued")
+    void shouldNotAdvanceCheckpointWhenPublishingFails() {
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(checkpointRepository.findLsn(FEED)).thenReturn(Mono.empty());
+        when(reportApprovedGateway.sendReportApprovedCounts(any(), eq("Approved")))
+                .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        StepVerifier.create(useCase.publish(FEED, List.of(change(approvedStatus.getId(), 100L)), 100L))
+                .expectErrorMessage("DB error")
+                .verify();
+
+        verify(checkpointRepository, never()).saveLsn(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail when the approved status does not exist")
+    void shouldFailWhenApprovedStatusIsMissing() {
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.publish(FEED, List.of(), 100L))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(transactionManager, checkpointRepository, reportApprovedGateway);
+    }
+}
@@ -0,0 +1,152 @@
+package co.com.pragma.usecase.quoteloans;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuoteLoansUseCaseTest {
+
+    @Mock
+    private LoanTypeRepository loanTypeRepository;
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private QuoteLoansUseCase useCase;
+
+    private LoanType personal;
+
+    @BeforeEach
+    void setUp() {
+        personal = LoanType.builder()
+                .id(UUID.randomUUID())
+                .name("Personal")
+                .minAmount(1_000.0)
+                .maxAmount(50_000.0)
+                .interestRate(12.0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should quote every scenario of the grid with the totals of its payment plan")
+    void shouldQuoteGrid() {
+        LoanQuoteGrid grid = LoanQuoteGrid.builder()
+                .amounts(List.of(10_000.0, 20_000.0))
+                .terms(List.of(12, 24))
+                .idLoanTypes(List.of(personal.getId(), personal.getId()))
+                .build();
+        when(loanTypeRepository.findByIds(List.of(personal.getId()))).thenReturn(Flux.just(personal));
+        PaymentPlan plan = PaymentPlan.of(Application.builder().build(),
+                new PaymentPlanGenerator().generate(20_000.0, 12.0, 12));
+
+        StepVerifier.create(useCase.quote(grid).collectList())
+                .assertNext(quotes -> {
+                    assertEquals(8, quotes.size());
+                    assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L), quotes.stream().map(LoanQuote::getIndex).toList());
+                    LoanQuote quote = quotes.get(2);
+                    assertEquals(20_000.0, quote.getAmount());
+                    assertEquals(12, quote.getTerm());
+                    assertEquals(12.0, quote.getInterestRate());
+                    assertEquals(plan.getSummary().getMonthlyPayment(), quote.getMonthlyPayment());
+                    assertEquals(plan.getSummary().getTotalInterest(), quote.getTotalInterest());
+                    assertEquals(plan.getSummary().getTotalPayment(), quote.getTotalPayment());
+                    assertNull(quote.getPayments());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should include the monthly schedule when the grid asks for it")
+    void shouldIncludeSchedule() {
+        LoanQuoteGrid grid = LoanQuoteGrid.builder()
+                .amounts(List.of(10_000.0))
+                .terms(List.of(6))
+                .idLoanTypes(List.of(personal.getId()))
+                .includeSchedule(true)
+                .build();
+        when(loanTypeRepository.findByIds(List.of(personal.getId()))).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(useCase.quote(grid))
+                .expectNextMatches(quote -> quote.getPayments().size() == 6
+                        && quote.getPayments().get(5).getRemainingBalance() == 0.0
+                        && quote.getPayments().getFirst().getPayment() == quote.getMonthlyPayment())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject scenarios of unknown loan types or outside the loan type limits")
+    void shouldRejectInvalidScenarios() {
+        UUID unknown = UUID.randomUUID();
+        LoanQuoteGrid grid = LoanQuoteGrid.builder()
+                .amounts(List.of(500.0, 5_000.0))
+                .terms(List.of(12, 400))
+                .idLoanTypes(List.of(personal.getId(), unknown))
+                .build();
+        when(loanTypeRepository.findByIds(List.of(personal.getId(), unknown))).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(useCase.quote(grid))
+                .expectNextMatches(quote -> quote.getIndex() == 0 && quote.isRejected()
+                        && quote.getError().startsWith("Amount 500.00 is outside the valid range"))
+                .expectNextMatches(quote -> quote.getIndex() == 1 && quote.isRejected())
+                .expectNextMatches(quote -> quote.getIndex() == 2 && !quote.isRejected())
+                .expectNextMatches(quote -> quote.getIndex() == 3
+                        && quote.getError().equals("Term must be between 1 and 360 months"))
+                .expectNextMatches(quote -> quote.getIndex() == 4 && quote.getIdLoanType().equals(unknown)
+                        && quote.getError().equals("LoanType not found"))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should quote across chunks in grid order and stop past the scenario limit")
+    void shouldStopPastScenarioLimit() {
+        List<Double> amounts = IntStream.range(0, 100).mapToObj(i -> 1_000.0 + i * 100).toList();
+        LoanQuoteGrid grid = LoanQuoteGrid.builder()
+                .amounts(amounts)
+                .terms(List.of(6, 12, 24, 36, 48, 60, 72, 84, 96, 120, 180))
+                .idLoanTypes(List.of(personal.getId()))
+                .build();
+        when(loanTypeRepository.findByIds(List.of(personal.getId()))).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(useCase.quote(grid).collectList())
+                .assertNext(quotes -> {
+                    assertEquals(QuoteLoansUseCase.MAX_SCENARIOS + 1, quotes.size());
+                    for (int i = 0; i < quotes.size(); i++) {
+                        assertEquals(i, quotes.get(i).getIndex());
+                        assertEquals(grid.amountAt(i), quotes.get(i).getAmount());
+                        assertEquals(grid.termAt(i), quotes.get(i).getTerm());
+                    }
+                    assertEquals(QuoteLoansUseCase.MAX_SCENARIOS,
+                            quotes.stream().filter(quote -> !quote.isRejected()).count());
+                    assertEquals("Quotes accept at most 1000 scenarios; this and later scenarios were not quoted",
+                            quotes.getLast().getError());
+                })
+                .verifyComplete();
+
+        verify(loanTypeRepository).findByIds(List.of(personal.getId()));
+    }
+}
@@ -0,0 +1,238 @@
+package co.com.pragma.usecase.registerapplicationsbulk;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.BulkRegistrationItem;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.auth.UserFound;
+import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
+import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RegisterApplicationsBulkUseCaseTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private StatusRepository statusRepository;
+    @Mock
+    private DebtLedgerRepository debtLedgerRepository;
+    @Mock
+    private ApplicationSummaryRepository applicationSummaryRepository;
+    @Mock
+    private TransactionManager transactionManager;
+    @Mock
+    private AuthValidationGateway authValidationGateway;
+    @Mock
+    private FindLoanTypeByIdUseCase findLoanTypeByIdUseCase;
+    @Mock
+    private CreditAnalysisGateway creditAnalysisGateway;
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private RegisterApplicationsBulkUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<List<Application>> applicationsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<CreditAnalysisPayload>> payloadsCaptor;
+
+    private final String token = "valid-token";
+    private LoanType loanType;
+    private Status pendingStatus;
+    private UserFound client;
+
+    @BeforeEach
+    void setUp() {
+        loanType = LoanType.builder()
+                .id(UUID.randomUUID())
+                .name("Car Loan")
+                .minAmount(10000.00)
+                .maxAmount(49999.99)
+                .interestRate(10.2)
+                .automaticValidation(true)
+                .build();
+        pendingStatus = Status.builder()
+                .id(UUID.randomUUID())
+                .name("Pending Review")
+                .build();
+        client = UserFound.builder()
+                .idUser(UUID.randomUUID())
+                .email("CLIENT@TEST.COM")
+                .idDocument("77777777")
+                .baseSalary(50000.0)
+                .build();
+
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(pendingStatus));
+        when(findLoanTypeByIdUseCase.findById(loanType.getId())).thenReturn(Mono.just(loanType));
+        when(authValidationGateway.findClientsByIdDocuments(anyList(), eq(token))).thenReturn(Flux.just(client));
+        when(debtLedgerRepository.findEntriesByIdUserIn(anyList())).thenReturn(Flux.empty());
+        when(applicationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Application> applications = invocation.getArgument(0);
+            return Flux.fromIterable(applications);
+        });
+        when(applicationSummaryRepository.recordRegistrations(anyList())).thenReturn(Mono.empty());
+        when(creditAnalysisGateway.requestAnalyses(anyList())).thenReturn(Mono.empty());
+    }
+
+    private BulkRegistrationItem item(long index, String idDocument, UUID idLoanType, double amount) {
+        return BulkRegistrationItem.builder()
+                .index(index)
+                .idDocument(idDocument)
+                .application(Application.builder()
+                        .amount(amount)
+                        .term(12)
+                        .idDocument(idDocument)
+                        .idLoanType(idLoanType)
+                        .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should insert a chunk with one statement and enqueue its analyses together")
+    void shouldRegisterChunkWithGroupedCalls() {
+        DebtLedgerEntry activeLoan = DebtLedgerEntry.builder()
+                .idUser(client.getIdUser())
+                .amount(5000.0)
+                .term(6)
+                .interestRate(8.0)
+                .build();
+        when(debtLedgerRepository.findEntriesByIdUserIn(List.of(client.getIdUser()))).thenReturn(Flux.just(activeLoan));
+
+        StepVerifier.create(useCase.registerApplications(Flux.just(
+                                item(0, "77777777", loanType.getId(), 20000.0),
+                                BulkRegistrationItem.rejected(1, null, "IdDocument is required"),
+                                item(2, "77777777", loanType.getId(), 30000.0)),
+                        token))
+                .assertNext(item -> {
+                    assertThat(item.getIndex()).isZero();
+                    assertThat(item.isRejected()).isFalse();
+                    assertThat(item.getApplication().getEmail()).isEqualTo("client@test.com");
+                    assertThat(item.getApplication().getIdStatus()).isEqualTo(pendingStatus.getId());
+                })
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("IdDocument is required"))
+                .assertNext(item -> assertThat(item.getApplication().getIdUser()).isEqualTo(client.getIdUser()))
+                .verifyComplete();
+
+        verify(authValidationGateway).findClientsByIdDocuments(List.of("77777777"), token);
+        verify(findLoanTypeByIdUseCase).findById(loanType.getId());
+        verify(applicationRepository).saveAll(applicationsCaptor.capture());
+        assertThat(applicationsCaptor.getValue()).hasSize(2)
+                .allSatisfy(application -> assertThat(application.getId()).isNotNull());
+        verify(applicationSummaryRepository).recordRegistrations(argThat(applications -> applications.size() == 2));
+        verify(creditAnalysisGateway).requestAnalyses(payloadsCaptor.capture());
+        assertThat(payloadsCaptor.getValue()).hasSize(2)
+                .allSatisfy(payload -> assertThat(payload.getLoanAssets()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown users, unknown loan types and amounts out of range without saving them")
+    void shouldRejectInvalidItems() {
+        UUID unknownLoanType = UUID.randomUUID();
+        when(findLoanTypeByIdUseCase.findById(unknownLoanType))
+                .thenReturn(Mono.error(new EntityNotFoundException("LoanType not found")));
+
+        StepVerifier.create(useCase.registerApplications(Flux.just(
+                                item(0, "00000000", loanType.getId(), 20000.0),
+                                item(1, "77777777", unknownLoanType, 20000.0),
+                                item(2, "77777777", loanType.getId(), 100.0)),
+                        token))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("User not found in auth service"))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("LoanType not found"))
+                .assertNext(item -> assertThat(item.getError()).startsWith("Amount 100.00 is outside the valid range"))
+                .verifyComplete();
+
+        verify(applicationRepository, never()).saveAll(anyList());
+        verify(creditAnalysisGateway, never()).requestAnalyses(anyList());
+    }
+
+    @Test
+    @DisplayName("Should not enqueue analyses for loan types without automatic validation")
+    void shouldSkipAnalysisWithoutAutomaticValidation() {
+        loanType.setAutomaticValidation(false);
+
+        StepVerifier.create(useCase.registerApplications(Flux.just(item(0, "77777777", loanType.getId(), 20000.0)), token))
+                .assertNext(item -> assertThat(item.isRejected()).isFalse())
+                .verifyComplete();
+
+        verify(applicationRepository).saveAll(anyList());
+        verify(creditAnalysisGateway, never()).requestAnalyses(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject every pending item of a chunk whose transaction fails")
+    void shouldRejectChunkOnFailure() {
+        when(applicationRepository.saveAll(anyList())).thenReturn(Flux.error(new RuntimeException("Database down")));
+
+        StepVerifier.create(useCase.registerApplications(Flux.just(
+                                item(0, "77777777", loanType.getId(), 20000.0),
+                                BulkRegistrationItem.rejected(1, "77777777", "Term is required")),
+                        token))
+                .assertNext(item -> {
+                    assertThat(item.getError()).isEqualTo("Database down");
+                    assertThat(item.getApplication()).isNull();
+                })
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("Term is required"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should split the stream into chunks with their own lookups and transaction")
+    void shouldProcessInChunks() {
+        int total = RegisterApplicationsBulkUseCase.CHUNK_SIZE + 50;
+        Flux<BulkRegistrationItem> items = Flux.fromStream(LongStream.range(0, total)
+                .mapToObj(index -> item(index, "77777777", loanType.getId(), 20000.0)));
+
+        StepVerifier.create(useCase.registerApplications(items, token))
+                .expectNextCount(total)
+                .verifyComplete();
+
+        verify(authValidationGateway, times(2)).findClientsByIdDocuments(List.of("77777777"), token);
+        verify(applicationRepository, times(2)).saveAll(applicationsCaptor.capture());
+        assertThat(applicationsCaptor.getAllValues().getFirst()).hasSize(RegisterApplicationsBulkUseCase.CHUNK_SIZE);
+        assertThat(applicationsCaptor.getAllValues().getLast()).hasSize(50);
+        verify(transactionManager, times(2)).executeInTransaction(any());
+    }
+}
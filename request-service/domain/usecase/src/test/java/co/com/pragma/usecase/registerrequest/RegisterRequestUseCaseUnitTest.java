@@ -6,14 +6,16 @@ import co.com.pragma.model.auth.ValidatedUser;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.InvalidAmountException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.LoanType;
-import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,12 +28,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.context.Context;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +49,9 @@ public class RegisterRequestUseCaseUnitTest {
     @Mock
     private StatusRepository statusRepository;
     @Mock
-    private LoanTypeRepository loanTypeRepository;
+    private DebtLedgerRepository debtLedgerRepository;
+    @Mock
+    private ApplicationSummaryRepository applicationSummaryRepository;
     @Mock
     private TransactionManager transactionManager;
     @Mock
@@ -106,8 +115,9 @@ public class RegisterRequestUseCaseUnitTest {
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty()); // Sin préstamos activos
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty()); // Sin préstamos activos
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
+        when(applicationSummaryRepository.recordRegistrations(anyList())).thenReturn(Mono.empty());
         when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> {
             Application app = inv.getArgument(0);
             app.setId(UUID.randomUUID());
@@ -125,12 +135,43 @@ public class RegisterRequestUseCaseUnitTest {
 
         verify(authValidationGateway).validateClientUser(testApplication.getIdDocument(), token);
         verify(findLoanTypeByIdUseCase).findById(testApplication.getIdLoanType());
-        verify(applicationRepository).findActiveLoansByIdUser(user.getIdUser());
+        verify(debtLedgerRepository).findEntriesByIdUser(user.getIdUser());
+        verify(applicationRepository, never()).findActiveLoansByIdUser(any());
         verify(statusRepository).findByName("Pending Review");
         verify(applicationRepository).save(any(Application.class));
+        verify(applicationSummaryRepository).recordRegistrations(anyList());
         verify(creditAnalysisGateway).requestAnalysis(any(CreditAnalysisPayload.class));
     }
 
+    @Test
+    @DisplayName("Should run the given step on the saved application inside the registration transaction")
+    @SuppressWarnings("unchecked")
+    void registerApplication_RunsStepWithinTransaction() {
+        loanType.setAutomaticValidation(false);
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> ((Mono<?>) invocation.getArgument(0))
+                .contextWrite(Context.of("transaction", true)));
+        when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
+        when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
+        when(applicationSummaryRepository.recordRegistrations(anyList())).thenReturn(Mono.empty());
+        when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        AtomicReference<Application> seen = new AtomicReference<>();
+        AtomicBoolean inTransaction = new AtomicBoolean();
+
+        StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token, saved ->
+                        Mono.deferContextual(context -> {
+                            seen.set(saved);
+                            inTransaction.set(context.hasKey("transaction"));
+                            return Mono.empty();
+                        })))
+                .expectNext(testApplication)
+                .verifyComplete();
+
+        assertSame(testApplication, seen.get());
+        assertTrue(inTransaction.get());
+    }
+
     @Test
     @DisplayName("Should register but not enqueue when automatic validation is false")
     void registerApplicationSuccess_WithoutAutomaticValidation() {
@@ -138,8 +179,9 @@ public class RegisterRequestUseCaseUnitTest {
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
+        when(applicationSummaryRepository.recordRegistrations(anyList())).thenReturn(Mono.empty());
         when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token))
@@ -152,14 +194,20 @@ public class RegisterRequestUseCaseUnitTest {
     @Test
     @DisplayName("Should build payload correctly when user has active loans")
     void registerApplication_WithExistingActiveLoans() {
-        LoanType existingLoanType = LoanType.builder().id(UUID.randomUUID()).interestRate(5.0).name("Personal Loan").build();
-        Application existingLoan = Application.builder().id(UUID.randomUUID()).idLoanType(existingLoanType.getId()).amount(5000.0).term(6).build();
+        DebtLedgerEntry existingLoan = DebtLedgerEntry.builder()
+                .idApplication(UUID.randomUUID())
+                .idUser(user.getIdUser())
+                .amount(5000.0)
+                .term(6)
+                .interestRate(5.0)
+                .monthlyInstallment(845.53)
+                .build();
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.just(existingLoan));
-        when(loanTypeRepository.findByIds(List.of(existingLoan.getIdLoanType()))).thenReturn(Flux.just(existingLoanType));
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.just(existingLoan));
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
+        when(applicationSummaryRepository.recordRegistrations(anyList())).thenReturn(Mono.empty());
         when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         when(creditAnalysisGateway.requestAnalysis(any(CreditAnalysisPayload.class))).thenReturn(Mono.empty());
 
@@ -173,6 +221,8 @@ public class RegisterRequestUseCaseUnitTest {
 
         assertThat(capturedPayload.getLoanAssets()).hasSize(1);
         assertThat(capturedPayload.getLoanAssets().getFirst().getAmount()).isEqualTo(5000.0);
+        assertThat(capturedPayload.getLoanAssets().getFirst().getTerm()).isEqualTo(6);
+        assertThat(capturedPayload.getLoanAssets().getFirst().getInterestRate()).isEqualTo(5.0);
         assertThat(capturedPayload.getLoanAssets().getFirst().getEstado()).isEqualTo("Approved");
         assertThat(capturedPayload.getNewLoanDetails().getEstado()).isEqualTo("Pending Review");
     }
@@ -196,7 +246,7 @@ public class RegisterRequestUseCaseUnitTest {
     void registerApplicationStatusNotFound() {
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.empty());
 
         StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token))
@@ -213,7 +263,7 @@ public class RegisterRequestUseCaseUnitTest {
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
 
         StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token))
@@ -230,7 +280,7 @@ public class RegisterRequestUseCaseUnitTest {
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
 
         StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token))
@@ -250,7 +300,7 @@ public class RegisterRequestUseCaseUnitTest {
         when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
         when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
         when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
-        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(debtLedgerRepository.findEntriesByIdUser(user.getIdUser())).thenReturn(Flux.empty());
         when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
 
         StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token))
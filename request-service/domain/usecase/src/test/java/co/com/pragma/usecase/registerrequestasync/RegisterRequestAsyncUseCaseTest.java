@@ -0,0 +1,186 @@
+package co.com.pragma.usecase.registerrequestasync;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.intake.gateways.ApplicationIntakeRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RegisterRequestAsyncUseCaseTest {
+
+    @Mock
+    private ApplicationIntakeRepository applicationIntakeRepository;
+    @Mock
+    private RegisterRequestUseCase registerRequestUseCase;
+    @Mock
+    private RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase;
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private RegisterRequestAsyncUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<Application> applicationCaptor;
+
+    private final String token = "valid-token";
+    private ApplicationIntake intake;
+    private Application saved;
+
+    @BeforeEach
+    void setUp() {
+        intake = ApplicationIntake.builder()
+                .id(UUID.randomUUID())
+                .idDocument("77777777")
+                .amount(10000.0)
+                .term(12)
+                .idLoanType(UUID.randomUUID())
+                .status(IntakeStatus.PENDING)
+                .build();
+        saved = Application.builder().id(UUID.randomUUID()).idDocument("77777777").build();
+
+        when(applicationIntakeRepository.markProcessing(intake.getId())).thenReturn(Mono.just(true));
+        when(applicationIntakeRepository.markCompleted(any(), any())).thenReturn(Mono.empty());
+        when(applicationIntakeRepository.markFailed(any(), anyString())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should store the request as a pending intake")
+    void shouldAcceptIntake() {
+        Application application = Application.builder()
+                .idDocument("77777777")
+                .amount(10000.0)
+                .term(12)
+                .idLoanType(intake.getIdLoanType())
+                .build();
+        when(applicationIntakeRepository.save(any())).thenAnswer(invocation ->
+                Mono.just(invocation.<ApplicationIntake>getArgument(0).toBuilder().id(intake.getId()).build()));
+
+        StepVerifier.create(useCase.accept(application))
+                .assertNext(accepted -> {
+                    assertThat(accepted.getId()).isEqualTo(intake.getId());
+                    assertThat(accepted.getStatus()).isEqualTo(IntakeStatus.PENDING);
+                    assertThat(accepted.getAmount()).isEqualTo(10000.0);
+                    assertThat(accepted.getIdLoanType()).isEqualTo(intake.getIdLoanType());
+                })
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should register the intake and record the created application")
+    void shouldProcessIntake() {
+        when(registerRequestUseCase.registerApplication(any(), eq(token))).thenReturn(Mono.just(saved));
+
+        StepVerifier.create(useCase.process(intake, token, null))
+                .assertNext(processed -> {
+                    assertThat(processed.getStatus()).isEqualTo(IntakeStatus.COMPLETED);
+                    assertThat(processed.getIdApplication()).isEqualTo(saved.getId());
+                })
+                .verifyComplete();
+
+        verify(registerRequestUseCase).registerApplication(applicationCaptor.capture(), eq(token));
+        assertThat(applicationCaptor.getValue().getIdDocument()).isEqualTo("77777777");
+        assertThat(applicationCaptor.getValue().getTerm()).isEqualTo(12);
+        verify(applicationIntakeRepository).markCompleted(intake.getId(), saved.getId());
+    }
+
+    @Test
+    @DisplayName("Should register through the idempotent use case when the intake carried an Idempotency-Key")
+    void shouldProcessIntakeIdempotently() {
+        when(registerRequestIdempotentUseCase.registerApplication(any(), eq(token), eq("retry-1")))
+                .thenReturn(Mono.just(saved));
+
+        StepVerifier.create(useCase.process(intake, token, "retry-1"))
+                .expectNextMatches(processed -> processed.getStatus() == IntakeStatus.COMPLETED)
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should record the failure on the intake instead of propagating it")
+    void shouldRecordFailure() {
+        when(registerRequestUseCase.registerApplication(any(), eq(token)))
+                .thenReturn(Mono.error(new InvalidAmountException("Amount out of range")));
+
+        StepVerifier.create(useCase.process(intake, token, null))
+                .assertNext(processed -> {
+                    assertThat(processed.getStatus()).isEqualTo(IntakeStatus.FAILED);
+                    assertThat(processed.getError()).isEqualTo("Amount out of range");
+                })
+                .verifyComplete();
+
+        verify(applicationIntakeRepository).markFailed(intake.getId(), "Amount out of range");
+        verify(applicationIntakeRepository, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should record a generic reason for infrastructure failures and log the real cause")
+    void shouldHideInfrastructureFailure() {
+        IllegalStateException failure = new IllegalStateException("Connection to db:5432 refused");
+        when(registerRequestUseCase.registerApplication(any(), eq(token))).thenReturn(Mono.error(failure));
+
+        StepVerifier.create(useCase.process(intake, token, null))
+                .assertNext(processed -> assertThat(processed.getError())
+                        .isEqualTo(RegisterRequestAsyncUseCase.REGISTRATION_FAILED))
+                .verifyComplete();
+
+        verify(applicationIntakeRepository).markFailed(intake.getId(), RegisterRequestAsyncUseCase.REGISTRATION_FAILED);
+        verify(customLogger).error("Intake {} failed", intake.getId(), failure);
+    }
+
+    @Test
+    @DisplayName("Should skip an intake that is no longer pending")
+    void shouldSkipIntakeAlreadyClaimed() {
+        when(applicationIntakeRepository.markProcessing(intake.getId())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.process(intake, token, null))
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should only return an intake to the client that created it")
+    void shouldFindOwnIntakeOnly() {
+        when(applicationIntakeRepository.findById(intake.getId())).thenReturn(Mono.just(intake));
+
+        StepVerifier.create(useCase.findIntake(intake.getId(), "77777777"))
+                .expectNext(intake)
+                .verifyComplete();
+        StepVerifier.create(useCase.findIntake(intake.getId(), "88888888"))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+}
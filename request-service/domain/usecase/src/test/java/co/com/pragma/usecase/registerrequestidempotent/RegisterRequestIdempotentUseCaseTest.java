@@ -0,0 +1,236 @@
+package co.com.pragma.usecase.registerrequestidempotent;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.exception.IdempotencyKeyConflictException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RegisterRequestIdempotentUseCaseTest {
+
+    @Mock
+    private RegisterRequestUseCase registerRequestUseCase;
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private RegisterRequestIdempotentUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<IdempotencyRecord> recordCaptor;
+
+    private final String token = "valid-token";
+    private final String key = "retry-1";
+    private Application application;
+    private Application saved;
+
+    @BeforeEach
+    void setUp() {
+        application = Application.builder()
+                .amount(10000.0)
+                .term(12)
+                .idDocument("77777777")
+                .idLoanType(UUID.randomUUID())
+                .build();
+        saved = application.toBuilder().id(UUID.randomUUID()).build();
+
+        when(idempotencyRepository.find(anyString(), anyString())).thenReturn(Mono.empty());
+        when(idempotencyRepository.reserve(any())).thenReturn(Mono.just(true));
+        when(idempotencyRepository.complete(any())).thenReturn(Mono.just(true));
+        when(idempotencyRepository.release(any())).thenReturn(Mono.empty());
+        stubRegistration(Mono.just(saved));
+    }
+
+    // Runs the completion the use case hands over, as RegisterRequestUseCase does inside its transaction.
+    private void stubRegistration(Mono<Application> registration) {
+        when(registerRequestUseCase.registerApplication(eq(application), eq(token), any()))
+                .thenAnswer(invocation -> {
+                    Function<Application, Mono<Void>> withinTransaction = invocation.getArgument(2);
+                    return registration.flatMap(registered -> withinTransaction.apply(registered).thenReturn(registered));
+                });
+    }
+
+    @Test
+    @DisplayName("Should reserve the key, register the application and complete the key with its response")
+    void shouldRegisterAndCompleteKey() {
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectNext(saved)
+                .verifyComplete();
+
+        verify(idempotencyRepository).reserve(recordCaptor.capture());
+        assertThat(recordCaptor.getValue().getScope()).isEqualTo("77777777");
+        assertThat(recordCaptor.getValue().getKey()).isEqualTo(key);
+        assertThat(recordCaptor.getValue().getFingerprint()).hasSize(64);
+
+        verify(idempotencyRepository).complete(recordCaptor.capture());
+        assertThat(recordCaptor.getValue().getIdApplication()).isEqualTo(saved.getId());
+        assertThat(recordCaptor.getValue().getResponse()).isSameAs(saved);
+        assertThat(recordCaptor.getValue().getFingerprint()).isEqualTo(recordCaptor.getAllValues().get(0).getFingerprint());
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without registering or reading the application again")
+    void shouldReplayCompletedKey() {
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectNext(saved)
+                .verifyComplete();
+        verify(idempotencyRepository).complete(recordCaptor.capture());
+        when(idempotencyRepository.find("77777777", key)).thenReturn(Mono.just(recordCaptor.getValue()));
+
+        StepVerifier.create(useCase.registerApplication(application.toBuilder().build(), token, key))
+                .expectNext(saved)
+                .verifyComplete();
+
+        verify(registerRequestUseCase, times(1)).registerApplication(any(), eq(token), any());
+        verify(idempotencyRepository, times(1)).reserve(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key that was already used with a different request")
+    void shouldRejectKeyReusedWithDifferentBody() {
+        when(idempotencyRepository.find("77777777", key)).thenReturn(Mono.just(IdempotencyRecord.builder()
+                .scope("77777777")
+                .key(key)
+                .fingerprint("another-request")
+                .idApplication(UUID.randomUUID())
+                .build()));
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectError(IdempotencyKeyMismatchException.class)
+                .verify();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a conflict when another instance holds the key")
+    void shouldRejectKeyInProgressElsewhere() {
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectNext(saved)
+                .verifyComplete();
+        verify(idempotencyRepository).reserve(recordCaptor.capture());
+        IdempotencyRecord pending = recordCaptor.getValue();
+        when(idempotencyRepository.reserve(any())).thenReturn(Mono.just(false));
+        when(idempotencyRepository.find("77777777", key))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just(pending));
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectError(IdempotencyKeyConflictException.class)
+                .verify();
+
+        verify(registerRequestUseCase, times(1)).registerApplication(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent duplicates onto the in-flight registration")
+    void shouldCollapseConcurrentDuplicates() {
+        Sinks.One<Application> registration = Sinks.one();
+        stubRegistration(registration.asMono());
+
+        Mono<Application> first = useCase.registerApplication(application, token, key);
+        Mono<Application> duplicate = useCase.registerApplication(application, token, key);
+
+        StepVerifier.create(Mono.zip(first, duplicate))
+                .then(() -> registration.tryEmitValue(saved))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isSameAs(saved);
+                    assertThat(results.getT2()).isSameAs(saved);
+                })
+                .verifyComplete();
+
+        verify(registerRequestUseCase, times(1)).registerApplication(any(), anyString(), any());
+        verify(idempotencyRepository, times(1)).reserve(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a concurrent duplicate that carries a different body")
+    void shouldRejectConcurrentDuplicateWithDifferentBody() {
+        Sinks.One<Application> registration = Sinks.one();
+        stubRegistration(registration.asMono());
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .then(() -> StepVerifier.create(useCase.registerApplication(
+                                application.toBuilder().amount(99999.0).build(), token, key))
+                        .expectError(IdempotencyKeyMismatchException.class)
+                        .verify())
+                .then(() -> registration.tryEmitValue(saved))
+                .expectNext(saved)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should release the key when the registration fails so the client can retry")
+    void shouldReleaseKeyOnFailure() {
+        stubRegistration(Mono.error(new InvalidAmountException("Amount out of range")));
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectError(InvalidAmountException.class)
+                .verify();
+
+        verify(idempotencyRepository).release(any());
+        verify(idempotencyRepository, never()).complete(any());
+
+        stubRegistration(Mono.just(saved));
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectNext(saved)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail the registration and keep the key when the reservation was taken over")
+    void shouldFailWhenReservationWasTakenOver() {
+        when(idempotencyRepository.complete(any())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectError(IdempotencyKeyConflictException.class)
+                .verify();
+
+        verify(idempotencyRepository, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Should release the key when completing it fails, since the registration rolls back with it")
+    void shouldReleaseKeyWhenCompletionFails() {
+        when(idempotencyRepository.complete(any())).thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        StepVerifier.create(useCase.registerApplication(application, token, key))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(idempotencyRepository).release(any());
+    }
+}
@@ -1,13 +1,23 @@
 package co.com.pragma.usecase.updateapplicationstatus;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.StatusTransitionConflictException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.NotificationGateway;
-import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,9 +29,11 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -35,10 +47,25 @@ class UpdateApplicationStatusUseCaseTest {
     private StatusRepository statusRepository;
 
     @Mock
-    private NotificationGateway notificationGateway;
+    private LoanTypeRepository loanTypeRepository;
+
+    @Mock
+    private DebtLedgerRepository debtLedgerRepository;
+
+    @Mock
+    private PaymentPlanRepository paymentPlanRepository;
+
+    @Mock
+    private DailyApprovalRollupRepository dailyApprovalRollupRepository;
+
+    @Mock
+    private ApplicationSummaryRepository applicationSummaryRepository;
 
     @Mock
-    private ReportApprovedGateway reportApprovedGateway;
+    private TransactionManager transactionManager;
+
+    @Mock
+    private NotificationGateway notificationGateway;
 
     @Mock
     private CustomLogger customLogger;
@@ -49,6 +76,7 @@ class UpdateApplicationStatusUseCaseTest {
     private Application application;
     private Status approvedStatus;
     private Status rejectedStatus;
+    private LoanType loanType;
     private UUID applicationId;
     private LocalDateTime initialUpdatedAt;
 
@@ -62,6 +90,8 @@ class UpdateApplicationStatusUseCaseTest {
                 .amount(1000.0)
                 .term(12)
                 .email("test@email.com")
+                .idUser(UUID.randomUUID())
+                .idLoanType(UUID.randomUUID())
                 .idStatus(UUID.randomUUID()) // Estado anterior
                 .updatedAt(initialUpdatedAt)
                 .approvedAt(null)
@@ -76,19 +106,44 @@ class UpdateApplicationStatusUseCaseTest {
                 .id(UUID.randomUUID())
                 .name("Rejected")
                 .build();
+
+        loanType = LoanType.builder()
+                .id(application.getIdLoanType())
+                .interestRate(12.0)
+                .build();
+    }
+
+    private void stubTransaction() {
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+    }
+
+    private void stubTransition() {
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenAnswer(invocation -> {
+            StatusTransition transition = invocation.getArgument(0);
+            Application updated = application.toBuilder()
+                    .idStatus(transition.getTargetStatusId())
+                    .updatedAt(transition.getTransitionedAt())
+                    .approvedAt(transition.getApprovedAt())
+                    .build();
+            return Mono.just(TransitionedApplication.builder()
+                    .application(updated)
+                    .previousStatusId(application.getIdStatus())
+                    .previousApprovedAt(application.getApprovedAt())
+                    .build());
+        });
+        when(applicationSummaryRepository.recordTransitions(anyList())).thenReturn(Mono.empty());
     }
 
     @Test
     @DisplayName("Should update application to Approved status successfully")
     void shouldUpdateApplicationToApprovedSuccessfully() {
+        stubTransaction();
+        stubTransition();
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> {
-            Application savedApp = invocation.getArgument(0);
-            return Mono.just(savedApp);
-        });
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(debtLedgerRepository.recordApproval(any(DebtLedgerEntry.class))).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.recordApproval(any(Application.class))).thenReturn(Mono.empty());
         when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
-        when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved"))).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
                 .expectNextMatches(updatedApp ->
@@ -98,20 +153,38 @@ class UpdateApplicationStatusUseCaseTest {
                 )
                 .verifyComplete();
 
+        verify(applicationRepository).transitionStatus(argThat(transition ->
+                transition.getApplicationId().equals(applicationId)
+                        && transition.getTargetStatusId().equals(approvedStatus.getId())
+                        && transition.getExpectedStatusIds().isEmpty()
+                        && transition.getApprovedAt() != null));
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository, never()).save(any());
+        verify(debtLedgerRepository).recordApproval(argThat(entry ->
+                entry.getIdApplication().equals(applicationId)
+                        && entry.getIdUser().equals(application.getIdUser())
+                        && entry.getInterestRate().equals(12.0)
+                        && entry.getMonthlyInstallment() > 0));
+        verify(debtLedgerRepository, never()).recordRelease(any());
+        verify(dailyApprovalRollupRepository, never()).retractApproval(any());
+        verify(dailyApprovalRollupRepository).recordApproval(argThat(saved ->
+                saved.getId().equals(applicationId) && saved.getApprovedAt() != null));
+        verify(applicationSummaryRepository).recordTransitions(argThat(transitions -> transitions.size() == 1
+                && transitions.getFirst().getPreviousStatusId().equals(application.getIdStatus())
+                && transitions.getFirst().getApplication().getIdStatus().equals(approvedStatus.getId())));
         verify(notificationGateway).sendDecisionNotification(any(), eq("Approved"));
-        verify(reportApprovedGateway).sendReportApprovedCount(any(), eq("Approved"));
         verify(customLogger).info("Starting use case to update request status: {}", applicationId);
-        verify(customLogger).trace("Notification + reporting event sent for Application ID: {}", applicationId);
+        verify(customLogger).trace("Notification queued for Application ID: {}", applicationId);
         verify(customLogger).trace("Application status updated successfully for ID: {}", applicationId);
     }
 
     @Test
     @DisplayName("Should update application to Rejected status successfully")
     void shouldUpdateApplicationToRejectedSuccessfully() {
+        stubTransaction();
+        stubTransition();
         when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
         when(notificationGateway.sendDecisionNotification(any(), eq("Rejected"))).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Rejected"))
@@ -122,9 +195,88 @@ class UpdateApplicationStatusUseCaseTest {
                 )
                 .verifyComplete();
 
+        verify(applicationRepository).transitionStatus(argThat(transition -> transition.getApprovedAt() == null));
+        verifyNoInteractions(debtLedgerRepository, paymentPlanRepository, dailyApprovalRollupRepository, loanTypeRepository);
         verify(notificationGateway).sendDecisionNotification(any(), eq("Rejected"));
-        verifyNoInteractions(reportApprovedGateway);
-        verify(customLogger).trace("Notification + reporting event sent for Application ID: {}", applicationId);
+        verify(customLogger).trace("Notification queued for Application ID: {}", applicationId);
+    }
+
+    @Test
+    @DisplayName("Should release the ledger entry, drop the payment plan and retract the rollup when rejecting an approved application")
+    void shouldRetractPreviousApprovalWhenRejectingApprovedApplication() {
+        LocalDateTime previousApprovedAt = LocalDateTime.now().minusDays(2);
+        application.setIdStatus(approvedStatus.getId());
+        application.setApprovedAt(previousApprovedAt);
+
+        stubTransaction();
+        stubTransition();
+        when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(debtLedgerRepository.recordRelease(applicationId)).thenReturn(Mono.empty());
+        when(paymentPlanRepository.deleteByIdApplication(applicationId)).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.retractApproval(any(Application.class))).thenReturn(Mono.empty());
+        when(notificationGateway.sendDecisionNotification(any(), eq("Rejected"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Rejected"))
+                .expectNextMatches(updatedApp -> updatedApp.getApprovedAt() == null)
+                .verifyComplete();
+
+        verify(debtLedgerRepository).recordRelease(applicationId);
+        verify(paymentPlanRepository).deleteByIdApplication(applicationId);
+        verify(dailyApprovalRollupRepository).retractApproval(argThat(previous ->
+                previousApprovedAt.equals(previous.getApprovedAt())
+                        && previous.getIdStatus().equals(approvedStatus.getId())));
+        verify(dailyApprovalRollupRepository, never()).recordApproval(any());
+    }
+
+    @Test
+    @DisplayName("Should guard the transition on the expected status when one is given")
+    void shouldGuardOnExpectedStatus() {
+        Status manualReviewStatus = Status.builder().id(UUID.randomUUID()).name("Manual Review").build();
+        stubTransaction();
+        stubTransition();
+        when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
+        when(statusRepository.findByNameIgnoreCase("Manual Review")).thenReturn(Mono.just(manualReviewStatus));
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(notificationGateway.sendDecisionNotification(any(), eq("Rejected"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Rejected", "Manual Review"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(applicationRepository).transitionStatus(argThat(transition ->
+                transition.getExpectedStatusIds().equals(List.of(manualReviewStatus.getId()))));
+    }
+
+    @Test
+    @DisplayName("Should throw when expected status not found")
+    void shouldThrowWhenExpectedStatusNotFound() {
+        when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
+        when(statusRepository.findByNameIgnoreCase("Unknown")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Rejected", "Unknown"))
+                .expectErrorMatches(throwable ->
+                        throwable instanceof EntityNotFoundException &&
+                                throwable.getMessage().equals("Invalid status: Unknown"))
+                .verify();
+
+        verifyNoInteractions(applicationRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should report a conflict when another decision changed the status first")
+    void shouldThrowConflictWhenTransitionGuardFails() {
+        stubTransaction();
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenReturn(Mono.empty());
+        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
+                .expectError(StatusTransitionConflictException.class)
+                .verify();
+
+        verifyNoInteractions(debtLedgerRepository, dailyApprovalRollupRepository, applicationSummaryRepository,
+                notificationGateway);
     }
 
     @Test
@@ -141,13 +293,16 @@ class UpdateApplicationStatusUseCaseTest {
 
         verify(customLogger).info("Starting use case to update request status: {}", applicationId);
         verify(customLogger).trace("Application status update failed for ID {}: {}", applicationId, "Invalid status: Invalid");
-        verifyNoInteractions(applicationRepository, notificationGateway, reportApprovedGateway);
+        verifyNoInteractions(applicationRepository, debtLedgerRepository, dailyApprovalRollupRepository,
+                notificationGateway);
     }
 
     @Test
     @DisplayName("Should throw when application not found")
     void shouldThrowWhenApplicationNotFound() {
+        stubTransaction();
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.transitionStatus(any(StatusTransition.class))).thenReturn(Mono.empty());
         when(applicationRepository.findById(applicationId)).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
@@ -158,37 +313,38 @@ class UpdateApplicationStatusUseCaseTest {
                 .verify();
 
         verify(customLogger).trace("Application status update failed for ID {}: {}", applicationId, "Application not found");
-        verifyNoInteractions(notificationGateway, reportApprovedGateway);
+        verifyNoInteractions(debtLedgerRepository, notificationGateway);
     }
 
     @Test
-    @DisplayName("Should handle report failure gracefully")
-    void shouldHandleReportFailure() {
+    @DisplayName("Should propagate a failure to queue the decision notification")
+    void shouldPropagateNotificationFailure() {
+        stubTransaction();
+        stubTransition();
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(debtLedgerRepository.recordApproval(any(DebtLedgerEntry.class))).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.recordApproval(any(Application.class))).thenReturn(Mono.empty());
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
-        when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
-        when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved")))
-                .thenReturn(Mono.error(new RuntimeException("Report failed")));
+        when(notificationGateway.sendDecisionNotification(any(), eq("Approved")))
+                .thenReturn(Mono.error(new RuntimeException("Notification failed")));
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
                 .expectError(RuntimeException.class)
                 .verify();
 
-        // Verificar que la notificación sí se ejecutó
-        verify(notificationGateway).sendDecisionNotification(any(), eq("Approved"));
+        verify(customLogger, never()).trace("Notification queued for Application ID: {}", applicationId);
     }
 
     @Test
     @DisplayName("Should handle case-insensitive status names")
     void shouldHandleCaseInsensitiveStatusNames() {
+        stubTransaction();
+        stubTransition();
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(debtLedgerRepository.recordApproval(any(DebtLedgerEntry.class))).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.recordApproval(any(Application.class))).thenReturn(Mono.empty());
         when(statusRepository.findByNameIgnoreCase("approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
         when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
-        when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved"))).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "approved"))
                 .expectNextCount(1)
@@ -196,4 +352,20 @@ class UpdateApplicationStatusUseCaseTest {
 
         verify(notificationGateway).sendDecisionNotification(any(), eq("Approved"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not notify when the debt ledger cannot be updated")
+    void shouldFailWhenLoanTypeNotFoundForLedger() {
+        stubTransaction();
+        stubTransition();
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verify(transactionManager).executeInTransaction(any());
+        verifyNoInteractions(debtLedgerRepository, dailyApprovalRollupRepository, notificationGateway);
+    }
+}
@@ -0,0 +1,279 @@
+package co.com.pragma.usecase.updateapplicationstatusbulk;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.BulkDecisionItem;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UpdateApplicationStatusBulkUseCaseTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private StatusRepository statusRepository;
+    @Mock
+    private LoanTypeRepository loanTypeRepository;
+    @Mock
+    private DebtLedgerRepository debtLedgerRepository;
+    @Mock
+    private PaymentPlanRepository paymentPlanRepository;
+    @Mock
+    private DailyApprovalRollupRepository dailyApprovalRollupRepository;
+    @Mock
+    private ApplicationSummaryRepository applicationSummaryRepository;
+    @Mock
+    private TransactionManager transactionManager;
+    @Mock
+    private NotificationGateway notificationGateway;
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private UpdateApplicationStatusBulkUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<List<UUID>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<StatusTransition> transitionCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<DebtLedgerEntry>> entriesCaptor;
+
+    private final Map<UUID, Application> stored = new HashMap<>();
+    private Status pendingStatus;
+    private Status approvedStatus;
+    private Status rejectedStatus;
+    private LoanType loanType;
+
+    @BeforeEach
+    void setUp() {
+        pendingStatus = Status.builder().id(UUID.randomUUID()).name("Pending Review").build();
+        approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
+        rejectedStatus = Status.builder().id(UUID.randomUUID()).name("Rejected").build();
+        loanType = LoanType.builder().id(UUID.randomUUID()).interestRate(12.0).build();
+
+        for (Status status : List.of(pendingStatus, approvedStatus, rejectedStatus)) {
+            when(statusRepository.findByNameIgnoreCase(status.getName().toLowerCase())).thenReturn(Mono.just(status));
+        }
+        when(statusRepository.findByNameIgnoreCase("unknown")).thenReturn(Mono.empty());
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(applicationRepository.transitionStatuses(anyList(), any(StatusTransition.class))).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            StatusTransition transition = invocation.getArgument(1);
+            return Flux.fromIterable(ids)
+                    .filter(stored::containsKey)
+                    .map(stored::get)
+                    .filter(application -> transition.getExpectedStatusIds().isEmpty()
+                            ? !application.getIdStatus().equals(transition.getTargetStatusId())
+                            : transition.getExpectedStatusIds().contains(application.getIdStatus()))
+                    .map(application -> TransitionedApplication.builder()
+                            .application(application.toBuilder()
+                                    .idStatus(transition.getTargetStatusId())
+                                    .approvedAt(transition.getApprovedAt())
+                                    .build())
+                            .previousStatusId(application.getIdStatus())
+                            .previousApprovedAt(application.getApprovedAt())
+                            .build());
+        });
+        when(applicationRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids).filter(stored::containsKey).map(stored::get);
+        });
+        when(loanTypeRepository.findByIds(anyList())).thenReturn(Flux.just(loanType));
+        when(debtLedgerRepository.recordApprovals(anyList())).thenReturn(Mono.empty());
+        when(debtLedgerRepository.recordReleases(anyList())).thenReturn(Mono.empty());
+        when(paymentPlanRepository.deleteByIdApplicationIn(anyList())).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.recordApprovals(anyList())).thenReturn(Mono.empty());
+        when(dailyApprovalRollupRepository.retractApprovals(anyList())).thenReturn(Mono.empty());
+        when(applicationSummaryRepository.recordTransitions(anyList())).thenReturn(Mono.empty());
+        when(notificationGateway.sendDecisionNotifications(anyList(), anyString())).thenReturn(Mono.empty());
+    }
+
+    private UUID store(Status status) {
+        UUID id = UUID.randomUUID();
+        stored.put(id, Application.builder()
+                .id(id)
+                .amount(1000.0)
+                .term(12)
+                .email("client@test.com")
+                .idUser(UUID.randomUUID())
+                .idLoanType(loanType.getId())
+                .idStatus(status.getId())
+                .approvedAt(status == approvedStatus ? LocalDateTime.now().minusDays(1) : null)
+                .build());
+        return id;
+    }
+
+    private BulkDecisionItem decision(long index, UUID idApplication, String status, String expectedStatus) {
+        return BulkDecisionItem.builder()
+                .index(index)
+                .idApplication(idApplication)
+                .status(status)
+                .expectedStatus(expectedStatus)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should apply every decision of a target status with one transition and batched events")
+    void shouldApplyGroupedDecisions() {
+        UUID first = store(pendingStatus);
+        UUID second = store(pendingStatus);
+        UUID third = store(pendingStatus);
+
+        StepVerifier.create(useCase.updateStatuses(Flux.just(
+                        decision(0, first, "Approved", null),
+                        decision(1, second, "rejected", null),
+                        decision(2, third, "APPROVED", null))))
+                .assertNext(item -> assertThat(item.getApplication().getIdStatus()).isEqualTo(approvedStatus.getId()))
+                .assertNext(item -> assertThat(item.getApplication().getIdStatus()).isEqualTo(rejectedStatus.getId()))
+                .assertNext(item -> {
+                    assertThat(item.isRejected()).isFalse();
+                    assertThat(item.getApplication().getApprovedAt()).isNotNull();
+                })
+                .verifyComplete();
+
+        verify(applicationRepository, times(2)).transitionStatuses(idsCaptor.capture(), transitionCaptor.capture());
+        assertThat(idsCaptor.getAllValues().getFirst()).containsExactlyInAnyOrder(first, third);
+        assertThat(transitionCaptor.getAllValues().getFirst().getTargetStatusId()).isEqualTo(approvedStatus.getId());
+        assertThat(transitionCaptor.getAllValues().getLast().getApprovedAt()).isNull();
+        verify(transactionManager).executeInTransaction(any());
+        verify(debtLedgerRepository).recordApprovals(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue()).extracting(DebtLedgerEntry::getIdApplication)
+                .containsExactlyInAnyOrder(first, third);
+        verify(dailyApprovalRollupRepository).recordApprovals(anyList());
+        verify(applicationSummaryRepository, times(2)).recordTransitions(anyList());
+        verify(notificationGateway).sendDecisionNotifications(anyList(), eq("Approved"));
+        verify(notificationGateway).sendDecisionNotifications(anyList(), eq("Rejected"));
+        verify(debtLedgerRepository, never()).recordReleases(anyList());
+        verify(paymentPlanRepository, never()).deleteByIdApplicationIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Should release the ledger, drop the payment plans and retract the rollup of applications that leave Approved")
+    void shouldReleasePreviouslyApproved() {
+        UUID approved = store(approvedStatus);
+        UUID pending = store(pendingStatus);
+
+        StepVerifier.create(useCase.updateStatuses(Flux.just(
+                        decision(0, approved, "Rejected", null),
+                        decision(1, pending, "Rejected", null))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(debtLedgerRepository).recordReleases(List.of(approved));
+        verify(paymentPlanRepository).deleteByIdApplicationIn(List.of(approved));
+        verify(dailyApprovalRollupRepository).retractApprovals(anyList());
+        verify(debtLedgerRepository, never()).recordApprovals(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown statuses, duplicates, missing applications and stale decisions per item")
+    void shouldRejectPerItem() {
+        UUID pending = store(pendingStatus);
+        UUID alreadyRejected = store(rejectedStatus);
+        UUID missing = UUID.randomUUID();
+
+        StepVerifier.create(useCase.updateStatuses(Flux.just(
+                        decision(0, store(pendingStatus), "Unknown", null),
+                        decision(1, pending, "Approved", null),
+                        decision(2, pending, "Rejected", null),
+                        decision(3, missing, "Approved", null),
+                        decision(4, alreadyRejected, "Approved", "Pending Review"),
+                        BulkDecisionItem.rejected(5, null, "idApplication: IdApplication is required"))))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("Invalid status: Unknown"))
+                .assertNext(item -> assertThat(item.getApplication().getId()).isEqualTo(pending))
+                .assertNext(item -> assertThat(item.getError()).contains("appears more than once"))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("Application not found"))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo(
+                        "Application " + alreadyRejected + " is no longer in the expected status"))
+                .assertNext(item -> assertThat(item.getError()).isEqualTo("idApplication: IdApplication is required"))
+                .verifyComplete();
+
+        verify(applicationRepository).findAllById(List.of(missing, alreadyRejected));
+    }
+
+    @Test
+    @DisplayName("Should reject every pending decision of a chunk whose transaction fails")
+    void shouldRejectChunkOnFailure() {
+        UUID first = store(pendingStatus);
+        when(debtLedgerRepository.recordApprovals(anyList())).thenReturn(Mono.error(new RuntimeException("Database down")));
+
+        StepVerifier.create(useCase.updateStatuses(Flux.just(
+                        decision(0, first, "Approved", null),
+                        decision(1, first, "Rejected", null))))
+                .assertNext(item -> {
+                    assertThat(item.getError()).isEqualTo("Database down");
+                    assertThat(item.getApplication()).isNull();
+                })
+                .assertNext(item -> assertThat(item.getError()).contains("appears more than once"))
+                .verifyComplete();
+
+        verify(notificationGateway, never()).sendDecisionNotifications(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should split the decisions into chunks with their own transaction")
+    void shouldProcessInChunks() {
+        int total = UpdateApplicationStatusBulkUseCase.CHUNK_SIZE + 20;
+        Flux<BulkDecisionItem> items = Flux.fromIterable(IntStream.range(0, total)
+                .mapToObj(index -> decision(index, store(pendingStatus), "Rejected", "Pending Review"))
+                .toList());
+
+        StepVerifier.create(useCase.updateStatuses(items))
+                .expectNextCount(total)
+                .verifyComplete();
+
+        verify(applicationRepository, times(2)).transitionStatuses(idsCaptor.capture(), transitionCaptor.capture());
+        assertThat(idsCaptor.getAllValues()).extracting(List::size)
+                .containsExactly(UpdateApplicationStatusBulkUseCase.CHUNK_SIZE, 20);
+        assertThat(transitionCaptor.getValue().getExpectedStatusIds()).containsExactly(pendingStatus.getId());
+        verify(transactionManager, times(2)).executeInTransaction(any());
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.r2dbc.benchmark;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import co.com.pragma.r2dbc.mapper.ApplicationEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of mapping an application between its R2DBC entity and the domain model, comparing the reflective
+ * reactive-commons mapper the adapters used before with the MapStruct mapper they use now.
+ * Run with {@code gradle :r2dbc-postgresql:jmh -PjmhArgs="-prof gc"} to include allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+
+    private ObjectMapper reflectiveMapper;
+    private ApplicationEntityMapper generatedMapper;
+    private ApplicationEntity row;
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        reflectiveMapper = new ObjectMapperImp();
+        generatedMapper = Mappers.getMapper(ApplicationEntityMapper.class);
+        LocalDateTime now = LocalDateTime.now();
+        row = ApplicationEntity.builder()
+                .id(UUID.randomUUID())
+                .amount(15000.0)
+                .term(24)
+                .email("client@test.com")
+                .idDocument("12345678")
+                .idStatus(UUID.randomUUID())
+                .idLoanType(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .approvedAt(now)
+                .build();
+        application = generatedMapper.toEntity(row);
+    }
+
+    @Benchmark
+    public Application reflectiveRowToDomain() {
+        return reflectiveMapper.map(row, Application.class);
+    }
+
+    @Benchmark
+    public Application generatedRowToDomain() {
+        return generatedMapper.toEntity(row);
+    }
+
+    @Benchmark
+    public ApplicationEntity reflectiveDomainToRow() {
+        return reflectiveMapper.map(application, ApplicationEntity.class);
+    }
+
+    @Benchmark
+    public ApplicationEntity generatedDomainToRow() {
+        return generatedMapper.toData(application);
+    }
+}
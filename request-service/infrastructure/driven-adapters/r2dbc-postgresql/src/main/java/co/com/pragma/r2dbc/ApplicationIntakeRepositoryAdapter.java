@@ -0,0 +1,108 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.intake.gateways.ApplicationIntakeRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ApplicationIntakeRepositoryAdapter implements ApplicationIntakeRepository {
+
+    static final String INSERT = "INSERT INTO application_intakes (id_document, amount, term, id_loan_type) " +
+            "VALUES (:idDocument, :amount, :term, :idLoanType) " +
+            "RETURNING *";
+
+    static final String FIND_BY_ID = "SELECT * FROM application_intakes WHERE id = :id";
+
+    // Only a PENDING intake can be claimed, so an intake the sweep already failed is never registered late.
+    static final String MARK_PROCESSING = "UPDATE application_intakes SET status = 'PROCESSING', updated_at = now() " +
+            "WHERE id = :id AND status = 'PENDING'";
+
+    static final String MARK_COMPLETED = "UPDATE application_intakes SET " +
+            "status = 'COMPLETED', id_application = :idApplication, updated_at = now() " +
+            "WHERE id = :id";
+
+    static final String MARK_FAILED = "UPDATE application_intakes SET " +
+            "status = 'FAILED', error = :error, updated_at = now() " +
+            "WHERE id = :id AND status IN ('PENDING', 'PROCESSING')";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<ApplicationIntake> save(ApplicationIntake intake) {
+        return queryMetrics.timed("ApplicationIntakeRepositoryAdapter.save",
+                entityTemplate.getDatabaseClient().sql(INSERT)
+                        .bind("idDocument", intake.getIdDocument())
+                        .bind("amount", intake.getAmount())
+                        .bind("term", intake.getTerm())
+                        .bind("idLoanType", intake.getIdLoanType())
+                        .map((row, metadata) -> toIntake(row))
+                        .one());
+    }
+
+    @Override
+    public Mono<ApplicationIntake> findById(UUID id) {
+        return queryMetrics.timed("ApplicationIntakeRepositoryAdapter.findById",
+                entityTemplate.getDatabaseClient().sql(FIND_BY_ID)
+                        .bind("id", id)
+                        .map((row, metadata) -> toIntake(row))
+                        .one());
+    }
+
+    @Override
+    public Mono<Boolean> markProcessing(UUID id) {
+        return queryMetrics.timed("ApplicationIntakeRepositoryAdapter.markProcessing",
+                        entityTemplate.getDatabaseClient().sql(MARK_PROCESSING)
+                                .bind("id", id)
+                                .fetch()
+                                .rowsUpdated())
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Void> markCompleted(UUID id, UUID idApplication) {
+        return queryMetrics.timed("ApplicationIntakeRepositoryAdapter.markCompleted",
+                        entityTemplate.getDatabaseClient().sql(MARK_COMPLETED)
+                                .bind("idApplication", idApplication)
+                                .bind("id", id)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> markFailed(UUID id, String error) {
+        return queryMetrics.timed("ApplicationIntakeRepositoryAdapter.markFailed",
+                        entityTemplate.getDatabaseClient().sql(MARK_FAILED)
+                                .bind("error", error)
+                                .bind("id", id)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    private ApplicationIntake toIntake(Row row) {
+        return ApplicationIntake.builder()
+                .id(row.get("id", UUID.class))
+                .idDocument(row.get("id_document", String.class))
+                .amount(row.get("amount", Double.class))
+                .term(row.get("term", Integer.class))
+                .idLoanType(row.get("id_loan_type", UUID.class))
+                .status(IntakeStatus.valueOf(row.get("status", String.class)))
+                .idApplication(row.get("id_application", UUID.class))
+                .error(row.get("error", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
-import org.springframework.data.domain.Pageable;
+import co.com.pragma.r2dbc.entity.ApplicationListVersionEntity;
+import co.com.pragma.r2dbc.entity.ApplicationTransitionEntity;
+import co.com.pragma.r2dbc.routing.ReplicaRead;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -14,13 +16,81 @@ import java.util.UUID;
 
 // TODO: This file is just an example, you should delete or modify it
 public interface ApplicationReactiveRepository extends ReactiveCrudRepository<ApplicationEntity, UUID>, ReactiveQueryByExampleExecutor<ApplicationEntity> {
-    Flux<ApplicationEntity> findByIdStatusIn(List<UUID> statusIds, Pageable pageable);
+    @ReplicaRead
     Mono<Long> countByIdStatusIn(List<UUID> statusIds);
+
+    @ReplicaRead
+    @Query("EXPLAIN SELECT 1 FROM applications WHERE id_status IN (:statusIds)")
+    Flux<String> explainCountByIdStatusIn(List<UUID> statusIds);
     Flux<ApplicationEntity> findByIdUserAndIdStatus(UUID idUser, UUID idStatus);
+    // Arrays rather than lists: a list parameter would be expanded into one bind marker per element.
+    @Query("INSERT INTO applications (id, amount, term, email, id_document, id_status, id_loan_type, id_user) " +
+            "SELECT * FROM unnest(:ids::uuid[], :amounts::float8[], :terms::int4[], :emails::varchar[], " +
+            ":idDocuments::varchar[], :idStatuses::uuid[], :idLoanTypes::uuid[], :idUsers::uuid[]) " +
+            "RETURNING *")
+    Flux<ApplicationEntity> insertAll(UUID[] ids, Double[] amounts, Integer[] terms, String[] emails,
+                                      String[] idDocuments, UUID[] idStatuses, UUID[] idLoanTypes, UUID[] idUsers);
+    @ReplicaRead
     @Query("SELECT a.* FROM applications a " +
             "JOIN status s ON a.id_status = s.id " +
             "WHERE a.id_user = :idUser AND s.name = 'Approved'")
     Flux<ApplicationEntity> findActiveLoansByIdUser(UUID idUser);
-    @Query("SELECT * FROM applications WHERE id_status = :statusId AND approved_at >= :start AND approved_at < :end")
-    Flux<ApplicationEntity> findByStatusAndApprovedDateBetween(UUID statusId, LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+    // A client's listing is read newest first in keyset batches over (id_user, created_at, id).
+    @Query("SELECT * FROM applications WHERE id_user = :idUser " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ApplicationEntity> findPageByIdUser(UUID idUser, int limit);
+    @Query("SELECT * FROM applications WHERE id_user = :idUser AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<ApplicationEntity> findPageByIdUserBefore(UUID idUser, LocalDateTime createdAt, UUID id, int limit);
+    @Query("SELECT max(coalesce(updated_at, created_at)) AS latest_change_at, count(*) AS application_count " +
+            "FROM applications WHERE id_user = :idUser")
+    Mono<ApplicationListVersionEntity> findListVersionByIdUser(UUID idUser);
+    // Read from the primary: the change feed's catch-up must see every approval committed before its slot was recreated.
+    @Query("SELECT * FROM applications WHERE id_status = :idStatus AND approved_at > :approvedAfter")
+    Flux<ApplicationEntity> findByIdStatusAndApprovedAtAfter(UUID idStatus, LocalDateTime approvedAfter);
+    // id alone does not say which partition holds the row, so created_at is looked up in application_ids first and
+    // every statement below reads and locks the application in that one partition.
+    @Query("SELECT a.* FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at WHERE i.id = :id")
+    Mono<ApplicationEntity> findRegisteredById(UUID id);
+    @Query("SELECT a.* FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at WHERE i.id = ANY(:ids)")
+    Flux<ApplicationEntity> findAllRegisteredById(UUID[] ids);
+    @Query("WITH previous AS (" +
+            "SELECT a.id, a.created_at, a.id_status, a.approved_at FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at " +
+            "WHERE i.id = :id AND a.id_status IN (:expectedStatusIds) FOR UPDATE OF a) " +
+            "UPDATE applications a SET id_status = :targetStatusId, updated_at = :transitionedAt, approved_at = :approvedAt " +
+            "FROM previous p WHERE a.id = p.id AND a.created_at = p.created_at " +
+            "RETURNING a.*, p.id_status AS previous_id_status, p.approved_at AS previous_approved_at")
+    Mono<ApplicationTransitionEntity> transitionFromStatusIn(UUID id, List<UUID> expectedStatusIds, UUID targetStatusId,
+                                                             LocalDateTime transitionedAt, LocalDateTime approvedAt);
+    @Query("WITH previous AS (" +
+            "SELECT a.id, a.created_at, a.id_status, a.approved_at FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at " +
+            "WHERE i.id = :id AND a.id_status <> :targetStatusId FOR UPDATE OF a) " +
+            "UPDATE applications a SET id_status = :targetStatusId, updated_at = :transitionedAt, approved_at = :approvedAt " +
+            "FROM previous p WHERE a.id = p.id AND a.created_at = p.created_at " +
+            "RETURNING a.*, p.id_status AS previous_id_status, p.approved_at AS previous_approved_at")
+    Mono<ApplicationTransitionEntity> transitionFromOtherStatus(UUID id, UUID targetStatusId,
+                                                                LocalDateTime transitionedAt, LocalDateTime approvedAt);
+    @Query("WITH previous AS (" +
+            "SELECT a.id, a.created_at, a.id_status, a.approved_at FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at " +
+            "WHERE i.id = ANY(:ids) AND a.id_status IN (:expectedStatusIds) ORDER BY a.id FOR UPDATE OF a) " +
+            "UPDATE applications a SET id_status = :targetStatusId, updated_at = :transitionedAt, approved_at = :approvedAt " +
+            "FROM previous p WHERE a.id = p.id AND a.created_at = p.created_at " +
+            "RETURNING a.*, p.id_status AS previous_id_status, p.approved_at AS previous_approved_at")
+    Flux<ApplicationTransitionEntity> transitionAllFromStatusIn(UUID[] ids, List<UUID> expectedStatusIds,
+                                                                UUID targetStatusId, LocalDateTime transitionedAt,
+                                                                LocalDateTime approvedAt);
+    @Query("WITH previous AS (" +
+            "SELECT a.id, a.created_at, a.id_status, a.approved_at FROM application_ids i " +
+            "JOIN applications a ON a.id = i.id AND a.created_at = i.created_at " +
+            "WHERE i.id = ANY(:ids) AND a.id_status <> :targetStatusId ORDER BY a.id FOR UPDATE OF a) " +
+            "UPDATE applications a SET id_status = :targetStatusId, updated_at = :transitionedAt, approved_at = :approvedAt " +
+            "FROM previous p WHERE a.id = p.id AND a.created_at = p.created_at " +
+            "RETURNING a.*, p.id_status AS previous_id_status, p.approved_at AS previous_approved_at")
+    Flux<ApplicationTransitionEntity> transitionAllFromOtherStatus(UUID[] ids, UUID targetStatusId,
+                                                                   LocalDateTime transitionedAt, LocalDateTime approvedAt);
+}
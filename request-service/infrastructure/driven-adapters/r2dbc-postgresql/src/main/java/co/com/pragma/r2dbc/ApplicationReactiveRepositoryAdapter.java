@@ -1,22 +1,36 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.pagination.CountMode;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import co.com.pragma.r2dbc.entity.ApplicationTransitionEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import co.com.pragma.r2dbc.mapper.ApplicationEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.pagination.ApplicationSortField;
+import co.com.pragma.r2dbc.pagination.KeysetCursor;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Repository
 public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperations<
@@ -25,9 +39,21 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         UUID,
         ApplicationReactiveRepository
 > implements ApplicationRepository {
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+    static final int CLIENT_BATCH_SIZE = 100;
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ApplicationEntityMapper applicationMapper;
+    private final QueryMetrics queryMetrics;
+
     public ApplicationReactiveRepositoryAdapter(ApplicationReactiveRepository repository,
-                                                ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Application.class));
+                                                R2dbcEntityTemplate entityTemplate,
+                                                ApplicationEntityMapper mapper,
+                                                QueryMetrics queryMetrics) {
+        super(repository, mapper);
+        this.entityTemplate = entityTemplate;
+        this.applicationMapper = mapper;
+        this.queryMetrics = queryMetrics;
     }
 
     @Override
@@ -35,59 +61,242 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         return super.save(application);
     }
 
+    @Override
+    public Flux<Application> saveAll(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+        return repository.insertAll(
+                        applications.stream().map(Application::getId).toArray(UUID[]::new),
+                        applications.stream().map(Application::getAmount).toArray(Double[]::new),
+                        applications.stream().map(Application::getTerm).toArray(Integer[]::new),
+                        applications.stream().map(Application::getEmail).toArray(String[]::new),
+                        applications.stream().map(Application::getIdDocument).toArray(String[]::new),
+                        applications.stream().map(Application::getIdStatus).toArray(UUID[]::new),
+                        applications.stream().map(Application::getIdLoanType).toArray(UUID[]::new),
+                        applications.stream().map(Application::getIdUser).toArray(UUID[]::new))
+                .map(this::toEntity);
+    }
+
     @Override
     public Mono<Application> findById(UUID id){
-        return super.findById(id);
+        return repository.findRegisteredById(id)
+                .map(this::toEntity);
     }
 
     @Override
-    public Mono<CustomPage<Application>> findByIdStatusIn(List<UUID> statusIds, CustomPageable customPageable) {
-        Pageable pageable = convertToPageable(customPageable);
+    public Flux<Application> findAllById(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return repository.findAllRegisteredById(ids.toArray(UUID[]::new))
+                .map(this::toEntity);
+    }
 
-        return repository.findByIdStatusIn(statusIds, pageable)
-                .map(entity -> mapper.map(entity, Application.class))
-                .collectList()
-                .zipWith(repository.countByIdStatusIn(statusIds))
-                .map(tuple -> {
-                    List<Application> applications = tuple.getT1();
-                    long totalElements = tuple.getT2();
-                    int totalPages = (int) Math.ceil((double) totalElements / customPageable.getSize());
-
-                    return CustomPage.<Application>builder()
-                            .content(applications)
-                            .currentPage(customPageable.getPage())
-                            .totalPages(totalPages)
-                            .totalElements(totalElements)
-                            .pageSize(customPageable.getSize())
-                            .hasNext(customPageable.getPage() < totalPages - 1)
-                            .hasPrevious(customPageable.getPage() > 0)
-                            .build();
-                });
+    @Override
+    public Mono<TransitionedApplication> transitionStatus(StatusTransition transition) {
+        Mono<ApplicationTransitionEntity> transitioned = transition.getExpectedStatusIds().isEmpty()
+                ? repository.transitionFromOtherStatus(transition.getApplicationId(), transition.getTargetStatusId(),
+                        transition.getTransitionedAt(), transition.getApprovedAt())
+                : repository.transitionFromStatusIn(transition.getApplicationId(), transition.getExpectedStatusIds(),
+                        transition.getTargetStatusId(), transition.getTransitionedAt(), transition.getApprovedAt());
+        return transitioned.map(this::toTransitionedApplication);
+    }
+
+    @Override
+    public Flux<TransitionedApplication> transitionStatuses(List<UUID> applicationIds, StatusTransition transition) {
+        if (applicationIds.isEmpty()) {
+            return Flux.empty();
+        }
+        UUID[] ids = applicationIds.toArray(UUID[]::new);
+        Flux<ApplicationTransitionEntity> transitioned = transition.getExpectedStatusIds().isEmpty()
+                ? repository.transitionAllFromOtherStatus(ids, transition.getTargetStatusId(),
+                        transition.getTransitionedAt(), transition.getApprovedAt())
+                : repository.transitionAllFromStatusIn(ids, transition.getExpectedStatusIds(),
+                        transition.getTargetStatusId(), transition.getTransitionedAt(), transition.getApprovedAt());
+        return transitioned.map(this::toTransitionedApplication);
+    }
+
+    /**
+     * Runs the whole search as one parameterized statement on the replica. Sorting is limited to
+     * {@link ApplicationSortField}, each backed by an index that leads with the status, so amount and date ranges
+     * narrow that same index scan; email and loan type filters have indexes of their own for when they are the
+     * selective part of the search.
+     */
+    @Override
+    public Mono<CustomPage<Application>> search(ApplicationSearchCriteria criteria, CustomPageable customPageable) {
+        return Mono.defer(() -> {
+            ApplicationSortField sortField = ApplicationSortField.fromProperty(customPageable.getSortBy());
+            Sort.Direction direction = "desc".equalsIgnoreCase(customPageable.getSortDirection())
+                    ? Sort.Direction.DESC : Sort.Direction.ASC;
+            KeysetCursor cursor = customPageable.getCursor() != null
+                    ? KeysetCursor.decode(customPageable.getCursor(), sortField, direction)
+                    : null;
+
+            return queryMetrics.timed("ApplicationReactiveRepositoryAdapter.search",
+                            ConnectionRoute.onReplica(entityTemplate.select(
+                                            buildPageQuery(where(criteria), customPageable, sortField, direction, cursor),
+                                            ApplicationEntity.class).collectList()))
+                    .zipWith(count(criteria, customPageable.getCountMode()))
+                    .map(tuple -> toPage(tuple.getT1(), tuple.getT2(), isEstimated(criteria, customPageable),
+                            customPageable, sortField, direction, cursor != null));
+        });
     }
 
     @Override
     public Flux<Application> findByIdUserAndIdStatus(UUID userId, UUID statusId) {
         return repository.findByIdUserAndIdStatus(userId, statusId)
-                .map(entity -> mapper.map(entity, Application.class));
+                .map(this::toEntity);
     }
 
     @Override
     public Flux<Application> findActiveLoansByIdUser(UUID userId) {
         return repository.findActiveLoansByIdUser(userId)
-                .map(entity -> mapper.map(entity, Application.class));
+                .map(this::toEntity);
+    }
+
+    /**
+     * Streams the client's applications newest first, one keyset batch at a time, so a long history never turns into
+     * an OFFSET scan or a single large result. Both this and {@link #findListVersionByIdUser} read the primary: a
+     * version cached from a lagging replica would keep serving a stale list until the client's next change.
+     */
+    @Override
+    public Flux<Application> findByIdUser(UUID userId) {
+        return repository.findPageByIdUser(userId, CLIENT_BATCH_SIZE)
+                .collectList()
+                .expand(rows -> rows.size() < CLIENT_BATCH_SIZE
+                        ? Mono.empty()
+                        : repository.findPageByIdUserBefore(userId, rows.getLast().getCreatedAt(),
+                                rows.getLast().getId(), CLIENT_BATCH_SIZE).collectList())
+                .flatMapIterable(rows -> rows)
+                .map(this::toEntity);
     }
 
     @Override
-    public Flux<Application> findByStatusAndApprovedDateBetween(UUID statusId, LocalDateTime start, LocalDateTime end) {
-        return repository.findByStatusAndApprovedDateBetween(statusId, start, end)
-                .map(entity -> mapper.map(entity, Application.class));
+    public Mono<ApplicationListVersion> findListVersionByIdUser(UUID userId) {
+        return repository.findListVersionByIdUser(userId)
+                .map(row -> ApplicationListVersion.builder()
+                        .latestChangeAt(row.getLatestChangeAt())
+                        .applicationCount(row.getApplicationCount() == null ? 0L : row.getApplicationCount())
+                        .build());
     }
 
-    private Pageable convertToPageable(CustomPageable customPageable) {
-        Sort.Direction direction = Sort.Direction.fromString(
-                customPageable.getSortDirection().equalsIgnoreCase("desc") ? "DESC" : "ASC"
-        );
-        Sort sort = Sort.by(direction, customPageable.getSortBy());
-        return PageRequest.of(customPageable.getPage(), customPageable.getSize(), sort);
+    @Override
+    public Flux<Application> findApprovedAfter(UUID approvedStatusId, LocalDateTime approvedAfter) {
+        return repository.findByIdStatusAndApprovedAtAfter(approvedStatusId, approvedAfter)
+                .map(this::toEntity);
+    }
+
+    private TransitionedApplication toTransitionedApplication(ApplicationTransitionEntity row) {
+        return TransitionedApplication.builder()
+                .application(applicationMapper.toEntity(row))
+                .previousStatusId(row.getPreviousIdStatus())
+                .previousApprovedAt(row.getPreviousApprovedAt())
+                .build();
+    }
+
+    private Criteria where(ApplicationSearchCriteria search) {
+        Criteria criteria = Criteria.where("idStatus").in(search.getStatusIds());
+        if (!search.getLoanTypeIds().isEmpty()) {
+            criteria = criteria.and("idLoanType").in(search.getLoanTypeIds());
+        }
+        if (search.getMinAmount() != null) {
+            criteria = criteria.and("amount").greaterThanOrEquals(search.getMinAmount());
+        }
+        if (search.getMaxAmount() != null) {
+            criteria = criteria.and("amount").lessThanOrEquals(search.getMaxAmount());
+        }
+        if (search.getCreatedFrom() != null) {
+            criteria = criteria.and("createdAt").greaterThanOrEquals(search.getCreatedFrom());
+        }
+        if (search.getCreatedBefore() != null) {
+            criteria = criteria.and("createdAt").lessThan(search.getCreatedBefore());
+        }
+        if (search.getEmail() != null) {
+            criteria = criteria.and("email").is(search.getEmail());
+        }
+        return criteria;
+    }
+
+    private Query buildPageQuery(Criteria criteria, CustomPageable customPageable,
+                                 ApplicationSortField sortField, Sort.Direction direction, KeysetCursor cursor) {
+        Sort sort = Sort.by(direction, sortField.getProperty());
+        if (sortField != ApplicationSortField.ID) {
+            sort = sort.and(Sort.by(direction, ApplicationSortField.ID.getProperty()));
+        }
+        Query query = Query.query(cursor != null ? criteria.and(seekAfter(cursor)) : criteria)
+                .sort(sort)
+                .limit(customPageable.getSize() + 1);
+        return cursor != null ? query : query.offset((long) customPageable.getPage() * customPageable.getSize());
+    }
+
+    private Criteria seekAfter(KeysetCursor cursor) {
+        String property = cursor.sortField().getProperty();
+        String id = ApplicationSortField.ID.getProperty();
+        boolean ascending = cursor.direction().isAscending();
+        if (cursor.sortField() == ApplicationSortField.ID) {
+            return ascending
+                    ? Criteria.where(id).greaterThan(cursor.lastId())
+                    : Criteria.where(id).lessThan(cursor.lastId());
+        }
+        Criteria beyondValue = ascending
+                ? Criteria.where(property).greaterThan(cursor.lastValue())
+                : Criteria.where(property).lessThan(cursor.lastValue());
+        Criteria sameValueBeyondId = ascending
+                ? Criteria.where(property).is(cursor.lastValue()).and(id).greaterThan(cursor.lastId())
+                : Criteria.where(property).is(cursor.lastValue()).and(id).lessThan(cursor.lastId());
+        return beyondValue.or(sameValueBeyondId);
+    }
+
+    // Only status-only searches are estimated, from the planner's statistics; other filters are counted exactly.
+    private Mono<Optional<Long>> count(ApplicationSearchCriteria criteria, CountMode countMode) {
+        if (countMode == CountMode.NONE) {
+            return Mono.just(Optional.empty());
+        }
+        List<UUID> statusIds = criteria.getStatusIds();
+        if (!criteria.filtersOnlyByStatus()) {
+            return queryMetrics.timed("ApplicationReactiveRepositoryAdapter.count",
+                            ConnectionRoute.onReplica(entityTemplate.count(Query.query(where(criteria)),
+                                    ApplicationEntity.class)))
+                    .map(Optional::of);
+        }
+        return switch (countMode) {
+            case ESTIMATED -> repository.explainCountByIdStatusIn(statusIds)
+                    .next()
+                    .map(ApplicationReactiveRepositoryAdapter::planRows)
+                    .map(Optional::of);
+            default -> repository.countByIdStatusIn(statusIds).map(Optional::of);
+        };
+    }
+
+    private static boolean isEstimated(ApplicationSearchCriteria criteria, CustomPageable customPageable) {
+        return customPageable.getCountMode() == CountMode.ESTIMATED && criteria.filtersOnlyByStatus();
+    }
+
+    static long planRows(String planLine) {
+        Matcher rows = PLAN_ROWS.matcher(planLine);
+        return rows.find() ? Long.parseLong(rows.group(1)) : 0L;
+    }
+
+    private CustomPage<Application> toPage(List<ApplicationEntity> rows, Optional<Long> total, boolean estimated,
+                                           CustomPageable customPageable, ApplicationSortField sortField,
+                                           Sort.Direction direction, boolean seeking) {
+        int size = customPageable.getSize();
+        boolean hasNext = rows.size() > size;
+        List<ApplicationEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+        long totalElements = total.orElse(-1L);
+        int totalPages = total.map(count -> (int) Math.ceil((double) count / size)).orElse(-1);
+
+        return CustomPage.<Application>builder()
+                .content(pageRows.stream().map(this::toEntity).toList())
+                .currentPage(customPageable.getPage())
+                .totalPages(totalPages)
+                .totalElements(totalElements)
+                .totalEstimated(estimated)
+                .pageSize(size)
+                .hasNext(hasNext)
+                .hasPrevious(seeking || customPageable.getPage() > 0)
+                .nextCursor(hasNext ? KeysetCursor.after(pageRows.getLast(), sortField, direction).encode() : null)
+                .build();
     }
 }
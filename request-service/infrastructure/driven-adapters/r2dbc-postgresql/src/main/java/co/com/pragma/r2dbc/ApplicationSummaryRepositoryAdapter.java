@@ -0,0 +1,117 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.summary.ApplicationSummary;
+import co.com.pragma.model.summary.gateways.ApplicationSummaryRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Application counts and amounts per status and loan type. Every write adds its deltas to one of {@value #SLOTS}
+ * randomly picked slots of each key, so concurrent writers rarely wait on the same row, and reads add the slots back
+ * up. Rows are grouped and ordered by key before the upsert so two batches always lock shared rows in the same order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationSummaryRepositoryAdapter implements ApplicationSummaryRepository {
+
+    static final int SLOTS = 8;
+
+    static final String RECORD_REGISTRATIONS = "INSERT INTO application_summary " +
+            "(id_status, id_loan_type, slot, application_count, total_amount) " +
+            "SELECT id_status, id_loan_type, :slot, count(*), sum(amount::numeric) " +
+            "FROM unnest(:idStatuses::uuid[], :idLoanTypes::uuid[], :amounts::float8[]) " +
+            "AS registered (id_status, id_loan_type, amount) " +
+            "GROUP BY id_status, id_loan_type " +
+            "ORDER BY id_status, id_loan_type " +
+            "ON CONFLICT (id_status, id_loan_type, slot) DO UPDATE SET " +
+            "application_count = application_summary.application_count + EXCLUDED.application_count, " +
+            "total_amount = application_summary.total_amount + EXCLUDED.total_amount";
+
+    // Each transition takes the application out of its previous status and adds it to the new one.
+    static final String RECORD_TRANSITIONS = "INSERT INTO application_summary " +
+            "(id_status, id_loan_type, slot, application_count, total_amount) " +
+            "SELECT delta.id_status, moved.id_loan_type, :slot, sum(delta.sign), sum(delta.sign * moved.amount::numeric) " +
+            "FROM unnest(:previousStatuses::uuid[], :idStatuses::uuid[], :idLoanTypes::uuid[], :amounts::float8[]) " +
+            "AS moved (previous_status, id_status, id_loan_type, amount) " +
+            "CROSS JOIN LATERAL (VALUES (moved.previous_status, -1), (moved.id_status, 1)) AS delta (id_status, sign) " +
+            "GROUP BY delta.id_status, moved.id_loan_type " +
+            "ORDER BY delta.id_status, moved.id_loan_type " +
+            "ON CONFLICT (id_status, id_loan_type, slot) DO UPDATE SET " +
+            "application_count = application_summary.application_count + EXCLUDED.application_count, " +
+            "total_amount = application_summary.total_amount + EXCLUDED.total_amount";
+
+    static final String FIND_ALL = "SELECT id_status, id_loan_type, " +
+            "sum(application_count)::bigint AS application_count, sum(total_amount)::float8 AS total_amount " +
+            "FROM application_summary " +
+            "GROUP BY id_status, id_loan_type " +
+            "HAVING sum(application_count) <> 0";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<Void> recordRegistrations(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("ApplicationSummaryRepositoryAdapter.recordRegistrations",
+                        entityTemplate.getDatabaseClient().sql(RECORD_REGISTRATIONS)
+                                .bind("slot", nextSlot())
+                                .bind("idStatuses", applications.stream().map(Application::getIdStatus).toArray(UUID[]::new))
+                                .bind("idLoanTypes", applications.stream().map(Application::getIdLoanType).toArray(UUID[]::new))
+                                .bind("amounts", applications.stream().map(Application::getAmount).toArray(Double[]::new))
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordTransitions(List<TransitionedApplication> transitions) {
+        if (transitions.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Application> applications = transitions.stream()
+                .map(TransitionedApplication::getApplication)
+                .toList();
+        return queryMetrics.timed("ApplicationSummaryRepositoryAdapter.recordTransitions",
+                        entityTemplate.getDatabaseClient().sql(RECORD_TRANSITIONS)
+                                .bind("slot", nextSlot())
+                                .bind("previousStatuses", transitions.stream()
+                                        .map(TransitionedApplication::getPreviousStatusId)
+                                        .toArray(UUID[]::new))
+                                .bind("idStatuses", applications.stream().map(Application::getIdStatus).toArray(UUID[]::new))
+                                .bind("idLoanTypes", applications.stream().map(Application::getIdLoanType).toArray(UUID[]::new))
+                                .bind("amounts", applications.stream().map(Application::getAmount).toArray(Double[]::new))
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Flux<ApplicationSummary> findAll() {
+        return queryMetrics.timed("ApplicationSummaryRepositoryAdapter.findAll",
+                ConnectionRoute.onReplica(entityTemplate.getDatabaseClient().sql(FIND_ALL)
+                        .map((row, metadata) -> ApplicationSummary.builder()
+                                .idStatus(row.get("id_status", UUID.class))
+                                .idLoanType(row.get("id_loan_type", UUID.class))
+                                .applicationCount(row.get("application_count", Long.class))
+                                .totalAmount(row.get("total_amount", Double.class))
+                                .build())
+                        .all()));
+    }
+
+    private short nextSlot() {
+        return (short) ThreadLocalRandom.current().nextInt(SLOTS);
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.portfolio.ApprovedLoan;
+import co.com.pragma.model.portfolio.gateways.ApprovedLoanRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streams the approved book for projections on the read replica. Rows are fetched from a portal
+ * {@value #FETCH_SIZE} at a time as the subscriber requests them, so the whole book is never held in memory.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovedLoanRepositoryAdapter implements ApprovedLoanRepository {
+
+    static final int FETCH_SIZE = 5_000;
+
+    static final String STREAM_APPROVED = "SELECT a.amount, a.term, a.approved_at, lt.interest_rate " +
+            "FROM applications a " +
+            "JOIN loan_types lt ON lt.id = a.id_loan_type " +
+            "WHERE a.id_status = :idStatus AND a.approved_at IS NOT NULL";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Flux<ApprovedLoan> streamApproved(UUID approvedStatusId) {
+        return queryMetrics.timed("ApprovedLoanRepositoryAdapter.streamApproved",
+                ConnectionRoute.onReplica(entityTemplate.getDatabaseClient().sql(STREAM_APPROVED)
+                        // Wrappers such as connection proxies hand back their delegate from fetchSize, so keep ours.
+                        .filter(statement -> {
+                            statement.fetchSize(FETCH_SIZE);
+                            return statement;
+                        })
+                        .bind("idStatus", approvedStatusId)
+                        .map((row, metadata) -> new ApprovedLoan(
+                                row.get("amount", Double.class),
+                                row.get("interest_rate", Double.class),
+                                row.get("term", Integer.class),
+                                row.get("approved_at", LocalDateTime.class)))
+                        .all()));
+    }
+}
@@ -0,0 +1,66 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.changefeed.gateways.ChangeFeedCheckpointRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Commit positions of the change feeds. Both queries run on the primary inside the publishing transaction, so the
+ * checkpoint always agrees with the outbox rows written next to it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeFeedCheckpointRepositoryAdapter implements ChangeFeedCheckpointRepository {
+
+    static final String FIND_LSN = "SELECT lsn FROM change_feed_checkpoints WHERE feed = :feed";
+
+    static final String FIND_CHANGED_AT = "SELECT changed_at FROM change_feed_checkpoints " +
+            "WHERE feed = :feed AND changed_at IS NOT NULL";
+
+    // A checkpoint only moves forward, even if an older batch is replayed after a newer one was published. GREATEST
+    // ignores NULL, so a batch without a change time keeps the stored one.
+    static final String SAVE_LSN = "INSERT INTO change_feed_checkpoints (feed, lsn, changed_at) " +
+            "VALUES (:feed, :lsn, :changedAt) " +
+            "ON CONFLICT (feed) DO UPDATE SET " +
+            "lsn = GREATEST(change_feed_checkpoints.lsn, EXCLUDED.lsn), " +
+            "changed_at = GREATEST(change_feed_checkpoints.changed_at, EXCLUDED.changed_at), updated_at = now()";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<Long> findLsn(String feed) {
+        return queryMetrics.timed("ChangeFeedCheckpointRepositoryAdapter.findLsn",
+                entityTemplate.getDatabaseClient().sql(FIND_LSN)
+                        .bind("feed", feed)
+                        .map((row, metadata) -> row.get("lsn", Long.class))
+                        .one());
+    }
+
+    @Override
+    public Mono<LocalDateTime> findChangedAt(String feed) {
+        return queryMetrics.timed("ChangeFeedCheckpointRepositoryAdapter.findChangedAt",
+                entityTemplate.getDatabaseClient().sql(FIND_CHANGED_AT)
+                        .bind("feed", feed)
+                        .map((row, metadata) -> row.get("changed_at", LocalDateTime.class))
+                        .one());
+    }
+
+    @Override
+    public Mono<Void> saveLsn(String feed, long lsn, LocalDateTime changedAt) {
+        DatabaseClient.GenericExecuteSpec save = entityTemplate.getDatabaseClient().sql(SAVE_LSN)
+                .bind("feed", feed)
+                .bind("lsn", lsn);
+        save = changedAt == null ? save.bindNull("changedAt", LocalDateTime.class) : save.bind("changedAt", changedAt);
+        return queryMetrics.timed("ChangeFeedCheckpointRepositoryAdapter.saveLsn",
+                        save.fetch()
+                                .rowsUpdated())
+                .then();
+    }
+}
@@ -0,0 +1,156 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.model.report.gateways.DailyApprovalRollupRepository;
+import co.com.pragma.r2dbc.entity.DailyApprovalRollupEntity;
+import co.com.pragma.r2dbc.mapper.DailyApprovalRollupEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per business day and loan type approval totals. The table has a composite key, so writes go through plain SQL
+ * upserts instead of a {@code ReactiveCrudRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyApprovalRollupRepositoryAdapter implements DailyApprovalRollupRepository {
+
+    static final String RECORD_APPROVAL = "INSERT INTO daily_approval_rollup " +
+            "(business_date, id_loan_type, approved_count, total_amount) " +
+            "VALUES (:businessDate, :idLoanType, 1, :amount) " +
+            "ON CONFLICT (business_date, id_loan_type) DO UPDATE SET " +
+            "approved_count = daily_approval_rollup.approved_count + 1, " +
+            "total_amount = daily_approval_rollup.total_amount + EXCLUDED.total_amount";
+
+    static final String RETRACT_APPROVAL = "UPDATE daily_approval_rollup SET " +
+            "approved_count = approved_count - 1, " +
+            "total_amount = total_amount - :amount " +
+            "WHERE business_date = :businessDate AND id_loan_type = :idLoanType";
+
+    static final String RECORD_APPROVALS = "INSERT INTO daily_approval_rollup " +
+            "(business_date, id_loan_type, approved_count, total_amount) " +
+            "SELECT business_date, id_loan_type, count(*), sum(amount) " +
+            "FROM unnest(:businessDates::date[], :idLoanTypes::uuid[], :amounts::float8[]) " +
+            "AS approval (business_date, id_loan_type, amount) " +
+            "GROUP BY business_date, id_loan_type " +
+            "ON CONFLICT (business_date, id_loan_type) DO UPDATE SET " +
+            "approved_count = daily_approval_rollup.approved_count + EXCLUDED.approved_count, " +
+            "total_amount = daily_approval_rollup.total_amount + EXCLUDED.total_amount";
+
+    static final String RETRACT_APPROVALS = "UPDATE daily_approval_rollup r SET " +
+            "approved_count = r.approved_count - retracted.approved_count, " +
+            "total_amount = r.total_amount - retracted.total_amount " +
+            "FROM (SELECT business_date, id_loan_type, count(*) AS approved_count, sum(amount) AS total_amount " +
+            "FROM unnest(:businessDates::date[], :idLoanTypes::uuid[], :amounts::float8[]) " +
+            "AS approval (business_date, id_loan_type, amount) " +
+            "GROUP BY business_date, id_loan_type) retracted " +
+            "WHERE r.business_date = retracted.business_date AND r.id_loan_type = retracted.id_loan_type";
+
+    static final String SUMMARIZE = "SELECT COALESCE(SUM(approved_count), 0)::bigint AS approved_count, " +
+            "COALESCE(SUM(total_amount), 0)::float8 AS total_amount " +
+            "FROM daily_approval_rollup WHERE business_date BETWEEN :from AND :to";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final DailyApprovalRollupEntityMapper mapper;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<Void> recordApproval(Application application) {
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.recordApproval",
+                        entityTemplate.getDatabaseClient().sql(RECORD_APPROVAL)
+                                .bind("businessDate", DailyApprovalRollup.businessDateOf(application.getApprovedAt()))
+                                .bind("idLoanType", application.getIdLoanType())
+                                .bind("amount", application.getAmount())
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordApprovals(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.recordApprovals",
+                        bindApprovals(RECORD_APPROVALS, applications)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> retractApproval(Application previous) {
+        if (previous.getApprovedAt() == null) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.retractApproval",
+                        entityTemplate.getDatabaseClient().sql(RETRACT_APPROVAL)
+                                .bind("businessDate", DailyApprovalRollup.businessDateOf(previous.getApprovedAt()))
+                                .bind("idLoanType", previous.getIdLoanType())
+                                .bind("amount", previous.getAmount())
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> retractApprovals(List<Application> previous) {
+        List<Application> approved = previous.stream()
+                .filter(application -> application.getApprovedAt() != null)
+                .toList();
+        if (approved.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.retractApprovals",
+                        bindApprovals(RETRACT_APPROVALS, approved)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<DailyReport> summarize(LocalDate from, LocalDate to) {
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.summarize",
+                ConnectionRoute.onReplica(entityTemplate.getDatabaseClient().sql(SUMMARIZE)
+                        .bind("from", from)
+                        .bind("to", to)
+                        .map((row, metadata) -> DailyReport.builder()
+                                .approvedLoansCount(row.get("approved_count", Long.class))
+                                .totalLoanAmount(row.get("total_amount", Double.class))
+                                .build())
+                        .one()));
+    }
+
+    @Override
+    public Flux<DailyApprovalRollup> findByBusinessDateBetween(LocalDate from, LocalDate to) {
+        Query query = Query.query(Criteria.where("businessDate").between(from, to))
+                .sort(Sort.by("businessDate", "idLoanType"));
+        return queryMetrics.timed("DailyApprovalRollupRepositoryAdapter.findByBusinessDateBetween",
+                        ConnectionRoute.onReplica(entityTemplate.select(query, DailyApprovalRollupEntity.class)))
+                .map(mapper::toEntity);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindApprovals(String sql, List<Application> applications) {
+        return entityTemplate.getDatabaseClient().sql(sql)
+                .bind("businessDates", applications.stream()
+                        .map(application -> DailyApprovalRollup.businessDateOf(application.getApprovedAt()))
+                        .toArray(LocalDate[]::new))
+                .bind("idLoanTypes", applications.stream().map(Application::getIdLoanType).toArray(UUID[]::new))
+                .bind("amounts", applications.stream().map(Application::getAmount).toArray(Double[]::new));
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.r2dbc.entity.DebtLedgerEntryEntity;
+import co.com.pragma.r2dbc.routing.ReplicaRead;
+import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface DebtLedgerEntryReactiveRepository extends ReactiveCrudRepository<DebtLedgerEntryEntity, UUID>, ReactiveQueryByExampleExecutor<DebtLedgerEntryEntity> {
+    @ReplicaRead
+    Flux<DebtLedgerEntryEntity> findByIdUser(UUID idUser);
+    @ReplicaRead
+    Flux<DebtLedgerEntryEntity> findByIdUserIn(Collection<UUID> idUsers);
+}
@@ -0,0 +1,69 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.r2dbc.entity.DebtLedgerEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface DebtLedgerReactiveRepository extends ReactiveCrudRepository<DebtLedgerEntity, UUID>, ReactiveQueryByExampleExecutor<DebtLedgerEntity> {
+    @Modifying
+    @Query("WITH inserted AS (" +
+            "INSERT INTO debt_ledger_entries (id_application, id_user, amount, term, interest_rate, monthly_installment) " +
+            "VALUES (:idApplication, :idUser, :amount, :term, :interestRate, :monthlyInstallment) " +
+            "ON CONFLICT (id_application) DO NOTHING " +
+            "RETURNING id_user, amount, monthly_installment) " +
+            "INSERT INTO debt_ledger (id_user, active_loans, outstanding_principal, total_monthly_installment, updated_at) " +
+            "SELECT id_user, 1, amount, monthly_installment, now() FROM inserted " +
+            "ON CONFLICT (id_user) DO UPDATE SET " +
+            "active_loans = debt_ledger.active_loans + 1, " +
+            "outstanding_principal = debt_ledger.outstanding_principal + EXCLUDED.outstanding_principal, " +
+            "total_monthly_installment = debt_ledger.total_monthly_installment + EXCLUDED.total_monthly_installment, " +
+            "updated_at = EXCLUDED.updated_at")
+    Mono<Long> recordApproval(UUID idApplication, UUID idUser, Double amount, Integer term,
+                              Double interestRate, Double monthlyInstallment);
+    @Modifying
+    @Query("WITH removed AS (" +
+            "DELETE FROM debt_ledger_entries WHERE id_application = :idApplication " +
+            "RETURNING id_user, amount, monthly_installment) " +
+            "UPDATE debt_ledger l SET " +
+            "active_loans = l.active_loans - 1, " +
+            "outstanding_principal = l.outstanding_principal - r.amount, " +
+            "total_monthly_installment = l.total_monthly_installment - r.monthly_installment, " +
+            "updated_at = now() " +
+            "FROM removed r WHERE l.id_user = r.id_user")
+    Mono<Long> recordRelease(UUID idApplication);
+    @Modifying
+    @Query("WITH inserted AS (" +
+            "INSERT INTO debt_ledger_entries (id_application, id_user, amount, term, interest_rate, monthly_installment) " +
+            "SELECT * FROM unnest(:idApplications::uuid[], :idUsers::uuid[], :amounts::float8[], :terms::int4[], " +
+            ":interestRates::float8[], :monthlyInstallments::float8[]) " +
+            "ON CONFLICT (id_application) DO NOTHING " +
+            "RETURNING id_user, amount, monthly_installment) " +
+            "INSERT INTO debt_ledger (id_user, active_loans, outstanding_principal, total_monthly_installment, updated_at) " +
+            "SELECT id_user, count(*), sum(amount), sum(monthly_installment), now() FROM inserted GROUP BY id_user " +
+            "ON CONFLICT (id_user) DO UPDATE SET " +
+            "active_loans = debt_ledger.active_loans + EXCLUDED.active_loans, " +
+            "outstanding_principal = debt_ledger.outstanding_principal + EXCLUDED.outstanding_principal, " +
+            "total_monthly_installment = debt_ledger.total_monthly_installment + EXCLUDED.total_monthly_installment, " +
+            "updated_at = EXCLUDED.updated_at")
+    Mono<Long> recordApprovals(UUID[] idApplications, UUID[] idUsers, Double[] amounts, Integer[] terms,
+                               Double[] interestRates, Double[] monthlyInstallments);
+    @Modifying
+    @Query("WITH removed AS (" +
+            "DELETE FROM debt_ledger_entries WHERE id_application = ANY(:idApplications) " +
+            "RETURNING id_user, amount, monthly_installment), " +
+            "released AS (" +
+            "SELECT id_user, count(*) AS loans, sum(amount) AS amount, sum(monthly_installment) AS monthly_installment " +
+            "FROM removed GROUP BY id_user) " +
+            "UPDATE debt_ledger l SET " +
+            "active_loans = l.active_loans - r.loans, " +
+            "outstanding_principal = l.outstanding_principal - r.amount, " +
+            "total_monthly_installment = l.total_monthly_installment - r.monthly_installment, " +
+            "updated_at = now() " +
+            "FROM released r WHERE l.id_user = r.id_user")
+    Mono<Long> recordReleases(UUID[] idApplications);
+}
@@ -0,0 +1,93 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.debtledger.gateways.DebtLedgerRepository;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntity;
+import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.mapper.DebtLedgerEntityMapper;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class DebtLedgerReactiveRepositoryAdapter extends ReactiveAdapterOperations<
+        DebtLedger,
+        DebtLedgerEntity,
+        UUID,
+        DebtLedgerReactiveRepository
+        > implements DebtLedgerRepository {
+
+    private final DebtLedgerEntryReactiveRepository entryRepository;
+    private final DebtLedgerEntityMapper debtLedgerMapper;
+
+    public DebtLedgerReactiveRepositoryAdapter(DebtLedgerReactiveRepository repository,
+                                               DebtLedgerEntryReactiveRepository entryRepository,
+                                               DebtLedgerEntityMapper mapper) {
+        super(repository, mapper);
+        this.entryRepository = entryRepository;
+        this.debtLedgerMapper = mapper;
+    }
+
+    @Override
+    public Mono<Void> recordApproval(DebtLedgerEntry entry) {
+        return repository.recordApproval(entry.getIdApplication(), entry.getIdUser(), entry.getAmount(),
+                        entry.getTerm(), entry.getInterestRate(), entry.getMonthlyInstallment())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordApprovals(List<DebtLedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.recordApprovals(
+                        entries.stream().map(DebtLedgerEntry::getIdApplication).toArray(UUID[]::new),
+                        entries.stream().map(DebtLedgerEntry::getIdUser).toArray(UUID[]::new),
+                        entries.stream().map(DebtLedgerEntry::getAmount).toArray(Double[]::new),
+                        entries.stream().map(DebtLedgerEntry::getTerm).toArray(Integer[]::new),
+                        entries.stream().map(DebtLedgerEntry::getInterestRate).toArray(Double[]::new),
+                        entries.stream().map(DebtLedgerEntry::getMonthlyInstallment).toArray(Double[]::new))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordRelease(UUID idApplication) {
+        return repository.recordRelease(idApplication)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordReleases(List<UUID> idApplications) {
+        if (idApplications.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.recordReleases(idApplications.toArray(UUID[]::new))
+                .then();
+    }
+
+    @Override
+    public Flux<DebtLedger> findByIdUserIn(List<UUID> userIds) {
+        return ConnectionRoute.onReplica(repository.findAllById(userIds))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<DebtLedgerEntry> findEntriesByIdUser(UUID idUser) {
+        return entryRepository.findByIdUser(idUser)
+                .map(debtLedgerMapper::toEntry);
+    }
+
+    @Override
+    public Flux<DebtLedgerEntry> findEntriesByIdUserIn(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return entryRepository.findByIdUserIn(userIds)
+                .map(debtLedgerMapper::toEntry);
+    }
+}
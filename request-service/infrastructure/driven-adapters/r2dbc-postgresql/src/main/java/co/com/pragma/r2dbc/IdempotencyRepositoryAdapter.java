@@ -0,0 +1,184 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Postgres side of the Idempotency-Key store. Reservations and releases are written outside the registration
+ * transaction on purpose: the reservation must be visible to other instances while the registration is still running.
+ * {@link #complete} runs on the caller's connection, so the key and the response it replays commit with the
+ * application. The response is kept as a flat JSON object of strings.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    private static final TypeReference<Map<String, String>> RESPONSE = new TypeReference<>() {
+    };
+
+    static final String FIND = "SELECT scope, idempotency_key, fingerprint, id_application, response, " +
+            "EXTRACT(EPOCH FROM expires_at - now())::float8 AS remaining_seconds " +
+            "FROM idempotency_keys " +
+            "WHERE scope = :scope AND idempotency_key = :key AND expires_at > now()";
+
+    // Only an expired row can be taken over, so a live reservation or a completed key is never overwritten.
+    static final String RESERVE = "INSERT INTO idempotency_keys (scope, idempotency_key, fingerprint, expires_at) " +
+            "VALUES (:scope, :key, :fingerprint, now() + make_interval(secs => :leaseSeconds)) " +
+            "ON CONFLICT (scope, idempotency_key) DO UPDATE SET " +
+            "fingerprint = EXCLUDED.fingerprint, id_application = NULL, response = NULL, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_keys.expires_at <= now()";
+
+    // Matches only a reservation that is still pending, so a registration whose lease ran out and was taken over
+    // updates nothing and rolls back.
+    static final String COMPLETE = "UPDATE idempotency_keys SET " +
+            "id_application = :idApplication, " +
+            "response = :response, " +
+            "expires_at = now() + make_interval(secs => :ttlSeconds) " +
+            "WHERE scope = :scope AND idempotency_key = :key AND fingerprint = :fingerprint AND id_application IS NULL";
+
+    static final String RELEASE = "DELETE FROM idempotency_keys " +
+            "WHERE scope = :scope AND idempotency_key = :key AND fingerprint = :fingerprint AND id_application IS NULL";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<IdempotencyRecord> find(String scope, String key) {
+        return queryMetrics.timed("IdempotencyRepositoryAdapter.find",
+                entityTemplate.getDatabaseClient().sql(FIND)
+                        .bind("scope", scope)
+                        .bind("key", key)
+                        .map((row, metadata) -> toRecord(row))
+                        .one());
+    }
+
+    @Override
+    public Mono<Boolean> reserve(IdempotencyRecord record) {
+        return queryMetrics.timed("IdempotencyRepositoryAdapter.reserve",
+                        entityTemplate.getDatabaseClient().sql(RESERVE)
+                                .bind("scope", record.getScope())
+                                .bind("key", record.getKey())
+                                .bind("fingerprint", record.getFingerprint())
+                                .bind("leaseSeconds", seconds(properties.lease()))
+                                .fetch()
+                                .rowsUpdated())
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Boolean> complete(IdempotencyRecord record) {
+        return Mono.fromCallable(() -> Json.of(objectMapper.writeValueAsString(writeResponse(record.getResponse()))))
+                .flatMap(response -> queryMetrics.timed("IdempotencyRepositoryAdapter.complete",
+                        entityTemplate.getDatabaseClient().sql(COMPLETE)
+                                .bind("idApplication", record.getIdApplication())
+                                .bind("response", response)
+                                .bind("ttlSeconds", seconds(properties.ttl()))
+                                .bind("scope", record.getScope())
+                                .bind("key", record.getKey())
+                                .bind("fingerprint", record.getFingerprint())
+                                .fetch()
+                                .rowsUpdated()))
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Void> release(IdempotencyRecord record) {
+        return queryMetrics.timed("IdempotencyRepositoryAdapter.release",
+                        entityTemplate.getDatabaseClient().sql(RELEASE)
+                                .bind("scope", record.getScope())
+                                .bind("key", record.getKey())
+                                .bind("fingerprint", record.getFingerprint())
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    private IdempotencyRecord toRecord(Row row) {
+        Double remaining = row.get("remaining_seconds", Double.class);
+        return IdempotencyRecord.builder()
+                .scope(row.get("scope", String.class))
+                .key(row.get("idempotency_key", String.class))
+                .fingerprint(row.get("fingerprint", String.class))
+                .idApplication(row.get("id_application", UUID.class))
+                .response(readResponse(row.get("response", Json.class)))
+                .expiresAt(Instant.now().plusMillis(remaining == null ? 0 : (long) (remaining * 1000)))
+                .build();
+    }
+
+    private static Map<String, String> writeResponse(Application application) {
+        Map<String, String> response = new LinkedHashMap<>();
+        put(response, "id", application.getId());
+        put(response, "amount", application.getAmount());
+        put(response, "term", application.getTerm());
+        put(response, "email", application.getEmail());
+        put(response, "idDocument", application.getIdDocument());
+        put(response, "idStatus", application.getIdStatus());
+        put(response, "idLoanType", application.getIdLoanType());
+        put(response, "idUser", application.getIdUser());
+        put(response, "createdAt", application.getCreatedAt());
+        put(response, "updatedAt", application.getUpdatedAt());
+        put(response, "approvedAt", application.getApprovedAt());
+        return response;
+    }
+
+    private static void put(Map<String, String> response, String field, Object value) {
+        if (value != null) {
+            response.put(field, value.toString());
+        }
+    }
+
+    private Application readResponse(Json json) {
+        if (json == null) {
+            return null;
+        }
+        Map<String, String> response;
+        try {
+            response = objectMapper.readValue(json.asString(), RESPONSE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid idempotent response", e);
+        }
+        return Application.builder()
+                .id(parse(response.get("id"), UUID::fromString))
+                .amount(parse(response.get("amount"), Double::valueOf))
+                .term(parse(response.get("term"), Integer::valueOf))
+                .email(response.get("email"))
+                .idDocument(response.get("idDocument"))
+                .idStatus(parse(response.get("idStatus"), UUID::fromString))
+                .idLoanType(parse(response.get("idLoanType"), UUID::fromString))
+                .idUser(parse(response.get("idUser"), UUID::fromString))
+                .createdAt(parse(response.get("createdAt"), LocalDateTime::parse))
+                .updatedAt(parse(response.get("updatedAt"), LocalDateTime::parse))
+                .approvedAt(parse(response.get("approvedAt"), LocalDateTime::parse))
+                .build();
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
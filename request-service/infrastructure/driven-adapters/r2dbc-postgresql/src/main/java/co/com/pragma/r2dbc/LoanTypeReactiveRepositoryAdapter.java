@@ -4,7 +4,7 @@ import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.r2dbc.entity.LoanTypeEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.pragma.r2dbc.mapper.LoanTypeEntityMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,8 +19,8 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
         UUID,
         LoanTypeReactiveRepository
         > implements LoanTypeRepository {
-    public LoanTypeReactiveRepositoryAdapter(LoanTypeReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, LoanType.class));
+    public LoanTypeReactiveRepositoryAdapter(LoanTypeReactiveRepository repository, LoanTypeEntityMapper mapper) {
+        super(repository, mapper);
     }
 
     @Override
@@ -37,6 +37,6 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
     @Override
     public Mono<LoanType> findByName(String name){
         return repository.findByName(name)
-                .map(entity->mapper.map(entity, LoanType.class));
+                .map(this::toEntity);
     }
 }
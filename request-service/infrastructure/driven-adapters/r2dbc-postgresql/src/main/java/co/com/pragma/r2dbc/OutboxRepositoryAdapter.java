@@ -0,0 +1,219 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox rows written by the SQS adapters. {@link #enqueue} and {@link #enqueueAll} run on the caller's connection, so
+ * the messages commit or roll back with the use case transaction; the remaining methods serve the relay that delivers
+ * the rows and the endpoint that replays or purges the dead ones.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryAdapter implements OutboxRepository {
+
+    private static final TypeReference<Map<String, String>> ATTRIBUTES = new TypeReference<>() {
+    };
+
+    static final String ENQUEUE = "INSERT INTO outbox_messages (queue, body, attributes) " +
+            "VALUES (:queue, :body, :attributes)";
+
+    static final String ENQUEUE_ALL = "INSERT INTO outbox_messages (queue, body, attributes) " +
+            "SELECT * FROM unnest(:queues::varchar[], :bodies::text[], :attributes::jsonb[])";
+
+    // Pushing available_at past the lease hides the claimed rows from other relays until they are marked; a relay
+    // that dies mid-batch leaves them to be claimed again once the lease runs out. Dead rows are never claimed.
+    static final String CLAIM_BATCH = "UPDATE outbox_messages o SET " +
+            "attempts = o.attempts + 1, " +
+            "available_at = now() + make_interval(secs => :leaseSeconds) " +
+            "FROM (SELECT id FROM outbox_messages " +
+            "WHERE available_at <= now() AND dead_at IS NULL " +
+            "ORDER BY available_at, id LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED) claimed " +
+            "WHERE o.id = claimed.id " +
+            "RETURNING o.id, o.queue, o.body, o.attributes, o.attempts";
+
+    static final String MARK_SENT = "DELETE FROM outbox_messages WHERE id = ANY(:ids)";
+
+    static final String MARK_FAILED = "UPDATE outbox_messages SET " +
+            "available_at = now() + make_interval(secs => :retryAfterSeconds), " +
+            "last_error = :error " +
+            "WHERE id = :id";
+
+    static final String MARK_DEAD = "UPDATE outbox_messages SET dead_at = now(), last_error = :error WHERE id = :id";
+
+    static final String COUNT_DEAD = "SELECT queue, count(*) AS dead FROM outbox_messages " +
+            "WHERE dead_at IS NOT NULL GROUP BY queue";
+
+    // A null queue replays or purges the dead rows of every queue. Each variant is its own statement so the one for a
+    // single queue keeps its condition on idx_outbox_messages_dead.
+    static final String REPLAY_DEAD = "UPDATE outbox_messages SET " +
+            "dead_at = NULL, attempts = 0, available_at = now() " +
+            "WHERE dead_at IS NOT NULL";
+
+    static final String REPLAY_DEAD_QUEUE = REPLAY_DEAD + " AND queue = :queue";
+
+    static final String PURGE_DEAD = "DELETE FROM outbox_messages WHERE dead_at IS NOT NULL";
+
+    static final String PURGE_DEAD_QUEUE = PURGE_DEAD + " AND queue = :queue";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ObjectMapper objectMapper;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<Void> enqueue(OutboxMessage message) {
+        return Mono.fromCallable(() -> Json.of(writeAttributes(message.getAttributes())))
+                .flatMap(attributes -> queryMetrics.timed("OutboxRepositoryAdapter.enqueue",
+                        entityTemplate.getDatabaseClient().sql(ENQUEUE)
+                                .bind("queue", message.getQueue())
+                                .bind("body", message.getBody())
+                                .bind("attributes", attributes)
+                                .fetch()
+                                .rowsUpdated()))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> enqueueAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    List<String> attributes = new ArrayList<>(messages.size());
+                    for (OutboxMessage message : messages) {
+                        attributes.add(writeAttributes(message.getAttributes()));
+                    }
+                    return attributes.toArray(String[]::new);
+                })
+                .flatMap(attributes -> queryMetrics.timed("OutboxRepositoryAdapter.enqueueAll",
+                        entityTemplate.getDatabaseClient().sql(ENQUEUE_ALL)
+                                .bind("queues", messages.stream().map(OutboxMessage::getQueue).toArray(String[]::new))
+                                .bind("bodies", messages.stream().map(OutboxMessage::getBody).toArray(String[]::new))
+                                .bind("attributes", attributes)
+                                .fetch()
+                                .rowsUpdated()))
+                .then();
+    }
+
+    @Override
+    public Flux<OutboxMessage> claimBatch(int batchSize, Duration lease) {
+        return queryMetrics.timed("OutboxRepositoryAdapter.claimBatch",
+                entityTemplate.getDatabaseClient().sql(CLAIM_BATCH)
+                        .bind("leaseSeconds", seconds(lease))
+                        .bind("batchSize", batchSize)
+                        .map((row, metadata) -> toMessage(row))
+                        .all());
+    }
+
+    @Override
+    public Mono<Void> markSent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("OutboxRepositoryAdapter.markSent",
+                        entityTemplate.getDatabaseClient().sql(MARK_SENT)
+                                .bind("ids", ids.toArray(Long[]::new))
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> markFailed(Long id, String error, Duration retryAfter) {
+        return queryMetrics.timed("OutboxRepositoryAdapter.markFailed",
+                        entityTemplate.getDatabaseClient().sql(MARK_FAILED)
+                                .bind("retryAfterSeconds", seconds(retryAfter))
+                                .bind("error", error == null ? "Unknown error" : error)
+                                .bind("id", id)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> markDead(Long id, String error) {
+        return queryMetrics.timed("OutboxRepositoryAdapter.markDead",
+                        entityTemplate.getDatabaseClient().sql(MARK_DEAD)
+                                .bind("error", error == null ? "Unknown error" : error)
+                                .bind("id", id)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Map<String, Long>> countDead() {
+        return queryMetrics.timed("OutboxRepositoryAdapter.countDead",
+                entityTemplate.getDatabaseClient().sql(COUNT_DEAD)
+                        .map((row, metadata) -> Map.entry(row.get("queue", String.class), row.get("dead", Long.class)))
+                        .all()
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Override
+    public Mono<Long> replayDead(String queue) {
+        return queryMetrics.timed("OutboxRepositoryAdapter.replayDead",
+                byQueue(queue == null ? REPLAY_DEAD : REPLAY_DEAD_QUEUE, queue));
+    }
+
+    @Override
+    public Mono<Long> purgeDead(String queue) {
+        return queryMetrics.timed("OutboxRepositoryAdapter.purgeDead",
+                byQueue(queue == null ? PURGE_DEAD : PURGE_DEAD_QUEUE, queue));
+    }
+
+    private Mono<Long> byQueue(String sql, String queue) {
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql);
+        return (queue == null ? spec : spec.bind("queue", queue))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private OutboxMessage toMessage(Row row) {
+        Json attributes = row.get("attributes", Json.class);
+        return OutboxMessage.builder()
+                .id(row.get("id", Long.class))
+                .queue(row.get("queue", String.class))
+                .body(row.get("body", String.class))
+                .attributes(readAttributes(attributes == null ? null : attributes.asString()))
+                .attempts(row.get("attempts", Integer.class))
+                .build();
+    }
+
+    private String writeAttributes(Map<String, String> attributes) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(attributes == null ? Map.of() : attributes);
+    }
+
+    private Map<String, String> readAttributes(String attributes) {
+        if (attributes == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(attributes, ATTRIBUTES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid outbox message attributes", e);
+        }
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
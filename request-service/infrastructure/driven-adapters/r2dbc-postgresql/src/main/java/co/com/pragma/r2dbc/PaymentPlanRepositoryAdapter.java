@@ -0,0 +1,142 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.PaymentPlanSummary;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Payment plans as one row per application, amounts in cents and the schedule as one array per column. Reads go to
+ * the primary: the plan is written by the approval transaction and the client follows the link right after the
+ * notification, before a replica may have caught up.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentPlanRepositoryAdapter implements PaymentPlanRepository {
+
+    // Plans generated on first read can race with each other; both compute the same schedule, so the last one wins.
+    static final String SAVE = "INSERT INTO payment_plans " +
+            "(id_application, id_user, monthly_payment, total_interest, total_payment, " +
+            "payments, principals, interests, remaining_balances) " +
+            "VALUES (:idApplication, :idUser, :monthlyPayment, :totalInterest, :totalPayment, " +
+            ":payments::int8[], :principals::int8[], :interests::int8[], :remainingBalances::int8[]) " +
+            "ON CONFLICT (id_application) DO UPDATE SET " +
+            "id_user = EXCLUDED.id_user, monthly_payment = EXCLUDED.monthly_payment, " +
+            "total_interest = EXCLUDED.total_interest, total_payment = EXCLUDED.total_payment, " +
+            "payments = EXCLUDED.payments, principals = EXCLUDED.principals, " +
+            "interests = EXCLUDED.interests, remaining_balances = EXCLUDED.remaining_balances";
+
+    static final String FIND_BY_ID_APPLICATION = "SELECT id_application, id_user, " +
+            "monthly_payment, total_interest, total_payment, payments, principals, interests, remaining_balances " +
+            "FROM payment_plans WHERE id_application = :idApplication";
+
+    // A released approval takes its plan with it, in the same transaction as the ledger release.
+    static final String DELETE_BY_ID_APPLICATION = "DELETE FROM payment_plans WHERE id_application = :idApplication";
+
+    static final String DELETE_BY_ID_APPLICATION_IN =
+            "DELETE FROM payment_plans WHERE id_application = ANY(:idApplications)";
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Mono<Void> save(PaymentPlan paymentPlan) {
+        PaymentPlanSummary summary = paymentPlan.getSummary();
+        List<PaymentDetail> payments = paymentPlan.getPayments();
+        return queryMetrics.timed("PaymentPlanRepositoryAdapter.save",
+                        entityTemplate.getDatabaseClient().sql(SAVE)
+                                .bind("idApplication", paymentPlan.getIdApplication())
+                                .bind("idUser", paymentPlan.getIdUser())
+                                .bind("monthlyPayment", PaymentPlan.toCents(summary.getMonthlyPayment()))
+                                .bind("totalInterest", PaymentPlan.toCents(summary.getTotalInterest()))
+                                .bind("totalPayment", PaymentPlan.toCents(summary.getTotalPayment()))
+                                .bind("payments", toCents(payments, PaymentDetail::getPayment))
+                                .bind("principals", toCents(payments, PaymentDetail::getPrincipal))
+                                .bind("interests", toCents(payments, PaymentDetail::getInterest))
+                                .bind("remainingBalances", toCents(payments, PaymentDetail::getRemainingBalance))
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<PaymentPlan> findByIdApplication(UUID idApplication) {
+        return queryMetrics.timed("PaymentPlanRepositoryAdapter.findByIdApplication",
+                entityTemplate.getDatabaseClient().sql(FIND_BY_ID_APPLICATION)
+                        .bind("idApplication", idApplication)
+                        .map((row, metadata) -> toPaymentPlan(row))
+                        .one());
+    }
+
+    @Override
+    public Mono<Void> deleteByIdApplication(UUID idApplication) {
+        return queryMetrics.timed("PaymentPlanRepositoryAdapter.deleteByIdApplication",
+                        entityTemplate.getDatabaseClient().sql(DELETE_BY_ID_APPLICATION)
+                                .bind("idApplication", idApplication)
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deleteByIdApplicationIn(List<UUID> idApplications) {
+        if (idApplications.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryMetrics.timed("PaymentPlanRepositoryAdapter.deleteByIdApplicationIn",
+                        entityTemplate.getDatabaseClient().sql(DELETE_BY_ID_APPLICATION_IN)
+                                .bind("idApplications", idApplications.toArray(UUID[]::new))
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    private PaymentPlan toPaymentPlan(Row row) {
+        Long[] payments = row.get("payments", Long[].class);
+        Long[] principals = row.get("principals", Long[].class);
+        Long[] interests = row.get("interests", Long[].class);
+        Long[] remainingBalances = row.get("remaining_balances", Long[].class);
+        List<PaymentDetail> schedule = new ArrayList<>(payments.length);
+        for (int i = 0; i < payments.length; i++) {
+            schedule.add(PaymentDetail.builder()
+                    .month(i + 1)
+                    .payment(fromCents(payments[i]))
+                    .principal(fromCents(principals[i]))
+                    .interest(fromCents(interests[i]))
+                    .remainingBalance(fromCents(remainingBalances[i]))
+                    .build());
+        }
+        return PaymentPlan.builder()
+                .idApplication(row.get("id_application", UUID.class))
+                .idUser(row.get("id_user", UUID.class))
+                .summary(PaymentPlanSummary.builder()
+                        .term(payments.length)
+                        .monthlyPayment(fromCents(row.get("monthly_payment", Long.class)))
+                        .totalInterest(fromCents(row.get("total_interest", Long.class)))
+                        .totalPayment(fromCents(row.get("total_payment", Long.class)))
+                        .build())
+                .payments(schedule)
+                .build();
+    }
+
+    private static Long[] toCents(List<PaymentDetail> payments, ToDoubleFunction<PaymentDetail> amount) {
+        return payments.stream()
+                .map(payment -> PaymentPlan.toCents(amount.applyAsDouble(payment)))
+                .toArray(Long[]::new);
+    }
+
+    private static double fromCents(long cents) {
+        return cents / 100.0;
+    }
+}
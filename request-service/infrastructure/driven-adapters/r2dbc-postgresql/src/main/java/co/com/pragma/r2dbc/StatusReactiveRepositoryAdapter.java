@@ -4,7 +4,7 @@ import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
 import co.com.pragma.r2dbc.entity.StatusEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.pragma.r2dbc.mapper.StatusEntityMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,8 +19,8 @@ public class StatusReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         UUID,
         StatusReactiveRepository
         > implements StatusRepository {
-    public StatusReactiveRepositoryAdapter(StatusReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Status.class));
+    public StatusReactiveRepositoryAdapter(StatusReactiveRepository repository, StatusEntityMapper mapper) {
+        super(repository, mapper);
     }
 
     @Override
@@ -28,21 +28,27 @@ public class StatusReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         return super.findById(id);
     }
 
+    @Override
+    public Flux<Status> findByIds(List<UUID> ids){
+        return repository.findAllById(ids)
+                .map(this::toEntity);
+    }
+
     @Override
     public Mono<Status> findByName(String name){
         return repository.findByName(name)
-                .map(entity->mapper.map(entity, Status.class));
+                .map(this::toEntity);
     }
 
     @Override
     public Mono<Status> findByNameIgnoreCase(String name){
         return repository.findByNameIgnoreCase(name)
-                .map(entity->mapper.map(entity, Status.class));
+                .map(this::toEntity);
     }
 
     @Override
     public Flux<Status> findByNames(List<String> names) {
         return repository.findByNameIn(names)
-                .map(entity -> mapper.map(entity, Status.class));
+                .map(this::toEntity);
     }
 }
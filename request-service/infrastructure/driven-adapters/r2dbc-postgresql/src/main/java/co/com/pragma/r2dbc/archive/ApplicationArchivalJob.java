@@ -0,0 +1,162 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.ApplicationArchivalProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the partitioned {@code applications} table small: every run creates the monthly partitions ahead of time,
+ * moves applications that have been in a closed status for longer than the retention into
+ * {@code applications_archive} in batches, and drops the monthly partitions archival left empty. Partitions and
+ * helper functions come from the {@code V5__partition_applications_by_created_at} migration.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.archival", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationArchivalJob {
+
+    static final String ARCHIVED_METRIC = "applications.archived";
+
+    // The partition functions run DDL, so only one instance may run them at a time. Each takes the transaction
+    // advisory lock in its own statement and returns no row when another instance holds it, which skips the run;
+    // holding the lock for the whole run would keep the partition locks through every archive batch.
+    static final String ENSURE_PARTITIONS = "SELECT ensure_application_partitions(:fromMonth, :toMonth) " +
+            "FROM (SELECT pg_try_advisory_xact_lock(hashtext('application_archival')) AS acquired) archival_lock " +
+            "WHERE archival_lock.acquired";
+
+    // SKIP LOCKED leaves rows an advisor is transitioning right now for the next run. Archived applications leave
+    // the dashboard counters and take any payment plan still stored for them in the same statement.
+    static final String ARCHIVE_BATCH = "WITH candidates AS (" +
+            "SELECT a.id, a.created_at FROM applications a " +
+            "JOIN status s ON s.id = a.id_status " +
+            "WHERE s.name IN (:closedStatuses) AND a.updated_at < :cutoff AND a.created_at < :cutoff " +
+            "ORDER BY a.updated_at LIMIT :batchSize " +
+            "FOR UPDATE OF a SKIP LOCKED), " +
+            "moved AS (" +
+            "DELETE FROM applications a USING candidates c " +
+            "WHERE a.id = c.id AND a.created_at = c.created_at " +
+            "RETURNING a.*), " +
+            "unplanned AS (" +
+            "DELETE FROM payment_plans p USING moved m WHERE p.id_application = m.id), " +
+            "uncounted AS (" +
+            "INSERT INTO application_summary (id_status, id_loan_type, slot, application_count, total_amount) " +
+            "SELECT id_status, id_loan_type, 0, -count(*), -sum(amount::numeric) FROM moved " +
+            "GROUP BY id_status, id_loan_type ORDER BY id_status, id_loan_type " +
+            "ON CONFLICT (id_status, id_loan_type, slot) DO UPDATE SET " +
+            "application_count = application_summary.application_count + EXCLUDED.application_count, " +
+            "total_amount = application_summary.total_amount + EXCLUDED.total_amount) " +
+            "INSERT INTO applications_archive " +
+            "(id, amount, term, email, id_document, id_status, id_loan_type, id_user, created_at, updated_at, approved_at) " +
+            "SELECT id, amount, term, email, id_document, id_status, id_loan_type, id_user, created_at, updated_at, approved_at " +
+            "FROM moved ON CONFLICT (id) DO NOTHING";
+
+    static final String DROP_EMPTY_PARTITIONS = "SELECT drop_empty_application_partitions(:cutoff) " +
+            "FROM (SELECT pg_try_advisory_xact_lock(hashtext('application_archival')) AS acquired) archival_lock " +
+            "WHERE archival_lock.acquired";
+
+    private final DatabaseClient databaseClient;
+    private final ApplicationArchivalProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private Disposable subscription;
+
+    @Autowired
+    public ApplicationArchivalJob(R2dbcEntityTemplate entityTemplate,
+                                  ApplicationArchivalProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this(entityTemplate.getDatabaseClient(), properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    ApplicationArchivalJob(DatabaseClient databaseClient,
+                           ApplicationArchivalProperties properties,
+                           MeterRegistry meterRegistry,
+                           Clock clock) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.interval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<Long> run() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.retention());
+        return Mono.defer(this::ensurePartitions)
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.info("Skipped application archival, another instance is running it")))
+                .flatMap(created -> archive(cutoff))
+                .flatMap(archived -> dropEmptyPartitions(cutoff).thenReturn(archived))
+                .doOnNext(archived -> log.info("Archived {} closed applications older than {}", archived, cutoff))
+                .onErrorResume(error -> {
+                    log.error("Application archival failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    Mono<Integer> ensurePartitions() {
+        LocalDate currentMonth = LocalDate.now(clock).withDayOfMonth(1);
+        return databaseClient.sql(ENSURE_PARTITIONS)
+                .bind("fromMonth", currentMonth)
+                .bind("toMonth", currentMonth.plusMonths(properties.partitionsAhead() + 1L))
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one()
+                .doOnNext(created -> log.debug("Created {} application partitions", created));
+    }
+
+    Mono<Long> archive(LocalDateTime cutoff) {
+        return archiveBatch(cutoff)
+                .expand(archived -> archived < properties.batchSize() ? Mono.empty() : archiveBatch(cutoff))
+                .reduce(0L, Long::sum)
+                .doOnNext(archived -> meterRegistry.counter(ARCHIVED_METRIC).increment(archived));
+    }
+
+    private Mono<Long> archiveBatch(LocalDateTime cutoff) {
+        return databaseClient.sql(ARCHIVE_BATCH)
+                .bind("closedStatuses", properties.closedStatuses())
+                .bind("cutoff", cutoff)
+                .bind("batchSize", properties.batchSize())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    Mono<Integer> dropEmptyPartitions(LocalDateTime cutoff) {
+        return databaseClient.sql(DROP_EMPTY_PARTITIONS)
+                .bind("cutoff", cutoff.toLocalDate())
+                .map((row, metadata) -> row.get(0, Integer.class))
+                .one()
+                .doOnNext(dropped -> log.debug("Dropped {} empty application partitions", dropped));
+    }
+}
@@ -0,0 +1,127 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.ApplicationIntakeProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Housekeeping for {@code application_intakes}. Background registrations only live in the memory of the instance
+ * that accepted them, so an intake still unfinished after {@code staleAfter} was lost with its instance and is marked
+ * as failed for the client polling it; finished intakes are deleted in batches once they are older than the
+ * retention.
+ */
+@Log4j2
+@Component
+public class ApplicationIntakeSweepJob {
+
+    static final String SWEPT_METRIC = "application.intakes.swept";
+
+    static final String FAIL_STALE = "UPDATE application_intakes SET " +
+            "status = 'FAILED', error = :error, updated_at = now() " +
+            "WHERE status IN ('PENDING', 'PROCESSING') " +
+            "AND updated_at < now() - make_interval(secs => :staleSeconds)";
+
+    static final String DELETE_FINISHED_BATCH = "DELETE FROM application_intakes WHERE id IN (" +
+            "SELECT id FROM application_intakes " +
+            "WHERE status IN ('COMPLETED', 'FAILED') " +
+            "AND updated_at < now() - make_interval(secs => :retentionSeconds) " +
+            "LIMIT :batchSize)";
+
+    static final String STALE_ERROR = "Registration was interrupted before it finished; please submit it again";
+
+    private final DatabaseClient databaseClient;
+    private final ApplicationIntakeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private Disposable subscription;
+
+    @Autowired
+    public ApplicationIntakeSweepJob(R2dbcEntityTemplate entityTemplate,
+                                     ApplicationIntakeProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this(entityTemplate.getDatabaseClient(), properties, meterRegistry);
+    }
+
+    ApplicationIntakeSweepJob(DatabaseClient databaseClient,
+                              ApplicationIntakeProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.sweepInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<Long> run() {
+        return failStale()
+                .doOnNext(failed -> meterRegistry.counter(SWEPT_METRIC, "action", "failed").increment(failed))
+                .then(Mono.defer(this::deleteFinished))
+                .doOnNext(deleted -> {
+                    meterRegistry.counter(SWEPT_METRIC, "action", "deleted").increment(deleted);
+                    log.debug("Deleted {} finished application intakes", deleted);
+                })
+                .onErrorResume(error -> {
+                    log.error("Application intake sweep failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    Mono<Long> failStale() {
+        return databaseClient.sql(FAIL_STALE)
+                .bind("error", STALE_ERROR)
+                .bind("staleSeconds", seconds(properties.staleAfter()))
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(failed -> {
+                    if (failed > 0) {
+                        log.warn("Marked {} stale application intakes as failed", failed);
+                    }
+                });
+    }
+
+    Mono<Long> deleteFinished() {
+        return deleteFinishedBatch()
+                .expand(deleted -> deleted < properties.sweepBatchSize() ? Mono.empty() : deleteFinishedBatch())
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> deleteFinishedBatch() {
+        return databaseClient.sql(DELETE_FINISHED_BATCH)
+                .bind("retentionSeconds", seconds(properties.retention()))
+                .bind("batchSize", properties.sweepBatchSize())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
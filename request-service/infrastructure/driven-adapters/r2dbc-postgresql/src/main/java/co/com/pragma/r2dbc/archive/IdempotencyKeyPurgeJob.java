@@ -0,0 +1,95 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Deletes expired Idempotency-Key rows in batches so the {@code idempotency_keys} table only holds keys that can
+ * still be replayed or are still reserved.
+ */
+@Log4j2
+@Component
+public class IdempotencyKeyPurgeJob {
+
+    static final String PURGED_METRIC = "idempotency.keys.purged";
+
+    static final String PURGE_BATCH = "DELETE FROM idempotency_keys k USING (" +
+            "SELECT scope, idempotency_key FROM idempotency_keys " +
+            "WHERE expires_at <= now() " +
+            "ORDER BY expires_at LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED) expired " +
+            "WHERE k.scope = expired.scope AND k.idempotency_key = expired.idempotency_key";
+
+    private final DatabaseClient databaseClient;
+    private final IdempotencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private Disposable subscription;
+
+    @Autowired
+    public IdempotencyKeyPurgeJob(R2dbcEntityTemplate entityTemplate,
+                                  IdempotencyProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this(entityTemplate.getDatabaseClient(), properties, meterRegistry);
+    }
+
+    IdempotencyKeyPurgeJob(DatabaseClient databaseClient,
+                           IdempotencyProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.purgeInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<Long> run() {
+        return purgeBatch()
+                .expand(purged -> purged < properties.purgeBatchSize() ? Mono.empty() : purgeBatch())
+                .reduce(0L, Long::sum)
+                .doOnNext(purged -> {
+                    meterRegistry.counter(PURGED_METRIC).increment(purged);
+                    log.debug("Purged {} expired idempotency keys", purged);
+                })
+                .onErrorResume(error -> {
+                    log.error("Idempotency key purge failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Long> purgeBatch() {
+        return databaseClient.sql(PURGE_BATCH)
+                .bind("batchSize", properties.purgeBatchSize())
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,183 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.r2dbc.ApplicationReactiveRepositoryAdapter;
+import co.com.pragma.r2dbc.config.ApplicationVersionCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps each client's {@link ApplicationListVersion} in memory so a conditional GET of an unchanged list is answered
+ * without a query. A version is dropped once a write of this instance to the client's applications commits, so a read
+ * running alongside the transaction cannot cache the state before it; writes made by other instances are only seen
+ * when the version expires, which is why the TTL is kept short.
+ */
+@Primary
+@Repository
+public class CachedApplicationRepositoryAdapter implements ApplicationRepository {
+
+    static final String REQUESTS_METRIC = "application.version.cache.requests";
+    static final String SIZE_METRIC = "application.version.cache.size";
+
+    private final ApplicationReactiveRepositoryAdapter delegate;
+    private final ApplicationVersionCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<UUID, CachedVersion> versions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public CachedApplicationRepositoryAdapter(ApplicationReactiveRepositoryAdapter delegate,
+                                              ApplicationVersionCacheProperties properties,
+                                              MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    CachedApplicationRepositoryAdapter(ApplicationReactiveRepositoryAdapter delegate,
+                                       ApplicationVersionCacheProperties properties,
+                                       MeterRegistry meterRegistry,
+                                       Clock clock) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        Gauge.builder(SIZE_METRIC, versions, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ApplicationListVersion> findListVersionByIdUser(UUID userId) {
+        return Mono.defer(() -> {
+            CachedVersion cached = versions.get(userId);
+            if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+                meterRegistry.counter(REQUESTS_METRIC, "result", "hit").increment();
+                return Mono.just(cached.version());
+            }
+            if (cached != null) {
+                versions.remove(userId, cached);
+            }
+            meterRegistry.counter(REQUESTS_METRIC, "result", "miss").increment();
+            long invalidationsBeforeLoad = invalidations.get();
+            return delegate.findListVersionByIdUser(userId)
+                    .doOnNext(version -> remember(userId, version, invalidationsBeforeLoad));
+        });
+    }
+
+    @Override
+    public Mono<Application> save(Application application) {
+        return delegate.save(application)
+                .flatMap(saved -> invalidateAfterCommit(saved.getIdUser()).thenReturn(saved));
+    }
+
+    @Override
+    public Flux<Application> saveAll(List<Application> applications) {
+        return delegate.saveAll(applications)
+                .concatMap(saved -> invalidateAfterCommit(saved.getIdUser()).thenReturn(saved));
+    }
+
+    @Override
+    public Mono<TransitionedApplication> transitionStatus(StatusTransition transition) {
+        return delegate.transitionStatus(transition)
+                .flatMap(transitioned -> invalidateAfterCommit(transitioned.getApplication().getIdUser())
+                        .thenReturn(transitioned));
+    }
+
+    @Override
+    public Flux<TransitionedApplication> transitionStatuses(List<UUID> applicationIds, StatusTransition transition) {
+        return delegate.transitionStatuses(applicationIds, transition)
+                .concatMap(transitioned -> invalidateAfterCommit(transitioned.getApplication().getIdUser())
+                        .thenReturn(transitioned));
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<Application> findAllById(List<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Mono<CustomPage<Application>> search(ApplicationSearchCriteria criteria, CustomPageable pageable) {
+        return delegate.search(criteria, pageable);
+    }
+
+    @Override
+    public Flux<Application> findByIdUserAndIdStatus(UUID userId, UUID statusId) {
+        return delegate.findByIdUserAndIdStatus(userId, statusId);
+    }
+
+    @Override
+    public Flux<Application> findActiveLoansByIdUser(UUID userId) {
+        return delegate.findActiveLoansByIdUser(userId);
+    }
+
+    @Override
+    public Flux<Application> findByIdUser(UUID userId) {
+        return delegate.findByIdUser(userId);
+    }
+
+    @Override
+    public Flux<Application> findApprovedAfter(UUID approvedStatusId, LocalDateTime approvedAfter) {
+        return delegate.findApprovedAfter(approvedStatusId, approvedAfter);
+    }
+
+    public void invalidate(UUID userId) {
+        invalidations.incrementAndGet();
+        versions.remove(userId);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        versions.clear();
+    }
+
+    private Mono<Void> invalidateAfterCommit(UUID userId) {
+        return AfterCommit.run(() -> invalidate(userId));
+    }
+
+    int size() {
+        return versions.size();
+    }
+
+    // A version loaded while an invalidation landed may predate the change, so it is only kept if none did.
+    private void remember(UUID userId, ApplicationListVersion version, long invalidationsBeforeLoad) {
+        Instant now = clock.instant();
+        if (versions.size() >= properties.maxEntries()) {
+            versions.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (versions.size() >= properties.maxEntries()) {
+                return;
+            }
+        }
+        CachedVersion entry = new CachedVersion(version, now.plus(properties.ttl()));
+        versions.put(userId, entry);
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            versions.remove(userId, entry);
+        }
+    }
+
+    private record CachedVersion(ApplicationListVersion version, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,116 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.model.idempotency.gateways.IdempotencyRepository;
+import co.com.pragma.r2dbc.IdempotencyRepositoryAdapter;
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache in front of {@link IdempotencyRepositoryAdapter}. Only completed keys are kept, since they no longer
+ * change until they expire, so a replay on the instance that served the original request skips Postgres entirely.
+ * A key completes inside the registration transaction, so it is cached only once that transaction commits.
+ * Entries leave the cache at the expiry the store reported; when the cache is full, expired entries are dropped and,
+ * if it is still full, new keys are simply not cached.
+ */
+@Primary
+@Repository
+public class CachedIdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    static final String REQUESTS_METRIC = "idempotency.cache.requests";
+    static final String SIZE_METRIC = "idempotency.cache.size";
+
+    private final IdempotencyRepositoryAdapter delegate;
+    private final IdempotencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, IdempotencyRecord> completed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CachedIdempotencyRepositoryAdapter(IdempotencyRepositoryAdapter delegate,
+                                              IdempotencyProperties properties,
+                                              MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    CachedIdempotencyRepositoryAdapter(IdempotencyRepositoryAdapter delegate,
+                                       IdempotencyProperties properties,
+                                       MeterRegistry meterRegistry,
+                                       Clock clock) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        Gauge.builder(SIZE_METRIC, completed, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<IdempotencyRecord> find(String scope, String key) {
+        return Mono.defer(() -> {
+            String slot = slot(scope, key);
+            IdempotencyRecord cached = completed.get(slot);
+            if (cached != null && cached.getExpiresAt().isAfter(clock.instant())) {
+                meterRegistry.counter(REQUESTS_METRIC, "result", "hit").increment();
+                return Mono.just(cached);
+            }
+            if (cached != null) {
+                completed.remove(slot, cached);
+            }
+            meterRegistry.counter(REQUESTS_METRIC, "result", "miss").increment();
+            return delegate.find(scope, key)
+                    .doOnNext(this::remember);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> reserve(IdempotencyRecord record) {
+        return delegate.reserve(record);
+    }
+
+    @Override
+    public Mono<Boolean> complete(IdempotencyRecord record) {
+        return delegate.complete(record)
+                .flatMap(completed -> completed
+                        ? AfterCommit.run(() -> remember(record.toBuilder()
+                                .expiresAt(clock.instant().plus(properties.ttl()))
+                                .build())).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    @Override
+    public Mono<Void> release(IdempotencyRecord record) {
+        return delegate.release(record);
+    }
+
+    int size() {
+        return completed.size();
+    }
+
+    private void remember(IdempotencyRecord record) {
+        if (!record.isCompleted() || record.getExpiresAt() == null) {
+            return;
+        }
+        if (completed.size() >= properties.nearCacheSize()) {
+            Instant now = clock.instant();
+            completed.values().removeIf(entry -> !entry.getExpiresAt().isAfter(now));
+            if (completed.size() >= properties.nearCacheSize()) {
+                return;
+            }
+        }
+        completed.put(slot(record.getScope(), record.getKey()), record);
+    }
+
+    private static String slot(String scope, String key) {
+        return scope + ":" + key;
+    }
+}
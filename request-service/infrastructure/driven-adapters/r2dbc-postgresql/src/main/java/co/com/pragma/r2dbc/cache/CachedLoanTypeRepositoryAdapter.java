@@ -0,0 +1,65 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
+import co.com.pragma.r2dbc.LoanTypeReactiveRepositoryAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Primary
+@Repository
+public class CachedLoanTypeRepositoryAdapter implements LoanTypeRepository {
+
+    private final LoanTypeReactiveRepositoryAdapter delegate;
+    private final ReferenceDataCache cache;
+
+    public CachedLoanTypeRepositoryAdapter(LoanTypeReactiveRepositoryAdapter delegate, ReferenceDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<LoanType> findById(UUID id) {
+        return lookup(snapshot -> snapshot.loanTypeById(id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Flux<LoanType> findByIds(List<UUID> ids) {
+        return Flux.defer(() -> {
+            ReferenceDataSnapshot snapshot = cache.snapshot();
+            List<LoanType> cached = snapshot.isLoaded() ? snapshot.loanTypesByIds(ids) : null;
+            if (cached != null) {
+                cache.recordHit(ReferenceDataCache.LOAN_TYPE_CACHE);
+                return Flux.fromIterable(cached);
+            }
+            cache.recordMiss(ReferenceDataCache.LOAN_TYPE_CACHE);
+            return delegate.findByIds(ids);
+        });
+    }
+
+    @Override
+    public Mono<LoanType> findByName(String name) {
+        return lookup(snapshot -> snapshot.loanTypeByName(name), () -> delegate.findByName(name));
+    }
+
+    private Mono<LoanType> lookup(Function<ReferenceDataSnapshot, LoanType> query,
+                                  Supplier<Mono<LoanType>> fallback) {
+        return Mono.defer(() -> {
+            ReferenceDataSnapshot snapshot = cache.snapshot();
+            LoanType cached = snapshot.isLoaded() ? query.apply(snapshot) : null;
+            if (cached != null) {
+                cache.recordHit(ReferenceDataCache.LOAN_TYPE_CACHE);
+                return Mono.just(cached);
+            }
+            cache.recordMiss(ReferenceDataCache.LOAN_TYPE_CACHE);
+            return fallback.get();
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.gateways.PaymentPlanRepository;
+import co.com.pragma.r2dbc.PaymentPlanRepositoryAdapter;
+import co.com.pragma.r2dbc.config.PaymentPlanCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache in front of {@link PaymentPlanRepositoryAdapter}, so a client coming back to the same schedule is served
+ * from memory. A plan is rewritten when its application is approved again and deleted when the approval is released;
+ * this instance evicts it once either commits, while another instance keeps serving its copy until the TTL expires.
+ * Only plans read from Postgres are cached: a plan saved inside the approval transaction could still be rolled back.
+ * When the cache is full, expired entries are dropped and, if it is still full, new plans are simply not cached.
+ */
+@Primary
+@Repository
+public class CachedPaymentPlanRepositoryAdapter implements PaymentPlanRepository {
+
+    static final String REQUESTS_METRIC = "payment.plan.cache.requests";
+    static final String SIZE_METRIC = "payment.plan.cache.size";
+
+    private final PaymentPlanRepositoryAdapter delegate;
+    private final PaymentPlanCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<UUID, CachedPaymentPlan> plans = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CachedPaymentPlanRepositoryAdapter(PaymentPlanRepositoryAdapter delegate,
+                                              PaymentPlanCacheProperties properties,
+                                              MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    CachedPaymentPlanRepositoryAdapter(PaymentPlanRepositoryAdapter delegate,
+                                       PaymentPlanCacheProperties properties,
+                                       MeterRegistry meterRegistry,
+                                       Clock clock) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        Gauge.builder(SIZE_METRIC, plans, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> save(PaymentPlan paymentPlan) {
+        return delegate.save(paymentPlan)
+                .then(Mono.defer(() -> AfterCommit.run(() -> plans.remove(paymentPlan.getIdApplication()))));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdApplication(UUID idApplication) {
+        return delegate.deleteByIdApplication(idApplication)
+                .then(Mono.defer(() -> AfterCommit.run(() -> plans.remove(idApplication))));
+    }
+
+    @Override
+    public Mono<Void> deleteByIdApplicationIn(List<UUID> idApplications) {
+        return delegate.deleteByIdApplicationIn(idApplications)
+                .then(Mono.defer(() -> AfterCommit.run(() -> idApplications.forEach(plans::remove))));
+    }
+
+    @Override
+    public Mono<PaymentPlan> findByIdApplication(UUID idApplication) {
+        return Mono.defer(() -> {
+            CachedPaymentPlan cached = plans.get(idApplication);
+            if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+                meterRegistry.counter(REQUESTS_METRIC, "result", "hit").increment();
+                return Mono.just(cached.paymentPlan());
+            }
+            if (cached != null) {
+                plans.remove(idApplication, cached);
+            }
+            meterRegistry.counter(REQUESTS_METRIC, "result", "miss").increment();
+            return delegate.findByIdApplication(idApplication)
+                    .doOnNext(this::remember);
+        });
+    }
+
+    int size() {
+        return plans.size();
+    }
+
+    private void remember(PaymentPlan paymentPlan) {
+        Instant now = clock.instant();
+        if (plans.size() >= properties.nearCacheSize()) {
+            plans.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (plans.size() >= properties.nearCacheSize()) {
+                return;
+            }
+        }
+        plans.put(paymentPlan.getIdApplication(), new CachedPaymentPlan(paymentPlan, now.plus(properties.ttl())));
+    }
+
+    private record CachedPaymentPlan(PaymentPlan paymentPlan, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.r2dbc.StatusReactiveRepositoryAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Primary
+@Repository
+public class CachedStatusRepositoryAdapter implements StatusRepository {
+
+    private final StatusReactiveRepositoryAdapter delegate;
+    private final ReferenceDataCache cache;
+
+    public CachedStatusRepositoryAdapter(StatusReactiveRepositoryAdapter delegate, ReferenceDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Status> findById(UUID id) {
+        return lookup(snapshot -> snapshot.statusById(id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Flux<Status> findByIds(List<UUID> ids) {
+        return lookupAll(snapshot -> snapshot.statusesByIds(ids), () -> delegate.findByIds(ids));
+    }
+
+    @Override
+    public Mono<Status> findByName(String name) {
+        return lookup(snapshot -> snapshot.statusByName(name), () -> delegate.findByName(name));
+    }
+
+    @Override
+    public Mono<Status> findByNameIgnoreCase(String name) {
+        return lookup(snapshot -> snapshot.statusByNameIgnoreCase(name), () -> delegate.findByNameIgnoreCase(name));
+    }
+
+    @Override
+    public Flux<Status> findByNames(List<String> names) {
+        return lookupAll(snapshot -> snapshot.statusesByNames(names), () -> delegate.findByNames(names));
+    }
+
+    private Mono<Status> lookup(Function<ReferenceDataSnapshot, Status> query, Supplier<Mono<Status>> fallback) {
+        return Mono.defer(() -> {
+            ReferenceDataSnapshot snapshot = cache.snapshot();
+            Status cached = snapshot.isLoaded() ? query.apply(snapshot) : null;
+            if (cached != null) {
+                cache.recordHit(ReferenceDataCache.STATUS_CACHE);
+                return Mono.just(cached);
+            }
+            cache.recordMiss(ReferenceDataCache.STATUS_CACHE);
+            return fallback.get();
+        });
+    }
+
+    private Flux<Status> lookupAll(Function<ReferenceDataSnapshot, List<Status>> query,
+                                   Supplier<Flux<Status>> fallback) {
+        return Flux.defer(() -> {
+            ReferenceDataSnapshot snapshot = cache.snapshot();
+            List<Status> cached = snapshot.isLoaded() ? query.apply(snapshot) : null;
+            if (cached != null) {
+                cache.recordHit(ReferenceDataCache.STATUS_CACHE);
+                return Flux.fromIterable(cached);
+            }
+            cache.recordMiss(ReferenceDataCache.STATUS_CACHE);
+            return fallback.get();
+        });
+    }
+}
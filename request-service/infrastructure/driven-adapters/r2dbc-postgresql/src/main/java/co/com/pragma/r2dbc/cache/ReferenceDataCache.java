@@ -0,0 +1,94 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.r2dbc.LoanTypeReactiveRepository;
+import co.com.pragma.r2dbc.StatusReactiveRepository;
+import co.com.pragma.r2dbc.mapper.LoanTypeEntityMapper;
+import co.com.pragma.r2dbc.mapper.StatusEntityMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Log4j2
+@Component
+public class ReferenceDataCache {
+
+    public static final String STATUS_CACHE = "status";
+    public static final String LOAN_TYPE_CACHE = "loan_type";
+
+    private static final String REQUESTS_METRIC = "reference.data.cache.requests";
+    private static final String REFRESHES_METRIC = "reference.data.cache.refreshes";
+    private static final String SIZE_METRIC = "reference.data.cache.size";
+
+    private final StatusReactiveRepository statusRepository;
+    private final LoanTypeReactiveRepository loanTypeRepository;
+    private final StatusEntityMapper statusMapper;
+    private final LoanTypeEntityMapper loanTypeMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>(ReferenceDataSnapshot.EMPTY);
+
+    public ReferenceDataCache(StatusReactiveRepository statusRepository,
+                              LoanTypeReactiveRepository loanTypeRepository,
+                              StatusEntityMapper statusMapper,
+                              LoanTypeEntityMapper loanTypeMapper,
+                              MeterRegistry meterRegistry) {
+        this.statusRepository = statusRepository;
+        this.loanTypeRepository = loanTypeRepository;
+        this.statusMapper = statusMapper;
+        this.loanTypeMapper = loanTypeMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(SIZE_METRIC, snapshot, current -> current.get().statusCount())
+                .tag("cache", STATUS_CACHE)
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, snapshot, current -> current.get().loanTypeCount())
+                .tag("cache", LOAN_TYPE_CACHE)
+                .register(meterRegistry);
+    }
+
+    public ReferenceDataSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public Mono<Void> refresh() {
+        return Mono.zip(
+                        statusRepository.findAll()
+                                .map(statusMapper::toEntity)
+                                .collectList(),
+                        loanTypeRepository.findAll()
+                                .map(loanTypeMapper::toEntity)
+                                .collectList()
+                )
+                .map(tuple -> ReferenceDataSnapshot.of(tuple.getT1(), tuple.getT2()))
+                .doOnNext(loaded -> {
+                    snapshot.set(loaded);
+                    refreshCounter("success").increment();
+                    log.debug("Reference data cache refreshed: {} statuses, {} loan types",
+                            loaded.statusCount(), loaded.loanTypeCount());
+                })
+                .doOnError(error -> {
+                    refreshCounter("failure").increment();
+                    log.warn("Reference data cache refresh failed: {}", error.getMessage());
+                })
+                .then();
+    }
+
+    public void recordHit(String cache) {
+        requestCounter(cache, "hit").increment();
+    }
+
+    public void recordMiss(String cache) {
+        requestCounter(cache, "miss").increment();
+    }
+
+    private Counter requestCounter(String cache, String result) {
+        return meterRegistry.counter(REQUESTS_METRIC, "cache", cache, "result", result);
+    }
+
+    private Counter refreshCounter(String result) {
+        return meterRegistry.counter(REFRESHES_METRIC, "result", result);
+    }
+}
@@ -0,0 +1,111 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.pragma.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.pragma.r2dbc.config.ReferenceDataCacheProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Keeps {@link ReferenceDataCache} in sync across instances: a dedicated connection LISTENs on
+ * {@value #CHANNEL} (fed by the triggers the {@code V2__reference_data_notify_triggers} migration installs) and
+ * every notification reloads the snapshot. A periodic refresh covers notifications lost while the connection was down.
+ */
+@Log4j2
+@Component
+public class ReferenceDataChangeListener {
+
+    static final String CHANNEL = "reference_data_changed";
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final Supplier<Mono<PostgresqlConnection>> connectionSupplier;
+    private final ReferenceDataCache cache;
+    private final Duration refreshInterval;
+    private Disposable subscription;
+
+    @Autowired
+    public ReferenceDataChangeListener(PostgresqlConnectionProperties connectionProperties,
+                                       ReferenceDataCacheProperties cacheProperties,
+                                       ReferenceDataCache cache) {
+        this(new PostgresqlConnectionFactory(
+                        PostgreSQLConnectionPool.buildConnectionConfiguration(connectionProperties))::create,
+                cache, cacheProperties.refreshInterval());
+    }
+
+    ReferenceDataChangeListener(Supplier<Mono<PostgresqlConnection>> connectionSupplier,
+                                ReferenceDataCache cache,
+                                Duration refreshInterval) {
+        this.connectionSupplier = connectionSupplier;
+        this.cache = cache;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.merge(listen(), periodicRefresh())
+                .subscribe(
+                        ignored -> { },
+                        error -> log.error("Reference data listener stopped: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Flux<Void> listen() {
+        return Flux.usingWhen(
+                        Mono.defer(connectionSupplier),
+                        connection -> execute(connection, "LISTEN " + CHANNEL)
+                                .thenMany(connection.getNotifications()
+                                        .map(Notification::getParameter)
+                                        .onBackpressureLatest()
+                                        .startWith("startup")
+                                        .concatMap(this::refresh)),
+                        PostgresqlConnection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Reference data listener disconnected, reconnecting: {}",
+                                signal.failure().getMessage())));
+    }
+
+    private Flux<Void> periodicRefresh() {
+        if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return Flux.empty();
+        }
+        return Flux.interval(refreshInterval, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh("interval"));
+    }
+
+    private Mono<Void> refresh(String source) {
+        log.debug("Refreshing reference data cache ({})", source);
+        return cache.refresh()
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<Void> execute(PostgresqlConnection connection, String sql) {
+        return connection.createStatement(sql)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then();
+    }
+}
@@ -0,0 +1,114 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.status.Status;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, fully indexed copy of the status and loan type tables. A new instance replaces the previous one
+ * on every refresh, so readers never observe a partially loaded state.
+ */
+public final class ReferenceDataSnapshot {
+
+    static final ReferenceDataSnapshot EMPTY = new ReferenceDataSnapshot(false, List.of(), List.of());
+
+    private final boolean loaded;
+    private final Map<UUID, Status> statusesById;
+    private final Map<String, Status> statusesByName;
+    private final Map<String, Status> statusesByNameIgnoreCase;
+    private final Map<UUID, LoanType> loanTypesById;
+    private final Map<String, LoanType> loanTypesByName;
+
+    private ReferenceDataSnapshot(boolean loaded, List<Status> statuses, List<LoanType> loanTypes) {
+        this.loaded = loaded;
+        this.statusesById = index(statuses, Status::getId);
+        this.statusesByName = index(statuses, Status::getName);
+        this.statusesByNameIgnoreCase = index(statuses, status -> normalize(status.getName()));
+        this.loanTypesById = index(loanTypes, LoanType::getId);
+        this.loanTypesByName = index(loanTypes, LoanType::getName);
+    }
+
+    static ReferenceDataSnapshot of(List<Status> statuses, List<LoanType> loanTypes) {
+        return new ReferenceDataSnapshot(true, statuses, loanTypes);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int statusCount() {
+        return statusesById.size();
+    }
+
+    public int loanTypeCount() {
+        return loanTypesById.size();
+    }
+
+    public Status statusById(UUID id) {
+        return copy(statusesById.get(id));
+    }
+
+    public Status statusByName(String name) {
+        return copy(statusesByName.get(name));
+    }
+
+    public Status statusByNameIgnoreCase(String name) {
+        return name == null ? null : copy(statusesByNameIgnoreCase.get(normalize(name)));
+    }
+
+    /**
+     * Returns every requested status, or {@code null} when at least one of them is not in the snapshot.
+     */
+    public List<Status> statusesByIds(Collection<UUID> ids) {
+        return allOf(statusesById, ids, ReferenceDataSnapshot::copy);
+    }
+
+    public List<Status> statusesByNames(Collection<String> names) {
+        return allOf(statusesByName, names, ReferenceDataSnapshot::copy);
+    }
+
+    public LoanType loanTypeById(UUID id) {
+        return copy(loanTypesById.get(id));
+    }
+
+    public LoanType loanTypeByName(String name) {
+        return copy(loanTypesByName.get(name));
+    }
+
+    public List<LoanType> loanTypesByIds(Collection<UUID> ids) {
+        return allOf(loanTypesById, ids, ReferenceDataSnapshot::copy);
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> keyExtractor) {
+        return values.stream()
+                .filter(value -> keyExtractor.apply(value) != null)
+                .collect(Collectors.toUnmodifiableMap(keyExtractor, Function.identity(), (first, second) -> first));
+    }
+
+    private static <K, V> List<V> allOf(Map<K, V> index, Collection<K> keys, Function<V, V> copier) {
+        List<V> values = keys.stream().distinct().map(index::get).toList();
+        if (values.contains(null)) {
+            return null;
+        }
+        return values.stream().map(copier).toList();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Status copy(Status status) {
+        return status == null ? null : status.toBuilder().build();
+    }
+
+    private static LoanType copy(LoanType loanType) {
+        return loanType == null ? null : loanType.toBuilder().build();
+    }
+}
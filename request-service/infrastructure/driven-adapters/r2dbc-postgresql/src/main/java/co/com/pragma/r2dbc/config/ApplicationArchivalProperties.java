@@ -0,0 +1,16 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.archival")
+public record ApplicationArchivalProperties(
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("180d") Duration retention,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("Rejected") List<String> closedStatuses,
+        @DefaultValue("3") int partitionsAhead) {
+}
@@ -0,0 +1,14 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.intake")
+public record ApplicationIntakeProperties(
+        @DefaultValue("10m") Duration staleAfter,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("5m") Duration sweepInterval,
+        @DefaultValue("1000") int sweepBatchSize) {
+}
@@ -0,0 +1,11 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.summary")
+public record ApplicationSummaryProperties(
+        @DefaultValue("1h") Duration reconcileInterval) {
+}
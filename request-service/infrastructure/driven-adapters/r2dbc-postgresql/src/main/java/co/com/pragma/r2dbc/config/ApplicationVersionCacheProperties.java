@@ -0,0 +1,12 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.application-versions")
+public record ApplicationVersionCacheProperties(
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("10000") int maxEntries) {
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("1m") Duration lease,
+        @DefaultValue("10000") int nearCacheSize,
+        @DefaultValue("10m") Duration purgeInterval,
+        @DefaultValue("1000") int purgeBatchSize) {
+}
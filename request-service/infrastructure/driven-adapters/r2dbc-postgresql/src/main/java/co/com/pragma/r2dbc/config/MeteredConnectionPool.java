@@ -0,0 +1,57 @@
+package co.com.pragma.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times every {@link #create()}, from subscription until the pool hands a connection out, as
+ * {@value #ACQUIRE_METRIC}. A long acquire with fast queries points at pool starvation rather than slow SQL. The
+ * pool gauges (acquired, idle, pending acquirers) are bound to every {@link ConnectionPool} bean by Spring Boot's
+ * actuator as {@code r2dbc.pool.*}.
+ */
+public class MeteredConnectionPool extends ConnectionPool {
+
+    static final String ACQUIRE_METRIC = "r2dbc.pool.acquire";
+
+    private final MeterRegistry meterRegistry;
+    private final String poolName;
+
+    public MeteredConnectionPool(ConnectionPoolConfiguration configuration, String poolName,
+                                 MeterRegistry meterRegistry) {
+        super(configuration);
+        this.meterRegistry = meterRegistry;
+        this.poolName = poolName;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return super.create()
+                    .doOnSuccess(connection -> record("success", start, recorded))
+                    .doOnError(error -> record("error", start, recorded))
+                    .doOnCancel(() -> record("canceled", start, recorded));
+        });
+    }
+
+    // A cancel can still arrive after the connection was handed out; only the first signal counts.
+    private void record(String outcome, long start, AtomicBoolean recorded) {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        Timer.builder(ACQUIRE_METRIC)
+                .tag("pool", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.payment-plans")
+public record PaymentPlanCacheProperties(
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("1000") int nearCacheSize) {
+}
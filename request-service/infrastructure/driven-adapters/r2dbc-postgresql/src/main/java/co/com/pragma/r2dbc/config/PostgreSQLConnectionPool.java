@@ -1,26 +1,114 @@
 package co.com.pragma.r2dbc.config;
 
+import co.com.pragma.r2dbc.diagnostics.SlowQueryRecorders;
+import co.com.pragma.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.postgresql.client.SSLMode;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
-    public static final int DEFAULT_PORT = 5432;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
+    public static final String REPLICA_POOL_NAME = "api-postgres-replica-pool";
+
+    static final String PRIMARY_POOL_BEAN = "getConnectionConfig";
+    static final String REPLICA_POOL_BEAN = "replicaConnectionPool";
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
-		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties,
+                                              ConnectionPoolProperties poolProperties,
+                                              MeterRegistry meterRegistry,
+                                              ObjectProvider<ProxyExecutionListener> executionListeners,
+                                              ObjectProvider<SlowQueryRecorders> slowQueryRecorders) {
+		return new MeteredConnectionPool(buildPoolConfiguration(properties, poolProperties,
+                executionListeners(properties, executionListeners, slowQueryRecorders), POOL_NAME), POOL_NAME,
+                meterRegistry);
+	}
+
+    @Bean
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "host")
+    public ConnectionPool replicaConnectionPool(PostgresqlConnectionProperties properties,
+                                                ReplicaConnectionProperties replicaProperties,
+                                                ConnectionPoolProperties poolProperties,
+                                                MeterRegistry meterRegistry,
+                                                ObjectProvider<ProxyExecutionListener> executionListeners,
+                                                ObjectProvider<SlowQueryRecorders> slowQueryRecorders) {
+        PostgresqlConnectionProperties replica = replicaProperties.resolve(properties);
+        return new MeteredConnectionPool(buildPoolConfiguration(replica, poolProperties,
+                executionListeners(replica, executionListeners, slowQueryRecorders), REPLICA_POOL_NAME),
+                REPLICA_POOL_NAME, meterRegistry);
+    }
+
+    // The connection factory every adapter, the R2DBC template and the transaction manager use. Without a replica
+    // both routes lead to the primary pool.
+    @Bean
+    @Primary
+    public ReadReplicaRoutingConnectionFactory routingConnectionFactory(
+            @Qualifier(PRIMARY_POOL_BEAN) ConnectionPool primary,
+            @Qualifier(REPLICA_POOL_BEAN) ObjectProvider<ConnectionPool> replica) {
+        return new ReadReplicaRoutingConnectionFactory(primary, replica.getIfAvailable(() -> primary));
+    }
+
+    // Each pool gets its own slow-query recorder so plans are taken on the server that ran the statement.
+    static List<ProxyExecutionListener> executionListeners(PostgresqlConnectionProperties properties,
+                                                           ObjectProvider<ProxyExecutionListener> executionListeners,
+                                                           ObjectProvider<SlowQueryRecorders> slowQueryRecorders) {
+        List<ProxyExecutionListener> listeners = new ArrayList<>(executionListeners.orderedStream().toList());
+        slowQueryRecorders.ifAvailable(recorders ->
+                listeners.add(recorders.forServer(buildConnectionConfiguration(properties))));
+        return listeners;
+    }
+
+    static ConnectionPoolConfiguration buildPoolConfiguration(PostgresqlConnectionProperties properties,
+                                                              ConnectionPoolProperties poolProperties,
+                                                              List<ProxyExecutionListener> executionListeners,
+                                                              String poolName) {
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder()
+                .connectionFactory(connectionFactory(properties, executionListeners))
+                .name(poolName)
+                .initialSize(poolProperties.initialSize())
+                .maxSize(poolProperties.maxSize())
+                .maxIdleTime(poolProperties.maxIdleTime())
+                .validationQuery("SELECT 1");
+        if (poolProperties.maxAcquireTime() != null) {
+            builder.maxAcquireTime(poolProperties.maxAcquireTime());
+        }
+        if (poolProperties.maxLifeTime() != null) {
+            builder.maxLifeTime(poolProperties.maxLifeTime());
+        }
+        return builder.build();
+    }
+
+    // Listeners such as the slow-query recorder see every statement run on a pooled connection; without any the
+    // pool talks to the driver directly.
+    static ConnectionFactory connectionFactory(PostgresqlConnectionProperties properties,
+                                               List<ProxyExecutionListener> executionListeners) {
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(buildConnectionConfiguration(properties));
+        if (executionListeners.isEmpty()) {
+            return connectionFactory;
+        }
+        ProxyConnectionFactory.Builder proxy = ProxyConnectionFactory.builder(connectionFactory);
+        executionListeners.forEach(proxy::listener);
+        return proxy.build();
+    }
+
+    public static PostgresqlConnectionConfiguration buildConnectionConfiguration(PostgresqlConnectionProperties properties) {
+        return PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
                 .database(properties.database())
@@ -29,16 +117,5 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE)
                 .build();
-
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
-
-		return new ConnectionPool(poolConfiguration);
-	}
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.reference-cache")
+public record ReferenceDataCacheProperties(
+        @DefaultValue("10m") Duration refreshInterval) {
+}
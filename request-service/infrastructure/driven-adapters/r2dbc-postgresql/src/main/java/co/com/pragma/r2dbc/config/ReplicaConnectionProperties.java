@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica the read-only queries are routed to. Setting {@code host} enables it; any other field left unset is
+ * taken from the primary {@code adapters.r2dbc} settings.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.replica")
+public record ReplicaConnectionProperties(
+        String host,
+        Integer port,
+        String database,
+        String schema,
+        String username,
+        String password,
+        Boolean ssl) {
+
+    public PostgresqlConnectionProperties resolve(PostgresqlConnectionProperties primary) {
+        return new PostgresqlConnectionProperties(
+                host != null ? host : primary.host(),
+                port != null ? port : primary.port(),
+                database != null ? database : primary.database(),
+                schema != null ? schema : primary.schema(),
+                username != null ? username : primary.username(),
+                password != null ? password : primary.password(),
+                ssl != null ? ssl : primary.ssl());
+    }
+}
@@ -0,0 +1,33 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.diagnostics.SlowQueryEndpoint;
+import co.com.pragma.r2dbc.diagnostics.SlowQueryLog;
+import co.com.pragma.r2dbc.diagnostics.SlowQueryRecorders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the factory {@link PostgreSQLConnectionPool} uses to attach a slow-query recorder to each pool, and the
+ * {@code slowqueries} actuator endpoint that reads what they captured. Plans are taken on their own unpooled
+ * connections to the pool's server, so explaining never waits for or takes a connection from the application pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "adapters.r2dbc.slow-queries", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties.capacity());
+    }
+
+    @Bean
+    public SlowQueryRecorders slowQueryRecorders(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        return new SlowQueryRecorders(properties, slowQueryLog);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Slow-query capture. Statements slower than {@code threshold} are kept in a ring buffer of {@code capacity}
+ * entries; the same SQL is explained at most once per {@code explainInterval} and never by more than
+ * {@code maxConcurrentExplains} connections per database server at a time.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.slow-queries")
+public record SlowQueryProperties(
+        @DefaultValue("500ms") Duration threshold,
+        @DefaultValue("50") int capacity,
+        @DefaultValue("5s") Duration explainTimeout,
+        @DefaultValue("1m") Duration explainInterval,
+        @DefaultValue("1") int maxConcurrentExplains) {
+}
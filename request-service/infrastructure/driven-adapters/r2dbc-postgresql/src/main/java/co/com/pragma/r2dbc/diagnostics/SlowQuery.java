@@ -0,0 +1,19 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A statement that ran slower than the threshold. {@code parameters} holds only the placeholder and Java type of
+ * each bind value, never the value itself. {@code plan} is the {@code EXPLAIN (ANALYZE, BUFFERS)} output of a plain
+ * read, the {@code EXPLAIN (BUFFERS)} estimate of anything else, or {@code null} with the reason in {@code note} when
+ * no plan was taken.
+ */
+public record SlowQuery(
+        Instant capturedAt,
+        long durationMillis,
+        String sql,
+        List<String> parameters,
+        String plan,
+        String note) {
+}
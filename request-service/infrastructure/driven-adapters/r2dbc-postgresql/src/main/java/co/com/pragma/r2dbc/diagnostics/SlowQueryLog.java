@@ -0,0 +1,36 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Ring buffer of the last captured slow queries, newest first. Once full, every new entry evicts the oldest one.
+ */
+public class SlowQueryLog {
+
+    private final int capacity;
+    private final Deque<SlowQuery> entries = new ArrayDeque<>();
+
+    public SlowQueryLog(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(SlowQuery slowQuery) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (entries.size() == capacity) {
+            entries.removeLast();
+        }
+        entries.addFirst(slowQuery);
+    }
+
+    public synchronized List<SlowQuery> entries() {
+        return List.copyOf(entries);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,226 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import co.com.pragma.r2dbc.config.SlowQueryProperties;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.ExecutionType;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Listens to every statement executed on the pooled connections and captures the ones slower than the threshold
+ * into the {@link SlowQueryLog}, together with its plan. The plan is taken after the statement finished, on a
+ * separate connection and inside a transaction that is always rolled back, so the caller never waits for it.
+ * <p>
+ * {@code EXPLAIN ANALYZE} runs the statement again, so it is only used for a plain SELECT that locks no rows and
+ * calls nothing beyond a known set of side-effect free functions. Writes, CTEs and anything calling other functions
+ * (such as {@code ensure_application_partitions}) get the estimated plan only, which neither executes them nor takes
+ * their row locks.
+ */
+@Log4j2
+public class SlowQueryRecorder implements ProxyExecutionListener {
+
+    static final String ANALYZE_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+    static final String ESTIMATE_PREFIX = "EXPLAIN (BUFFERS) ";
+
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(SELECT|INSERT|UPDATE|DELETE|WITH|VALUES)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern PLAIN_SELECT = Pattern.compile("^\\s*SELECT\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOCKING_OR_WRITING = Pattern.compile(
+            "\\bFOR\\s+(UPDATE|NO\\s+KEY\\s+UPDATE|SHARE|KEY\\s+SHARE)\\b|\\bINTO\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CALL = Pattern.compile("([A-Za-z_][A-Za-z0-9_$.]*)\\s*\\(");
+    // SQL keywords that precede a parenthesis and the read-only functions the repositories use.
+    private static final Set<String> SAFE_CALLS = Set.of(
+            "select", "from", "join", "where", "and", "or", "not", "in", "exists", "any", "all", "on", "using", "as",
+            "over", "filter", "values", "cast", "row", "lateral", "by", "when", "then", "else", "between", "is",
+            "distinct", "union", "limit", "offset", "array", "interval",
+            "count", "sum", "min", "max", "avg", "coalesce", "nullif", "greatest", "least", "lower", "upper", "now",
+            "date_trunc", "array_agg", "string_agg", "row_number", "rank", "unnest", "abs", "round");
+
+    private final ConnectionFactory explainConnections;
+    private final SlowQueryProperties properties;
+    private final SlowQueryLog slowQueryLog;
+    private final Clock clock;
+    private final Semaphore explainPermits;
+    private final Map<String, Instant> lastExplained = new ConcurrentHashMap<>();
+
+    public SlowQueryRecorder(ConnectionFactory explainConnections,
+                             SlowQueryProperties properties,
+                             SlowQueryLog slowQueryLog) {
+        this(explainConnections, properties, slowQueryLog, Clock.systemUTC());
+    }
+
+    SlowQueryRecorder(ConnectionFactory explainConnections,
+                      SlowQueryProperties properties,
+                      SlowQueryLog slowQueryLog,
+                      Clock clock) {
+        this.explainConnections = explainConnections;
+        this.properties = properties;
+        this.slowQueryLog = slowQueryLog;
+        this.clock = clock;
+        this.explainPermits = new Semaphore(properties.maxConcurrentExplains());
+    }
+
+    // Batches carry no bind values and failed statements did not produce a plan worth comparing, so only
+    // successful single statements are captured.
+    @Override
+    public void afterQuery(QueryExecutionInfo execution) {
+        Duration duration = execution.getExecuteDuration();
+        if (!execution.isSuccess() || execution.getType() != ExecutionType.STATEMENT
+                || duration == null || duration.compareTo(properties.threshold()) < 0) {
+            return;
+        }
+        for (QueryInfo query : execution.getQueries()) {
+            capture(query, duration);
+        }
+    }
+
+    void capture(QueryInfo query, Duration duration) {
+        String sql = query.getQuery();
+        Bindings bindings = query.getBindingsList().isEmpty() ? null : query.getBindingsList().getFirst();
+        Instant capturedAt = clock.instant();
+        List<String> parameters = parameterShapes(bindings);
+        if (!EXPLAINABLE.matcher(sql).find()) {
+            slowQueryLog.add(new SlowQuery(capturedAt, duration.toMillis(), sql, parameters, null,
+                    "Statement cannot be explained"));
+            return;
+        }
+        Instant explainedAt = lastExplained.get(sql);
+        if (explainedAt != null && explainedAt.plus(properties.explainInterval()).isAfter(capturedAt)) {
+            slowQueryLog.add(new SlowQuery(capturedAt, duration.toMillis(), sql, parameters, null,
+                    "Explained less than " + properties.explainInterval() + " ago"));
+            return;
+        }
+        if (!explainPermits.tryAcquire()) {
+            slowQueryLog.add(new SlowQuery(capturedAt, duration.toMillis(), sql, parameters, null,
+                    "Skipped, another EXPLAIN was running"));
+            return;
+        }
+        // Evicting on insert keeps one entry per SQL explained within the last interval.
+        lastExplained.values().removeIf(at -> !at.plus(properties.explainInterval()).isAfter(capturedAt));
+        lastExplained.put(sql, capturedAt);
+        explain(sql, bindings)
+                .map(plan -> new SlowQuery(capturedAt, duration.toMillis(), sql, parameters, plan, null))
+                .onErrorResume(error -> {
+                    log.warn("Could not explain slow query: {}", error.getMessage());
+                    return Mono.just(new SlowQuery(capturedAt, duration.toMillis(), sql, parameters, null,
+                            "EXPLAIN failed: " + error.getMessage()));
+                })
+                .doOnNext(slowQueryLog::add)
+                .doFinally(signal -> explainPermits.release())
+                .subscribe();
+    }
+
+    Mono<String> explain(String sql, Bindings bindings) {
+        return Mono.usingWhen(
+                Mono.from(explainConnections.create()),
+                connection -> Mono.from(connection.beginTransaction())
+                        .then(execute(connection, "SET LOCAL statement_timeout = "
+                                + properties.explainTimeout().toMillis()))
+                        .thenMany(Flux.from(bind(connection.createStatement(explainPrefix(sql) + sql), bindings).execute()))
+                        .concatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+                        .collect(Collectors.joining("\n"))
+                        .flatMap(plan -> Mono.from(connection.rollbackTransaction()).thenReturn(plan)),
+                Connection::close);
+    }
+
+    Set<String> explainedStatements() {
+        return Set.copyOf(lastExplained.keySet());
+    }
+
+    static String explainPrefix(String sql) {
+        if (!PLAIN_SELECT.matcher(sql).find() || LOCKING_OR_WRITING.matcher(sql).find()) {
+            return ESTIMATE_PREFIX;
+        }
+        Matcher call = CALL.matcher(sql);
+        while (call.find()) {
+            String name = call.group(1);
+            String function = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            if (!SAFE_CALLS.contains(function)) {
+                return ESTIMATE_PREFIX;
+            }
+        }
+        return ANALYZE_PREFIX;
+    }
+
+    private static Mono<Void> execute(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+                .concatMap(Result::getRowsUpdated)
+                .then();
+    }
+
+    private static Statement bind(Statement statement, Bindings bindings) {
+        if (bindings == null) {
+            return statement;
+        }
+        for (Binding binding : bindings.getIndexBindings()) {
+            int index = (Integer) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(index, value.getNullType());
+            } else {
+                statement.bind(index, value.getValue());
+            }
+        }
+        for (Binding binding : bindings.getNamedBindings()) {
+            String name = (String) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(name, value.getNullType());
+            } else {
+                statement.bind(name, value.getValue());
+            }
+        }
+        return statement;
+    }
+
+    static List<String> parameterShapes(Bindings bindings) {
+        if (bindings == null) {
+            return List.of();
+        }
+        return Stream.concat(bindings.getIndexBindings().stream(), bindings.getNamedBindings().stream())
+                .map(binding -> placeholder(binding.getKey()) + ": " + shape(binding.getBoundValue()))
+                .toList();
+    }
+
+    private static String placeholder(Object key) {
+        return key instanceof Integer index ? "$" + (index + 1) : String.valueOf(key);
+    }
+
+    private static String shape(BoundValue value) {
+        if (value.isNull()) {
+            return value.getNullType().getSimpleName() + " (null)";
+        }
+        if (value.getValue() instanceof Parameter parameter) {
+            Class<?> type = parameter.getValue() != null
+                    ? parameter.getValue().getClass()
+                    : parameter.getType().getJavaType();
+            return type.getSimpleName() + (parameter.getValue() == null ? " (null)" : "");
+        }
+        return value.getValue().getClass().getSimpleName();
+    }
+}
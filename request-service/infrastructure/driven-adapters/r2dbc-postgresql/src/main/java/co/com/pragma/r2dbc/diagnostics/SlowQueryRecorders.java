@@ -0,0 +1,21 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import co.com.pragma.r2dbc.config.SlowQueryProperties;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds one {@link SlowQueryRecorder} per connection pool, each explaining on the server its pool talks to, so a
+ * statement that ran on the replica is planned on the replica. All of them write to the same {@link SlowQueryLog}.
+ */
+@RequiredArgsConstructor
+public class SlowQueryRecorders {
+
+    private final SlowQueryProperties properties;
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryRecorder forServer(PostgresqlConnectionConfiguration server) {
+        return new SlowQueryRecorder(new PostgresqlConnectionFactory(server), properties, slowQueryLog);
+    }
+}
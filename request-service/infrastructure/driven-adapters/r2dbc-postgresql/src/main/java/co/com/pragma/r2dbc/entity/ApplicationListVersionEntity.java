@@ -0,0 +1,20 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Latest change time and number of a client's applications, read straight off the {@code (id_user, created_at, id)}
+ * index.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ApplicationListVersionEntity {
+
+    private LocalDateTime latestChangeAt;
+    private Long applicationCount;
+}
@@ -0,0 +1,31 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row returned by a status transition: the updated application plus the status and approval date it had before.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ApplicationTransitionEntity {
+
+    private UUID id;
+    private Double amount;
+    private Integer term;
+    private String email;
+    private String idDocument;
+    private UUID idStatus;
+    private UUID idLoanType;
+    private UUID idUser;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime approvedAt;
+    private UUID previousIdStatus;
+    private LocalDateTime previousApprovedAt;
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Table("daily_approval_rollup")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class DailyApprovalRollupEntity {
+
+    private LocalDate businessDate;
+    private UUID idLoanType;
+    private Long approvedCount;
+    private Double totalAmount;
+}
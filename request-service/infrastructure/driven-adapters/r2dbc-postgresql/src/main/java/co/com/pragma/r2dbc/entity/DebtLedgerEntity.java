@@ -0,0 +1,24 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table("debt_ledger")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class DebtLedgerEntity {
+
+    @Id
+    private UUID idUser;
+    private Integer activeLoans;
+    private Double outstandingPrincipal;
+    private Double totalMonthlyInstallment;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+@Table("debt_ledger_entries")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class DebtLedgerEntryEntity {
+
+    @Id
+    private UUID idApplication;
+    private UUID idUser;
+    private Double amount;
+    private Integer term;
+    private Double interestRate;
+    private Double monthlyInstallment;
+}
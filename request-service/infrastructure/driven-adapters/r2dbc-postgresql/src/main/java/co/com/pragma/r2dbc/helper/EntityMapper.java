@@ -0,0 +1,11 @@
+package co.com.pragma.r2dbc.helper;
+
+/**
+ * Maps between a domain entity and its persistence representation. Implementations are generated by MapStruct,
+ * so each conversion is plain getter/setter code instead of reflective copying.
+ */
+public interface EntityMapper<E, D> {
+    D toData(E entity);
+
+    E toEntity(D data);
+}
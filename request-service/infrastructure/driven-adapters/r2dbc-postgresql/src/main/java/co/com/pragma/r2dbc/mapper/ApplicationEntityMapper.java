@@ -0,0 +1,12 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import co.com.pragma.r2dbc.entity.ApplicationTransitionEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ApplicationEntityMapper extends EntityMapper<Application, ApplicationEntity> {
+    Application toEntity(ApplicationTransitionEntity data);
+}
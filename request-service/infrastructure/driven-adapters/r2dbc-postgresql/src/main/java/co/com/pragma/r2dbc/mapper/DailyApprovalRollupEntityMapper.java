@@ -0,0 +1,10 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.r2dbc.entity.DailyApprovalRollupEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface DailyApprovalRollupEntityMapper extends EntityMapper<DailyApprovalRollup, DailyApprovalRollupEntity> {
+}
@@ -0,0 +1,13 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntity;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntryEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface DebtLedgerEntityMapper extends EntityMapper<DebtLedger, DebtLedgerEntity> {
+    DebtLedgerEntry toEntry(DebtLedgerEntryEntity data);
+}
@@ -0,0 +1,10 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.r2dbc.entity.LoanTypeEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface LoanTypeEntityMapper extends EntityMapper<LoanType, LoanTypeEntity> {
+}
@@ -0,0 +1,10 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.status.Status;
+import co.com.pragma.r2dbc.entity.StatusEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface StatusEntityMapper extends EntityMapper<Status, StatusEntity> {
+}
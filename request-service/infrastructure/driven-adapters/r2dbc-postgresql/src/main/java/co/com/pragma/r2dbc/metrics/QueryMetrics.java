@@ -0,0 +1,71 @@
+package co.com.pragma.r2dbc.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Latency of every query the adapters run, as {@value #METRIC} tagged with the query name and its outcome.
+ * Repository methods are recorded by {@link RepositoryQueryMetricsPostProcessor}; statements an adapter builds on
+ * {@code R2dbcEntityTemplate} wrap their execution in {@link #timed(String, Mono)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryMetrics {
+
+    static final String METRIC = "r2dbc.query";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> Mono<T> timed(String query, Mono<T> execution) {
+        return Mono.defer(() -> {
+            Execution timing = new Execution(query);
+            return execution
+                    .doOnSuccess(result -> timing.stop("success"))
+                    .doOnError(error -> timing.stop("error"))
+                    .doOnCancel(() -> timing.stop("canceled"));
+        });
+    }
+
+    public <T> Flux<T> timed(String query, Flux<T> execution) {
+        return Flux.defer(() -> {
+            Execution timing = new Execution(query);
+            return execution
+                    .doOnComplete(() -> timing.stop("success"))
+                    .doOnError(error -> timing.stop("error"))
+                    .doOnCancel(() -> timing.stop("canceled"));
+        });
+    }
+
+    public void record(String query, String outcome, long nanos) {
+        Timer.builder(METRIC)
+                .tag("query", query)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // A Mono can still be canceled after it succeeded, so only the first terminal signal is recorded.
+    private final class Execution {
+        private final String query;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private Execution(String query) {
+            this.query = query;
+        }
+
+        private void stop(String outcome) {
+            if (stopped.compareAndSet(false, true)) {
+                record(query, outcome, System.nanoTime() - start);
+            }
+        }
+    }
+}
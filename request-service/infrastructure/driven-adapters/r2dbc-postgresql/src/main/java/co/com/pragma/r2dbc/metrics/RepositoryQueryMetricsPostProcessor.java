@@ -0,0 +1,43 @@
+package co.com.pragma.r2dbc.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Registers a listener on every Spring Data repository factory, so each repository method call is recorded in
+ * {@link QueryMetrics} as {@code Repository.method}. Spring Data reports reactive methods once the returned
+ * publisher terminates, so the duration covers the query and not just building the publisher.
+ */
+@Component
+public class RepositoryQueryMetricsPostProcessor implements BeanPostProcessor {
+
+    // Resolved on first use: post processors are created before regular beans such as the meter registry.
+    private final Supplier<QueryMetrics> queryMetrics;
+
+    public RepositoryQueryMetricsPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        this.queryMetrics = SingletonSupplier.of(queryMetrics::getObject);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener()));
+        }
+        return bean;
+    }
+
+    RepositoryMethodInvocationListener listener() {
+        return invocation -> queryMetrics.get().record(
+                invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName(),
+                invocation.getResult().getState().name().toLowerCase(Locale.ROOT),
+                invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+}
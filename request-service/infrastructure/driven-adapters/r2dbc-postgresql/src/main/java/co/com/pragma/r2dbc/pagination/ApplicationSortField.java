@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc.pagination;
+
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Columns the advisor listing may be sorted by. Anything else is rejected before it reaches the query,
+ * and every entry is backed by a keyset-friendly, non-null column.
+ */
+public enum ApplicationSortField {
+    AMOUNT("amount", ApplicationEntity::getAmount, Double::valueOf),
+    TERM("term", ApplicationEntity::getTerm, Integer::valueOf),
+    CREATED_AT("createdAt", ApplicationEntity::getCreatedAt, LocalDateTime::parse),
+    ID("id", ApplicationEntity::getId, UUID::fromString);
+
+    private final String property;
+    private final Function<ApplicationEntity, Object> extractor;
+    private final Function<String, Object> parser;
+
+    ApplicationSortField(String property, Function<ApplicationEntity, Object> extractor,
+                         Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(ApplicationEntity entity) {
+        return extractor.apply(entity);
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static ApplicationSortField fromProperty(String sortBy) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElseThrow(() -> new InvalidPaginationException("Unsupported sort field: " + sortBy));
+    }
+}
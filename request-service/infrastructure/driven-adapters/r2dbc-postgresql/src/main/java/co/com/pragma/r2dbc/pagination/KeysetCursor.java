@@ -0,0 +1,47 @@
+package co.com.pragma.r2dbc.pagination;
+
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page: the sort value and id of that row, plus the ordering it was read with
+ * so a token cannot be replayed against a different sort. Clients only see the Base64 form.
+ */
+public record KeysetCursor(ApplicationSortField sortField, Sort.Direction direction, Object lastValue, UUID lastId) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor after(ApplicationEntity entity, ApplicationSortField sortField, Sort.Direction direction) {
+        return new KeysetCursor(sortField, direction, sortField.valueOf(entity), entity.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortField.name(), direction.name(),
+                String.valueOf(lastValue), lastId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token, ApplicationSortField sortField, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new InvalidPaginationException("Invalid cursor");
+            }
+            if (!sortField.name().equals(parts[1]) || !direction.name().equals(parts[2])) {
+                throw new InvalidPaginationException("Cursor does not match the requested sort");
+            }
+            return new KeysetCursor(sortField, direction, sortField.parse(parts[3]), UUID.fromString(parts[4]));
+        } catch (InvalidPaginationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidPaginationException("Invalid cursor");
+        }
+    }
+}
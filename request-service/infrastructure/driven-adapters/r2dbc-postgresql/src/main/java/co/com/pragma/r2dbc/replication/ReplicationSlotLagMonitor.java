@@ -0,0 +1,116 @@
+package co.com.pragma.r2dbc.replication;
+
+import co.com.pragma.r2dbc.config.ReplicationSlotProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically samples how much write-ahead log each replication slot on the primary is holding back, as the bytes
+ * between {@code pg_current_wal_lsn()} and what its consumer confirmed. A slot keeps that WAL until it is consumed or
+ * dropped, so a lag that only grows means the change feed is disabled or no instance is streaming it. Runs whether or
+ * not the feed is enabled on this instance; slots that disappear report zero.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.replication-slots", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReplicationSlotLagMonitor {
+
+    static final String LAG_METRIC = "postgres.replication.slot.lag";
+
+    static final String SLOT_LAG = "SELECT slot_name, " +
+            "pg_wal_lsn_diff(pg_current_wal_lsn(), COALESCE(confirmed_flush_lsn, restart_lsn))::bigint AS lag_bytes " +
+            "FROM pg_replication_slots";
+
+    private final DatabaseClient databaseClient;
+    private final ReplicationSlotProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> lagBytes = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    @Autowired
+    public ReplicationSlotLagMonitor(R2dbcEntityTemplate entityTemplate,
+                                     ReplicationSlotProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this(entityTemplate.getDatabaseClient(), properties, meterRegistry);
+    }
+
+    ReplicationSlotLagMonitor(DatabaseClient databaseClient,
+                              ReplicationSlotProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.lagInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Emits the bytes of WAL held back by each slot, keyed by slot name.
+     */
+    public Mono<Map<String, Long>> run() {
+        return databaseClient.sql(SLOT_LAG)
+                .map((row, metadata) -> {
+                    Long lag = row.get("lag_bytes", Long.class);
+                    return Map.entry(row.get("slot_name", String.class), lag == null ? 0L : lag);
+                })
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(this::record)
+                .onErrorResume(error -> {
+                    log.error("Replication slot lag sampling failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void record(Map<String, Long> sample) {
+        lagBytes.forEach((slot, lag) -> {
+            if (!sample.containsKey(slot)) {
+                lag.set(0);
+            }
+        });
+        sample.forEach((slot, lag) -> lagBytes.computeIfAbsent(slot, this::register).set(lag));
+    }
+
+    private AtomicLong register(String slot) {
+        AtomicLong lag = new AtomicLong();
+        Gauge.builder(LAG_METRIC, lag, AtomicLong::get)
+                .tag("slot", slot)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return lag;
+    }
+}
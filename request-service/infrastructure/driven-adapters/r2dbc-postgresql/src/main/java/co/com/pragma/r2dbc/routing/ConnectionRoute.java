@@ -0,0 +1,26 @@
+package co.com.pragma.r2dbc.routing;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Target of the connections a query asks for, carried in the Reactor context. Queries run on the primary unless
+ * they are wrapped in {@link #onReplica(Mono)} or come from a {@link ReplicaRead} repository method.
+ */
+public enum ConnectionRoute {
+    PRIMARY,
+    REPLICA;
+
+    public static <T> Mono<T> onReplica(Mono<T> query) {
+        return query.contextWrite(context -> context.put(ConnectionRoute.class, REPLICA));
+    }
+
+    public static <T> Flux<T> onReplica(Flux<T> query) {
+        return query.contextWrite(context -> context.put(ConnectionRoute.class, REPLICA));
+    }
+
+    static ConnectionRoute of(ContextView context) {
+        return context.getOrDefault(ConnectionRoute.class, PRIMARY);
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.pragma.r2dbc.routing;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Hands out replica connections to queries routed with {@link ConnectionRoute#REPLICA} and primary connections to
+ * everything else. Anything running inside a transaction, such as a {@code TransactionalAdapter} unit of work, gets
+ * the primary even when the query asked for the replica, so it always reads its own writes.
+ */
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    public ReadReplicaRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        setTargetConnectionFactories(Map.of(ConnectionRoute.PRIMARY, primary, ConnectionRoute.REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (ConnectionRoute.of(context) == ConnectionRoute.PRIMARY) {
+                return Mono.just(ConnectionRoute.PRIMARY);
+            }
+            return TransactionSynchronizationManager.forCurrentTransaction()
+                    .<Object>map(transaction -> ConnectionRoute.PRIMARY)
+                    .onErrorResume(NoTransactionException.class, error -> Mono.just(ConnectionRoute.REPLICA));
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.pragma.r2dbc.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only repository method whose query may run on the read replica. Calls made inside a transaction
+ * still run on the primary, see {@link ReadReplicaRoutingConnectionFactory}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
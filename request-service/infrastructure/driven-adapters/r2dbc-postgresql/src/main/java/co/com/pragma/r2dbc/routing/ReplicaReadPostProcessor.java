@@ -0,0 +1,46 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Routes the {@link ReplicaRead} methods of every Spring Data repository to the read replica by wrapping the
+ * publisher they return in {@link ConnectionRoute#onReplica(Mono)}.
+ */
+@Component
+public class ReplicaReadPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(proxyPostProcessor()));
+        }
+        return bean;
+    }
+
+    public static RepositoryProxyPostProcessor proxyPostProcessor() {
+        return (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(interceptor());
+    }
+
+    static MethodInterceptor interceptor() {
+        return invocation -> {
+            Object result = invocation.proceed();
+            if (!AnnotatedElementUtils.hasAnnotation(invocation.getMethod(), ReplicaRead.class)) {
+                return result;
+            }
+            if (result instanceof Mono<?> mono) {
+                return ConnectionRoute.onReplica(mono);
+            }
+            if (result instanceof Flux<?> flux) {
+                return ConnectionRoute.onReplica(flux);
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package co.com.pragma.r2dbc.summary;
+
+import co.com.pragma.r2dbc.config.ApplicationSummaryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Periodically compares the {@code application_summary} counters with a fresh aggregate over {@code applications}
+ * and writes any difference into slot 0. Both sides are read from the same snapshot and every counter write commits
+ * together with the application change it counts, so the difference is exactly the drift and applying it as a delta
+ * stays correct while registrations and transitions keep running. Two overlapping runs would both apply the same
+ * drift, so each run first takes a transaction-scoped advisory lock and skips when another instance holds it. The
+ * lock is its own statement so the reconciling one takes its snapshot after the previous run committed.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.summary", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationSummaryReconciliationJob {
+
+    static final String DRIFT_METRIC = "applications.summary.drift";
+
+    static final String LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('application_summary_reconciliation'))";
+
+    static final String RECONCILE = "WITH live AS (" +
+            "SELECT id_status, id_loan_type, count(*) AS application_count, sum(amount::numeric) AS total_amount " +
+            "FROM applications GROUP BY id_status, id_loan_type), " +
+            "counted AS (" +
+            "SELECT id_status, id_loan_type, sum(application_count) AS application_count, sum(total_amount) AS total_amount " +
+            "FROM application_summary GROUP BY id_status, id_loan_type), " +
+            "drift AS (" +
+            "SELECT COALESCE(l.id_status, c.id_status) AS id_status, COALESCE(l.id_loan_type, c.id_loan_type) AS id_loan_type, " +
+            "COALESCE(l.application_count, 0) - COALESCE(c.application_count, 0) AS application_count, " +
+            "COALESCE(l.total_amount, 0) - COALESCE(c.total_amount, 0) AS total_amount " +
+            "FROM live l FULL JOIN counted c ON c.id_status = l.id_status AND c.id_loan_type = l.id_loan_type) " +
+            "INSERT INTO application_summary (id_status, id_loan_type, slot, application_count, total_amount) " +
+            "SELECT id_status, id_loan_type, 0, application_count, total_amount FROM drift " +
+            "WHERE application_count <> 0 OR total_amount <> 0 " +
+            "ORDER BY id_status, id_loan_type " +
+            "ON CONFLICT (id_status, id_loan_type, slot) DO UPDATE SET " +
+            "application_count = application_summary.application_count + EXCLUDED.application_count, " +
+            "total_amount = application_summary.total_amount + EXCLUDED.total_amount";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationSummaryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private Disposable subscription;
+
+    @Autowired
+    public ApplicationSummaryReconciliationJob(R2dbcEntityTemplate entityTemplate,
+                                               TransactionalOperator transactionalOperator,
+                                               ApplicationSummaryProperties properties,
+                                               MeterRegistry meterRegistry) {
+        this(entityTemplate.getDatabaseClient(), transactionalOperator, properties, meterRegistry);
+    }
+
+    ApplicationSummaryReconciliationJob(DatabaseClient databaseClient,
+                                        TransactionalOperator transactionalOperator,
+                                        ApplicationSummaryProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.reconcileInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Emits how many status and loan type counters had drifted and were corrected, or nothing when another instance
+     * is reconciling.
+     */
+    public Mono<Long> run() {
+        return transactionalOperator.transactional(databaseClient.sql(LOCK)
+                        .map((row, metadata) -> row.get(0, Boolean.class))
+                        .one()
+                        .filter(Boolean::booleanValue)
+                        .flatMap(acquired -> databaseClient.sql(RECONCILE)
+                                .fetch()
+                                .rowsUpdated()))
+                .doOnNext(corrected -> {
+                    meterRegistry.counter(DRIFT_METRIC).increment(corrected);
+                    if (corrected > 0) {
+                        log.warn("Corrected {} drifted application summary counters", corrected);
+                    } else {
+                        log.debug("Application summary counters are in sync");
+                    }
+                })
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.info("Skipped application summary reconciliation, another instance is running it")))
+                .onErrorResume(error -> {
+                    log.error("Application summary reconciliation failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
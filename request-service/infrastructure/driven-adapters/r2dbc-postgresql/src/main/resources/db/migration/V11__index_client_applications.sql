@@ -0,0 +1,3 @@
+-- A client's own listing walks this index newest first in (created_at, id) keyset batches, and the list version
+-- (latest change, count) is read from it alone since updated_at rides along in the leaf pages.
+CREATE INDEX IF NOT EXISTS idx_applications_user_created_at ON applications (id_user, created_at, id) INCLUDE (updated_at);
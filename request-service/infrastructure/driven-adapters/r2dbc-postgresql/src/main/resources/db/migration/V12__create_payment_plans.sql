@@ -0,0 +1,16 @@
+-- Amortization schedule of each approved application, written in the approval transaction so the decision
+-- notification only carries a summary and a link to it. Amounts are kept in cents and the schedule as parallel
+-- arrays, one element per month, so a plan is a single row however long the term is. There is no foreign key to
+-- applications: plans outlive the archival of their application.
+CREATE TABLE IF NOT EXISTS payment_plans (
+    id_application     UUID      PRIMARY KEY,
+    id_user            UUID      NOT NULL,
+    monthly_payment    BIGINT    NOT NULL,
+    total_interest     BIGINT    NOT NULL,
+    total_payment      BIGINT    NOT NULL,
+    payments           BIGINT[]  NOT NULL,
+    principals         BIGINT[]  NOT NULL,
+    interests          BIGINT[]  NOT NULL,
+    remaining_balances BIGINT[]  NOT NULL,
+    created_at         TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,21 @@
+-- Logical replication feed of committed status transitions, consumed by the postgres-cdc entry point to publish the
+-- reporting events. Updates are all it needs, and with REPLICA IDENTITY FULL each one carries the whole old row, so
+-- the feed compares the old and new id_status and skips updates that did not change it. Replica identity is per
+-- table: ensure_application_partitions sets it on every monthly partition it creates. Changes of the partitions are
+-- published as changes of applications itself. The server has to run with wal_level = logical for the slot to be
+-- created.
+ALTER TABLE applications REPLICA IDENTITY FULL;
+ALTER TABLE applications_default REPLICA IDENTITY FULL;
+
+CREATE PUBLICATION application_status_changes FOR TABLE applications
+    WITH (publish = 'update', publish_via_partition_root = true);
+
+-- Last commit position published by each feed, written in the same transaction as the outbox rows of its events so a
+-- batch replayed after a crash is recognised and skipped. changed_at is the latest updated_at among the changes it
+-- covers; when the slot is lost, approvals after it are republished from applications.approved_at.
+CREATE TABLE IF NOT EXISTS change_feed_checkpoints (
+    feed       VARCHAR(100) PRIMARY KEY,
+    lsn        BIGINT       NOT NULL,
+    changed_at TIMESTAMP,
+    updated_at TIMESTAMP    NOT NULL DEFAULT now()
+);
@@ -0,0 +1,57 @@
+-- Databases created by hand before migrations existed already have these tables, so every statement is idempotent
+-- and uniqueness is expressed as unique indexes, which IF NOT EXISTS can add to an existing table.
+
+CREATE TABLE IF NOT EXISTS status (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(255)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_status_name ON status (name);
+
+-- StatusReactiveRepository.findByNameIgnoreCase compares UPPER(name) = UPPER(:name).
+CREATE INDEX IF NOT EXISTS idx_status_upper_name ON status (upper(name));
+
+CREATE TABLE IF NOT EXISTS loan_types (
+    id                   UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name                 VARCHAR(100)     NOT NULL,
+    min_amount           DOUBLE PRECISION NOT NULL,
+    max_amount           DOUBLE PRECISION NOT NULL,
+    interest_rate        DOUBLE PRECISION NOT NULL,
+    automatic_validation BOOLEAN          NOT NULL DEFAULT FALSE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_loan_types_name ON loan_types (name);
+
+-- amount is DOUBLE PRECISION because the driver binds the domain's Double as float8: against a NUMERIC column the
+-- keyset predicate amount > :lastValue would cast the column and stop using the indexes below.
+CREATE TABLE IF NOT EXISTS applications (
+    id           UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    amount       DOUBLE PRECISION NOT NULL,
+    term         INTEGER          NOT NULL,
+    email        VARCHAR(255)     NOT NULL,
+    id_document  VARCHAR(20)      NOT NULL,
+    id_status    UUID             NOT NULL REFERENCES status (id),
+    id_loan_type UUID             NOT NULL REFERENCES loan_types (id),
+    id_user      UUID             NOT NULL,
+    created_at   TIMESTAMP        NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP
+);
+
+-- Advisor listing: id_status IN (...) ordered by one of ApplicationSortField plus id as tie-breaker, both for
+-- offset pages and for the keyset seek (value, id) > (:lastValue, :lastId). Also serves countByIdStatusIn.
+CREATE INDEX IF NOT EXISTS idx_applications_status_amount ON applications (id_status, amount, id);
+CREATE INDEX IF NOT EXISTS idx_applications_status_term ON applications (id_status, term, id);
+CREATE INDEX IF NOT EXISTS idx_applications_status_created_at ON applications (id_status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_applications_status_id ON applications (id_status, id);
+
+-- findByIdUserAndIdStatus and findActiveLoansByIdUser.
+CREATE INDEX IF NOT EXISTS idx_applications_user_status ON applications (id_user, id_status);
+
+INSERT INTO status (name, description) VALUES
+    ('Pending Review', 'Application waiting for the automatic or advisor decision'),
+    ('Manual Review', 'Application that needs an advisor to decide'),
+    ('Approved', 'Application approved'),
+    ('Rejected', 'Application rejected')
+ON CONFLICT (name) DO NOTHING;
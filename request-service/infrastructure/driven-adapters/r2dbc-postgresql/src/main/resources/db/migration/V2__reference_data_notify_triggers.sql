@@ -0,0 +1,14 @@
+CREATE OR REPLACE FUNCTION notify_reference_data_changed() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('reference_data_changed', TG_TABLE_NAME);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER status_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON status
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+CREATE OR REPLACE TRIGGER loan_types_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON loan_types
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
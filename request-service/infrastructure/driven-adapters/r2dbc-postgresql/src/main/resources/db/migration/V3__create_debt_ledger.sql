@@ -0,0 +1,42 @@
+CREATE TABLE IF NOT EXISTS debt_ledger (
+    id_user                   UUID PRIMARY KEY,
+    active_loans              INTEGER     NOT NULL DEFAULT 0,
+    outstanding_principal     NUMERIC     NOT NULL DEFAULT 0,
+    total_monthly_installment NUMERIC     NOT NULL DEFAULT 0,
+    updated_at                TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS debt_ledger_entries (
+    id_application      UUID PRIMARY KEY REFERENCES applications (id),
+    id_user             UUID    NOT NULL,
+    amount              NUMERIC NOT NULL,
+    term                INTEGER NOT NULL,
+    interest_rate       NUMERIC NOT NULL,
+    monthly_installment NUMERIC NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_debt_ledger_entries_id_user ON debt_ledger_entries (id_user);
+
+-- Backfill from the applications that are already approved. Mirrors DebtLedgerEntry.calculateMonthlyInstallment.
+INSERT INTO debt_ledger_entries (id_application, id_user, amount, term, interest_rate, monthly_installment)
+SELECT a.id, a.id_user, a.amount, a.term, lt.interest_rate,
+       CASE
+           WHEN lt.interest_rate <= 0 OR a.term <= 0 THEN a.amount / GREATEST(a.term, 1)
+           ELSE a.amount * (lt.interest_rate / 1200.0) * power(1 + lt.interest_rate / 1200.0, a.term)
+                    / (power(1 + lt.interest_rate / 1200.0, a.term) - 1)
+       END
+FROM applications a
+JOIN status s ON a.id_status = s.id
+JOIN loan_types lt ON a.id_loan_type = lt.id
+WHERE s.name = 'Approved'
+ON CONFLICT (id_application) DO NOTHING;
+
+INSERT INTO debt_ledger (id_user, active_loans, outstanding_principal, total_monthly_installment, updated_at)
+SELECT id_user, count(*), sum(amount), sum(monthly_installment), now()
+FROM debt_ledger_entries
+GROUP BY id_user
+ON CONFLICT (id_user) DO UPDATE SET
+    active_loans = EXCLUDED.active_loans,
+    outstanding_principal = EXCLUDED.outstanding_principal,
+    total_monthly_installment = EXCLUDED.total_monthly_installment,
+    updated_at = EXCLUDED.updated_at;
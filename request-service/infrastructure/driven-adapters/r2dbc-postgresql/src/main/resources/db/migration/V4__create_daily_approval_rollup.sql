@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS daily_approval_rollup (
+    business_date  DATE    NOT NULL,
+    id_loan_type   UUID    NOT NULL,
+    approved_count BIGINT  NOT NULL DEFAULT 0,
+    total_amount   NUMERIC NOT NULL DEFAULT 0,
+    PRIMARY KEY (business_date, id_loan_type)
+);
+
+-- Serves the backfill below and any ad-hoc aggregate over a window of approvals without touching the heap.
+CREATE INDEX IF NOT EXISTS idx_applications_status_approved_at
+    ON applications (id_status, approved_at) INCLUDE (amount, id_loan_type);
+
+-- Backfill from the applications that are already approved. The business day closes at 03:00,
+-- mirroring DailyApprovalRollup.businessDateOf.
+INSERT INTO daily_approval_rollup (business_date, id_loan_type, approved_count, total_amount)
+SELECT (a.approved_at - INTERVAL '3 hours')::date, a.id_loan_type, count(*), sum(a.amount)
+FROM applications a
+JOIN status s ON a.id_status = s.id
+WHERE s.name = 'Approved' AND a.approved_at IS NOT NULL
+GROUP BY (a.approved_at - INTERVAL '3 hours')::date, a.id_loan_type
+ON CONFLICT (business_date, id_loan_type) DO UPDATE SET
+    approved_count = EXCLUDED.approved_count,
+    total_amount = EXCLUDED.total_amount;
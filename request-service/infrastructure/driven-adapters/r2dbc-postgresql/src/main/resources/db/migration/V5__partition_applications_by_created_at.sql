@@ -0,0 +1,143 @@
+-- applications becomes range partitioned by month of created_at. created_at never changes after insert, so a
+-- status transition never moves a row between partitions (approved_at would, on every approval and retraction).
+-- A partitioned table can only enforce uniqueness that includes the partition key, so the primary key becomes
+-- (id, created_at) and every id ever issued is registered in application_ids with the created_at it was inserted
+-- with. The registry keeps ids unique across partitions and the archive, carries the debt ledger's foreign key, and
+-- lets a lookup by id find created_at first so only one partition is read. Rows stay when an application is
+-- archived: its id remains taken and its ledger entry keeps a parent.
+
+-- Creates the monthly partitions in [from_month, to_month). Rows already sitting in the default partition for a
+-- month are moved into a standalone table first and the table is then attached, since attaching a range the
+-- default partition still holds rows for is rejected.
+CREATE OR REPLACE FUNCTION ensure_application_partitions(from_month DATE, to_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    month_end   DATE;
+    part_name   TEXT;
+    created     INTEGER := 0;
+BEGIN
+    WHILE month_start < to_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        part_name := 'applications_p' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(part_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE applications INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part_name);
+            -- The change feed (V13) reads the old row of every update, which LIKE does not carry over.
+            EXECUTE format('ALTER TABLE %I REPLICA IDENTITY FULL', part_name);
+            EXECUTE format('WITH moved AS (DELETE FROM applications_default WHERE created_at >= %L AND created_at < %L '
+                               || 'RETURNING *) INSERT INTO %I SELECT * FROM moved', month_start, month_end, part_name);
+            EXECUTE format('ALTER TABLE applications ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           part_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops monthly partitions that end on or before the given date and no longer hold any row, which is what
+-- archival leaves behind once every application of that month is closed and moved out.
+CREATE OR REPLACE FUNCTION drop_empty_application_partitions(cutoff DATE) RETURNS INTEGER AS $$
+DECLARE
+    part_name TEXT;
+    is_empty  BOOLEAN;
+    dropped   INTEGER := 0;
+BEGIN
+    FOR part_name IN
+        SELECT c.relname FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'applications'::regclass AND c.relname ~ '^applications_p\d{4}_\d{2}$'
+    LOOP
+        IF (to_date(substring(part_name FROM 15), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff THEN
+            EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', part_name) INTO is_empty;
+            IF is_empty THEN
+                EXECUTE format('DROP TABLE %I', part_name);
+                dropped := dropped + 1;
+            END IF;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE debt_ledger_entries DROP CONSTRAINT IF EXISTS debt_ledger_entries_id_application_fkey;
+ALTER TABLE applications RENAME TO applications_unpartitioned;
+
+CREATE TABLE applications (
+    id           UUID             NOT NULL DEFAULT gen_random_uuid(),
+    amount       DOUBLE PRECISION NOT NULL,
+    term         INTEGER          NOT NULL,
+    email        VARCHAR(255)     NOT NULL,
+    id_document  VARCHAR(20)      NOT NULL,
+    id_status    UUID             NOT NULL REFERENCES status (id),
+    id_loan_type UUID             NOT NULL REFERENCES loan_types (id),
+    id_user      UUID             NOT NULL,
+    created_at   TIMESTAMP        NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE applications_default PARTITION OF applications DEFAULT;
+
+CREATE TABLE IF NOT EXISTS application_ids (
+    id         UUID PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- A second application with a registered id fails on application_ids_pkey whichever partition it lands in. Rows
+-- ensure_application_partitions moves out of the default partition go into a table that is not attached yet, so
+-- they are not registered twice.
+CREATE OR REPLACE FUNCTION register_application_id() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO application_ids (id, created_at) VALUES (NEW.id, NEW.created_at);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER applications_register_id
+    BEFORE INSERT ON applications
+    FOR EACH ROW EXECUTE FUNCTION register_application_id();
+
+INSERT INTO applications (id, amount, term, email, id_document, id_status, id_loan_type, id_user,
+                          created_at, updated_at, approved_at)
+SELECT id, amount, term, email, id_document, id_status, id_loan_type, id_user,
+       COALESCE(created_at, now()), updated_at, approved_at
+FROM applications_unpartitioned;
+
+SELECT ensure_application_partitions(
+        COALESCE((SELECT min(created_at) FROM applications_unpartitioned), now())::date,
+        (date_trunc('month', now()) + INTERVAL '4 months')::date);
+
+DROP TABLE applications_unpartitioned;
+
+ALTER TABLE debt_ledger_entries
+    ADD CONSTRAINT debt_ledger_entries_id_application_fkey
+    FOREIGN KEY (id_application) REFERENCES application_ids (id);
+
+-- Same indexes as before, now created on every partition. The archival job looks closed applications up by
+-- (id_status, updated_at).
+CREATE INDEX idx_applications_status_amount ON applications (id_status, amount, id);
+CREATE INDEX idx_applications_status_term ON applications (id_status, term, id);
+CREATE INDEX idx_applications_status_created_at ON applications (id_status, created_at, id);
+CREATE INDEX idx_applications_status_id ON applications (id_status, id);
+CREATE INDEX idx_applications_user_status ON applications (id_user, id_status);
+CREATE INDEX idx_applications_status_approved_at ON applications (id_status, approved_at) INCLUDE (amount, id_loan_type);
+CREATE INDEX idx_applications_status_updated_at ON applications (id_status, updated_at);
+
+CREATE TABLE IF NOT EXISTS applications_archive (
+    id           UUID PRIMARY KEY,
+    amount       DOUBLE PRECISION NOT NULL,
+    term         INTEGER          NOT NULL,
+    email        VARCHAR(255)     NOT NULL,
+    id_document  VARCHAR(20)      NOT NULL,
+    id_status    UUID             NOT NULL,
+    id_loan_type UUID             NOT NULL,
+    id_user      UUID             NOT NULL,
+    created_at   TIMESTAMP        NOT NULL,
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP,
+    archived_at  TIMESTAMP        NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_applications_archive_user ON applications_archive (id_user);
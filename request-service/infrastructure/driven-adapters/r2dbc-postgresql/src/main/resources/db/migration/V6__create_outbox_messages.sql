@@ -0,0 +1,19 @@
+-- Transactional outbox: use cases insert the SQS messages they emit in the same transaction as the state change,
+-- and OutboxRelay (sqs-sender) drains the table in batches. Claiming a row pushes available_at past a lease so other
+-- relays skip it while it is in flight. A delivered row is deleted; a row whose last allowed attempt fails is marked
+-- dead with dead_at and its error, is never claimed again, and waits for the outbox actuator endpoint to replay it
+-- (back to pending with its attempts reset) or purge it.
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id           BIGSERIAL PRIMARY KEY,
+    queue        VARCHAR(100) NOT NULL,
+    body         TEXT         NOT NULL,
+    attributes   JSONB        NOT NULL DEFAULT '{}',
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    available_at TIMESTAMP    NOT NULL DEFAULT now(),
+    last_error   TEXT,
+    dead_at      TIMESTAMP,
+    created_at   TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_available_at ON outbox_messages (available_at, id) WHERE dead_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_dead ON outbox_messages (queue, dead_at) WHERE dead_at IS NOT NULL;
@@ -0,0 +1,16 @@
+-- Idempotency-Key store for application registration. A row is reserved with a short lease while the registration
+-- runs and is completed in the registration transaction with the id of the registered application and the response
+-- it answered with, kept until the retention TTL; replays return that response instead of registering again. Keys
+-- are scoped per client document, and a reserved row whose lease ran out can be taken over by the next request.
+-- IdempotencyKeyPurgeJob deletes expired rows.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    scope           VARCHAR(50)  NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint     CHAR(64)     NOT NULL,
+    id_application  UUID,
+    response        JSONB,
+    expires_at      TIMESTAMP    NOT NULL,
+    PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,19 @@
+-- Intake records for asynchronous registration: the request body is stored as PENDING and the registration runs
+-- later in the background, leaving either the created application or the failure reason. ApplicationIntakeSweepJob
+-- fails intakes left unfinished by a crashed instance and deletes finished ones after the retention.
+CREATE TABLE IF NOT EXISTS application_intakes (
+    id             UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    id_document    VARCHAR(50)      NOT NULL,
+    amount         DOUBLE PRECISION NOT NULL,
+    term           INTEGER          NOT NULL,
+    id_loan_type   UUID             NOT NULL,
+    status         VARCHAR(20)      NOT NULL DEFAULT 'PENDING',
+    id_application UUID,
+    error          TEXT,
+    created_at     TIMESTAMP        NOT NULL DEFAULT now(),
+    updated_at     TIMESTAMP        NOT NULL DEFAULT now()
+);
+
+-- Serves both sweeps by status and age; the trailing id lets the per-intake transitions, which also check the
+-- status, resolve their row inside the same index when the planner picks it over the primary key.
+CREATE INDEX IF NOT EXISTS idx_application_intakes_status_updated_at ON application_intakes (status, updated_at, id);
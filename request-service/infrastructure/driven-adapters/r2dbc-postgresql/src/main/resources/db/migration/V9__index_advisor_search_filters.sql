@@ -0,0 +1,5 @@
+-- Advisor search filters that can be selective on their own. Amount and creation date ranges narrow the
+-- (id_status, <sort column>, id) indexes the listing already walks; an email or a rarely used loan type instead
+-- seeks straight to its few rows here, with the status in the key so it is not rechecked row by row.
+CREATE INDEX IF NOT EXISTS idx_applications_email_status ON applications (email, id_status);
+CREATE INDEX IF NOT EXISTS idx_applications_loan_type_status ON applications (id_loan_type, id_status, created_at);
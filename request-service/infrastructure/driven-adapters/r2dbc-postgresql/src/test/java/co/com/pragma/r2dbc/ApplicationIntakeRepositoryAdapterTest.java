@@ -0,0 +1,159 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationIntakeRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private ApplicationIntakeRepositoryAdapter repositoryAdapter;
+    private UUID idIntake;
+    private UUID idLoanType;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new ApplicationIntakeRepositoryAdapter(entityTemplate, new QueryMetrics(new SimpleMeterRegistry()));
+        lenient().when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        idIntake = UUID.randomUUID();
+        idLoanType = UUID.randomUUID();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRow(String sql) {
+        RowsFetchSpec<ApplicationIntake> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        when(row.get("id", UUID.class)).thenReturn(idIntake);
+        when(row.get("id_document", String.class)).thenReturn("77777777");
+        when(row.get("amount", Double.class)).thenReturn(10000.0);
+        when(row.get("term", Integer.class)).thenReturn(12);
+        when(row.get("id_loan_type", UUID.class)).thenReturn(idLoanType);
+        when(row.get("status", String.class)).thenReturn("PENDING");
+        when(row.get("id_application", UUID.class)).thenReturn(null);
+        when(row.get("error", String.class)).thenReturn(null);
+        when(row.get("created_at", LocalDateTime.class)).thenReturn(LocalDateTime.of(2025, 9, 15, 10, 0));
+        when(row.get("updated_at", LocalDateTime.class)).thenReturn(LocalDateTime.of(2025, 9, 15, 10, 0));
+        when(databaseClient.sql(sql)).thenReturn(executeSpec);
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, ApplicationIntake> mapping = invocation.getArgument(0);
+            when(rowsFetchSpec.one()).thenReturn(Mono.fromSupplier(() -> mapping.apply(row, mock(RowMetadata.class))));
+            return rowsFetchSpec;
+        });
+    }
+
+    @Test
+    @DisplayName("Should insert the intake and map the stored row")
+    void shouldSaveIntake() {
+        stubRow(ApplicationIntakeRepositoryAdapter.INSERT);
+
+        StepVerifier.create(repositoryAdapter.save(ApplicationIntake.builder()
+                        .idDocument("77777777")
+                        .amount(10000.0)
+                        .term(12)
+                        .idLoanType(idLoanType)
+                        .build()))
+                .expectNextMatches(intake -> intake.getId().equals(idIntake)
+                        && intake.getStatus() == IntakeStatus.PENDING
+                        && intake.getIdApplication() == null
+                        && intake.getCreatedAt().equals(LocalDateTime.of(2025, 9, 15, 10, 0)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("idDocument", "77777777");
+        verify(executeSpec).bind("amount", 10000.0);
+        verify(executeSpec).bind("term", 12);
+        verify(executeSpec).bind("idLoanType", idLoanType);
+    }
+
+    @Test
+    @DisplayName("Should find an intake by id")
+    void shouldFindIntakeById() {
+        stubRow(ApplicationIntakeRepositoryAdapter.FIND_BY_ID);
+
+        StepVerifier.create(repositoryAdapter.findById(idIntake))
+                .expectNextMatches(intake -> intake.getIdDocument().equals("77777777"))
+                .verifyComplete();
+
+        verify(executeSpec).bind("id", idIntake);
+    }
+
+    @Test
+    @DisplayName("Should claim the intake only when it was still pending")
+    void shouldMarkProcessing() {
+        when(databaseClient.sql(ApplicationIntakeRepositoryAdapter.MARK_PROCESSING)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+
+        StepVerifier.create(repositoryAdapter.markProcessing(idIntake))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.markProcessing(idIntake))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should record the created application on the intake")
+    void shouldMarkCompleted() {
+        UUID idApplication = UUID.randomUUID();
+        when(databaseClient.sql(ApplicationIntakeRepositoryAdapter.MARK_COMPLETED)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.markCompleted(idIntake, idApplication))
+                .verifyComplete();
+
+        verify(executeSpec).bind("idApplication", idApplication);
+        verify(executeSpec).bind("id", idIntake);
+    }
+
+    @Test
+    @DisplayName("Should record the failure reason on the intake")
+    void shouldMarkFailed() {
+        when(databaseClient.sql(ApplicationIntakeRepositoryAdapter.MARK_FAILED)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.markFailed(idIntake, "Amount out of range"))
+                .verifyComplete();
+
+        verify(executeSpec).bind("error", "Amount out of range");
+    }
+}
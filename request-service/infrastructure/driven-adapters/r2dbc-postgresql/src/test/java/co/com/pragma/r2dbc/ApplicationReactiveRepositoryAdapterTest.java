@@ -1,20 +1,32 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.pagination.CountMode;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import co.com.pragma.r2dbc.entity.ApplicationListVersionEntity;
+import co.com.pragma.r2dbc.entity.ApplicationTransitionEntity;
+import co.com.pragma.r2dbc.pagination.ApplicationSortField;
+import co.com.pragma.r2dbc.pagination.KeysetCursor;
+import co.com.pragma.r2dbc.mapper.ApplicationEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -22,8 +34,15 @@ import reactor.test.StepVerifier;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +55,13 @@ class ApplicationReactiveRepositoryAdapterTest {
     ApplicationReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    ApplicationEntityMapper mapper;
+
+    @Spy
+    QueryMetrics queryMetrics = new QueryMetrics(new SimpleMeterRegistry());
 
     private Application domain;
     private ApplicationEntity entity;
@@ -77,9 +102,9 @@ class ApplicationReactiveRepositoryAdapterTest {
     @Test
     @DisplayName("Should return saved application when save succeeds")
     void saveShouldReturnSavedApplication() {
-        when(mapper.map(domain, ApplicationEntity.class)).thenReturn(entity);
+        when(mapper.toData(domain)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.save(domain))
                 .expectNextMatches(app -> app.getId().equals(domain.getId()))
@@ -90,7 +115,7 @@ class ApplicationReactiveRepositoryAdapterTest {
     @DisplayName("Should propagate error when repository save fails")
     void saveShouldPropagateErrorWhenRepositoryFails() {
         RuntimeException error = new RuntimeException("DB error");
-        when(mapper.map(domain, ApplicationEntity.class)).thenReturn(entity);
+        when(mapper.toData(domain)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(Mono.error(error));
 
         StepVerifier.create(repositoryAdapter.save(domain))
@@ -104,8 +129,8 @@ class ApplicationReactiveRepositoryAdapterTest {
     void findByIdShouldReturnApplication() {
         UUID id = domain.getId();
 
-        when(repository.findById(id)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(repository.findRegisteredById(id)).thenReturn(Mono.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findById(id))
                 .expectNextMatches(app -> app.getId().equals(domain.getId()))
@@ -118,7 +143,7 @@ class ApplicationReactiveRepositoryAdapterTest {
         UUID id = UUID.randomUUID();
         RuntimeException error = new RuntimeException("DB find error");
 
-        when(repository.findById(id)).thenReturn(Mono.error(error));
+        when(repository.findRegisteredById(id)).thenReturn(Mono.error(error));
 
         StepVerifier.create(repositoryAdapter.findById(id))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException
@@ -126,22 +151,75 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("transitionStatus should guard on the expected statuses and return the previous state")
+    void transitionStatusShouldGuardOnExpectedStatuses() {
+        UUID previousStatusId = UUID.randomUUID();
+        LocalDateTime transitionedAt = LocalDateTime.now();
+        StatusTransition transition = StatusTransition.builder()
+                .applicationId(domain.getId())
+                .targetStatusId(domain.getIdStatus())
+                .expectedStatusIds(List.of(previousStatusId))
+                .transitionedAt(transitionedAt)
+                .approvedAt(transitionedAt)
+                .build();
+        ApplicationTransitionEntity row = ApplicationTransitionEntity.builder()
+                .id(domain.getId())
+                .amount(domain.getAmount())
+                .idStatus(domain.getIdStatus())
+                .idLoanType(domain.getIdLoanType())
+                .updatedAt(transitionedAt)
+                .approvedAt(transitionedAt)
+                .previousIdStatus(previousStatusId)
+                .build();
+
+        when(repository.transitionFromStatusIn(domain.getId(), List.of(previousStatusId), domain.getIdStatus(),
+                transitionedAt, transitionedAt)).thenReturn(Mono.just(row));
+        when(mapper.toEntity(row)).thenReturn(domain.toBuilder().approvedAt(transitionedAt).build());
+
+        StepVerifier.create(repositoryAdapter.transitionStatus(transition))
+                .expectNextMatches(result -> result.getApplication().getIdStatus().equals(domain.getIdStatus())
+                        && result.getApplication().getApprovedAt().equals(transitionedAt)
+                        && result.getPreviousStatusId().equals(previousStatusId)
+                        && result.getPreviousApprovedAt() == null)
+                .verifyComplete();
+
+        verify(repository, never()).transitionFromOtherStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("transitionStatus without expected statuses should only require a different current status")
+    void transitionStatusShouldRequireDifferentStatusWhenNoneExpected() {
+        LocalDateTime transitionedAt = LocalDateTime.now();
+        StatusTransition transition = StatusTransition.builder()
+                .applicationId(domain.getId())
+                .targetStatusId(domain.getIdStatus())
+                .transitionedAt(transitionedAt)
+                .build();
+
+        when(repository.transitionFromOtherStatus(domain.getId(), domain.getIdStatus(), transitionedAt, null))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(repositoryAdapter.transitionStatus(transition))
+                .verifyComplete();
+
+        verify(repository, never()).transitionFromStatusIn(any(), any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should find applications by status IDs with pagination")
-    void findByIdStatusInShouldReturnCustomPage() {
+    void searchShouldReturnCustomPage() {
         List<UUID> statusIds = List.of(UUID.randomUUID(), UUID.randomUUID());
         List<ApplicationEntity> entityList = List.of(entity);
         long totalCount = 1L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.fromIterable(entityList));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageable))
                 .expectNextMatches(customPage ->
                         customPage.getContent().size() == 1 &&
                                 customPage.getContent().getFirst().equals(domain) &&
@@ -153,18 +231,16 @@ class ApplicationReactiveRepositoryAdapterTest {
 
     @Test
     @DisplayName("Should handle empty results when finding applications by status IDs")
-    void findByIdStatusInShouldHandleEmptyResults() {
+    void searchShouldHandleEmptyResults() {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         long totalCount = 0L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.empty());
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageable))
                 .expectNextMatches(customPage ->
                         customPage.getContent().isEmpty() &&
                                 customPage.getTotalElements() == totalCount)
@@ -179,7 +255,7 @@ class ApplicationReactiveRepositoryAdapterTest {
 
         when(repository.findByIdUserAndIdStatus(userId, statusId))
                 .thenReturn(Flux.just(entity));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdUserAndIdStatus(userId, statusId))
                 .expectNextMatches(application ->
@@ -201,21 +277,33 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should find the applications approved after a given time")
+    void findApprovedAfterShouldReturnApplications() {
+        UUID approvedStatusId = UUID.randomUUID();
+        LocalDateTime approvedAfter = LocalDateTime.of(2025, 9, 15, 10, 0);
+
+        when(repository.findByIdStatusAndApprovedAtAfter(approvedStatusId, approvedAfter))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findApprovedAfter(approvedStatusId, approvedAfter))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should handle errors when counting applications by status IDs")
-    void findByIdStatusInShouldHandleCountError() {
+    void searchShouldHandleCountError() {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         RuntimeException error = new RuntimeException("Count error");
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.just(entity));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.error(error));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageable))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException
                         && throwable.getMessage().equals("Count error"))
                 .verify();
@@ -223,7 +311,7 @@ class ApplicationReactiveRepositoryAdapterTest {
 
     @Test
     @DisplayName("Should handle DESC sort direction correctly")
-    void findByIdStatusInShouldHandleDescSortDirection() {
+    void searchShouldHandleDescSortDirection() {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         List<ApplicationEntity> entityList = List.of(entity);
         long totalCount = 1L;
@@ -235,15 +323,13 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .sortDirection("desc")
                 .build();
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.DESC, customPageable.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.fromIterable(entityList));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageable))
                 .expectNextMatches(customPage ->
                         customPage.getContent().size() == 1 &&
                                 customPage.getTotalElements() == totalCount)
@@ -251,19 +337,17 @@ class ApplicationReactiveRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should propagate error when repository findByIdStatusIn fails")
-    void findByIdStatusInShouldPropagateRepositoryError() {
+    @DisplayName("Should propagate error when the search query fails")
+    void searchShouldPropagateRepositoryError() {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         RuntimeException error = new RuntimeException("DB find error");
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.error(error));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(0L));
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageable))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException
                         && throwable.getMessage().equals("DB find error"))
                 .verify();
@@ -287,28 +371,180 @@ class ApplicationReactiveRepositoryAdapterTest {
 
     @Test
     @DisplayName("Should correctly calculate hasNext and totalPages for multiple pages")
-    void findByIdStatusInMultiplePages() {
+    void searchMultiplePages() {
         List<UUID> statusIds = List.of(UUID.randomUUID(), UUID.randomUUID());
         List<ApplicationEntity> entityList = List.of(entity, entity, entity);
         long totalCount = 15L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
+        CustomPageable smallPage = CustomPageable.builder()
+                .page(0)
+                .size(2)
+                .sortBy("id")
+                .sortDirection("asc")
+                .build();
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.fromIterable(entityList));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
-
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
-                .expectNextMatches(customPage -> {
-                    int expectedTotalPages = (int) Math.ceil((double) totalCount / customPageable.getSize());
-                    return customPage.getContent().size() == 3 &&
-                            customPage.getTotalElements() == totalCount &&
-                            customPage.getTotalPages() == expectedTotalPages &&
-                            customPage.isHasNext() == (customPageable.getPage() < expectedTotalPages - 1);
-                })
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), smallPage))
+                .expectNextMatches(customPage ->
+                        customPage.getContent().size() == 2 &&
+                                customPage.getTotalElements() == totalCount &&
+                                customPage.getTotalPages() == 8 &&
+                                customPage.isHasNext() &&
+                                customPage.getNextCursor() != null &&
+                                !customPage.isTotalEstimated())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should seek after the cursor instead of using an offset")
+    void searchWithCursorShouldSeekAfterLastRow() {
+        List<UUID> statusIds = List.of(UUID.randomUUID());
+        String cursor = KeysetCursor.after(entity, ApplicationSortField.AMOUNT, Sort.Direction.ASC).encode();
+
+        CustomPageable cursorPage = CustomPageable.builder()
+                .page(3)
+                .size(10)
+                .sortBy("amount")
+                .sortDirection("asc")
+                .cursor(cursor)
+                .countMode(CountMode.NONE)
+                .build();
+
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), cursorPage))
+                .expectNextMatches(customPage ->
+                        customPage.getContent().size() == 1 &&
+                                customPage.getTotalElements() == -1 &&
+                                customPage.getTotalPages() == -1 &&
+                                customPage.isHasPrevious() &&
+                                !customPage.isHasNext() &&
+                                customPage.getNextCursor() == null)
+                .verifyComplete();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(entityTemplate).select(queryCaptor.capture(), eq(ApplicationEntity.class));
+        Query query = queryCaptor.getValue();
+        assertEquals(11, query.getLimit());
+        assertEquals(-1, query.getOffset());
+        assertTrue(query.getCriteria().isPresent());
+        assertTrue(query.getSort().getOrderFor("amount").isAscending());
+        assertTrue(query.getSort().getOrderFor("id").isAscending());
+        verify(repository, never()).countByIdStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("Should estimate a status only count from the planner's row estimate")
+    void searchEstimatedCountShouldUsePlannerEstimate() {
+        List<UUID> statusIds = List.of(UUID.randomUUID());
+
+        CustomPageable estimatedPage = CustomPageable.builder()
+                .page(0)
+                .size(10)
+                .sortBy("id")
+                .sortDirection("asc")
+                .countMode(CountMode.ESTIMATED)
+                .build();
+
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
+                .thenReturn(Flux.just(entity));
+        when(repository.explainCountByIdStatusIn(statusIds)).thenReturn(Flux.just(
+                "Append  (cost=0.29..1234.56 rows=42 width=4)",
+                "  ->  Index Only Scan using applications_p2025_09_id_status_id_idx on applications_p2025_09"));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), estimatedPage))
+                .expectNextMatches(customPage -> customPage.getTotalElements() == 42L
+                        && customPage.getTotalPages() == 5
+                        && customPage.isTotalEstimated())
+                .verifyComplete();
+
+        verify(repository, never()).countByIdStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("Should reject sort fields outside the whitelist")
+    void searchShouldRejectUnsupportedSortField() {
+        CustomPageable unsupported = CustomPageable.builder()
+                .page(0)
+                .size(10)
+                .sortBy("email")
+                .sortDirection("asc")
+                .build();
+
+        StepVerifier.create(repositoryAdapter.search(byStatus(List.of(UUID.randomUUID())), unsupported))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidPaginationException
+                        && throwable.getMessage().equals("Unsupported sort field: email"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for a different sort")
+    void searchShouldRejectMismatchedCursor() {
+        CustomPageable mismatched = CustomPageable.builder()
+                .page(0)
+                .size(10)
+                .sortBy("amount")
+                .sortDirection("desc")
+                .cursor(KeysetCursor.after(entity, ApplicationSortField.AMOUNT, Sort.Direction.ASC).encode())
+                .build();
+
+        StepVerifier.create(repositoryAdapter.search(byStatus(List.of(UUID.randomUUID())), mismatched))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidPaginationException
+                        && throwable.getMessage().equals("Cursor does not match the requested sort"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should combine every filter into the page query and count the filtered rows")
+    void searchWithFiltersShouldCountMatchingRows() {
+        ApplicationSearchCriteria criteria = ApplicationSearchCriteria.builder()
+                .statusIds(List.of(UUID.randomUUID()))
+                .loanTypeIds(List.of(UUID.randomUUID()))
+                .minAmount(1000.0)
+                .maxAmount(5000.0)
+                .createdFrom(LocalDateTime.of(2025, 9, 1, 0, 0))
+                .createdBefore(LocalDateTime.of(2025, 10, 1, 0, 0))
+                .email("test@example.com")
+                .build();
+        CustomPageable estimatedPage = CustomPageable.builder()
+                .page(0)
+                .size(10)
+                .sortBy("createdAt")
+                .sortDirection("desc")
+                .countMode(CountMode.ESTIMATED)
+                .build();
+
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
+                .thenReturn(Flux.just(entity));
+        when(entityTemplate.count(any(Query.class), eq(ApplicationEntity.class))).thenReturn(Mono.just(1L));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.search(criteria, estimatedPage))
+                .expectNextMatches(customPage -> customPage.getContent().size() == 1 && customPage.getTotalElements() == 1L
+                        && !customPage.isTotalEstimated())
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.search(criteria, estimatedPage))
+                .expectNextCount(1)
                 .verifyComplete();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(entityTemplate, times(2)).select(queryCaptor.capture(), eq(ApplicationEntity.class));
+        String where = queryCaptor.getValue().getCriteria().orElseThrow().toString();
+        for (String column : List.of("idStatus", "idLoanType", "amount >=", "amount <=", "createdAt >=",
+                "createdAt <", "email =")) {
+            assertTrue(where.contains(column), column + " missing from " + where);
+        }
+        assertTrue(queryCaptor.getValue().getSort().getOrderFor("createdAt").isDescending());
+        verify(entityTemplate, times(2)).count(any(Query.class), eq(ApplicationEntity.class));
+        verify(repository, never()).countByIdStatusIn(any());
+        verify(repository, never()).explainCountByIdStatusIn(any());
     }
 
     @Test
@@ -318,7 +554,7 @@ class ApplicationReactiveRepositoryAdapterTest {
 
         when(repository.findActiveLoansByIdUser(userId))
                 .thenReturn(Flux.just(entity));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findActiveLoansByIdUser(userId))
                 .expectNextMatches(application -> application.getId().equals(domain.getId()))
@@ -354,56 +590,70 @@ class ApplicationReactiveRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should find applications by status and approved date range")
-    void findByStatusAndApprovedDateBetweenShouldReturnApplications() {
-        UUID statusId = UUID.randomUUID();
-        LocalDateTime start = LocalDateTime.now().minusDays(30);
-        LocalDateTime end = LocalDateTime.now();
-
-        when(repository.findByStatusAndApprovedDateBetween(statusId, start, end))
+    @DisplayName("Should stream a client's applications in keyset batches until a batch comes back short")
+    void findByIdUserShouldSeekPastEachFullBatch() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        List<ApplicationEntity> firstBatch = IntStream.range(0, ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE)
+                .mapToObj(i -> ApplicationEntity.builder()
+                        .id(UUID.randomUUID())
+                        .idUser(userId)
+                        .createdAt(createdAt.minusMinutes(i))
+                        .build())
+                .toList();
+        ApplicationEntity last = firstBatch.getLast();
+        when(repository.findPageByIdUser(userId, ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE))
+                .thenReturn(Flux.fromIterable(firstBatch));
+        when(repository.findPageByIdUserBefore(userId, last.getCreatedAt(), last.getId(),
+                ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE))
                 .thenReturn(Flux.just(entity));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(any(ApplicationEntity.class))).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByStatusAndApprovedDateBetween(statusId, start, end))
-                .expectNextMatches(application -> application.getId().equals(domain.getId()))
+        StepVerifier.create(repositoryAdapter.findByIdUser(userId))
+                .expectNextCount(ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE + 1L)
                 .verifyComplete();
+
+        verify(repository, times(1)).findPageByIdUserBefore(any(), any(), any(), eq(
+                ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE));
     }
 
     @Test
-    @DisplayName("Should handle empty results when finding applications by status and approved date range")
-    void findByStatusAndApprovedDateBetweenShouldHandleEmptyResults() {
-        UUID statusId = UUID.randomUUID();
-        LocalDateTime start = LocalDateTime.now().minusDays(30);
-        LocalDateTime end = LocalDateTime.now();
-
-        when(repository.findByStatusAndApprovedDateBetween(statusId, start, end))
-                .thenReturn(Flux.empty());
+    @DisplayName("Should not seek further when the first batch of a client's applications is not full")
+    void findByIdUserShouldStopAfterShortBatch() {
+        UUID userId = UUID.randomUUID();
+        when(repository.findPageByIdUser(userId, ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByStatusAndApprovedDateBetween(statusId, start, end))
-                .expectNextCount(0)
+        StepVerifier.create(repositoryAdapter.findByIdUser(userId))
+                .expectNext(domain)
                 .verifyComplete();
+
+        verify(repository, never()).findPageByIdUserBefore(any(), any(), any(), eq(
+                ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE));
     }
 
     @Test
-    @DisplayName("Should propagate error when repository findByStatusAndApprovedDateBetween fails")
-    void findByStatusAndApprovedDateBetweenShouldPropagateRepositoryError() {
-        UUID statusId = UUID.randomUUID();
-        LocalDateTime start = LocalDateTime.now().minusDays(30);
-        LocalDateTime end = LocalDateTime.now();
-        RuntimeException error = new RuntimeException("DB dateRange error");
-
-        when(repository.findByStatusAndApprovedDateBetween(statusId, start, end))
-                .thenReturn(Flux.error(error));
-
-        StepVerifier.create(repositoryAdapter.findByStatusAndApprovedDateBetween(statusId, start, end))
-                .expectErrorMatches(throwable -> throwable instanceof RuntimeException
-                        && throwable.getMessage().equals("DB dateRange error"))
-                .verify();
+    @DisplayName("Should map a client's list version, treating an empty list as zero applications")
+    void findListVersionByIdUserShouldMapRow() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime changedAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(repository.findListVersionByIdUser(userId))
+                .thenReturn(Mono.just(new ApplicationListVersionEntity(changedAt, 3L)),
+                        Mono.just(new ApplicationListVersionEntity(null, null)));
+
+        StepVerifier.create(repositoryAdapter.findListVersionByIdUser(userId))
+                .expectNextMatches(version -> changedAt.equals(version.getLatestChangeAt())
+                        && version.getApplicationCount() == 3L)
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.findListVersionByIdUser(userId))
+                .expectNextMatches(version -> version.getLatestChangeAt() == null && version.getApplicationCount() == 0L)
+                .verifyComplete();
     }
 
     @Test
     @DisplayName("Should correctly set hasPrevious when current page is greater than 0")
-    void findByIdStatusInShouldSetHasPreviousTrue() {
+    void searchShouldSetHasPreviousTrue() {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         List<ApplicationEntity> entityList = List.of(entity);
         long totalCount = 10L;
@@ -415,17 +665,115 @@ class ApplicationReactiveRepositoryAdapterTest {
                 .sortDirection("asc")
                 .build();
 
-        Pageable pageable = PageRequest.of(customPageableWithPage.getPage(), customPageableWithPage.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageableWithPage.getSortBy()));
 
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
+        when(entityTemplate.select(any(Query.class), eq(ApplicationEntity.class)))
                 .thenReturn(Flux.fromIterable(entityList));
         when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
-        when(mapper.map(entity, Application.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
-        StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageableWithPage))
+        StepVerifier.create(repositoryAdapter.search(byStatus(statusIds), customPageableWithPage))
                 .expectNextMatches(CustomPage::isHasPrevious)
                 .verifyComplete();
     }
 
+
+    @Test
+    @DisplayName("Should insert every application in one statement with a column array each")
+    void saveAllShouldInsertColumnArrays() {
+        when(repository.insertAll(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(domain)))
+                .expectNextMatches(application -> application.getId().equals(domain.getId()))
+                .verifyComplete();
+
+        verify(repository).insertAll(new UUID[]{domain.getId()}, new Double[]{20000.0}, new Integer[]{12},
+                new String[]{"test@example.com"}, new String[]{"99999999"}, new UUID[]{domain.getIdStatus()},
+                new UUID[]{domain.getIdLoanType()}, new UUID[]{domain.getIdUser()});
+    }
+
+    @Test
+    @DisplayName("Should not run a statement when there is nothing to insert")
+    void saveAllShouldSkipEmptyList() {
+        StepVerifier.create(repositoryAdapter.saveAll(List.of()))
+                .verifyComplete();
+
+        verify(repository, never()).insertAll(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("transitionStatuses should move every application with one statement guarded on the expected statuses")
+    void transitionStatusesShouldGuardOnExpectedStatuses() {
+        UUID previousStatusId = UUID.randomUUID();
+        LocalDateTime transitionedAt = LocalDateTime.now();
+        StatusTransition transition = StatusTransition.builder()
+                .targetStatusId(domain.getIdStatus())
+                .expectedStatusIds(List.of(previousStatusId))
+                .transitionedAt(transitionedAt)
+                .build();
+        ApplicationTransitionEntity row = ApplicationTransitionEntity.builder()
+                .id(domain.getId())
+                .idStatus(domain.getIdStatus())
+                .previousIdStatus(previousStatusId)
+                .build();
+        UUID missing = UUID.randomUUID();
+
+        when(repository.transitionAllFromStatusIn(new UUID[]{domain.getId(), missing}, List.of(previousStatusId),
+                domain.getIdStatus(), transitionedAt, null)).thenReturn(Flux.just(row));
+        when(mapper.toEntity(row)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.transitionStatuses(List.of(domain.getId(), missing), transition))
+                .expectNextMatches(result -> result.getApplication().getId().equals(domain.getId())
+                        && result.getPreviousStatusId().equals(previousStatusId))
+                .verifyComplete();
+
+        verify(repository, never()).transitionAllFromOtherStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("transitionStatuses without expected statuses should only require a different current status")
+    void transitionStatusesShouldRequireDifferentStatusWhenNoneExpected() {
+        LocalDateTime transitionedAt = LocalDateTime.now();
+        StatusTransition transition = StatusTransition.builder()
+                .targetStatusId(domain.getIdStatus())
+                .transitionedAt(transitionedAt)
+                .approvedAt(transitionedAt)
+                .build();
+
+        when(repository.transitionAllFromOtherStatus(new UUID[]{domain.getId()}, domain.getIdStatus(),
+                transitionedAt, transitionedAt)).thenReturn(Flux.empty());
+
+        StepVerifier.create(repositoryAdapter.transitionStatuses(List.of(domain.getId()), transition))
+                .verifyComplete();
+
+        verify(repository, never()).transitionAllFromStatusIn(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not run a statement when there are no applications to transition or find")
+    void bulkOperationsShouldSkipEmptyLists() {
+        StepVerifier.create(repositoryAdapter.transitionStatuses(List.of(), StatusTransition.builder().build()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.findAllById(List.of()))
+                .verifyComplete();
+
+        verify(repository, never()).transitionAllFromOtherStatus(any(), any(), any(), any());
+        verify(repository, never()).findAllRegisteredById(any());
+    }
+
+    @Test
+    @DisplayName("findAllById should load every application with one query")
+    void findAllByIdShouldReturnApplications() {
+        when(repository.findAllRegisteredById(new UUID[]{domain.getId()})).thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findAllById(List.of(domain.getId())))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
+    private static ApplicationSearchCriteria byStatus(List<UUID> statusIds) {
+        return ApplicationSearchCriteria.builder().statusIds(statusIds).build();
+    }
 }
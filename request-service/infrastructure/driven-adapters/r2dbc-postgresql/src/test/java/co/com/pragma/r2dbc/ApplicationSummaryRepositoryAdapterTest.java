@@ -0,0 +1,149 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationSummaryRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private ApplicationSummaryRepositoryAdapter repositoryAdapter;
+    private Application application;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new ApplicationSummaryRepositoryAdapter(entityTemplate,
+                new QueryMetrics(new SimpleMeterRegistry()));
+        application = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(5000.0)
+                .idStatus(UUID.randomUUID())
+                .idLoanType(UUID.randomUUID())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should add a batch of registrations to one slot of their status and loan type counters")
+    void shouldRecordRegistrations() {
+        Application other = application.toBuilder().id(UUID.randomUUID()).amount(1000.0).build();
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(ApplicationSummaryRepositoryAdapter.RECORD_REGISTRATIONS)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.recordRegistrations(List.of(application, other)))
+                .verifyComplete();
+
+        ArgumentCaptor<Object> slot = ArgumentCaptor.forClass(Object.class);
+        verify(executeSpec).bind(eq("slot"), slot.capture());
+        short picked = (Short) slot.getValue();
+        assertTrue(picked >= 0 && picked < ApplicationSummaryRepositoryAdapter.SLOTS);
+        verify(executeSpec).bind("idStatuses", new UUID[]{application.getIdStatus(), application.getIdStatus()});
+        verify(executeSpec).bind("idLoanTypes", new UUID[]{application.getIdLoanType(), application.getIdLoanType()});
+        verify(executeSpec).bind("amounts", new Double[]{5000.0, 1000.0});
+    }
+
+    @Test
+    @DisplayName("Should move each transitioned application from its previous status counter to the new one")
+    void shouldRecordTransitions() {
+        UUID previousStatus = UUID.randomUUID();
+        TransitionedApplication transitioned = TransitionedApplication.builder()
+                .application(application)
+                .previousStatusId(previousStatus)
+                .build();
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(ApplicationSummaryRepositoryAdapter.RECORD_TRANSITIONS)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repositoryAdapter.recordTransitions(List.of(transitioned)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("previousStatuses", new UUID[]{previousStatus});
+        verify(executeSpec).bind("idStatuses", new UUID[]{application.getIdStatus()});
+        verify(executeSpec).bind("idLoanTypes", new UUID[]{application.getIdLoanType()});
+        verify(executeSpec).bind("amounts", new Double[]{5000.0});
+    }
+
+    @Test
+    @DisplayName("Should skip empty batches without touching the database")
+    void shouldSkipEmptyBatches() {
+        StepVerifier.create(repositoryAdapter.recordRegistrations(List.of()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.recordTransitions(List.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(entityTemplate);
+    }
+
+    @Test
+    @DisplayName("Should read the counters with their slots added up")
+    @SuppressWarnings("unchecked")
+    void shouldFindAll() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(ApplicationSummaryRepositoryAdapter.FIND_ALL)).thenReturn(executeSpec);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+
+        Row row = mock(Row.class);
+        when(row.get("id_status", UUID.class)).thenReturn(application.getIdStatus());
+        when(row.get("id_loan_type", UUID.class)).thenReturn(application.getIdLoanType());
+        when(row.get("application_count", Long.class)).thenReturn(3L);
+        when(row.get("total_amount", Double.class)).thenReturn(7500.0);
+        when(rowsFetchSpec.all()).thenReturn(Flux.defer(() -> Flux.just(mapping.get().apply(row, mock(RowMetadata.class)))));
+
+        StepVerifier.create(repositoryAdapter.findAll())
+                .expectNextMatches(summary -> summary.getIdStatus().equals(application.getIdStatus())
+                        && summary.getIdLoanType().equals(application.getIdLoanType())
+                        && summary.getApplicationCount() == 3L
+                        && summary.getTotalAmount() == 7500.0)
+                .verifyComplete();
+    }
+}
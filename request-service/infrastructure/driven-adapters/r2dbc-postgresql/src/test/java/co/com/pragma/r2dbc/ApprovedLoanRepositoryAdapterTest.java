@@ -0,0 +1,90 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.portfolio.ApprovedLoan;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.routing.ConnectionRoute;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovedLoanRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private ApprovedLoanRepositoryAdapter repositoryAdapter;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new ApprovedLoanRepositoryAdapter(entityTemplate, new QueryMetrics(new SimpleMeterRegistry()));
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(ApprovedLoanRepositoryAdapter.STREAM_APPROVED)).thenReturn(executeSpec);
+    }
+
+    @Test
+    @DisplayName("Should stream approved loans from the replica through a fetch-size cursor")
+    @SuppressWarnings("unchecked")
+    void shouldStreamApprovedLoans() {
+        UUID approvedStatusId = UUID.randomUUID();
+        LocalDateTime approvedAt = LocalDateTime.of(2025, 9, 15, 10, 0);
+        RowsFetchSpec<ApprovedLoan> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        when(row.get("amount", Double.class)).thenReturn(15000.0);
+        when(row.get("interest_rate", Double.class)).thenReturn(18.5);
+        when(row.get("term", Integer.class)).thenReturn(24);
+        when(row.get("approved_at", LocalDateTime.class)).thenReturn(approvedAt);
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, ApprovedLoan> mapping = invocation.getArgument(0);
+            when(rowsFetchSpec.all()).thenReturn(Flux.deferContextual(context ->
+                    context.getOrDefault(ConnectionRoute.class, ConnectionRoute.PRIMARY) == ConnectionRoute.REPLICA
+                            ? Flux.just(mapping.apply(row, mock(RowMetadata.class)))
+                            : Flux.error(new IllegalStateException("Projection read routed to the primary"))));
+            return rowsFetchSpec;
+        });
+
+        StepVerifier.create(repositoryAdapter.streamApproved(approvedStatusId))
+                .expectNextMatches(loan -> loan.getAmount() == 15000.0
+                        && loan.getAnnualInterestRate() == 18.5
+                        && loan.getTerm() == 24
+                        && loan.getApprovedAt().equals(approvedAt))
+                .verifyComplete();
+
+        verify(executeSpec).bind("idStatus", approvedStatusId);
+        ArgumentCaptor<Function<Statement, Statement>> filter = ArgumentCaptor.forClass(Function.class);
+        verify(executeSpec).filter(filter.capture());
+        Statement statement = mock(Statement.class);
+        assertSame(statement, filter.getValue().apply(statement));
+        verify(statement).fetchSize(ApprovedLoanRepositoryAdapter.FETCH_SIZE);
+    }
+}
@@ -0,0 +1,128 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedCheckpointRepositoryAdapterTest {
+
+    private static final String FEED = "application_status_changes";
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 9, 15, 10, 0);
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private ChangeFeedCheckpointRepositoryAdapter repositoryAdapter;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new ChangeFeedCheckpointRepositoryAdapter(entityTemplate,
+                new QueryMetrics(new SimpleMeterRegistry()));
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Should read the stored commit position of the feed")
+    @SuppressWarnings("unchecked")
+    void shouldFindLsn() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(ChangeFeedCheckpointRepositoryAdapter.FIND_LSN)).thenReturn(executeSpec);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+        Row row = mock(Row.class);
+        when(row.get("lsn", Long.class)).thenReturn(42L);
+        when(rowsFetchSpec.one()).thenReturn(Mono.defer(() -> Mono.just(mapping.get().apply(row, mock(RowMetadata.class)))));
+
+        StepVerifier.create(repositoryAdapter.findLsn(FEED))
+                .expectNext(42L)
+                .verifyComplete();
+
+        verify(executeSpec).bind("feed", FEED);
+    }
+
+    @Test
+    @DisplayName("Should upsert the commit position without moving it back")
+    void shouldSaveLsn() {
+        when(databaseClient.sql(ChangeFeedCheckpointRepositoryAdapter.SAVE_LSN)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.saveLsn(FEED, 42L, CHANGED_AT))
+                .verifyComplete();
+
+        verify(executeSpec).bind("feed", FEED);
+        verify(executeSpec).bind("lsn", 42L);
+        verify(executeSpec).bind("changedAt", CHANGED_AT);
+    }
+
+    @Test
+    @DisplayName("Should keep the stored change time when a batch carries none")
+    void shouldSaveLsnWithoutChangeTime() {
+        when(databaseClient.sql(ChangeFeedCheckpointRepositoryAdapter.SAVE_LSN)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.saveLsn(FEED, 42L, null))
+                .verifyComplete();
+
+        verify(executeSpec).bindNull("changedAt", LocalDateTime.class);
+    }
+
+    @Test
+    @DisplayName("Should read the time of the last change the checkpoint covers")
+    @SuppressWarnings("unchecked")
+    void shouldFindChangedAt() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(ChangeFeedCheckpointRepositoryAdapter.FIND_CHANGED_AT)).thenReturn(executeSpec);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+        Row row = mock(Row.class);
+        when(row.get("changed_at", LocalDateTime.class)).thenReturn(CHANGED_AT);
+        when(rowsFetchSpec.one()).thenReturn(Mono.defer(() -> Mono.just(mapping.get().apply(row, mock(RowMetadata.class)))));
+
+        StepVerifier.create(repositoryAdapter.findChangedAt(FEED))
+                .expectNext(CHANGED_AT)
+                .verifyComplete();
+
+        verify(executeSpec).bind("feed", FEED);
+    }
+}
@@ -0,0 +1,219 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.r2dbc.entity.DailyApprovalRollupEntity;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import co.com.pragma.r2dbc.mapper.DailyApprovalRollupEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyApprovalRollupRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    @Mock
+    DailyApprovalRollupEntityMapper mapper;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private DailyApprovalRollupRepositoryAdapter repositoryAdapter;
+    private Application application;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new DailyApprovalRollupRepositoryAdapter(entityTemplate, mapper,
+                new QueryMetrics(new SimpleMeterRegistry()));
+        application = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(5000.0)
+                .idLoanType(UUID.randomUUID())
+                .approvedAt(LocalDateTime.of(2025, 9, 11, 1, 30))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should upsert the approval into its business day")
+    void shouldRecordApproval() {
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(DailyApprovalRollupRepositoryAdapter.RECORD_APPROVAL)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.recordApproval(application))
+                .verifyComplete();
+
+        verify(executeSpec).bind("businessDate", LocalDate.of(2025, 9, 10));
+        verify(executeSpec).bind("idLoanType", application.getIdLoanType());
+        verify(executeSpec).bind("amount", 5000.0);
+    }
+
+    @Test
+    @DisplayName("Should retract the previous approval from its business day")
+    void shouldRetractApproval() {
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(DailyApprovalRollupRepositoryAdapter.RETRACT_APPROVAL)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.retractApproval(application))
+                .verifyComplete();
+
+        verify(executeSpec).bind("businessDate", LocalDate.of(2025, 9, 10));
+        verify(executeSpec).bind("idLoanType", application.getIdLoanType());
+        verify(executeSpec).bind("amount", application.getAmount());
+    }
+
+    @Test
+    @DisplayName("Should skip the retraction when the application was never approved")
+    void shouldSkipRetractionWithoutApprovalDate() {
+        application.setApprovedAt(null);
+
+        StepVerifier.create(repositoryAdapter.retractApproval(application))
+                .verifyComplete();
+
+        verifyNoInteractions(entityTemplate);
+    }
+
+    @Test
+    @DisplayName("Should summarize the range with a single aggregate row")
+    @SuppressWarnings("unchecked")
+    void shouldSummarizeRange() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 30);
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(DailyApprovalRollupRepositoryAdapter.SUMMARIZE)).thenReturn(executeSpec);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+
+        Row row = mock(Row.class);
+        when(row.get("approved_count", Long.class)).thenReturn(4L);
+        when(row.get("total_amount", Double.class)).thenReturn(12000.5);
+        when(rowsFetchSpec.one()).thenReturn(Mono.fromSupplier(() -> mapping.get().apply(row, mock(RowMetadata.class))));
+
+        StepVerifier.create(repositoryAdapter.summarize(from, to))
+                .expectNextMatches(report -> report.getApprovedLoansCount() == 4L
+                        && report.getTotalLoanAmount() == 12000.5)
+                .verifyComplete();
+
+        verify(executeSpec).bind("from", from);
+        verify(executeSpec).bind("to", to);
+    }
+
+    @Test
+    @DisplayName("Should read the rollup rows of the range ordered by day")
+    void shouldFindRowsBetweenDates() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 2);
+        DailyApprovalRollupEntity entity = DailyApprovalRollupEntity.builder()
+                .businessDate(from).idLoanType(application.getIdLoanType()).approvedCount(2L).totalAmount(10.0)
+                .build();
+        DailyApprovalRollup domain = DailyApprovalRollup.builder()
+                .businessDate(from).idLoanType(application.getIdLoanType()).approvedCount(2L).totalAmount(10.0)
+                .build();
+        when(entityTemplate.select(any(Query.class), eq(DailyApprovalRollupEntity.class))).thenReturn(Flux.just(entity));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findByBusinessDateBetween(from, to))
+                .expectNext(domain)
+                .verifyComplete();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(entityTemplate).select(query.capture(), eq(DailyApprovalRollupEntity.class));
+        assertTrue(query.getValue().getCriteria().isPresent());
+        assertEquals(2, query.getValue().getSort().stream().count());
+    }
+
+    @Test
+    @DisplayName("Should upsert a batch of approvals with one statement grouped by business day and loan type")
+    void shouldRecordApprovals() {
+        Application other = application.toBuilder()
+                .amount(1000.0)
+                .approvedAt(LocalDateTime.of(2025, 9, 11, 9, 0))
+                .build();
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(DailyApprovalRollupRepositoryAdapter.RECORD_APPROVALS)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repositoryAdapter.recordApprovals(List.of(application, other)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("businessDates", new LocalDate[]{LocalDate.of(2025, 9, 10), LocalDate.of(2025, 9, 11)});
+        verify(executeSpec).bind("idLoanTypes", new UUID[]{application.getIdLoanType(), application.getIdLoanType()});
+        verify(executeSpec).bind("amounts", new Double[]{5000.0, 1000.0});
+    }
+
+    @Test
+    @DisplayName("Should retract only the previously approved applications of a batch")
+    void shouldRetractApprovals() {
+        Application neverApproved = application.toBuilder().approvedAt(null).build();
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(DailyApprovalRollupRepositoryAdapter.RETRACT_APPROVALS)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.retractApprovals(List.of(application, neverApproved)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("businessDates", new LocalDate[]{LocalDate.of(2025, 9, 10)});
+        verify(executeSpec).bind("amounts", new Double[]{5000.0});
+    }
+
+    @Test
+    @DisplayName("Should skip batches without approvals to record or retract")
+    void shouldSkipEmptyBatches() {
+        StepVerifier.create(repositoryAdapter.recordApprovals(List.of()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.retractApprovals(List.of(application.toBuilder().approvedAt(null).build())))
+                .verifyComplete();
+
+        verifyNoInteractions(entityTemplate);
+    }
+}
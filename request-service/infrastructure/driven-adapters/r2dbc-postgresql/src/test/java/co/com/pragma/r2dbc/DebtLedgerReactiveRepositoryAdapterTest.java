@@ -0,0 +1,177 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntity;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntryEntity;
+import co.com.pragma.r2dbc.mapper.DebtLedgerEntityMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DebtLedgerReactiveRepositoryAdapterTest {
+
+    @Mock
+    DebtLedgerReactiveRepository repository;
+
+    @Mock
+    DebtLedgerEntryReactiveRepository entryRepository;
+
+    @Mock
+    DebtLedgerEntityMapper mapper;
+
+    private DebtLedgerReactiveRepositoryAdapter repositoryAdapter;
+    private DebtLedgerEntry entry;
+
+    @BeforeEach
+    void setup() {
+        repositoryAdapter = new DebtLedgerReactiveRepositoryAdapter(repository, entryRepository, mapper);
+        entry = DebtLedgerEntry.builder()
+                .idApplication(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .amount(10000.0)
+                .term(12)
+                .interestRate(12.0)
+                .monthlyInstallment(888.49)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should record an approval with a single upsert statement")
+    void shouldRecordApproval() {
+        when(repository.recordApproval(entry.getIdApplication(), entry.getIdUser(), 10000.0, 12, 12.0, 888.49))
+                .thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.recordApproval(entry))
+                .verifyComplete();
+
+        verify(repository).recordApproval(entry.getIdApplication(), entry.getIdUser(), 10000.0, 12, 12.0, 888.49);
+    }
+
+    @Test
+    @DisplayName("Should complete when the approval was already recorded")
+    void shouldIgnoreRepeatedApproval() {
+        when(repository.recordApproval(entry.getIdApplication(), entry.getIdUser(), 10000.0, 12, 12.0, 888.49))
+                .thenReturn(Mono.just(0L));
+
+        StepVerifier.create(repositoryAdapter.recordApproval(entry))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should record a release by application id")
+    void shouldRecordRelease() {
+        when(repository.recordRelease(entry.getIdApplication())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.recordRelease(entry.getIdApplication()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should propagate error when release fails")
+    void shouldPropagateReleaseError() {
+        when(repository.recordRelease(entry.getIdApplication()))
+                .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        StepVerifier.create(repositoryAdapter.recordRelease(entry.getIdApplication()))
+                .expectErrorMessage("DB error")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should find ledgers for a set of users by primary key")
+    void shouldFindByIdUserIn() {
+        DebtLedgerEntity ledgerEntity = new DebtLedgerEntity(entry.getIdUser(), 1, 10000.0, 888.49, LocalDateTime.now());
+        DebtLedger ledger = DebtLedger.builder()
+                .idUser(entry.getIdUser())
+                .activeLoans(1)
+                .outstandingPrincipal(10000.0)
+                .totalMonthlyInstallment(888.49)
+                .build();
+        List<UUID> userIds = List.of(entry.getIdUser(), UUID.randomUUID());
+
+        when(repository.findAllById(userIds)).thenReturn(Flux.just(ledgerEntity));
+        when(mapper.toEntity(ledgerEntity)).thenReturn(ledger);
+
+        StepVerifier.create(repositoryAdapter.findByIdUserIn(userIds))
+                .expectNext(ledger)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should find the active loan entries of a user")
+    void shouldFindEntriesByIdUser() {
+        DebtLedgerEntryEntity entryEntity = new DebtLedgerEntryEntity(entry.getIdApplication(), entry.getIdUser(),
+                10000.0, 12, 12.0, 888.49);
+
+        when(entryRepository.findByIdUser(entry.getIdUser())).thenReturn(Flux.just(entryEntity));
+        when(mapper.toEntry(entryEntity)).thenReturn(entry);
+
+        StepVerifier.create(repositoryAdapter.findEntriesByIdUser(entry.getIdUser()))
+                .expectNext(entry)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should find the active loan entries of several users in one query")
+    void shouldFindEntriesByIdUserIn() {
+        DebtLedgerEntryEntity entryEntity = new DebtLedgerEntryEntity(entry.getIdApplication(), entry.getIdUser(),
+                10000.0, 12, 12.0, 888.49);
+        List<UUID> userIds = List.of(entry.getIdUser(), UUID.randomUUID());
+        when(entryRepository.findByIdUserIn(userIds)).thenReturn(Flux.just(entryEntity));
+        when(mapper.toEntry(entryEntity)).thenReturn(entry);
+
+        StepVerifier.create(repositoryAdapter.findEntriesByIdUserIn(userIds))
+                .expectNext(entry)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should record every approval with a single statement and a column array each")
+    void shouldRecordApprovals() {
+        when(repository.recordApprovals(any(), any(), any(), any(), any(), any())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.recordApprovals(List.of(entry)))
+                .verifyComplete();
+
+        verify(repository).recordApprovals(new UUID[]{entry.getIdApplication()}, new UUID[]{entry.getIdUser()},
+                new Double[]{10000.0}, new Integer[]{12}, new Double[]{12.0}, new Double[]{888.49});
+    }
+
+    @Test
+    @DisplayName("Should record every release with a single statement")
+    void shouldRecordReleases() {
+        UUID other = UUID.randomUUID();
+        when(repository.recordReleases(new UUID[]{entry.getIdApplication(), other})).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repositoryAdapter.recordReleases(List.of(entry.getIdApplication(), other)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not run a statement for empty approval or release batches")
+    void shouldSkipEmptyBatches() {
+        StepVerifier.create(repositoryAdapter.recordApprovals(List.of()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.recordReleases(List.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+}
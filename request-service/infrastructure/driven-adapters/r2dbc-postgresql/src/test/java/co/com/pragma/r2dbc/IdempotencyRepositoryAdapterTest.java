@@ -0,0 +1,170 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private IdempotencyRepositoryAdapter repositoryAdapter;
+    private IdempotencyRecord record;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new IdempotencyRepositoryAdapter(entityTemplate,
+                new IdempotencyProperties(Duration.ofHours(24), Duration.ofMinutes(1), 100, Duration.ofMinutes(10), 1000),
+                new ObjectMapper(), new QueryMetrics(new SimpleMeterRegistry()));
+        lenient().when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        record = IdempotencyRecord.builder()
+                .scope("77777777")
+                .key("retry-1")
+                .fingerprint("a".repeat(64))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should map a live key with the time it has left")
+    @SuppressWarnings("unchecked")
+    void shouldFindLiveKey() {
+        UUID idApplication = UUID.randomUUID();
+        RowsFetchSpec<IdempotencyRecord> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        when(row.get("scope", String.class)).thenReturn("77777777");
+        when(row.get("idempotency_key", String.class)).thenReturn("retry-1");
+        when(row.get("fingerprint", String.class)).thenReturn("a".repeat(64));
+        when(row.get("id_application", UUID.class)).thenReturn(idApplication);
+        when(row.get("response", Json.class)).thenReturn(Json.of("{\"id\":\"" + idApplication + "\",\"amount\":\"10000.5\","
+                + "\"term\":\"12\",\"idDocument\":\"77777777\",\"createdAt\":\"2025-09-15T10:00:00.123456\"}"));
+        when(row.get("remaining_seconds", Double.class)).thenReturn(3600.0);
+        when(databaseClient.sql(IdempotencyRepositoryAdapter.FIND)).thenReturn(executeSpec);
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, IdempotencyRecord> mapping = invocation.getArgument(0);
+            when(rowsFetchSpec.one()).thenReturn(Mono.fromSupplier(() -> mapping.apply(row, mock(RowMetadata.class))));
+            return rowsFetchSpec;
+        });
+
+        StepVerifier.create(repositoryAdapter.find("77777777", "retry-1"))
+                .expectNextMatches(found -> found.isCompleted()
+                        && found.getIdApplication().equals(idApplication)
+                        && found.getResponse().getId().equals(idApplication)
+                        && found.getResponse().getAmount() == 10000.5
+                        && found.getResponse().getTerm() == 12
+                        && found.getResponse().getCreatedAt().equals(LocalDateTime.of(2025, 9, 15, 10, 0, 0, 123456000))
+                        && found.getResponse().getApprovedAt() == null
+                        && found.getExpiresAt().isAfter(Instant.now().plusSeconds(3500)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("scope", "77777777");
+        verify(executeSpec).bind("key", "retry-1");
+    }
+
+    @Test
+    @DisplayName("Should own the key only when the reservation inserted or took over a row")
+    void shouldReserveKey() {
+        when(databaseClient.sql(IdempotencyRepositoryAdapter.RESERVE)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+
+        StepVerifier.create(repositoryAdapter.reserve(record))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.reserve(record))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(executeSpec, times(2)).bind("leaseSeconds", 60.0);
+    }
+
+    @Test
+    @DisplayName("Should store the application id and response and extend the key to the retention TTL")
+    void shouldCompleteKey() {
+        Application response = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(10000.0)
+                .term(12)
+                .idDocument("77777777")
+                .createdAt(LocalDateTime.of(2025, 9, 15, 10, 0))
+                .build();
+        when(databaseClient.sql(IdempotencyRepositoryAdapter.COMPLETE)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+        IdempotencyRecord completed = record.toBuilder().idApplication(response.getId()).response(response).build();
+
+        StepVerifier.create(repositoryAdapter.complete(completed))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.complete(completed))
+                .expectNext(false)
+                .verifyComplete();
+
+        ArgumentCaptor<Json> stored = ArgumentCaptor.forClass(Json.class);
+        verify(executeSpec, times(2)).bind(eq("response"), stored.capture());
+        assertEquals("{\"id\":\"" + response.getId() + "\",\"amount\":\"10000.0\",\"term\":\"12\","
+                + "\"idDocument\":\"77777777\",\"createdAt\":\"2025-09-15T10:00\"}", stored.getValue().asString());
+        verify(executeSpec, times(2)).bind("idApplication", response.getId());
+        verify(executeSpec, times(2)).bind("ttlSeconds", 86400.0);
+        verify(executeSpec, times(2)).bind("fingerprint", "a".repeat(64));
+    }
+
+    @Test
+    @DisplayName("Should delete a pending reservation")
+    void shouldReleaseKey() {
+        when(databaseClient.sql(IdempotencyRepositoryAdapter.RELEASE)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.release(record))
+                .verifyComplete();
+
+        verify(executeSpec).bind("scope", "77777777");
+        verify(executeSpec).bind("key", "retry-1");
+    }
+}
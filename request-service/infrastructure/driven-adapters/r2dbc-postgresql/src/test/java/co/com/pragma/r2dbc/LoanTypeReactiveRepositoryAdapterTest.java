@@ -2,6 +2,7 @@ package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.r2dbc.entity.LoanTypeEntity;
+import co.com.pragma.r2dbc.mapper.LoanTypeEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,7 +29,7 @@ public class LoanTypeReactiveRepositoryAdapterTest {
     LoanTypeReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    LoanTypeEntityMapper mapper;
 
     private LoanType domain;
     private LoanTypeEntity entity;
@@ -59,7 +59,7 @@ public class LoanTypeReactiveRepositoryAdapterTest {
     @DisplayName("Should return LoanType when found by id")
     void shouldFindById() {
         when(repository.findById(domain.getId())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findById(domain.getId()))
                 .expectNext(domain)
@@ -80,7 +80,7 @@ public class LoanTypeReactiveRepositoryAdapterTest {
     @DisplayName("Should return LoanType when found by name")
     void shouldFindByName() {
         when(repository.findByName(domain.getName())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByName(domain.getName()))
                 .expectNext(domain)
@@ -113,8 +113,8 @@ public class LoanTypeReactiveRepositoryAdapterTest {
 
         when(repository.findAllById(List.of(id1, id2)))
                 .thenReturn(Flux.just(entity1, entity2));
-        when(mapper.map(entity1, LoanType.class)).thenReturn(domain1);
-        when(mapper.map(entity2, LoanType.class)).thenReturn(domain2);
+        when(mapper.toEntity(entity1)).thenReturn(domain1);
+        when(mapper.toEntity(entity2)).thenReturn(domain2);
 
         StepVerifier.create(repositoryAdapter.findByIds(List.of(id1, id2)))
                 .expectNext(domain1)
@@ -0,0 +1,197 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private OutboxRepositoryAdapter repositoryAdapter;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new OutboxRepositoryAdapter(entityTemplate, new ObjectMapper(),
+                new QueryMetrics(new SimpleMeterRegistry()));
+        lenient().when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Should insert the message with its attributes as JSON")
+    void shouldEnqueueMessage() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.ENQUEUE)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.enqueue(OutboxMessage.builder()
+                        .queue("notifications")
+                        .body("{\"status\":\"Approved\"}")
+                        .attributes(Map.of("eventType", "DECISION_FINAL"))
+                        .build()))
+                .verifyComplete();
+
+        ArgumentCaptor<Object> attributes = ArgumentCaptor.forClass(Object.class);
+        verify(executeSpec).bind("queue", "notifications");
+        verify(executeSpec).bind("body", "{\"status\":\"Approved\"}");
+        verify(executeSpec).bind(eq("attributes"), attributes.capture());
+        assertEquals("{\"eventType\":\"DECISION_FINAL\"}", ((Json) attributes.getValue()).asString());
+    }
+
+    @Test
+    @DisplayName("Should insert several messages in one statement with a column array each")
+    void shouldEnqueueAllMessages() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.ENQUEUE_ALL)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repositoryAdapter.enqueueAll(List.of(
+                        OutboxMessage.builder().queue("indebtedness").body("{\"id\":1}")
+                                .attributes(Map.of("eventType", "CREDIT_ANALYSIS_REQUESTED")).build(),
+                        OutboxMessage.builder().queue("indebtedness").body("{\"id\":2}").build())))
+                .verifyComplete();
+
+        verify(executeSpec).bind("queues", new String[]{"indebtedness", "indebtedness"});
+        verify(executeSpec).bind("bodies", new String[]{"{\"id\":1}", "{\"id\":2}"});
+        verify(executeSpec).bind("attributes", new String[]{"{\"eventType\":\"CREDIT_ANALYSIS_REQUESTED\"}", "{}"});
+    }
+
+    @Test
+    @DisplayName("Should not run a statement when there is nothing to enqueue or delete")
+    void shouldSkipEmptyBatches() {
+        StepVerifier.create(repositoryAdapter.enqueueAll(List.of()).then(repositoryAdapter.markSent(List.of())))
+                .verifyComplete();
+
+        verify(databaseClient, never()).sql(anyString());
+    }
+
+    @Test
+    @DisplayName("Should claim a batch and map the returned rows")
+    @SuppressWarnings("unchecked")
+    void shouldClaimBatch() {
+        RowsFetchSpec<OutboxMessage> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        when(row.get("id", Long.class)).thenReturn(7L);
+        when(row.get("queue", String.class)).thenReturn("reporting");
+        when(row.get("body", String.class)).thenReturn("{}");
+        when(row.get("attributes", Json.class)).thenReturn(Json.of("{\"eventType\":\"REPORT_APPROVED\"}"));
+        when(row.get("attempts", Integer.class)).thenReturn(2);
+        when(databaseClient.sql(OutboxRepositoryAdapter.CLAIM_BATCH)).thenReturn(executeSpec);
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, OutboxMessage> mapping = invocation.getArgument(0);
+            when(rowsFetchSpec.all()).thenReturn(Flux.defer(() -> Flux.just(mapping.apply(row, mock(RowMetadata.class)))));
+            return rowsFetchSpec;
+        });
+
+        StepVerifier.create(repositoryAdapter.claimBatch(50, Duration.ofSeconds(30)))
+                .expectNextMatches(message -> message.getId() == 7L
+                        && message.getQueue().equals("reporting")
+                        && message.getAttributes().equals(Map.of("eventType", "REPORT_APPROVED"))
+                        && message.getAttempts() == 2)
+                .verifyComplete();
+
+        verify(executeSpec).bind("leaseSeconds", 30.0);
+        verify(executeSpec).bind("batchSize", 50);
+    }
+
+    @Test
+    @DisplayName("Should delete the delivered messages in one statement")
+    void shouldMarkSent() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.MARK_SENT)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.markSent(List.of(7L, 8L)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("ids", new Long[]{7L, 8L});
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed message with its error")
+    void shouldMarkFailed() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.MARK_FAILED)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.markFailed(7L, null, Duration.ofMillis(2500)))
+                .verifyComplete();
+
+        verify(executeSpec).bind("retryAfterSeconds", 2.5);
+        verify(executeSpec).bind("error", "Unknown error");
+        verify(executeSpec).bind("id", 7L);
+    }
+
+    @Test
+    @DisplayName("Should mark a message that used up its attempts as dead with its error")
+    void shouldMarkDead() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.MARK_DEAD)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.markDead(7L, "Message too long"))
+                .verifyComplete();
+
+        verify(executeSpec).bind("error", "Message too long");
+        verify(executeSpec).bind("id", 7L);
+    }
+
+    @Test
+    @DisplayName("Should replay the dead messages of one queue and purge those of every queue")
+    void shouldReplayAndPurgeDead() {
+        when(databaseClient.sql(OutboxRepositoryAdapter.REPLAY_DEAD_QUEUE)).thenReturn(executeSpec);
+        when(databaseClient.sql(OutboxRepositoryAdapter.PURGE_DEAD)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(3L), Mono.just(5L));
+
+        StepVerifier.create(repositoryAdapter.replayDead("notifications")).expectNext(3L).verifyComplete();
+        StepVerifier.create(repositoryAdapter.purgeDead(null)).expectNext(5L).verifyComplete();
+
+        verify(executeSpec).bind("queue", "notifications");
+        verify(databaseClient).sql(OutboxRepositoryAdapter.PURGE_DEAD);
+    }
+}
@@ -0,0 +1,156 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.PaymentPlanSummary;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentPlanRepositoryAdapterTest {
+
+    @Mock
+    R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private PaymentPlanRepositoryAdapter repositoryAdapter;
+    private PaymentPlan paymentPlan;
+
+    @BeforeEach
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        repositoryAdapter = new PaymentPlanRepositoryAdapter(entityTemplate, new QueryMetrics(new SimpleMeterRegistry()));
+        paymentPlan = PaymentPlan.builder()
+                .idApplication(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .summary(PaymentPlanSummary.builder()
+                        .term(2)
+                        .monthlyPayment(506.26)
+                        .totalInterest(12.51)
+                        .totalPayment(1012.51)
+                        .build())
+                .payments(List.of(
+                        PaymentDetail.builder().month(1).payment(506.26).principal(498.76)
+                                .interest(7.5).remainingBalance(501.24).build(),
+                        PaymentDetail.builder().month(2).payment(506.25).principal(501.24)
+                                .interest(5.01).remainingBalance(0.0).build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should upsert the plan with its amounts and schedule in cents")
+    void shouldSave() {
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(PaymentPlanRepositoryAdapter.SAVE)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.save(paymentPlan))
+                .verifyComplete();
+
+        verify(executeSpec).bind("idApplication", paymentPlan.getIdApplication());
+        verify(executeSpec).bind("idUser", paymentPlan.getIdUser());
+        verify(executeSpec).bind("monthlyPayment", 50626L);
+        verify(executeSpec).bind("totalInterest", 1251L);
+        verify(executeSpec).bind("totalPayment", 101251L);
+        verify(executeSpec).bind("payments", new Long[]{50626L, 50625L});
+        verify(executeSpec).bind("principals", new Long[]{49876L, 50124L});
+        verify(executeSpec).bind("interests", new Long[]{750L, 501L});
+        verify(executeSpec).bind("remainingBalances", new Long[]{50124L, 0L});
+    }
+
+    @Test
+    @DisplayName("Should delete the plans of released applications in one statement")
+    void shouldDeletePlans() {
+        UUID other = UUID.randomUUID();
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(PaymentPlanRepositoryAdapter.DELETE_BY_ID_APPLICATION)).thenReturn(executeSpec);
+        when(databaseClient.sql(PaymentPlanRepositoryAdapter.DELETE_BY_ID_APPLICATION_IN)).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(repositoryAdapter.deleteByIdApplication(paymentPlan.getIdApplication()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.deleteByIdApplicationIn(List.of(paymentPlan.getIdApplication(), other)))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.deleteByIdApplicationIn(List.of()))
+                .verifyComplete();
+
+        verify(executeSpec).bind("idApplication", paymentPlan.getIdApplication());
+        verify(executeSpec).bind("idApplications", new UUID[]{paymentPlan.getIdApplication(), other});
+    }
+
+    @Test
+    @DisplayName("Should rebuild the plan and its monthly schedule from the stored cents")
+    @SuppressWarnings("unchecked")
+    void shouldFindByIdApplication() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(PaymentPlanRepositoryAdapter.FIND_BY_ID_APPLICATION)).thenReturn(executeSpec);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+
+        Row row = mock(Row.class);
+        when(row.get("id_application", UUID.class)).thenReturn(paymentPlan.getIdApplication());
+        when(row.get("id_user", UUID.class)).thenReturn(paymentPlan.getIdUser());
+        when(row.get("monthly_payment", Long.class)).thenReturn(50626L);
+        when(row.get("total_interest", Long.class)).thenReturn(1251L);
+        when(row.get("total_payment", Long.class)).thenReturn(101251L);
+        when(row.get("payments", Long[].class)).thenReturn(new Long[]{50626L, 50625L});
+        when(row.get("principals", Long[].class)).thenReturn(new Long[]{49876L, 50124L});
+        when(row.get("interests", Long[].class)).thenReturn(new Long[]{750L, 501L});
+        when(row.get("remaining_balances", Long[].class)).thenReturn(new Long[]{50124L, 0L});
+        when(rowsFetchSpec.one()).thenReturn(Mono.defer(() -> Mono.just(mapping.get().apply(row, mock(RowMetadata.class)))));
+
+        StepVerifier.create(repositoryAdapter.findByIdApplication(paymentPlan.getIdApplication()))
+                .expectNextMatches(found -> found.getIdApplication().equals(paymentPlan.getIdApplication())
+                        && found.getIdUser().equals(paymentPlan.getIdUser())
+                        && found.getSummary().getTerm() == 2
+                        && found.getSummary().getMonthlyPayment() == 506.26
+                        && found.getSummary().getTotalInterest() == 12.51
+                        && found.getSummary().getTotalPayment() == 1012.51
+                        && found.getPayments().get(1).getMonth() == 2
+                        && found.getPayments().get(1).getPayment() == 506.25
+                        && found.getPayments().get(1).getPrincipal() == 501.24
+                        && found.getPayments().get(1).getInterest() == 5.01
+                        && found.getPayments().get(0).getRemainingBalance() == 501.24)
+                .verifyComplete();
+
+        verify(executeSpec).bind("idApplication", paymentPlan.getIdApplication());
+    }
+}
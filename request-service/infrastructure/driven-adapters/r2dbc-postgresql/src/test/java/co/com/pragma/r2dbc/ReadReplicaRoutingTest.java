@@ -0,0 +1,176 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.r2dbc.adapter.TransactionalAdapter;
+import co.com.pragma.r2dbc.config.DatabaseMigrationConfig;
+import co.com.pragma.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.pragma.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.pragma.r2dbc.mapper.ApplicationEntityMapper;
+import co.com.pragma.r2dbc.mapper.DailyApprovalRollupEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import co.com.pragma.r2dbc.routing.ReplicaReadPostProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Wires the adapters over a routing connection factory whose primary and replica are two separate databases. Rows
+ * that exist in only one of them show which database answered, standing in for a replica that lags behind.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConnectionFactory primary;
+    private static ConnectionFactory replica;
+    private static ApplicationReactiveRepositoryAdapter applicationAdapter;
+    private static DailyApprovalRollupRepositoryAdapter rollupAdapter;
+    private static TransactionalAdapter transactionalAdapter;
+
+    @BeforeAll
+    static void migrateAndWireAdapters() {
+        primary = migrate(PRIMARY);
+        replica = migrate(REPLICA);
+        ReadReplicaRoutingConnectionFactory routing = new ReadReplicaRoutingConnectionFactory(primary, replica);
+
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(routing);
+        R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(template);
+        repositories.addRepositoryProxyPostProcessor(ReplicaReadPostProcessor.proxyPostProcessor());
+        QueryMetrics queryMetrics = new QueryMetrics(new SimpleMeterRegistry());
+
+        applicationAdapter = new ApplicationReactiveRepositoryAdapter(
+                repositories.getRepository(ApplicationReactiveRepository.class), template,
+                Mappers.getMapper(ApplicationEntityMapper.class), queryMetrics);
+        rollupAdapter = new DailyApprovalRollupRepositoryAdapter(template,
+                Mappers.getMapper(DailyApprovalRollupEntityMapper.class), queryMetrics);
+        transactionalAdapter = new TransactionalAdapter(
+                TransactionalOperator.create(new R2dbcTransactionManager(routing)));
+    }
+
+    private static ConnectionFactory migrate(PostgreSQLContainer<?> container) {
+        PostgresqlConnectionProperties properties = new PostgresqlConnectionProperties(
+                container.getHost(), container.getFirstMappedPort(), container.getDatabaseName(), "public",
+                container.getUsername(), container.getPassword(), false);
+        DatabaseMigrationConfig.configure(properties).load().migrate();
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(
+                PostgreSQLConnectionPool.buildConnectionConfiguration(properties));
+        execute(connectionFactory, "INSERT INTO loan_types "
+                + "(name, min_amount, max_amount, interest_rate, automatic_validation) "
+                + "VALUES ('Personal', 1000, 50000, 12, true)");
+        return connectionFactory;
+    }
+
+    @Test
+    @DisplayName("Active-loan lookups read the replica")
+    void activeLoansReadTheReplica() {
+        UUID userId = UUID.randomUUID();
+        UUID replicaOnly = insertApplication(replica, userId, "Approved");
+        insertApplication(primary, userId, "Approved");
+
+        List<Application> activeLoans = applicationAdapter.findActiveLoansByIdUser(userId).collectList().block();
+
+        assertEquals(List.of(replicaOnly), activeLoans.stream().map(Application::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Unmarked queries keep reading the primary")
+    void unmarkedQueriesReadThePrimary() {
+        UUID replicaOnly = insertApplication(replica, UUID.randomUUID(), "Approved");
+
+        assertNull(applicationAdapter.findById(replicaOnly).block());
+    }
+
+    @Test
+    @DisplayName("Daily report aggregation reads the replica")
+    void dailyReportReadsTheReplica() {
+        LocalDate businessDate = LocalDate.of(2025, 1, 15);
+        execute(replica, "INSERT INTO daily_approval_rollup (business_date, id_loan_type, approved_count, total_amount) "
+                + "SELECT DATE '" + businessDate + "', id, 3, 4500 FROM loan_types");
+
+        DailyReport report = rollupAdapter.summarize(businessDate, businessDate).block();
+
+        assertEquals(3L, report.getApprovedLoansCount());
+        assertEquals(4500.0, report.getTotalLoanAmount());
+    }
+
+    @Test
+    @DisplayName("Replica reads inside a transaction run on the primary and see the transaction's own writes")
+    void transactionsReadTheirOwnWrites() {
+        UUID userId = UUID.randomUUID();
+        Application application = Application.builder()
+                .amount(5000.0)
+                .term(12)
+                .email("client@test.com")
+                .idDocument("11111113")
+                .idStatus(select(primary, "SELECT id FROM status WHERE name = 'Approved'"))
+                .idLoanType(select(primary, "SELECT id FROM loan_types LIMIT 1"))
+                .idUser(userId)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        List<Application> activeLoans = transactionalAdapter.executeInTransaction(applicationAdapter.save(application)
+                        .thenMany(applicationAdapter.findActiveLoansByIdUser(userId))
+                        .collectList())
+                .block();
+
+        assertEquals(1, activeLoans.size());
+        assertEquals(userId, activeLoans.getFirst().getIdUser());
+    }
+
+    private static UUID insertApplication(ConnectionFactory connectionFactory, UUID userId, String status) {
+        return select(connectionFactory, "INSERT INTO applications "
+                + "(amount, term, email, id_document, id_status, id_loan_type, id_user) "
+                + "SELECT 5000, 12, 'client@test.com', '11111113', "
+                + "(SELECT id FROM status WHERE name = '" + status + "'), "
+                + "(SELECT id FROM loan_types LIMIT 1), '" + userId + "' RETURNING id");
+    }
+
+    private static void execute(ConnectionFactory connectionFactory, String sql) {
+        Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                                .then(),
+                        Connection::close)
+                .block();
+    }
+
+    private static UUID select(ConnectionFactory connectionFactory, String sql) {
+        return Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get(0, UUID.class)))
+                                .next(),
+                        Connection::close)
+                .block();
+    }
+}
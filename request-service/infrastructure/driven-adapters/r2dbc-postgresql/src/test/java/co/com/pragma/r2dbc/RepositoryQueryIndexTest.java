@@ -0,0 +1,833 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.pagination.CountMode;
+import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.portfolio.ApprovedLoan;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.summary.ApplicationSummary;
+import co.com.pragma.r2dbc.archive.ApplicationArchivalJob;
+import co.com.pragma.r2dbc.archive.ApplicationIntakeSweepJob;
+import co.com.pragma.r2dbc.archive.IdempotencyKeyPurgeJob;
+import co.com.pragma.r2dbc.config.ApplicationArchivalProperties;
+import co.com.pragma.r2dbc.config.ApplicationIntakeProperties;
+import co.com.pragma.r2dbc.config.ApplicationSummaryProperties;
+import co.com.pragma.r2dbc.config.DatabaseMigrationConfig;
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import co.com.pragma.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.pragma.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.pragma.r2dbc.config.ReplicationSlotProperties;
+import co.com.pragma.r2dbc.mapper.ApplicationEntityMapper;
+import co.com.pragma.r2dbc.mapper.DailyApprovalRollupEntityMapper;
+import co.com.pragma.r2dbc.mapper.DebtLedgerEntityMapper;
+import co.com.pragma.r2dbc.mapper.LoanTypeEntityMapper;
+import co.com.pragma.r2dbc.mapper.StatusEntityMapper;
+import co.com.pragma.r2dbc.metrics.QueryMetrics;
+import co.com.pragma.r2dbc.pagination.ApplicationSortField;
+import co.com.pragma.r2dbc.replication.ReplicationSlotLagMonitor;
+import co.com.pragma.r2dbc.summary.ApplicationSummaryReconciliationJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every adapter query against a migrated and analyzed database and EXPLAINs the exact SQL and bindings the
+ * driver sent. Sequential scans are disabled for the EXPLAIN, so a {@code Seq Scan} left in a plan means no index
+ * can serve the query, and an equality still applied as a {@code Filter} after an index scan means the index the
+ * planner settled for does not cover the predicate.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryIndexTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern SCAN_NODE = Pattern.compile("Scan(?: Backward)?( using (\\w+))? on (\\w+)");
+    private static final Pattern FILTER = Pattern.compile("^\\s*Filter: (.*)$");
+    private static final Pattern PARTITION_SCAN = Pattern.compile("Scan(?: Backward)?(?: using \\w+)? on (applications_\\w+)");
+    private static final int APPLICATION_ROWS = 20_000;
+    private static final long ARCHIVABLE_ROWS = 1_200;
+    private static final int OUTBOX_ROWS = 5_000;
+    private static final int IDEMPOTENCY_ROWS = 20_000;
+    private static final int INTAKE_ROWS = 20_000;
+    private static final int PAYMENT_PLAN_ROWS = 20_000;
+    private static final Queue<QueryInfo> EXECUTED = new ConcurrentLinkedQueue<>();
+
+    private static ConnectionFactory connectionFactory;
+    private static ApplicationReactiveRepositoryAdapter applicationAdapter;
+    private static StatusReactiveRepositoryAdapter statusAdapter;
+    private static LoanTypeReactiveRepositoryAdapter loanTypeAdapter;
+    private static DebtLedgerReactiveRepositoryAdapter debtLedgerAdapter;
+    private static DailyApprovalRollupRepositoryAdapter rollupAdapter;
+    private static OutboxRepositoryAdapter outboxAdapter;
+    private static IdempotencyRepositoryAdapter idempotencyAdapter;
+    private static IdempotencyKeyPurgeJob idempotencyPurgeJob;
+    private static ApplicationIntakeRepositoryAdapter intakeAdapter;
+    private static ApplicationIntakeSweepJob intakeSweepJob;
+    private static ApprovedLoanRepositoryAdapter approvedLoanAdapter;
+    private static ApplicationArchivalJob archivalJob;
+    private static ApplicationSummaryRepositoryAdapter summaryAdapter;
+    private static ApplicationSummaryReconciliationJob summaryReconciliationJob;
+    private static PaymentPlanRepositoryAdapter paymentPlanAdapter;
+    private static ReplicationSlotLagMonitor slotLagMonitor;
+    private static ChangeFeedCheckpointRepositoryAdapter checkpointAdapter;
+    private static UUID pendingStatusId;
+    private static UUID approvedStatusId;
+    private static UUID loanTypeId;
+    private static UUID userId;
+
+    @BeforeAll
+    static void migrateAndWireAdapters() {
+        PostgresqlConnectionProperties properties = new PostgresqlConnectionProperties(
+                POSTGRES.getHost(), POSTGRES.getFirstMappedPort(), POSTGRES.getDatabaseName(), "public",
+                POSTGRES.getUsername(), POSTGRES.getPassword(), false);
+        DatabaseMigrationConfig.configure(properties).load().migrate();
+
+        connectionFactory = new PostgresqlConnectionFactory(
+                PostgreSQLConnectionPool.buildConnectionConfiguration(properties));
+        ConnectionFactory recording = ProxyConnectionFactory.builder(connectionFactory)
+                .onAfterQuery(execution -> EXECUTED.addAll(execution.getQueries()))
+                .build();
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(recording);
+        R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(template);
+        QueryMetrics queryMetrics = new QueryMetrics(new SimpleMeterRegistry());
+
+        applicationAdapter = new ApplicationReactiveRepositoryAdapter(
+                repositories.getRepository(ApplicationReactiveRepository.class), template,
+                Mappers.getMapper(ApplicationEntityMapper.class), queryMetrics);
+        statusAdapter = new StatusReactiveRepositoryAdapter(
+                repositories.getRepository(StatusReactiveRepository.class),
+                Mappers.getMapper(StatusEntityMapper.class));
+        loanTypeAdapter = new LoanTypeReactiveRepositoryAdapter(
+                repositories.getRepository(LoanTypeReactiveRepository.class),
+                Mappers.getMapper(LoanTypeEntityMapper.class));
+        debtLedgerAdapter = new DebtLedgerReactiveRepositoryAdapter(
+                repositories.getRepository(DebtLedgerReactiveRepository.class),
+                repositories.getRepository(DebtLedgerEntryReactiveRepository.class),
+                Mappers.getMapper(DebtLedgerEntityMapper.class));
+        rollupAdapter = new DailyApprovalRollupRepositoryAdapter(template,
+                Mappers.getMapper(DailyApprovalRollupEntityMapper.class), queryMetrics);
+        outboxAdapter = new OutboxRepositoryAdapter(template, new ObjectMapper(), queryMetrics);
+        IdempotencyProperties idempotencyProperties = new IdempotencyProperties(
+                Duration.ofHours(24), Duration.ofMinutes(1), 100, Duration.ofMinutes(10), 1000);
+        idempotencyAdapter = new IdempotencyRepositoryAdapter(template, idempotencyProperties, new ObjectMapper(),
+                queryMetrics);
+        idempotencyPurgeJob = new IdempotencyKeyPurgeJob(template, idempotencyProperties, new SimpleMeterRegistry());
+        intakeAdapter = new ApplicationIntakeRepositoryAdapter(template, queryMetrics);
+        intakeSweepJob = new ApplicationIntakeSweepJob(template, new ApplicationIntakeProperties(
+                Duration.ofMinutes(10), Duration.ofDays(7), Duration.ofMinutes(5), 1000), new SimpleMeterRegistry());
+        approvedLoanAdapter = new ApprovedLoanRepositoryAdapter(template, queryMetrics);
+        archivalJob = new ApplicationArchivalJob(template, new ApplicationArchivalProperties(
+                Duration.ofHours(1), Duration.ofDays(180), 500, List.of("Rejected"), 3), new SimpleMeterRegistry());
+        summaryAdapter = new ApplicationSummaryRepositoryAdapter(template, queryMetrics);
+        summaryReconciliationJob = new ApplicationSummaryReconciliationJob(template,
+                TransactionalOperator.create(new R2dbcTransactionManager(recording)),
+                new ApplicationSummaryProperties(Duration.ofHours(1)), new SimpleMeterRegistry());
+        paymentPlanAdapter = new PaymentPlanRepositoryAdapter(template, queryMetrics);
+        slotLagMonitor = new ReplicationSlotLagMonitor(template,
+                new ReplicationSlotProperties(Duration.ofSeconds(30)), new SimpleMeterRegistry());
+        checkpointAdapter = new ChangeFeedCheckpointRepositoryAdapter(template, queryMetrics);
+
+        seed();
+    }
+
+    @BeforeEach
+    void clearRecordedQueries() {
+        EXECUTED.clear();
+    }
+
+    @Test
+    @DisplayName("Advisor listing uses an index for every sort field, direction, cursor and count")
+    void advisorListingIsIndexed() {
+        ApplicationSearchCriteria byStatus = ApplicationSearchCriteria.builder()
+                .statusIds(List.of(pendingStatusId, approvedStatusId))
+                .build();
+        for (ApplicationSortField sortField : ApplicationSortField.values()) {
+            for (String direction : List.of("asc", "desc")) {
+                CustomPage<Application> first = applicationAdapter.search(byStatus,
+                        pageable(sortField, direction, null)).block();
+                applicationAdapter.search(byStatus,
+                        pageable(sortField, direction, first.getNextCursor())).block();
+            }
+        }
+
+        assertEveryQueryUsesAnIndex();
+
+        // The estimate comes from the planner's statistics rather than a count, so it only has to be close.
+        CustomPage<Application> estimated = applicationAdapter.search(byStatus, CustomPageable.builder()
+                .size(1)
+                .sortBy(ApplicationSortField.ID.getProperty())
+                .sortDirection("asc")
+                .countMode(CountMode.ESTIMATED)
+                .build()).block();
+        long exact = select("SELECT count(*) FROM applications WHERE id_status IN ('" + pendingStatusId + "', '"
+                + approvedStatusId + "')", Long.class);
+        assertTrue(estimated.isTotalEstimated());
+        assertTrue(Math.abs(estimated.getTotalElements() - exact) <= exact / 10,
+                estimated.getTotalElements() + " is not close to " + exact);
+    }
+
+    @Test
+    @DisplayName("Advisor search uses an index for every filter combined with every sort field")
+    void advisorSearchIsIndexed() {
+        UUID rareLoanTypeId = selectId("INSERT INTO loan_types "
+                + "(name, min_amount, max_amount, interest_rate, automatic_validation) "
+                + "VALUES ('Vehicle', 5000, 80000, 9, false) RETURNING id");
+        execute("INSERT INTO applications "
+                + "(amount, term, email, id_document, id_status, id_loan_type, id_user, created_at) "
+                + "SELECT 5000 + g * 100, 24, 'vehicle' || g || '@test.com', '22222222', '" + pendingStatusId + "', '"
+                + rareLoanTypeId + "', md5('vehicle')::uuid, now() - g * interval '1 hour' "
+                + "FROM generate_series(1, 20) g");
+        execute("ANALYZE applications");
+        List<UUID> statusIds = List.of(pendingStatusId, approvedStatusId);
+        List<ApplicationSearchCriteria> searches = List.of(
+                ApplicationSearchCriteria.builder().statusIds(statusIds).minAmount(20_000.0).maxAmount(30_000.0).build(),
+                ApplicationSearchCriteria.builder().statusIds(statusIds)
+                        .createdFrom(LocalDateTime.now().minusDays(1)).createdBefore(LocalDateTime.now()).build(),
+                ApplicationSearchCriteria.builder().statusIds(statusIds).email("client42@test.com").build(),
+                ApplicationSearchCriteria.builder().statusIds(statusIds).loanTypeIds(List.of(rareLoanTypeId))
+                        .minAmount(5_000.0).build());
+        EXECUTED.clear();
+
+        for (ApplicationSearchCriteria criteria : searches) {
+            for (ApplicationSortField sortField : ApplicationSortField.values()) {
+                CustomPage<Application> first = applicationAdapter.search(criteria,
+                        pageable(sortField, "desc", null)).block();
+                if (first.getNextCursor() != null) {
+                    applicationAdapter.search(criteria, pageable(sortField, "desc", first.getNextCursor())).block();
+                }
+            }
+        }
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Application lookups and status transitions use an index")
+    void applicationLookupsAreIndexed() {
+        Application application = applicationAdapter.save(application(10_000.0)).block();
+        applicationAdapter.findById(application.getId()).block();
+        applicationAdapter.saveAll(List.of(application(12_000.0).toBuilder().id(UUID.randomUUID()).build(),
+                application(13_000.0).toBuilder().id(UUID.randomUUID()).build())).collectList().block();
+        applicationAdapter.findByIdUserAndIdStatus(userId, approvedStatusId).collectList().block();
+        applicationAdapter.findActiveLoansByIdUser(userId).collectList().block();
+        applicationAdapter.transitionStatus(StatusTransition.builder()
+                .applicationId(application.getId())
+                .targetStatusId(approvedStatusId)
+                .expectedStatusIds(List.of(pendingStatusId))
+                .transitionedAt(LocalDateTime.now())
+                .approvedAt(LocalDateTime.now())
+                .build()).block();
+        applicationAdapter.transitionStatus(StatusTransition.builder()
+                .applicationId(application.getId())
+                .targetStatusId(pendingStatusId)
+                .transitionedAt(LocalDateTime.now())
+                .build()).block();
+        List<UUID> ids = List.of(application.getId(), UUID.randomUUID());
+        applicationAdapter.findAllById(ids).collectList().block();
+        applicationAdapter.transitionStatuses(ids, StatusTransition.builder()
+                .targetStatusId(approvedStatusId)
+                .expectedStatusIds(List.of(pendingStatusId))
+                .transitionedAt(LocalDateTime.now())
+                .approvedAt(LocalDateTime.now())
+                .build()).collectList().block();
+        applicationAdapter.transitionStatuses(ids, StatusTransition.builder()
+                .targetStatusId(pendingStatusId)
+                .transitionedAt(LocalDateTime.now())
+                .build()).collectList().block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Application ids stay unique across partitions and a lookup by id reads only its own partition")
+    void applicationIdsAreRegistered() {
+        Application application = applicationAdapter.save(application(10_000.0)).block();
+
+        // The same id a year earlier lands in another partition, where (id, created_at) alone would accept it.
+        assertThrows(RuntimeException.class, () -> execute("INSERT INTO applications "
+                + "(id, amount, term, email, id_document, id_status, id_loan_type, id_user, created_at) "
+                + "SELECT id, amount, term, email, id_document, id_status, id_loan_type, id_user, "
+                + "created_at - interval '1 year' FROM applications WHERE id = '" + application.getId() + "'"));
+        assertThrows(RuntimeException.class, () -> execute("INSERT INTO debt_ledger_entries "
+                + "(id_application, id_user, amount, term, interest_rate, monthly_installment) "
+                + "VALUES (gen_random_uuid(), gen_random_uuid(), 1000, 12, 12, 88.85)"));
+
+        EXECUTED.clear();
+        applicationAdapter.findById(application.getId()).block();
+        List<String> plan = explain("EXPLAIN (ANALYZE, COSTS OFF) ", EXECUTED.peek());
+
+        List<String> partitionsRead = plan.stream()
+                .filter(line -> !line.contains("never executed") && !line.contains("Bitmap Index Scan"))
+                .map(PARTITION_SCAN::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .distinct()
+                .toList();
+        assertEquals(1, partitionsRead.size(), String.join("\n", plan));
+    }
+
+    @Test
+    @DisplayName("A client's own listing and its version are read through the (id_user, created_at) index")
+    void clientListingIsIndexed() {
+        UUID client = UUID.randomUUID();
+        int rows = ApplicationReactiveRepositoryAdapter.CLIENT_BATCH_SIZE + 50;
+        execute("INSERT INTO applications "
+                + "(amount, term, email, id_document, id_status, id_loan_type, id_user, created_at) "
+                + "SELECT 5000, 12, 'listing@test.com', '22222222', '" + pendingStatusId + "', '" + loanTypeId + "', '"
+                + client + "', now() - (g / 2) * interval '1 second' FROM generate_series(1, " + rows + ") g");
+
+        List<Application> applications = applicationAdapter.findByIdUser(client).collectList().block();
+        ApplicationListVersion version = applicationAdapter.findListVersionByIdUser(client).block();
+
+        assertEquals(rows, applications.size());
+        assertEquals(rows, applications.stream().map(Application::getId).distinct().count());
+        for (int i = 1; i < applications.size(); i++) {
+            assertFalse(applications.get(i).getCreatedAt().isAfter(applications.get(i - 1).getCreatedAt()));
+        }
+        assertEquals(rows, version.getApplicationCount());
+        assertEquals(applications.getFirst().getCreatedAt(), version.getLatestChangeAt());
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Status and loan type lookups use an index")
+    void referenceDataLookupsAreIndexed() {
+        statusAdapter.findById(pendingStatusId).block();
+        statusAdapter.findByIds(List.of(pendingStatusId, approvedStatusId)).collectList().block();
+        statusAdapter.findByName("Approved").block();
+        statusAdapter.findByNameIgnoreCase("approved").block();
+        statusAdapter.findByNames(List.of("Approved", "Rejected")).collectList().block();
+        loanTypeAdapter.findById(loanTypeId).block();
+        loanTypeAdapter.findByIds(List.of(loanTypeId)).collectList().block();
+        loanTypeAdapter.findByName("Personal").block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Debt ledger writes and reads use an index")
+    void debtLedgerIsIndexed() {
+        Application application = applicationAdapter.save(application(5_000.0)).block();
+        EXECUTED.clear();
+
+        debtLedgerAdapter.recordApproval(DebtLedgerEntry.builder()
+                .idApplication(application.getId())
+                .idUser(userId)
+                .amount(5_000.0)
+                .term(12)
+                .interestRate(12.0)
+                .monthlyInstallment(444.24)
+                .build()).block();
+        debtLedgerAdapter.findByIdUserIn(List.of(userId)).collectList().block();
+        debtLedgerAdapter.findEntriesByIdUser(userId).collectList().block();
+        debtLedgerAdapter.findEntriesByIdUserIn(List.of(userId, UUID.randomUUID())).collectList().block();
+        debtLedgerAdapter.recordRelease(application.getId()).block();
+        Application other = applicationAdapter.save(application(6_000.0)).block();
+        debtLedgerAdapter.recordApprovals(List.of(
+                DebtLedgerEntry.of(application, LoanType.builder().interestRate(12.0).build()),
+                DebtLedgerEntry.of(other, LoanType.builder().interestRate(12.0).build()))).block();
+        debtLedgerAdapter.recordReleases(List.of(application.getId(), other.getId())).block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Daily approval rollup writes and reads use an index")
+    void dailyApprovalRollupIsIndexed() {
+        Application approved = application(7_500.0).toBuilder().approvedAt(LocalDateTime.now()).build();
+        rollupAdapter.recordApproval(approved).block();
+        rollupAdapter.retractApproval(approved).block();
+        List<Application> batch = List.of(approved,
+                application(2_500.0).toBuilder().approvedAt(LocalDateTime.now().minusDays(1)).build());
+        rollupAdapter.recordApprovals(batch).block();
+        rollupAdapter.retractApprovals(batch).block();
+        rollupAdapter.summarize(LocalDate.now().minusDays(30), LocalDate.now()).block();
+        rollupAdapter.findByBusinessDateBetween(LocalDate.now().minusDays(30), LocalDate.now()).collectList().block();
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("The approved book is streamed for projections through the approval index")
+    void approvedBookIsStreamedThroughAnIndex() {
+        execute("UPDATE applications SET approved_at = created_at "
+                + "WHERE id_status = '" + approvedStatusId + "' AND approved_at IS NULL");
+        execute("ANALYZE applications");
+        long approved = select("SELECT count(*) FROM applications "
+                + "WHERE id_status = '" + approvedStatusId + "' AND approved_at IS NOT NULL", Long.class);
+
+        List<ApprovedLoan> loans = approvedLoanAdapter.streamApproved(approvedStatusId).collectList().block();
+
+        assertEquals(approved, loans.size());
+        assertTrue(loans.stream().allMatch(loan -> loan.getAnnualInterestRate() == 12 && loan.getTerm() >= 6));
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Dashboard counters are written through their key and reconcile to the live totals")
+    void applicationSummaryIsIndexed() {
+        // The seed inserts applications behind the counters' back, so the first run has real drift to correct.
+        summaryReconciliationJob.run().block();
+        assertEquals(select("SELECT count(*) FROM applications", Long.class), summaryAdapter.findAll()
+                .map(ApplicationSummary::getApplicationCount)
+                .reduce(0L, Long::sum)
+                .block());
+
+        Application registered = application(4_000.0).toBuilder().id(UUID.randomUUID()).build();
+        summaryAdapter.recordRegistrations(List.of(registered)).block();
+        summaryAdapter.recordTransitions(List.of(TransitionedApplication.builder()
+                .application(registered.toBuilder().idStatus(approvedStatusId).build())
+                .previousStatusId(pendingStatusId)
+                .build())).block();
+
+        // The registration never reached applications: Pending nets out and only Approved has drifted.
+        assertEquals(1L, summaryReconciliationJob.run().block());
+
+        // Another instance mid-run holds the lock, so this one must leave the counters alone.
+        Connection holder = Mono.from(connectionFactory.create()).block();
+        try {
+            Mono.from(holder.beginTransaction()).block();
+            Flux.from(holder.createStatement("SELECT pg_advisory_xact_lock(hashtext('application_summary_reconciliation'))")
+                    .execute()).flatMap(result -> result.map((row, metadata) -> 1)).blockLast();
+            summaryAdapter.recordRegistrations(List.of(registered)).block();
+            assertNull(summaryReconciliationJob.run().block());
+        } finally {
+            Mono.from(holder.rollbackTransaction()).then(Mono.from(holder.close())).block();
+        }
+        assertEquals(1L, summaryReconciliationJob.run().block());
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Outbox writes, claims and acknowledgements use an index")
+    void outboxIsIndexed() {
+        // A backlog of pending messages, oldest first, as if SQS had been unreachable for a while.
+        execute("INSERT INTO outbox_messages (queue, body, available_at) "
+                + "SELECT 'notifications', '{}', now() - g * interval '1 second' "
+                + "FROM generate_series(1, " + OUTBOX_ROWS + ") g");
+        execute("ANALYZE outbox_messages");
+
+        outboxAdapter.enqueue(OutboxMessage.builder()
+                .queue("reporting")
+                .body("{\"applicationId\":\"1\"}")
+                .attributes(Map.of("eventType", "REPORT_APPROVED"))
+                .build()).block();
+        outboxAdapter.enqueueAll(List.of(
+                OutboxMessage.builder().queue("indebtedness").body("{}").attributes(Map.of("eventType", "A")).build(),
+                OutboxMessage.builder().queue("indebtedness").body("{}").build())).block();
+        List<OutboxMessage> claimed = outboxAdapter.claimBatch(10, Duration.ofMinutes(1)).collectList().block();
+        outboxAdapter.markSent(List.of(claimed.get(0).getId(), claimed.get(2).getId())).block();
+        outboxAdapter.markFailed(claimed.get(1).getId(), "Service unavailable", Duration.ofSeconds(5)).block();
+        outboxAdapter.markDead(claimed.get(3).getId(), "Message too long").block();
+        Map<String, Long> dead = outboxAdapter.countDead().block();
+        Long replayed = outboxAdapter.replayDead("notifications").block();
+        outboxAdapter.markDead(claimed.get(3).getId(), "Message too long").block();
+        Long purged = outboxAdapter.purgeDead(null).block();
+
+        assertEquals(10, claimed.size());
+        assertTrue(claimed.stream().allMatch(message -> message.getAttempts() == 1));
+        assertEquals(Map.of("notifications", 1L), dead);
+        assertEquals(1L, replayed);
+        assertEquals(1L, purged);
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Idempotency keys are reserved, completed, replayed and purged through an index")
+    void idempotencyKeysAreIndexed() {
+        // Mostly live keys with an expired tail, as a day of mobile retries would leave them.
+        execute("INSERT INTO idempotency_keys (scope, idempotency_key, fingerprint, id_application, expires_at) "
+                + "SELECT lpad((g % 2000)::text, 8, '0'), 'key-' || g, md5(g::text) || md5(g::text), "
+                + "gen_random_uuid(), now() + (g - 1500) * interval '1 minute' "
+                + "FROM generate_series(1, " + IDEMPOTENCY_ROWS + ") g");
+        execute("ANALYZE idempotency_keys");
+
+        UUID idApplication = UUID.randomUUID();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .scope("11111113")
+                .key("retry-1")
+                .fingerprint("f".repeat(64))
+                .build();
+        assertEquals(Boolean.TRUE, idempotencyAdapter.reserve(record).block());
+        assertEquals(Boolean.FALSE, idempotencyAdapter.reserve(record).block());
+        IdempotencyRecord pending = idempotencyAdapter.find("11111113", "retry-1").block();
+        Application response = application(5_000.0).toBuilder().id(idApplication).build();
+        assertEquals(Boolean.TRUE, idempotencyAdapter.complete(record.toBuilder()
+                .idApplication(idApplication).response(response).build()).block());
+        assertEquals(Boolean.FALSE, idempotencyAdapter.complete(record.toBuilder()
+                .idApplication(UUID.randomUUID()).response(response).build()).block());
+        IdempotencyRecord completed = idempotencyAdapter.find("11111113", "retry-1").block();
+        idempotencyAdapter.release(record.toBuilder().key("retry-2").build()).block();
+        Long purged = idempotencyPurgeJob.run().block();
+
+        assertFalse(pending.isCompleted());
+        assertEquals(idApplication, completed.getIdApplication());
+        assertEquals(response.getCreatedAt(), completed.getResponse().getCreatedAt());
+        assertEquals(5_000.0, completed.getResponse().getAmount());
+        assertTrue(completed.getExpiresAt().isAfter(Instant.now().plus(Duration.ofHours(23))));
+        assertTrue(purged >= 1_500);
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Payment plans are stored and read back by application through the primary key")
+    void paymentPlansAreIndexed() {
+        execute("INSERT INTO payment_plans (id_application, id_user, monthly_payment, total_interest, total_payment, "
+                + "payments, principals, interests, remaining_balances) "
+                + "SELECT gen_random_uuid(), gen_random_uuid(), 10000, 2000, 122000, "
+                + "array_fill(10000::bigint, ARRAY[12]), array_fill(9000::bigint, ARRAY[12]), "
+                + "array_fill(1000::bigint, ARRAY[12]), array_fill(0::bigint, ARRAY[12]) "
+                + "FROM generate_series(1, " + PAYMENT_PLAN_ROWS + ") g");
+        execute("ANALYZE payment_plans");
+
+        Application approved = Application.builder().id(UUID.randomUUID()).idUser(userId).build();
+        PaymentPlan paymentPlan = PaymentPlan.of(approved, new PaymentPlanGenerator().generate(10_000.0, 12.5, 24));
+        paymentPlanAdapter.save(paymentPlan).block();
+        paymentPlanAdapter.save(paymentPlan).block();
+        PaymentPlan found = paymentPlanAdapter.findByIdApplication(approved.getId()).block();
+
+        assertEquals(userId, found.getIdUser());
+        assertEquals(24, found.getSummary().getTerm());
+        assertEquals(paymentPlan.getSummary().getTotalPayment(), found.getSummary().getTotalPayment());
+        for (int i = 0; i < 24; i++) {
+            PaymentDetail expected = paymentPlan.getPayments().get(i);
+            PaymentDetail actual = found.getPayments().get(i);
+            assertEquals(expected.getMonth(), actual.getMonth());
+            assertEquals(expected.getPayment(), actual.getPayment());
+            assertEquals(expected.getPrincipal(), actual.getPrincipal());
+            assertEquals(expected.getInterest(), actual.getInterest());
+            assertEquals(expected.getRemainingBalance(), actual.getRemainingBalance());
+        }
+
+        paymentPlanAdapter.deleteByIdApplication(approved.getId()).block();
+        paymentPlanAdapter.save(paymentPlan).block();
+        paymentPlanAdapter.deleteByIdApplicationIn(List.of(approved.getId(), UUID.randomUUID())).block();
+        assertNull(paymentPlanAdapter.findByIdApplication(approved.getId()).block());
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Asynchronous intakes are saved, polled, transitioned and swept through an index")
+    void applicationIntakesAreIndexed() {
+        // Mostly finished intakes from the past weeks, a tail of them past retention and a few left stuck.
+        execute("INSERT INTO application_intakes (id_document, amount, term, id_loan_type, status, updated_at) "
+                + "SELECT lpad((g % 2000)::text, 8, '0'), 10000, 12, '" + loanTypeId + "', "
+                + "CASE WHEN g % 500 = 0 THEN 'PROCESSING' WHEN g % 7 = 0 THEN 'FAILED' ELSE 'COMPLETED' END, "
+                + "now() - g * interval '1 minute' "
+                + "FROM generate_series(1, " + INTAKE_ROWS + ") g");
+        execute("ANALYZE application_intakes");
+
+        ApplicationIntake saved = intakeAdapter.save(ApplicationIntake.builder()
+                .idDocument("11111114")
+                .amount(15000.0)
+                .term(24)
+                .idLoanType(loanTypeId)
+                .build()).block();
+        Boolean claimed = intakeAdapter.markProcessing(saved.getId()).block();
+        Boolean claimedAgain = intakeAdapter.markProcessing(saved.getId()).block();
+        UUID idApplication = UUID.randomUUID();
+        intakeAdapter.markCompleted(saved.getId(), idApplication).block();
+        ApplicationIntake completed = intakeAdapter.findById(saved.getId()).block();
+        ApplicationIntake rejected = intakeAdapter.save(saved.toBuilder().id(null).build()).block();
+        intakeAdapter.markFailed(rejected.getId(), "Intake queue is full").block();
+        Long deleted = intakeSweepJob.run().block();
+
+        assertEquals(IntakeStatus.PENDING, saved.getStatus());
+        assertEquals(Boolean.TRUE, claimed);
+        assertEquals(Boolean.FALSE, claimedAgain);
+        assertEquals(IntakeStatus.COMPLETED, completed.getStatus());
+        assertEquals(idApplication, completed.getIdApplication());
+        assertEquals(IntakeStatus.FAILED, intakeAdapter.findById(rejected.getId()).block().getStatus());
+        assertTrue(deleted > 0);
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Replication slot lag grows with the WAL written since the slot last confirmed")
+    void replicationSlotLagIsSampled() {
+        // A physical slot reserves WAL like the change feed's logical one without needing wal_level=logical.
+        execute("SELECT pg_create_physical_replication_slot('lag_probe', true)");
+        try {
+            long before = slotLagMonitor.run().block().get("lag_probe");
+            execute("CREATE TABLE lag_probe AS SELECT g FROM generate_series(1, 10000) g");
+            long after = slotLagMonitor.run().block().get("lag_probe");
+
+            assertTrue(after > before);
+        } finally {
+            execute("DROP TABLE IF EXISTS lag_probe");
+            execute("SELECT pg_drop_replication_slot('lag_probe')");
+        }
+    }
+
+    @Test
+    @DisplayName("The change feed's catch-up finds missed approvals through the approval index")
+    void changeFeedCatchUpIsIndexed() {
+        execute("UPDATE applications SET approved_at = created_at "
+                + "WHERE id_status = '" + approvedStatusId + "' AND approved_at IS NULL");
+        execute("ANALYZE applications");
+        LocalDateTime changedAt = LocalDateTime.now().minusHours(1).withNano(0);
+        long missed = select("SELECT count(*) FROM applications WHERE id_status = '" + approvedStatusId
+                + "' AND approved_at > '" + changedAt + "'", Long.class);
+
+        checkpointAdapter.saveLsn("catch_up_probe", 100L, changedAt).block();
+        checkpointAdapter.saveLsn("catch_up_probe", 50L, null).block();
+        assertEquals(100L, checkpointAdapter.findLsn("catch_up_probe").block());
+        assertEquals(changedAt, checkpointAdapter.findChangedAt("catch_up_probe").block());
+        assertEquals(missed, applicationAdapter.findApprovedAfter(approvedStatusId, changedAt).count().block());
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    @Test
+    @DisplayName("Every application partition logs its whole old row for the change feed")
+    void applicationPartitionsHaveFullReplicaIdentity() {
+        execute("SELECT ensure_application_partitions((now() + interval '6 months')::date, "
+                + "(now() + interval '7 months')::date)");
+
+        assertEquals(0L, select("SELECT count(*) FROM pg_class c WHERE c.relreplident <> 'f' AND (c.oid = "
+                + "'applications'::regclass OR c.oid IN (SELECT inhrelid FROM pg_inherits "
+                + "WHERE inhparent = 'applications'::regclass))", Long.class));
+    }
+
+    @Test
+    @DisplayName("Archival moves closed applications through an index and drops the partition it empties")
+    void archivalIsIndexed() {
+        // Rejected a year ago, in a monthly partition of their own that archival should leave empty.
+        execute("INSERT INTO applications "
+                + "(amount, term, email, id_document, id_status, id_loan_type, id_user, created_at, updated_at) "
+                + "SELECT 1000, 12, 'old' || g || '@test.com', lpad(g::text, 8, '0'), "
+                + "(SELECT id FROM status WHERE name = 'Rejected'), '" + loanTypeId + "', gen_random_uuid(), "
+                + "date_trunc('month', now() - interval '1 year') + g * interval '1 minute', "
+                + "date_trunc('month', now() - interval '1 year') + interval '1 day' "
+                + "FROM generate_series(1, " + ARCHIVABLE_ROWS + ") g");
+        execute("SELECT ensure_application_partitions((now() - interval '1 year')::date, "
+                + "(now() - interval '1 year' + interval '1 month')::date)");
+        execute("INSERT INTO payment_plans (id_application, id_user, monthly_payment, total_interest, total_payment, "
+                + "payments, principals, interests, remaining_balances) "
+                + "SELECT id, id_user, 100, 0, 1200, '{}', '{}', '{}', '{}' FROM applications "
+                + "WHERE created_at < date_trunc('month', now() - interval '1 year') + interval '1 month' LIMIT 10");
+        execute("ANALYZE applications");
+
+        assertEquals(ARCHIVABLE_ROWS, archivalJob.run().block());
+        assertEquals(0L, select("SELECT count(*) FROM payment_plans p JOIN applications_archive a "
+                + "ON a.id = p.id_application", Long.class));
+        assertEquals(ARCHIVABLE_ROWS, select("SELECT count(*) FROM applications_archive", Long.class));
+        assertEquals(Boolean.TRUE, select("SELECT to_regclass('applications_p' "
+                + "|| to_char(now() - interval '1 year', 'YYYY_MM')) IS NULL", Boolean.class));
+
+        assertEveryQueryUsesAnIndex();
+    }
+
+    private static void seed() {
+        pendingStatusId = statusAdapter.findByName("Pending Review").map(Status::getId).block();
+        approvedStatusId = statusAdapter.findByName("Approved").map(Status::getId).block();
+        loanTypeId = selectId("INSERT INTO loan_types "
+                + "(name, min_amount, max_amount, interest_rate, automatic_validation) "
+                + "VALUES ('Personal', 1000, 50000, 12, true) RETURNING id");
+        // Enough rows over enough users that the planner's statistics resemble production instead of
+        // treating every index on a near-empty table as equally cheap.
+        execute("INSERT INTO applications "
+                + "(amount, term, email, id_document, id_status, id_loan_type, id_user, created_at) "
+                + "SELECT 1000 + (g % 500) * 100, 6 + g % 48, 'client' || g || '@test.com', "
+                + "lpad((g % 2000)::text, 8, '0'), (SELECT id FROM status ORDER BY name OFFSET g % 4 LIMIT 1), "
+                + "'" + loanTypeId + "', md5((g % 2000)::text)::uuid, now() - g * interval '1 minute' "
+                + "FROM generate_series(1, " + APPLICATION_ROWS + ") g");
+        execute("ANALYZE");
+        userId = selectId("SELECT id_user FROM applications LIMIT 1");
+    }
+
+    private static Application application(double amount) {
+        return Application.builder()
+                .amount(amount)
+                .term(12)
+                .email("client@test.com")
+                .idDocument("11111113")
+                .idStatus(pendingStatusId)
+                .idLoanType(loanTypeId)
+                .idUser(userId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static CustomPageable pageable(ApplicationSortField sortField, String direction, String cursor) {
+        return CustomPageable.builder()
+                .page(0)
+                .size(1)
+                .sortBy(sortField.getProperty())
+                .sortDirection(direction)
+                .cursor(cursor)
+                .countMode(CountMode.EXACT)
+                .build();
+    }
+
+    private static void assertEveryQueryUsesAnIndex() {
+        List<QueryInfo> queries = List.copyOf(EXECUTED);
+        assertFalse(queries.isEmpty(), "No query was recorded");
+
+        List<String> unindexed = new ArrayList<>();
+        for (QueryInfo query : queries) {
+            List<String> plan = explain(query);
+            unsupportedScans(plan).forEach(scan ->
+                    unindexed.add(scan + " <- " + query.getQuery() + "\n" + String.join("\n", plan)));
+        }
+        assertTrue(unindexed.isEmpty(), "Queries without a supporting index:\n" + String.join("\n\n", unindexed));
+    }
+
+    private static List<String> unsupportedScans(List<String> plan) {
+        List<String> unsupported = new ArrayList<>();
+        String scanNode = null;
+        String scannedRelation = null;
+        for (String line : plan) {
+            Matcher seqScan = SEQ_SCAN.matcher(line);
+            if (seqScan.find()) {
+                unsupported.add("sequential scan on " + seqScan.group(1));
+            }
+            Matcher node = SCAN_NODE.matcher(line);
+            if (node.find()) {
+                scanNode = node.group(2) != null ? node.group(2) : node.group(3);
+                scannedRelation = node.group(3);
+                continue;
+            }
+            Matcher filter = FILTER.matcher(line);
+            // Keyset seeks filter on (value > x OR value = x AND id > y) by design and a primary key lookup may
+            // recheck the rest of its predicate on the single row it finds; any other equality is unsupported.
+            // Empty partitions (months ahead, or one archival emptied) give the planner nothing to choose by, and a
+            // lookup by id rechecks on its single row the created_at application_ids handed it to pick the partition.
+            if (filter.find() && scanNode != null && !scanNode.endsWith("_pkey")
+                    && filter.group(1).contains(" = ") && !filter.group(1).contains(" OR ")
+                    && !filter.group(1).equals("(created_at = i.created_at)")
+                    && !isEmpty(scannedRelation)) {
+                unsupported.add(scanNode + " filters " + filter.group(1));
+            }
+        }
+        return unsupported;
+    }
+
+    private static boolean isEmpty(String relation) {
+        return select("SELECT NOT EXISTS (SELECT 1 FROM " + relation + ")", Boolean.class);
+    }
+
+    private static List<String> explain(QueryInfo query) {
+        return explain("EXPLAIN ", query);
+    }
+
+    private static List<String> explain(String prefix, QueryInfo query) {
+        return Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Mono.from(connection.createStatement("SET enable_seqscan = off").execute())
+                                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                                .thenMany(Flux.from(bind(connection.createStatement(prefix + query.getQuery()),
+                                                query.getBindingsList()).execute())
+                                        .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class))))
+                                .collectList(),
+                        Connection::close)
+                .block();
+    }
+
+    private static Statement bind(Statement statement, List<Bindings> bindingsList) {
+        if (bindingsList.isEmpty()) {
+            return statement;
+        }
+        Bindings bindings = bindingsList.getFirst();
+        for (Binding binding : bindings.getIndexBindings()) {
+            int index = (Integer) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(index, value.getNullType());
+            } else {
+                statement.bind(index, value.getValue());
+            }
+        }
+        for (Binding binding : bindings.getNamedBindings()) {
+            String name = (String) binding.getKey();
+            BoundValue value = binding.getBoundValue();
+            if (value.isNull()) {
+                statement.bindNull(name, value.getNullType());
+            } else {
+                statement.bind(name, value.getValue());
+            }
+        }
+        return statement;
+    }
+
+    private static void execute(String sql) {
+        Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                                .then(),
+                        Connection::close)
+                .block();
+    }
+
+    private static UUID selectId(String sql) {
+        return select(sql, UUID.class);
+    }
+
+    private static <T> T select(String sql, Class<T> type) {
+        return Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get(0, type)))
+                                .next(),
+                        Connection::close)
+                .block();
+    }
+}
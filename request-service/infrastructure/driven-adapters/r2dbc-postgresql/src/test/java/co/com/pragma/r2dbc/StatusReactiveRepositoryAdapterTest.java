@@ -2,6 +2,7 @@ package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.status.Status;
 import co.com.pragma.r2dbc.entity.StatusEntity;
+import co.com.pragma.r2dbc.mapper.StatusEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,7 +29,7 @@ public class StatusReactiveRepositoryAdapterTest {
     StatusReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    StatusEntityMapper mapper;
 
     private Status domain;
     private StatusEntity entity;
@@ -67,7 +67,7 @@ public class StatusReactiveRepositoryAdapterTest {
     @DisplayName("Should return Status when found by id")
     void shouldFindById() {
         when(repository.findById(domain.getId())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Status.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findById(domain.getId()))
                 .expectNext(domain)
@@ -84,11 +84,25 @@ public class StatusReactiveRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should return Statuses when found by ids")
+    void shouldFindByIds() {
+        List<UUID> ids = List.of(domain.getId(), domain2.getId());
+
+        when(repository.findAllById(ids)).thenReturn(Flux.just(entity, entity2));
+        when(mapper.toEntity(entity)).thenReturn(domain);
+        when(mapper.toEntity(entity2)).thenReturn(domain2);
+
+        StepVerifier.create(repositoryAdapter.findByIds(ids))
+                .expectNext(domain, domain2)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should return Status when found by name")
     void shouldFindByName() {
         when(repository.findByName(domain.getName())).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Status.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByName(domain.getName()))
                 .expectNext(domain)
@@ -112,8 +126,8 @@ public class StatusReactiveRepositoryAdapterTest {
         List<Status> domainList = List.of(domain, domain2);
 
         when(repository.findByNameIn(names)).thenReturn(Flux.fromIterable(entityList));
-        when(mapper.map(entity, Status.class)).thenReturn(domain);
-        when(mapper.map(entity2, Status.class)).thenReturn(domain2);
+        when(mapper.toEntity(entity)).thenReturn(domain);
+        when(mapper.toEntity(entity2)).thenReturn(domain2);
 
         StepVerifier.create(repositoryAdapter.findByNames(names))
                 .expectNext(domain, domain2)
@@ -134,7 +148,7 @@ public class StatusReactiveRepositoryAdapterTest {
     @DisplayName("Should return Status when found by name ignore case")
     void shouldFindByNameIgnoreCase() {
         when(repository.findByNameIgnoreCase("pending review")).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, Status.class)).thenReturn(domain);
+        when(mapper.toEntity(entity)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByNameIgnoreCase("pending review"))
                 .expectNext(domain)
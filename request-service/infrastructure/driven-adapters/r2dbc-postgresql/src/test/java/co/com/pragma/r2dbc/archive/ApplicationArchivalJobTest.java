@@ -0,0 +1,178 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.ApplicationArchivalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationArchivalJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-09-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 3, 19, 10, 0);
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec ensureSpec;
+    private DatabaseClient.GenericExecuteSpec archiveSpec;
+    private DatabaseClient.GenericExecuteSpec dropSpec;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationArchivalJob job;
+
+    @BeforeEach
+    void setup() {
+        ensureSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        archiveSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        dropSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationArchivalProperties properties = new ApplicationArchivalProperties(
+                Duration.ofHours(1), Duration.ofDays(180), 2, List.of("Rejected"), 3);
+        job = new ApplicationArchivalJob(databaseClient, properties, meterRegistry, CLOCK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFunction(DatabaseClient.GenericExecuteSpec spec, String sql, int result) {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(databaseClient.sql(sql)).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+        when(row.get(0, Integer.class)).thenReturn(result);
+        when(rowsFetchSpec.one()).thenReturn(Mono.fromSupplier(() -> mapping.get().apply(row, mock(RowMetadata.class))));
+    }
+
+    private void stubArchive(long... batches) {
+        Iterator<Long> results = Arrays.stream(batches).boxed().iterator();
+        when(databaseClient.sql(ApplicationArchivalJob.ARCHIVE_BATCH)).thenReturn(archiveSpec);
+        when(archiveSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenAnswer(invocation -> Mono.just(results.next()));
+    }
+
+    @Test
+    @DisplayName("Should create the current month and the configured months ahead")
+    void shouldEnsurePartitions() {
+        stubFunction(ensureSpec, ApplicationArchivalJob.ENSURE_PARTITIONS, 4);
+
+        StepVerifier.create(job.ensurePartitions())
+                .expectNext(4)
+                .verifyComplete();
+
+        verify(ensureSpec).bind("fromMonth", LocalDate.of(2025, 9, 1));
+        verify(ensureSpec).bind("toMonth", LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should archive in batches until a batch comes back short")
+    void shouldArchiveInBatches() {
+        stubArchive(2, 2, 1);
+
+        StepVerifier.create(job.archive(CUTOFF))
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(fetchSpec, times(3)).rowsUpdated();
+        verify(archiveSpec, times(3)).bind("closedStatuses", List.of("Rejected"));
+        verify(archiveSpec, times(3)).bind("cutoff", CUTOFF);
+        verify(archiveSpec, times(3)).bind("batchSize", 2);
+        assertEquals(5.0, meterRegistry.counter(ApplicationArchivalJob.ARCHIVED_METRIC).count());
+    }
+
+    @Test
+    @DisplayName("Should ensure partitions, archive past the retention and drop the emptied partitions")
+    void shouldRunEveryStep() {
+        stubFunction(ensureSpec, ApplicationArchivalJob.ENSURE_PARTITIONS, 0);
+        stubFunction(dropSpec, ApplicationArchivalJob.DROP_EMPTY_PARTITIONS, 1);
+        stubArchive(0);
+
+        StepVerifier.create(job.run())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(archiveSpec).bind("cutoff", CUTOFF);
+        verify(dropSpec).bind("cutoff", CUTOFF.toLocalDate());
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another instance holds the archival lock")
+    @SuppressWarnings("unchecked")
+    void shouldSkipRunWhenLockIsHeld() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(ApplicationArchivalJob.ENSURE_PARTITIONS)).thenReturn(ensureSpec);
+        when(ensureSpec.map(any(BiFunction.class))).thenReturn(rowsFetchSpec);
+        when(rowsFetchSpec.one()).thenReturn(Mono.empty());
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+
+        verify(databaseClient, never()).sql(ApplicationArchivalJob.ARCHIVE_BATCH);
+        verify(databaseClient, never()).sql(ApplicationArchivalJob.DROP_EMPTY_PARTITIONS);
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed run so the next interval tries again")
+    @SuppressWarnings("unchecked")
+    void shouldSwallowFailures() {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(ApplicationArchivalJob.ENSURE_PARTITIONS)).thenReturn(ensureSpec);
+        when(ensureSpec.map(any(BiFunction.class))).thenReturn(rowsFetchSpec);
+        when(rowsFetchSpec.one()).thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+
+        verify(databaseClient, never()).sql(ApplicationArchivalJob.ARCHIVE_BATCH);
+    }
+
+    @Test
+    @DisplayName("Should not schedule runs when the interval is zero")
+    void shouldNotStartWithoutInterval() {
+        ApplicationArchivalJob disabled = new ApplicationArchivalJob(databaseClient,
+                new ApplicationArchivalProperties(Duration.ZERO, Duration.ofDays(180), 2, List.of("Rejected"), 3),
+                meterRegistry, CLOCK);
+
+        disabled.start();
+        disabled.stop();
+
+        verify(databaseClient, never()).sql(any(String.class));
+    }
+}
@@ -0,0 +1,84 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.ApplicationIntakeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationIntakeSweepJobTest {
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> staleFetchSpec;
+
+    @Mock
+    FetchSpec<Map<String, Object>> deleteFetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec staleSpec;
+    private DatabaseClient.GenericExecuteSpec deleteSpec;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationIntakeSweepJob job;
+
+    @BeforeEach
+    void setup() {
+        staleSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        deleteSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationIntakeProperties properties = new ApplicationIntakeProperties(
+                Duration.ofMinutes(10), Duration.ofDays(7), Duration.ofMinutes(5), 2);
+        job = new ApplicationIntakeSweepJob(databaseClient, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should fail stale intakes and delete finished ones in batches")
+    void shouldSweepIntakes() {
+        when(databaseClient.sql(ApplicationIntakeSweepJob.FAIL_STALE)).thenReturn(staleSpec);
+        when(staleSpec.fetch()).thenReturn(staleFetchSpec);
+        when(staleFetchSpec.rowsUpdated()).thenReturn(Mono.just(3L));
+        when(databaseClient.sql(ApplicationIntakeSweepJob.DELETE_FINISHED_BATCH)).thenReturn(deleteSpec);
+        when(deleteSpec.fetch()).thenReturn(deleteFetchSpec);
+        when(deleteFetchSpec.rowsUpdated()).thenReturn(Mono.just(2L), Mono.just(1L));
+
+        StepVerifier.create(job.run())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(staleSpec).bind("staleSeconds", 600.0);
+        verify(staleSpec).bind("error", ApplicationIntakeSweepJob.STALE_ERROR);
+        verify(deleteSpec, times(2)).bind("retentionSeconds", 604800.0);
+        assertEquals(3.0, meterRegistry.counter(ApplicationIntakeSweepJob.SWEPT_METRIC, "action", "failed").count());
+        assertEquals(3.0, meterRegistry.counter(ApplicationIntakeSweepJob.SWEPT_METRIC, "action", "deleted").count());
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed sweep so the next interval tries again")
+    void shouldSwallowFailures() {
+        when(databaseClient.sql(ApplicationIntakeSweepJob.FAIL_STALE)).thenReturn(staleSpec);
+        when(staleSpec.fetch()).thenReturn(staleFetchSpec);
+        when(staleFetchSpec.rowsUpdated()).thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+    }
+}
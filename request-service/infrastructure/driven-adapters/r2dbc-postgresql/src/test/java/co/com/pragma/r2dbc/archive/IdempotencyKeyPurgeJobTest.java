@@ -0,0 +1,71 @@
+package co.com.pragma.r2dbc.archive;
+
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyPurgeJobTest {
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec purgeSpec;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyPurgeJob job;
+
+    @BeforeEach
+    void setup() {
+        purgeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        meterRegistry = new SimpleMeterRegistry();
+        IdempotencyProperties properties = new IdempotencyProperties(
+                Duration.ofHours(24), Duration.ofMinutes(1), 100, Duration.ofMinutes(10), 2);
+        job = new IdempotencyKeyPurgeJob(databaseClient, properties, meterRegistry);
+        when(databaseClient.sql(IdempotencyKeyPurgeJob.PURGE_BATCH)).thenReturn(purgeSpec);
+        when(purgeSpec.fetch()).thenReturn(fetchSpec);
+    }
+
+    @Test
+    @DisplayName("Should purge expired keys in batches until a batch comes back short")
+    void shouldPurgeInBatches() {
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L), Mono.just(2L), Mono.just(1L));
+
+        StepVerifier.create(job.run())
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(purgeSpec, times(3)).bind("batchSize", 2);
+        assertEquals(5.0, meterRegistry.counter(IdempotencyKeyPurgeJob.PURGED_METRIC).count());
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed purge so the next interval tries again")
+    void shouldSwallowFailures() {
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,205 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.StatusTransition;
+import co.com.pragma.model.application.TransitionedApplication;
+import co.com.pragma.r2dbc.ApplicationReactiveRepositoryAdapter;
+import co.com.pragma.r2dbc.config.ApplicationVersionCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedApplicationRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-15T10:00:00Z");
+
+    @Mock
+    private ApplicationReactiveRepositoryAdapter delegate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedApplicationRepositoryAdapter adapter;
+    private UUID idUser;
+    private ApplicationListVersion version;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachedApplicationRepositoryAdapter(delegate,
+                new ApplicationVersionCacheProperties(Duration.ofMinutes(5), 2), meterRegistry, clock);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        idUser = UUID.randomUUID();
+        version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 9, 15, 9, 0))
+                .applicationCount(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should serve a client's list version from memory after the first load")
+    void shouldServeVersionFromCache() {
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNext(version).verifyComplete();
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNext(version).verifyComplete();
+
+        verify(delegate, times(1)).findListVersionByIdUser(idUser);
+        assertEquals(1.0, meterRegistry.counter(CachedApplicationRepositoryAdapter.REQUESTS_METRIC, "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter(CachedApplicationRepositoryAdapter.REQUESTS_METRIC, "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Should reload a version once it outlives the TTL")
+    void shouldReloadExpiredVersion() {
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNext(version).verifyComplete();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(5)));
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNext(version).verifyComplete();
+
+        verify(delegate, times(2)).findListVersionByIdUser(idUser);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached version when an application of the client is saved or transitioned here")
+    void shouldInvalidateOnLocalWrites() {
+        Application application = Application.builder().id(UUID.randomUUID()).idUser(idUser).build();
+        StatusTransition transition = StatusTransition.builder().applicationId(application.getId()).build();
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+        when(delegate.save(application)).thenReturn(Mono.just(application));
+        when(delegate.transitionStatuses(List.of(application.getId()), transition))
+                .thenReturn(Flux.just(TransitionedApplication.builder().application(application).build()));
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.save(application)).expectNextCount(1).verifyComplete();
+        assertEquals(0, adapter.size());
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.transitionStatuses(List.of(application.getId()), transition))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached version until the transaction writing the client's application commits")
+    void shouldInvalidateAfterCommit() {
+        Application application = Application.builder().id(UUID.randomUUID()).idUser(idUser).build();
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+        when(delegate.save(application)).thenReturn(Mono.just(application));
+        TransactionalOperator operator = TransactionalOperator.create(new NoOpTransactionManager());
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(operator.transactional(adapter.save(application)
+                        .doOnNext(saved -> assertEquals(1, adapter.size()))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached version when the transaction writing the client's application rolls back")
+    void shouldKeepVersionOnRollback() {
+        Application application = Application.builder().id(UUID.randomUUID()).idUser(idUser).build();
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+        when(delegate.save(application)).thenReturn(Mono.just(application));
+        TransactionalOperator operator = TransactionalOperator.create(new NoOpTransactionManager());
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(operator.transactional(adapter.save(application)
+                        .then(Mono.error(new IllegalStateException("rollback")))))
+                .verifyError(IllegalStateException.class);
+
+        assertEquals(1, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should not keep a version whose load raced with an invalidation")
+    void shouldDiscardVersionLoadedAcrossInvalidation() {
+        Sinks.One<ApplicationListVersion> load = Sinks.one();
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(load.asMono());
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser))
+                .then(() -> adapter.invalidate(idUser))
+                .then(() -> load.tryEmitValue(version))
+                .expectNext(version)
+                .verifyComplete();
+
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should stop caching new clients once full instead of growing without bound")
+    void shouldNotCacheBeyondCapacity() {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(delegate.findListVersionByIdUser(idUser)).thenReturn(Mono.just(version));
+        when(delegate.findListVersionByIdUser(second)).thenReturn(Mono.just(version));
+        when(delegate.findListVersionByIdUser(third)).thenReturn(Mono.just(version));
+
+        StepVerifier.create(adapter.findListVersionByIdUser(idUser)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findListVersionByIdUser(second)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findListVersionByIdUser(third)).expectNextCount(1).verifyComplete();
+
+        assertEquals(2, adapter.size());
+        adapter.invalidateAll();
+        assertEquals(0, adapter.size());
+    }
+
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
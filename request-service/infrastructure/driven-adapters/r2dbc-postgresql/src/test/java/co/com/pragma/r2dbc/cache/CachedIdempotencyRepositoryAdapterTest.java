@@ -0,0 +1,131 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.idempotency.IdempotencyRecord;
+import co.com.pragma.r2dbc.IdempotencyRepositoryAdapter;
+import co.com.pragma.r2dbc.config.IdempotencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedIdempotencyRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-15T10:00:00Z");
+
+    @Mock
+    private IdempotencyRepositoryAdapter delegate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedIdempotencyRepositoryAdapter adapter;
+    private IdempotencyRecord completed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachedIdempotencyRepositoryAdapter(delegate,
+                new IdempotencyProperties(Duration.ofHours(24), Duration.ofMinutes(1), 2, Duration.ofMinutes(10), 1000),
+                meterRegistry, clock);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        completed = IdempotencyRecord.builder()
+                .scope("77777777")
+                .key("retry-1")
+                .fingerprint("a".repeat(64))
+                .idApplication(UUID.randomUUID())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should serve a key completed on this instance without hitting the database")
+    void shouldServeCompletedKeyFromCache() {
+        when(delegate.complete(completed)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.complete(completed)).expectNext(true).verifyComplete();
+        StepVerifier.create(adapter.find("77777777", "retry-1"))
+                .expectNextMatches(found -> found.getIdApplication().equals(completed.getIdApplication())
+                        && found.getExpiresAt().equals(NOW.plus(Duration.ofHours(24))))
+                .verifyComplete();
+
+        verify(delegate, times(0)).find("77777777", "retry-1");
+        assertEquals(1.0, meterRegistry.counter(CachedIdempotencyRepositoryAdapter.REQUESTS_METRIC, "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("Should cache completed keys loaded from the database but not pending reservations")
+    void shouldCacheOnlyCompletedKeysFromDatabase() {
+        IdempotencyRecord pending = completed.toBuilder().key("retry-2").idApplication(null)
+                .expiresAt(NOW.plusSeconds(60)).build();
+        when(delegate.find("77777777", "retry-1"))
+                .thenReturn(Mono.just(completed.toBuilder().expiresAt(NOW.plusSeconds(3600)).build()));
+        when(delegate.find("77777777", "retry-2")).thenReturn(Mono.just(pending));
+
+        StepVerifier.create(adapter.find("77777777", "retry-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.find("77777777", "retry-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.find("77777777", "retry-2")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.find("77777777", "retry-2")).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(1)).find("77777777", "retry-1");
+        verify(delegate, times(2)).find("77777777", "retry-2");
+        assertEquals(1, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should not cache a key whose reservation was lost before it completed")
+    void shouldNotCacheLostCompletion() {
+        when(delegate.complete(completed)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(adapter.complete(completed)).expectNext(false).verifyComplete();
+
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should go back to the database once a cached key expires")
+    void shouldExpireCachedKey() {
+        when(delegate.complete(completed)).thenReturn(Mono.just(true));
+        when(delegate.find("77777777", "retry-1")).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.complete(completed)).expectNext(true).verifyComplete();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(25)));
+
+        StepVerifier.create(adapter.find("77777777", "retry-1")).verifyComplete();
+
+        verify(delegate).find("77777777", "retry-1");
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should drop expired entries when full and skip caching if it is still full")
+    void shouldBoundCacheSize() {
+        when(delegate.complete(any())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.complete(completed)).expectNext(true).verifyComplete();
+        StepVerifier.create(adapter.complete(completed.toBuilder().key("retry-2").build())).expectNext(true).verifyComplete();
+        StepVerifier.create(adapter.complete(completed.toBuilder().key("retry-3").build())).expectNext(true).verifyComplete();
+        assertEquals(2, adapter.size());
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(25)));
+        StepVerifier.create(adapter.complete(completed.toBuilder().key("retry-4").build())).expectNext(true).verifyComplete();
+        assertEquals(1, adapter.size());
+    }
+}
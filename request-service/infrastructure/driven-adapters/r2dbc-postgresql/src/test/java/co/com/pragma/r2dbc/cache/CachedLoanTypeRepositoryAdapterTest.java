@@ -0,0 +1,95 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.r2dbc.LoanTypeReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedLoanTypeRepositoryAdapterTest {
+
+    @InjectMocks
+    private CachedLoanTypeRepositoryAdapter adapter;
+
+    @Mock
+    private LoanTypeReactiveRepositoryAdapter delegate;
+
+    @Mock
+    private ReferenceDataCache cache;
+
+    private LoanType personal;
+    private LoanType mortgage;
+
+    @BeforeEach
+    void setUp() {
+        personal = LoanType.builder().id(UUID.randomUUID()).name("Personal")
+                .minAmount(1000.0).maxAmount(50000.0).interestRate(0.12).automaticValidation(true).build();
+        mortgage = LoanType.builder().id(UUID.randomUUID()).name("Mortgage")
+                .minAmount(50000.0).maxAmount(500000.0).interestRate(0.08).automaticValidation(false).build();
+    }
+
+    @Test
+    @DisplayName("Should serve loan type by id from the snapshot")
+    void shouldServeFindByIdFromCache() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(), List.of(personal, mortgage)));
+
+        StepVerifier.create(adapter.findById(mortgage.getId()))
+                .expectNextMatches(loanType -> loanType.getInterestRate().equals(0.08))
+                .verifyComplete();
+
+        verify(cache).recordHit(ReferenceDataCache.LOAN_TYPE_CACHE);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should serve batched ids from the snapshot")
+    void shouldServeFindByIdsFromCache() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(), List.of(personal, mortgage)));
+
+        StepVerifier.create(adapter.findByIds(List.of(personal.getId(), mortgage.getId(), personal.getId())))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when the name is not cached")
+    void shouldFallBackOnMiss() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(), List.of(personal)));
+        when(delegate.findByName("Mortgage")).thenReturn(Mono.just(mortgage));
+
+        StepVerifier.create(adapter.findByName("Mortgage"))
+                .expectNext(mortgage)
+                .verifyComplete();
+
+        verify(cache).recordMiss(ReferenceDataCache.LOAN_TYPE_CACHE);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database for batched ids while the snapshot is not loaded")
+    void shouldFallBackWhenNotLoaded() {
+        List<UUID> ids = List.of(personal.getId());
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.EMPTY);
+        when(delegate.findByIds(ids)).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(adapter.findByIds(ids))
+                .expectNext(personal)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,131 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.r2dbc.PaymentPlanRepositoryAdapter;
+import co.com.pragma.r2dbc.config.PaymentPlanCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedPaymentPlanRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-15T10:00:00Z");
+
+    @Mock
+    private PaymentPlanRepositoryAdapter delegate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedPaymentPlanRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachedPaymentPlanRepositoryAdapter(delegate,
+                new PaymentPlanCacheProperties(Duration.ofHours(1), 2), meterRegistry, clock);
+        lenient().when(clock.instant()).thenReturn(NOW);
+    }
+
+    private PaymentPlan paymentPlan() {
+        return PaymentPlan.builder().idApplication(UUID.randomUUID()).idUser(UUID.randomUUID()).payments(List.of()).build();
+    }
+
+    @Test
+    @DisplayName("Should serve a plan read once from the database out of memory")
+    void shouldServeCachedPaymentPlan() {
+        PaymentPlan stored = paymentPlan();
+        when(delegate.findByIdApplication(stored.getIdApplication())).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(adapter.findByIdApplication(stored.getIdApplication())).expectNext(stored).verifyComplete();
+        StepVerifier.create(adapter.findByIdApplication(stored.getIdApplication())).expectNext(stored).verifyComplete();
+
+        verify(delegate, times(1)).findByIdApplication(stored.getIdApplication());
+        assertEquals(1.0, meterRegistry.counter(CachedPaymentPlanRepositoryAdapter.REQUESTS_METRIC, "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter(CachedPaymentPlanRepositoryAdapter.REQUESTS_METRIC, "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Should not cache a plan on save, since its transaction may still roll back")
+    void shouldNotCacheOnSave() {
+        PaymentPlan saved = paymentPlan();
+        when(delegate.save(saved)).thenReturn(Mono.empty());
+        when(delegate.findByIdApplication(saved.getIdApplication())).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.save(saved)).verifyComplete();
+        StepVerifier.create(adapter.findByIdApplication(saved.getIdApplication())).verifyComplete();
+
+        verify(delegate).findByIdApplication(saved.getIdApplication());
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached plans of released applications")
+    void shouldEvictDeletedPaymentPlans() {
+        PaymentPlan first = paymentPlan();
+        PaymentPlan second = paymentPlan();
+        when(delegate.findByIdApplication(first.getIdApplication())).thenReturn(Mono.just(first));
+        when(delegate.findByIdApplication(second.getIdApplication())).thenReturn(Mono.just(second));
+        when(delegate.deleteByIdApplication(first.getIdApplication())).thenReturn(Mono.empty());
+        when(delegate.deleteByIdApplicationIn(List.of(second.getIdApplication()))).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findByIdApplication(first.getIdApplication())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findByIdApplication(second.getIdApplication())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.deleteByIdApplication(first.getIdApplication())).verifyComplete();
+        assertEquals(1, adapter.size());
+        StepVerifier.create(adapter.deleteByIdApplicationIn(List.of(second.getIdApplication()))).verifyComplete();
+
+        assertEquals(0, adapter.size());
+    }
+
+    @Test
+    @DisplayName("Should go back to the database once a cached plan expires")
+    void shouldExpireCachedPaymentPlan() {
+        PaymentPlan stored = paymentPlan();
+        when(delegate.findByIdApplication(stored.getIdApplication())).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(adapter.findByIdApplication(stored.getIdApplication())).expectNextCount(1).verifyComplete();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(2)));
+        StepVerifier.create(adapter.findByIdApplication(stored.getIdApplication())).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(2)).findByIdApplication(stored.getIdApplication());
+    }
+
+    @Test
+    @DisplayName("Should drop expired entries when full and skip caching if it is still full")
+    void shouldBoundCacheSize() {
+        when(delegate.findByIdApplication(any())).thenAnswer(invocation -> Mono.just(paymentPlan().toBuilder()
+                .idApplication(invocation.getArgument(0))
+                .build()));
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(adapter.findByIdApplication(UUID.randomUUID())).expectNextCount(1).verifyComplete();
+        }
+        assertEquals(2, adapter.size());
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(2)));
+        StepVerifier.create(adapter.findByIdApplication(UUID.randomUUID())).expectNextCount(1).verifyComplete();
+        assertEquals(1, adapter.size());
+    }
+}
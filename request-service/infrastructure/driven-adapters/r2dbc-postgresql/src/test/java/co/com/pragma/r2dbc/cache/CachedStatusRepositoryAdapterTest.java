@@ -0,0 +1,108 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.model.status.Status;
+import co.com.pragma.r2dbc.StatusReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedStatusRepositoryAdapterTest {
+
+    @InjectMocks
+    private CachedStatusRepositoryAdapter adapter;
+
+    @Mock
+    private StatusReactiveRepositoryAdapter delegate;
+
+    @Mock
+    private ReferenceDataCache cache;
+
+    private Status pending;
+    private Status approved;
+
+    @BeforeEach
+    void setUp() {
+        pending = Status.builder().id(UUID.randomUUID()).name("Pending Review").description("Pending").build();
+        approved = Status.builder().id(UUID.randomUUID()).name("Approved").description("Approved").build();
+    }
+
+    @Test
+    @DisplayName("Should serve status by id from the snapshot without hitting the database")
+    void shouldServeFindByIdFromCache() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(pending, approved), List.of()));
+
+        StepVerifier.create(adapter.findById(pending.getId()))
+                .expectNextMatches(status -> status.getName().equals("Pending Review"))
+                .verifyComplete();
+
+        verify(cache).recordHit(ReferenceDataCache.STATUS_CACHE);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should serve case-insensitive name lookups from the snapshot")
+    void shouldServeFindByNameIgnoreCaseFromCache() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(pending, approved), List.of()));
+
+        StepVerifier.create(adapter.findByNameIgnoreCase("approved"))
+                .expectNextMatches(status -> status.getId().equals(approved.getId()))
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should serve list lookups from the snapshot when every key is cached")
+    void shouldServeFindByNamesFromCache() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(pending, approved), List.of()));
+
+        StepVerifier.create(adapter.findByNames(List.of("Pending Review", "Approved")))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when a requested id is not cached")
+    void shouldFallBackWhenIdsMissing() {
+        UUID unknown = UUID.randomUUID();
+        List<UUID> ids = List.of(pending.getId(), unknown);
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(pending), List.of()));
+        when(delegate.findByIds(ids)).thenReturn(Flux.just(pending));
+
+        StepVerifier.create(adapter.findByIds(ids))
+                .expectNext(pending)
+                .verifyComplete();
+
+        verify(cache).recordMiss(ReferenceDataCache.STATUS_CACHE);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database while the snapshot is not loaded")
+    void shouldFallBackWhenNotLoaded() {
+        when(cache.snapshot()).thenReturn(ReferenceDataSnapshot.EMPTY);
+        when(delegate.findByName("Approved")).thenReturn(Mono.just(approved));
+
+        StepVerifier.create(adapter.findByName("Approved"))
+                .expectNext(approved)
+                .verifyComplete();
+
+        verify(cache).recordMiss(ReferenceDataCache.STATUS_CACHE);
+    }
+}
@@ -0,0 +1,125 @@
+package co.com.pragma.r2dbc.cache;
+
+import co.com.pragma.r2dbc.LoanTypeReactiveRepository;
+import co.com.pragma.r2dbc.StatusReactiveRepository;
+import co.com.pragma.r2dbc.entity.LoanTypeEntity;
+import co.com.pragma.r2dbc.entity.StatusEntity;
+import co.com.pragma.r2dbc.mapper.LoanTypeEntityMapper;
+import co.com.pragma.r2dbc.mapper.StatusEntityMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private StatusReactiveRepository statusRepository;
+
+    @Mock
+    private LoanTypeReactiveRepository loanTypeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache cache;
+    private StatusEntity pending;
+    private LoanTypeEntity personal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReferenceDataCache(statusRepository, loanTypeRepository,
+                Mappers.getMapper(StatusEntityMapper.class), Mappers.getMapper(LoanTypeEntityMapper.class), meterRegistry);
+        pending = new StatusEntity(UUID.randomUUID(), "Pending Review", "Waiting for review");
+        personal = new LoanTypeEntity(UUID.randomUUID(), "Personal", 1000.0, 50000.0, 0.12, true);
+    }
+
+    @Test
+    @DisplayName("Should start with an empty, unloaded snapshot")
+    void shouldStartUnloaded() {
+        assertFalse(cache.snapshot().isLoaded());
+        assertNull(cache.snapshot().statusById(pending.getId()));
+    }
+
+    @Test
+    @DisplayName("Should load and index statuses and loan types on refresh")
+    void shouldLoadSnapshotOnRefresh() {
+        when(statusRepository.findAll()).thenReturn(Flux.just(pending));
+        when(loanTypeRepository.findAll()).thenReturn(Flux.just(personal));
+
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        ReferenceDataSnapshot snapshot = cache.snapshot();
+        assertTrue(snapshot.isLoaded());
+        assertEquals("Pending Review", snapshot.statusById(pending.getId()).getName());
+        assertEquals(pending.getId(), snapshot.statusByName("Pending Review").getId());
+        assertEquals(pending.getId(), snapshot.statusByNameIgnoreCase("PENDING review").getId());
+        assertEquals(0.12, snapshot.loanTypeByName("Personal").getInterestRate());
+        assertEquals(1, snapshot.loanTypesByIds(List.of(personal.getId())).size());
+        assertNull(snapshot.loanTypesByIds(List.of(personal.getId(), UUID.randomUUID())));
+        assertEquals(1.0, meterRegistry.counter("reference.data.cache.refreshes", "result", "success").count());
+        assertEquals(1.0, meterRegistry.get("reference.data.cache.size").tag("cache", "status").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should hand out defensive copies of cached entries")
+    void shouldReturnCopies() {
+        when(statusRepository.findAll()).thenReturn(Flux.just(pending));
+        when(loanTypeRepository.findAll()).thenReturn(Flux.empty());
+
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        ReferenceDataSnapshot snapshot = cache.snapshot();
+        snapshot.statusById(pending.getId()).setName("Mutated");
+        assertNotSame(snapshot.statusById(pending.getId()), snapshot.statusById(pending.getId()));
+        assertEquals("Pending Review", snapshot.statusById(pending.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when refresh fails")
+    void shouldKeepSnapshotOnFailure() {
+        when(statusRepository.findAll()).thenReturn(Flux.just(pending));
+        when(loanTypeRepository.findAll()).thenReturn(Flux.just(personal));
+        StepVerifier.create(cache.refresh()).verifyComplete();
+        ReferenceDataSnapshot loaded = cache.snapshot();
+
+        when(statusRepository.findAll()).thenReturn(Flux.error(new RuntimeException("DB down")));
+
+        StepVerifier.create(cache.refresh())
+                .expectErrorMessage("DB down")
+                .verify();
+
+        assertSame(loaded, cache.snapshot());
+        assertEquals(1.0, meterRegistry.counter("reference.data.cache.refreshes", "result", "failure").count());
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses per cache")
+    void shouldRecordHitsAndMisses() {
+        cache.recordHit(ReferenceDataCache.STATUS_CACHE);
+        cache.recordHit(ReferenceDataCache.STATUS_CACHE);
+        cache.recordMiss(ReferenceDataCache.LOAN_TYPE_CACHE);
+
+        assertEquals(2.0, meterRegistry.counter("reference.data.cache.requests",
+                "cache", "status", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("reference.data.cache.requests",
+                "cache", "loan_type", "result", "miss").count());
+    }
+}
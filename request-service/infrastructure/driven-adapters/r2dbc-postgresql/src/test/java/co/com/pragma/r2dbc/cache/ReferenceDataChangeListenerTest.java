@@ -0,0 +1,104 @@
+package co.com.pragma.r2dbc.cache;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataChangeListenerTest {
+
+    @Mock
+    private PostgresqlConnection connection;
+
+    @Mock
+    private PostgresqlStatement statement;
+
+    @Mock
+    private PostgresqlResult result;
+
+    @Mock
+    private ReferenceDataCache cache;
+
+    private ReferenceDataChangeListener listener() {
+        return new ReferenceDataChangeListener(() -> Mono.just(connection), cache, Duration.ZERO);
+    }
+
+    private void stubStatements() {
+        when(connection.createStatement(anyString())).thenReturn(statement);
+        when(statement.execute()).thenReturn(Flux.just(result));
+        when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+        lenient().when(connection.close()).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should LISTEN and warm the cache on connect")
+    void shouldListenAndWarmCache() {
+        stubStatements();
+        when(connection.getNotifications()).thenReturn(Flux.never());
+        when(cache.refresh()).thenReturn(Mono.empty());
+
+        StepVerifier.create(listener().listen())
+                .thenAwait(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+
+        verify(connection).createStatement("LISTEN " + ReferenceDataChangeListener.CHANNEL);
+        verify(cache).refresh();
+    }
+
+    @Test
+    @DisplayName("Should refresh the cache for every notification received")
+    void shouldRefreshOnNotification() {
+        stubStatements();
+        Sinks.Many<Notification> notifications = Sinks.many().unicast().onBackpressureBuffer();
+        when(connection.getNotifications()).thenReturn(notifications.asFlux());
+        when(cache.refresh()).thenReturn(Mono.empty());
+        Notification notification = mock(Notification.class);
+        when(notification.getParameter()).thenReturn("status");
+
+        StepVerifier.create(listener().listen())
+                .then(() -> notifications.tryEmitNext(notification))
+                .then(() -> notifications.tryEmitNext(notification))
+                .thenCancel()
+                .verify();
+
+        verify(cache, times(3)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should keep listening when a refresh fails")
+    void shouldSwallowRefreshErrors() {
+        stubStatements();
+        Sinks.Many<Notification> notifications = Sinks.many().unicast().onBackpressureBuffer();
+        when(connection.getNotifications()).thenReturn(notifications.asFlux());
+        when(cache.refresh()).thenReturn(Mono.error(new RuntimeException("DB down")), Mono.empty());
+        Notification notification = mock(Notification.class);
+        when(notification.getParameter()).thenReturn("loan_types");
+
+        StepVerifier.create(listener().listen())
+                .then(() -> notifications.tryEmitNext(notification))
+                .thenCancel()
+                .verify();
+
+        verify(cache, times(2)).refresh();
+    }
+}
@@ -1,14 +1,36 @@
 package co.com.pragma.r2dbc.config;
 
+import co.com.pragma.r2dbc.diagnostics.SlowQueryRecorder;
+import co.com.pragma.r2dbc.diagnostics.SlowQueryRecorders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PostgreSQLConnectionPoolTest {
@@ -19,6 +41,15 @@ class PostgreSQLConnectionPoolTest {
     @Mock
     private PostgresqlConnectionProperties properties;
 
+    @Mock
+    private ObjectProvider<ProxyExecutionListener> executionListeners;
+
+    @Mock
+    private ObjectProvider<SlowQueryRecorders> slowQueryRecorders;
+
+    private final ConnectionPoolProperties poolProperties =
+            new ConnectionPoolProperties(12, 15, Duration.ofMinutes(30), null, null);
+
     private AutoCloseable mocks;
 
     @BeforeEach
@@ -42,13 +73,109 @@ class PostgreSQLConnectionPoolTest {
     @DisplayName("Builds config with SSL disabled")
     void getConnectionConfigSslDisabled() {
         when(properties.ssl()).thenReturn(false);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, poolProperties, new SimpleMeterRegistry(),
+                executionListeners, slowQueryRecorders));
     }
 
     @Test
     @DisplayName("Builds config with SSL enabled")
     void getConnectionConfigSslEnabled() {
         when(properties.ssl()).thenReturn(true);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, poolProperties, new SimpleMeterRegistry(),
+                executionListeners, slowQueryRecorders));
+    }
+
+    @Test
+    @DisplayName("Builds a metered pool that honors the optional acquire and lifetime limits")
+    void getConnectionConfigWithLimits() {
+        when(properties.ssl()).thenReturn(false);
+        ConnectionPoolProperties limited = new ConnectionPoolProperties(2, 4, Duration.ofMinutes(5),
+                Duration.ofSeconds(3), Duration.ofMinutes(30));
+
+        assertInstanceOf(MeteredConnectionPool.class,
+                connectionPool.getConnectionConfig(properties, limited, new SimpleMeterRegistry(),
+                executionListeners, slowQueryRecorders));
+    }
+
+    @Test
+    @DisplayName("Talks to the driver directly when no execution listener is registered")
+    void connectionFactoryWithoutListeners() {
+        when(properties.ssl()).thenReturn(false);
+
+        assertInstanceOf(PostgresqlConnectionFactory.class,
+                PostgreSQLConnectionPool.connectionFactory(properties, List.of()));
+    }
+
+    @Test
+    @DisplayName("Proxies the driver so registered execution listeners see every statement")
+    void connectionFactoryWithListeners() {
+        when(properties.ssl()).thenReturn(false);
+        ProxyExecutionListener listener = new ProxyExecutionListener() {
+        };
+
+        assertFalse(PostgreSQLConnectionPool.connectionFactory(properties, List.of(listener))
+                instanceof PostgresqlConnectionFactory);
+    }
+
+    @Test
+    @DisplayName("Builds a metered replica pool from the replica settings")
+    void replicaConnectionPool() {
+        when(properties.ssl()).thenReturn(false);
+        ReplicaConnectionProperties replica = new ReplicaConnectionProperties("replica-host", null, null, null,
+                null, null, null);
+
+        assertInstanceOf(MeteredConnectionPool.class, connectionPool.replicaConnectionPool(properties, replica,
+                poolProperties, new SimpleMeterRegistry(), executionListeners, slowQueryRecorders));
+    }
+
+    @Test
+    @DisplayName("Attaches to each pool a slow-query recorder that explains on that pool's server")
+    @SuppressWarnings("unchecked")
+    void executionListenersExplainOnThePoolServer() {
+        when(properties.ssl()).thenReturn(false);
+        SlowQueryRecorders recorders = mock(SlowQueryRecorders.class);
+        SlowQueryRecorder recorder = mock(SlowQueryRecorder.class);
+        when(recorders.forServer(any())).thenReturn(recorder);
+        doAnswer(invocation -> {
+            invocation.<Consumer<SlowQueryRecorders>>getArgument(0).accept(recorders);
+            return null;
+        }).when(slowQueryRecorders).ifAvailable(any(Consumer.class));
+        ReplicaConnectionProperties replica = new ReplicaConnectionProperties("replica-host", null, null, null,
+                null, null, null);
+
+        assertEquals(List.of(recorder), PostgreSQLConnectionPool.executionListeners(replica.resolve(properties),
+                executionListeners, slowQueryRecorders));
+
+        ArgumentCaptor<PostgresqlConnectionConfiguration> server =
+                ArgumentCaptor.forClass(PostgresqlConnectionConfiguration.class);
+        verify(recorders).forServer(server.capture());
+        assertTrue(server.getValue().toString().contains("replica-host"));
+    }
+
+    @Test
+    @DisplayName("Takes every replica setting left unset from the primary")
+    void replicaPropertiesFallBackToPrimary() {
+        when(properties.ssl()).thenReturn(true);
+        ReplicaConnectionProperties replica = new ReplicaConnectionProperties("replica-host", 5433, null, null,
+                "reader", null, false);
+
+        assertEquals(new PostgresqlConnectionProperties("replica-host", 5433, "dbName", "schema", "reader",
+                "password", false), replica.resolve(properties));
+        assertEquals(new PostgresqlConnectionProperties("localhost", 5432, "dbName", "schema", "username",
+                "password", true), new ReplicaConnectionProperties(null, null, null, null, null, null, null)
+                .resolve(properties));
+    }
+
+    @Test
+    @DisplayName("Routes both ways to the primary pool when no replica is configured")
+    @SuppressWarnings("unchecked")
+    void routingConnectionFactoryWithoutReplica() {
+        ConnectionPool primary = mock(ConnectionPool.class);
+        ObjectProvider<ConnectionPool> replica = mock(ObjectProvider.class);
+        when(replica.getIfAvailable(any(Supplier.class))).thenAnswer(invocation ->
+                invocation.<Supplier<ConnectionPool>>getArgument(0).get());
+
+        assertNotNull(connectionPool.routingConnectionFactory(primary, replica));
+        verify(replica).getIfAvailable(any(Supplier.class));
     }
 }
@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryEndpointTest {
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(5);
+    private final SlowQueryEndpoint endpoint = new SlowQueryEndpoint(slowQueryLog);
+
+    @Test
+    @DisplayName("Should read and clear the captured slow queries")
+    void shouldReadAndClear() {
+        SlowQuery slowQuery = new SlowQuery(Instant.EPOCH, 750, "SELECT 1", List.of(), "Result", null);
+        slowQueryLog.add(slowQuery);
+
+        assertEquals(List.of(slowQuery), endpoint.slowQueries());
+
+        endpoint.clear();
+
+        assertTrue(endpoint.slowQueries().isEmpty());
+    }
+}
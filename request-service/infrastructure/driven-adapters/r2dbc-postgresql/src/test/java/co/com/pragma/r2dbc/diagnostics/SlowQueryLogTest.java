@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryLogTest {
+
+    private static SlowQuery slowQuery(String sql) {
+        return new SlowQuery(Instant.EPOCH, 600, sql, List.of(), null, null);
+    }
+
+    @Test
+    @DisplayName("Should list entries newest first and evict the oldest once full")
+    void shouldEvictOldest() {
+        SlowQueryLog log = new SlowQueryLog(2);
+
+        log.add(slowQuery("SELECT 1"));
+        log.add(slowQuery("SELECT 2"));
+        log.add(slowQuery("SELECT 3"));
+
+        assertEquals(List.of("SELECT 3", "SELECT 2"), log.entries().stream().map(SlowQuery::sql).toList());
+    }
+
+    @Test
+    @DisplayName("Should drop every entry on clear")
+    void shouldClear() {
+        SlowQueryLog log = new SlowQueryLog(2);
+        log.add(slowQuery("SELECT 1"));
+
+        log.clear();
+
+        assertTrue(log.entries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep nothing when the capacity is zero")
+    void shouldKeepNothingWithoutCapacity() {
+        SlowQueryLog log = new SlowQueryLog(0);
+
+        log.add(slowQuery("SELECT 1"));
+
+        assertTrue(log.entries().isEmpty());
+    }
+}
@@ -0,0 +1,267 @@
+package co.com.pragma.r2dbc.diagnostics;
+
+import co.com.pragma.r2dbc.config.SlowQueryProperties;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.ExecutionType;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlowQueryRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-15T10:00:00Z");
+    private static final String SQL = "SELECT * FROM applications WHERE id_user = $1 AND approved_at = $2";
+    private static final UUID USER_ID = UUID.fromString("7b0ad2ce-1c8e-4c2b-9a43-5a1b7f1e3d10");
+
+    @Mock
+    ConnectionFactory explainConnections;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    Statement setStatement;
+
+    @Mock
+    Statement explainStatement;
+
+    private SlowQueryLog slowQueryLog;
+    private SlowQueryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryLog = new SlowQueryLog(10);
+        SlowQueryProperties properties = new SlowQueryProperties(Duration.ofMillis(500), 10, Duration.ofSeconds(5),
+                Duration.ofMinutes(1), 1);
+        recorder = new SlowQueryRecorder(explainConnections, properties, slowQueryLog,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static QueryInfo query(String sql) {
+        QueryInfo query = new QueryInfo(sql);
+        Bindings bindings = new Bindings();
+        bindings.addIndexBinding(Bindings.indexBinding(0, BoundValue.value(USER_ID)));
+        bindings.addIndexBinding(Bindings.indexBinding(1, BoundValue.nullValue(Instant.class)));
+        query.getBindingsList().add(bindings);
+        return query;
+    }
+
+    private static QueryExecutionInfo execution(QueryInfo query, Duration duration, boolean success, ExecutionType type) {
+        QueryExecutionInfo execution = mock(QueryExecutionInfo.class);
+        when(execution.getExecuteDuration()).thenReturn(duration);
+        when(execution.isSuccess()).thenReturn(success);
+        when(execution.getType()).thenReturn(type);
+        when(execution.getQueries()).thenReturn(List.of(query));
+        return execution;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubExplain(String sql, String... planLines) {
+        stubPlan(SlowQueryRecorder.ANALYZE_PREFIX, sql, planLines);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPlan(String prefix, String sql, String... planLines) {
+        Result setResult = mock(Result.class);
+        Result explainResult = mock(Result.class);
+        Row row = mock(Row.class);
+        doReturn(Mono.just(connection)).when(explainConnections).create();
+        doReturn(Mono.empty()).when(connection).beginTransaction();
+        doReturn(Mono.empty()).when(connection).rollbackTransaction();
+        doReturn(Mono.empty()).when(connection).close();
+        when(connection.createStatement("SET LOCAL statement_timeout = 5000")).thenReturn(setStatement);
+        doReturn(Flux.just(setResult)).when(setStatement).execute();
+        doReturn(Mono.just(0L)).when(setResult).getRowsUpdated();
+        when(connection.createStatement(prefix + sql)).thenReturn(explainStatement);
+        doReturn(Flux.just(explainResult)).when(explainStatement).execute();
+        when(row.get(0, String.class)).thenReturn(planLines[0], Arrays.copyOfRange(planLines, 1, planLines.length));
+        when(explainResult.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, String> mapping = invocation.getArgument(0);
+            return Flux.range(0, planLines.length).map(line -> mapping.apply(row, mock(RowMetadata.class)));
+        });
+    }
+
+    @Test
+    @DisplayName("Should capture a slow statement with its parameter types and a rolled back EXPLAIN ANALYZE plan")
+    void shouldCaptureSlowStatementWithPlan() {
+        stubExplain(SQL, "Index Scan using idx_applications_user_status", "Buffers: shared hit=4");
+
+        recorder.afterQuery(execution(query(SQL), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+
+        SlowQuery captured = slowQueryLog.entries().getFirst();
+        assertEquals(NOW, captured.capturedAt());
+        assertEquals(750, captured.durationMillis());
+        assertEquals(SQL, captured.sql());
+        assertEquals(List.of("$1: UUID", "$2: Instant (null)"), captured.parameters());
+        assertEquals("Index Scan using idx_applications_user_status\nBuffers: shared hit=4", captured.plan());
+        assertNull(captured.note());
+        verify(explainStatement).bind(0, USER_ID);
+        verify(explainStatement).bindNull(1, Instant.class);
+        verify(connection).rollbackTransaction();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should only take the estimated plan of a write so EXPLAIN does not run it again")
+    void shouldNotAnalyzeWrites() {
+        String update = "UPDATE applications SET id_status = $1 WHERE id_user = $2";
+        stubPlan(SlowQueryRecorder.ESTIMATE_PREFIX, update, "Update on applications");
+
+        recorder.afterQuery(execution(query(update), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+
+        assertEquals("Update on applications", slowQueryLog.entries().getFirst().plan());
+        verify(connection, never()).createStatement(SlowQueryRecorder.ANALYZE_PREFIX + update);
+    }
+
+    @Test
+    @DisplayName("Should analyze only plain selects that lock nothing and call no function with side effects")
+    void shouldChooseExplainPrefix() {
+        assertEquals(SlowQueryRecorder.ANALYZE_PREFIX, SlowQueryRecorder.explainPrefix(SQL));
+        assertEquals(SlowQueryRecorder.ANALYZE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "SELECT count(*), max(updated_at) FROM applications WHERE id_user = $1 AND id_status IN ($2, $3)"));
+        assertEquals(SlowQueryRecorder.ESTIMATE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "SELECT ensure_application_partitions($1, $2)"));
+        assertEquals(SlowQueryRecorder.ESTIMATE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "SELECT pg_catalog.pg_advisory_xact_lock($1)"));
+        assertEquals(SlowQueryRecorder.ESTIMATE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "SELECT * FROM outbox_messages WHERE status = $1 FOR UPDATE SKIP LOCKED"));
+        assertEquals(SlowQueryRecorder.ESTIMATE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "WITH moved AS (DELETE FROM applications RETURNING *) SELECT count(*) FROM moved"));
+        assertEquals(SlowQueryRecorder.ESTIMATE_PREFIX, SlowQueryRecorder.explainPrefix(
+                "INSERT INTO status (name) VALUES ($1)"));
+    }
+
+    @Test
+    @DisplayName("Should ignore statements under the threshold, failed statements and batches")
+    void shouldIgnoreFastFailedAndBatchStatements() {
+        QueryExecutionInfo fast = mock(QueryExecutionInfo.class);
+        when(fast.getExecuteDuration()).thenReturn(Duration.ofMillis(20));
+        when(fast.isSuccess()).thenReturn(true);
+        when(fast.getType()).thenReturn(ExecutionType.STATEMENT);
+        QueryExecutionInfo failed = mock(QueryExecutionInfo.class);
+        when(failed.getExecuteDuration()).thenReturn(Duration.ofSeconds(2));
+        when(failed.isSuccess()).thenReturn(false);
+        QueryExecutionInfo batch = mock(QueryExecutionInfo.class);
+        when(batch.getExecuteDuration()).thenReturn(Duration.ofSeconds(2));
+        when(batch.isSuccess()).thenReturn(true);
+        when(batch.getType()).thenReturn(ExecutionType.BATCH);
+
+        recorder.afterQuery(fast);
+        recorder.afterQuery(failed);
+        recorder.afterQuery(batch);
+
+        assertTrue(slowQueryLog.entries().isEmpty());
+        verify(explainConnections, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should capture statements EXPLAIN does not support without a plan")
+    void shouldCaptureUnexplainableStatement() {
+        recorder.afterQuery(execution(query("CALL refresh_rollups($1, $2)"), Duration.ofSeconds(1), true,
+                ExecutionType.STATEMENT));
+
+        SlowQuery captured = slowQueryLog.entries().getFirst();
+        assertNull(captured.plan());
+        assertEquals("Statement cannot be explained", captured.note());
+        verify(explainConnections, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should explain the same SQL at most once per explain interval")
+    void shouldThrottleExplainsOfTheSameSql() {
+        stubExplain(SQL, "Seq Scan on applications_p2025_09");
+
+        recorder.afterQuery(execution(query(SQL), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+        recorder.afterQuery(execution(query(SQL), Duration.ofMillis(900), true, ExecutionType.STATEMENT));
+
+        List<SlowQuery> entries = slowQueryLog.entries();
+        assertEquals(2, entries.size());
+        assertEquals("Explained less than PT1M ago", entries.get(0).note());
+        assertEquals("Seq Scan on applications_p2025_09", entries.get(1).plan());
+        verify(explainConnections, times(1)).create();
+    }
+
+    @Test
+    @DisplayName("Should forget statements explained longer ago than the explain interval")
+    void shouldEvictStaleExplainTimestamps() {
+        String other = "SELECT * FROM status WHERE name = $1";
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(2)));
+        SlowQueryRecorder advancing = new SlowQueryRecorder(explainConnections, new SlowQueryProperties(
+                Duration.ofMillis(500), 10, Duration.ofSeconds(5), Duration.ofMinutes(1), 1), slowQueryLog, clock);
+        doReturn(Mono.error(new IllegalStateException("connection refused"))).when(explainConnections).create();
+
+        advancing.afterQuery(execution(query(SQL), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+        advancing.afterQuery(execution(query(other), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+
+        assertEquals(Set.of(other), advancing.explainedStatements());
+        verify(explainConnections, times(2)).create();
+    }
+
+    @Test
+    @DisplayName("Should skip the plan while another EXPLAIN holds the only permit")
+    void shouldSkipPlanWhenExplainsAreBusy() {
+        doReturn(Mono.never()).when(explainConnections).create();
+
+        recorder.afterQuery(execution(query(SQL), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+        recorder.afterQuery(execution(query("SELECT * FROM status WHERE name = $1"), Duration.ofMillis(600), true,
+                ExecutionType.STATEMENT));
+
+        SlowQuery skipped = slowQueryLog.entries().getFirst();
+        assertEquals("SELECT * FROM status WHERE name = $1", skipped.sql());
+        assertEquals("Skipped, another EXPLAIN was running", skipped.note());
+        assertEquals(1, slowQueryLog.entries().size());
+    }
+
+    @Test
+    @DisplayName("Should keep the statement with the failure and release the permit when EXPLAIN fails")
+    void shouldRecordExplainFailure() {
+        doReturn(Mono.error(new IllegalStateException("connection refused"))).when(explainConnections).create();
+
+        recorder.afterQuery(execution(query(SQL), Duration.ofMillis(750), true, ExecutionType.STATEMENT));
+        recorder.afterQuery(execution(query("SELECT * FROM status WHERE name = $1"), Duration.ofMillis(600), true,
+                ExecutionType.STATEMENT));
+
+        List<SlowQuery> entries = slowQueryLog.entries();
+        assertEquals(2, entries.size());
+        assertEquals("EXPLAIN failed: connection refused", entries.get(0).note());
+        assertEquals("EXPLAIN failed: connection refused", entries.get(1).note());
+        verify(explainConnections, times(2)).create();
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import co.com.pragma.r2dbc.entity.ApplicationTransitionEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ApplicationEntityMapperTest {
+
+    private final ApplicationEntityMapper mapper = Mappers.getMapper(ApplicationEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map every application column in both directions")
+    void shouldRoundTripApplication() {
+        LocalDateTime now = LocalDateTime.now();
+        Application application = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(15000.0)
+                .term(24)
+                .email("client@test.com")
+                .idDocument("12345678")
+                .idStatus(UUID.randomUUID())
+                .idLoanType(UUID.randomUUID())
+                .idUser(UUID.randomUUID())
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .approvedAt(now)
+                .build();
+
+        ApplicationEntity entity = mapper.toData(application);
+        Application mapped = mapper.toEntity(entity);
+
+        assertEquals(application.getId(), entity.getId());
+        assertEquals(application.getIdDocument(), entity.getIdDocument());
+        assertEquals(application.getApprovedAt(), entity.getApprovedAt());
+        assertEquals(application.getId(), mapped.getId());
+        assertEquals(application.getAmount(), mapped.getAmount());
+        assertEquals(application.getTerm(), mapped.getTerm());
+        assertEquals(application.getEmail(), mapped.getEmail());
+        assertEquals(application.getIdStatus(), mapped.getIdStatus());
+        assertEquals(application.getIdLoanType(), mapped.getIdLoanType());
+        assertEquals(application.getIdUser(), mapped.getIdUser());
+        assertEquals(application.getCreatedAt(), mapped.getCreatedAt());
+        assertEquals(application.getUpdatedAt(), mapped.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should map the current state of a transition row and ignore its previous state")
+    void shouldMapTransitionRow() {
+        ApplicationTransitionEntity row = ApplicationTransitionEntity.builder()
+                .id(UUID.randomUUID())
+                .amount(5000.0)
+                .idStatus(UUID.randomUUID())
+                .previousIdStatus(UUID.randomUUID())
+                .previousApprovedAt(LocalDateTime.now())
+                .build();
+
+        Application mapped = mapper.toEntity(row);
+
+        assertEquals(row.getId(), mapped.getId());
+        assertEquals(row.getIdStatus(), mapped.getIdStatus());
+        assertNull(mapped.getApprovedAt());
+    }
+
+    @Test
+    @DisplayName("Should return null for null input")
+    void shouldReturnNullForNullInput() {
+        assertNull(mapper.toData(null));
+        assertNull(mapper.toEntity((ApplicationEntity) null));
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.report.DailyApprovalRollup;
+import co.com.pragma.r2dbc.entity.DailyApprovalRollupEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DailyApprovalRollupEntityMapperTest {
+
+    private final DailyApprovalRollupEntityMapper mapper = Mappers.getMapper(DailyApprovalRollupEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map a rollup row")
+    void shouldMapRollup() {
+        DailyApprovalRollupEntity entity = new DailyApprovalRollupEntity(LocalDate.of(2025, 9, 10),
+                UUID.randomUUID(), 4L, 42000.0);
+
+        DailyApprovalRollup rollup = mapper.toEntity(entity);
+
+        assertEquals(entity.getBusinessDate(), rollup.getBusinessDate());
+        assertEquals(entity.getIdLoanType(), rollup.getIdLoanType());
+        assertEquals(entity.getApprovedCount(), rollup.getApprovedCount());
+        assertEquals(entity.getTotalAmount(), rollup.getTotalAmount());
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.debtledger.DebtLedger;
+import co.com.pragma.model.debtledger.DebtLedgerEntry;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntity;
+import co.com.pragma.r2dbc.entity.DebtLedgerEntryEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DebtLedgerEntityMapperTest {
+
+    private final DebtLedgerEntityMapper mapper = Mappers.getMapper(DebtLedgerEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map the per-user ledger totals")
+    void shouldMapLedger() {
+        DebtLedgerEntity entity = new DebtLedgerEntity(UUID.randomUUID(), 2, 30000.0, 1500.0, LocalDateTime.now());
+
+        DebtLedger ledger = mapper.toEntity(entity);
+
+        assertEquals(entity.getIdUser(), ledger.getIdUser());
+        assertEquals(entity.getActiveLoans(), ledger.getActiveLoans());
+        assertEquals(entity.getOutstandingPrincipal(), ledger.getOutstandingPrincipal());
+        assertEquals(entity.getTotalMonthlyInstallment(), ledger.getTotalMonthlyInstallment());
+        assertEquals(entity.getUpdatedAt(), mapper.toData(ledger).getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should map a ledger entry")
+    void shouldMapEntry() {
+        DebtLedgerEntryEntity entity = new DebtLedgerEntryEntity(UUID.randomUUID(), UUID.randomUUID(),
+                10000.0, 12, 12.0, 888.49);
+
+        DebtLedgerEntry entry = mapper.toEntry(entity);
+
+        assertEquals(entity.getIdApplication(), entry.getIdApplication());
+        assertEquals(entity.getIdUser(), entry.getIdUser());
+        assertEquals(entity.getAmount(), entry.getAmount());
+        assertEquals(entity.getTerm(), entry.getTerm());
+        assertEquals(entity.getInterestRate(), entry.getInterestRate());
+        assertEquals(entity.getMonthlyInstallment(), entry.getMonthlyInstallment());
+    }
+}
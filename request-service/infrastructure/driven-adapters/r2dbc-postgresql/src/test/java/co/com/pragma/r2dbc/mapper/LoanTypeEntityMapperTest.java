@@ -0,0 +1,33 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.loantype.LoanType;
+import co.com.pragma.r2dbc.entity.LoanTypeEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoanTypeEntityMapperTest {
+
+    private final LoanTypeEntityMapper mapper = Mappers.getMapper(LoanTypeEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map loan type in both directions")
+    void shouldRoundTripLoanType() {
+        LoanTypeEntity entity = new LoanTypeEntity(UUID.randomUUID(), "Personal", 1000.0, 50000.0, 12.0, true);
+
+        LoanType loanType = mapper.toEntity(entity);
+        LoanTypeEntity back = mapper.toData(loanType);
+
+        assertEquals(entity.getId(), loanType.getId());
+        assertEquals(entity.getName(), loanType.getName());
+        assertEquals(entity.getMinAmount(), loanType.getMinAmount());
+        assertEquals(entity.getMaxAmount(), loanType.getMaxAmount());
+        assertEquals(entity.getInterestRate(), loanType.getInterestRate());
+        assertEquals(entity.getAutomaticValidation(), loanType.getAutomaticValidation());
+        assertEquals(entity.getInterestRate(), back.getInterestRate());
+    }
+}
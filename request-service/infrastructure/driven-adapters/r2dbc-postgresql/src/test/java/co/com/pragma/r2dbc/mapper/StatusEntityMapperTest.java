@@ -0,0 +1,31 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.status.Status;
+import co.com.pragma.r2dbc.entity.StatusEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatusEntityMapperTest {
+
+    private final StatusEntityMapper mapper = Mappers.getMapper(StatusEntityMapper.class);
+
+    @Test
+    @DisplayName("Should map status in both directions")
+    void shouldRoundTripStatus() {
+        StatusEntity entity = new StatusEntity(UUID.randomUUID(), "Approved", "Loan approved");
+
+        Status status = mapper.toEntity(entity);
+        StatusEntity back = mapper.toData(status);
+
+        assertEquals(entity.getId(), status.getId());
+        assertEquals(entity.getName(), status.getName());
+        assertEquals(entity.getDescription(), status.getDescription());
+        assertEquals(entity.getId(), back.getId());
+        assertEquals(entity.getName(), back.getName());
+    }
+}
@@ -0,0 +1,89 @@
+package co.com.pragma.r2dbc.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetrics queryMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryMetrics = new QueryMetrics(meterRegistry);
+    }
+
+    private Timer timer(String query, String outcome) {
+        return meterRegistry.find(QueryMetrics.METRIC).tags("query", query, "outcome", outcome).timer();
+    }
+
+    @Test
+    @DisplayName("Times a Mono once it completes, tagged with the query name")
+    void timesMono() {
+        Mono<Integer> timed = queryMetrics.timed("Adapter.count", Mono.just(3));
+
+        assertNull(timer("Adapter.count", "success"));
+        StepVerifier.create(timed)
+                .expectNext(3)
+                .verifyComplete();
+
+        assertEquals(1, timer("Adapter.count", "success").count());
+    }
+
+    @Test
+    @DisplayName("Times a Flux once, after its last element")
+    void timesFlux() {
+        StepVerifier.create(queryMetrics.timed("Adapter.list", Flux.just(1, 2, 3)))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+
+        assertEquals(1, timer("Adapter.list", "success").count());
+    }
+
+    @Test
+    @DisplayName("Tags failed and canceled executions with their outcome")
+    void tagsOutcome() {
+        StepVerifier.create(queryMetrics.timed("Adapter.fail", Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(queryMetrics.timed("Adapter.slow", Mono.never()))
+                .thenCancel()
+                .verify();
+
+        assertEquals(1, timer("Adapter.fail", "error").count());
+        assertEquals(1, timer("Adapter.slow", "canceled").count());
+    }
+
+    @Test
+    @DisplayName("Records an execution once even when it is canceled after succeeding")
+    void recordsOnce() {
+        StepVerifier.create(queryMetrics.timed("Adapter.first", Mono.just(1)).flux().next())
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(1, timer("Adapter.first", "success").count());
+        assertNull(timer("Adapter.first", "canceled"));
+    }
+
+    @Test
+    @DisplayName("Records a duration measured elsewhere")
+    void recordsDuration() {
+        queryMetrics.record("Repository.findById", "success", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Timer timer = timer("Repository.findById", "success");
+        assertEquals(1, timer.count());
+        assertEquals(5.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+}
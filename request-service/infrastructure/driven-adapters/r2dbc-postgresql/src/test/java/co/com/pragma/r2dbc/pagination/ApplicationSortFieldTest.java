@@ -0,0 +1,34 @@
+package co.com.pragma.r2dbc.pagination;
+
+import co.com.pragma.model.exception.InvalidPaginationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApplicationSortFieldTest {
+
+    @Test
+    @DisplayName("Should resolve whitelisted properties ignoring case")
+    void fromPropertyShouldResolveIgnoringCase() {
+        assertEquals(ApplicationSortField.AMOUNT, ApplicationSortField.fromProperty("amount"));
+        assertEquals(ApplicationSortField.CREATED_AT, ApplicationSortField.fromProperty("CREATEDAT"));
+        assertEquals(ApplicationSortField.ID, ApplicationSortField.fromProperty("Id"));
+    }
+
+    @Test
+    @DisplayName("Should reject properties outside the whitelist")
+    void fromPropertyShouldRejectUnknown() {
+        InvalidPaginationException ex = assertThrows(InvalidPaginationException.class,
+                () -> ApplicationSortField.fromProperty("idDocument; drop table application"));
+
+        assertEquals("Unsupported sort field: idDocument; drop table application", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a missing property")
+    void fromPropertyShouldRejectNull() {
+        assertThrows(InvalidPaginationException.class, () -> ApplicationSortField.fromProperty(null));
+    }
+}
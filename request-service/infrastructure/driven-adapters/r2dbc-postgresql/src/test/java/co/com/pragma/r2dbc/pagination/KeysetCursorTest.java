@@ -0,0 +1,81 @@
+package co.com.pragma.r2dbc.pagination;
+
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.r2dbc.entity.ApplicationEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    private ApplicationEntity entity;
+
+    @BeforeEach
+    void setup() {
+        entity = ApplicationEntity.builder()
+                .id(UUID.randomUUID())
+                .amount(15000.5)
+                .term(24)
+                .createdAt(LocalDateTime.of(2025, 9, 1, 10, 30, 15))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should round-trip every sort field through the opaque token")
+    void encodeAndDecodeShouldRoundTrip() {
+        for (ApplicationSortField field : ApplicationSortField.values()) {
+            KeysetCursor cursor = KeysetCursor.after(entity, field, Sort.Direction.DESC);
+
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), field, Sort.Direction.DESC);
+
+            assertEquals(cursor, decoded);
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce a URL-safe token")
+    void encodeShouldBeUrlSafe() {
+        String token = KeysetCursor.after(entity, ApplicationSortField.CREATED_AT, Sort.Direction.ASC).encode();
+
+        assertFalse(token.contains("+") || token.contains("/") || token.contains("="));
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued for another sort field or direction")
+    void decodeShouldRejectMismatchedSort() {
+        String token = KeysetCursor.after(entity, ApplicationSortField.AMOUNT, Sort.Direction.ASC).encode();
+
+        InvalidPaginationException byField = assertThrows(InvalidPaginationException.class,
+                () -> KeysetCursor.decode(token, ApplicationSortField.TERM, Sort.Direction.ASC));
+        InvalidPaginationException byDirection = assertThrows(InvalidPaginationException.class,
+                () -> KeysetCursor.decode(token, ApplicationSortField.AMOUNT, Sort.Direction.DESC));
+
+        assertEquals("Cursor does not match the requested sort", byField.getMessage());
+        assertEquals("Cursor does not match the requested sort", byDirection.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or tampered tokens")
+    void decodeShouldRejectMalformedTokens() {
+        String wrongVersion = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("v0|AMOUNT|ASC|1.0|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+        String badValue = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("v1|AMOUNT|ASC|abc|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[]{"%%%", wrongVersion, badValue}) {
+            InvalidPaginationException ex = assertThrows(InvalidPaginationException.class,
+                    () -> KeysetCursor.decode(token, ApplicationSortField.AMOUNT, Sort.Direction.ASC));
+            assertEquals("Invalid cursor", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.pragma.r2dbc.replication;
+
+import co.com.pragma.r2dbc.config.ReplicationSlotProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationSlotLagMonitorTest {
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private RowsFetchSpec<Object> rowsFetchSpec;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicationSlotLagMonitor monitor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        rowsFetchSpec = mock(RowsFetchSpec.class);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicationSlotLagMonitor(databaseClient, new ReplicationSlotProperties(Duration.ofSeconds(30)),
+                meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubSlots(List<Map.Entry<String, Long>> first, List<Map.Entry<String, Long>> second) {
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(databaseClient.sql(ReplicationSlotLagMonitor.SLOT_LAG)).thenReturn(executeSpec);
+        when(executeSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+        List<List<Map.Entry<String, Long>>> samples = new ArrayList<>(List.of(first, second));
+        when(rowsFetchSpec.all()).thenAnswer(invocation -> Flux.fromIterable(samples.removeFirst())
+                .map(slot -> {
+                    Row row = mock(Row.class);
+                    when(row.get("slot_name", String.class)).thenReturn(slot.getKey());
+                    when(row.get("lag_bytes", Long.class)).thenReturn(slot.getValue());
+                    return mapping.get().apply(row, mock(RowMetadata.class));
+                }));
+    }
+
+    private double lag(String slot) {
+        return meterRegistry.get(ReplicationSlotLagMonitor.LAG_METRIC).tag("slot", slot).gauge().value();
+    }
+
+    @Test
+    @DisplayName("Should expose the WAL held back by each slot and report zero for slots that were dropped")
+    void shouldSampleSlotLag() {
+        stubSlots(List.of(Map.entry("request_service_application_status", 4_096L), Map.entry("standby", 0L)),
+                List.of(Map.entry("standby", 512L)));
+
+        StepVerifier.create(monitor.run())
+                .expectNext(Map.of("request_service_application_status", 4_096L, "standby", 0L))
+                .verifyComplete();
+        assertEquals(4_096.0, lag("request_service_application_status"));
+
+        StepVerifier.create(monitor.run())
+                .expectNext(Map.of("standby", 512L))
+                .verifyComplete();
+        assertEquals(0.0, lag("request_service_application_status"));
+        assertEquals(512.0, lag("standby"));
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed sample so the next interval tries again")
+    @SuppressWarnings("unchecked")
+    void shouldSwallowFailures() {
+        when(databaseClient.sql(ReplicationSlotLagMonitor.SLOT_LAG)).thenReturn(executeSpec);
+        when(executeSpec.map(any(BiFunction.class))).thenReturn(rowsFetchSpec);
+        when(rowsFetchSpec.all()).thenReturn(Flux.error(new IllegalStateException("connection refused")));
+
+        StepVerifier.create(monitor.run())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not schedule samples when the interval is zero")
+    void shouldNotStartWithoutInterval() {
+        ReplicationSlotLagMonitor disabled = new ReplicationSlotLagMonitor(databaseClient,
+                new ReplicationSlotProperties(Duration.ZERO), meterRegistry);
+
+        disabled.start();
+        disabled.stop();
+
+        verify(databaseClient, never()).sql(any(String.class));
+    }
+}
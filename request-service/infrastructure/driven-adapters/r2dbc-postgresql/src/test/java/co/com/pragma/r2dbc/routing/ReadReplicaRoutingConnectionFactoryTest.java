@@ -0,0 +1,66 @@
+package co.com.pragma.r2dbc.routing;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingConnectionFactoryTest {
+
+    @Mock
+    ConnectionFactory primary;
+
+    @Mock
+    ConnectionFactory replica;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReadReplicaRoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadReplicaRoutingConnectionFactory(primary, replica);
+    }
+
+    @Test
+    @DisplayName("Should hand out primary connections by default")
+    void shouldRouteToPrimaryByDefault() {
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        StepVerifier.create(routing.create())
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should hand out replica connections to queries routed to the replica")
+    void shouldRouteReplicaReadsToReplica() {
+        doReturn(Mono.just(replicaConnection)).when(replica).create();
+
+        StepVerifier.create(ConnectionRoute.onReplica(routing.create()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep replica reads on the primary inside a transaction")
+    void shouldRouteReplicaReadsInsideTransactionsToPrimary() {
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        StepVerifier.create(ConnectionRoute.onReplica(routing.create())
+                        .contextWrite(TransactionContextManager.createTransactionContext()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+}
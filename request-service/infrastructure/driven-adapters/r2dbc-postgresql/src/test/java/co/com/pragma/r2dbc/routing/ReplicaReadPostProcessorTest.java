@@ -0,0 +1,98 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactoryCustomizer;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaReadPostProcessorTest {
+
+    interface Queries {
+        @ReplicaRead
+        Mono<ConnectionRoute> replicaMono();
+
+        @ReplicaRead
+        Flux<ConnectionRoute> replicaFlux();
+
+        Mono<ConnectionRoute> primaryMono();
+    }
+
+    private final ReplicaReadPostProcessor postProcessor = new ReplicaReadPostProcessor();
+
+    private static Mono<ConnectionRoute> currentRoute() {
+        return Mono.deferContextual(context -> Mono.just(ConnectionRoute.of(context)));
+    }
+
+    private static Object invoke(String methodName, Object result) throws Throwable {
+        Method method = Queries.class.getMethod(methodName);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.proceed()).thenReturn(result);
+        return ReplicaReadPostProcessor.interceptor().invoke(invocation);
+    }
+
+    @Test
+    @DisplayName("Adds the replica routing advice to every repository factory")
+    void customizesRepositoryFactories() {
+        RepositoryFactoryBeanSupport<?, ?, ?> factoryBean = mock(RepositoryFactoryBeanSupport.class);
+        RepositoryFactorySupport factory = mock(RepositoryFactorySupport.class);
+        ProxyFactory proxyFactory = mock(ProxyFactory.class);
+
+        assertSame(factoryBean, postProcessor.postProcessBeforeInitialization(factoryBean, "repository"));
+
+        ArgumentCaptor<RepositoryFactoryCustomizer> customizer = ArgumentCaptor.forClass(RepositoryFactoryCustomizer.class);
+        verify(factoryBean).addRepositoryFactoryCustomizer(customizer.capture());
+        customizer.getValue().customize(factory);
+        ArgumentCaptor<RepositoryProxyPostProcessor> proxyPostProcessor =
+                ArgumentCaptor.forClass(RepositoryProxyPostProcessor.class);
+        verify(factory).addRepositoryProxyPostProcessor(proxyPostProcessor.capture());
+        proxyPostProcessor.getValue().postProcess(proxyFactory, mock(RepositoryInformation.class));
+        verify(proxyFactory).addAdvice(any());
+    }
+
+    @Test
+    @DisplayName("Leaves other beans untouched")
+    void ignoresOtherBeans() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessBeforeInitialization(bean, "other"));
+    }
+
+    @Test
+    @DisplayName("Routes the publishers of @ReplicaRead methods to the replica")
+    @SuppressWarnings("unchecked")
+    void routesReplicaReads() throws Throwable {
+        StepVerifier.create((Mono<ConnectionRoute>) invoke("replicaMono", currentRoute()))
+                .expectNext(ConnectionRoute.REPLICA)
+                .verifyComplete();
+        StepVerifier.create((Flux<ConnectionRoute>) invoke("replicaFlux", currentRoute().flux()))
+                .expectNext(ConnectionRoute.REPLICA)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Leaves unmarked methods on the primary")
+    @SuppressWarnings("unchecked")
+    void leavesOtherMethodsOnPrimary() throws Throwable {
+        StepVerifier.create((Mono<ConnectionRoute>) invoke("primaryMono", currentRoute()))
+                .expectNext(ConnectionRoute.PRIMARY)
+                .verifyComplete();
+    }
+}
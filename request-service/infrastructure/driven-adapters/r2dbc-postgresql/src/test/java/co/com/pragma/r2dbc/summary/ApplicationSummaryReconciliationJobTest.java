@@ -0,0 +1,117 @@
+package co.com.pragma.r2dbc.summary;
+
+import co.com.pragma.r2dbc.config.ApplicationSummaryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationSummaryReconciliationJobTest {
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    TransactionalOperator transactionalOperator;
+
+    @Mock
+    FetchSpec<Map<String, Object>> fetchSpec;
+
+    private DatabaseClient.GenericExecuteSpec lockSpec;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationSummaryReconciliationJob job;
+
+    @BeforeEach
+    void setup() {
+        lockSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new ApplicationSummaryReconciliationJob(databaseClient, transactionalOperator,
+                new ApplicationSummaryProperties(Duration.ofHours(1)), meterRegistry);
+        when(transactionalOperator.transactional(Mockito.<Mono<Long>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(databaseClient.sql(ApplicationSummaryReconciliationJob.LOCK)).thenReturn(lockSpec);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLock(boolean acquired) {
+        RowsFetchSpec<Object> rowsFetchSpec = mock(RowsFetchSpec.class);
+        Row row = mock(Row.class);
+        AtomicReference<BiFunction<Row, RowMetadata, Object>> mapping = new AtomicReference<>();
+        when(lockSpec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            mapping.set(invocation.getArgument(0));
+            return rowsFetchSpec;
+        });
+        when(row.get(0, Boolean.class)).thenReturn(acquired);
+        when(rowsFetchSpec.one()).thenReturn(Mono.fromSupplier(() -> mapping.get().apply(row, mock(RowMetadata.class))));
+    }
+
+    private void stubReconcile(Mono<Long> corrected) {
+        DatabaseClient.GenericExecuteSpec reconcileSpec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        when(databaseClient.sql(ApplicationSummaryReconciliationJob.RECONCILE)).thenReturn(reconcileSpec);
+        when(reconcileSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(corrected);
+    }
+
+    @Test
+    @DisplayName("Should report how many counters had drifted and were corrected")
+    void shouldCountCorrectedCounters() {
+        stubLock(true);
+        stubReconcile(Mono.just(3L));
+
+        StepVerifier.create(job.run())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertEquals(3.0, meterRegistry.counter(ApplicationSummaryReconciliationJob.DRIFT_METRIC).count());
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another instance holds the reconciliation lock")
+    void shouldSkipRunWhenLockIsHeld() {
+        stubLock(false);
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+
+        verify(databaseClient, never()).sql(ApplicationSummaryReconciliationJob.RECONCILE);
+        assertEquals(0.0, meterRegistry.counter(ApplicationSummaryReconciliationJob.DRIFT_METRIC).count());
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed reconciliation so the next interval tries again")
+    void shouldSwallowFailures() {
+        stubLock(true);
+        stubReconcile(Mono.error(new IllegalStateException("connection lost")));
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+
+        assertEquals(0.0, meterRegistry.counter(ApplicationSummaryReconciliationJob.DRIFT_METRIC).count());
+    }
+}
@@ -7,9 +7,13 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -34,6 +38,20 @@ public class SQSSender /*implements SomeGateway*/ {
                 .map(SendMessageResponse::messageId);
     }
 
+    public Mono<SendMessageBatchResponse> sendBatch(String queueName, List<SendMessageBatchRequestEntry> entries) {
+        String queueUrl = properties.queues().get(queueName);
+        if (queueUrl == null) {
+            return Mono.error(new IllegalArgumentException("Queue not configured: " + queueName));
+        }
+        return Mono.fromCallable(() -> SendMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(entries)
+                        .build())
+                .flatMap(request -> Mono.fromFuture(client.sendMessageBatch(request)))
+                .doOnNext(response -> log.debug("Batch sent to {}: {} successful, {} failed",
+                        queueName, response.successful().size(), response.failed().size()));
+    }
+
     private SendMessageRequest buildRequest(String message, String queueUrl, Map<String, MessageAttributeValue> attributes) {
         SendMessageRequest.Builder builder = SendMessageRequest.builder()
                 .queueUrl(queueUrl)
@@ -2,44 +2,56 @@ package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
-import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class CreditAnalysisAdapter implements CreditAnalysisGateway {
 
-    private final SQSSender sqsSender;
+    private final OutboxRepository outboxRepository;
     private final SqsMessageFactory messageFactory;
     private final String indebtednessQueue;
 
     public CreditAnalysisAdapter(
-            SQSSender sqsSender,
+            OutboxRepository outboxRepository,
             SqsMessageFactory messageFactory,
             @Value("${queue.names.indebtedness}") String indebtednessQueue
     ) {
-        this.sqsSender = sqsSender;
+        this.outboxRepository = outboxRepository;
         this.messageFactory = messageFactory;
         this.indebtednessQueue = indebtednessQueue;
     }
 
     @Override
     public Mono<Void> requestAnalysis(CreditAnalysisPayload payload) {
+        return outboxRepository.enqueue(toMessage(payload));
+    }
+
+    @Override
+    public Mono<Void> requestAnalyses(List<CreditAnalysisPayload> payloads) {
+        return Mono.fromCallable(() -> payloads.stream().map(this::toMessage).toList())
+                .flatMap(outboxRepository::enqueueAll);
+    }
+
+    private OutboxMessage toMessage(CreditAnalysisPayload payload) {
         var attributes = Map.of(
                 "eventType", "CREDIT_ANALYSIS_REQUESTED",
                 "applicationId", payload.getIdApplication().toString(),
                 "idUser", payload.getIdUser().toString()
         );
 
-        return sqsSender.send(
-                indebtednessQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
-        ).then();
+        return OutboxMessage.builder()
+                .queue(indebtednessQueue)
+                .body(messageFactory.toJson(payload))
+                .attributes(attributes)
+                .build();
     }
 }
 
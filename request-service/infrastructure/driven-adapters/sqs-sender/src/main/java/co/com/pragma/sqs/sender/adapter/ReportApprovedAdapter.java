@@ -1,35 +1,44 @@
 package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.model.report.ReportApprovedMessage;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
-import co.com.pragma.sqs.sender.SQSSender;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class ReportApprovedAdapter implements ReportApprovedGateway {
 
-    private final SQSSender sqsSender;
+    private final OutboxRepository outboxRepository;
     private final SqsMessageFactory messageFactory;
     private final String reportingQueue;
 
     public ReportApprovedAdapter(
-            SQSSender sqsSender,
+            OutboxRepository outboxRepository,
             SqsMessageFactory messageFactory,
             @Value("${queue.names.reporting}") String reportingQueue
     ) {
-        this.sqsSender = sqsSender;
+        this.outboxRepository = outboxRepository;
         this.messageFactory = messageFactory;
         this.reportingQueue = reportingQueue;
     }
 
     @Override
-    public Mono<Void> sendReportApprovedCount(Application application, String status) {
+    public Mono<Void> sendReportApprovedCounts(List<Application> applications, String status) {
+        return Mono.fromCallable(() -> applications.stream()
+                        .map(application -> toMessage(application, status))
+                        .toList())
+                .flatMap(outboxRepository::enqueueAll);
+    }
+
+    private OutboxMessage toMessage(Application application, String status) {
         ReportApprovedMessage payload = ReportApprovedMessage.builder()
                 .applicationId(application.getId())
                 .amount(application.getAmount())
@@ -41,10 +50,10 @@ public class ReportApprovedAdapter implements ReportApprovedGateway {
                 "reportId", "total_approved_requests"
         );
 
-        return sqsSender.send(
-                reportingQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
-        ).then();
+        return OutboxMessage.builder()
+                .queue(reportingQueue)
+                .body(messageFactory.toJson(payload))
+                .attributes(attributes)
+                .build();
     }
 }
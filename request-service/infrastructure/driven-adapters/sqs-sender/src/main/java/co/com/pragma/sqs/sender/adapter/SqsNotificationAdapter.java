@@ -3,34 +3,62 @@ package co.com.pragma.sqs.sender.adapter;
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
 import co.com.pragma.model.gateways.NotificationGateway;
-import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class SqsNotificationAdapter implements NotificationGateway {
 
-    private final SQSSender sqsSender;
+    private final OutboxRepository outboxRepository;
     private final SqsMessageFactory messageFactory;
     private final String notificationsQueue;
 
     public SqsNotificationAdapter(
-            SQSSender sqsSender,
+            OutboxRepository outboxRepository,
             SqsMessageFactory messageFactory,
             @Value("${queue.names.notifications}") String notificationsQueue
     ) {
-        this.sqsSender = sqsSender;
+        this.outboxRepository = outboxRepository;
         this.messageFactory = messageFactory;
         this.notificationsQueue = notificationsQueue;
     }
 
     @Override
     public Mono<Void> sendDecisionNotification(Application application, String status) {
+        return outboxRepository.enqueue(toDecisionMessage(application, status));
+    }
+
+    @Override
+    public Mono<Void> sendDecisionNotifications(List<Application> applications, String status) {
+        return Mono.fromCallable(() -> applications.stream()
+                        .map(application -> toDecisionMessage(application, status))
+                        .toList())
+                .flatMap(outboxRepository::enqueueAll);
+    }
+
+    @Override
+    public Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload payload) {
+        var attributes = Map.of(
+                "eventType", "CREDIT_ANALYSIS_RESPONSE",
+                "applicationId", payload.getApplicationId().toString()
+        );
+
+        return outboxRepository.enqueue(OutboxMessage.builder()
+                .queue(notificationsQueue)
+                .body(messageFactory.toJson(payload))
+                .attributes(attributes)
+                .build());
+    }
+
+    private OutboxMessage toDecisionMessage(Application application, String status) {
         var payload = Map.of(
                 "applicationId", application.getId(),
                 "email", application.getEmail(),
@@ -44,24 +72,10 @@ public class SqsNotificationAdapter implements NotificationGateway {
                 "applicationId", application.getId().toString()
         );
 
-        return sqsSender.send(
-                notificationsQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
-        ).then();
-    }
-
-    @Override
-    public Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload payload) {
-        var attributes = Map.of(
-                "eventType", "CREDIT_ANALYSIS_RESPONSE",
-                "applicationId", payload.getApplicationId().toString()
-        );
-
-        return sqsSender.send(
-                notificationsQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
-        ).then();
+        return OutboxMessage.builder()
+                .queue(notificationsQueue)
+                .body(messageFactory.toJson(payload))
+                .attributes(attributes)
+                .build();
     }
 }
@@ -0,0 +1,17 @@
+package co.com.pragma.sqs.sender.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapter.sqs.outbox")
+public record OutboxRelayProperties(
+        @DefaultValue("1s") Duration interval,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("8") int concurrency,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("1m") Duration lease,
+        @DefaultValue("5s") Duration retryBackoff,
+        @DefaultValue("10m") Duration maxRetryBackoff) {
+}
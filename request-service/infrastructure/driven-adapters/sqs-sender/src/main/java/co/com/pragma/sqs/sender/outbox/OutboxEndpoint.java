@@ -0,0 +1,47 @@
+package co.com.pragma.sqs.sender.outbox;
+
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Dead outbox messages per queue. A write replays them, back to pending with their attempts reset so the relay
+ * delivers them on its next tick, and a delete purges them; both take an optional {@code queue} and otherwise act on
+ * every queue.
+ */
+@Log4j2
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxEndpoint {
+
+    private final OutboxRepository outboxRepository;
+
+    @ReadOperation
+    public Mono<Map<String, Long>> deadMessages() {
+        return outboxRepository.countDead();
+    }
+
+    @WriteOperation
+    public Mono<Long> replay(@Nullable String queue) {
+        return outboxRepository.replayDead(queue)
+                .doOnNext(replayed -> log.info("Replaying {} dead outbox messages of {}", replayed,
+                        queue == null ? "every queue" : queue));
+    }
+
+    @DeleteOperation
+    public Mono<Long> purge(@Nullable String queue) {
+        return outboxRepository.purgeDead(queue)
+                .doOnNext(purged -> log.warn("Purged {} dead outbox messages of {}", purged,
+                        queue == null ? "every queue" : queue));
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.pragma.sqs.sender.outbox;
+
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
+import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.config.OutboxRelayProperties;
+import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers the messages the SQS adapters left in the outbox. Every tick claims batches until one comes back short,
+ * sends them per queue in SendMessageBatch calls of up to {@value #SQS_BATCH_LIMIT} entries and deletes the ones SQS
+ * accepted. A failed entry is retried on a later tick with exponential backoff, so delivery is at least once: a relay
+ * that stops between sending and marking sends the message again. A message whose last attempt fails is marked dead,
+ * logged and counted in {@value #DEAD_METRIC}; it is no longer claimed and stays until {@link OutboxEndpoint} replays
+ * or purges it.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "adapter.sqs.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final int SQS_BATCH_LIMIT = 10;
+    static final String DEAD_METRIC = "outbox.dead";
+
+    private final OutboxRepository outboxRepository;
+    private final SQSSender sqsSender;
+    private final SqsMessageFactory messageFactory;
+    private final OutboxRelayProperties properties;
+    private final MeterRegistry meterRegistry;
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.interval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        subscription = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<Long> run() {
+        return Mono.defer(this::relayBatch)
+                .expand(claimed -> claimed < properties.batchSize() ? Mono.empty() : relayBatch())
+                .reduce(0L, Long::sum)
+                .doOnNext(claimed -> {
+                    if (claimed > 0) {
+                        log.debug("Relayed {} outbox messages", claimed);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Outbox relay failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Long> relayBatch() {
+        int concurrency = Math.max(1, properties.concurrency());
+        return outboxRepository.claimBatch(properties.batchSize(), properties.lease())
+                .groupBy(OutboxMessage::getQueue)
+                .flatMap(queue -> queue.buffer(SQS_BATCH_LIMIT)
+                        .flatMap(batch -> deliver(queue.key(), batch).thenReturn((long) batch.size()), concurrency))
+                .reduce(0L, Long::sum);
+    }
+
+    Mono<Void> deliver(String queue, List<OutboxMessage> batch) {
+        Map<String, OutboxMessage> byEntryId = batch.stream()
+                .collect(Collectors.toMap(message -> String.valueOf(message.getId()), Function.identity()));
+        return Mono.fromCallable(() -> batch.stream().map(this::toEntry).toList())
+                .flatMap(entries -> sqsSender.sendBatch(queue, entries))
+                .onErrorResume(error -> Flux.fromIterable(batch)
+                        .concatMap(message -> markFailed(message, error.getMessage()))
+                        .then(Mono.empty()))
+                .flatMap(response -> outboxRepository.markSent(response.successful().stream()
+                                .map(entry -> byEntryId.get(entry.id()).getId())
+                                .toList())
+                        .thenMany(Flux.fromIterable(response.failed())
+                                .concatMap(failure -> markFailed(byEntryId.get(failure.id()), failure.message())))
+                        .then());
+    }
+
+    private SendMessageBatchRequestEntry toEntry(OutboxMessage message) {
+        SendMessageBatchRequestEntry.Builder entry = SendMessageBatchRequestEntry.builder()
+                .id(String.valueOf(message.getId()))
+                .messageBody(message.getBody());
+        Map<String, MessageAttributeValue> attributes = messageFactory.buildAttributes(message.getAttributes());
+        if (attributes != null && !attributes.isEmpty()) {
+            entry.messageAttributes(attributes);
+        }
+        return entry.build();
+    }
+
+    private Mono<Void> markFailed(OutboxMessage message, String error) {
+        if (message.getAttempts() >= properties.maxAttempts()) {
+            log.error("Giving up on outbox message {} to {} after {} attempts, marking it dead: {}",
+                    message.getId(), message.getQueue(), message.getAttempts(), error);
+            meterRegistry.counter(DEAD_METRIC, "queue", message.getQueue()).increment();
+            return outboxRepository.markDead(message.getId(), error);
+        }
+        Duration retryAfter = retryAfter(message.getAttempts());
+        log.warn("Could not relay outbox message {} to {} (attempt {} of {}), retrying in {}: {}",
+                message.getId(), message.getQueue(), message.getAttempts(), properties.maxAttempts(),
+                retryAfter, error);
+        return outboxRepository.markFailed(message.getId(), error, retryAfter);
+    }
+
+    Duration retryAfter(int attempts) {
+        Duration backoff = properties.retryBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : backoff;
+    }
+}
@@ -11,9 +11,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -112,4 +117,37 @@ class SQSSenderTest {
         SendMessageRequest request = captor.getValue();
         assertThat(request.messageAttributes()).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should send a batch to the configured queue url")
+    void shouldSendBatch() {
+        SendMessageBatchResponse response = SendMessageBatchResponse.builder()
+                .successful(SendMessageBatchResultEntry.builder().id("1").messageId("msg-1").build())
+                .build();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        StepVerifier.create(sender.sendBatch("myQueue", List.of(
+                        SendMessageBatchRequestEntry.builder().id("1").messageBody("Hello").build())))
+                .expectNext(response)
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo("http://sqs.amazonaws.com/123/myQueue");
+        assertThat(captor.getValue().entries()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return error when the batch queue name is not configured")
+    void shouldReturnErrorWhenBatchQueueNotConfigured() {
+        StepVerifier.create(sender.sendBatch("unknownQueue", List.of()))
+                .expectErrorSatisfies(error ->
+                        assertThat(error)
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("Queue not configured"))
+                .verify();
+
+        verify(sqsClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
 }
@@ -1,23 +1,26 @@
 package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
-import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,11 +28,17 @@ import static org.mockito.Mockito.when;
 class CreditAnalysisAdapterTest {
 
     @Mock
-    private SQSSender sqsSender;
+    private OutboxRepository outboxRepository;
 
     @Mock
     private SqsMessageFactory messageFactory;
 
+    @Captor
+    private ArgumentCaptor<OutboxMessage> messageCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxMessage>> messagesCaptor;
+
     private CreditAnalysisAdapter creditAnalysisAdapter;
 
     private final String indebtednessQueue = "indebtedness-queue";
@@ -39,7 +48,7 @@ class CreditAnalysisAdapterTest {
 
     @BeforeEach
     void setUp() {
-        creditAnalysisAdapter = new CreditAnalysisAdapter(sqsSender, messageFactory, indebtednessQueue);
+        creditAnalysisAdapter = new CreditAnalysisAdapter(outboxRepository, messageFactory, indebtednessQueue);
 
         payload = CreditAnalysisPayload.builder()
                 .idApplication(applicationId)
@@ -48,72 +57,59 @@ class CreditAnalysisAdapterTest {
     }
 
     @Test
-    @DisplayName("Should send credit analysis request successfully")
-    void requestAnalysis_ShouldSendMessage() {
+    @DisplayName("Should write the credit analysis request to the outbox")
+    void requestAnalysis_ShouldEnqueueMessage() {
         String jsonMessage = "{\"idApplication\":\"" + applicationId + "\",\"idUser\":\"" + userId + "\"}";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of(
-                "key", MessageAttributeValue.builder().dataType("String").stringValue("value").build()
-        );
 
         when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(outboxRepository.enqueue(any())).thenReturn(Mono.empty());
 
         StepVerifier.create(creditAnalysisAdapter.requestAnalysis(payload))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(payload);
-        verify(messageFactory).buildAttributes(Map.of(
+        verify(outboxRepository).enqueue(messageCaptor.capture());
+        OutboxMessage message = messageCaptor.getValue();
+        assertEquals(indebtednessQueue, message.getQueue());
+        assertEquals(jsonMessage, message.getBody());
+        assertEquals(Map.of(
                 "eventType", "CREDIT_ANALYSIS_REQUESTED",
                 "applicationId", applicationId.toString(),
                 "idUser", userId.toString()
-        ));
-        verify(sqsSender).send(indebtednessQueue, jsonMessage, expectedAttributes);
+        ), message.getAttributes());
     }
 
     @Test
-    @DisplayName("Should handle SQS send error")
+    @DisplayName("Should propagate an outbox write error")
     void requestAnalysis_ShouldHandleError() {
-        String jsonMessage = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
-
-        when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
-                .thenReturn(Mono.error(new RuntimeException("SQS error")));
+        when(messageFactory.toJson(payload)).thenReturn("json-payload");
+        when(outboxRepository.enqueue(any())).thenReturn(Mono.error(new RuntimeException("Outbox error")));
 
         StepVerifier.create(creditAnalysisAdapter.requestAnalysis(payload))
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException &&
-                                throwable.getMessage().equals("SQS error"))
+                                throwable.getMessage().equals("Outbox error"))
                 .verify();
-
-        verify(sqsSender).send(indebtednessQueue, jsonMessage, expectedAttributes);
     }
 
     @Test
-    @DisplayName("Should build correct attributes map")
-    void requestAnalysis_ShouldBuildCorrectAttributes() {
-        String jsonMessage = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of(
-                "eventType", MessageAttributeValue.builder().dataType("String").stringValue("CREDIT_ANALYSIS_REQUESTED").build(),
-                "applicationId", MessageAttributeValue.builder().dataType("String").stringValue(applicationId.toString()).build(),
-                "idUser", MessageAttributeValue.builder().dataType("String").stringValue(userId.toString()).build()
-        );
+    @DisplayName("Should write every credit analysis request to the outbox in one call")
+    void requestAnalyses_ShouldEnqueueAllMessages() {
+        UUID otherApplicationId = UUID.randomUUID();
+        CreditAnalysisPayload otherPayload = CreditAnalysisPayload.builder()
+                .idApplication(otherApplicationId)
+                .idUser(userId)
+                .build();
 
-        when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(messageFactory.toJson(any())).thenReturn("json-payload");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(creditAnalysisAdapter.requestAnalysis(payload))
+        StepVerifier.create(creditAnalysisAdapter.requestAnalyses(List.of(payload, otherPayload)))
                 .verifyComplete();
 
-        verify(messageFactory).buildAttributes(Map.of(
-                "eventType", "CREDIT_ANALYSIS_REQUESTED",
-                "applicationId", applicationId.toString(),
-                "idUser", userId.toString()
-        ));
+        verify(outboxRepository).enqueueAll(messagesCaptor.capture());
+        List<OutboxMessage> messages = messagesCaptor.getValue();
+        assertEquals(2, messages.size());
+        assertEquals(indebtednessQueue, messages.get(1).getQueue());
+        assertEquals(otherApplicationId.toString(), messages.get(1).getAttributes().get("applicationId"));
     }
 }
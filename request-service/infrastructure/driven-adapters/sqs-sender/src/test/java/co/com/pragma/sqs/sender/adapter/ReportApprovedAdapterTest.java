@@ -1,8 +1,9 @@
 package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.model.report.ReportApprovedMessage;
-import co.com.pragma.sqs.sender.SQSSender;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +15,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,7 +30,7 @@ import static org.mockito.Mockito.when;
 class ReportApprovedAdapterTest {
 
     @Mock
-    private SQSSender sqsSender;
+    private OutboxRepository outboxRepository;
 
     @Mock
     private SqsMessageFactory messageFactory;
@@ -37,7 +39,7 @@ class ReportApprovedAdapterTest {
     private ArgumentCaptor<ReportApprovedMessage> messageCaptor;
 
     @Captor
-    private ArgumentCaptor<Map<String, String>> attributesCaptor;
+    private ArgumentCaptor<List<OutboxMessage>> outboxBatchCaptor;
 
     private ReportApprovedAdapter reportApprovedAdapter;
 
@@ -47,7 +49,7 @@ class ReportApprovedAdapterTest {
 
     @BeforeEach
     void setUp() {
-        reportApprovedAdapter = new ReportApprovedAdapter(sqsSender, messageFactory, reportingQueue);
+        reportApprovedAdapter = new ReportApprovedAdapter(outboxRepository, messageFactory, reportingQueue);
 
         application = Application.builder()
                 .id(applicationId)
@@ -62,20 +64,15 @@ class ReportApprovedAdapterTest {
     }
 
     @Test
-    @DisplayName("Should send report approved message successfully")
-    void sendReportApprovedCount_ShouldSendMessage() {
+    @DisplayName("Should write the report approved message to the outbox")
+    void sendReportApprovedCounts_ShouldEnqueueMessage() {
         String status = "APPROVED";
         String expectedJson = "{\"applicationId\":\"" + applicationId + "\",\"amount\":20000.0,\"state\":\"APPROVED\"}";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of(
-                "key", MessageAttributeValue.builder().dataType("String").stringValue("value").build()
-        );
 
         when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application), status))
                 .verifyComplete();
 
         verify(messageFactory).toJson(messageCaptor.capture());
@@ -85,28 +82,24 @@ class ReportApprovedAdapterTest {
         assertEquals(20000.0, capturedMessage.getAmount());
         assertEquals("APPROVED", capturedMessage.getState());
 
-        verify(messageFactory).buildAttributes(attributesCaptor.capture());
-        Map<String, String> capturedAttributes = attributesCaptor.getValue();
-
-        assertEquals("REPORT_APPROVED", capturedAttributes.get("eventType"));
-        assertEquals("total_approved_requests", capturedAttributes.get("reportId"));
+        verify(outboxRepository).enqueueAll(outboxBatchCaptor.capture());
+        OutboxMessage outboxMessage = outboxBatchCaptor.getValue().getFirst();
 
-        verify(sqsSender).send(reportingQueue, expectedJson, expectedAttributes);
+        assertEquals(reportingQueue, outboxMessage.getQueue());
+        assertEquals(expectedJson, outboxMessage.getBody());
+        assertEquals("REPORT_APPROVED", outboxMessage.getAttributes().get("eventType"));
+        assertEquals("total_approved_requests", outboxMessage.getAttributes().get("reportId"));
     }
 
     @Test
     @DisplayName("Should handle different status values")
-    void sendReportApprovedCount_ShouldHandleDifferentStatus() {
+    void sendReportApprovedCounts_ShouldHandleDifferentStatus() {
         String status = "REJECTED";
-        String expectedJson = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn("json-payload");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application), status))
                 .verifyComplete();
 
         verify(messageFactory).toJson(messageCaptor.capture());
@@ -115,40 +108,32 @@ class ReportApprovedAdapterTest {
     }
 
     @Test
-    @DisplayName("Should handle SQS send errors")
-    void sendReportApprovedCount_ShouldHandleSqsErrors() {
+    @DisplayName("Should propagate outbox write errors")
+    void sendReportApprovedCounts_ShouldHandleOutboxErrors() {
         // Arrange
         String status = "APPROVED";
-        String expectedJson = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.error(new RuntimeException("SQS error")));
+        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn("json-payload");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.error(new RuntimeException("Outbox error")));
 
         // Act & Assert
-        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application), status))
                 .expectErrorMatches(throwable ->
                         throwable instanceof RuntimeException &&
-                                throwable.getMessage().equals("SQS error"))
+                                throwable.getMessage().equals("Outbox error"))
                 .verify();
     }
 
     @Test
     @DisplayName("Should build correct message payload")
-    void sendReportApprovedCount_ShouldBuildCorrectPayload() {
+    void sendReportApprovedCounts_ShouldBuildCorrectPayload() {
         // Arrange
         String status = "PENDING";
-        String expectedJson = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn("json-payload");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application), status))
                 .verifyComplete();
 
         verify(messageFactory).toJson(messageCaptor.capture());
@@ -160,4 +145,24 @@ class ReportApprovedAdapterTest {
                 () -> assertEquals(status, capturedMessage.getState())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should write the report messages of a batch to the outbox at once")
+    void sendReportApprovedCounts_ShouldEnqueueAllMessages() {
+        Application other = application.toBuilder().id(UUID.randomUUID()).amount(5000.0).build();
+        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn("json-payload");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application, other), "Approved"))
+                .verifyComplete();
+
+        verify(messageFactory, times(2)).toJson(messageCaptor.capture());
+        assertEquals(List.of(20000.0, 5000.0), messageCaptor.getAllValues().stream()
+                .map(ReportApprovedMessage::getAmount)
+                .toList());
+        verify(outboxRepository).enqueueAll(outboxBatchCaptor.capture());
+        assertEquals(2, outboxBatchCaptor.getValue().size());
+        assertTrue(outboxBatchCaptor.getValue().stream()
+                .allMatch(message -> reportingQueue.equals(message.getQueue())));
+    }
+}
@@ -2,7 +2,8 @@ package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
-import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,8 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -28,7 +29,7 @@ import static org.mockito.Mockito.*;
 class SqsNotificationAdapterTest {
 
     @Mock
-    private SQSSender sqsSender;
+    private OutboxRepository outboxRepository;
 
     @Mock
     private SqsMessageFactory messageFactory;
@@ -43,9 +44,15 @@ class SqsNotificationAdapterTest {
     @Captor
     private ArgumentCaptor<Map<String, Object>> payloadCaptor;
 
+    @Captor
+    private ArgumentCaptor<OutboxMessage> outboxCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxMessage>> outboxBatchCaptor;
+
     @BeforeEach
     void setUp() {
-        adapter = new SqsNotificationAdapter(sqsSender, messageFactory, notificationsQueue);
+        adapter = new SqsNotificationAdapter(outboxRepository, messageFactory, notificationsQueue);
 
         application = Application.builder()
                 .id(appId)
@@ -60,16 +67,13 @@ class SqsNotificationAdapterTest {
     }
 
     @Test
-    @DisplayName("Should send decision notification successfully")
-    void sendDecisionNotification_ShouldSendMessage() {
+    @DisplayName("Should write the decision notification to the outbox")
+    void sendDecisionNotification_ShouldEnqueueMessage() {
         String status = "APPROVED";
         String expectedJson = "json-payload";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
         when(messageFactory.toJson(any())).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(notificationsQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(outboxRepository.enqueue(any())).thenReturn(Mono.empty());
 
         StepVerifier.create(adapter.sendDecisionNotification(application, status))
                 .verifyComplete();
@@ -84,36 +88,37 @@ class SqsNotificationAdapterTest {
                 .containsEntry("amount", 1000.0)
                 .containsEntry("term", 6);
 
-        verify(messageFactory).buildAttributes(Map.of(
+        verify(outboxRepository).enqueue(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getQueue()).isEqualTo(notificationsQueue);
+        assertThat(outboxCaptor.getValue().getBody()).isEqualTo(expectedJson);
+        assertThat(outboxCaptor.getValue().getAttributes()).isEqualTo(Map.of(
                 "eventType", "DECISION_FINAL",
                 "applicationId", appId.toString()
         ));
-        verify(sqsSender).send(notificationsQueue, expectedJson, expectedAttributes);
     }
 
     @Test
-    @DisplayName("Should send credit analysis decision notification successfully")
-    void sendCreditAnalysisDecisionNotification_ShouldSendMessage() {
+    @DisplayName("Should write the credit analysis decision notification to the outbox")
+    void sendCreditAnalysisDecisionNotification_ShouldEnqueueMessage() {
         CreditAnalysisResponsePayload payload = new CreditAnalysisResponsePayload();
         payload.setApplicationId(appId);
 
         String expectedJson = "json-credit-analysis";
-        Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
         when(messageFactory.toJson(payload)).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
-        when(sqsSender.send(eq(notificationsQueue), eq(expectedJson), eq(expectedAttributes)))
-                .thenReturn(Mono.just("message-id"));
+        when(outboxRepository.enqueue(any())).thenReturn(Mono.empty());
 
         StepVerifier.create(adapter.sendCreditAnalysisDecisionNotification(payload))
                 .verifyComplete();
 
         verify(messageFactory).toJson(payload);
-        verify(messageFactory).buildAttributes(Map.of(
+        verify(outboxRepository).enqueue(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getQueue()).isEqualTo(notificationsQueue);
+        assertThat(outboxCaptor.getValue().getBody()).isEqualTo(expectedJson);
+        assertThat(outboxCaptor.getValue().getAttributes()).isEqualTo(Map.of(
                 "eventType", "CREDIT_ANALYSIS_RESPONSE",
                 "applicationId", appId.toString()
         ));
-        verify(sqsSender).send(notificationsQueue, expectedJson, expectedAttributes);
     }
 
     @Test
@@ -123,4 +128,24 @@ class SqsNotificationAdapterTest {
                 adapter.sendDecisionNotification(null, "APPROVED")
         );
     }
+
+    @Test
+    @DisplayName("Should write every decision notification of a batch to the outbox at once")
+    void sendDecisionNotifications_ShouldEnqueueAllMessages() {
+        Application other = application.toBuilder().id(UUID.randomUUID()).build();
+        when(messageFactory.toJson(any())).thenReturn("{}");
+        when(outboxRepository.enqueueAll(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.sendDecisionNotifications(List.of(application, other), "Rejected"))
+                .verifyComplete();
+
+        verify(outboxRepository).enqueueAll(outboxBatchCaptor.capture());
+        assertThat(outboxBatchCaptor.getValue())
+                .extracting(message -> message.getAttributes().get("applicationId"))
+                .containsExactly(appId.toString(), other.getId().toString());
+        assertThat(outboxBatchCaptor.getValue())
+                .allMatch(message -> message.getQueue().equals(notificationsQueue)
+                        && message.getAttributes().get("eventType").equals("DECISION_FINAL"));
+        verify(outboxRepository, never()).enqueue(any());
+    }
 }
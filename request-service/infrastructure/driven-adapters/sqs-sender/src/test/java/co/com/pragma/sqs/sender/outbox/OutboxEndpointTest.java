@@ -0,0 +1,53 @@
+package co.com.pragma.sqs.sender.outbox;
+
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEndpointTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @InjectMocks
+    private OutboxEndpoint endpoint;
+
+    @Test
+    @DisplayName("Should list the dead messages per queue")
+    void shouldCountDeadMessages() {
+        when(outboxRepository.countDead()).thenReturn(Mono.just(Map.of("notifications", 3L)));
+
+        StepVerifier.create(endpoint.deadMessages())
+                .expectNext(Map.of("notifications", 3L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should replay the dead messages of one queue or of every queue")
+    void shouldReplayDeadMessages() {
+        when(outboxRepository.replayDead("notifications")).thenReturn(Mono.just(3L));
+        when(outboxRepository.replayDead(null)).thenReturn(Mono.just(5L));
+
+        StepVerifier.create(endpoint.replay("notifications")).expectNext(3L).verifyComplete();
+        StepVerifier.create(endpoint.replay(null)).expectNext(5L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should purge the dead messages of one queue")
+    void shouldPurgeDeadMessages() {
+        when(outboxRepository.purgeDead("reporting")).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(endpoint.purge("reporting")).expectNext(2L).verifyComplete();
+    }
+}
@@ -0,0 +1,231 @@
+package co.com.pragma.sqs.sender.outbox;
+
+import co.com.pragma.model.outbox.OutboxMessage;
+import co.com.pragma.model.outbox.gateways.OutboxRepository;
+import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.config.OutboxRelayProperties;
+import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private SQSSender sqsSender;
+
+    @Mock
+    private SqsMessageFactory messageFactory;
+
+    @Captor
+    private ArgumentCaptor<List<SendMessageBatchRequestEntry>> entriesCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        OutboxRelayProperties properties = new OutboxRelayProperties(Duration.ofSeconds(1), 2, 4, 10, LEASE,
+                Duration.ofSeconds(5), Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, sqsSender, messageFactory, properties, meterRegistry);
+    }
+
+    private static OutboxMessage message(long id, int attempts) {
+        return OutboxMessage.builder()
+                .id(id)
+                .queue("notifications")
+                .body("{\"id\":" + id + "}")
+                .attributes(Map.of("eventType", "DECISION_FINAL"))
+                .attempts(attempts)
+                .build();
+    }
+
+    private static SendMessageBatchResponse accepted(long... ids) {
+        return SendMessageBatchResponse.builder()
+                .successful(LongStream.of(ids)
+                        .mapToObj(id -> SendMessageBatchResultEntry.builder().id(String.valueOf(id)).build())
+                        .toList())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should send claimed messages in one batch and delete the ones SQS accepted")
+    void shouldRelayAndMarkSent() {
+        Map<String, MessageAttributeValue> attributes = Map.of("eventType",
+                MessageAttributeValue.builder().dataType("String").stringValue("DECISION_FINAL").build());
+        when(outboxRepository.claimBatch(2, LEASE))
+                .thenReturn(Flux.just(message(1, 1)));
+        when(messageFactory.buildAttributes(Map.of("eventType", "DECISION_FINAL"))).thenReturn(attributes);
+        when(sqsSender.sendBatch(eq("notifications"), any())).thenReturn(Mono.just(accepted(1)));
+        when(outboxRepository.markSent(List.of(1L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(sqsSender).sendBatch(eq("notifications"), entriesCaptor.capture());
+        SendMessageBatchRequestEntry entry = entriesCaptor.getValue().getFirst();
+        assertEquals("1", entry.id());
+        assertEquals("{\"id\":1}", entry.messageBody());
+        assertEquals(attributes, entry.messageAttributes());
+        verify(outboxRepository, never()).markFailed(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should split claimed messages into one SendMessageBatch call per queue and ten entries")
+    void shouldBatchPerQueue() {
+        relay = new OutboxRelay(outboxRepository, sqsSender, messageFactory, new OutboxRelayProperties(
+                Duration.ofSeconds(1), 50, 4, 10, LEASE, Duration.ofSeconds(5), Duration.ofMinutes(1)), meterRegistry);
+        List<OutboxMessage> claimed = LongStream.rangeClosed(1, 12)
+                .mapToObj(id -> message(id, 1))
+                .collect(Collectors.toCollection(ArrayList::new));
+        claimed.add(message(13, 1).toBuilder().queue("reporting").build());
+        when(outboxRepository.claimBatch(50, LEASE)).thenReturn(Flux.fromIterable(claimed));
+        when(sqsSender.sendBatch(any(), any())).thenAnswer(invocation -> {
+            List<SendMessageBatchRequestEntry> entries = invocation.getArgument(1);
+            return Mono.just(accepted(entries.stream().mapToLong(entry -> Long.parseLong(entry.id())).toArray()));
+        });
+        when(outboxRepository.markSent(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(13L)
+                .verifyComplete();
+
+        verify(sqsSender, times(2)).sendBatch(eq("notifications"), entriesCaptor.capture());
+        assertEquals(List.of(10, 2), entriesCaptor.getAllValues().stream().map(List::size).toList());
+        verify(sqsSender).sendBatch(eq("reporting"), any());
+        verify(outboxRepository, times(3)).markSent(any());
+    }
+
+    @Test
+    @DisplayName("Should keep claiming while batches come back full")
+    void shouldDrainFullBatches() {
+        when(outboxRepository.claimBatch(2, LEASE))
+                .thenReturn(Flux.just(message(1, 1), message(2, 1)))
+                .thenReturn(Flux.just(message(3, 1)));
+        when(sqsSender.sendBatch(any(), any()))
+                .thenReturn(Mono.just(accepted(1, 2)))
+                .thenReturn(Mono.just(accepted(3)));
+        when(outboxRepository.markSent(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(outboxRepository, times(2)).claimBatch(2, LEASE);
+        verify(outboxRepository).markSent(List.of(1L, 2L));
+        verify(outboxRepository).markSent(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Should reschedule the entries SQS rejected with exponential backoff")
+    void shouldRescheduleFailedEntries() {
+        when(outboxRepository.claimBatch(2, LEASE))
+                .thenReturn(Flux.just(message(1, 1), message(2, 3)))
+                .thenReturn(Flux.empty());
+        when(sqsSender.sendBatch(any(), any())).thenReturn(Mono.just(SendMessageBatchResponse.builder()
+                .successful(SendMessageBatchResultEntry.builder().id("1").build())
+                .failed(BatchResultErrorEntry.builder().id("2").message("Throttled").build())
+                .build()));
+        when(outboxRepository.markSent(List.of(1L))).thenReturn(Mono.empty());
+        when(outboxRepository.markFailed(2L, "Throttled", Duration.ofSeconds(20))).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(outboxRepository).markSent(List.of(1L));
+        verify(outboxRepository).markFailed(2L, "Throttled", Duration.ofSeconds(20));
+        assertEquals(0.0, meterRegistry.counter(OutboxRelay.DEAD_METRIC, "queue", "notifications").count());
+    }
+
+    @Test
+    @DisplayName("Should mark a message whose last attempt failed as dead and count it")
+    void shouldCountDeadMessages() {
+        when(outboxRepository.claimBatch(2, LEASE)).thenReturn(Flux.just(message(1, 10)));
+        when(sqsSender.sendBatch(any(), any())).thenReturn(Mono.just(SendMessageBatchResponse.builder()
+                .failed(BatchResultErrorEntry.builder().id("1").message("Message too long").build())
+                .build()));
+        when(outboxRepository.markSent(List.of())).thenReturn(Mono.empty());
+        when(outboxRepository.markDead(1L, "Message too long")).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(outboxRepository).markDead(1L, "Message too long");
+        verify(outboxRepository, never()).markFailed(anyLong(), any(), any());
+        assertEquals(1.0, meterRegistry.counter(OutboxRelay.DEAD_METRIC, "queue", "notifications").count());
+    }
+
+    @Test
+    @DisplayName("Should reschedule the whole batch when the SendMessageBatch call fails")
+    void shouldRescheduleFailedBatch() {
+        when(outboxRepository.claimBatch(2, LEASE)).thenReturn(Flux.just(message(1, 3)));
+        when(sqsSender.sendBatch(any(), any())).thenReturn(Mono.error(new IllegalStateException("Connection reset")));
+        when(outboxRepository.markFailed(1L, "Connection reset", Duration.ofSeconds(20))).thenReturn(Mono.empty());
+
+        StepVerifier.create(relay.run())
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(outboxRepository).markFailed(1L, "Connection reset", Duration.ofSeconds(20));
+        verify(outboxRepository, never()).markSent(any());
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failure to claim so the next tick runs")
+    void shouldSwallowClaimFailure() {
+        when(outboxRepository.claimBatch(2, LEASE))
+                .thenReturn(Flux.error(new IllegalStateException("Connection refused")));
+
+        StepVerifier.create(relay.run())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cap the retry backoff")
+    void shouldCapRetryBackoff() {
+        assertEquals(Duration.ofSeconds(5), relay.retryAfter(1));
+        assertEquals(Duration.ofSeconds(40), relay.retryAfter(4));
+        assertEquals(Duration.ofMinutes(1), relay.retryAfter(9));
+        assertEquals(Duration.ofMinutes(1), relay.retryAfter(64));
+    }
+}
@@ -6,6 +6,7 @@ import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.webclient.dto.UserValidationRequest;
+import co.com.pragma.webclient.dto.UsersByDocumentRequest;
 import co.com.pragma.webclient.dto.UsersFoundRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -64,4 +65,21 @@ public class AuthServiceAdapter implements AuthValidationGateway {
                 })
                 .bodyToFlux(UserFound.class);
     }
+
+    @Override
+    public Flux<UserFound> findClientsByIdDocuments(List<String> idDocuments, String token) {
+        return authWebClient
+                .post()
+                .uri("/auth/api/v1/users/documents")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new UsersByDocumentRequest(idDocuments))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response -> {
+                    if (response.statusCode().equals(HttpStatus.UNAUTHORIZED)) {
+                        return Mono.error(new UnauthorizedException("Unauthorized: Invalid token"));
+                    }
+                    return response.createException().flatMap(Mono::error);
+                })
+                .bodyToFlux(UserFound.class);
+    }
 }
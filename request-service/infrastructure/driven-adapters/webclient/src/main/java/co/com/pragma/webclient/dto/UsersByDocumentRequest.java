@@ -0,0 +1,8 @@
+package co.com.pragma.webclient.dto;
+
+import java.util.List;
+
+public record UsersByDocumentRequest(
+        List<String> idDocuments
+) {
+}
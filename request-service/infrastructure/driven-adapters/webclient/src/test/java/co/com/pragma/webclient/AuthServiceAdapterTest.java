@@ -5,6 +5,7 @@ import co.com.pragma.model.auth.ValidatedUser;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.webclient.dto.UserValidationRequest;
+import co.com.pragma.webclient.dto.UsersByDocumentRequest;
 import co.com.pragma.webclient.dto.UsersFoundRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.mockwebserver.MockResponse;
@@ -214,4 +215,48 @@ class AuthServiceAdapterTest {
                 .expectError()
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findClientsByIdDocuments should post every document in one request")
+    void findClientsByIdDocuments_Success() throws Exception {
+        List<UserFound> expectedUsers = List.of(
+                UserFound.builder()
+                        .idUser(UUID.randomUUID())
+                        .email("john@example.com")
+                        .idDocument("11111111")
+                        .baseSalary(3000.0)
+                        .build()
+        );
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(HttpStatus.OK.value())
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(objectMapper.writeValueAsString(expectedUsers)));
+
+        StepVerifier.create(authServiceAdapter.findClientsByIdDocuments(List.of("11111111", "22222222"), token))
+                .expectNextMatches(user -> user.getIdDocument().equals("11111111"))
+                .verifyComplete();
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertEquals("POST", recordedRequest.getMethod());
+        assertEquals("/auth/api/v1/users/documents", recordedRequest.getPath());
+        assertEquals("Bearer " + token, recordedRequest.getHeader(HttpHeaders.AUTHORIZATION));
+
+        UsersByDocumentRequest requestBody = objectMapper.readValue(
+                recordedRequest.getBody().readUtf8(), UsersByDocumentRequest.class);
+        assertEquals(List.of("11111111", "22222222"), requestBody.idDocuments());
+    }
+
+    @Test
+    @DisplayName("findClientsByIdDocuments should throw UnauthorizedException when response is 401")
+    void findClientsByIdDocuments_Unauthorized() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(HttpStatus.UNAUTHORIZED.value()));
+
+        StepVerifier.create(authServiceAdapter.findClientsByIdDocuments(List.of("11111111"), token))
+                .expectErrorMatches(ex ->
+                        ex instanceof UnauthorizedException &&
+                                ex.getMessage().equals("Unauthorized: Invalid token"))
+                .verify();
+    }
+}
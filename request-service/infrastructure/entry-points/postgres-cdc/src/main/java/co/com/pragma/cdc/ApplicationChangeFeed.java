@@ -0,0 +1,272 @@
+package co.com.pragma.cdc;
+
+import co.com.pragma.cdc.config.ChangeFeedProperties;
+import co.com.pragma.cdc.pgoutput.PgOutputDecoder;
+import co.com.pragma.cdc.pgoutput.PgOutputMessage;
+import co.com.pragma.model.changefeed.ApplicationStatusChange;
+import co.com.pragma.usecase.publishstatuschanges.PublishStatusChangesUseCase;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlReplicationConnection;
+import io.r2dbc.postgresql.client.SSLMode;
+import io.r2dbc.postgresql.replication.LogSequenceNumber;
+import io.r2dbc.postgresql.replication.ReplicationRequest;
+import io.r2dbc.postgresql.replication.ReplicationSlot;
+import io.r2dbc.postgresql.replication.ReplicationSlotRequest;
+import io.r2dbc.postgresql.replication.ReplicationStream;
+import io.r2dbc.spi.R2dbcException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the reporting events of committed status transitions from the Postgres write-ahead log instead of the
+ * request path. A logical replication slot streams the {@code application_status_changes} publication through
+ * pgoutput; changes are grouped per transaction, batched, and handed to {@link PublishStatusChangesUseCase}, and only
+ * then is the commit position confirmed to the server. A slot has a single active consumer, so with several instances
+ * one streams and the others keep retrying until it goes away.
+ * <p>
+ * Updates of applications carry their old row (the table and its partitions have {@code REPLICA IDENTITY FULL}), so
+ * only updates that changed {@code id_status} are handed on.
+ * <p>
+ * The feed is the only publisher of approval events and is on unless {@code entrypoint.cdc.enabled} is false; startup
+ * fails when its slot cannot be created. The slot outlives the application and keeps WAL on the primary until
+ * consumed, bounded by {@code max_slot_wal_keep_size}; {@code postgres.replication.slot.lag} shows how much it holds.
+ * A slot that went past that bound is invalidated and the changes it held are gone: the feed logs it as an error,
+ * drops the slot and fails the attempt, and the next one recreates the slot and republishes from
+ * {@code applications.approved_at} the approvals after the last checkpoint. A slot dropped by hand is caught up the
+ * same way once it is recreated.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "entrypoint.cdc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationChangeFeed {
+
+    static final String TABLE = "applications";
+    private static final String OUTPUT_PLUGIN = "pgoutput";
+    private static final String DUPLICATE_OBJECT = "42710";
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+    private static final DateTimeFormatter TIMESTAMP = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
+    private final Supplier<Mono<PostgresqlReplicationConnection>> connectionSupplier;
+    private final ReplicationSlots replicationSlots;
+    private final PublishStatusChangesUseCase publishStatusChangesUseCase;
+    private final ChangeFeedProperties properties;
+    private Disposable subscription;
+
+    @Autowired
+    public ApplicationChangeFeed(ChangeFeedProperties properties,
+                                 PublishStatusChangesUseCase publishStatusChangesUseCase) {
+        this(new PostgresqlConnectionFactory(buildConnectionConfiguration(properties)), publishStatusChangesUseCase,
+                properties);
+    }
+
+    private ApplicationChangeFeed(PostgresqlConnectionFactory connectionFactory,
+                                  PublishStatusChangesUseCase publishStatusChangesUseCase,
+                                  ChangeFeedProperties properties) {
+        this(connectionFactory::replication, new ReplicationSlots(connectionFactory), publishStatusChangesUseCase,
+                properties);
+    }
+
+    ApplicationChangeFeed(Supplier<Mono<PostgresqlReplicationConnection>> connectionSupplier,
+                          ReplicationSlots replicationSlots,
+                          PublishStatusChangesUseCase publishStatusChangesUseCase,
+                          ChangeFeedProperties properties) {
+        this.connectionSupplier = connectionSupplier;
+        this.replicationSlots = replicationSlots;
+        this.publishStatusChangesUseCase = publishStatusChangesUseCase;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        checkSlot();
+        subscription = stream()
+                .subscribe(
+                        ignored -> { },
+                        error -> log.error("Application change feed stopped: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Creates the slot, or recovers a lost one, before the application reports ready, so a server without
+     * {@code wal_level = logical} or a user without the REPLICATION attribute stops startup instead of leaving
+     * reporting without approval events.
+     */
+    void checkSlot() {
+        try {
+            Mono.usingWhen(Mono.defer(connectionSupplier), this::prepareSlot, PostgresqlReplicationConnection::close)
+                    .retryWhen(Retry.max(1).filter(SlotLostException.class::isInstance))
+                    .block(STARTUP_TIMEOUT);
+        } catch (RuntimeException error) {
+            throw new IllegalStateException("Replication slot " + properties.slotName() + " could not be created: "
+                    + error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Emits the commit position confirmed after each published batch.
+     */
+    Flux<Long> stream() {
+        return Flux.usingWhen(
+                        Mono.defer(connectionSupplier),
+                        connection -> prepareSlot(connection)
+                                .flatMap(checkpoint -> connection.startReplication(replicationRequest(checkpoint)))
+                                .flatMapMany(this::consume),
+                        PostgresqlReplicationConnection::close)
+                .concatWith(Mono.error(() -> new IllegalStateException("Replication stream closed by the server")))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Application change feed disconnected, reconnecting: {}",
+                                signal.failure().getMessage())));
+    }
+
+    // Emits the position to stream from. A slot created here starts at the current end of the WAL, so whatever an
+    // earlier slot had not delivered is caught up first; if that fails the slot is dropped again so the next attempt
+    // retries the catch-up instead of streaming past the gap.
+    private Mono<Long> prepareSlot(PostgresqlReplicationConnection connection) {
+        String slotName = properties.slotName();
+        return createSlot(connection)
+                .flatMap(slot -> publishStatusChangesUseCase.catchUp(slotName, slot.getConsistentPoint().asLong())
+                        .onErrorResume(error -> replicationSlots.drop(slotName).then(Mono.error(error))))
+                .then(Mono.defer(() -> replicationSlots.isLost(slotName)))
+                .flatMap(lost -> lost
+                        ? dropLostSlot()
+                        : publishStatusChangesUseCase.findCheckpoint(slotName));
+    }
+
+    private Mono<ReplicationSlot> createSlot(PostgresqlReplicationConnection connection) {
+        return connection.createSlot(ReplicationSlotRequest.logical()
+                        .slotName(properties.slotName())
+                        .outputPlugin(OUTPUT_PLUGIN)
+                        .build())
+                .doOnNext(slot -> log.info("Created replication slot {} at {}", slot.getSlotName(),
+                        slot.getConsistentPoint()))
+                .onErrorResume(error -> error instanceof R2dbcException exception
+                        && DUPLICATE_OBJECT.equals(exception.getSqlState()), error -> Mono.empty());
+    }
+
+    private Mono<Long> dropLostSlot() {
+        log.error("Replication slot {} was invalidated and the changes it held are lost; dropping it so it is "
+                + "recreated and the approvals after the last checkpoint are republished", properties.slotName());
+        return replicationSlots.drop(properties.slotName())
+                .then(Mono.error(() -> new SlotLostException(properties.slotName())));
+    }
+
+    private ReplicationRequest replicationRequest(long checkpoint) {
+        return ReplicationRequest.logical()
+                .slotName(properties.slotName())
+                .startPosition(LogSequenceNumber.valueOf(checkpoint))
+                .slotOption("proto_version", "1")
+                .slotOption("publication_names", properties.publication())
+                .statusInterval(properties.statusInterval())
+                .build();
+    }
+
+    private Flux<Long> consume(ReplicationStream stream) {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        return stream.map(decoder::decode)
+                .bufferUntil(PgOutputMessage.Commit.class::isInstance)
+                .map(this::toTransaction)
+                .bufferTimeout(properties.batchSize(), properties.batchWindow(), true)
+                .concatMap(this::publish)
+                .doOnNext(lsn -> {
+                    stream.setFlushedLSN(LogSequenceNumber.valueOf(lsn));
+                    stream.setAppliedLSN(LogSequenceNumber.valueOf(lsn));
+                });
+    }
+
+    // Batches without status changes are confirmed without a database round trip: nothing before them is unpublished.
+    private Mono<Long> publish(List<Transaction> transactions) {
+        long lsn = transactions.getLast().endLsn();
+        List<ApplicationStatusChange> changes = transactions.stream()
+                .flatMap(transaction -> transaction.changes().stream())
+                .toList();
+        if (changes.isEmpty()) {
+            return Mono.just(lsn);
+        }
+        return publishStatusChangesUseCase.publish(properties.slotName(), changes, lsn)
+                .thenReturn(lsn);
+    }
+
+    private Transaction toTransaction(List<PgOutputMessage> messages) {
+        if (!(messages.getLast() instanceof PgOutputMessage.Commit commit)) {
+            throw new IllegalStateException("Replication stream ended in the middle of a transaction");
+        }
+        List<ApplicationStatusChange> changes = messages.stream()
+                .filter(PgOutputMessage.RowChange.class::isInstance)
+                .map(PgOutputMessage.RowChange.class::cast)
+                .filter(change -> change.operation() == 'U' && TABLE.equals(change.table()))
+                .map(change -> toStatusChange(change, commit.endLsn()))
+                .filter(change -> !change.getIdStatus().equals(change.getPreviousIdStatus()))
+                .toList();
+        return new Transaction(changes, commit.endLsn());
+    }
+
+    private static ApplicationStatusChange toStatusChange(PgOutputMessage.RowChange change, long lsn) {
+        Map<String, String> values = change.values();
+        String previousIdStatus = change.oldValues().get("id_status");
+        if (previousIdStatus == null) {
+            throw new IllegalStateException("Update of " + TABLE + " without its old row: the table and every "
+                    + "partition need REPLICA IDENTITY FULL");
+        }
+        String updatedAt = values.get("updated_at");
+        return ApplicationStatusChange.builder()
+                .idApplication(UUID.fromString(values.get("id")))
+                .amount(Double.valueOf(values.get("amount")))
+                .idStatus(UUID.fromString(values.get("id_status")))
+                .previousIdStatus(UUID.fromString(previousIdStatus))
+                .updatedAt(updatedAt == null ? null : LocalDateTime.parse(updatedAt, TIMESTAMP))
+                .lsn(lsn)
+                .build();
+    }
+
+    static PostgresqlConnectionConfiguration buildConnectionConfiguration(ChangeFeedProperties properties) {
+        return PostgresqlConnectionConfiguration.builder()
+                .host(properties.host())
+                .port(properties.port())
+                .database(properties.database())
+                .username(properties.username())
+                .password(properties.password())
+                .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE)
+                .build();
+    }
+
+    private record Transaction(List<ApplicationStatusChange> changes, long endLsn) {
+    }
+
+    static final class SlotLostException extends IllegalStateException {
+        SlotLostException(String slotName) {
+            super("Replication slot " + slotName + " was invalidated");
+        }
+    }
+}
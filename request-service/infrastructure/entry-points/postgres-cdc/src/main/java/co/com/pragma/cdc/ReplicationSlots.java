@@ -0,0 +1,41 @@
+package co.com.pragma.cdc;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads and drops the feed's replication slot over a regular connection, since a replication connection only speaks
+ * the replication protocol.
+ */
+@RequiredArgsConstructor
+class ReplicationSlots {
+
+    // 'lost' once the slot fell further behind than max_slot_wal_keep_size and the WAL it needed was removed.
+    static final String IS_LOST = "SELECT wal_status = 'lost' AS lost FROM pg_replication_slots WHERE slot_name = $1";
+    static final String DROP = "SELECT pg_drop_replication_slot(slot_name) FROM pg_replication_slots WHERE slot_name = $1";
+
+    private final ConnectionFactory connectionFactory;
+
+    Mono<Boolean> isLost(String slot) {
+        return Mono.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> Flux.from(connection.createStatement(IS_LOST).bind("$1", slot).execute())
+                                .concatMap(result -> result.map((row, metadata) ->
+                                        Boolean.TRUE.equals(row.get("lost", Boolean.class))))
+                                .next(),
+                        Connection::close)
+                .defaultIfEmpty(false);
+    }
+
+    Mono<Void> drop(String slot) {
+        return Mono.usingWhen(
+                Mono.from(connectionFactory.create()),
+                connection -> Flux.from(connection.createStatement(DROP).bind("$1", slot).execute())
+                        .concatMap(result -> result.map((row, metadata) -> slot))
+                        .then(),
+                Connection::close);
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.cdc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "entrypoint.cdc")
+public record ChangeFeedProperties(
+        String host,
+        Integer port,
+        String database,
+        String username,
+        String password,
+        boolean ssl,
+        @DefaultValue("request_service_application_status") String slotName,
+        @DefaultValue("application_status_changes") String publication,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration batchWindow,
+        @DefaultValue("10s") Duration statusInterval) {
+}
@@ -0,0 +1,99 @@
+package co.com.pragma.cdc.pgoutput;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoder for the logical replication protocol of the pgoutput plugin, version 1. It is stateful: row changes only
+ * carry the id of their table, whose name and columns arrive earlier in a Relation message of the same session, so a
+ * decoder must not outlive its replication stream. The buffer is fully read before returning, since the driver
+ * releases it right after.
+ */
+public class PgOutputDecoder {
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public PgOutputMessage decode(ByteBuf buffer) {
+        char type = (char) buffer.readByte();
+        return switch (type) {
+            case 'B' -> decodeBegin(buffer);
+            case 'C' -> decodeCommit(buffer);
+            case 'R' -> decodeRelation(buffer);
+            case 'I', 'U', 'D' -> decodeRowChange(type, buffer);
+            default -> new PgOutputMessage.Other(type);
+        };
+    }
+
+    private PgOutputMessage decodeBegin(ByteBuf buffer) {
+        long finalLsn = buffer.readLong();
+        buffer.skipBytes(Long.BYTES);
+        return new PgOutputMessage.Begin(finalLsn, buffer.readInt());
+    }
+
+    private PgOutputMessage decodeCommit(ByteBuf buffer) {
+        buffer.skipBytes(Byte.BYTES);
+        long commitLsn = buffer.readLong();
+        return new PgOutputMessage.Commit(commitLsn, buffer.readLong());
+    }
+
+    private PgOutputMessage decodeRelation(ByteBuf buffer) {
+        int oid = buffer.readInt();
+        String schema = readString(buffer);
+        String table = readString(buffer);
+        buffer.skipBytes(Byte.BYTES);
+        int columnCount = buffer.readShort();
+        String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffer.skipBytes(Byte.BYTES);
+            columns[i] = readString(buffer);
+            buffer.skipBytes(Integer.BYTES * 2);
+        }
+        relations.put(oid, new Relation(schema, table, List.of(columns)));
+        return new PgOutputMessage.Other('R');
+    }
+
+    private PgOutputMessage decodeRowChange(char operation, ByteBuf buffer) {
+        Relation relation = relations.get(buffer.readInt());
+        if (relation == null) {
+            throw new IllegalStateException("Row change for a relation that was never described");
+        }
+        char tuple = (char) buffer.readByte();
+        Map<String, String> oldValues = Map.of();
+        if (operation == 'U' && (tuple == 'K' || tuple == 'O')) {
+            oldValues = readTuple(buffer, relation.columns());
+            buffer.skipBytes(Byte.BYTES);
+        }
+        return new PgOutputMessage.RowChange(operation, relation.schema(), relation.table(),
+                readTuple(buffer, relation.columns()), oldValues);
+    }
+
+    private static Map<String, String> readTuple(ByteBuf buffer, List<String> columns) {
+        int columnCount = buffer.readShort();
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.readByte();
+            String value = null;
+            if (kind == 't') {
+                int length = buffer.readInt();
+                value = buffer.readCharSequence(length, StandardCharsets.UTF_8).toString();
+            }
+            values.put(columns.get(i), value);
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuf buffer) {
+        int length = buffer.bytesBefore((byte) 0);
+        String value = buffer.readCharSequence(length, StandardCharsets.UTF_8).toString();
+        buffer.skipBytes(Byte.BYTES);
+        return value;
+    }
+
+    private record Relation(String schema, String table, List<String> columns) {
+    }
+}
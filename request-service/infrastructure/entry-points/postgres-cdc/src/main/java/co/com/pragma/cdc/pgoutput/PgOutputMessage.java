@@ -0,0 +1,33 @@
+package co.com.pragma.cdc.pgoutput;
+
+import java.util.Map;
+
+/**
+ * The pgoutput messages the change feed acts on. Relation messages are kept inside {@link PgOutputDecoder}; every
+ * other message type surfaces as {@link Other}.
+ */
+public sealed interface PgOutputMessage {
+
+    record Begin(long finalLsn, int xid) implements PgOutputMessage {
+    }
+
+    /**
+     * {@code endLsn} is the position right after the commit record, which is what a consumer confirms once the
+     * transaction has been handled.
+     */
+    record Commit(long commitLsn, long endLsn) implements PgOutputMessage {
+    }
+
+    /**
+     * An inserted, updated or deleted row. {@code values} holds the new tuple in text format, or the old key for a
+     * delete; {@code null} stands for both SQL NULL and an unchanged TOASTed value. {@code oldValues} holds the old
+     * row of an update, only sent when the table's replica identity is FULL or the key changed, and is empty
+     * otherwise.
+     */
+    record RowChange(char operation, String schema, String table, Map<String, String> values,
+                     Map<String, String> oldValues) implements PgOutputMessage {
+    }
+
+    record Other(char type) implements PgOutputMessage {
+    }
+}
@@ -0,0 +1,330 @@
+package co.com.pragma.cdc;
+
+import co.com.pragma.cdc.config.ChangeFeedProperties;
+import co.com.pragma.usecase.publishstatuschanges.PublishStatusChangesUseCase;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlReplicationConnection;
+import io.r2dbc.postgresql.replication.LogSequenceNumber;
+import io.r2dbc.postgresql.replication.ReplicationSlot;
+import io.r2dbc.postgresql.replication.ReplicationType;
+import io.r2dbc.postgresql.replication.ReplicationStream;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationChangeFeedTest {
+
+    private static final String SLOT = "request_service_application_status";
+    private static final int OID = 16_384;
+    private static final UUID PENDING = UUID.fromString("0b5c8bd4-57c5-4b1a-9d3c-6f6f0a1de001");
+
+    @Mock
+    private PostgresqlReplicationConnection connection;
+
+    @Mock
+    private ReplicationStream stream;
+
+    @Mock
+    private ReplicationSlots replicationSlots;
+
+    @Mock
+    private PublishStatusChangesUseCase publishStatusChangesUseCase;
+
+    private ChangeFeedProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChangeFeedProperties("localhost", 5432, "request", "admin", "admin", false,
+                SLOT, "application_status_changes", 1, Duration.ofSeconds(1), Duration.ofSeconds(10));
+        lenient().when(connection.close()).thenReturn(Mono.empty());
+    }
+
+    private ApplicationChangeFeed feed() {
+        return new ApplicationChangeFeed(() -> Mono.just(connection), replicationSlots, publishStatusChangesUseCase,
+                properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubStream(List<ByteBuf> messages) {
+        lenient().when(replicationSlots.isLost(SLOT)).thenReturn(Mono.just(false));
+        when(publishStatusChangesUseCase.findCheckpoint(SLOT)).thenReturn(Mono.just(0L));
+        when(connection.startReplication(any())).thenReturn(Mono.just(stream));
+        when(stream.map(any())).thenAnswer(invocation -> {
+            Function<ByteBuf, Object> decode = invocation.getArgument(0);
+            return Flux.fromIterable(messages).map(decode).concatWith(Flux.never());
+        });
+    }
+
+    private static void writeString(ByteBuf buffer, String value) {
+        buffer.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        buffer.writeByte(0);
+    }
+
+    private static void writeText(ByteBuf buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.writeByte('t');
+        buffer.writeInt(bytes.length);
+        buffer.writeBytes(bytes);
+    }
+
+    private static ByteBuf begin() {
+        return Unpooled.buffer().writeByte('B').writeLong(200L).writeLong(0L).writeInt(7);
+    }
+
+    private static ByteBuf commit(long endLsn) {
+        return Unpooled.buffer().writeByte('C').writeByte(0).writeLong(endLsn - 48).writeLong(endLsn).writeLong(0L);
+    }
+
+    private static ByteBuf relation(String table) {
+        ByteBuf buffer = Unpooled.buffer().writeByte('R').writeInt(OID);
+        writeString(buffer, "public");
+        writeString(buffer, table);
+        buffer.writeByte('d').writeShort(4);
+        for (String column : List.of("id", "amount", "id_status", "updated_at")) {
+            buffer.writeByte(0);
+            writeString(buffer, column);
+            buffer.writeInt(25).writeInt(-1);
+        }
+        return buffer;
+    }
+
+    private static ByteBuf update(UUID id, UUID previousIdStatus, UUID idStatus) {
+        ByteBuf buffer = Unpooled.buffer().writeByte('U').writeInt(OID).writeByte('O');
+        writeRow(buffer, id, previousIdStatus, "2025-09-15 09:00:00");
+        buffer.writeByte('N');
+        writeRow(buffer, id, idStatus, "2025-09-15 10:00:00.25");
+        return buffer;
+    }
+
+    private static void writeRow(ByteBuf buffer, UUID id, UUID idStatus, String updatedAt) {
+        buffer.writeShort(4);
+        writeText(buffer, id.toString());
+        writeText(buffer, "1500.5");
+        writeText(buffer, idStatus.toString());
+        writeText(buffer, updatedAt);
+    }
+
+    @Test
+    @DisplayName("Should publish the status changes of a committed transaction and then confirm its end position")
+    void shouldPublishCommittedChanges() {
+        UUID id = UUID.randomUUID();
+        UUID idStatus = UUID.randomUUID();
+        when(connection.createSlot(any())).thenReturn(Mono.empty());
+        stubStream(List.of(begin(), relation("applications"), update(id, PENDING, idStatus), commit(248L)));
+        when(publishStatusChangesUseCase.publish(eq(SLOT), any(), eq(248L))).thenReturn(Mono.empty());
+
+        StepVerifier.create(feed().stream())
+                .expectNext(248L)
+                .thenCancel()
+                .verify();
+
+        verify(publishStatusChangesUseCase).publish(eq(SLOT), argThat(changes -> changes.size() == 1
+                && changes.getFirst().getIdApplication().equals(id)
+                && changes.getFirst().getAmount() == 1500.5
+                && changes.getFirst().getIdStatus().equals(idStatus)
+                && changes.getFirst().getPreviousIdStatus().equals(PENDING)
+                && changes.getFirst().getUpdatedAt().equals(LocalDateTime.of(2025, 9, 15, 10, 0, 0, 250_000_000))
+                && changes.getFirst().getLsn() == 248L), eq(248L));
+        verify(stream).setFlushedLSN(LogSequenceNumber.valueOf(248L));
+        verify(stream).setAppliedLSN(LogSequenceNumber.valueOf(248L));
+    }
+
+    @Test
+    @DisplayName("Should confirm transactions without application changes without publishing them")
+    void shouldConfirmEmptyTransactions() {
+        when(connection.createSlot(any())).thenReturn(Mono.empty());
+        stubStream(List.of(begin(), relation("loan_types"), update(UUID.randomUUID(), PENDING, UUID.randomUUID()),
+                commit(512L)));
+
+        StepVerifier.create(feed().stream())
+                .expectNext(512L)
+                .thenCancel()
+                .verify();
+
+        verify(publishStatusChangesUseCase, never()).publish(anyString(), any(), anyLong());
+        verify(stream).setFlushedLSN(LogSequenceNumber.valueOf(512L));
+    }
+
+    @Test
+    @DisplayName("Should keep streaming from a slot created by an earlier run")
+    void shouldReuseExistingSlot() {
+        when(connection.createSlot(any()))
+                .thenReturn(Mono.error(new R2dbcDataIntegrityViolationException("slot already exists", "42710")));
+        stubStream(List.of(begin(), commit(96L)));
+
+        StepVerifier.create(feed().stream())
+                .expectNext(96L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should not confirm a batch that could not be published and reconnect instead")
+    void shouldReconnectWhenPublishingFails() {
+        UUID id = UUID.randomUUID();
+        when(connection.createSlot(any())).thenReturn(Mono.empty());
+        List<ByteBuf> messages = new ArrayList<>(List.of(begin(), relation("applications"),
+                update(id, PENDING, UUID.randomUUID()), commit(248L)));
+        stubStream(messages);
+        AtomicInteger attempts = new AtomicInteger();
+        when(publishStatusChangesUseCase.publish(eq(SLOT), any(), eq(248L))).thenAnswer(invocation -> {
+            if (attempts.getAndIncrement() == 0) {
+                messages.replaceAll(message -> message.readerIndex(0));
+                return Mono.error(new IllegalStateException("DB error"));
+            }
+            return Mono.empty();
+        });
+
+        StepVerifier.withVirtualTime(() -> feed().stream())
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext(248L)
+                .thenCancel()
+                .verify();
+
+        verify(connection, times(2)).close();
+        verify(stream, times(1)).setFlushedLSN(LogSequenceNumber.valueOf(248L));
+    }
+
+    @Test
+    @DisplayName("Should confirm updates that left the status unchanged without publishing them")
+    void shouldSkipUpdatesWithoutTransition() {
+        when(connection.createSlot(any())).thenReturn(Mono.empty());
+        stubStream(List.of(begin(), relation("applications"), update(UUID.randomUUID(), PENDING, PENDING),
+                commit(320L)));
+
+        StepVerifier.create(feed().stream())
+                .expectNext(320L)
+                .thenCancel()
+                .verify();
+
+        verify(publishStatusChangesUseCase, never()).publish(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not confirm updates that arrive without their old row")
+    void shouldRejectUpdatesWithoutOldRow() {
+        ByteBuf update = Unpooled.buffer().writeByte('U').writeInt(OID).writeByte('N');
+        writeRow(update, UUID.randomUUID(), PENDING, "2025-09-15 10:00:00");
+        when(connection.createSlot(any())).thenReturn(Mono.empty());
+        stubStream(List.of(begin(), relation("applications"), update, commit(248L)));
+
+        StepVerifier.withVirtualTime(() -> feed().stream())
+                .thenAwait(Duration.ofSeconds(5))
+                .thenCancel()
+                .verify();
+
+        verify(publishStatusChangesUseCase, never()).publish(anyString(), any(), anyLong());
+        verify(stream, never()).setFlushedLSN(any());
+    }
+
+    @Test
+    @DisplayName("Should catch up from the checkpoint before streaming a slot it had to create")
+    void shouldCatchUpWhenSlotIsCreated() {
+        when(connection.createSlot(any())).thenReturn(Mono.just(createdSlot(640L)));
+        when(publishStatusChangesUseCase.catchUp(SLOT, 640L)).thenReturn(Mono.empty());
+        stubStream(List.of(begin(), commit(704L)));
+
+        StepVerifier.create(feed().stream())
+                .expectNext(704L)
+                .thenCancel()
+                .verify();
+
+        verify(publishStatusChangesUseCase).catchUp(SLOT, 640L);
+    }
+
+    @Test
+    @DisplayName("Should drop an invalidated slot, fail the attempt and catch up once the slot is recreated")
+    void shouldRecoverLostSlot() {
+        stubStream(List.of(begin(), commit(960L)));
+        when(connection.createSlot(any())).thenReturn(Mono.empty(), Mono.just(createdSlot(900L)));
+        when(replicationSlots.isLost(SLOT)).thenReturn(Mono.just(true), Mono.just(false));
+        when(replicationSlots.drop(SLOT)).thenReturn(Mono.empty());
+        when(publishStatusChangesUseCase.catchUp(SLOT, 900L)).thenReturn(Mono.empty());
+
+        StepVerifier.withVirtualTime(() -> feed().stream())
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext(960L)
+                .thenCancel()
+                .verify();
+
+        verify(replicationSlots).drop(SLOT);
+        verify(publishStatusChangesUseCase).catchUp(SLOT, 900L);
+        verify(connection, times(1)).startReplication(any());
+    }
+
+    @Test
+    @DisplayName("Should drop the slot it created again when the catch-up fails, so the next attempt catches up again")
+    void shouldDropCreatedSlotWhenCatchUpFails() {
+        when(connection.createSlot(any())).thenReturn(Mono.just(createdSlot(640L)));
+        when(publishStatusChangesUseCase.catchUp(SLOT, 640L)).thenReturn(Mono.error(new IllegalStateException("DB error")));
+        when(replicationSlots.drop(SLOT)).thenReturn(Mono.empty());
+
+        assertThrows(IllegalStateException.class, () -> feed().checkSlot());
+
+        verify(replicationSlots).drop(SLOT);
+        verify(connection, never()).startReplication(any());
+    }
+
+    @Test
+    @DisplayName("Should pass the startup check once the slot exists")
+    void shouldPassStartupCheck() {
+        when(connection.createSlot(any()))
+                .thenReturn(Mono.error(new R2dbcDataIntegrityViolationException("slot already exists", "42710")));
+        when(replicationSlots.isLost(SLOT)).thenReturn(Mono.just(false));
+        when(publishStatusChangesUseCase.findCheckpoint(SLOT)).thenReturn(Mono.just(96L));
+
+        assertDoesNotThrow(() -> feed().checkSlot());
+
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should fail the startup check when the slot cannot be created")
+    void shouldFailStartupWhenSlotCannotBeCreated() {
+        when(connection.createSlot(any())).thenReturn(Mono.error(
+                new R2dbcNonTransientResourceException("logical decoding requires wal_level >= logical", "55000")));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> feed().checkSlot());
+
+        assertTrue(error.getMessage().contains(SLOT));
+        verify(connection, never()).startReplication(any());
+    }
+
+    private static ReplicationSlot createdSlot(long consistentPoint) {
+        return new ReplicationSlot(SLOT, ReplicationType.LOGICAL, LogSequenceNumber.valueOf(consistentPoint), null,
+                "pgoutput");
+    }
+}
@@ -0,0 +1,119 @@
+package co.com.pragma.cdc.pgoutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PgOutputDecoderTest {
+
+    private static final int OID = 16_384;
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new PgOutputDecoder();
+    }
+
+    private static void writeString(ByteBuf buffer, String value) {
+        buffer.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        buffer.writeByte(0);
+    }
+
+    private static void writeText(ByteBuf buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.writeByte('t');
+        buffer.writeInt(bytes.length);
+        buffer.writeBytes(bytes);
+    }
+
+    private static ByteBuf relation(String... columns) {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('R');
+        buffer.writeInt(OID);
+        writeString(buffer, "public");
+        writeString(buffer, "applications");
+        buffer.writeByte('d');
+        buffer.writeShort(columns.length);
+        for (String column : columns) {
+            buffer.writeByte(0);
+            writeString(buffer, column);
+            buffer.writeInt(25);
+            buffer.writeInt(-1);
+        }
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("Should read the positions of begin and commit messages")
+    void shouldDecodeTransactionBoundaries() {
+        ByteBuf begin = Unpooled.buffer().writeByte('B').writeLong(200L).writeLong(1_000L).writeInt(7);
+        ByteBuf commit = Unpooled.buffer().writeByte('C').writeByte(0).writeLong(200L).writeLong(248L).writeLong(1_000L);
+
+        assertEquals(new PgOutputMessage.Begin(200L, 7), decoder.decode(begin));
+        assertEquals(new PgOutputMessage.Commit(200L, 248L), decoder.decode(commit));
+    }
+
+    @Test
+    @DisplayName("Should name the columns of an update after the relation sent before it")
+    void shouldDecodeUpdateAgainstRelation() {
+        decoder.decode(relation("id", "amount", "id_status"));
+        ByteBuf update = Unpooled.buffer().writeByte('U').writeInt(OID).writeByte('N').writeShort(3);
+        writeText(update, "0b5c8bd4-57c5-4b1a-9d3c-6f6f0a1de001");
+        update.writeByte('n');
+        update.writeByte('u');
+
+        PgOutputMessage.RowChange change = (PgOutputMessage.RowChange) decoder.decode(update);
+
+        assertEquals('U', change.operation());
+        assertEquals("public", change.schema());
+        assertEquals("applications", change.table());
+        assertEquals("0b5c8bd4-57c5-4b1a-9d3c-6f6f0a1de001", change.values().get("id"));
+        assertNull(change.values().get("amount"));
+        assertNull(change.values().get("id_status"));
+        assertTrue(change.oldValues().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the old row of an update next to the new tuple")
+    void shouldDecodeOldTuple() {
+        decoder.decode(relation("id", "amount"));
+        ByteBuf update = Unpooled.buffer().writeByte('U').writeInt(OID).writeByte('O').writeShort(2);
+        writeText(update, "old-id");
+        update.writeByte('n');
+        update.writeByte('N').writeShort(2);
+        writeText(update, "new-id");
+        writeText(update, "1500.5");
+
+        PgOutputMessage.RowChange change = (PgOutputMessage.RowChange) decoder.decode(update);
+
+        assertEquals("new-id", change.values().get("id"));
+        assertEquals("1500.5", change.values().get("amount"));
+        assertEquals("old-id", change.oldValues().get("id"));
+        assertNull(change.oldValues().get("amount"));
+    }
+
+    @Test
+    @DisplayName("Should surface message types the feed does not act on as other messages")
+    void shouldDecodeOtherMessages() {
+        assertEquals(new PgOutputMessage.Other('R'), decoder.decode(relation("id")));
+        assertEquals(new PgOutputMessage.Other('O'), decoder.decode(Unpooled.buffer().writeByte('O')));
+    }
+
+    @Test
+    @DisplayName("Should reject a row change for a relation it was never told about")
+    void shouldRejectUnknownRelation() {
+        ByteBuf update = Unpooled.buffer().writeByte('U').writeInt(OID).writeByte('N').writeShort(0);
+
+        assertThrows(IllegalStateException.class, () -> decoder.decode(update));
+    }
+}
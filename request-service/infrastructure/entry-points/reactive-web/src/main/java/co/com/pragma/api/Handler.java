@@ -1,40 +1,112 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.BulkDecisionResponse;
+import co.com.pragma.api.dto.response.BulkRegistrationResponse;
+import co.com.pragma.api.dto.response.LoanQuoteResponse;
+import co.com.pragma.api.exception.ValidationException;
+import co.com.pragma.api.intake.IntakePipeline;
 import co.com.pragma.api.mapper.ApplicationMapper;
 import co.com.pragma.api.service.ValidationService;
+import co.com.pragma.model.application.BulkDecisionItem;
+import co.com.pragma.model.application.BulkRegistrationItem;
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
 import co.com.pragma.model.auth.ValidatedUser;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.TokenValidator;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.pagination.CountMode;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findapprovedapplicationsbyrange.FindApprovedApplicationsByRangeUseCase;
+import co.com.pragma.usecase.getadvisordashboard.GetAdvisorDashboardUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.getclientapplications.GetClientApplicationsUseCase;
+import co.com.pragma.usecase.getpaymentplan.GetPaymentPlanUseCase;
+import co.com.pragma.usecase.projectportfoliocashflow.ProjectPortfolioCashFlowUseCase;
+import co.com.pragma.usecase.quoteloans.QuoteLoansUseCase;
+import co.com.pragma.usecase.registerapplicationsbulk.RegisterApplicationsBulkUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.updateapplicationstatusbulk.UpdateApplicationStatusBulkUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class Handler {
+    private static final int BULK_MAX_ITEMS = 1000;
+    private static final int PAGE_MAX_SIZE = 100;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String INTAKES_PATH = "/request/api/v1/requests/intakes/";
+    private static final String INTAKE_POLL_SECONDS = "1";
+    private static final Duration PAYMENT_PLAN_MAX_AGE = Duration.ofHours(1);
+    private static final int DEFAULT_PROJECTION_MONTHS = 12;
+    private static final List<String> REVIEW_STATUSES = List.of("Pending Review", "Rejected", "Manual Review");
+
     private final RegisterRequestUseCase registerRequestUseCase;
+    private final RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase;
+    private final RegisterRequestAsyncUseCase registerRequestAsyncUseCase;
+    private final IntakePipeline intakePipeline;
+    private final RegisterApplicationsBulkUseCase registerApplicationsBulkUseCase;
     private final GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase;
+    private final GetAdvisorDashboardUseCase getAdvisorDashboardUseCase;
+    private final GetClientApplicationsUseCase getClientApplicationsUseCase;
+    private final GetPaymentPlanUseCase getPaymentPlanUseCase;
     private final UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
+    private final UpdateApplicationStatusBulkUseCase updateApplicationStatusBulkUseCase;
     private final FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
+    private final FindApprovedApplicationsByRangeUseCase findApprovedApplicationsByRangeUseCase;
+    private final ProjectPortfolioCashFlowUseCase projectPortfolioCashFlowUseCase;
+    private final QuoteLoansUseCase quoteLoansUseCase;
     private final ApplicationMapper applicationMapper;
     private final ValidationService validationService;
     private final TokenValidator tokenValidator;
 
     public Mono<ServerResponse> registerRequest(ServerRequest request) {
+        String idempotencyKey = request.headers().header(IDEMPOTENCY_KEY_HEADER).stream().findFirst().orElse(null);
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH)) {
+            return Mono.error(new ValidationException(Map.of(IDEMPOTENCY_KEY_HEADER,
+                    List.of("Idempotency-Key must have between 1 and " + IDEMPOTENCY_KEY_MAX_LENGTH + " characters"))));
+        }
+        boolean respondAsync = request.headers().header(PREFER_HEADER).stream()
+                .anyMatch(preference -> preference.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC));
         return extractAuthToken(request)
                 .flatMap(token ->
                         tokenValidator.validateToken(token)
@@ -50,19 +122,45 @@ public class Handler {
 
                                     return validationService.validate(requestDto)
                                             .map(applicationMapper::toEntity)
-                                            .flatMap(application ->
-                                                    registerRequestUseCase.registerApplication(application, token)
-                                            )
-                                            .map(applicationMapper::toResponse);
+                                            .flatMap(application -> respondAsync
+                                                    ? acceptRequest(application, token, idempotencyKey)
+                                                    : registerNow(application, token, idempotencyKey));
                                 })
-                )
-                .flatMap(dto -> ServerResponse
-                        .status(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(dto)
                 );
     }
 
+    public Mono<ServerResponse> getIntake(ServerRequest request) {
+        return extractAuthToken(request)
+                .flatMap(tokenValidator::validateToken)
+                .flatMap(validatedUser -> registerRequestAsyncUseCase.findIntake(
+                        parseId(request.pathVariable("id"), "Intake not found"), validatedUser.getIdDocument()))
+                .flatMap(intake -> {
+                    ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+                    if (intake.getStatus() == IntakeStatus.PENDING || intake.getStatus() == IntakeStatus.PROCESSING) {
+                        response.header(HttpHeaders.RETRY_AFTER, INTAKE_POLL_SECONDS);
+                    }
+                    return response.bodyValue(applicationMapper.toIntakeResponse(intake));
+                });
+    }
+
+    public Mono<ServerResponse> registerRequestsBulk(ServerRequest request) {
+        return extractAuthToken(request)
+                .map(token -> registerApplicationsBulkUseCase.registerApplications(
+                                request.bodyToFlux(RegisterApplicationRequestDto.class)
+                                        .take(BULK_MAX_ITEMS + 1L)
+                                        .index()
+                                        .concatMap(row -> toBulkItem(row.getT1(), row.getT2())),
+                                token)
+                        .map(item -> new BulkRegistrationResponse(
+                                item.getIndex(),
+                                item.getIdDocument(),
+                                item.getApplication() == null ? null : applicationMapper.toResponse(item.getApplication()),
+                                item.getError())))
+                .flatMap(results -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(results, BulkRegistrationResponse.class));
+    }
+
     public Mono<ServerResponse> getApplicationsForAdvisor(ServerRequest request) {
         return extractAuthToken(request)
                 .flatMap(token -> {
@@ -70,29 +168,104 @@ public class Handler {
                     int size = Integer.parseInt(request.queryParam("size").orElse("10"));
                     String sortBy = request.queryParam("sortBy").orElse("amount");
                     String sortDirection = request.queryParam("sortDirection").orElse("asc");
+                    String cursor = request.queryParam("cursor").filter(value -> !value.isBlank()).orElse(null);
+
+                    if (page < 0 || size < 1 || size > PAGE_MAX_SIZE) {
+                        return Mono.error(new InvalidPaginationException(
+                                "Page must be >= 0 and size must be between 1 and " + PAGE_MAX_SIZE));
+                    }
 
                     CustomPageable customPageable = CustomPageable.builder()
                             .page(page)
                             .size(size)
                             .sortBy(sortBy)
                             .sortDirection(sortDirection)
+                            .cursor(cursor)
+                            .countMode(parseCountMode(request, cursor))
                             .build();
 
-                    List<String> targetStatuses = List.of("Pending Review", "Rejected", "Manual Review");
+                    ApplicationSearchCriteria filters = ApplicationSearchCriteria.builder()
+                            .minAmount(parseAmount(request, "minAmount"))
+                            .maxAmount(parseAmount(request, "maxAmount"))
+                            .createdFrom(parseOptionalDate(request, "createdFrom")
+                                    .map(LocalDate::atStartOfDay)
+                                    .orElse(null))
+                            .createdBefore(parseOptionalDate(request, "createdTo")
+                                    .map(createdTo -> createdTo.plusDays(1).atStartOfDay())
+                                    .orElse(null))
+                            .email(request.queryParam("email").map(String::trim).filter(value -> !value.isEmpty())
+                                    .orElse(null))
+                            .build();
 
-                    return getApplicationsForAdvisorUseCase.getApplicationsByStatus(token, targetStatuses, customPageable);
+                    return getApplicationsForAdvisorUseCase.searchApplications(token, parseReviewStatuses(request),
+                            parseList(request, "loanType"), filters, customPageable);
                 })
                 .flatMap(response -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(response));
     }
 
+    /**
+     * Streams the authenticated client's applications as NDJSON with an ETag built from the list version. The version
+     * is cached per client, so a request whose If-None-Match still matches gets its 304 without reaching Postgres.
+     */
+    public Mono<ServerResponse> getClientApplications(ServerRequest request) {
+        return extractAuthToken(request)
+                .flatMap(tokenValidator::validateToken)
+                .flatMap(validatedUser -> getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())
+                        .flatMap(version -> {
+                            String eTag = eTag(version);
+                            if (matchesETag(request.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                                return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(eTag)
+                                        .cacheControl(CacheControl.noCache().cachePrivate())
+                                        .build();
+                            }
+                            return ServerResponse.ok()
+                                    .eTag(eTag)
+                                    .cacheControl(CacheControl.noCache().cachePrivate())
+                                    .contentType(MediaType.APPLICATION_NDJSON)
+                                    .body(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser())
+                                            .map(applicationMapper::toResponse), ApplicationDto.class);
+                        }));
+    }
+
+    /**
+     * Schedule behind the link in the decision notification. A plan never changes once written, so the client may keep
+     * it for a while.
+     */
+    public Mono<ServerResponse> getPaymentPlan(ServerRequest request) {
+        return extractAuthToken(request)
+                .flatMap(tokenValidator::validateToken)
+                .flatMap(validatedUser -> getPaymentPlanUseCase.getPaymentPlan(
+                        parseId(request.pathVariable("id"), "Payment plan not found"), validatedUser.getIdUser()))
+                .flatMap(paymentPlan -> ServerResponse.ok()
+                        .cacheControl(CacheControl.maxAge(PAYMENT_PLAN_MAX_AGE).cachePrivate())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(applicationMapper.toPaymentPlanResponse(paymentPlan))
+                );
+    }
+
+    /**
+     * Quotes every scenario of the grid without registering anything, one NDJSON line per scenario in grid order.
+     */
+    public Mono<ServerResponse> quoteLoans(ServerRequest request) {
+        return request.bodyToMono(LoanQuoteRequest.class)
+                .flatMap(validationService::validate)
+                .map(applicationMapper::toLoanQuoteGrid)
+                .flatMap(grid -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(quoteLoansUseCase.quote(grid).map(applicationMapper::toLoanQuoteResponse),
+                                LoanQuoteResponse.class));
+    }
+
     public Mono<ServerResponse> updateApplicationStatus(ServerRequest request) {
         return request.bodyToMono(UpdateApplicationStatusRequest.class)
                 .flatMap(validationRequest ->
                         updateApplicationStatusUseCase.updateStatus(
                                 validationRequest.idApplication(),
-                                validationRequest.status())
+                                validationRequest.status(),
+                                validationRequest.expectedStatus())
                 )
                 .map(applicationMapper::toResponse)
                 .flatMap(response -> ServerResponse.ok()
@@ -101,6 +274,22 @@ public class Handler {
                 );
     }
 
+    public Mono<ServerResponse> updateApplicationStatusesBulk(ServerRequest request) {
+        Flux<BulkDecisionResponse> results = updateApplicationStatusBulkUseCase.updateStatuses(
+                        request.bodyToFlux(UpdateApplicationStatusRequest.class)
+                                .take(BULK_MAX_ITEMS + 1L)
+                                .index()
+                                .concatMap(row -> toBulkDecision(row.getT1(), row.getT2())))
+                .map(item -> new BulkDecisionResponse(
+                        item.getIndex(),
+                        item.getIdApplication(),
+                        item.getApplication() == null ? null : applicationMapper.toResponse(item.getApplication()),
+                        item.getError()));
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, BulkDecisionResponse.class);
+    }
+
     public Mono<ServerResponse> getApprovedApplicationDaily(ServerRequest serverRequest) {
         return findApprovedApplicationDailyUseCase.findApprovedApplicationDaily()
                 .flatMap(response -> ServerResponse.ok()
@@ -109,6 +298,188 @@ public class Handler {
                 );
     }
 
+    public Mono<ServerResponse> getApprovedApplicationsByRange(ServerRequest serverRequest) {
+        return Mono.defer(() -> findApprovedApplicationsByRangeUseCase.findApprovedApplicationsByRange(
+                        parseDate(serverRequest, "from"), parseDate(serverRequest, "to")))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response)
+                );
+    }
+
+    public Mono<ServerResponse> getAdvisorDashboard(ServerRequest serverRequest) {
+        return getAdvisorDashboardUseCase.getDashboard()
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response)
+                );
+    }
+
+    public Mono<ServerResponse> getPortfolioCashFlow(ServerRequest serverRequest) {
+        return Mono.defer(() -> projectPortfolioCashFlowUseCase.project(parseMonths(serverRequest)))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response)
+                );
+    }
+
+    private Mono<ServerResponse> registerNow(Application application, String token, String idempotencyKey) {
+        return (idempotencyKey == null
+                ? registerRequestUseCase.registerApplication(application, token)
+                : registerRequestIdempotentUseCase.registerApplication(application, token, idempotencyKey))
+                .map(applicationMapper::toResponse)
+                .flatMap(dto -> ServerResponse
+                        .status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(dto)
+                );
+    }
+
+    private Mono<ServerResponse> acceptRequest(Application application, String token, String idempotencyKey) {
+        return registerRequestAsyncUseCase.accept(application)
+                .flatMap(intake -> intakePipeline.submit(intake, token, idempotencyKey).thenReturn(intake))
+                .flatMap(intake -> ServerResponse.accepted()
+                        .location(URI.create(INTAKES_PATH + intake.getId()))
+                        .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                        .header(HttpHeaders.RETRY_AFTER, INTAKE_POLL_SECONDS)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(applicationMapper.toIntakeResponse(intake))
+                );
+    }
+
+    private UUID parseId(String id, String notFoundMessage) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new EntityNotFoundException(notFoundMessage);
+        }
+    }
+
+    private Mono<BulkRegistrationItem> toBulkItem(long index, RegisterApplicationRequestDto requestDto) {
+        if (index >= BULK_MAX_ITEMS) {
+            return Mono.just(BulkRegistrationItem.rejected(index, requestDto.idDocument(),
+                    "Bulk requests accept at most " + BULK_MAX_ITEMS + " applications; this and later rows were not processed"));
+        }
+        return validationService.validate(requestDto)
+                .map(valid -> BulkRegistrationItem.builder()
+                        .index(index)
+                        .idDocument(valid.idDocument())
+                        .application(applicationMapper.toEntity(valid))
+                        .build())
+                .onErrorResume(ValidationException.class, error -> Mono.just(BulkRegistrationItem.rejected(
+                        index, requestDto.idDocument(), describe(error))));
+    }
+
+    private Mono<BulkDecisionItem> toBulkDecision(long index, UpdateApplicationStatusRequest decision) {
+        if (index >= BULK_MAX_ITEMS) {
+            return Mono.just(BulkDecisionItem.rejected(index, decision.idApplication(),
+                    "Bulk requests accept at most " + BULK_MAX_ITEMS + " decisions; this and later rows were not processed"));
+        }
+        return validationService.validate(decision)
+                .map(valid -> BulkDecisionItem.builder()
+                        .index(index)
+                        .idApplication(valid.idApplication())
+                        .status(valid.status())
+                        .expectedStatus(valid.expectedStatus())
+                        .build())
+                .onErrorResume(ValidationException.class, error -> Mono.just(BulkDecisionItem.rejected(
+                        index, decision.idApplication(), describe(error))));
+    }
+
+    private String describe(ValidationException error) {
+        return error.getErrors().entrySet().stream()
+                .map(field -> field.getKey() + ": " + String.join(", ", field.getValue()))
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private LocalDate parseDate(ServerRequest request, String name) {
+        return parseOptionalDate(request, name)
+                .orElseThrow(() -> new InvalidDateRangeException("Query parameter '" + name + "' is required"));
+    }
+
+    private Optional<LocalDate> parseOptionalDate(ServerRequest request, String name) {
+        return request.queryParam(name).map(value -> {
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new InvalidDateRangeException("Query parameter '" + name + "' must be an ISO date (yyyy-MM-dd)");
+            }
+        });
+    }
+
+    private Double parseAmount(ServerRequest request, String name) {
+        return request.queryParam(name).map(value -> {
+            try {
+                return Double.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidSearchFilterException("Query parameter '" + name + "' must be a number");
+            }
+        }).orElse(null);
+    }
+
+    private List<String> parseList(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(item -> !item.isEmpty())
+                        .toList())
+                .orElse(List.of());
+    }
+
+    // Advisors only work the review queues, so a status filter can narrow them but never reach other statuses.
+    private List<String> parseReviewStatuses(ServerRequest request) {
+        List<String> requested = parseList(request, "status");
+        if (requested.isEmpty()) {
+            return REVIEW_STATUSES;
+        }
+        return requested.stream()
+                .map(name -> REVIEW_STATUSES.stream()
+                        .filter(status -> status.equalsIgnoreCase(name))
+                        .findFirst()
+                        .orElseThrow(() -> new InvalidSearchFilterException("Unsupported status filter: " + name)))
+                .distinct()
+                .toList();
+    }
+
+    private int parseMonths(ServerRequest request) {
+        return request.queryParam("months")
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new InvalidDateRangeException("Query parameter 'months' must be a whole number");
+                    }
+                })
+                .orElse(DEFAULT_PROJECTION_MONTHS);
+    }
+
+    private CountMode parseCountMode(ServerRequest request, String cursor) {
+        CountMode defaultMode = cursor != null ? CountMode.ESTIMATED : CountMode.EXACT;
+        return request.queryParam("count")
+                .map(value -> Arrays.stream(CountMode.values())
+                        .filter(mode -> mode.name().equalsIgnoreCase(value))
+                        .findFirst()
+                        .orElseThrow(() -> new InvalidPaginationException("Unsupported count mode: " + value)))
+                .orElse(defaultMode);
+    }
+
+    private String eTag(ApplicationListVersion version) {
+        long changedAt = version.getLatestChangeAt() == null ? 0L
+                : version.getLatestChangeAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L
+                + version.getLatestChangeAt().getNano();
+        return "\"" + version.getApplicationCount() + "-" + Long.toHexString(changedAt) + "\"";
+    }
+
+    // Weak comparison, as RFC 9110 asks for If-None-Match.
+    private boolean matchesETag(List<String> ifNoneMatch, String eTag) {
+        return ifNoneMatch.stream()
+                .flatMap(header -> Arrays.stream(header.split(",")))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
     private Mono<String> extractAuthToken(ServerRequest request) {
         return Mono.justOrEmpty(request.headers().firstHeader(HttpHeaders.AUTHORIZATION))
                 .filter(token -> token.startsWith("Bearer "))
@@ -1,11 +1,24 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.ApiErrorResponse;
+import co.com.pragma.api.dto.response.BulkDecisionResponse;
+import co.com.pragma.api.dto.response.BulkRegistrationResponse;
+import co.com.pragma.api.dto.response.IntakeResponse;
+import co.com.pragma.api.dto.response.LoanQuoteResponse;
+import co.com.pragma.api.dto.response.PaymentPlanResponse;
 import co.com.pragma.api.exception.GlobalExceptionHandler;
+import co.com.pragma.model.portfolio.PortfolioCashFlowProjection;
+import co.com.pragma.model.summary.AdvisorDashboard;
+import co.com.pragma.model.report.ApprovalRangeReport;
 import co.com.pragma.model.report.DailyReport;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -35,6 +48,14 @@ public class RouterRest {
                             operationId = "registerRequest",
                             summary = "Register a new request",
                             tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                                            description = "Client-generated key; retries with the same key and body "
+                                                    + "return the original application instead of registering it again"),
+                                    @Parameter(in = ParameterIn.HEADER, name = "Prefer",
+                                            description = "respond-async to get 202 right after validation and poll "
+                                                    + "the Location for the result")
+                            },
                             requestBody = @RequestBody(
                                     required = true,
                                     content = @Content(
@@ -49,6 +70,188 @@ public class RouterRest {
                                                     mediaType = "application/json",
                                                     schema = @Schema(implementation = ApplicationDto.class)
                                             )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "202",
+                                            description = "Accepted for asynchronous registration; poll the Location header",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = IntakeResponse.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "503",
+                                            description = "Asynchronous registration queue is full; retry later",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/bulk",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "registerRequestsBulk",
+                    operation = @Operation(
+                            operationId = "registerRequestsBulk",
+                            summary = "Register a batch of requests",
+                            description = "Accepts a JSON array or NDJSON of up to 1000 requests and streams one result per row",
+                            tags = {"Request"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = {
+                                            @Content(
+                                                    mediaType = "application/json",
+                                                    array = @ArraySchema(schema = @Schema(implementation = RegisterApplicationRequestDto.class))
+                                            ),
+                                            @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = RegisterApplicationRequestDto.class)
+                                            )
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Per-row results, in request order",
+                                            content = @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = BulkRegistrationResponse.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/quotes",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "quoteLoans",
+                    operation = @Operation(
+                            operationId = "quoteLoans",
+                            summary = "Quote a grid of loans",
+                            description = "Quotes every amount with every term under every loan type, up to 1000 "
+                                    + "scenarios, without registering anything, and streams one result per scenario",
+                            tags = {"Request"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = "application/json",
+                                            schema = @Schema(implementation = LoanQuoteRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Per-scenario quotes, in grid order",
+                                            content = @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = LoanQuoteResponse.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid grid",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/intakes/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getIntake",
+                    operation = @Operation(
+                            operationId = "getIntake",
+                            summary = "Get the state of an asynchronous registration",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.PATH, name = "id", required = true)
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Intake state; Retry-After is set while it is still running",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = IntakeResponse.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "404",
+                                            description = "No intake with that id for the authenticated client",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/mine",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getClientApplications",
+                    operation = @Operation(
+                            operationId = "getClientApplications",
+                            summary = "Stream the authenticated client's applications, newest first",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match",
+                                            description = "ETag of a previously received list")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "One application per line, with the list's ETag",
+                                            content = @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = ApplicationDto.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "304",
+                                            description = "The list has not changed since the ETag in If-None-Match"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/{id}/payment-plan",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getPaymentPlan",
+                    operation = @Operation(
+                            operationId = "getPaymentPlan",
+                            summary = "Get the payment plan of one of the authenticated client's approved applications",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.PATH, name = "id", required = true)
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Payment plan",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = PaymentPlanResponse.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "404",
+                                            description = "No approved application with that id for the authenticated client",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
                                     )
                             }
                     )
@@ -62,6 +265,29 @@ public class RouterRest {
                             operationId = "getApplicationsForAdvisor",
                             summary = "Get applications for advisor",
                             tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "page"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "size"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "sortBy",
+                                            description = "amount, term, createdAt or id"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "sortDirection"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "cursor",
+                                            description = "nextCursor of the previous page; page is ignored when present"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "count",
+                                            description = "exact, estimated or none"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "status",
+                                            description = "Comma-separated subset of Pending Review, Rejected and Manual Review"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "loanType",
+                                            description = "Comma-separated loan type names"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "minAmount"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "maxAmount"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "createdFrom",
+                                            description = "First creation day, yyyy-MM-dd"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "createdTo",
+                                            description = "Last creation day (inclusive), yyyy-MM-dd"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "email",
+                                            description = "Exact client email")
+                            },
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
@@ -97,6 +323,49 @@ public class RouterRest {
                                                     mediaType = "application/json",
                                                     schema = @Schema(implementation = ApplicationDto.class)
                                             )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "409",
+                                            description = "Application is no longer in the expected status",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/bulk",
+                    method = RequestMethod.PUT,
+                    beanClass = Handler.class,
+                    beanMethod = "updateApplicationStatusesBulk",
+                    operation = @Operation(
+                            operationId = "updateApplicationStatusesBulk",
+                            summary = "Update the status of a batch of applications",
+                            description = "Accepts a JSON array or NDJSON of up to 1000 decisions and streams one result per row",
+                            tags = {"Request"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = {
+                                            @Content(
+                                                    mediaType = "application/json",
+                                                    array = @ArraySchema(schema = @Schema(implementation = UpdateApplicationStatusRequest.class))
+                                            ),
+                                            @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = UpdateApplicationStatusRequest.class)
+                                            )
+                                    }
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Per-decision results, in request order",
+                                            content = @Content(
+                                                    mediaType = "application/x-ndjson",
+                                                    schema = @Schema(implementation = BulkDecisionResponse.class)
+                                            )
                                     )
                             }
                     )
@@ -121,15 +390,105 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/approved",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getApprovedApplicationsByRange",
+                    operation = @Operation(
+                            operationId = "getApprovedApplicationsByRange",
+                            summary = "Get approved applications between two business days",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "from", required = true,
+                                            description = "First business day, yyyy-MM-dd"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "to", required = true,
+                                            description = "Last business day (inclusive), yyyy-MM-dd")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Approval totals and per-day breakdown",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApprovalRangeReport.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/summary",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getAdvisorDashboard",
+                    operation = @Operation(
+                            operationId = "getAdvisorDashboard",
+                            summary = "Count and amount of the applications per status and per loan type",
+                            tags = {"Request"},
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Dashboard totals and breakdowns",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = AdvisorDashboard.class)
+                                            )
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/portfolio/cash-flow",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getPortfolioCashFlow",
+                    operation = @Operation(
+                            operationId = "getPortfolioCashFlow",
+                            summary = "Project the monthly principal and interest still due on every approved loan",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "months",
+                                            description = "Months to project starting next month, 1 to 360 (default 12)")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Projected cash flow per month",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = PortfolioCashFlowProjection.class)
+                                            )
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid projection horizon",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApiErrorResponse.class)
+                                            )
+                                    )
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler,
                                                          GlobalExceptionHandler globalExceptionHandler) {
         return RouterFunctions.route()
                 .POST("/request/api/v1/requests", handler::registerRequest)
+                .POST("/request/api/v1/requests/bulk", handler::registerRequestsBulk)
+                .POST("/request/api/v1/requests/quotes", handler::quoteLoans)
+                .GET("/request/api/v1/requests/intakes/{id}", handler::getIntake)
+                .GET("/request/api/v1/requests/mine", handler::getClientApplications)
+                .GET("/request/api/v1/requests/{id}/payment-plan", handler::getPaymentPlan)
                 .GET("/request/api/v1/requests", handler::getApplicationsForAdvisor)
+                .GET("/request/api/v1/requests/summary", handler::getAdvisorDashboard)
                 .PUT("/request/api/v1/requests", handler::updateApplicationStatus)
+                .PUT("/request/api/v1/requests/bulk", handler::updateApplicationStatusesBulk)
                 .GET("/request/api/v1/requests/approved/yesterday", handler::getApprovedApplicationDaily)
+                .GET("/request/api/v1/requests/approved", handler::getApprovedApplicationsByRange)
+                .GET("/request/api/v1/requests/portfolio/cash-flow", handler::getPortfolioCashFlow)
                 .filter(globalExceptionHandler)
                 .build();
     }
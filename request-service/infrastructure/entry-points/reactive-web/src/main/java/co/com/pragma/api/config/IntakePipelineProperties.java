@@ -0,0 +1,10 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "entrypoint.intake")
+public record IntakePipelineProperties(
+        @DefaultValue("1000") int capacity,
+        @DefaultValue("16") int concurrency) {
+}
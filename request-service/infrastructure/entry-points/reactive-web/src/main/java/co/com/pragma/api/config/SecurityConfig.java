@@ -48,9 +48,19 @@ public class SecurityConfig {
                                 "/test"
                         ).permitAll()
                         .pathMatchers(HttpMethod.POST, "/request/api/v1/requests").hasRole("CLIENT")
+                        .pathMatchers(HttpMethod.POST, "/request/api/v1/requests/bulk").hasAnyRole("ADMIN", "ADVISER")
+                        .pathMatchers(HttpMethod.POST, "/request/api/v1/requests/quotes").hasAnyRole("CLIENT", "ADVISER")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/intakes/*").hasRole("CLIENT")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/mine").hasRole("CLIENT")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/*/payment-plan").hasRole("CLIENT")
                         .pathMatchers(HttpMethod.GET, "/request/api/v1/requests").hasRole("ADVISER")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/summary").hasRole("ADVISER")
                         .pathMatchers(HttpMethod.PUT, "/request/api/v1/requests").hasRole("ADVISER")
+                        .pathMatchers(HttpMethod.PUT, "/request/api/v1/requests/bulk").hasRole("ADVISER")
                         .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/approved/yesterday").hasAnyRole("ADMIN", "REPORT_JOB")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/approved").hasAnyRole("ADMIN", "REPORT_JOB")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/portfolio/cash-flow").hasRole("ADMIN")
+                        .pathMatchers("/request/actuator/slowqueries/**").hasRole("ADMIN")
                         .pathMatchers("/request/actuator/**").permitAll()
                         .anyExchange().authenticated()
                 )
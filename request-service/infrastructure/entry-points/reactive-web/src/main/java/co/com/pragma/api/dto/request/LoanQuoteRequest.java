@@ -0,0 +1,35 @@
+package co.com.pragma.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(name = "LoanQuoteRequest",
+        description = "Grid of loans to quote: every amount with every term under every loan type")
+public record LoanQuoteRequest(
+        @ArraySchema(schema = @Schema(description = "Loan amount", example = "10000.0"))
+        @NotEmpty(message = "Amounts are required")
+        List<@NotNull(message = "Amount is required") @Positive(message = "Amount must be positive") Double> amounts,
+
+        @ArraySchema(schema = @Schema(description = "Loan term in months", example = "12"))
+        @NotEmpty(message = "Terms are required")
+        List<@NotNull(message = "Term is required")
+        @Min(value = 1, message = "Term must be at least 1 month")
+        @Max(value = 360, message = "Term must be at most 360 months") Integer> terms,
+
+        @ArraySchema(schema = @Schema(description = "Loan type identifier",
+                example = "112fb229-db20-4800-93a4-f76e822a495b"))
+        @NotEmpty(message = "IdLoanTypes are required")
+        List<@NotNull(message = "IdLoanType is required") UUID> idLoanTypes,
+
+        @Schema(description = "Whether each quote carries its month by month schedule", example = "false")
+        Boolean includeSchedule
+) {
+}
@@ -8,6 +8,7 @@ public record UpdateApplicationStatusRequest(
         @NotNull(message = "IdApplication is required")
         UUID idApplication,
         @NotNull(message = "Status is required")
-        String status
+        String status,
+        String expectedStatus
 ) {
 }
@@ -0,0 +1,24 @@
+package co.com.pragma.api.dto.response;
+
+import co.com.pragma.api.dto.ApplicationDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(name = "BulkDecisionResponse", description = "Outcome of one decision of a bulk status update, streamed as NDJSON")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkDecisionResponse(
+        @Schema(description = "Zero-based position of the decision in the request body", example = "0")
+        long index,
+
+        @Schema(description = "Application the decision applies to", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID idApplication,
+
+        @Schema(description = "Updated application, absent when the decision was rejected")
+        ApplicationDto application,
+
+        @Schema(description = "Reason the decision was rejected, absent when it was applied")
+        String error
+) {
+}
@@ -0,0 +1,22 @@
+package co.com.pragma.api.dto.response;
+
+import co.com.pragma.api.dto.ApplicationDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "BulkRegistrationResponse", description = "Outcome of one row of a bulk registration, streamed as NDJSON")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegistrationResponse(
+        @Schema(description = "Zero-based position of the row in the request body", example = "0")
+        long index,
+
+        @Schema(description = "Applicant's identification document", example = "12345678")
+        String idDocument,
+
+        @Schema(description = "Registered application, absent when the row was rejected")
+        ApplicationDto application,
+
+        @Schema(description = "Reason the row was rejected, absent when it was registered")
+        String error
+) {
+}
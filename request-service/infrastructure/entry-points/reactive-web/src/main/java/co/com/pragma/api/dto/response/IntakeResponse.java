@@ -0,0 +1,30 @@
+package co.com.pragma.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(name = "IntakeResponse", description = "State of a request accepted for asynchronous registration")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IntakeResponse(
+        @Schema(description = "Intake identifier, used to poll its state", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID id,
+
+        @Schema(description = "PENDING, PROCESSING, COMPLETED or FAILED", example = "PENDING")
+        String status,
+
+        @Schema(description = "Registered application, present once the intake is COMPLETED")
+        UUID idApplication,
+
+        @Schema(description = "Reason the registration failed, present once the intake is FAILED")
+        String error,
+
+        @Schema(description = "When the request was accepted")
+        LocalDateTime createdAt,
+
+        @Schema(description = "When the intake last changed state")
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,46 @@
+package co.com.pragma.api.dto.response;
+
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(name = "LoanQuoteResponse", description = "Quote of one scenario of the grid, streamed as NDJSON")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoanQuoteResponse(
+        @Schema(description = "Zero-based position of the scenario, numbered loan type first, then amount, then term",
+                example = "0")
+        long index,
+
+        @Schema(description = "Loan type identifier", example = "112fb229-db20-4800-93a4-f76e822a495b")
+        UUID idLoanType,
+
+        @Schema(description = "Loan amount", example = "10000.0")
+        double amount,
+
+        @Schema(description = "Loan term in months", example = "12")
+        int term,
+
+        @Schema(description = "Annual interest rate of the loan type, in percent", example = "12.0")
+        Double interestRate,
+
+        @Schema(description = "Payment of the first month", example = "888.49")
+        Double monthlyPayment,
+
+        @Schema(description = "Interest paid over the whole term", example = "661.86")
+        Double totalInterest,
+
+        @Schema(description = "Principal plus interest paid over the whole term", example = "10661.88")
+        Double totalPayment,
+
+        @ArraySchema(schema = @Schema(implementation = PaymentDetail.class,
+                description = "Payment, principal, interest and remaining balance of each month, when requested"))
+        List<PaymentDetail> payments,
+
+        @Schema(description = "Reason the scenario was not quoted, absent when it was")
+        String error
+) {
+}
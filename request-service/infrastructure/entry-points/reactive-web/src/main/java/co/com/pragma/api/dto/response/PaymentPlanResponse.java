@@ -0,0 +1,23 @@
+package co.com.pragma.api.dto.response;
+
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.paymentplan.PaymentPlanSummary;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(name = "PaymentPlanResponse", description = "Amortization schedule of an approved application")
+public record PaymentPlanResponse(
+        @Schema(description = "Approved application", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID idApplication,
+
+        @Schema(description = "Term, monthly payment and totals of the plan")
+        PaymentPlanSummary summary,
+
+        @ArraySchema(schema = @Schema(implementation = PaymentDetail.class,
+                description = "Payment, principal, interest and remaining balance of each month"))
+        List<PaymentDetail> payments
+) {
+}
@@ -2,11 +2,19 @@ package co.com.pragma.api.exception;
 
 import co.com.pragma.api.dto.response.ApiErrorResponse;
 import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyConflictException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
 import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
+import co.com.pragma.model.exception.StatusTransitionConflictException;
 import co.com.pragma.model.exception.TokenValidationException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.CustomLogger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -51,6 +59,36 @@ public class GlobalExceptionHandler implements HandlerFilterFunction<ServerRespo
                             .build();
                     return ServerResponse.status(HttpStatus.BAD_REQUEST.value()).bodyValue(response);
                 })
+                .onErrorResume(InvalidPaginationException.class, ex -> {
+                    logger.warn("Invalid pagination at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.BAD_REQUEST.value())
+                            .error(HttpStatus.BAD_REQUEST.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.BAD_REQUEST.value()).bodyValue(response);
+                })
+                .onErrorResume(InvalidDateRangeException.class, ex -> {
+                    logger.warn("Invalid date range at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.BAD_REQUEST.value())
+                            .error(HttpStatus.BAD_REQUEST.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.BAD_REQUEST.value()).bodyValue(response);
+                })
+                .onErrorResume(InvalidSearchFilterException.class, ex -> {
+                    logger.warn("Invalid search filter at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.BAD_REQUEST.value())
+                            .error(HttpStatus.BAD_REQUEST.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.BAD_REQUEST.value()).bodyValue(response);
+                })
                 .onErrorResume(EntityNotFoundException.class, ex -> {
                     logger.warn("Entity not found at: " + ex.getMessage());
                     ApiErrorResponse response = ApiErrorResponse.builder()
@@ -61,6 +99,48 @@ public class GlobalExceptionHandler implements HandlerFilterFunction<ServerRespo
                             .build();
                     return ServerResponse.status(HttpStatus.NOT_FOUND.value()).bodyValue(response);
                 })
+                .onErrorResume(StatusTransitionConflictException.class, ex -> {
+                    logger.warn("Status transition conflict at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.CONFLICT.value())
+                            .error(HttpStatus.CONFLICT.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.CONFLICT.value()).bodyValue(response);
+                })
+                .onErrorResume(IdempotencyKeyConflictException.class, ex -> {
+                    logger.warn("Idempotency key conflict at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.CONFLICT.value())
+                            .error(HttpStatus.CONFLICT.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.CONFLICT.value()).bodyValue(response);
+                })
+                .onErrorResume(IdempotencyKeyMismatchException.class, ex -> {
+                    logger.warn("Idempotency key reused at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                            .error(HttpStatus.UNPROCESSABLE_ENTITY.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.UNPROCESSABLE_ENTITY.value()).bodyValue(response);
+                })
+                .onErrorResume(IntakeCapacityExceededException.class, ex -> {
+                    logger.warn("Intake capacity exceeded at: " + ex.getMessage());
+                    ApiErrorResponse response = ApiErrorResponse.builder()
+                            .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                            .error(HttpStatus.SERVICE_UNAVAILABLE.name())
+                            .message(ex.getMessage())
+                            .build();
+                    return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .bodyValue(response);
+                })
                 .onErrorResume(UnauthorizedException.class, ex -> {
                     logger.warn("Authentication failed: " + ex.getMessage());
                     ApiErrorResponse response = ApiErrorResponse.builder()
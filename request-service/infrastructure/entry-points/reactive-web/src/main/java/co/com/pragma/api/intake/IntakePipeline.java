@@ -0,0 +1,114 @@
+package co.com.pragma.api.intake;
+
+import co.com.pragma.api.config.IntakePipelineProperties;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs accepted intakes through {@link RegisterRequestAsyncUseCase#process} in the background. Intakes wait in a
+ * bounded queue and at most {@code concurrency} registrations run at once, so a burst of requests is absorbed by the
+ * queue instead of by the auth service and the database; once the queue is full new intakes are failed straight away
+ * and the client gets a 503 to retry later.
+ */
+@Component
+public class IntakePipeline {
+
+    static final String QUEUE_DEPTH_METRIC = "application.intake.queue.depth";
+    static final String IN_FLIGHT_METRIC = "application.intake.in.flight";
+    static final String SUBMITTED_METRIC = "application.intake.submitted";
+    static final String QUEUE_FULL_ERROR = "Intake queue is full";
+
+    private final RegisterRequestAsyncUseCase registerRequestAsyncUseCase;
+    private final IntakePipelineProperties properties;
+    private final CustomLogger logger;
+    private final BlockingQueue<IntakeTask> queue;
+    private final Sinks.Many<IntakeTask> sink;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter accepted;
+    private final Counter rejected;
+    private Disposable subscription;
+
+    public IntakePipeline(RegisterRequestAsyncUseCase registerRequestAsyncUseCase,
+                          IntakePipelineProperties properties,
+                          MeterRegistry meterRegistry,
+                          CustomLogger logger) {
+        this.registerRequestAsyncUseCase = registerRequestAsyncUseCase;
+        this.properties = properties;
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get).register(meterRegistry);
+        this.accepted = meterRegistry.counter(SUBMITTED_METRIC, "outcome", "accepted");
+        this.rejected = meterRegistry.counter(SUBMITTED_METRIC, "outcome", "rejected");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = sink.asFlux()
+                .flatMap(task -> registerRequestAsyncUseCase.process(task.intake(), task.token(), task.idempotencyKey())
+                                .doOnSubscribe(ignored -> inFlight.incrementAndGet())
+                                .doFinally(ignored -> inFlight.decrementAndGet())
+                                .onErrorResume(error -> {
+                                    logger.warn("Intake {} could not be processed: {}",
+                                            task.intake().getId(), error.getMessage());
+                                    return Mono.empty();
+                                }),
+                        properties.concurrency())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Queues the intake for registration, or marks it as failed and errors with
+     * {@link IntakeCapacityExceededException} when the queue is full.
+     */
+    public Mono<Void> submit(ApplicationIntake intake, String token, String idempotencyKey) {
+        return Mono.defer(() -> {
+            if (emit(new IntakeTask(intake, token, idempotencyKey)).isSuccess()) {
+                accepted.increment();
+                return Mono.empty();
+            }
+            rejected.increment();
+            logger.warn("Intake {} rejected: {} ({} waiting)", intake.getId(), QUEUE_FULL_ERROR, queue.size());
+            return registerRequestAsyncUseCase.reject(intake.getId(), QUEUE_FULL_ERROR)
+                    .then(Mono.error(new IntakeCapacityExceededException(
+                            "Too many requests are being registered; please try again later")));
+        });
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    // A unicast sink fails concurrent emissions instead of serializing them, so submitters take turns.
+    private synchronized Sinks.EmitResult emit(IntakeTask task) {
+        return sink.tryEmitNext(task);
+    }
+
+    // The token lives only here, in memory, for as long as the intake waits; it is never written to the intake table.
+    private record IntakeTask(ApplicationIntake intake, String token, String idempotencyKey) {
+    }
+}
@@ -1,8 +1,16 @@
 package co.com.pragma.api.mapper;
 
 import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.response.IntakeResponse;
+import co.com.pragma.api.dto.response.LoanQuoteResponse;
+import co.com.pragma.api.dto.response.PaymentPlanResponse;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -15,4 +23,12 @@ public interface ApplicationMapper {
     Application toEntity(RegisterApplicationRequestDto registerApplicationRequestDto);
 
     ApplicationDto toResponse(Application application);
+
+    IntakeResponse toIntakeResponse(ApplicationIntake intake);
+
+    PaymentPlanResponse toPaymentPlanResponse(PaymentPlan paymentPlan);
+
+    LoanQuoteGrid toLoanQuoteGrid(LoanQuoteRequest loanQuoteRequest);
+
+    LoanQuoteResponse toLoanQuoteResponse(LoanQuote loanQuote);
 }
@@ -1,36 +1,89 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.IntakeResponse;
+import co.com.pragma.api.dto.response.PaymentPlanResponse;
+import co.com.pragma.api.exception.ValidationException;
+import co.com.pragma.api.intake.IntakePipeline;
 import co.com.pragma.api.mapper.ApplicationMapper;
 import co.com.pragma.api.service.ValidationService;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.BulkDecisionItem;
+import co.com.pragma.model.application.BulkRegistrationItem;
 import co.com.pragma.model.auth.ValidatedUser;
+import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.TokenValidator;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.pagination.CountMode;
+import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.portfolio.PortfolioCashFlowProjection;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
+import co.com.pragma.model.summary.AdvisorDashboard;
+import co.com.pragma.model.report.ApprovalRangeReport;
 import co.com.pragma.model.report.DailyReport;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findapprovedapplicationsbyrange.FindApprovedApplicationsByRangeUseCase;
+import co.com.pragma.usecase.getadvisordashboard.GetAdvisorDashboardUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.getclientapplications.GetClientApplicationsUseCase;
+import co.com.pragma.usecase.getpaymentplan.GetPaymentPlanUseCase;
+import co.com.pragma.usecase.projectportfoliocashflow.ProjectPortfolioCashFlowUseCase;
+import co.com.pragma.usecase.quoteloans.QuoteLoansUseCase;
+import co.com.pragma.usecase.registerapplicationsbulk.RegisterApplicationsBulkUseCase;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.updateapplicationstatusbulk.UpdateApplicationStatusBulkUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,15 +92,48 @@ public class HandlerTest {
     @Mock
     private RegisterRequestUseCase registerRequestUseCase;
 
+    @Mock
+    private RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase;
+
+    @Mock
+    private RegisterRequestAsyncUseCase registerRequestAsyncUseCase;
+
+    @Mock
+    private IntakePipeline intakePipeline;
+
+    @Mock
+    private RegisterApplicationsBulkUseCase registerApplicationsBulkUseCase;
+
     @Mock
     private GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase;
 
+    @Mock
+    private GetAdvisorDashboardUseCase getAdvisorDashboardUseCase;
+
+    @Mock
+    private GetClientApplicationsUseCase getClientApplicationsUseCase;
+
+    @Mock
+    private GetPaymentPlanUseCase getPaymentPlanUseCase;
+
     @Mock
     private UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
 
+    @Mock
+    private UpdateApplicationStatusBulkUseCase updateApplicationStatusBulkUseCase;
+
     @Mock
     private FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
 
+    @Mock
+    private FindApprovedApplicationsByRangeUseCase findApprovedApplicationsByRangeUseCase;
+
+    @Mock
+    private ProjectPortfolioCashFlowUseCase projectPortfolioCashFlowUseCase;
+
+    @Mock
+    private QuoteLoansUseCase quoteLoansUseCase;
+
     @Mock
     private ApplicationMapper applicationMapper;
 
@@ -130,6 +216,220 @@ public class HandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should register through the idempotent use case when an Idempotency-Key is sent")
+    void registerRequest_WithIdempotencyKey() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.header("Idempotency-Key")).thenReturn(List.of("retry-1"));
+        when(headers.header("Prefer")).thenReturn(List.of());
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.bodyToMono(RegisterApplicationRequestDto.class)).thenReturn(Mono.just(requestDto));
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(validationService.validate(requestDto)).thenReturn(Mono.just(requestDto));
+        when(applicationMapper.toEntity(requestDto)).thenReturn(application);
+        when(registerRequestIdempotentUseCase.registerApplication(application, token, "retry-1"))
+                .thenReturn(Mono.just(application));
+        when(applicationMapper.toResponse(application)).thenReturn(responseDto);
+
+        StepVerifier.create(handler.registerRequest(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.CREATED)
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should accept the request with 202 and queue it when the client prefers respond-async")
+    void registerRequest_RespondAsync() {
+        ApplicationIntake intake = ApplicationIntake.builder()
+                .id(UUID.randomUUID())
+                .idDocument(requestDto.idDocument())
+                .status(IntakeStatus.PENDING)
+                .build();
+        IntakeResponse intakeResponse = new IntakeResponse(intake.getId(), "PENDING", null, null, null, null);
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.header("Idempotency-Key")).thenReturn(List.of());
+        when(headers.header("Prefer")).thenReturn(List.of("respond-async, wait=0"));
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.bodyToMono(RegisterApplicationRequestDto.class)).thenReturn(Mono.just(requestDto));
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(validationService.validate(requestDto)).thenReturn(Mono.just(requestDto));
+        when(applicationMapper.toEntity(requestDto)).thenReturn(application);
+        when(registerRequestAsyncUseCase.accept(application)).thenReturn(Mono.just(intake));
+        when(intakePipeline.submit(intake, token, null)).thenReturn(Mono.empty());
+        when(applicationMapper.toIntakeResponse(intake)).thenReturn(intakeResponse);
+
+        StepVerifier.create(handler.registerRequest(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.ACCEPTED
+                        && serverResponse.headers().getLocation().toString()
+                        .equals("/request/api/v1/requests/intakes/" + intake.getId())
+                        && "respond-async".equals(serverResponse.headers().getFirst("Preference-Applied")))
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should propagate the capacity error when the intake queue is full")
+    void registerRequest_RespondAsyncQueueFull() {
+        ApplicationIntake intake = ApplicationIntake.builder().id(UUID.randomUUID()).build();
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.header("Idempotency-Key")).thenReturn(List.of());
+        when(headers.header("Prefer")).thenReturn(List.of("respond-async"));
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.bodyToMono(RegisterApplicationRequestDto.class)).thenReturn(Mono.just(requestDto));
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(validationService.validate(requestDto)).thenReturn(Mono.just(requestDto));
+        when(applicationMapper.toEntity(requestDto)).thenReturn(application);
+        when(registerRequestAsyncUseCase.accept(application)).thenReturn(Mono.just(intake));
+        when(intakePipeline.submit(intake, token, null))
+                .thenReturn(Mono.error(new IntakeCapacityExceededException("Too many requests")));
+
+        StepVerifier.create(handler.registerRequest(serverRequest))
+                .expectError(IntakeCapacityExceededException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return the intake of the authenticated client with Retry-After while it is still running")
+    void getIntake_Pending() {
+        UUID idIntake = UUID.randomUUID();
+        ApplicationIntake intake = ApplicationIntake.builder()
+                .id(idIntake)
+                .status(IntakeStatus.PROCESSING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.pathVariable("id")).thenReturn(idIntake.toString());
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(registerRequestAsyncUseCase.findIntake(idIntake, "12345678")).thenReturn(Mono.just(intake));
+        when(applicationMapper.toIntakeResponse(intake))
+                .thenReturn(new IntakeResponse(idIntake, "PROCESSING", null, null, intake.getCreatedAt(), null));
+
+        StepVerifier.create(handler.getIntake(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && "1".equals(serverResponse.headers().getFirst(HttpHeaders.RETRY_AFTER)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should treat a malformed intake id as not found")
+    void getIntake_MalformedId() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.pathVariable("id")).thenReturn("not-a-uuid");
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+
+        StepVerifier.create(handler.getIntake(serverRequest))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return the client's payment plan with a private max-age")
+    void getPaymentPlan() {
+        UUID idApplication = UUID.randomUUID();
+        PaymentPlan paymentPlan = PaymentPlan.builder().idApplication(idApplication).idUser(validatedUser.getIdUser()).build();
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.pathVariable("id")).thenReturn(idApplication.toString());
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(getPaymentPlanUseCase.getPaymentPlan(idApplication, validatedUser.getIdUser()))
+                .thenReturn(Mono.just(paymentPlan));
+        when(applicationMapper.toPaymentPlanResponse(paymentPlan))
+                .thenReturn(new PaymentPlanResponse(idApplication, null, List.of()));
+
+        StepVerifier.create(handler.getPaymentPlan(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && "max-age=3600, private".equals(serverResponse.headers().getCacheControl()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should treat a malformed application id as a missing payment plan")
+    void getPaymentPlan_MalformedId() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.pathVariable("id")).thenReturn("not-a-uuid");
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+
+        StepVerifier.create(handler.getPaymentPlan(serverRequest))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(getPaymentPlanUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject an Idempotency-Key longer than 255 characters")
+    void registerRequest_WithInvalidIdempotencyKey() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.header("Idempotency-Key")).thenReturn(List.of("k".repeat(256)));
+
+        StepVerifier.create(handler.registerRequest(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof ValidationException validation
+                        && validation.getErrors().containsKey("Idempotency-Key"))
+                .verify();
+
+        verify(registerRequestIdempotentUseCase, never()).registerApplication(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should stream bulk rows to the use case and reject the ones that fail validation")
+    @SuppressWarnings("unchecked")
+    void registerRequestsBulk_ValidatesEachRow() {
+        RegisterApplicationRequestDto invalidRow = new RegisterApplicationRequestDto(null, 0, "87654321", null);
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.bodyToFlux(RegisterApplicationRequestDto.class)).thenReturn(Flux.just(requestDto, invalidRow));
+        when(validationService.validate(requestDto)).thenReturn(Mono.just(requestDto));
+        when(validationService.validate(invalidRow)).thenReturn(Mono.error(new ValidationException(Map.of(
+                "term", List.of("Term must be at least 1 month"),
+                "amount", List.of("Amount is required")))));
+        when(applicationMapper.toEntity(requestDto)).thenReturn(application);
+        when(registerApplicationsBulkUseCase.registerApplications(any(), eq(token)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(handler.registerRequestsBulk(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType()))
+                .verifyComplete();
+
+        ArgumentCaptor<Flux<BulkRegistrationItem>> items = ArgumentCaptor.forClass(Flux.class);
+        verify(registerApplicationsBulkUseCase).registerApplications(items.capture(), eq(token));
+        StepVerifier.create(items.getValue())
+                .expectNextMatches(item -> item.getIndex() == 0 && item.getApplication() == application)
+                .expectNextMatches(item -> item.getIndex() == 1 && item.getError()
+                        .equals("amount: Amount is required; term: Term must be at least 1 month"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject bulk rows past the limit without reading further")
+    @SuppressWarnings("unchecked")
+    void registerRequestsBulk_RejectsRowsPastTheLimit() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.bodyToFlux(RegisterApplicationRequestDto.class))
+                .thenReturn(Flux.range(0, 1500).map(row -> requestDto));
+        when(validationService.validate(requestDto)).thenReturn(Mono.just(requestDto));
+        when(applicationMapper.toEntity(requestDto)).thenReturn(application);
+        when(registerApplicationsBulkUseCase.registerApplications(any(), eq(token)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(handler.registerRequestsBulk(serverRequest))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<Flux<BulkRegistrationItem>> items = ArgumentCaptor.forClass(Flux.class);
+        verify(registerApplicationsBulkUseCase).registerApplications(items.capture(), eq(token));
+        StepVerifier.create(items.getValue())
+                .expectNextCount(1000)
+                .expectNextMatches(item -> item.getIndex() == 1000 && item.isRejected())
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should return unauthorized when client tries to create request for another user")
     void registerRequest_ClientTriesForAnotherUser() {
@@ -230,7 +530,7 @@ public class HandlerTest {
         when(serverRequest.queryParam("size")).thenReturn(java.util.Optional.of("10"));
         when(serverRequest.queryParam("sortBy")).thenReturn(java.util.Optional.of("amount"));
         when(serverRequest.queryParam("sortDirection")).thenReturn(java.util.Optional.of("asc"));
-        when(getApplicationsForAdvisorUseCase.getApplicationsByStatus(any(), any(), any()))
+        when(getApplicationsForAdvisorUseCase.searchApplications(any(), any(), any(), any(), any()))
                 .thenReturn(Mono.error(new RuntimeException("Error in use case")));
 
         StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
@@ -239,6 +539,138 @@ public class HandlerTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Should pass cursor and default to estimated count in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_CursorDefaultsToEstimatedCount() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("cursor", "next-token"));
+        when(getApplicationsForAdvisorUseCase.searchApplications(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(CustomPage.<ApplicationAdvisorView>builder().content(List.of()).build()));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK)
+                .verifyComplete();
+
+        ArgumentCaptor<CustomPageable> captor = ArgumentCaptor.forClass(CustomPageable.class);
+        verify(getApplicationsForAdvisorUseCase).searchApplications(eq(token), any(), any(), any(), captor.capture());
+        assertEquals("next-token", captor.getValue().getCursor());
+        assertEquals(CountMode.ESTIMATED, captor.getValue().getCountMode());
+    }
+
+    @Test
+    @DisplayName("Should honor explicit count mode in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_ExplicitCountMode() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("count", "None"));
+        when(getApplicationsForAdvisorUseCase.searchApplications(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(CustomPage.<ApplicationAdvisorView>builder().content(List.of()).build()));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK)
+                .verifyComplete();
+
+        ArgumentCaptor<CustomPageable> captor = ArgumentCaptor.forClass(CustomPageable.class);
+        verify(getApplicationsForAdvisorUseCase).searchApplications(eq(token), any(), any(), any(), captor.capture());
+        assertNull(captor.getValue().getCursor());
+        assertEquals(CountMode.NONE, captor.getValue().getCountMode());
+    }
+
+    @Test
+    @DisplayName("Should pass every search filter to the use case in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_Filters() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("status", "pending review, Manual Review", "loanType", "Personal,Vehicle",
+                "minAmount", "1000", "maxAmount", "5000.5", "createdFrom", "2025-09-01", "createdTo", "2025-09-30",
+                "email", " client@test.com "));
+        when(getApplicationsForAdvisorUseCase.searchApplications(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(CustomPage.<ApplicationAdvisorView>builder().content(List.of()).build()));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK)
+                .verifyComplete();
+
+        ArgumentCaptor<ApplicationSearchCriteria> captor = ArgumentCaptor.forClass(ApplicationSearchCriteria.class);
+        verify(getApplicationsForAdvisorUseCase).searchApplications(eq(token),
+                eq(List.of("Pending Review", "Manual Review")), eq(List.of("Personal", "Vehicle")), captor.capture(),
+                any());
+        ApplicationSearchCriteria filters = captor.getValue();
+        assertEquals(1000.0, filters.getMinAmount());
+        assertEquals(5000.5, filters.getMaxAmount());
+        assertEquals(LocalDateTime.of(2025, 9, 1, 0, 0), filters.getCreatedFrom());
+        assertEquals(LocalDateTime.of(2025, 10, 1, 0, 0), filters.getCreatedBefore());
+        assertEquals("client@test.com", filters.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should reject a status outside the review queues in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_UnsupportedStatus() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("status", "Approved"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidSearchFilterException &&
+                        throwable.getMessage().equals("Unsupported status filter: Approved"))
+                .verify();
+
+        verifyNoInteractions(getApplicationsForAdvisorUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject an amount that is not a number in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_MalformedAmount() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("minAmount", "ten"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidSearchFilterException &&
+                        throwable.getMessage().equals("Query parameter 'minAmount' must be a number"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported count mode in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_UnsupportedCountMode() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("count", "approximate"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidPaginationException &&
+                        throwable.getMessage().equals("Unsupported count mode: approximate"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid page size in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_InvalidSize() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("size", "0"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidPaginationException &&
+                        throwable.getMessage().equals("Page must be >= 0 and size must be between 1 and 100"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a page size above the maximum in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_SizeAboveMaximum() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        stubQueryParams(Map.of("size", "101"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectErrorMatches(throwable -> throwable instanceof InvalidPaginationException &&
+                        throwable.getMessage().equals("Page must be >= 0 and size must be between 1 and 100"))
+                .verify();
+    }
+
     @Test
     @DisplayName("Should handle missing authorization header in getApplicationsForAdvisor")
     void getApplicationsForAdvisor_MissingHeader() {
@@ -267,12 +699,12 @@ public class HandlerTest {
     @DisplayName("Should update application status successfully")
     void updateApplicationStatus_Success() {
         UpdateApplicationStatusRequest updateRequest =
-                new UpdateApplicationStatusRequest(UUID.randomUUID(), "APPROVED");
+                new UpdateApplicationStatusRequest(UUID.randomUUID(), "APPROVED", "Pending Review");
 
         when(serverRequest.bodyToMono(UpdateApplicationStatusRequest.class))
                 .thenReturn(Mono.just(updateRequest));
 
-        when(updateApplicationStatusUseCase.updateStatus(updateRequest.idApplication(), updateRequest.status()))
+        when(updateApplicationStatusUseCase.updateStatus(updateRequest.idApplication(), updateRequest.status(), updateRequest.expectedStatus()))
                 .thenReturn(Mono.just(application));
 
         when(applicationMapper.toResponse(application)).thenReturn(responseDto);
@@ -281,7 +713,7 @@ public class HandlerTest {
                 .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
                 .verifyComplete();
 
-        verify(updateApplicationStatusUseCase).updateStatus(updateRequest.idApplication(), updateRequest.status());
+        verify(updateApplicationStatusUseCase).updateStatus(updateRequest.idApplication(), updateRequest.status(), updateRequest.expectedStatus());
         verify(applicationMapper).toResponse(application);
     }
 
@@ -289,12 +721,12 @@ public class HandlerTest {
     @DisplayName("Should handle error when updating application status")
     void updateApplicationStatus_Error() {
         UpdateApplicationStatusRequest updateRequest =
-                new UpdateApplicationStatusRequest(UUID.randomUUID(), "APPROVED");
+                new UpdateApplicationStatusRequest(UUID.randomUUID(), "APPROVED", "Pending Review");
 
         when(serverRequest.bodyToMono(UpdateApplicationStatusRequest.class))
                 .thenReturn(Mono.just(updateRequest));
 
-        when(updateApplicationStatusUseCase.updateStatus(updateRequest.idApplication(), updateRequest.status()))
+        when(updateApplicationStatusUseCase.updateStatus(updateRequest.idApplication(), updateRequest.status(), updateRequest.expectedStatus()))
                 .thenReturn(Mono.error(new RuntimeException("Update failed")));
 
         StepVerifier.create(handler.updateApplicationStatus(serverRequest))
@@ -303,6 +735,96 @@ public class HandlerTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Should stream bulk decisions to the use case and reject the ones that fail validation")
+    @SuppressWarnings("unchecked")
+    void updateApplicationStatusesBulk_ValidatesEachRow() {
+        UpdateApplicationStatusRequest validRow =
+                new UpdateApplicationStatusRequest(UUID.randomUUID(), "Approved", "Pending Review");
+        UpdateApplicationStatusRequest invalidRow = new UpdateApplicationStatusRequest(UUID.randomUUID(), null, null);
+        when(serverRequest.bodyToFlux(UpdateApplicationStatusRequest.class)).thenReturn(Flux.just(validRow, invalidRow));
+        when(validationService.validate(validRow)).thenReturn(Mono.just(validRow));
+        when(validationService.validate(invalidRow)).thenReturn(Mono.error(new ValidationException(Map.of(
+                "status", List.of("Status is required")))));
+        when(updateApplicationStatusBulkUseCase.updateStatuses(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(handler.updateApplicationStatusesBulk(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType()))
+                .verifyComplete();
+
+        ArgumentCaptor<Flux<BulkDecisionItem>> items = ArgumentCaptor.forClass(Flux.class);
+        verify(updateApplicationStatusBulkUseCase).updateStatuses(items.capture());
+        StepVerifier.create(items.getValue())
+                .expectNextMatches(item -> item.getIndex() == 0 && !item.isRejected()
+                        && item.getIdApplication().equals(validRow.idApplication())
+                        && item.getStatus().equals("Approved")
+                        && item.getExpectedStatus().equals("Pending Review"))
+                .expectNextMatches(item -> item.getIndex() == 1
+                        && item.getIdApplication().equals(invalidRow.idApplication())
+                        && item.getError().equals("status: Status is required"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject bulk decisions past the limit without reading further")
+    @SuppressWarnings("unchecked")
+    void updateApplicationStatusesBulk_RejectsRowsPastTheLimit() {
+        UpdateApplicationStatusRequest decision =
+                new UpdateApplicationStatusRequest(UUID.randomUUID(), "Rejected", null);
+        when(serverRequest.bodyToFlux(UpdateApplicationStatusRequest.class))
+                .thenReturn(Flux.range(0, 1500).map(row -> decision));
+        when(validationService.validate(decision)).thenReturn(Mono.just(decision));
+        when(updateApplicationStatusBulkUseCase.updateStatuses(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(handler.updateApplicationStatusesBulk(serverRequest))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<Flux<BulkDecisionItem>> items = ArgumentCaptor.forClass(Flux.class);
+        verify(updateApplicationStatusBulkUseCase).updateStatuses(items.capture());
+        StepVerifier.create(items.getValue())
+                .expectNextCount(1000)
+                .expectNextMatches(item -> item.getIndex() == 1000 && item.isRejected())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream the quotes of a validated grid as NDJSON")
+    void quoteLoans_Streams() {
+        LoanQuoteRequest quoteRequest = new LoanQuoteRequest(List.of(10000.0), List.of(12), List.of(UUID.randomUUID()), null);
+        LoanQuoteGrid grid = LoanQuoteGrid.builder().amounts(quoteRequest.amounts()).terms(quoteRequest.terms())
+                .idLoanTypes(quoteRequest.idLoanTypes()).build();
+        when(serverRequest.bodyToMono(LoanQuoteRequest.class)).thenReturn(Mono.just(quoteRequest));
+        when(validationService.validate(quoteRequest)).thenReturn(Mono.just(quoteRequest));
+        when(applicationMapper.toLoanQuoteGrid(quoteRequest)).thenReturn(grid);
+        when(quoteLoansUseCase.quote(grid)).thenReturn(Flux.just(LoanQuote.builder().index(0).build()));
+
+        StepVerifier.create(handler.quoteLoans(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType()))
+                .verifyComplete();
+
+        verify(quoteLoansUseCase).quote(grid);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid grid before quoting anything")
+    void quoteLoans_InvalidGrid() {
+        LoanQuoteRequest quoteRequest = new LoanQuoteRequest(List.of(), List.of(12), List.of(UUID.randomUUID()), true);
+        when(serverRequest.bodyToMono(LoanQuoteRequest.class)).thenReturn(Mono.just(quoteRequest));
+        when(validationService.validate(quoteRequest)).thenReturn(Mono.error(new ValidationException(Map.of(
+                "amounts", List.of("Amounts are required")))));
+
+        StepVerifier.create(handler.quoteLoans(serverRequest))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(quoteLoansUseCase);
+    }
+
     @Test
     @DisplayName("Should get approved applications daily successfully")
     void getApprovedApplicationDaily_Success() {
@@ -334,4 +856,169 @@ public class HandlerTest {
                         t.getMessage().equals("Daily query failed"))
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should get approved applications by range successfully")
+    void getApprovedApplicationsByRange_Success() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 30);
+        stubQueryParams(Map.of("from", "2025-09-01", "to", "2025-09-30"));
+        when(findApprovedApplicationsByRangeUseCase.findApprovedApplicationsByRange(from, to))
+                .thenReturn(Mono.just(ApprovalRangeReport.builder().from(from).to(to)
+                        .approvedLoansCount(0L).totalLoanAmount(0.0).days(List.of()).build()));
+
+        StepVerifier.create(handler.getApprovedApplicationsByRange(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+
+        verify(findApprovedApplicationsByRangeUseCase).findApprovedApplicationsByRange(from, to);
+    }
+
+    @Test
+    @DisplayName("Should reject a missing date in getApprovedApplicationsByRange")
+    void getApprovedApplicationsByRange_MissingDate() {
+        stubQueryParams(Map.of("from", "2025-09-01"));
+
+        StepVerifier.create(handler.getApprovedApplicationsByRange(serverRequest))
+                .expectErrorMatches(t -> t instanceof InvalidDateRangeException &&
+                        t.getMessage().equals("Query parameter 'to' is required"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed date in getApprovedApplicationsByRange")
+    void getApprovedApplicationsByRange_MalformedDate() {
+        stubQueryParams(Map.of("from", "yesterday", "to", "2025-09-30"));
+
+        StepVerifier.create(handler.getApprovedApplicationsByRange(serverRequest))
+                .expectErrorMatches(t -> t instanceof InvalidDateRangeException &&
+                        t.getMessage().equals("Query parameter 'from' must be an ISO date (yyyy-MM-dd)"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should project the portfolio cash flow over the requested horizon")
+    void getPortfolioCashFlow_Success() {
+        stubQueryParams(Map.of("months", "24"));
+        when(projectPortfolioCashFlowUseCase.project(24))
+                .thenReturn(Mono.just(PortfolioCashFlowProjection.builder()
+                        .from(YearMonth.of(2025, 10)).months(24).loanCount(0L)
+                        .totalPrincipal(0.0).totalInterest(0.0).cashFlows(List.of()).build()));
+
+        StepVerifier.create(handler.getPortfolioCashFlow(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should project twelve months when getPortfolioCashFlow gets no horizon")
+    void getPortfolioCashFlow_DefaultHorizon() {
+        stubQueryParams(Map.of());
+        when(projectPortfolioCashFlowUseCase.project(12)).thenReturn(Mono.just(new PortfolioCashFlowProjection()));
+
+        StepVerifier.create(handler.getPortfolioCashFlow(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+
+        verify(projectPortfolioCashFlowUseCase).project(12);
+    }
+
+    @Test
+    @DisplayName("Should reject a horizon that is not a number in getPortfolioCashFlow")
+    void getPortfolioCashFlow_MalformedHorizon() {
+        stubQueryParams(Map.of("months", "a year"));
+
+        StepVerifier.create(handler.getPortfolioCashFlow(serverRequest))
+                .expectErrorMatches(t -> t instanceof InvalidDateRangeException &&
+                        t.getMessage().equals("Query parameter 'months' must be a whole number"))
+                .verify();
+
+        verifyNoInteractions(projectPortfolioCashFlowUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return the advisor dashboard built from the counters")
+    void getAdvisorDashboard_Success() {
+        when(getAdvisorDashboardUseCase.getDashboard()).thenReturn(Mono.just(AdvisorDashboard.builder()
+                .totalApplications(0L).totalAmount(0.0).byStatus(List.of()).byLoanType(List.of()).build()));
+
+        StepVerifier.create(handler.getAdvisorDashboard(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+
+        verify(getAdvisorDashboardUseCase).getDashboard();
+    }
+
+    private void stubQueryParams(Map<String, String> params) {
+        when(serverRequest.queryParam(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(params.get(invocation.<String>getArgument(0))));
+    }
+
+    @Test
+    @DisplayName("Should stream the client's applications as NDJSON with the list ETag")
+    void getClientApplications_Streams() {
+        ApplicationListVersion version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .applicationCount(1)
+                .build();
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(headers.header(HttpHeaders.IF_NONE_MATCH)).thenReturn(List.of());
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())).thenReturn(Mono.just(version));
+        when(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser())).thenReturn(Flux.just(application));
+
+        StepVerifier.create(handler.getClientApplications(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType())
+                        && serverResponse.headers().getETag() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without reading the list when If-None-Match carries the current ETag")
+    void getClientApplications_NotModified() {
+        ApplicationListVersion version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .applicationCount(1)
+                .build();
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())).thenReturn(Mono.just(version));
+        when(headers.header(HttpHeaders.IF_NONE_MATCH)).thenReturn(List.of());
+        when(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser())).thenReturn(Flux.empty());
+        String eTag = handler.getClientApplications(serverRequest).block().headers().getETag();
+        when(headers.header(HttpHeaders.IF_NONE_MATCH)).thenReturn(List.of("\"other\", W/" + eTag));
+
+        StepVerifier.create(handler.getClientApplications(serverRequest))
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.NOT_MODIFIED
+                        && eTag.equals(serverResponse.headers().getETag()))
+                .verifyComplete();
+
+        verify(getClientApplicationsUseCase, times(1)).findApplications(validatedUser.getIdUser());
+    }
+
+    @Test
+    @DisplayName("Should give a different ETag once the client's list changes")
+    void getClientApplications_ETagFollowsVersion() {
+        LocalDateTime changedAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(headers.header(HttpHeaders.IF_NONE_MATCH)).thenReturn(List.of());
+        when(tokenValidator.validateToken(token)).thenReturn(Mono.just(validatedUser));
+        when(getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())).thenReturn(
+                Mono.just(ApplicationListVersion.builder().latestChangeAt(changedAt).applicationCount(1).build()),
+                Mono.just(ApplicationListVersion.builder().latestChangeAt(changedAt.plusNanos(1000)).applicationCount(1).build()),
+                Mono.just(ApplicationListVersion.builder().latestChangeAt(changedAt).applicationCount(0).build()));
+        when(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser())).thenReturn(Flux.empty());
+
+        String first = handler.getClientApplications(serverRequest).block().headers().getETag();
+        String updated = handler.getClientApplications(serverRequest).block().headers().getETag();
+        String archived = handler.getClientApplications(serverRequest).block().headers().getETag();
+
+        assertNotEquals(first, updated);
+        assertNotEquals(first, archived);
+    }
+}
+
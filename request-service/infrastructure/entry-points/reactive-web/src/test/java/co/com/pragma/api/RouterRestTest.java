@@ -1,24 +1,60 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.BulkDecisionResponse;
+import co.com.pragma.api.dto.response.BulkRegistrationResponse;
+import co.com.pragma.api.dto.response.IntakeResponse;
+import co.com.pragma.api.dto.response.LoanQuoteResponse;
+import co.com.pragma.api.dto.response.PaymentPlanResponse;
 import co.com.pragma.api.exception.GlobalExceptionHandler;
+import co.com.pragma.api.intake.IntakePipeline;
 import co.com.pragma.api.mapper.ApplicationMapper;
 import co.com.pragma.api.service.ValidationService;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationListVersion;
 import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationSearchCriteria;
+import co.com.pragma.model.application.BulkDecisionItem;
 import co.com.pragma.model.auth.ValidatedUser;
+import co.com.pragma.model.creditanalysis.PaymentDetail;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.TokenValidator;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.paymentplan.PaymentPlan;
+import co.com.pragma.model.paymentplan.PaymentPlanSummary;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.portfolio.MonthlyCashFlow;
+import co.com.pragma.model.portfolio.PortfolioCashFlowProjection;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
+import co.com.pragma.model.summary.AdvisorDashboard;
+import co.com.pragma.model.summary.DashboardEntry;
+import co.com.pragma.model.report.ApprovalRangeReport;
 import co.com.pragma.model.report.DailyReport;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findapprovedapplicationsbyrange.FindApprovedApplicationsByRangeUseCase;
+import co.com.pragma.usecase.getadvisordashboard.GetAdvisorDashboardUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.getclientapplications.GetClientApplicationsUseCase;
+import co.com.pragma.usecase.getpaymentplan.GetPaymentPlanUseCase;
+import co.com.pragma.usecase.projectportfoliocashflow.ProjectPortfolioCashFlowUseCase;
+import co.com.pragma.usecase.quoteloans.QuoteLoansUseCase;
+import co.com.pragma.usecase.registerapplicationsbulk.RegisterApplicationsBulkUseCase;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import co.com.pragma.usecase.registerrequestidempotent.RegisterRequestIdempotentUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.updateapplicationstatusbulk.UpdateApplicationStatusBulkUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,13 +62,18 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -55,15 +96,48 @@ class RouterRestTest {
     @MockitoBean
     private RegisterRequestUseCase registerRequestUseCase;
 
+    @MockitoBean
+    private RegisterRequestIdempotentUseCase registerRequestIdempotentUseCase;
+
+    @MockitoBean
+    private RegisterRequestAsyncUseCase registerRequestAsyncUseCase;
+
+    @MockitoBean
+    private IntakePipeline intakePipeline;
+
+    @MockitoBean
+    private RegisterApplicationsBulkUseCase registerApplicationsBulkUseCase;
+
     @MockitoBean
     private GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase;
 
     @MockitoBean
     private UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
 
+    @MockitoBean
+    private UpdateApplicationStatusBulkUseCase updateApplicationStatusBulkUseCase;
+
     @MockitoBean
     private FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
 
+    @MockitoBean
+    private FindApprovedApplicationsByRangeUseCase findApprovedApplicationsByRangeUseCase;
+
+    @MockitoBean
+    private ProjectPortfolioCashFlowUseCase projectPortfolioCashFlowUseCase;
+
+    @MockitoBean
+    private QuoteLoansUseCase quoteLoansUseCase;
+
+    @MockitoBean
+    private GetAdvisorDashboardUseCase getAdvisorDashboardUseCase;
+
+    @MockitoBean
+    private GetClientApplicationsUseCase getClientApplicationsUseCase;
+
+    @MockitoBean
+    private GetPaymentPlanUseCase getPaymentPlanUseCase;
+
     @MockitoBean
     private ApplicationMapper applicationMapper;
 
@@ -122,7 +196,8 @@ class RouterRestTest {
 
         updateApplicationStatusRequest = new UpdateApplicationStatusRequest(
                 applicationEntity.getId(),
-                "APPROVED"
+                "APPROVED",
+                null
         );
 
         Mockito.when(tokenValidator.validateToken(anyString()))
@@ -149,15 +224,18 @@ class RouterRestTest {
                 .hasPrevious(false)
                 .build();
 
-        Mockito.when(getApplicationsForAdvisorUseCase.getApplicationsByStatus(
+        Mockito.when(getApplicationsForAdvisorUseCase.searchApplications(
                         anyString(),
                         eq(List.of("Pending Review", "Rejected", "Manual Review")),
+                        eq(List.of()),
+                        any(ApplicationSearchCriteria.class),
                         any(CustomPageable.class)))
                 .thenReturn(Mono.just(applicationsPage));
 
         Mockito.when(updateApplicationStatusUseCase.updateStatus(
                         any(UUID.class),
-                        anyString()))
+                        anyString(),
+                        any()))
                 .thenReturn(Mono.just(applicationEntity));
 
         DailyReport dailyReport = new DailyReport(3L, 5000.0);
@@ -189,6 +267,191 @@ class RouterRestTest {
                 });
     }
 
+    @Test
+    @DisplayName("POST /request/api/v1/requests with Idempotency-Key should replay through the idempotent use case")
+    void testRegisterRequestWithIdempotencyKey() {
+        Mockito.when(registerRequestIdempotentUseCase.registerApplication(any(Application.class), anyString(), eq("retry-1")))
+                .thenReturn(Mono.just(applicationEntity));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ApplicationDto.class)
+                .value(response -> {
+                    assert response.id().equals(applicationDto.id());
+                });
+
+        Mockito.verify(registerRequestUseCase, Mockito.never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests should return 422 when the Idempotency-Key was used with another body")
+    void testRegisterRequestWithReusedIdempotencyKey() {
+        Mockito.when(registerRequestIdempotentUseCase.registerApplication(any(Application.class), anyString(), eq("retry-1")))
+                .thenReturn(Mono.error(new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request")));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests with Prefer: respond-async should return 202 with the intake location")
+    void testRegisterRequestRespondAsync() {
+        ApplicationIntake intake = ApplicationIntake.builder()
+                .id(UUID.randomUUID())
+                .idDocument(validatedUser.getIdDocument())
+                .status(IntakeStatus.PENDING)
+                .build();
+        Mockito.when(registerRequestAsyncUseCase.accept(any(Application.class))).thenReturn(Mono.just(intake));
+        Mockito.when(intakePipeline.submit(intake, "valid-token", null)).thenReturn(Mono.empty());
+        Mockito.when(applicationMapper.toIntakeResponse(intake))
+                .thenReturn(new IntakeResponse(intake.getId(), "PENDING", null, null, null, null));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().location("/request/api/v1/requests/intakes/" + intake.getId())
+                .expectBody(IntakeResponse.class)
+                .value(response -> {
+                    assert response.id().equals(intake.getId());
+                    assert response.status().equals("PENDING");
+                });
+
+        Mockito.verify(registerRequestUseCase, Mockito.never()).registerApplication(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests with Prefer: respond-async should return 503 when the queue is full")
+    void testRegisterRequestRespondAsyncQueueFull() {
+        ApplicationIntake intake = ApplicationIntake.builder().id(UUID.randomUUID()).build();
+        Mockito.when(registerRequestAsyncUseCase.accept(any(Application.class))).thenReturn(Mono.just(intake));
+        Mockito.when(intakePipeline.submit(intake, "valid-token", null))
+                .thenReturn(Mono.error(new IntakeCapacityExceededException("Too many requests are being registered")));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals("Retry-After", "1");
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/intakes/{id} should return the intake of the authenticated client")
+    void testGetIntake() {
+        UUID idIntake = UUID.randomUUID();
+        UUID idApplication = UUID.randomUUID();
+        ApplicationIntake intake = ApplicationIntake.builder()
+                .id(idIntake)
+                .status(IntakeStatus.COMPLETED)
+                .idApplication(idApplication)
+                .build();
+        Mockito.when(registerRequestAsyncUseCase.findIntake(idIntake, validatedUser.getIdDocument()))
+                .thenReturn(Mono.just(intake));
+        Mockito.when(applicationMapper.toIntakeResponse(intake))
+                .thenReturn(new IntakeResponse(idIntake, "COMPLETED", idApplication, null, null, null));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/intakes/{id}", idIntake)
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("Retry-After")
+                .expectBody(IntakeResponse.class)
+                .value(response -> {
+                    assert response.idApplication().equals(idApplication);
+                });
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/intakes/{id} should return 404 for another client's intake")
+    void testGetIntakeOfAnotherClient() {
+        UUID idIntake = UUID.randomUUID();
+        Mockito.when(registerRequestAsyncUseCase.findIntake(idIntake, validatedUser.getIdDocument()))
+                .thenReturn(Mono.error(new EntityNotFoundException("Intake not found")));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/intakes/{id}", idIntake)
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests/quotes should stream one NDJSON quote per scenario")
+    void testQuoteLoansEndpointSuccess() {
+        LoanQuoteGrid grid = LoanQuoteGrid.builder().build();
+        Mockito.when(validationService.validate(any(LoanQuoteRequest.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        Mockito.when(applicationMapper.toLoanQuoteGrid(any(LoanQuoteRequest.class))).thenReturn(grid);
+        Mockito.when(quoteLoansUseCase.quote(grid)).thenReturn(Flux.just(
+                LoanQuote.builder().index(0).build(), LoanQuote.builder().index(1).build()));
+        Mockito.when(applicationMapper.toLoanQuoteResponse(any(LoanQuote.class))).thenAnswer(invocation -> {
+            LoanQuote quote = invocation.getArgument(0);
+            return new LoanQuoteResponse(quote.getIndex(), applicationEntity.getIdLoanType(), 10000.0, 12, 12.0,
+                    888.49, 661.86, 10661.88, null, null);
+        });
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests/quotes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"amounts\":[10000.0],\"terms\":[12,24],\"idLoanTypes\":[\""
+                        + applicationEntity.getIdLoanType() + "\"]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(LoanQuoteResponse.class)
+                .value(results -> {
+                    assert results.size() == 2;
+                    assert results.get(1).index() == 1;
+                    assert results.get(1).monthlyPayment() == 888.49;
+                });
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests/bulk should stream one NDJSON result per row")
+    void testRegisterRequestsBulkEndpointSuccess() {
+        Mockito.when(registerApplicationsBulkUseCase.registerApplications(any(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests/bulk")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"amount\":10000.0,\"term\":12,\"idDocument\":\"77777777\",\"idLoanType\":\""
+                        + applicationEntity.getIdLoanType() + "\"}\n"
+                        + "{\"amount\":10000.0,\"term\":12,\"idDocument\":\"77777777\",\"idLoanType\":\""
+                        + applicationEntity.getIdLoanType() + "\"}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(BulkRegistrationResponse.class)
+                .value(results -> {
+                    assert results.size() == 2;
+                    assert results.get(1).index() == 1;
+                    assert results.get(1).application().id().equals(applicationDto.id());
+                });
+    }
+
     @Test
     @DisplayName("POST /request/api/v1/requests should return 500 when unexpected error occurs")
     void testRegisterRequestUnexpectedException() {
@@ -260,9 +523,11 @@ class RouterRestTest {
     @Test
     @DisplayName("GET /request/api/v1/requests should return 401 when token is invalid")
     void testGetApplicationsForAdvisorWithInvalidToken() {
-        Mockito.when(getApplicationsForAdvisorUseCase.getApplicationsByStatus(
+        Mockito.when(getApplicationsForAdvisorUseCase.searchApplications(
                         anyString(),
                         any(List.class),
+                        any(List.class),
+                        any(ApplicationSearchCriteria.class),
                         any(CustomPageable.class)))
                 .thenReturn(Mono.error(new UnauthorizedException("Invalid token")));
 
@@ -280,9 +545,11 @@ class RouterRestTest {
     @Test
     @DisplayName("GET /request/api/v1/requests should return 500 when use case fails")
     void testGetApplicationsForAdvisorWithServerError() {
-        Mockito.when(getApplicationsForAdvisorUseCase.getApplicationsByStatus(
+        Mockito.when(getApplicationsForAdvisorUseCase.searchApplications(
                         anyString(),
                         any(List.class),
+                        any(List.class),
+                        any(ApplicationSearchCriteria.class),
                         any(CustomPageable.class)))
                 .thenReturn(Mono.error(new RuntimeException("Server error")));
 
@@ -336,7 +603,7 @@ class RouterRestTest {
     @Test
     @DisplayName("PUT /request/api/v1/requests should return 500 when update fails")
     void testUpdateApplicationStatusWithServerError() {
-        Mockito.when(updateApplicationStatusUseCase.updateStatus(any(UUID.class), anyString()))
+        Mockito.when(updateApplicationStatusUseCase.updateStatus(any(UUID.class), anyString(), any()))
                 .thenReturn(Mono.error(new RuntimeException("Update error")));
 
         webTestClient.put()
@@ -347,6 +614,36 @@ class RouterRestTest {
                 .expectStatus().is5xxServerError();
     }
 
+    @Test
+    @DisplayName("PUT /request/api/v1/requests/bulk should stream one NDJSON result per decision")
+    void testUpdateApplicationStatusesBulkEndpointSuccess() {
+        UUID missingId = UUID.randomUUID();
+        Mockito.when(validationService.validate(any(UpdateApplicationStatusRequest.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        Mockito.when(updateApplicationStatusBulkUseCase.updateStatuses(any()))
+                .thenAnswer(invocation -> Flux.from(invocation.<Flux<BulkDecisionItem>>getArgument(0))
+                        .map(item -> item.getIdApplication().equals(missingId)
+                                ? item.toBuilder().error("Application not found").build()
+                                : item.toBuilder().application(applicationEntity).build()));
+
+        webTestClient.put()
+                .uri("/request/api/v1/requests/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"idApplication\":\"" + applicationEntity.getId() + "\",\"status\":\"Approved\"}\n"
+                        + "{\"idApplication\":\"" + missingId + "\",\"status\":\"Rejected\"}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(BulkDecisionResponse.class)
+                .value(results -> {
+                    assert results.size() == 2;
+                    assert results.get(0).application().id().equals(applicationDto.id());
+                    assert results.get(1).index() == 1;
+                    assert results.get(1).application() == null;
+                    assert results.get(1).error().equals("Application not found");
+                });
+    }
+
     @Test
     @DisplayName("GET /request/api/v1/requests/approved/yesterday should return 200 with daily report")
     void testGetApprovedApplicationDailySuccess() {
@@ -378,4 +675,234 @@ class RouterRestTest {
                 .exchange()
                 .expectStatus().is5xxServerError();
     }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/approved should return 200 with the range report")
+    void testGetApprovedApplicationsByRangeSuccess() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 7);
+        ApprovalRangeReport report = ApprovalRangeReport.builder()
+                .from(from)
+                .to(to)
+                .approvedLoansCount(4L)
+                .totalLoanAmount(8000.0)
+                .days(List.of())
+                .build();
+        Mockito.when(findApprovedApplicationsByRangeUseCase.findApprovedApplicationsByRange(from, to))
+                .thenReturn(Mono.just(report));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests/approved")
+                        .queryParam("from", "2025-09-01")
+                        .queryParam("to", "2025-09-07")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.approvedLoansCount").isEqualTo(4)
+                .jsonPath("$.totalLoanAmount").isEqualTo(8000.0)
+                .jsonPath("$.days").isArray();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/approved should return 400 when a date is malformed")
+    void testGetApprovedApplicationsByRangeWithMalformedDate() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests/approved")
+                        .queryParam("from", "01/09/2025")
+                        .queryParam("to", "2025-09-07")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(findApprovedApplicationsByRangeUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/approved should return 400 when the range is invalid")
+    void testGetApprovedApplicationsByRangeWithInvalidRange() {
+        Mockito.when(findApprovedApplicationsByRangeUseCase.findApprovedApplicationsByRange(any(), any()))
+                .thenReturn(Mono.error(new InvalidDateRangeException("from and to are required and from must not be after to")));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests/approved")
+                        .queryParam("from", "2025-09-07")
+                        .queryParam("to", "2025-09-01")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/portfolio/cash-flow should return 200 with the monthly projection")
+    void testGetPortfolioCashFlowSuccess() {
+        PortfolioCashFlowProjection projection = PortfolioCashFlowProjection.builder()
+                .from(YearMonth.of(2025, 10))
+                .months(1)
+                .loanCount(3L)
+                .totalPrincipal(900.0)
+                .totalInterest(30.0)
+                .cashFlows(List.of(new MonthlyCashFlow(YearMonth.of(2025, 10), 900.0, 30.0, 930.0)))
+                .build();
+        Mockito.when(projectPortfolioCashFlowUseCase.project(1)).thenReturn(Mono.just(projection));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests/portfolio/cash-flow")
+                        .queryParam("months", "1")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.months").isEqualTo(1)
+                .jsonPath("$.loanCount").isEqualTo(3)
+                .jsonPath("$.cashFlows[0].total").isEqualTo(930.0);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/portfolio/cash-flow should return 400 when the horizon is out of range")
+    void testGetPortfolioCashFlowWithInvalidHorizon() {
+        Mockito.when(projectPortfolioCashFlowUseCase.project(0))
+                .thenReturn(Mono.error(new InvalidDateRangeException("months must be between 1 and 360")));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests/portfolio/cash-flow")
+                        .queryParam("months", "0")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/summary should return 200 with the dashboard breakdowns")
+    void testGetAdvisorDashboardSuccess() {
+        AdvisorDashboard dashboard = AdvisorDashboard.builder()
+                .totalApplications(5L)
+                .totalAmount(12000.0)
+                .byStatus(List.of(new DashboardEntry(UUID.randomUUID(), "Pending Review", 5L, 12000.0)))
+                .byLoanType(List.of(new DashboardEntry(UUID.randomUUID(), "Personal", 5L, 12000.0)))
+                .build();
+        Mockito.when(getAdvisorDashboardUseCase.getDashboard()).thenReturn(Mono.just(dashboard));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/summary")
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalApplications").isEqualTo(5)
+                .jsonPath("$.byStatus[0].name").isEqualTo("Pending Review")
+                .jsonPath("$.byLoanType[0].totalAmount").isEqualTo(12000.0);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/mine should stream the client's applications as NDJSON with an ETag")
+    void testGetClientApplications() {
+        ApplicationListVersion version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .applicationCount(1)
+                .build();
+        Mockito.when(getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())).thenReturn(Mono.just(version));
+        Mockito.when(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser()))
+                .thenReturn(Flux.just(applicationEntity));
+        Mockito.when(applicationMapper.toResponse(applicationEntity)).thenReturn(applicationDto);
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/mine")
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectHeader().exists("ETag")
+                .expectBodyList(ApplicationDto.class)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/mine should return 304 without reading the list when the ETag matches")
+    void testGetClientApplicationsNotModified() {
+        ApplicationListVersion version = ApplicationListVersion.builder()
+                .latestChangeAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .applicationCount(1)
+                .build();
+        Mockito.when(getClientApplicationsUseCase.findVersion(validatedUser.getIdUser())).thenReturn(Mono.just(version));
+        Mockito.when(getClientApplicationsUseCase.findApplications(validatedUser.getIdUser()))
+                .thenReturn(Flux.just(applicationEntity));
+        Mockito.when(applicationMapper.toResponse(applicationEntity)).thenReturn(applicationDto);
+
+        String eTag = webTestClient.get()
+                .uri("/request/api/v1/requests/mine")
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ApplicationDto.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/mine")
+                .header("Authorization", "Bearer valid-token")
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", eTag)
+                .expectBody().isEmpty();
+
+        Mockito.verify(getClientApplicationsUseCase, Mockito.times(1)).findApplications(validatedUser.getIdUser());
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/{id}/payment-plan should return the client's plan as a private cacheable resource")
+    void testGetPaymentPlan() {
+        UUID idApplication = UUID.randomUUID();
+        PaymentPlanSummary summary = PaymentPlanSummary.builder()
+                .term(1).monthlyPayment(1004.17).totalInterest(4.17).totalPayment(1004.17).build();
+        List<PaymentDetail> payments = List.of(PaymentDetail.builder().month(1).payment(1004.17).principal(1000.0)
+                .interest(4.17).remainingBalance(0.0).build());
+        PaymentPlan paymentPlan = PaymentPlan.builder()
+                .idApplication(idApplication)
+                .idUser(validatedUser.getIdUser())
+                .summary(summary)
+                .payments(payments)
+                .build();
+        Mockito.when(getPaymentPlanUseCase.getPaymentPlan(idApplication, validatedUser.getIdUser()))
+                .thenReturn(Mono.just(paymentPlan));
+        Mockito.when(applicationMapper.toPaymentPlanResponse(paymentPlan))
+                .thenReturn(new PaymentPlanResponse(idApplication, summary, payments));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/{id}/payment-plan", idApplication)
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .expectBody()
+                .jsonPath("$.idApplication").isEqualTo(idApplication.toString())
+                .jsonPath("$.idUser").doesNotExist()
+                .jsonPath("$.summary.totalInterest").isEqualTo(4.17)
+                .jsonPath("$.payments[0].month").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/{id}/payment-plan should return 404 when the client has no such plan")
+    void testGetPaymentPlanNotFound() {
+        UUID idApplication = UUID.randomUUID();
+        Mockito.when(getPaymentPlanUseCase.getPaymentPlan(idApplication, validatedUser.getIdUser()))
+                .thenReturn(Mono.error(new EntityNotFoundException("Payment plan not found")));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/{id}/payment-plan", idApplication)
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
 }
@@ -1,7 +1,14 @@
 package co.com.pragma.api.exception;
 
 import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyConflictException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
 import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidPaginationException;
+import co.com.pragma.model.exception.InvalidSearchFilterException;
+import co.com.pragma.model.exception.StatusTransitionConflictException;
 import co.com.pragma.model.exception.TokenValidationException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.CustomLogger;
@@ -69,6 +76,48 @@ public class GlobalExceptionHandlerTest {
         verify(logger).warn(contains("Amount invalid"));
     }
 
+    @Test
+    @DisplayName("Should return 400 Bad Request when InvalidPaginationException is thrown")
+    void shouldHandleInvalidPaginationException() {
+        InvalidPaginationException ex = new InvalidPaginationException("Invalid cursor");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 400)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Invalid pagination"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when InvalidDateRangeException is thrown")
+    void shouldHandleInvalidDateRangeException() {
+        InvalidDateRangeException ex = new InvalidDateRangeException("Date range must not exceed 366 days");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 400)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Invalid date range"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when InvalidSearchFilterException is thrown")
+    void shouldHandleInvalidSearchFilterException() {
+        InvalidSearchFilterException ex = new InvalidSearchFilterException("Unsupported status filter: Approved");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 400)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Invalid search filter"));
+    }
+
     @Test
     @DisplayName("Should return 404 Not Found when EntityNotFoundException is thrown")
     void shouldHandleEntityNotFoundException() {
@@ -83,6 +132,67 @@ public class GlobalExceptionHandlerTest {
         verify(logger).warn(contains("Entity not found"));
     }
 
+    @Test
+    @DisplayName("Should return 409 Conflict when IdempotencyKeyConflictException is thrown")
+    void shouldHandleIdempotencyKeyConflictException() {
+        IdempotencyKeyConflictException ex =
+                new IdempotencyKeyConflictException("A request with this Idempotency-Key is still being processed");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 409)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Idempotency key conflict"));
+    }
+
+    @Test
+    @DisplayName("Should return 422 Unprocessable Entity when IdempotencyKeyMismatchException is thrown")
+    void shouldHandleIdempotencyKeyMismatchException() {
+        IdempotencyKeyMismatchException ex =
+                new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 422)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Idempotency key reused"));
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable when IntakeCapacityExceededException is thrown")
+    void shouldHandleIntakeCapacityExceededException() {
+        IntakeCapacityExceededException ex =
+                new IntakeCapacityExceededException("Too many requests are being registered; please try again later");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 503
+                        && "1".equals(response.headers().getFirst("Retry-After")))
+                .verifyComplete();
+
+        verify(logger).warn(contains("Intake capacity exceeded"));
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict when StatusTransitionConflictException is thrown")
+    void shouldHandleStatusTransitionConflictException() {
+        StatusTransitionConflictException ex =
+                new StatusTransitionConflictException("Application is no longer in the expected status");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 409)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Status transition conflict"));
+    }
+
     @Test
     @DisplayName("Should return 401 Unauthorized when UnauthorizedException is thrown")
     void shouldHandleUnauthorizedException() {
@@ -0,0 +1,140 @@
+package co.com.pragma.api.intake;
+
+import co.com.pragma.api.config.IntakePipelineProperties;
+import co.com.pragma.model.exception.IntakeCapacityExceededException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.usecase.registerrequestasync.RegisterRequestAsyncUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IntakePipelineTest {
+
+    @Mock
+    private RegisterRequestAsyncUseCase registerRequestAsyncUseCase;
+
+    @Mock
+    private CustomLogger logger;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IntakePipeline pipeline;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    private IntakePipeline pipeline(int capacity, int concurrency) {
+        pipeline = new IntakePipeline(registerRequestAsyncUseCase,
+                new IntakePipelineProperties(capacity, concurrency), meterRegistry, logger);
+        return pipeline;
+    }
+
+    private ApplicationIntake intake() {
+        return ApplicationIntake.builder()
+                .id(UUID.randomUUID())
+                .idDocument("77777777")
+                .status(IntakeStatus.PENDING)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should register every submitted intake in the background")
+    void shouldProcessSubmittedIntakes() {
+        pipeline(10, 4).start();
+        ApplicationIntake first = intake();
+        ApplicationIntake second = intake();
+        when(registerRequestAsyncUseCase.process(any(ApplicationIntake.class), eq("token"), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0, ApplicationIntake.class).toBuilder()
+                        .status(IntakeStatus.COMPLETED)
+                        .build()));
+
+        StepVerifier.create(pipeline.submit(first, "token", null)).verifyComplete();
+        StepVerifier.create(pipeline.submit(second, "token", "retry-1")).verifyComplete();
+
+        verify(registerRequestAsyncUseCase).process(first, "token", null);
+        verify(registerRequestAsyncUseCase).process(second, "token", "retry-1");
+        assertEquals(2.0, meterRegistry.counter(IntakePipeline.SUBMITTED_METRIC, "outcome", "accepted").count());
+        assertEquals(0.0, meterRegistry.get(IntakePipeline.QUEUE_DEPTH_METRIC).gauge().value());
+        assertEquals(0.0, meterRegistry.get(IntakePipeline.IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of registrations running and queue the rest")
+    void shouldBoundConcurrency() {
+        pipeline(10, 1).start();
+        when(registerRequestAsyncUseCase.process(any(ApplicationIntake.class), anyString(), isNull()))
+                .thenReturn(Mono.never());
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(pipeline.submit(intake(), "token", null)).verifyComplete();
+        }
+
+        verify(registerRequestAsyncUseCase, times(1)).process(any(ApplicationIntake.class), anyString(), isNull());
+        assertEquals(2, pipeline.queueDepth());
+        assertEquals(2.0, meterRegistry.get(IntakePipeline.QUEUE_DEPTH_METRIC).gauge().value());
+        assertEquals(1.0, meterRegistry.get(IntakePipeline.IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should fail the intake and signal capacity exceeded once the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        pipeline(2, 1);
+        ApplicationIntake overflow = intake();
+        when(registerRequestAsyncUseCase.reject(overflow.getId(), IntakePipeline.QUEUE_FULL_ERROR))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(pipeline.submit(intake(), "token", null)).verifyComplete();
+        StepVerifier.create(pipeline.submit(intake(), "token", null)).verifyComplete();
+        StepVerifier.create(pipeline.submit(overflow, "token", null))
+                .expectError(IntakeCapacityExceededException.class)
+                .verify();
+
+        verify(registerRequestAsyncUseCase).reject(overflow.getId(), IntakePipeline.QUEUE_FULL_ERROR);
+        verify(registerRequestAsyncUseCase, never()).process(any(), anyString(), any());
+        assertEquals(1.0, meterRegistry.counter(IntakePipeline.SUBMITTED_METRIC, "outcome", "rejected").count());
+    }
+
+    @Test
+    @DisplayName("Should keep draining the queue after a registration errors unexpectedly")
+    void shouldSurviveProcessingErrors() {
+        pipeline(10, 1).start();
+        ApplicationIntake failing = intake();
+        ApplicationIntake next = intake();
+        when(registerRequestAsyncUseCase.process(failing, "token", null))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+        when(registerRequestAsyncUseCase.process(next, "token", null)).thenReturn(Mono.just(next));
+
+        StepVerifier.create(pipeline.submit(failing, "token", null)).verifyComplete();
+        StepVerifier.create(pipeline.submit(next, "token", null)).verifyComplete();
+
+        verify(registerRequestAsyncUseCase).process(next, "token", null);
+    }
+}
@@ -1,16 +1,26 @@
 package co.com.pragma.api.mapper;
 
 import co.com.pragma.api.dto.ApplicationDto;
+import co.com.pragma.api.dto.request.LoanQuoteRequest;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.response.IntakeResponse;
+import co.com.pragma.api.dto.response.LoanQuoteResponse;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.intake.ApplicationIntake;
+import co.com.pragma.model.intake.IntakeStatus;
+import co.com.pragma.model.quote.LoanQuote;
+import co.com.pragma.model.quote.LoanQuoteGrid;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -71,10 +81,64 @@ public class ApplicationMapperTest {
         assertEquals(application.getIdLoanType(), dto.idLoanType());
     }
 
+    @Test
+    @DisplayName("Should map ApplicationIntake to IntakeResponse correctly")
+    void testToIntakeResponse() {
+        ApplicationIntake intake = ApplicationIntake.builder()
+                .id(UUID.randomUUID())
+                .idDocument("77777777")
+                .status(IntakeStatus.FAILED)
+                .error("LoanType not found")
+                .createdAt(LocalDateTime.of(2025, 9, 15, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 9, 15, 10, 1))
+                .build();
+
+        IntakeResponse response = mapper.toIntakeResponse(intake);
+
+        assertEquals(intake.getId(), response.id());
+        assertEquals("FAILED", response.status());
+        assertNull(response.idApplication());
+        assertEquals(intake.getError(), response.error());
+        assertEquals(intake.getCreatedAt(), response.createdAt());
+        assertEquals(intake.getUpdatedAt(), response.updatedAt());
+    }
+
+    @Test
+    @DisplayName("Should map LoanQuoteRequest to a grid that leaves the schedule out by default")
+    void testToLoanQuoteGrid() {
+        LoanQuoteRequest request = new LoanQuoteRequest(List.of(10000.0, 20000.0), List.of(12, 24),
+                List.of(UUID.randomUUID()), null);
+
+        LoanQuoteGrid grid = mapper.toLoanQuoteGrid(request);
+
+        assertEquals(request.amounts(), grid.getAmounts());
+        assertEquals(request.terms(), grid.getTerms());
+        assertEquals(request.idLoanTypes(), grid.getIdLoanTypes());
+        assertFalse(grid.isIncludeSchedule());
+        assertEquals(4, grid.size());
+    }
+
+    @Test
+    @DisplayName("Should map a rejected LoanQuote to a LoanQuoteResponse without amounts")
+    void testToLoanQuoteResponse() {
+        LoanQuote quote = LoanQuote.rejected(3, UUID.randomUUID(), 500.0, 12, "LoanType not found");
+
+        LoanQuoteResponse response = mapper.toLoanQuoteResponse(quote);
+
+        assertEquals(3, response.index());
+        assertEquals(quote.getIdLoanType(), response.idLoanType());
+        assertEquals(500.0, response.amount());
+        assertEquals(12, response.term());
+        assertNull(response.monthlyPayment());
+        assertNull(response.payments());
+        assertEquals("LoanType not found", response.error());
+    }
+
     @Test
     @DisplayName("Should return null when mapping null values")
     void testNullHandling() {
         assertNull(mapper.toEntity(null));
         assertNull(mapper.toResponse(null));
+        assertNull(mapper.toIntakeResponse(null));
     }
 }